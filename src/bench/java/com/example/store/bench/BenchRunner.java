@@ -0,0 +1,42 @@
+package com.example.store.bench;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/** Shared harness of the benchmarks: warm up, then report mean latency and bytes allocated per call. */
+final class BenchRunner {
+
+    private BenchRunner() {}
+
+    static void run(Map<String, Supplier<?>> cases, int warmup, int iterations) {
+        System.out.printf("%-24s %12s %16s%n", "case", "mean ms/op", "alloc bytes/op");
+        cases.forEach((name, call) -> {
+            for (int i = 0; i < warmup; i++) {
+                call.get();
+            }
+            long allocatedBefore = allocatedBytes();
+            long started = System.nanoTime();
+            for (int i = 0; i < iterations; i++) {
+                call.get();
+            }
+            long elapsed = System.nanoTime() - started;
+            long allocated = allocatedBytes() - allocatedBefore;
+            System.out.printf("%-24s %12.3f %16d%n", name, elapsed / 1e6 / iterations, allocated / iterations);
+        });
+    }
+
+    static int intArg(String[] args, String name, int defaultValue) {
+        String prefix = "--" + name + "=";
+        return Arrays.stream(args)
+                .filter(arg -> arg.startsWith(prefix))
+                .map(arg -> Integer.parseInt(arg.substring(prefix.length())))
+                .findFirst()
+                .orElse(defaultValue);
+    }
+
+    private static long allocatedBytes() {
+        return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean()).getCurrentThreadAllocatedBytes();
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.store.bench;
+
+import com.example.store.StoreApplication;
+import com.example.store.mapper.CustomerMapper;
+import com.example.store.mapper.OrderMapper;
+import com.example.store.mapper.ProductMapper;
+import com.example.store.repository.CustomerRepository;
+import com.example.store.repository.OrderRepository;
+import com.example.store.repository.ProductRepository;
+import com.example.store.service.CustomerService;
+import com.example.store.service.OrderService;
+import com.example.store.service.ProductService;
+
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Compares the list endpoints' read paths against a running database: the entity path (managed entities, persistence
+ * context, MapStruct mapping) that the services used before, and the projection path the services use now. Caching is
+ * switched off so every call reaches the database.
+ *
+ * <p>For each path it reports mean latency and bytes allocated by the calling thread per call. Run with
+ * {@code ./gradlew benchListReads}; {@code -Pbench.args="--size=500 --iterations=2000"} overrides the defaults.
+ */
+public final class ListReadBenchmark {
+
+    private ListReadBenchmark() {}
+
+    public static void main(String[] args) {
+        int size = BenchRunner.intArg(args, "size", 50);
+        int warmup = BenchRunner.intArg(args, "warmup", 200);
+        int iterations = BenchRunner.intArg(args, "iterations", 1000);
+
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(StoreApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties("spring.cache.type=none", "spring.jpa.show-sql=false", "logging.level.org.hibernate.SQL=warn",
+                        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=warn")
+                .run(args)) {
+            TransactionTemplate readOnly = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+            readOnly.setReadOnly(true);
+
+            OrderRepository orderRepository = context.getBean(OrderRepository.class);
+            CustomerRepository customerRepository = context.getBean(CustomerRepository.class);
+            ProductRepository productRepository = context.getBean(ProductRepository.class);
+            OrderMapper orderMapper = context.getBean(OrderMapper.class);
+            CustomerMapper customerMapper = context.getBean(CustomerMapper.class);
+            ProductMapper productMapper = context.getBean(ProductMapper.class);
+            OrderService orderService = context.getBean(OrderService.class);
+            CustomerService customerService = context.getBean(CustomerService.class);
+            ProductService productService = context.getBean(ProductService.class);
+
+            Pageable pageable = PageRequest.of(0, size, Sort.by(Sort.Direction.DESC, "id"));
+            Map<String, Supplier<?>> cases = new LinkedHashMap<>();
+            cases.put("orders    entity", () -> readOnly.execute(status -> orderRepository.findAll(pageable).map(orderMapper::orderToOrderDTO)));
+            cases.put("orders    projection", () -> orderService.getAllOrders(pageable));
+            cases.put("customers entity", () -> readOnly.execute(status -> customerRepository.findAll(pageable).map(customerMapper::customerToCustomerDTO)));
+            cases.put("customers projection", () -> customerService.getAllCustomers(null, pageable));
+            cases.put("products  entity", () -> readOnly.execute(status -> productRepository.findAll(pageable).map(productMapper::productToProductDTO)));
+            cases.put("products  projection", () -> productService.getAllProducts(pageable));
+
+            System.out.printf("page size %d, %d warmup + %d measured calls per case%n", size, warmup, iterations);
+            BenchRunner.run(cases, warmup, iterations);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.store.bench;
+
+import com.example.store.StoreApplication;
+import com.example.store.entity.OrderView;
+import com.example.store.mapper.OrderMapper;
+import com.example.store.repository.OrderJsonRepository;
+import com.example.store.repository.OrderRepository;
+import com.example.store.repository.OrderViewRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.PagedModel;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.UncheckedIOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Compares what it takes to turn orders into response bytes: the entity path (entities, MapStruct, Jackson), the
+ * {@code order_view} path the services use (stored payloads, Jackson) and {@code assembly=db}, where PostgreSQL builds
+ * the JSON and the application only copies bytes. Both a page and a single order are measured; caching is switched
+ * off.
+ *
+ * <p>Run with {@code ./gradlew benchOrderJson}; {@code -Pbench.args="--size=500 --iterations=2000"} overrides the
+ * defaults.
+ */
+public final class OrderJsonBenchmark {
+
+    private OrderJsonBenchmark() {}
+
+    public static void main(String[] args) {
+        int size = BenchRunner.intArg(args, "size", 50);
+        int warmup = BenchRunner.intArg(args, "warmup", 200);
+        int iterations = BenchRunner.intArg(args, "iterations", 1000);
+
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(StoreApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties("spring.cache.type=none", "spring.jpa.show-sql=false", "logging.level.org.hibernate.SQL=warn",
+                        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=warn")
+                .run(args)) {
+            TransactionTemplate readOnly = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+            readOnly.setReadOnly(true);
+
+            OrderRepository orderRepository = context.getBean(OrderRepository.class);
+            OrderViewRepository orderViewRepository = context.getBean(OrderViewRepository.class);
+            OrderJsonRepository orderJsonRepository = context.getBean(OrderJsonRepository.class);
+            OrderMapper orderMapper = context.getBean(OrderMapper.class);
+            ObjectMapper objectMapper = context.getBean(ObjectMapper.class);
+
+            Pageable pageable = PageRequest.of(0, size, Sort.by(Sort.Direction.DESC, "id"));
+            long id = orderRepository.findMaxId();
+            Map<String, Supplier<?>> cases = new LinkedHashMap<>();
+            cases.put("page   entity", () -> readOnly.execute(status -> json(objectMapper,
+                    new PagedModel<>(orderRepository.findAll(pageable).map(orderMapper::orderToOrderDTO)))));
+            cases.put("page   order_view", () -> readOnly.execute(status -> json(objectMapper,
+                    new PagedModel<>(orderViewRepository.findAll(pageable).map(OrderView::getPayload)))));
+            cases.put("page   assembly=db", () -> readOnly.execute(status ->
+                    orderJsonRepository.findPageJson(0, size, Sort.Direction.DESC)));
+            cases.put("single entity", () -> readOnly.execute(status -> json(objectMapper,
+                    orderRepository.findById(id).map(orderMapper::orderToOrderDTO).orElseThrow())));
+            cases.put("single order_view", () -> readOnly.execute(status -> json(objectMapper,
+                    orderViewRepository.findById(id).map(OrderView::getPayload).orElseThrow())));
+            cases.put("single assembly=db", () -> readOnly.execute(status -> orderJsonRepository.findOrderJson(id)));
+
+            System.out.printf("page size %d, order %d, %d warmup + %d measured calls per case%n", size, id, warmup,
+                    iterations);
+            BenchRunner.run(cases, warmup, iterations);
+        }
+    }
+
+    private static byte[] json(ObjectMapper objectMapper, Object value) {
+        try {
+            return objectMapper.writeValueAsBytes(value);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
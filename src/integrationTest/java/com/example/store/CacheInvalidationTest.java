@@ -0,0 +1,152 @@
+package com.example.store;
+
+import com.example.store.cache.BroadcastingCacheManager;
+import com.example.store.cache.CacheInvalidationBus;
+import com.example.store.cache.InvalidationMessage;
+import com.example.store.dto.CustomerSuggestionDTO;
+import com.example.store.repository.CustomerRepository;
+import com.example.store.service.CustomerNameIndex;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.postgresql.ds.PGSimpleDataSource;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Two application nodes, each with its own Caffeine caches and {@link CacheInvalidationBus}, sharing one PostgreSQL:
+ * an eviction on one node reaches the other, and not before the evicting transaction commits.
+ */
+@Testcontainers
+class CacheInvalidationTest {
+
+    private static final long PROBE = -1L;
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private PGSimpleDataSource dataSource;
+    private Node first;
+    private Node second;
+
+    @BeforeEach
+    void startNodes() {
+        dataSource = new PGSimpleDataSource();
+        dataSource.setUrl(POSTGRES.getJdbcUrl());
+        dataSource.setUser(POSTGRES.getUsername());
+        dataSource.setPassword(POSTGRES.getPassword());
+        first = new Node();
+        second = new Node();
+    }
+
+    @AfterEach
+    void stopNodes() {
+        first.bus.stop();
+        second.bus.stop();
+    }
+
+    @Test
+    void testEvict_reachesOtherNode() {
+        second.cache("orderById").put(1L, "order 1");
+        second.cache("orderById").put(2L, "order 2");
+        second.cache("ordersPage").put("p=0", "page");
+
+        first.cache("orderById").evict(1L);
+        first.cache("ordersPage").clear();
+
+        await().atMost(Duration.ofSeconds(10)).untilAsserted(() -> {
+            assertThat(second.cache("orderById").get(1L)).isNull();
+            assertThat(second.cache("ordersPage").get("p=0")).isNull();
+        });
+        assertThat(second.cache("orderById").get(2L, String.class)).isEqualTo("order 2");
+    }
+
+    @Test
+    void testEvictInTransaction_deliveredOnCommit() {
+        second.cache("ordersPage").put("p=0", "page");
+        TransactionTemplate transaction = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        AtomicReference<Object> cachedBeforeCommit = new AtomicReference<>();
+
+        transaction.executeWithoutResult(status -> {
+            first.cache("ordersPage").clear();
+            try {
+                Thread.sleep(1_000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            cachedBeforeCommit.set(second.cache("ordersPage").get("p=0"));
+        });
+
+        assertThat(cachedBeforeCommit.get()).isNotNull();
+        await().atMost(Duration.ofSeconds(10))
+                .untilAsserted(() -> assertThat(second.cache("ordersPage").get("p=0")).isNull());
+    }
+
+    @Test
+    void testCustomerCreated_indexedOnOtherNode() {
+        CustomerRepository repository = mock(CustomerRepository.class);
+        when(repository.streamAllNames()).thenAnswer(invocation -> Stream.empty());
+        when(repository.findNamesByIdIn(anyCollection()))
+                .thenReturn(List.of(new CustomerSuggestionDTO(42L, "Ada Lovelace")));
+        CustomerNameIndex firstIndex = first.customerNameIndex(repository);
+        CustomerNameIndex secondIndex = second.customerNameIndex(repository);
+
+        firstIndex.created(42L, "Ada Lovelace");
+
+        assertThat(firstIndex.search("lovel", 10)).extracting(CustomerSuggestionDTO::getId).containsExactly(42L);
+        await().atMost(Duration.ofSeconds(10)).untilAsserted(() -> assertThat(secondIndex.search("lovel", 10))
+                .extracting(CustomerSuggestionDTO::getId).containsExactly(42L));
+    }
+
+    private class Node {
+
+        final BroadcastingCacheManager cacheManager;
+        final CacheInvalidationBus bus;
+
+        Node() {
+            AtomicReference<CacheInvalidationBus> busRef = new AtomicReference<>();
+            cacheManager = new BroadcastingCacheManager(new CaffeineCacheManager("orderById", "ordersPage", "customersPage"),
+                    message -> busRef.get().publish(message));
+            bus = new CacheInvalidationBus(new JdbcTemplate(dataSource), dataSource, cacheManager,
+                    "store_cache_invalidation", Duration.ofMillis(200));
+            busRef.set(bus);
+            bus.start();
+            // LISTEN is issued on the listener thread: publish a probe until this node receives it.
+            cache("orderById").put(PROBE, "probe");
+            await().atMost(Duration.ofSeconds(10)).until(() -> {
+                bus.publish(new InvalidationMessage("orderById", PROBE));
+                return cache("orderById").get(PROBE) == null;
+            });
+        }
+
+        Cache cache(String name) {
+            return cacheManager.getCache(name);
+        }
+
+        CustomerNameIndex customerNameIndex(CustomerRepository repository) {
+            CustomerNameIndex index = new CustomerNameIndex(repository, cacheManager,
+                    new StaticListableBeanFactory(Map.of("bus", bus)).getBeanProvider(CacheInvalidationBus.class));
+            index.rebuild();
+            return index;
+        }
+    }
+}
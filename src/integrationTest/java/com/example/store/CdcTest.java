@@ -0,0 +1,85 @@
+package com.example.store;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Duration;
+
+import static org.awaitility.Awaitility.await;
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Writes made straight to the database, past the application, reach the caches, {@code order_view} and the customer
+ * name index through the logical decoding consumer.
+ */
+@Testcontainers
+@SpringBootTest(properties = {
+    "spring.cache.type=caffeine",
+    "spring.jpa.show-sql=false",
+    "store.cdc.enabled=true",
+    "store.cache.invalidation.enabled=false",
+    "logging.level.org.hibernate.SQL=warn",
+    "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=warn"
+})
+@AutoConfigureMockMvc
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class CdcTest {
+
+    @Container
+    @ServiceConnection
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine")
+            .withCommand("postgres", "-c", "wal_level=logical");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    void awaitConsumer() {
+        // The slot is created on the consumer thread: wait until a direct insert shows up in the name index.
+        jdbcTemplate.update("INSERT INTO customer (name) VALUES ('Zebulon Probe')");
+        await().atMost(Duration.ofSeconds(30)).untilAsserted(() -> mockMvc.perform(get("/customer/suggest?q=zebulon"))
+                .andExpect(jsonPath("$", hasSize(1))));
+    }
+
+    @Test
+    void testDirectWrites_reachViewCachesAndIndex() throws Exception {
+        long customerId = jdbcTemplate.queryForObject(
+                "INSERT INTO customer (name) VALUES ('Quentin Direct') RETURNING id", Long.class);
+        long productId = jdbcTemplate.queryForObject(
+                "INSERT INTO product (description) VALUES ('Lamp') RETURNING id", Long.class);
+        long orderId = jdbcTemplate.queryForObject(
+                "INSERT INTO \"order\" (description, customer_id) VALUES ('Direct order', ?) RETURNING id", Long.class,
+                customerId);
+        jdbcTemplate.update("INSERT INTO order_product (order_id, product_id) VALUES (?, ?)", orderId, productId);
+
+        await().atMost(Duration.ofSeconds(30)).untilAsserted(() -> mockMvc.perform(get("/order/" + orderId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.customer.name").value("Quentin Direct"))
+                .andExpect(jsonPath("$.products[0].description").value("Lamp")));
+
+        jdbcTemplate.update("UPDATE customer SET name = 'Quentin Renamed' WHERE id = ?", customerId);
+        jdbcTemplate.update("UPDATE product SET description = 'Desk lamp' WHERE id = ?", productId);
+
+        await().atMost(Duration.ofSeconds(30)).untilAsserted(() -> mockMvc.perform(get("/order/" + orderId))
+                .andExpect(jsonPath("$.customer.name").value("Quentin Renamed"))
+                .andExpect(jsonPath("$.products[0].description").value("Desk lamp")));
+        mockMvc.perform(get("/customer/suggest?q=renamed")).andExpect(jsonPath("$", hasSize(1)));
+        mockMvc.perform(get("/products/" + productId)).andExpect(jsonPath("$.description").value("Desk lamp"));
+    }
+}
@@ -0,0 +1,156 @@
+package com.example.store;
+
+import com.example.store.dto.ChangeFeedDTO;
+import com.example.store.dto.OrderCustomerDTO;
+import com.example.store.dto.OrderDTO;
+import com.example.store.dto.request.CreateCustomerRequest;
+import com.example.store.seed.SeedLoader;
+import com.example.store.seed.SeedSpec;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.LongStream;
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Checks the change feed against PostgreSQL's transaction ids: paging through it delivers every seeded row exactly
+ * once, and a row committed behind a still-running transaction is held back until that transaction ends.
+ */
+@Testcontainers
+@SpringBootTest(properties = {"spring.cache.type=none", "spring.jpa.show-sql=false"})
+@AutoConfigureMockMvc
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ChangeFeedTest {
+
+    static final SeedSpec SEED = new SeedSpec(50, 20, 500, 3, SeedSpec.DEFAULT_SEED);
+
+    @Container
+    @ServiceConnection
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @BeforeAll
+    void seed() throws Exception {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("TRUNCATE order_view, order_product, \"order\", product, customer");
+            }
+            SeedLoader.load(connection, SEED);
+            connection.commit();
+        }
+    }
+
+    @Test
+    void testChanges_pageThroughSeed_everyRowOnce() throws Exception {
+        Set<Long> customers = new HashSet<>();
+        Set<Long> products = new HashSet<>();
+        List<Long> orders = new ArrayList<>();
+        String token = "";
+        ChangeFeedDTO changes;
+        do {
+            changes = changes(token, 97);
+            changes.customers().forEach(customer -> customers.add(customer.getId()));
+            changes.products().forEach(product -> products.add(product.getId()));
+            changes.orders().forEach(order -> orders.add(order.getId()));
+            token = changes.next();
+        } while (changes.hasMore());
+
+        // Other tests may have added rows after the seed; the seeded ids are 1..n.
+        assertThat(customers).containsAll(seededIds(SEED.customers()));
+        assertThat(products).containsAll(seededIds(SEED.products()));
+        assertThat(orders).containsAll(seededIds(SEED.orders())).doesNotHaveDuplicates();
+    }
+
+    @Test
+    void testChanges_rowBehindRunningTransaction_heldBackUntilItEnds() throws Exception {
+        String token = drain("");
+        try (Connection open = dataSource.getConnection()) {
+            open.setAutoCommit(false);
+            try (Statement statement = open.createStatement()) {
+                statement.execute("INSERT INTO customer (name) VALUES ('Started first')");
+            }
+            createCustomer("Committed first");
+
+            ChangeFeedDTO held = changes(token, 100);
+            assertThat(held.customers()).isEmpty();
+            assertThat(held.next()).isEqualTo(token);
+
+            open.commit();
+        }
+
+        ChangeFeedDTO released = changes(token, 100);
+        assertThat(released.customers()).extracting(OrderCustomerDTO::getName)
+                .containsExactly("Started first", "Committed first");
+    }
+
+    @Test
+    void testChanges_newOrder_deliveredWithItsView() throws Exception {
+        String token = drain("");
+        mockMvc.perform(post("/order").contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"description\":\"Fresh\",\"customerId\":1,\"productIds\":[1,2]}"))
+                .andExpect(status().isCreated());
+
+        ChangeFeedDTO changes = changes(token, 100);
+
+        assertThat(changes.orders()).extracting(OrderDTO::getDescription).containsExactly("Fresh");
+        assertThat(changes.orders().get(0).getProducts()).hasSize(2);
+        assertThat(changes(changes.next(), 100).orders()).isEmpty();
+    }
+
+    private String drain(String token) throws Exception {
+        ChangeFeedDTO changes;
+        do {
+            changes = changes(token, 2000);
+            token = changes.next();
+        } while (changes.hasMore());
+        return token;
+    }
+
+    private void createCustomer(String name) throws Exception {
+        mockMvc.perform(post("/customer").contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new CreateCustomerRequest(name))))
+                .andExpect(status().isCreated());
+    }
+
+    private static List<Long> seededIds(int count) {
+        return LongStream.rangeClosed(1, count).boxed().toList();
+    }
+
+    private ChangeFeedDTO changes(String since, int limit) throws Exception {
+        String json = mockMvc.perform(get("/order/changes").param("since", since).param("limit", String.valueOf(limit)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readValue(json, ChangeFeedDTO.class);
+    }
+}
@@ -0,0 +1,129 @@
+package com.example.store;
+
+import com.example.store.service.KnownIds;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Probes of unknown ids are answered from the filter or the negative cache; created ids are never refused. One node
+ * and no writes outside the app, so the filter is safe without the change stream.
+ */
+@Testcontainers
+@SpringBootTest(properties = {
+    "spring.cache.type=caffeine",
+    "store.known-ids.filter-enabled=true",
+    "spring.jpa.show-sql=false",
+    "logging.level.org.hibernate.SQL=warn",
+    "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=warn"
+})
+@AutoConfigureMockMvc
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class KnownIdsTest {
+
+    @Container
+    @ServiceConnection
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private KnownIds knownIds;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private long existingId;
+
+    @BeforeAll
+    void seed() {
+        existingId = jdbcTemplate.queryForObject(
+                "INSERT INTO product (id, description) VALUES (500, 'Pen') RETURNING id", Long.class);
+        knownIds.rebuild();
+    }
+
+    @Test
+    void testUnknownIdBelowMax_refusedByFilter() throws Exception {
+        assertThat(knownIds.isKnownMissing(KnownIds.Kind.PRODUCT, existingId)).isFalse();
+        assertThat(knownIds.isKnownMissing(KnownIds.Kind.PRODUCT, 7)).isTrue();
+        mockMvc.perform(get("/products/7")).andExpect(status().isNotFound());
+    }
+
+    @Test
+    void testUnknownIdAboveMax_rememberedAfterFirstQuery() throws Exception {
+        assertThat(knownIds.isKnownMissing(KnownIds.Kind.PRODUCT, 9_999)).isFalse();
+
+        mockMvc.perform(get("/products/9999")).andExpect(status().isNotFound());
+
+        assertThat(knownIds.isKnownMissing(KnownIds.Kind.PRODUCT, 9_999)).isTrue();
+    }
+
+    @Test
+    void testInsertOutsideApp_foundOnceReloaded() throws Exception {
+        jdbcTemplate.update("INSERT INTO product (id, description) VALUES (8, 'Nib')");
+
+        knownIds.rebuild(KnownIds.Kind.PRODUCT);
+
+        assertThat(knownIds.isKnownMissing(KnownIds.Kind.PRODUCT, 8)).isFalse();
+        mockMvc.perform(get("/products/8")).andExpect(status().isOk()).andExpect(jsonPath("$.description").value("Nib"));
+    }
+
+    @Test
+    void testCreatedProduct_foundEvenIfProbedBefore() throws Exception {
+        long nextId = jdbcTemplate.queryForObject("SELECT last_value + 1 FROM product_id_seq", Long.class);
+        knownIds.recordMissing(KnownIds.Kind.PRODUCT, nextId);
+
+        knownIds.created(KnownIds.Kind.PRODUCT, List.of(nextId));
+
+        assertThat(knownIds.isKnownMissing(KnownIds.Kind.PRODUCT, nextId)).isFalse();
+    }
+
+    @Test
+    void testCreatedBatch_foundEvenIfProbedBeforeOrDuring() throws Exception {
+        long nextId = jdbcTemplate.queryForObject("SELECT last_value + 1 FROM product_id_seq", Long.class) + 100;
+        knownIds.recordMissing(KnownIds.Kind.PRODUCT, nextId + 1);
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            knownIds.created(KnownIds.Kind.PRODUCT, List.of(nextId, nextId + 1, nextId + 2));
+            // A probe on another thread before commit still finds no row.
+            knownIds.recordMissing(KnownIds.Kind.PRODUCT, nextId + 2);
+        });
+
+        assertThat(knownIds.isKnownMissing(KnownIds.Kind.PRODUCT, nextId)).isFalse();
+        assertThat(knownIds.isKnownMissing(KnownIds.Kind.PRODUCT, nextId + 1)).isFalse();
+        assertThat(knownIds.isKnownMissing(KnownIds.Kind.PRODUCT, nextId + 2)).isFalse();
+    }
+
+    @Test
+    void testCreateThenRead_neverRefused() throws Exception {
+        String body = mockMvc.perform(post("/products").contentType("application/json").content("{\"description\":\"Ink\"}"))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        long id = Long.parseLong(body.replaceAll(".*\"id\":(\\d+).*", "$1"));
+
+        mockMvc.perform(get("/products/" + id)).andExpect(status().isOk()).andExpect(jsonPath("$.description").value("Ink"));
+    }
+}
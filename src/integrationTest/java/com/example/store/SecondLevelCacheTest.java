@@ -0,0 +1,59 @@
+package com.example.store;
+
+import com.example.store.entity.Product;
+import com.example.store.repository.ProductRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Products loaded by id come from the second-level cache once one transaction has read them. */
+@Testcontainers
+@SpringBootTest(properties = {
+    "spring.jpa.show-sql=false",
+    "logging.level.org.hibernate.SQL=warn",
+    "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=warn"
+})
+class SecondLevelCacheTest {
+
+    @Container
+    @ServiceConnection
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void testFindAllById_secondReadServedFromCache() {
+        List<Long> ids = productRepository.saveAll(List.of(
+                        Product.builder().description("Pen").build(),
+                        Product.builder().description("Ink").build()))
+                .stream().map(Product::getId).toList();
+        entityManagerFactory.getCache().evictAll();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        statistics.clear();
+        assertThat(productRepository.findAllById(List.of(ids.get(0), ids.get(1), -1L))).hasSize(2);
+        assertThat(statistics.getSecondLevelCacheMissCount()).isGreaterThanOrEqualTo(2);
+        assertThat(statistics.getSecondLevelCachePutCount()).isEqualTo(2);
+
+        statistics.clear();
+        assertThat(productRepository.findAllById(ids)).extracting(Product::getDescription)
+                .containsExactlyInAnyOrder("Pen", "Ink");
+        assertThat(statistics.getSecondLevelCacheHitCount()).isEqualTo(2);
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+}
@@ -0,0 +1,154 @@
+package com.example.store;
+
+import com.example.store.seed.SeedLoader;
+import com.example.store.seed.SeedSpec;
+import com.example.store.service.CustomerNameIndex;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.test.web.servlet.MockMvc;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Connection;
+import java.sql.Statement;
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Guards against N+1 regressions: every read endpoint must send the same number of statements whatever the page size
+ * and however many orders or products hang off each row, and no more than {@link #MAX_STATEMENTS}. Runs against
+ * PostgreSQL in a container, seeded with {@link SeedLoader}; counts come from Hibernate's {@link Statistics}.
+ */
+@Testcontainers
+@SpringBootTest(properties = {
+    "spring.cache.type=none",
+    "spring.jpa.show-sql=false",
+    "spring.jpa.properties.hibernate.generate_statistics=true",
+    // A warm second-level cache would hide the very statements this suite counts.
+    "spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+    "logging.level.org.hibernate.SQL=warn",
+    "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=warn"
+})
+@AutoConfigureMockMvc
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class StatementCountTest {
+
+    static final int MAX_STATEMENTS = 4;
+    /**
+     * Above {@code default_batch_fetch_size} (50): a lazy association loaded in batches would need one statement at
+     * size 1 and at size 50, but more at this size.
+     */
+    static final int LARGE_PAGE = 200;
+    static final SeedSpec SEED = new SeedSpec(300, 300, 5_000, 5, SeedSpec.DEFAULT_SEED);
+
+    @Container
+    @ServiceConnection
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private CustomerNameIndex customerNameIndex;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeAll
+    void seed() throws Exception {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("TRUNCATE order_view, order_product, \"order\", product, customer");
+            }
+            SeedLoader.load(connection, SEED);
+            connection.commit();
+        }
+        customerNameIndex.rebuild();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @BeforeEach
+    void clearStatistics() {
+        statistics.clear();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "/order?size=%d",
+        "/order?size=%d&total=none",
+        "/order?size=%d&total=estimate",
+        "/order?size=%d&cursor=",
+        "/customer?size=%d",
+        "/customer?size=%d&name=a",
+        "/customer?size=%d&total=none",
+        "/customer?size=%d&total=estimate",
+        "/customer?size=%d&cursor=",
+        "/customer?size=%d&cursor=&name=a",
+        "/customer?size=%d&orders=summary",
+        "/customer?size=%d&orders=summary&latestOrders=20",
+        "/customer/1/orders?size=%d",
+        "/products?size=%d",
+        "/products?size=%d&total=none",
+        "/products?size=%d&total=estimate",
+        "/products?size=%d&cursor="
+    })
+    void testListEndpoints_statementCountIndependentOfPageSize(String template) throws Exception {
+        long small = statementsFor(template.formatted(1));
+        long large = statementsFor(template.formatted(LARGE_PAGE));
+
+        assertThat(large).as("statements for %s at size %d vs size 1", template, LARGE_PAGE).isEqualTo(small);
+        assertThat(large).as("statements for %s", template).isLessThanOrEqualTo(MAX_STATEMENTS);
+    }
+
+    @Test
+    void testCustomerSummaries_statementCountIndependentOfLatestOrders() throws Exception {
+        long one = statementsFor("/customer?size=" + LARGE_PAGE + "&orders=summary&latestOrders=1");
+        long many = statementsFor("/customer?size=" + LARGE_PAGE + "&orders=summary&latestOrders=20");
+
+        assertThat(many).isEqualTo(one);
+    }
+
+    @Test
+    void testProducts_statementCountIndependentOfOrdersPerProduct() throws Exception {
+        // 5 000 orders x 5 products spread over 100 products: every product has dozens of orders.
+        assertThat(statementsFor("/products/1")).isLessThanOrEqualTo(2);
+        assertThat(statementsFor("/products?size=100")).isEqualTo(statementsFor("/products?size=1"));
+    }
+
+    @Test
+    void testSingleOrder_fixedStatementCount() throws Exception {
+        assertThat(statementsFor("/order/1")).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    void testSuggest_servedFromIndex() throws Exception {
+        assertThat(statementsFor("/customer/suggest?q=ma&limit=50")).isZero();
+    }
+
+    private long statementsFor(String uri) throws Exception {
+        statistics.clear();
+        mockMvc.perform(get(uri)).andExpect(status().isOk());
+        return statistics.getPrepareStatementCount();
+    }
+}
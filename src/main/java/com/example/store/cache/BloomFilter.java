@@ -0,0 +1,88 @@
+package com.example.store.cache;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A Bloom filter over {@code long} ids: {@link #mightContain} is never wrong about an id that was added, and wrong
+ * about an id that was not with roughly the false-positive rate it was sized for, as long as no more than the expected
+ * number of ids are added. Safe for concurrent use; adds are lock-free.
+ *
+ * <p>Probe positions come from two halves of one 64-bit mix of the id (Kirsch-Mitzenmacher double hashing), so an id
+ * costs one hash however many probes the filter uses.
+ */
+public class BloomFilter {
+
+    private final AtomicLongArray words;
+    private final long bits;
+    private final int hashes;
+    private final long capacity;
+    private final AtomicLong count = new AtomicLong();
+
+    public BloomFilter(long expectedInsertions, double falsePositiveRate) {
+        if (expectedInsertions <= 0 || falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("Need expectedInsertions > 0 and 0 < falsePositiveRate < 1");
+        }
+        double ln2 = Math.log(2);
+        long optimalBits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (ln2 * ln2));
+        int wordCount = (int) Math.min(Integer.MAX_VALUE - 8, Math.max(1, (optimalBits + 63) / 64));
+        this.words = new AtomicLongArray(wordCount);
+        this.bits = (long) wordCount * 64;
+        this.hashes = Math.max(1, (int) Math.round((double) bits / expectedInsertions * ln2));
+        this.capacity = expectedInsertions;
+    }
+
+    public void add(long id) {
+        long hash = mix(id);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashes; i++) {
+            long bit = Integer.toUnsignedLong(h1 + i * h2) % bits;
+            int word = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            long current = words.get(word);
+            while ((current & mask) == 0 && !words.compareAndSet(word, current, current | mask)) {
+                current = words.get(word);
+            }
+        }
+        count.incrementAndGet();
+    }
+
+    public boolean mightContain(long id) {
+        long hash = mix(id);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashes; i++) {
+            long bit = Integer.toUnsignedLong(h1 + i * h2) % bits;
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** Number of {@link #add} calls, repeats included. */
+    public long count() {
+        return count.get();
+    }
+
+    /** Past this many adds the false-positive rate climbs above the one the filter was sized for. */
+    public long capacity() {
+        return capacity;
+    }
+
+    public long sizeInBytes() {
+        return bits / 8;
+    }
+
+    /** MurmurHash3's 64-bit finalizer: sequential ids spread over all bits. */
+    private static long mix(long id) {
+        long h = id;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb93fe1a85ecdL;
+        h ^= h >>> 33;
+        return h;
+    }
+}
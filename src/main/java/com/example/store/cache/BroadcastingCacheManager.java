@@ -0,0 +1,85 @@
+package com.example.store.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Decorates the application's {@link CacheManager} so every eviction or clear of a Caffeine cache, whether from
+ * {@code @CacheEvict} or a direct {@link Cache#clear()}, is also handed to {@code publisher} for the other nodes.
+ *
+ * <p>The decorated caches extend {@link CaffeineCache} and share the native cache of the original, so cache metrics
+ * and entries stay where they were. Caches of other types (e.g. with {@code spring.cache.type=none}) are returned
+ * as they are.
+ */
+public class BroadcastingCacheManager implements CacheManager {
+
+    private final CacheManager delegate;
+    private final Consumer<InvalidationMessage> publisher;
+    private final Map<String, Cache> caches = new ConcurrentHashMap<>();
+
+    public BroadcastingCacheManager(CacheManager delegate, Consumer<InvalidationMessage> publisher) {
+        this.delegate = delegate;
+        this.publisher = publisher;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        Cache cache = caches.get(name);
+        if (cache != null) {
+            return cache;
+        }
+        Cache target = delegate.getCache(name);
+        if (target == null) {
+            return null;
+        }
+        return caches.computeIfAbsent(name, key ->
+                target instanceof CaffeineCache caffeine ? new BroadcastingCache(caffeine, publisher) : target);
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return delegate.getCacheNames();
+    }
+
+    static class BroadcastingCache extends CaffeineCache {
+
+        private final Consumer<InvalidationMessage> publisher;
+
+        BroadcastingCache(CaffeineCache target, Consumer<InvalidationMessage> publisher) {
+            super(target.getName(), target.getNativeCache(), target.isAllowNullValues());
+            this.publisher = publisher;
+        }
+
+        @Override
+        public void evict(Object key) {
+            super.evict(key);
+            publisher.accept(new InvalidationMessage(getName(), key));
+        }
+
+        @Override
+        public boolean evictIfPresent(Object key) {
+            boolean evicted = super.evictIfPresent(key);
+            publisher.accept(new InvalidationMessage(getName(), key));
+            return evicted;
+        }
+
+        @Override
+        public void clear() {
+            super.clear();
+            publisher.accept(InvalidationMessage.clear(getName()));
+        }
+
+        @Override
+        public boolean invalidate() {
+            boolean invalidated = super.invalidate();
+            publisher.accept(InvalidationMessage.clear(getName()));
+            return invalidated;
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package com.example.store.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import javax.sql.DataSource;
+
+/**
+ * Keeps the local caches of all application nodes coherent through PostgreSQL {@code LISTEN/NOTIFY}.
+ *
+ * <p>{@link #publish} sends an {@link InvalidationMessage} with {@code pg_notify} on the caller's connection. Inside a
+ * transaction PostgreSQL delivers it only on commit, so no node drops an entry and reloads the old row before the
+ * change is visible; rolled back changes send nothing. Every node, the sender included, runs a listener thread that
+ * holds one connection with {@code LISTEN} and applies what arrives to its Caffeine caches directly, below
+ * {@link BroadcastingCacheManager}, so applying an eviction never sends another one. The sender evicts twice, once
+ * straight away as before and once after commit, which also drops anything a concurrent read cached in between.
+ *
+ * <p>If the listener connection fails, notifications sent in the meantime are lost, so the caches are cleared after
+ * every reconnect. The entry TTL stays as the backstop for changes made outside the application.
+ *
+ * <p>Components keeping their own state in step with the caches register with {@link #addListener}; they see every
+ * applied message, including the clears after a reconnect. Components filling the caches in bulk at startup wait for
+ * {@link #awaitListening} first, so that the initial clear does not undo their work and no later eviction is missed.
+ */
+@Slf4j
+public class CacheInvalidationBus implements SmartLifecycle {
+
+    private static final String NOTIFY_SQL = "SELECT pg_notify(?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DataSource dataSource;
+    private final CacheManager cacheManager;
+    private final String channel;
+    private final Duration pollInterval;
+
+    private final List<Consumer<InvalidationMessage>> listeners = new CopyOnWriteArrayList<>();
+    private final CountDownLatch listening = new CountDownLatch(1);
+
+    private volatile boolean running;
+    private Thread listener;
+
+    public CacheInvalidationBus(JdbcTemplate jdbcTemplate, DataSource dataSource, CacheManager cacheManager,
+            String channel, Duration pollInterval) {
+        if (!channel.matches("[a-z_][a-z0-9_]*")) {
+            throw new IllegalArgumentException("Channel must be a lower-case SQL identifier: " + channel);
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.dataSource = dataSource;
+        this.cacheManager = cacheManager;
+        this.channel = channel;
+        this.pollInterval = pollInterval;
+    }
+
+    public void publish(InvalidationMessage message) {
+        jdbcTemplate.query(NOTIFY_SQL, rs -> {}, channel, message.encode());
+    }
+
+    public void addListener(Consumer<InvalidationMessage> listener) {
+        listeners.add(listener);
+    }
+
+    /** Waits until this node has cleared its caches and listens for evictions; {@code false} on timeout. */
+    public boolean awaitListening(Duration timeout) throws InterruptedException {
+        return listening.await(timeout.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /** Applies a message to this node's caches without publishing it again. */
+    void apply(InvalidationMessage message) {
+        listeners.forEach(listener -> listener.accept(message));
+        Cache cache = cacheManager.getCache(message.cacheName());
+        if (cache == null || !(cache.getNativeCache() instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> caffeine)) {
+            return;
+        }
+        if (message.isClear()) {
+            caffeine.invalidateAll();
+        } else if (message.key() instanceof InvalidationMessage.RowIds rows) {
+            caffeine.asMap().values().removeIf(value -> CacheInvalidator.containsAny(value, rows.ids()));
+        } else {
+            caffeine.asMap().remove(message.key());
+        }
+    }
+
+    void clearAll() {
+        cacheManager.getCacheNames().forEach(name -> apply(InvalidationMessage.clear(name)));
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        listener = new Thread(this::listen, "cache-invalidation-listener");
+        listener.setDaemon(true);
+        listener.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (listener != null) {
+            listener.interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void listen() {
+        long backoffMillis = 1_000;
+        while (running) {
+            try (Connection connection = dataSource.getConnection()) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + channel);
+                }
+                clearAll();
+                listening.countDown();
+                log.info("Listening for cache invalidations on channel {}", channel);
+                backoffMillis = 1_000;
+                receive(connection);
+            } catch (SQLException | RuntimeException e) {
+                if (!running) {
+                    return;
+                }
+                log.warn("Cache invalidation listener lost its connection, retrying in {} ms", backoffMillis, e);
+                try {
+                    Thread.sleep(backoffMillis);
+                } catch (InterruptedException interrupted) {
+                    return;
+                }
+                backoffMillis = Math.min(backoffMillis * 2, 30_000);
+            }
+        }
+    }
+
+    private void receive(Connection connection) throws SQLException {
+        PGConnection pgConnection = connection.unwrap(PGConnection.class);
+        int timeoutMillis = (int) pollInterval.toMillis();
+        while (running) {
+            PGNotification[] notifications = pgConnection.getNotifications(timeoutMillis);
+            if (notifications == null || notifications.length == 0) {
+                // Nothing arrived: make sure the connection is still there rather than waiting on a dead socket.
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("SELECT 1");
+                }
+                continue;
+            }
+            for (PGNotification notification : notifications) {
+                apply(InvalidationMessage.decode(notification.getParameter()));
+            }
+        }
+    }
+}
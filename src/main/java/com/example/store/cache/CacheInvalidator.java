@@ -0,0 +1,248 @@
+package com.example.store.cache;
+
+import com.example.store.dto.CustomerDTO;
+import com.example.store.dto.CustomerSummaryDTO;
+import com.example.store.dto.OrderDTO;
+import com.example.store.dto.ProductDTO;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Evicts only what a write can have changed, instead of {@code allEntries = true} on every page cache.
+ *
+ * <p>A new order changes one row of a customers page (that customer's orders) and one row per product of a products
+ * page, but no row moves, so only cached pages holding those rows are dropped; they are found by scanning the cached
+ * {@link Slice}s. Order pages are different: every list is sorted or offset over all orders, so a new order moves a
+ * row across every page boundary after its position and changes every total, and {@code ordersPage} is still cleared.
+ * The same holds for a new customer or product in its own page cache.
+ *
+ * <p>Evictions go through the {@link CacheManager}, and so to other nodes when {@link BroadcastingCacheManager} is
+ * installed. Page evictions are sent as the changed row ids, one message per cache
+ * ({@link InvalidationMessage#pagesContaining}), and every node scans its own pages for them. {@link #localOnly()} evicts from this node's Caffeine caches only, for callers that see every write on
+ * every node. Each eviction is counted in {@code store.cache.invalidations}, tagged with the cache and its scope
+ * ({@code key}, {@code page} or {@code all}).
+ *
+ * <p>Inside a transaction the evictions happen twice on this node: straight away, and again after commit, since a read
+ * in between still sees the old rows and would cache them until the TTL. Messages to other nodes are sent once, in
+ * the transaction, and delivered on commit.
+ */
+@Component
+public class CacheInvalidator {
+
+    private final CacheManager cacheManager;
+    private final MeterRegistry meterRegistry;
+    private final boolean localOnly;
+    private final boolean counted;
+
+    @Autowired
+    public CacheInvalidator(CacheManager cacheManager, MeterRegistry meterRegistry) {
+        this(cacheManager, meterRegistry, false, true);
+    }
+
+    private CacheInvalidator(CacheManager cacheManager, MeterRegistry meterRegistry, boolean localOnly,
+            boolean counted) {
+        this.cacheManager = cacheManager;
+        this.meterRegistry = meterRegistry;
+        this.localOnly = localOnly;
+        this.counted = counted;
+    }
+
+    public CacheInvalidator localOnly() {
+        return new CacheInvalidator(cacheManager, meterRegistry, true, true);
+    }
+
+    /** Orders were created for these customers, linking these products. */
+    public void ordersCreated(Collection<Long> customerIds, Collection<Long> productIds) {
+        run(invalidator -> {
+            invalidator.clear("ordersPage");
+            invalidator.evictPagesContaining("customersPage", customerIds);
+            invalidator.evictPagesContaining("productPage", productIds);
+            invalidator.evictKeys("productById", productIds);
+        });
+    }
+
+    /** Existing orders changed; {@code customerIds} is {@code null} when their customers are unknown. */
+    public void ordersChanged(Collection<Long> orderIds, Collection<Long> customerIds) {
+        run(invalidator -> {
+            invalidator.evictKeys("orderById", orderIds);
+            invalidator.clear("ordersPage");
+            if (customerIds == null) {
+                invalidator.clear("customersPage");
+            } else {
+                invalidator.evictPagesContaining("customersPage", customerIds);
+            }
+        });
+    }
+
+    /** Orders gained or lost products. */
+    public void orderProductsChanged(Collection<Long> orderIds, Collection<Long> productIds) {
+        run(invalidator -> {
+            invalidator.evictKeys("orderById", orderIds);
+            invalidator.clear("ordersPage");
+            invalidator.evictPagesContaining("productPage", productIds);
+            invalidator.evictKeys("productById", productIds);
+        });
+    }
+
+    /** Customers were renamed; their name is embedded in every one of their orders. */
+    public void customersUpdated(Collection<Long> customerIds) {
+        run(invalidator -> {
+            invalidator.evictPagesContaining("customersPage", customerIds);
+            invalidator.clear("orderById");
+            invalidator.clear("ordersPage");
+        });
+    }
+
+    /** Customers were added or removed, which moves rows across customer pages. */
+    public void customersAddedOrRemoved() {
+        run(invalidator -> invalidator.clear("customersPage"));
+    }
+
+    /** Products were described differently; the description is embedded in every order holding them. */
+    public void productsUpdated(Collection<Long> productIds) {
+        run(invalidator -> {
+            invalidator.evictKeys("productById", productIds);
+            invalidator.evictPagesContaining("productPage", productIds);
+            invalidator.clear("orderById");
+            invalidator.clear("ordersPage");
+        });
+    }
+
+    /** Products were added or removed, which moves rows across product pages. */
+    public void productsAddedOrRemoved(Collection<Long> removedIds) {
+        run(invalidator -> {
+            invalidator.evictKeys("productById", removedIds);
+            invalidator.clear("productPage");
+        });
+    }
+
+    public void clearAll() {
+        run(invalidator -> cacheManager.getCacheNames().forEach(invalidator::clear));
+    }
+
+    private void run(Consumer<CacheInvalidator> evictions) {
+        evictions.accept(this);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            CacheInvalidator afterCommit = new CacheInvalidator(cacheManager, meterRegistry, true, false);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictions.accept(afterCommit);
+                }
+            });
+        }
+    }
+
+    private void evictKeys(String cacheName, Collection<Long> ids) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache == null || ids.isEmpty()) {
+            return;
+        }
+        for (Long id : ids) {
+            evict(cache, id);
+        }
+        count(cacheName, "key", ids.size());
+    }
+
+    private void evictPagesContaining(String cacheName, Collection<Long> ids) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache == null || ids.isEmpty()) {
+            return;
+        }
+        if (!(cache.getNativeCache() instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> caffeine)) {
+            clear(cacheName);
+            return;
+        }
+        Set<Long> wanted = Set.copyOf(ids);
+        List<Object> stale = caffeine.asMap().entrySet().stream()
+                .filter(entry -> containsAny(entry.getValue(), wanted))
+                .map(Map.Entry::getKey)
+                .map(Object.class::cast)
+                .toList();
+        stale.forEach(caffeine.asMap()::remove);
+        if (!localOnly) {
+            // Holds no entry here; a BroadcastingCache sends it on for the other nodes' pages.
+            cache.evict(new InvalidationMessage.RowIds(wanted));
+        }
+        count(cacheName, "page", stale.size());
+    }
+
+    private void clear(String cacheName) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache == null) {
+            return;
+        }
+        if (localOnly) {
+            if (cache.getNativeCache() instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> caffeine) {
+                caffeine.invalidateAll();
+            }
+        } else {
+            cache.clear();
+        }
+        count(cacheName, "all", 1);
+    }
+
+    private void evict(Cache cache, Object key) {
+        if (localOnly) {
+            if (cache.getNativeCache() instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> caffeine) {
+                caffeine.asMap().remove(key);
+            }
+        } else {
+            cache.evict(key);
+        }
+    }
+
+    private void count(String cacheName, String scope, int evictions) {
+        if (counted && evictions > 0) {
+            Counter.builder("store.cache.invalidations")
+                    .description("Cache entries dropped by writes")
+                    .tag("cache", cacheName)
+                    .tag("scope", scope)
+                    .register(meterRegistry)
+                    .increment(evictions);
+        }
+    }
+
+    /** Whether a cached value holds a row with one of {@code ids}; values it cannot look into count as a match. */
+    static boolean containsAny(Object value, Set<Long> ids) {
+        if (!(value instanceof Slice<?> slice)) {
+            return true;
+        }
+        for (Object row : slice.getContent()) {
+            Long id = rowId(row);
+            if (id == null || ids.contains(id)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Long rowId(Object row) {
+        if (row instanceof CustomerDTO customer) {
+            return customer.getId();
+        }
+        if (row instanceof CustomerSummaryDTO summary) {
+            return summary.getId();
+        }
+        if (row instanceof ProductDTO product) {
+            return product.getId();
+        }
+        if (row instanceof OrderDTO order) {
+            return order.getId();
+        }
+        return null;
+    }
+}
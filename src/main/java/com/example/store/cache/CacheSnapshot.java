@@ -0,0 +1,187 @@
+package com.example.store.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Carries the hottest entries of the by-id caches across a restart, so a new node does not send every first request
+ * for a popular order or product to the database at once.
+ *
+ * <p>{@link #save} writes up to {@code maxEntries} entries per cache, hottest first, to one binary file: a header
+ * (magic, format, time written), then per cache its name, entry count and {@code (long id, int length, JSON)}
+ * entries. It is written to a temporary file and moved into place, so a crash mid-write leaves no half snapshot.
+ *
+ * <p>{@link #restore} puts the entries back without replacing anything already cached and deletes the file, so a
+ * snapshot is never restored twice. Writes made while the node was down were not evicted from it, so restored
+ * entries are only a stale-while-revalidate start: a background thread then reloads them through the caches' loaders,
+ * {@code batchSize} at a time, hottest first. Requests get the restored value until its reload completes. A snapshot
+ * older than {@code maxAge} is deleted unread, and only caches with a loader take part.
+ */
+@Slf4j
+public class CacheSnapshot {
+
+    private static final int MAGIC = 0x53544353;
+    private static final int FORMAT = 1;
+
+    private final CacheManager cacheManager;
+    private final ObjectMapper objectMapper;
+    private final Map<String, Class<?>> valueTypes;
+    private final Path file;
+    private final int maxEntries;
+    private final Duration maxAge;
+    private final int batchSize;
+
+    public CacheSnapshot(CacheManager cacheManager, ObjectMapper objectMapper, Map<String, Class<?>> valueTypes,
+            Path file, int maxEntries, Duration maxAge, int batchSize) {
+        this.cacheManager = cacheManager;
+        this.objectMapper = objectMapper;
+        this.valueTypes = valueTypes;
+        this.file = file;
+        this.maxEntries = maxEntries;
+        this.maxAge = maxAge;
+        this.batchSize = batchSize;
+    }
+
+    /** Writes the snapshot; returns the number of entries written. */
+    public int save() throws IOException {
+        Map<String, Map<Object, Object>> hottest = new LinkedHashMap<>();
+        valueTypes.keySet().forEach(name -> {
+            LoadingCache<Object, Object> cache = loadingCache(name);
+            if (cache != null) {
+                hottest.put(name, cache.policy().eviction()
+                        .map(eviction -> eviction.hottest(maxEntries))
+                        .orElseGet(() -> Map.copyOf(cache.asMap())));
+            }
+        });
+
+        Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+        int written = 0;
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporary)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(FORMAT);
+            out.writeLong(Instant.now().toEpochMilli());
+            out.writeInt(hottest.size());
+            for (Map.Entry<String, Map<Object, Object>> cache : hottest.entrySet()) {
+                Class<?> type = valueTypes.get(cache.getKey());
+                List<Map.Entry<Object, Object>> entries = cache.getValue().entrySet().stream()
+                        .filter(entry -> entry.getKey() instanceof Long && type.isInstance(entry.getValue()))
+                        .limit(maxEntries)
+                        .toList();
+                out.writeUTF(cache.getKey());
+                out.writeInt(entries.size());
+                for (Map.Entry<Object, Object> entry : entries) {
+                    byte[] json = objectMapper.writeValueAsBytes(entry.getValue());
+                    out.writeLong((Long) entry.getKey());
+                    out.writeInt(json.length);
+                    out.write(json);
+                }
+                written += entries.size();
+            }
+        }
+        Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        log.info("Saved {} cache entries to {}", written, file);
+        return written;
+    }
+
+    /** Loads and deletes the snapshot and starts revalidating it; returns the number of entries restored. */
+    public int restore() throws IOException {
+        if (!Files.exists(file)) {
+            return 0;
+        }
+        Map<String, List<Object>> restored = new LinkedHashMap<>();
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != MAGIC || in.readInt() != FORMAT) {
+                log.warn("Ignoring cache snapshot {} in an unknown format", file);
+                return 0;
+            }
+            Instant written = Instant.ofEpochMilli(in.readLong());
+            if (written.plus(maxAge).isBefore(Instant.now())) {
+                log.info("Ignoring cache snapshot {} written at {}, older than {}", file, written, maxAge);
+                return 0;
+            }
+            int caches = in.readInt();
+            for (int i = 0; i < caches; i++) {
+                String name = in.readUTF();
+                LoadingCache<Object, Object> cache = loadingCache(name);
+                Class<?> type = valueTypes.get(name);
+                List<Object> keys = new ArrayList<>();
+                if (cache != null) {
+                    restored.put(name, keys);
+                }
+                int entries = in.readInt();
+                for (int j = 0; j < entries; j++) {
+                    Long key = in.readLong();
+                    byte[] json = in.readNBytes(in.readInt());
+                    if (cache == null || type == null) {
+                        continue;
+                    }
+                    if (cache.asMap().putIfAbsent(key, objectMapper.readValue(json, type)) == null) {
+                        keys.add(key);
+                    }
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            // A damaged snapshot: drop what was restored from it rather than leave it unrevalidated.
+            restored.forEach((name, keys) -> loadingCache(name).invalidateAll(keys));
+            throw e;
+        } finally {
+            Files.deleteIfExists(file);
+        }
+
+        restored.values().removeIf(List::isEmpty);
+        int count = restored.values().stream().mapToInt(List::size).sum();
+        log.info("Restored {} cache entries from {}", count, file);
+        if (count > 0) {
+            Thread revalidation = new Thread(() -> revalidate(restored), "cache-snapshot-revalidation");
+            revalidation.setDaemon(true);
+            revalidation.start();
+        }
+        return count;
+    }
+
+    /** Reloads the restored keys, one batch at a time so the database sees at most {@code batchSize} loads at once. */
+    void revalidate(Map<String, List<Object>> restored) {
+        restored.forEach((name, keys) -> {
+            LoadingCache<Object, Object> cache = loadingCache(name);
+            if (cache == null) {
+                return;
+            }
+            for (int from = 0; from < keys.size(); from += batchSize) {
+                List<Object> batch = keys.subList(from, Math.min(from + batchSize, keys.size()));
+                try {
+                    cache.refreshAll(batch).join();
+                } catch (RuntimeException e) {
+                    log.warn("Revalidating restored {} entries failed; they stay until evicted or expired", name, e);
+                }
+            }
+        });
+        log.info("Revalidated restored cache entries");
+    }
+
+    @SuppressWarnings("unchecked")
+    private LoadingCache<Object, Object> loadingCache(String name) {
+        Cache cache = cacheManager.getCache(name);
+        if (cache != null && cache.getNativeCache() instanceof LoadingCache<?, ?> loading) {
+            return (LoadingCache<Object, Object>) loading;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.store.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * One eviction, as sent in a {@code NOTIFY} payload: {@code <cache>} clears the whole cache, {@code <cache>:L:<key>},
+ * {@code <cache>:I:<key>} and {@code <cache>:S:<key>} evict a single {@code Long}, {@code Integer} or {@code String}
+ * key, and {@code <cache>:R:<id>,<id>,...} evicts every cached page holding a row with one of those ids ({@link RowIds}),
+ * so each node scans its own cache. Keys of other types, or too long for a payload, are sent as a clear of the whole
+ * cache: over-invalidating is safe, a missed eviction is not.
+ */
+public record InvalidationMessage(String cacheName, Object key) {
+
+    /** Key standing for every page of a cache that holds a row with one of {@code ids}. */
+    public record RowIds(Set<Long> ids) {
+    }
+
+    /** PostgreSQL rejects payloads of 8000 bytes or more. */
+    static final int MAX_PAYLOAD_BYTES = 7999;
+
+    public static InvalidationMessage clear(String cacheName) {
+        return new InvalidationMessage(cacheName, null);
+    }
+
+    public static InvalidationMessage pagesContaining(String cacheName, Collection<Long> rowIds) {
+        return new InvalidationMessage(cacheName, new RowIds(Set.copyOf(rowIds)));
+    }
+
+    public boolean isClear() {
+        return key == null;
+    }
+
+    public String encode() {
+        String type = key instanceof Long ? "L" : key instanceof Integer ? "I" : key instanceof String ? "S"
+                : key instanceof RowIds ? "R" : null;
+        if (type == null) {
+            return cacheName;
+        }
+        String value = key instanceof RowIds rows
+                ? rows.ids().stream().map(String::valueOf).collect(Collectors.joining(","))
+                : String.valueOf(key);
+        String payload = cacheName + ":" + type + ":" + value;
+        return payload.getBytes(StandardCharsets.UTF_8).length > MAX_PAYLOAD_BYTES ? cacheName : payload;
+    }
+
+    public static InvalidationMessage decode(String payload) {
+        int nameEnd = payload.indexOf(':');
+        if (nameEnd < 0) {
+            return clear(payload);
+        }
+        String cacheName = payload.substring(0, nameEnd);
+        if (payload.length() < nameEnd + 3 || payload.charAt(nameEnd + 2) != ':') {
+            return clear(cacheName);
+        }
+        String key = payload.substring(nameEnd + 3);
+        try {
+            return switch (payload.charAt(nameEnd + 1)) {
+                case 'L' -> new InvalidationMessage(cacheName, Long.valueOf(key));
+                case 'I' -> new InvalidationMessage(cacheName, Integer.valueOf(key));
+                case 'S' -> new InvalidationMessage(cacheName, key);
+                case 'R' -> pagesContaining(cacheName, Arrays.stream(key.split(",")).map(Long::valueOf).toList());
+                default -> clear(cacheName);
+            };
+        } catch (NumberFormatException e) {
+            return clear(cacheName);
+        }
+    }
+}
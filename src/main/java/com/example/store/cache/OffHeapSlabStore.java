@@ -0,0 +1,163 @@
+package com.example.store.cache;
+
+import java.nio.ByteBuffer;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+
+/**
+ * A byte-budgeted LRU map from string keys to byte arrays, held outside the Java heap.
+ *
+ * <p>The budget is allocated up front as direct {@link ByteBuffer} slabs cut into fixed-size blocks. A value takes
+ * as many blocks as it needs, wherever they are free, so the slabs never fragment; only the index (key, block numbers,
+ * length) stays on-heap. Storing a value evicts least recently read entries until enough blocks are free, and a value
+ * larger than the whole budget is not stored.
+ *
+ * <p>Every entry carries a version object. {@link #get} returns the value only if it was stored under the same
+ * (identical) version, and drops it otherwise, which lets the caller invalidate any number of entries by switching
+ * versions without touching them.
+ *
+ * <p>All operations take one lock; they copy bytes between the heap and the slabs and do nothing else under it.
+ */
+public class OffHeapSlabStore {
+
+    private final int blockSize;
+    private final int blocksPerSlab;
+    private final ByteBuffer[] slabs;
+    private final int[] freeBlocks;
+    private int freeCount;
+
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(256, 0.75f, true);
+
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    public OffHeapSlabStore(long capacityBytes, int blockSize, int slabSize) {
+        if (blockSize <= 0 || slabSize < blockSize || capacityBytes < blockSize) {
+            throw new IllegalArgumentException("Need capacity >= slab size >= block size > 0");
+        }
+        this.blockSize = blockSize;
+        this.blocksPerSlab = slabSize / blockSize;
+        long blockCount = capacityBytes / blockSize;
+        if (blockCount > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Too many blocks; use a larger block size");
+        }
+        int slabCount = (int) ((blockCount + blocksPerSlab - 1) / blocksPerSlab);
+        this.slabs = new ByteBuffer[slabCount];
+        long remaining = blockCount;
+        for (int i = 0; i < slabCount; i++) {
+            int blocks = (int) Math.min(blocksPerSlab, remaining);
+            slabs[i] = ByteBuffer.allocateDirect(blocks * blockSize);
+            remaining -= blocks;
+        }
+        this.freeBlocks = new int[(int) blockCount];
+        for (int i = 0; i < freeBlocks.length; i++) {
+            freeBlocks[i] = freeBlocks.length - 1 - i;
+        }
+        this.freeCount = freeBlocks.length;
+    }
+
+    /** Stores {@code value} under {@code key} and {@code version}; {@code false} if it is larger than the budget. */
+    public synchronized boolean put(String key, byte[] value, Object version) {
+        int needed = (value.length + blockSize - 1) / blockSize;
+        if (needed > freeBlocks.length) {
+            return false;
+        }
+        Entry previous = entries.remove(key);
+        if (previous != null) {
+            release(previous);
+        }
+        Iterator<Entry> eldest = entries.values().iterator();
+        while (freeCount < needed) {
+            Entry evicted = eldest.next();
+            eldest.remove();
+            release(evicted);
+            evictions++;
+        }
+        int[] blocks = new int[needed];
+        for (int i = 0; i < needed; i++) {
+            int block = freeBlocks[--freeCount];
+            blocks[i] = block;
+            int offset = i * blockSize;
+            slab(block).put(position(block), value, offset, Math.min(blockSize, value.length - offset));
+        }
+        entries.put(key, new Entry(blocks, value.length, version));
+        return true;
+    }
+
+    /** The value stored under {@code key} and {@code version}, or {@code null}. */
+    public synchronized byte[] get(String key, Object version) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            misses++;
+            return null;
+        }
+        if (entry.version() != version) {
+            entries.remove(key);
+            release(entry);
+            misses++;
+            return null;
+        }
+        byte[] value = new byte[entry.length()];
+        int[] blocks = entry.blocks();
+        for (int i = 0; i < blocks.length; i++) {
+            int offset = i * blockSize;
+            slab(blocks[i]).get(position(blocks[i]), value, offset, Math.min(blockSize, value.length - offset));
+        }
+        hits++;
+        return value;
+    }
+
+    public synchronized void clear() {
+        entries.values().forEach(this::release);
+        entries.clear();
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public long capacityBytes() {
+        return (long) freeBlocks.length * blockSize;
+    }
+
+    /** Bytes taken by stored values, counted in whole blocks. */
+    public synchronized long usedBytes() {
+        return (long) (freeBlocks.length - freeCount) * blockSize;
+    }
+
+    public synchronized long hits() {
+        return hits;
+    }
+
+    public synchronized long misses() {
+        return misses;
+    }
+
+    public synchronized long evictions() {
+        return evictions;
+    }
+
+    private void release(Entry entry) {
+        for (int block : entry.blocks()) {
+            freeBlocks[freeCount++] = block;
+        }
+    }
+
+    private ByteBuffer slab(int block) {
+        return slabs[block / blocksPerSlab];
+    }
+
+    private int position(int block) {
+        return (block % blocksPerSlab) * blockSize;
+    }
+
+    private record Entry(int[] blocks, int length, Object version) {
+    }
+
+    /** For tests: the keys from least to most recently used. */
+    synchronized List<String> keys() {
+        return List.copyOf(entries.keySet());
+    }
+}
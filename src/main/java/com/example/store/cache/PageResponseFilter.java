@@ -0,0 +1,103 @@
+package com.example.store.cache;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Serves the page lists ({@code GET /order}, {@code /customer} and {@code /products}, except cursor pages) from
+ * their JSON bytes in an {@link OffHeapSlabStore}, so a hit neither builds nor serializes a {@code Page} and the
+ * bytes never sit on the heap between requests. A miss runs the handler as usual and keeps its {@code 200} JSON body.
+ *
+ * <p>Stored bodies follow the Caffeine page cache of their list ({@code ordersPage}, {@code customersPage},
+ * {@code productPage}) through a version entry kept in that cache under {@link #VERSION_KEY}. Every eviction from a
+ * page cache drops it: clears do, and {@link CacheInvalidator} counts it among the pages holding any changed row, so
+ * the local eviction paths, the ones other nodes send through {@link CacheInvalidationBus} and the TTL all reach it.
+ * The next request then starts a new version and every body stored under the old one is a miss. That is coarser
+ * than the page cache itself, which keeps pages not holding a changed row, but never serves a body older than it
+ * would. A body rendered while its version was dropped is stored under the old version and so never served.
+ */
+public class PageResponseFilter extends OncePerRequestFilter {
+
+    /** Key of the version entry in each page cache; a string, so that its eviction can be broadcast. */
+    public static final String VERSION_KEY = "off-heap-version";
+
+    /** Page cache of each list, by path. */
+    public static final Map<String, String> CACHES = Map.of(
+            "/order", "ordersPage",
+            "/customer", "customersPage",
+            "/products", "productPage");
+
+    private final OffHeapSlabStore store;
+    private final CacheManager cacheManager;
+    private final int maxEntryBytes;
+
+    public PageResponseFilter(OffHeapSlabStore store, CacheManager cacheManager, int maxEntryBytes) {
+        this.store = store;
+        this.cacheManager = cacheManager;
+        this.maxEntryBytes = maxEntryBytes;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !"GET".equals(request.getMethod())
+                || !CACHES.containsKey(request.getRequestURI())
+                || request.getParameter("cursor") != null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        Object version = version(CACHES.get(request.getRequestURI()));
+        if (version == null) {
+            chain.doFilter(request, response);
+            return;
+        }
+        String key = request.getRequestURI() + '?' + (request.getQueryString() == null ? "" : request.getQueryString());
+        byte[] body = store.get(key, version);
+        if (body != null) {
+            response.setStatus(HttpStatus.OK.value());
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.setContentLength(body.length);
+            response.getOutputStream().write(body);
+            return;
+        }
+
+        ContentCachingResponseWrapper captured = new ContentCachingResponseWrapper(response);
+        try {
+            chain.doFilter(request, captured);
+            if (captured.getStatus() == HttpStatus.OK.value() && isJson(captured.getContentType())
+                    && captured.getContentSize() <= maxEntryBytes) {
+                store.put(key, captured.getContentAsByteArray(), version);
+            }
+        } finally {
+            captured.copyBodyToResponse();
+        }
+    }
+
+    /** The current version of a page cache, started if there is none; {@code null} if it is not a Caffeine cache. */
+    private Object version(String cacheName) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache == null || !(cache.getNativeCache() instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> caffeine)) {
+            return null;
+        }
+        @SuppressWarnings("unchecked")
+        Map<Object, Object> entries = (Map<Object, Object>) caffeine.asMap();
+        return entries.computeIfAbsent(VERSION_KEY, key -> new Object());
+    }
+
+    private static boolean isJson(String contentType) {
+        return contentType != null
+                && MediaType.APPLICATION_JSON.isCompatibleWith(MediaType.parseMediaType(contentType));
+    }
+}
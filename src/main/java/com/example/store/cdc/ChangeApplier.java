@@ -0,0 +1,147 @@
+package com.example.store.cdc;
+
+import com.example.store.cache.CacheInvalidator;
+import com.example.store.entity.Customer;
+import com.example.store.entity.Order;
+import com.example.store.entity.Product;
+import com.example.store.repository.OrderViewRepository;
+import com.example.store.service.CustomerNameIndex;
+import com.example.store.service.KnownIds;
+import com.example.store.service.OrderViewRebuilder;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Cache;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Brings this node's derived state up to date with one committed transaction of the change stream: the
+ * {@code order_view} read model, the Caffeine caches, Hibernate's second-level cache, the {@link CustomerNameIndex} and
+ * {@link KnownIds}.
+ *
+ * <p>{@code order_view} is refreshed only for orders the transaction changed without writing their view row itself,
+ * i.e. for writes made outside {@code OrderService}; the refresh skips rows whose payload is already right, so the
+ * nodes that all see the same change write each row once between them. Caches are evicted on this node only, since
+ * every node reads the stream.
+ */
+@Slf4j
+public class ChangeApplier {
+
+    static final int ID_CHUNK_SIZE = 10_000;
+    static final String ORDER_PRODUCTS_ROLE = Order.class.getName() + ".products";
+
+    private final CacheInvalidator cacheInvalidator;
+    private final OrderViewRepository orderViewRepository;
+    private final OrderViewRebuilder orderViewRebuilder;
+    private final CustomerNameIndex customerNameIndex;
+    private final Cache secondLevelCache;
+    private final KnownIds knownIds;
+    private final TransactionTemplate transactionTemplate;
+
+    public ChangeApplier(CacheInvalidator cacheInvalidator, OrderViewRepository orderViewRepository,
+            OrderViewRebuilder orderViewRebuilder, CustomerNameIndex customerNameIndex, Cache secondLevelCache,
+            KnownIds knownIds, TransactionTemplate transactionTemplate) {
+        this.cacheInvalidator = cacheInvalidator.localOnly();
+        this.orderViewRepository = orderViewRepository;
+        this.orderViewRebuilder = orderViewRebuilder;
+        this.customerNameIndex = customerNameIndex;
+        this.secondLevelCache = secondLevelCache;
+        this.knownIds = knownIds;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    public void apply(ChangeBatch batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        if (batch.overflowed()) {
+            log.info("Change stream transaction too large or truncating, rebuilding derived state");
+            orderViewRebuilder.rebuild();
+            resynchronize();
+            return;
+        }
+        // Before any eviction, so a reload of a new id is not refused.
+        knownIds.discovered(KnownIds.Kind.ORDER, batch.ordersInserted);
+        knownIds.discovered(KnownIds.Kind.PRODUCT, batch.productsInserted);
+        evictEntities(batch);
+        refreshOrderView(batch);
+
+        if (!batch.ordersChanged.isEmpty()) {
+            cacheInvalidator.ordersChanged(batch.ordersChanged, batch.orderCustomersUnknown ? null : batch.orderCustomers);
+        }
+        if (!batch.linkedOrders.isEmpty()) {
+            cacheInvalidator.orderProductsChanged(batch.linkedOrders, batch.linkedProducts);
+        }
+        if (!batch.customersInserted.isEmpty() || batch.customersDeleted) {
+            cacheInvalidator.customersAddedOrRemoved();
+        }
+        if (!batch.customersUpdated.isEmpty()) {
+            cacheInvalidator.customersUpdated(batch.customersUpdated);
+        }
+        if (!batch.productsInserted.isEmpty() || !batch.productsDeleted.isEmpty()) {
+            cacheInvalidator.productsAddedOrRemoved(batch.productsDeleted);
+        }
+        if (!batch.productsUpdated.isEmpty()) {
+            cacheInvalidator.productsUpdated(batch.productsUpdated);
+        }
+
+        if (!batch.customersUpdated.isEmpty() || batch.customersDeleted) {
+            customerNameIndex.rebuild();
+        } else {
+            batch.customersInserted.forEach((id, name) -> {
+                if (name != null) {
+                    customerNameIndex.add(id, name);
+                }
+            });
+        }
+    }
+
+    /** After a gap in the stream nothing derived can be trusted; drops the caches and reloads the name index. */
+    public void resynchronize() {
+        secondLevelCache.evictAllRegions();
+        cacheInvalidator.clearAll();
+        customerNameIndex.rebuild();
+        knownIds.rebuild();
+    }
+
+    private void evictEntities(ChangeBatch batch) {
+        batch.customersUpdated.forEach(id -> secondLevelCache.evictEntityData(Customer.class, id));
+        if (batch.customersDeleted) {
+            secondLevelCache.evictEntityData(Customer.class);
+        }
+        batch.productsUpdated.forEach(id -> secondLevelCache.evictEntityData(Product.class, id));
+        batch.productsDeleted.forEach(id -> secondLevelCache.evictEntityData(Product.class, id));
+        batch.linkedOrders.forEach(id -> secondLevelCache.evictCollectionData(ORDER_PRODUCTS_ROLE, id));
+    }
+
+    private void refreshOrderView(ChangeBatch batch) {
+        Set<Long> orderIds = new HashSet<>(batch.ordersChanged);
+        orderIds.addAll(batch.linkedOrders);
+        orderIds.removeAll(batch.orderViewWritten);
+        int rows = refreshInChunks(orderIds, orderViewRepository::refreshIfChanged)
+                + refreshInChunks(batch.customersUpdated, orderViewRepository::refreshForCustomers)
+                + refreshInChunks(batch.productsUpdated, orderViewRepository::refreshForProducts);
+        if (rows > 0) {
+            log.debug("Refreshed {} order_view rows from the change stream", rows);
+        }
+    }
+
+    private int refreshInChunks(Collection<Long> ids, Function<Collection<Long>, Integer> refresh) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        List<Long> all = new ArrayList<>(ids);
+        int rows = 0;
+        for (int from = 0; from < all.size(); from += ID_CHUNK_SIZE) {
+            List<Long> chunk = all.subList(from, Math.min(from + ID_CHUNK_SIZE, all.size()));
+            Integer written = transactionTemplate.execute(status -> refresh.apply(chunk));
+            rows += written != null ? written : 0;
+        }
+        return rows;
+    }
+}
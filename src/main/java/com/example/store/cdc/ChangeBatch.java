@@ -0,0 +1,96 @@
+package com.example.store.cdc;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Folds the row changes of one committed transaction into the ids {@link ChangeApplier} needs. Past
+ * {@code maxTrackedRows} rows, e.g. a bulk fix-up script, the ids are dropped and the batch only remembers that it
+ * {@link #overflowed()}, so memory stays bounded whatever the transaction size.
+ */
+public class ChangeBatch {
+
+    private final int maxTrackedRows;
+    private int rows;
+    private boolean overflowed;
+    private boolean truncated;
+
+    final Set<Long> orderViewWritten = new HashSet<>();
+    final Set<Long> ordersChanged = new HashSet<>();
+    final Set<Long> ordersInserted = new HashSet<>();
+    final Set<Long> orderCustomers = new HashSet<>();
+    boolean orderCustomersUnknown;
+    final Set<Long> linkedOrders = new HashSet<>();
+    final Set<Long> linkedProducts = new HashSet<>();
+    final Map<Long, String> customersInserted = new HashMap<>();
+    final Set<Long> customersUpdated = new HashSet<>();
+    boolean customersDeleted;
+    final Set<Long> productsUpdated = new HashSet<>();
+    final Set<Long> productsDeleted = new HashSet<>();
+    final Set<Long> productsInserted = new HashSet<>();
+
+    public ChangeBatch(int maxTrackedRows) {
+        this.maxTrackedRows = maxTrackedRows;
+    }
+
+    public void add(RowChange change) {
+        if (change.operation() == RowChange.Operation.TRUNCATE) {
+            truncated = true;
+        }
+        if (truncated || overflowed) {
+            return;
+        }
+        if (++rows > maxTrackedRows) {
+            overflowed = true;
+            return;
+        }
+        boolean deleted = change.operation() == RowChange.Operation.DELETE;
+        switch (change.table()) {
+            case "order_view" -> orderViewWritten.addAll(change.ids("id"));
+            case "order" -> {
+                ordersChanged.addAll(change.ids("id"));
+                if (change.operation() == RowChange.Operation.INSERT) {
+                    ordersInserted.addAll(change.ids("id"));
+                }
+                // A DELETE only carries the key, so the customer whose list lost the order is unknown.
+                if (deleted) {
+                    orderCustomersUnknown = true;
+                } else {
+                    orderCustomers.addAll(change.ids("customer_id"));
+                }
+            }
+            case "order_product" -> {
+                linkedOrders.addAll(change.ids("order_id"));
+                linkedProducts.addAll(change.ids("product_id"));
+            }
+            case "customer" -> {
+                switch (change.operation()) {
+                    case INSERT -> change.ids("id").forEach(id -> customersInserted.put(id, change.tuple().get("name")));
+                    case UPDATE -> customersUpdated.addAll(change.ids("id"));
+                    default -> customersDeleted = true;
+                }
+            }
+            case "product" -> {
+                switch (change.operation()) {
+                    case INSERT -> productsInserted.addAll(change.ids("id"));
+                    case UPDATE -> productsUpdated.addAll(change.ids("id"));
+                    default -> productsDeleted.addAll(change.ids("id"));
+                }
+            }
+            default -> {
+                // Not a table any cache or read model is built from.
+            }
+        }
+    }
+
+    /** Too many rows to track individually; everything derived has to be rebuilt. */
+    public boolean overflowed() {
+        return overflowed || truncated;
+    }
+
+    public boolean isEmpty() {
+        return rows == 0 && !overflowed();
+    }
+}
@@ -0,0 +1,146 @@
+package com.example.store.cdc;
+
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGProperty;
+import org.postgresql.replication.LogSequenceNumber;
+import org.postgresql.replication.PGReplicationStream;
+import org.springframework.context.SmartLifecycle;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Properties;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reads committed row changes from PostgreSQL logical decoding and hands each transaction to the
+ * {@link ChangeApplier}, so caches and read models follow every write to the database, including those made by other
+ * tools or by hand.
+ *
+ * <p>Each node creates its own {@code TEMPORARY} slot with the built-in {@code test_decoding} plugin on a replication
+ * connection. A temporary slot is dropped by the server when the connection ends, so a node that goes away never
+ * leaves a slot pinning WAL; the price is that changes made while the node was disconnected are not replayed, so
+ * every (re)connect {@linkplain ChangeApplier#resynchronize() resynchronizes} instead. Confirmed positions are reported
+ * after each applied transaction. Requires {@code wal_level=logical} and a user with the {@code REPLICATION} attribute.
+ */
+@Slf4j
+public class ChangeStreamConsumer implements SmartLifecycle {
+
+    private final String url;
+    private final Properties properties;
+    private final ChangeApplier applier;
+    private final Duration pollInterval;
+    private final int maxTrackedRows;
+
+    private volatile boolean running;
+    private Thread reader;
+
+    public ChangeStreamConsumer(String url, String username, String password, ChangeApplier applier,
+            Duration pollInterval, int maxTrackedRows) {
+        this.url = url;
+        this.properties = new Properties();
+        PGProperty.USER.set(properties, username);
+        PGProperty.PASSWORD.set(properties, password);
+        PGProperty.REPLICATION.set(properties, "database");
+        PGProperty.ASSUME_MIN_SERVER_VERSION.set(properties, "10");
+        PGProperty.PREFER_QUERY_MODE.set(properties, "simple");
+        this.applier = applier;
+        this.pollInterval = pollInterval;
+        this.maxTrackedRows = maxTrackedRows;
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        reader = new Thread(this::consume, "change-stream-consumer");
+        reader.setDaemon(true);
+        reader.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (reader != null) {
+            reader.interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void consume() {
+        long backoffMillis = 1_000;
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(url, properties)) {
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                String slot = "store_cdc_" + UUID.randomUUID().toString().replace("-", "");
+                pgConnection.getReplicationAPI().createReplicationSlot()
+                        .logical()
+                        .withSlotName(slot)
+                        .withOutputPlugin("test_decoding")
+                        .withTemporaryOption()
+                        .make();
+                PGReplicationStream stream = pgConnection.getReplicationAPI().replicationStream()
+                        .logical()
+                        .withSlotName(slot)
+                        .withSlotOption("include-xids", false)
+                        .withSlotOption("skip-empty-xacts", true)
+                        .withStatusInterval(10, TimeUnit.SECONDS)
+                        .start();
+                // Anything committed before the slot existed was missed.
+                applier.resynchronize();
+                log.info("Consuming row changes from temporary slot {}", slot);
+                backoffMillis = 1_000;
+                read(stream);
+            } catch (SQLException | RuntimeException e) {
+                if (!running) {
+                    return;
+                }
+                log.warn("Change stream consumer lost its connection, retrying in {} ms", backoffMillis, e);
+                try {
+                    Thread.sleep(backoffMillis);
+                } catch (InterruptedException interrupted) {
+                    return;
+                }
+                backoffMillis = Math.min(backoffMillis * 2, 30_000);
+            }
+        }
+    }
+
+    private void read(PGReplicationStream stream) throws SQLException {
+        ChangeBatch batch = new ChangeBatch(maxTrackedRows);
+        while (running) {
+            ByteBuffer buffer = stream.readPending();
+            if (buffer == null) {
+                try {
+                    Thread.sleep(pollInterval.toMillis());
+                } catch (InterruptedException e) {
+                    return;
+                }
+                continue;
+            }
+            String line = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining(),
+                    StandardCharsets.UTF_8);
+            if (line.startsWith("BEGIN")) {
+                batch = new ChangeBatch(maxTrackedRows);
+            } else if (line.startsWith("COMMIT")) {
+                applier.apply(batch);
+                LogSequenceNumber lsn = stream.getLastReceiveLSN();
+                stream.setAppliedLSN(lsn);
+                stream.setFlushedLSN(lsn);
+            } else {
+                RowChange change = TestDecodingParser.parse(line);
+                if (change != null) {
+                    batch.add(change);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.store.cdc;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * One row change decoded from the replication stream. {@code tuple} holds the new row of an {@code INSERT} or
+ * {@code UPDATE} and the replica identity (the primary key) of a {@code DELETE}; {@code oldKey} is only set when an
+ * {@code UPDATE} changed the key. Values are the server's text output, {@code null} for SQL {@code NULL}; unchanged
+ * TOAST values are left out.
+ */
+public record RowChange(String table, Operation operation, Map<String, String> oldKey, Map<String, String> tuple) {
+
+    public enum Operation { INSERT, UPDATE, DELETE, TRUNCATE }
+
+    /** The ids found in {@code column} of the new and old row, e.g. both ids of an {@code UPDATE} that changed one. */
+    public List<Long> ids(String column) {
+        List<Long> ids = new ArrayList<>(2);
+        addId(ids, tuple.get(column));
+        addId(ids, oldKey.get(column));
+        return ids;
+    }
+
+    private static void addId(List<Long> ids, String value) {
+        if (value != null) {
+            long id = Long.parseLong(value);
+            if (!ids.contains(id)) {
+                ids.add(id);
+            }
+        }
+    }
+}
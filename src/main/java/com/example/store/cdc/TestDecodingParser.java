@@ -0,0 +1,109 @@
+package com.example.store.cdc;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Parses the text lines of PostgreSQL's {@code test_decoding} output plugin, e.g.
+ *
+ * <pre>
+ * table public."order": INSERT: id[bigint]:7 description[character varying]:'Gift' customer_id[bigint]:3
+ * table public.customer: UPDATE: old-key: id[bigint]:3 new-tuple: id[bigint]:4 name[character varying]:'O''Hara'
+ * table public.order_product: DELETE: order_id[bigint]:7 product_id[bigint]:2
+ * table public.customer, public."order": TRUNCATE: (no-flags)
+ * </pre>
+ *
+ * {@code BEGIN} and {@code COMMIT} lines are not row changes and are left to the caller.
+ */
+public final class TestDecodingParser {
+
+    private static final String TABLE_PREFIX = "table ";
+    private static final String OLD_KEY = "old-key:";
+    private static final String NEW_TUPLE = "new-tuple:";
+    private static final String NO_TUPLE_DATA = "(no-tuple-data)";
+    private static final String UNCHANGED_TOAST = "unchanged-toast-datum";
+
+    private TestDecodingParser() {}
+
+    /** @return the change, or {@code null} if {@code line} is not a row change */
+    public static RowChange parse(String line) {
+        if (!line.startsWith(TABLE_PREFIX)) {
+            return null;
+        }
+        int tableEnd = line.indexOf(": ", TABLE_PREFIX.length());
+        int operationEnd = tableEnd < 0 ? -1 : line.indexOf(':', tableEnd + 2);
+        if (operationEnd < 0) {
+            throw new IllegalArgumentException("Not a test_decoding row change: " + line);
+        }
+        RowChange.Operation operation = RowChange.Operation.valueOf(line.substring(tableEnd + 2, operationEnd));
+        String tables = line.substring(TABLE_PREFIX.length(), tableEnd);
+        Map<String, String> oldKey = new HashMap<>();
+        Map<String, String> tuple = new HashMap<>();
+        if (operation != RowChange.Operation.TRUNCATE) {
+            parseColumns(line, operationEnd + 1, oldKey, tuple);
+        }
+        // A TRUNCATE lists every truncated table; callers only need to know one happened.
+        return new RowChange(tableName(tables.split(", ")[0]), operation, oldKey, tuple);
+    }
+
+    /** {@code public."order"} to {@code order}. */
+    static String tableName(String qualified) {
+        String name = qualified.substring(qualified.indexOf('.') + 1);
+        return name.startsWith("\"") ? name.substring(1, name.length() - 1).replace("\"\"", "\"") : name;
+    }
+
+    private static void parseColumns(String line, int start, Map<String, String> oldKey, Map<String, String> tuple) {
+        Map<String, String> target = tuple;
+        int i = start;
+        while (i < line.length()) {
+            if (line.charAt(i) == ' ') {
+                i++;
+            } else if (line.startsWith(OLD_KEY, i)) {
+                target = oldKey;
+                i += OLD_KEY.length();
+            } else if (line.startsWith(NEW_TUPLE, i)) {
+                target = tuple;
+                i += NEW_TUPLE.length();
+            } else if (line.startsWith(NO_TUPLE_DATA, i)) {
+                i += NO_TUPLE_DATA.length();
+            } else {
+                int typeStart = line.indexOf('[', i);
+                int typeEnd = line.indexOf("]:", typeStart);
+                if (typeStart < 0 || typeEnd < 0) {
+                    throw new IllegalArgumentException("Malformed column at " + i + ": " + line);
+                }
+                String name = tableName("." + line.substring(i, typeStart));
+                i = typeEnd + 2;
+                String value;
+                if (i < line.length() && line.charAt(i) == '\'') {
+                    StringBuilder quoted = new StringBuilder();
+                    i++;
+                    while (i < line.length()) {
+                        char c = line.charAt(i++);
+                        if (c == '\'') {
+                            if (i < line.length() && line.charAt(i) == '\'') {
+                                quoted.append('\'');
+                                i++;
+                            } else {
+                                break;
+                            }
+                        } else {
+                            quoted.append(c);
+                        }
+                    }
+                    value = quoted.toString();
+                } else {
+                    int end = line.indexOf(' ', i);
+                    end = end < 0 ? line.length() : end;
+                    String bare = line.substring(i, end);
+                    i = end;
+                    if (bare.equals(UNCHANGED_TOAST)) {
+                        continue;
+                    }
+                    value = bare.equals("null") ? null : bare;
+                }
+                target.put(name, value);
+            }
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.store.config;
+
+import com.example.store.cache.BroadcastingCacheManager;
+import com.example.store.cache.CacheInvalidationBus;
+import com.example.store.datasource.ReplicaDataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+import javax.sql.DataSource;
+
+/**
+ * Cross-node cache invalidation over PostgreSQL {@code LISTEN/NOTIFY}, enabled with
+ * {@code store.cache.invalidation.enabled=true}: wraps the {@code cacheManager} bean in a
+ * {@link BroadcastingCacheManager} and starts the {@link CacheInvalidationBus} listener.
+ *
+ * <p>With read replicas, every applied eviction also sends reads to the primary for
+ * {@code store.datasource.replicas.primary-after-eviction}, so the reload it causes cannot cache a replica's copy
+ * from before the write and keep it for the whole TTL.
+ */
+@Configuration
+@ConditionalOnProperty(name = "store.cache.invalidation.enabled", havingValue = "true")
+public class CacheInvalidationConfig {
+
+    @Bean
+    public static BeanPostProcessor broadcastingCacheManagerPostProcessor(ObjectProvider<CacheInvalidationBus> bus) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof CacheManager cacheManager && "cacheManager".equals(beanName)) {
+                    return new BroadcastingCacheManager(cacheManager, message -> bus.getObject().publish(message));
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public CacheInvalidationBus cacheInvalidationBus(JdbcTemplate jdbcTemplate, DataSource dataSource,
+            CacheManager cacheManager,
+            @Value("${store.cache.invalidation.channel:store_cache_invalidation}") String channel,
+            @Value("${store.cache.invalidation.poll-interval:10s}") Duration pollInterval,
+            ObjectProvider<ReplicaDataSource> replicaDataSource, ObjectProvider<ReplicaProperties> replicaProperties) {
+        CacheInvalidationBus bus =
+                new CacheInvalidationBus(jdbcTemplate, dataSource, cacheManager, channel, pollInterval);
+        replicaDataSource.ifAvailable(replicas -> {
+            Duration window = replicaProperties.getObject().primaryAfterEviction();
+            bus.addListener(message -> replicas.usePrimaryFor(window));
+        });
+        return bus;
+    }
+}
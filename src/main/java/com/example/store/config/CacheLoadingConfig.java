@@ -0,0 +1,57 @@
+package com.example.store.config;
+
+import com.example.store.service.OrderService;
+import com.example.store.service.ProductService;
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.boot.autoconfigure.cache.CacheManagerCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Per-cache Caffeine specs from {@code store.cache.specs}. The by-id caches get a loader, so their specs may use
+ * {@code refreshAfterWrite}: a read of an entry older than that still returns it at once and reloads it in the
+ * background, so a hot key is replaced before {@code expireAfterWrite} would make every request miss on it.
+ * Concurrent misses on a key already share one load through {@code @Cacheable(sync = true)}.
+ *
+ * <p>A reload that finds the row gone removes the entry. Any other reload failure keeps the old value until the next
+ * attempt or expiry.
+ */
+@Configuration
+@EnableConfigurationProperties(CacheSpecProperties.class)
+public class CacheLoadingConfig {
+
+    @Bean
+    public CacheManagerCustomizer<CaffeineCacheManager> cacheSpecCustomizer(CacheSpecProperties properties,
+            @Lazy OrderService orderService, @Lazy ProductService productService) {
+        Map<String, Function<Long, ?>> loaders = Map.of(
+                "orderById", orderService::loadOrder,
+                "productById", productService::loadProduct);
+        return cacheManager -> properties.specs().forEach((name, spec) -> {
+            Caffeine<Object, Object> builder = Caffeine.from(spec);
+            Function<Long, ?> load = loaders.get(name);
+            cacheManager.registerCustomCache(name, load == null ? builder.build() : builder.build(loader(load)));
+        });
+    }
+
+    static CacheLoader<Object, Object> loader(Function<Long, ?> load) {
+        return key -> {
+            try {
+                return load.apply((Long) key);
+            } catch (ResponseStatusException e) {
+                if (e.getStatusCode().value() == HttpStatus.NOT_FOUND.value()) {
+                    return null;
+                }
+                throw e;
+            }
+        };
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.store.config;
+
+import com.example.store.cache.CacheInvalidationBus;
+import com.example.store.cache.CacheSnapshot;
+import com.example.store.dto.OrderDTO;
+import com.example.store.dto.ProductDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Warm restarts, enabled with {@code store.cache.snapshot.enabled=true}: a {@link CacheSnapshot} of {@code orderById}
+ * and {@code productById} saved to {@code store.cache.snapshot.path} when the context closes, after the web server
+ * has drained, and restored once the application is ready, before it reports ready for traffic. With
+ * {@link CacheInvalidationBus} the restore waits until the bus listens, so its initial clear runs first.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "store.cache.snapshot.enabled", havingValue = "true")
+public class CacheSnapshotConfig {
+
+    @Bean(destroyMethod = "save")
+    public CacheSnapshot cacheSnapshot(CacheManager cacheManager, ObjectMapper objectMapper,
+            @Value("${store.cache.snapshot.path:cache-snapshot.bin}") Path path,
+            @Value("${store.cache.snapshot.max-entries:10000}") int maxEntries,
+            @Value("${store.cache.snapshot.max-age:15m}") Duration maxAge,
+            @Value("${store.cache.snapshot.revalidate-batch-size:50}") int batchSize) {
+        return new CacheSnapshot(cacheManager, objectMapper,
+                Map.of("orderById", OrderDTO.class, "productById", ProductDTO.class),
+                path, maxEntries, maxAge, batchSize);
+    }
+
+    @Bean
+    public ApplicationListener<ApplicationReadyEvent> cacheSnapshotRestore(CacheSnapshot cacheSnapshot,
+            ObjectProvider<CacheInvalidationBus> bus) {
+        return event -> {
+            try {
+                CacheInvalidationBus invalidationBus = bus.getIfAvailable();
+                if (invalidationBus != null && !invalidationBus.awaitListening(Duration.ofSeconds(30))) {
+                    log.warn("Cache invalidation bus is not listening; not restoring the cache snapshot");
+                    return;
+                }
+                cacheSnapshot.restore();
+            } catch (IOException e) {
+                log.warn("Could not restore the cache snapshot; starting cold", e);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.store.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.util.Map;
+
+/**
+ * {@code store.cache.specs.<cache name>}: a Caffeine spec replacing {@code spring.cache.caffeine.spec} for that cache,
+ * e.g. to add {@code refreshAfterWrite}.
+ */
+@ConfigurationProperties("store.cache")
+public record CacheSpecProperties(@DefaultValue Map<String, String> specs) {}
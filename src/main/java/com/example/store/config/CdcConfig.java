@@ -0,0 +1,55 @@
+package com.example.store.config;
+
+import com.example.store.cache.CacheInvalidator;
+import com.example.store.cdc.ChangeApplier;
+import com.example.store.cdc.ChangeStreamConsumer;
+import com.example.store.repository.OrderViewRepository;
+import com.example.store.service.CustomerNameIndex;
+import com.example.store.service.KnownIds;
+import com.example.store.service.OrderViewRebuilder;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.jdbc.JdbcConnectionDetails;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+
+/**
+ * Change data capture from the primary's logical decoding stream, enabled with {@code store.cdc.enabled=true}. The
+ * replication connection uses the primary's URL and credentials: the {@link JdbcConnectionDetails} when there are
+ * any (e.g. a service connection in tests), else {@code spring.datasource}.
+ */
+@Configuration
+@ConditionalOnProperty(name = "store.cdc.enabled", havingValue = "true")
+public class CdcConfig {
+
+    @Bean
+    public ChangeApplier changeApplier(CacheInvalidator cacheInvalidator, OrderViewRepository orderViewRepository,
+            OrderViewRebuilder orderViewRebuilder, CustomerNameIndex customerNameIndex,
+            EntityManagerFactory entityManagerFactory, KnownIds knownIds, PlatformTransactionManager transactionManager) {
+        return new ChangeApplier(cacheInvalidator, orderViewRepository, orderViewRebuilder, customerNameIndex,
+                entityManagerFactory.unwrap(SessionFactory.class).getCache(), knownIds,
+                new TransactionTemplate(transactionManager));
+    }
+
+    @Bean
+    public ChangeStreamConsumer changeStreamConsumer(ObjectProvider<JdbcConnectionDetails> connectionDetails,
+            DataSourceProperties dataSourceProperties, ChangeApplier changeApplier,
+            @Value("${store.cdc.poll-interval:100ms}") Duration pollInterval,
+            @Value("${store.cdc.max-tracked-rows:100000}") int maxTrackedRows) {
+        JdbcConnectionDetails details = connectionDetails.getIfAvailable();
+        if (details != null) {
+            return new ChangeStreamConsumer(details.getJdbcUrl(), details.getUsername(), details.getPassword(),
+                    changeApplier, pollInterval, maxTrackedRows);
+        }
+        return new ChangeStreamConsumer(dataSourceProperties.determineUrl(), dataSourceProperties.determineUsername(),
+                dataSourceProperties.determinePassword(), changeApplier, pollInterval, maxTrackedRows);
+    }
+}
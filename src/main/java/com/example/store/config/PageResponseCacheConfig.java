@@ -0,0 +1,84 @@
+package com.example.store.config;
+
+import com.example.store.cache.OffHeapSlabStore;
+import com.example.store.cache.PageResponseFilter;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.cache.CacheManagerCustomizer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Off-heap JSON tier for the page lists, enabled with {@code store.cache.off-heap.enabled=true}: a
+ * {@link PageResponseFilter} over an {@link OffHeapSlabStore} of {@code store.cache.off-heap.capacity} bytes, taken
+ * from direct memory ({@code -XX:MaxDirectMemorySize}, by default as much as the maximum heap). It runs inside the
+ * {@code SqlStatsFilter}, so hits still get their (empty) SQL counts. The store is reported as
+ * {@code store.cache.off_heap.*}.
+ *
+ * <p>Hits no longer reach the Caffeine page caches, which then mostly hold a second copy of what is off-heap. They get
+ * the smaller {@code store.cache.off-heap.page-cache-spec} instead of {@code spring.cache.caffeine.spec}, unless
+ * {@code store.cache.specs} names them.
+ */
+@Configuration
+@ConditionalOnProperty(name = "store.cache.off-heap.enabled", havingValue = "true")
+public class PageResponseCacheConfig {
+
+    @Bean
+    public OffHeapSlabStore pageResponseStore(
+            @Value("${store.cache.off-heap.capacity:256MB}") DataSize capacity,
+            @Value("${store.cache.off-heap.block-size:8KB}") DataSize blockSize,
+            @Value("${store.cache.off-heap.slab-size:64MB}") DataSize slabSize) {
+        return new OffHeapSlabStore(capacity.toBytes(), (int) blockSize.toBytes(), (int) slabSize.toBytes());
+    }
+
+    @Bean
+    public FilterRegistrationBean<PageResponseFilter> pageResponseFilter(OffHeapSlabStore pageResponseStore,
+            CacheManager cacheManager,
+            @Value("${store.cache.off-heap.max-entry-size:4MB}") DataSize maxEntrySize) {
+        FilterRegistrationBean<PageResponseFilter> registration = new FilterRegistrationBean<>(
+                new PageResponseFilter(pageResponseStore, cacheManager, (int) maxEntrySize.toBytes()));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+        return registration;
+    }
+
+    @Bean
+    public CacheManagerCustomizer<CaffeineCacheManager> pageCacheSpecCustomizer(CacheSpecProperties properties,
+            @Value("${store.cache.off-heap.page-cache-spec:maximumSize=1000,expireAfterWrite=10m,recordStats}")
+            String spec) {
+        return cacheManager -> PageResponseFilter.CACHES.values().stream()
+                .filter(name -> !properties.specs().containsKey(name))
+                .forEach(name -> cacheManager.registerCustomCache(name, Caffeine.from(spec).build()));
+    }
+
+    @Bean
+    public MeterBinder pageResponseStoreMetrics(OffHeapSlabStore pageResponseStore) {
+        return registry -> {
+            Gauge.builder("store.cache.off_heap.used", pageResponseStore, OffHeapSlabStore::usedBytes)
+                    .description("Off-heap bytes taken by cached page bodies")
+                    .baseUnit("bytes")
+                    .register(registry);
+            Gauge.builder("store.cache.off_heap.capacity", pageResponseStore, OffHeapSlabStore::capacityBytes)
+                    .baseUnit("bytes")
+                    .register(registry);
+            Gauge.builder("store.cache.off_heap.entries", pageResponseStore, OffHeapSlabStore::size)
+                    .register(registry);
+            FunctionCounter.builder("store.cache.off_heap.requests", pageResponseStore, OffHeapSlabStore::hits)
+                    .tag("result", "hit")
+                    .register(registry);
+            FunctionCounter.builder("store.cache.off_heap.requests", pageResponseStore, OffHeapSlabStore::misses)
+                    .tag("result", "miss")
+                    .register(registry);
+            FunctionCounter.builder("store.cache.off_heap.evictions", pageResponseStore, OffHeapSlabStore::evictions)
+                    .register(registry);
+        };
+    }
+}
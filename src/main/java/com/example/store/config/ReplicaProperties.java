@@ -0,0 +1,26 @@
+package com.example.store.config;
+
+import com.example.store.datasource.ReplicaSelection;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * {@code store.datasource.replicas.*}. Username and password default to the primary's ({@code spring.datasource.*}).
+ * {@code primaryAfterEviction} is how long reads stay on the primary after a cache eviction arrives from another node;
+ * it should cover {@code maxLag} plus {@code checkInterval}, the most a usable replica can be behind.
+ */
+@ConfigurationProperties("store.datasource.replicas")
+public record ReplicaProperties(
+        boolean enabled,
+        @DefaultValue List<String> urls,
+        String username,
+        String password,
+        @DefaultValue("ROUND_ROBIN") ReplicaSelection selection,
+        @DefaultValue("5s") Duration maxLag,
+        @DefaultValue("5s") Duration checkInterval,
+        @DefaultValue("10") int maximumPoolSize,
+        @DefaultValue("2s") Duration connectionTimeout,
+        @DefaultValue("10s") Duration primaryAfterEviction) {}
@@ -0,0 +1,68 @@
+package com.example.store.config;
+
+import com.example.store.datasource.ReplicaDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import java.util.ArrayList;
+import java.util.List;
+import javax.sql.DataSource;
+
+/**
+ * Sends read-only transactions to read replicas. The application's {@link DataSource} becomes a
+ * {@link LazyConnectionDataSourceProxy}: it hands out a connection handle without touching a pool, and only when the
+ * first statement runs does it pick the primary or, if the transaction marked the connection read-only, the
+ * {@link ReplicaDataSource}. Spring's JPA transaction manager marks connections of
+ * {@code @Transactional(readOnly = true)} methods read-only before any statement runs.
+ *
+ * <p>Off unless {@code store.datasource.replicas.enabled=true}; without it Boot's single pool is used as before.
+ */
+@Configuration
+@EnableConfigurationProperties(ReplicaProperties.class)
+@ConditionalOnProperty(prefix = "store.datasource.replicas", name = "enabled", havingValue = "true")
+public class ReplicaRoutingConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    public ReplicaDataSource replicaDataSource(HikariDataSource primaryDataSource, DataSourceProperties primary,
+            ReplicaProperties properties) {
+        List<ReplicaDataSource.Replica> replicas = new ArrayList<>();
+        for (int i = 0; i < properties.urls().size(); i++) {
+            HikariDataSource pool = new HikariDataSource();
+            pool.setPoolName("replica-" + i);
+            pool.setJdbcUrl(properties.urls().get(i));
+            pool.setUsername(properties.username() != null ? properties.username() : primary.determineUsername());
+            pool.setPassword(properties.password() != null ? properties.password() : primary.determinePassword());
+            pool.setMaximumPoolSize(properties.maximumPoolSize());
+            pool.setConnectionTimeout(properties.connectionTimeout().toMillis());
+            pool.setReadOnly(true);
+            // Let the health check report an unreachable replica instead of failing startup.
+            pool.setInitializationFailTimeout(-1);
+            replicas.add(new ReplicaDataSource.Replica(properties.urls().get(i), pool));
+        }
+        ReplicaDataSource replicaDataSource =
+                new ReplicaDataSource(primaryDataSource, replicas, properties.selection(), properties.maxLag());
+        replicaDataSource.startHealthChecks(properties.checkInterval());
+        return replicaDataSource;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource, ReplicaDataSource replicaDataSource) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primaryDataSource);
+        dataSource.setReadOnlyDataSource(replicaDataSource);
+        return dataSource;
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.store.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.net.URI;
+import java.util.OptionalLong;
+import java.util.UUID;
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+
+/**
+ * Hibernate's second-level cache, through JCache on Caffeine. Every region in {@code store.l2-cache.regions} is
+ * created up front with its size and TTL, and Hibernate is told to fail on any other region, so no region ends up
+ * unbounded by accident. The JCache manager is private to this context rather than the provider's shared default,
+ * so two contexts in one JVM (e.g. integration tests against different databases) never see each other's entities.
+ *
+ * <p>Statistics are published as the {@code hibernate.second.level.cache.*} meters (hits, misses and puts per region)
+ * alongside Hibernate's other {@code hibernate.*} meters, bound by Boot's {@code HibernateMetricsAutoConfiguration};
+ * they need {@code hibernate.generate_statistics=true}.
+ */
+@Configuration
+@EnableConfigurationProperties(SecondLevelCacheProperties.class)
+public class SecondLevelCacheConfig {
+
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(SecondLevelCacheProperties properties) {
+        CaffeineCachingProvider provider =
+                (CaffeineCachingProvider) Caching.getCachingProvider(CaffeineCachingProvider.class.getName());
+        CacheManager cacheManager = provider.getCacheManager(
+                URI.create("store-l2:" + UUID.randomUUID()), getClass().getClassLoader());
+        properties.regions().forEach((name, region) -> {
+            CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+            configuration.setMaximumSize(OptionalLong.of(region.maximumSize()));
+            configuration.setExpireAfterWrite(OptionalLong.of(region.expireAfterWrite().toNanos()));
+            configuration.setStatisticsEnabled(true);
+            cacheManager.createCache(name, configuration);
+        });
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager hibernateCacheManager) {
+        return hibernateProperties -> {
+            hibernateProperties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+            hibernateProperties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+        };
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.store.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.Map;
+
+/** {@code store.l2-cache.*}: one entry per Hibernate second-level cache region, keyed by region name. */
+@ConfigurationProperties("store.l2-cache")
+public record SecondLevelCacheProperties(@DefaultValue Map<String, Region> regions) {
+
+    public record Region(@DefaultValue("10000") long maximumSize, @DefaultValue("1h") Duration expireAfterWrite) {}
+}
@@ -0,0 +1,44 @@
+package com.example.store.config;
+
+import com.example.store.sqlstats.SqlStatsDataSource;
+import com.example.store.sqlstats.SqlStatsFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import javax.sql.DataSource;
+
+/**
+ * Per-request SQL accounting: wraps the application's {@code dataSource} bean in a {@link SqlStatsDataSource} and
+ * registers the {@link SqlStatsFilter} that reports the counts. Only the {@code dataSource} bean is wrapped, so with
+ * read replicas enabled statements are counted once, on the routing proxy.
+ */
+@Configuration
+public class SqlStatsConfig {
+
+    @Bean
+    public static BeanPostProcessor sqlStatsDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && "dataSource".equals(beanName)) {
+                    return new SqlStatsDataSource(dataSource);
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public FilterRegistrationBean<SqlStatsFilter> sqlStatsFilter(MeterRegistry meterRegistry,
+            @Value("${store.sql.statement-budget:10}") int statementBudget) {
+        FilterRegistrationBean<SqlStatsFilter> registration =
+                new FilterRegistrationBean<>(new SqlStatsFilter(meterRegistry, statementBudget));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+}
@@ -1,9 +1,16 @@
 package com.example.store.controller;
 
+import com.example.store.dto.CursorPage;
 import com.example.store.dto.CustomerDTO;
+import com.example.store.dto.CustomerOrderDTO;
+import com.example.store.dto.CustomerSuggestionDTO;
+import com.example.store.dto.CustomerSummaryDTO;
+import com.example.store.dto.SlicePage;
 import com.example.store.dto.request.CreateCustomerRequest;
 
 import com.example.store.service.CustomerService;
+import com.example.store.service.ExportTable;
+import com.example.store.service.NdjsonExportService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 
@@ -11,8 +18,13 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.List;
 
 @RestController
 @RequestMapping("/customer")
@@ -20,6 +32,7 @@ import org.springframework.web.bind.annotation.*;
 public class CustomerController {
 
     private final CustomerService customerService;
+    private final NdjsonExportService exportService;
 
     @GetMapping
     public Page<CustomerDTO> getAllCustomers(
@@ -29,6 +42,64 @@ public class CustomerController {
         return customerService.getAllCustomers(name, pageable);
     }
 
+    @GetMapping(params = {"total=none", "!cursor"})
+    public SlicePage<CustomerDTO> getCustomersWithoutTotal(
+            @RequestParam(value = "name", required = false) String name,
+            @PageableDefault(size = 50, sort = "id", direction = Sort.Direction.DESC) Pageable pageable
+    ) {
+        return SlicePage.of(customerService.getCustomersSlice(name, pageable));
+    }
+
+    @GetMapping(params = {"total=estimate", "!cursor"})
+    public Page<CustomerDTO> getCustomersWithEstimatedTotal(
+            @RequestParam(value = "name", required = false) String name,
+            @PageableDefault(size = 50, sort = "id", direction = Sort.Direction.DESC) Pageable pageable
+    ) {
+        return customerService.getCustomersWithEstimatedTotal(name, pageable);
+    }
+
+    @GetMapping(params = "cursor")
+    public CursorPage<CustomerDTO> getCustomersByCursor(
+            @RequestParam(value = "name", required = false) String name,
+            @RequestParam(value = "cursor") String cursor,
+            @RequestParam(value = "size", defaultValue = "50") int size
+    ) {
+        return customerService.getCustomersByCursor(name, cursor, size);
+    }
+
+    @GetMapping(params = {"orders=summary", "!total", "!cursor"})
+    public Page<CustomerSummaryDTO> getCustomerSummaries(
+            @RequestParam(value = "name", required = false) String name,
+            @RequestParam(value = "latestOrders", defaultValue = "0") int latestOrders,
+            @PageableDefault(size = 50, sort = "id", direction = Sort.Direction.DESC) Pageable pageable
+    ) {
+        return customerService.getCustomerSummaries(name, latestOrders, pageable);
+    }
+
+    @GetMapping("/{id}/orders")
+    public CursorPage<CustomerOrderDTO> getCustomerOrders(
+            @PathVariable Long id,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "50") int size
+    ) {
+        return customerService.getCustomerOrders(id, cursor, size);
+    }
+
+    @GetMapping("/suggest")
+    public List<CustomerSuggestionDTO> suggestCustomers(
+            @RequestParam(value = "q") String query,
+            @RequestParam(value = "limit", defaultValue = "10") int limit
+    ) {
+        return customerService.suggestCustomers(query, limit);
+    }
+
+    @GetMapping(value = "/export", produces = "application/x-ndjson")
+    public ResponseEntity<StreamingResponseBody> exportCustomers(
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding
+    ) {
+        return NdjsonExport.response(exportService, ExportTable.CUSTOMERS, acceptEncoding);
+    }
+
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
     public CustomerDTO createCustomer(@RequestBody @Valid CreateCustomerRequest request) {
@@ -0,0 +1,34 @@
+package com.example.store.controller;
+
+import com.example.store.dto.ImportResultDTO;
+import com.example.store.service.BulkImportService;
+import com.example.store.service.ImportTable;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+
+/**
+ * Bulk loads for migrations and nightly jobs. Only registered when {@code store.import.enabled=true}.
+ */
+@RestController
+@RequestMapping("/import")
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "store.import.enabled", havingValue = "true")
+public class ImportController {
+
+    private final BulkImportService bulkImportService;
+
+    @PostMapping(value = "/{table}", consumes = "text/csv")
+    public ImportResultDTO importCsv(@PathVariable String table, HttpServletRequest request) throws IOException {
+        return bulkImportService.importCsv(ImportTable.fromPath(table), request.getInputStream());
+    }
+
+    @PostMapping(value = "/{table}", consumes = "application/x-ndjson")
+    public ImportResultDTO importNdjson(@PathVariable String table, HttpServletRequest request) throws IOException {
+        return bulkImportService.importNdjson(ImportTable.fromPath(table), request.getInputStream());
+    }
+}
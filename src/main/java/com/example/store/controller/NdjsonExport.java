@@ -0,0 +1,45 @@
+package com.example.store.controller;
+
+import com.example.store.service.ExportTable;
+import com.example.store.service.NdjsonExportService;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Builds the streamed response of the {@code /export} endpoints, gzip-compressed when the client accepts it. The
+ * export slot is taken before the response starts, so a busy server still answers with an error status.
+ */
+final class NdjsonExport {
+
+    static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
+    private NdjsonExport() {}
+
+    static ResponseEntity<StreamingResponseBody> response(NdjsonExportService exportService, ExportTable table,
+            String acceptEncoding) {
+        boolean gzip = acceptEncoding != null && acceptEncoding.toLowerCase().contains("gzip");
+        NdjsonExportService.Permit permit = exportService.acquire();
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(NDJSON)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (!gzip) {
+            return response.body(out -> {
+                try (permit) {
+                    exportService.export(table, out);
+                }
+            });
+        }
+        return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(out -> {
+            try (permit) {
+                GZIPOutputStream compressed = new GZIPOutputStream(out, 1 << 16);
+                exportService.export(table, compressed);
+                compressed.finish();
+            }
+        });
+    }
+}
@@ -1,7 +1,16 @@
 package com.example.store.controller;
 
+import com.example.store.dto.ChangeFeedDTO;
+import com.example.store.dto.CursorPage;
+import com.example.store.dto.OrderBatchDTO;
 import com.example.store.dto.OrderDTO;
+import com.example.store.dto.SlicePage;
+import com.example.store.dto.request.CreateOrderBatchRequest;
 import com.example.store.dto.request.CreateOrderRequest;
+import com.example.store.service.ChangeFeedService;
+import com.example.store.service.ExportTable;
+import com.example.store.service.NdjsonExportService;
+import com.example.store.service.OrderBatchService;
 import com.example.store.service.OrderService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -10,8 +19,12 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/order")
@@ -19,6 +32,9 @@ import org.springframework.web.bind.annotation.*;
 public class OrderController {
 
     private final OrderService orderService;
+    private final OrderBatchService orderBatchService;
+    private final NdjsonExportService exportService;
+    private final ChangeFeedService changeFeedService;
 
     @GetMapping
     public Page<OrderDTO> getAllOrders(
@@ -27,14 +43,68 @@ public class OrderController {
         return orderService.getAllOrders(pageable);
     }
 
+    @GetMapping(params = {"assembly=db", "!total", "!cursor"})
+    public ResponseEntity<byte[]> getAllOrdersAssembledByDatabase(
+            @PageableDefault(size = 50, sort = "id", direction = Sort.Direction.DESC) Pageable pageable
+    ) {
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(orderService.getOrdersJson(pageable));
+    }
+
+    @GetMapping(params = {"total=none", "!cursor"})
+    public SlicePage<OrderDTO> getOrdersWithoutTotal(
+            @PageableDefault(size = 50, sort = "id", direction = Sort.Direction.DESC) Pageable pageable
+    ) {
+        return SlicePage.of(orderService.getOrdersSlice(pageable));
+    }
+
+    @GetMapping(params = {"total=estimate", "!cursor"})
+    public Page<OrderDTO> getOrdersWithEstimatedTotal(
+            @PageableDefault(size = 50, sort = "id", direction = Sort.Direction.DESC) Pageable pageable
+    ) {
+        return orderService.getOrdersWithEstimatedTotal(pageable);
+    }
+
+    @GetMapping(params = "cursor")
+    public CursorPage<OrderDTO> getOrdersByCursor(
+            @RequestParam(value = "cursor") String cursor,
+            @RequestParam(value = "size", defaultValue = "50") int size
+    ) {
+        return orderService.getOrdersByCursor(cursor, size);
+    }
+
     @GetMapping("/{id}")
     public OrderDTO getOrderByID(@PathVariable Long id) {
         return orderService.getOrderByID(id);
     }
 
+    @GetMapping(value = "/{id}", params = "assembly=db")
+    public ResponseEntity<byte[]> getOrderAssembledByDatabase(@PathVariable Long id) {
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(orderService.getOrderJson(id));
+    }
+
+    @GetMapping("/changes")
+    public ChangeFeedDTO getChanges(
+            @RequestParam(value = "since", required = false) String since,
+            @RequestParam(value = "limit", defaultValue = "500") int limit
+    ) {
+        return changeFeedService.getChanges(since, limit);
+    }
+
+    @GetMapping(value = "/export", produces = "application/x-ndjson")
+    public ResponseEntity<StreamingResponseBody> exportOrders(
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding
+    ) {
+        return NdjsonExport.response(exportService, ExportTable.ORDERS, acceptEncoding);
+    }
+
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
     public OrderDTO createOrder(@RequestBody @Valid CreateOrderRequest request) {
         return orderService.createOrder(request);
     }
+
+    @PostMapping("/batch")
+    public OrderBatchDTO createOrders(@RequestBody @Valid CreateOrderBatchRequest request) {
+        return orderBatchService.createOrders(request.orders());
+    }
 }
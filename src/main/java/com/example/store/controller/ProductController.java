@@ -1,7 +1,11 @@
 package com.example.store.controller;
 
+import com.example.store.dto.CursorPage;
 import com.example.store.dto.ProductDTO;
+import com.example.store.dto.SlicePage;
 import com.example.store.dto.request.CreateProductRequest;
+import com.example.store.service.ExportTable;
+import com.example.store.service.NdjsonExportService;
 import com.example.store.service.ProductService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -9,8 +13,11 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequiredArgsConstructor
@@ -18,6 +25,7 @@ import org.springframework.web.bind.annotation.*;
 public class ProductController {
 
     private final ProductService productService;
+    private final NdjsonExportService exportService;
 
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
@@ -32,6 +40,35 @@ public class ProductController {
         return productService.getAllProducts(pageable);
     }
 
+    @GetMapping(params = {"total=none", "!cursor"})
+    public SlicePage<ProductDTO> getProductsWithoutTotal(
+            @PageableDefault(size = 50, sort = "id", direction = Sort.Direction.DESC) Pageable pageable
+    ) {
+        return SlicePage.of(productService.getProductsSlice(pageable));
+    }
+
+    @GetMapping(params = {"total=estimate", "!cursor"})
+    public Page<ProductDTO> getProductsWithEstimatedTotal(
+            @PageableDefault(size = 50, sort = "id", direction = Sort.Direction.DESC) Pageable pageable
+    ) {
+        return productService.getProductsWithEstimatedTotal(pageable);
+    }
+
+    @GetMapping(params = "cursor")
+    public CursorPage<ProductDTO> getProductsByCursor(
+            @RequestParam(value = "cursor") String cursor,
+            @RequestParam(value = "size", defaultValue = "50") int size
+    ) {
+        return productService.getProductsByCursor(cursor, size);
+    }
+
+    @GetMapping(value = "/export", produces = "application/x-ndjson")
+    public ResponseEntity<StreamingResponseBody> exportProducts(
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding
+    ) {
+        return NdjsonExport.response(exportService, ExportTable.PRODUCTS, acceptEncoding);
+    }
+
     @GetMapping("/{id}")
     public ProductDTO getProductByID(@PathVariable Long id) {
         return productService.getProductByID(id);
@@ -0,0 +1,216 @@
+package com.example.store.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import java.io.Closeable;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.sql.DataSource;
+
+/**
+ * Hands out connections to read replicas, falling back to the primary when no replica is usable.
+ *
+ * <p>A replica is usable while its last health check succeeded and its replay lag was at most {@code maxLag}. A
+ * replica that fails to hand out a connection is taken out immediately; the next health check brings it back once it
+ * answers again. Used as the read-only target of the application's
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}, so only
+ * {@code @Transactional(readOnly = true)} work ever lands here.
+ *
+ * <p>{@link #usePrimaryFor} sends every read to the primary for a while. Callers that just dropped cached state for
+ * a write committed on the primary use it, so the reload that follows does not read the old row from a replica still
+ * behind that commit and keep it cached until the TTL.
+ */
+@Slf4j
+public class ReplicaDataSource extends AbstractDataSource implements Closeable {
+
+    /** Replay lag in milliseconds; zero on a primary, or when the replica has replayed everything it received. */
+    static final String LAG_SQL = "SELECT CASE WHEN NOT pg_is_in_recovery() "
+            + "OR pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 "
+            + "ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000, 0)::bigint END";
+
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final ReplicaSelection selection;
+    private final long maxLagMillis;
+    private final AtomicInteger next = new AtomicInteger();
+    private final AtomicLong primaryUntilNanos = new AtomicLong(System.nanoTime());
+    private ScheduledExecutorService healthChecks;
+
+    public ReplicaDataSource(DataSource primary, List<Replica> replicas, ReplicaSelection selection, Duration maxLag) {
+        this.primary = primary;
+        this.replicas = List.copyOf(replicas);
+        this.selection = selection;
+        this.maxLagMillis = maxLag.toMillis();
+    }
+
+    /** Runs {@link #checkReplicas()} now and then every {@code interval} on a daemon thread. */
+    public void startHealthChecks(Duration interval) {
+        checkReplicas();
+        healthChecks = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-health-check");
+            thread.setDaemon(true);
+            return thread;
+        });
+        healthChecks.scheduleWithFixedDelay(this::checkReplicas, interval.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    public void checkReplicas() {
+        for (Replica replica : replicas) {
+            try (Connection connection = replica.dataSource().getConnection();
+                    Statement statement = connection.createStatement();
+                    ResultSet rs = statement.executeQuery(LAG_SQL)) {
+                rs.next();
+                long lagMillis = rs.getLong(1);
+                if (lagMillis > maxLagMillis) {
+                    replica.markDown("replay lag " + lagMillis + " ms exceeds " + maxLagMillis + " ms");
+                } else {
+                    replica.markUp();
+                }
+            } catch (SQLException e) {
+                replica.markDown(e.getMessage());
+            }
+        }
+    }
+
+    /** Reads go to the primary for the next {@code window}, or longer if an earlier call asked for longer. */
+    public void usePrimaryFor(Duration window) {
+        long until = System.nanoTime() + window.toNanos();
+        primaryUntilNanos.accumulateAndGet(until, (current, requested) -> requested - current > 0 ? requested : current);
+    }
+
+    boolean primaryPinned() {
+        return primaryUntilNanos.get() - System.nanoTime() > 0;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (primaryPinned()) {
+            return primary.getConnection();
+        }
+        for (Replica replica : candidates()) {
+            try {
+                return replica.dataSource().getConnection();
+            } catch (SQLException e) {
+                replica.markDown(e.getMessage());
+            }
+        }
+        return primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        if (primaryPinned()) {
+            return primary.getConnection(username, password);
+        }
+        for (Replica replica : candidates()) {
+            try {
+                return replica.dataSource().getConnection(username, password);
+            } catch (SQLException e) {
+                replica.markDown(e.getMessage());
+            }
+        }
+        return primary.getConnection(username, password);
+    }
+
+    /** Usable replicas, in the order they should be tried. */
+    List<Replica> candidates() {
+        List<Replica> usable = new ArrayList<>(replicas.size());
+        for (Replica replica : replicas) {
+            if (replica.isUp()) {
+                usable.add(replica);
+            }
+        }
+        if (usable.size() > 1) {
+            if (selection == ReplicaSelection.LEAST_CONNECTIONS) {
+                usable.sort(Comparator.comparingInt(Replica::activeConnections));
+            } else {
+                int start = Math.floorMod(next.getAndIncrement(), usable.size());
+                List<Replica> rotated = new ArrayList<>(usable.subList(start, usable.size()));
+                rotated.addAll(usable.subList(0, start));
+                usable = rotated;
+            }
+        }
+        return usable;
+    }
+
+    public List<Replica> getReplicas() {
+        return replicas;
+    }
+
+    @Override
+    public void close() {
+        if (healthChecks != null) {
+            healthChecks.shutdownNow();
+        }
+        for (Replica replica : replicas) {
+            if (replica.dataSource() instanceof Closeable closeable) {
+                try {
+                    closeable.close();
+                } catch (Exception e) {
+                    log.warn("Closing replica {} failed", replica.name(), e);
+                }
+            }
+        }
+    }
+
+    /** One replica's pool and its last known state. Replicas start out usable until a check says otherwise. */
+    public static class Replica {
+
+        private final String name;
+        private final DataSource dataSource;
+        private volatile boolean up = true;
+
+        public Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+
+        public String name() {
+            return name;
+        }
+
+        public DataSource dataSource() {
+            return dataSource;
+        }
+
+        public boolean isUp() {
+            return up;
+        }
+
+        int activeConnections() {
+            if (dataSource instanceof HikariDataSource hikari) {
+                HikariPoolMXBean pool = hikari.getHikariPoolMXBean();
+                return pool != null ? pool.getActiveConnections() : 0;
+            }
+            return 0;
+        }
+
+        void markUp() {
+            if (!up) {
+                log.info("Replica {} is back in rotation", name);
+            }
+            up = true;
+        }
+
+        void markDown(String reason) {
+            if (up) {
+                log.warn("Replica {} taken out of rotation: {}", name, reason);
+            }
+            up = false;
+        }
+    }
+}
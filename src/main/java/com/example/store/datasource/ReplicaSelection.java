@@ -0,0 +1,9 @@
+package com.example.store.datasource;
+
+/** How {@link ReplicaDataSource} picks among the healthy replicas. */
+public enum ReplicaSelection {
+    /** Rotate through the replicas, one connection each. */
+    ROUND_ROBIN,
+    /** Prefer the replica whose pool has the fewest connections in use. */
+    LEAST_CONNECTIONS
+}
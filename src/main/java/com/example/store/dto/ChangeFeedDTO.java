@@ -0,0 +1,10 @@
+package com.example.store.dto;
+
+import java.util.List;
+
+/**
+ * Customers, products and orders created after the request's {@code since} token. Pass {@code next} as {@code since}
+ * on the following poll; {@code hasMore} means the limit was reached and the next poll can follow immediately.
+ */
+public record ChangeFeedDTO(List<OrderCustomerDTO> customers, List<OrderProductDTO> products, List<OrderDTO> orders,
+        String next, boolean hasMore) {}
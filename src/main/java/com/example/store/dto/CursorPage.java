@@ -0,0 +1,29 @@
+package com.example.store.dto;
+
+import com.example.store.pagination.CursorCodec;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+/**
+ * Keyset-paged response. {@code nextCursor} is {@code null} on the last page.
+ */
+public record CursorPage<T>(List<T> content, int size, String nextCursor) {
+
+    public static final int MAX_SIZE = 2000;
+
+    public static int clampSize(int size) {
+        return Math.max(1, Math.min(size, MAX_SIZE));
+    }
+
+    /**
+     * Builds a page from {@code size + 1} fetched rows; the extra row only signals that another page exists.
+     */
+    public static <E, T> CursorPage<T> of(List<E> rows, int size, ToLongFunction<E> idOf, Function<E, T> mapper) {
+        boolean hasNext = rows.size() > size;
+        List<E> pageRows = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext ? CursorCodec.encode(idOf.applyAsLong(pageRows.get(pageRows.size() - 1))) : null;
+        return new CursorPage<>(pageRows.stream().map(mapper).toList(), size, nextCursor);
+    }
+}
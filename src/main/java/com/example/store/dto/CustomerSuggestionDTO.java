@@ -0,0 +1,13 @@
+package com.example.store.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CustomerSuggestionDTO {
+    private Long id;
+    private String name;
+}
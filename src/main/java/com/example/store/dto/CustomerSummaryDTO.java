@@ -0,0 +1,13 @@
+package com.example.store.dto;
+
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class CustomerSummaryDTO {
+    private Long id;
+    private String name;
+    private Long orderCount;
+    private List<CustomerOrderDTO> orders;
+}
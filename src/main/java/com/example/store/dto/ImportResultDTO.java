@@ -0,0 +1,4 @@
+package com.example.store.dto;
+
+public record ImportResultDTO(String table, long rows, long millis) {
+}
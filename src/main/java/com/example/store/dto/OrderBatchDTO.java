@@ -0,0 +1,11 @@
+package com.example.store.dto;
+
+import java.util.List;
+
+public record OrderBatchDTO(int created, int rejected, List<OrderBatchResultDTO> results) {
+
+    public static OrderBatchDTO of(List<OrderBatchResultDTO> results) {
+        int created = (int) results.stream().filter(result -> result.status() == OrderBatchResultDTO.Status.CREATED).count();
+        return new OrderBatchDTO(created, results.size() - created, results);
+    }
+}
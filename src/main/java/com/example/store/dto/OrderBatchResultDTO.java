@@ -0,0 +1,18 @@
+package com.example.store.dto;
+
+/**
+ * Outcome of one item of a batch, in request order. {@code orderId} is set for created orders, {@code error} for
+ * rejected ones.
+ */
+public record OrderBatchResultDTO(int index, Status status, Long orderId, String error) {
+
+    public enum Status { CREATED, REJECTED }
+
+    public static OrderBatchResultDTO created(int index, Long orderId) {
+        return new OrderBatchResultDTO(index, Status.CREATED, orderId, null);
+    }
+
+    public static OrderBatchResultDTO rejected(int index, String error) {
+        return new OrderBatchResultDTO(index, Status.REJECTED, null, error);
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.store.dto;
+
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+
+/**
+ * Count-free page response: clients learn whether another page exists without the server running a count query.
+ */
+public record SlicePage<T>(List<T> content, int number, int size, boolean hasNext) {
+
+    public static <T> SlicePage<T> of(Slice<T> slice) {
+        return new SlicePage<>(slice.getContent(), slice.getNumber(), slice.getSize(), slice.hasNext());
+    }
+}
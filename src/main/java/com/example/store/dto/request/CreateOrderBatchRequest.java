@@ -0,0 +1,16 @@
+package com.example.store.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * Items are validated one by one when the batch is processed, so an invalid item is reported in the results instead
+ * of rejecting the whole batch.
+ */
+public record CreateOrderBatchRequest(
+        @NotEmpty @Size(max = CreateOrderBatchRequest.MAX_ORDERS) List<CreateOrderRequest> orders
+) {
+    public static final int MAX_ORDERS = 5000;
+}
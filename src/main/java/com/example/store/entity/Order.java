@@ -11,6 +11,8 @@ import java.util.ArrayList;
 import java.util.List;
 
 import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
 @Data
@@ -20,7 +22,8 @@ import org.hibernate.annotations.BatchSize;
 @Table(name = "\"order\"")
 public class Order {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "order_id_seq")
+    @SequenceGenerator(name = "order_id_seq", sequenceName = "order_id_seq", allocationSize = 50)
     private Long id;
 
     private String description;
@@ -36,6 +39,7 @@ public class Order {
             inverseJoinColumns = @JoinColumn(name = "product_id")
     )
     @BatchSize(size = 50)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "order-products")
     @Builder.Default
     private List<Product> products = new ArrayList<>();
 }
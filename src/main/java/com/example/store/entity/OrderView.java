@@ -0,0 +1,48 @@
+package com.example.store.entity;
+
+import com.example.store.dto.OrderDTO;
+import jakarta.persistence.*;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+import org.springframework.data.domain.Persistable;
+
+/**
+ * Read model of an {@link Order}: the finished {@link OrderDTO} as JSONB, keyed by the order id. Written together with
+ * the order, so reads are a single primary-key lookup with no joins. Implements {@link Persistable} so a new view is
+ * inserted directly instead of being merged (select, then insert).
+ */
+@Entity
+@Data
+@NoArgsConstructor
+@Table(name = "order_view")
+public class OrderView implements Persistable<Long> {
+    @Id
+    private Long id;
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    private OrderDTO payload;
+
+    @Transient
+    private boolean isNew;
+
+    public OrderView(OrderDTO payload) {
+        this.id = payload.getId();
+        this.payload = payload;
+        this.isNew = true;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        isNew = false;
+    }
+}
@@ -15,6 +15,9 @@ public interface ProductMapper {
     @Mapping(target = "orders", expression = "java(mapOrderIds(product.getOrders()))")
     ProductDTO productToProductDTO(Product product);
 
+    @Mapping(target = "orders", ignore = true)
+    ProductDTO productToProductDTOWithoutOrders(Product product);
+
     default List<Long> mapOrderIds(List<Order> orders) {
         if (orders == null) {
             return List.of();
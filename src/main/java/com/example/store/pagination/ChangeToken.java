@@ -0,0 +1,53 @@
+package com.example.store.pagination;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Position in the change feed: the creating transaction id ({@code xid8}) of the last row delivered, then its kind and
+ * id as tie-breakers, since one transaction can create many rows. Encoded as an opaque, URL-safe token like
+ * {@link CursorCodec}.
+ */
+public record ChangeToken(long xid, int kind, long id) {
+
+    /** Before every row. */
+    public static final ChangeToken START = new ChangeToken(0, 0, 0);
+
+    private static final String PREFIX = "xid:";
+
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((PREFIX + xid + ":" + kind + ":" + id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @return the position to continue after, or {@link #START} when the token is blank
+     */
+    public static ChangeToken decode(String token) {
+        if (token == null || token.isBlank()) {
+            return START;
+        }
+        String decoded;
+        try {
+            decoded = new String(Base64.getUrlDecoder().decode(token.trim()), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw invalidToken(token);
+        }
+        String[] parts = decoded.startsWith(PREFIX) ? decoded.substring(PREFIX.length()).split(":") : new String[0];
+        if (parts.length != 3) {
+            throw invalidToken(token);
+        }
+        try {
+            return new ChangeToken(Long.parseLong(parts[0]), Integer.parseInt(parts[1]), Long.parseLong(parts[2]));
+        } catch (NumberFormatException e) {
+            throw invalidToken(token);
+        }
+    }
+
+    private static ResponseStatusException invalidToken(String token) {
+        return new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid change token " + token);
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.store.pagination;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Encodes the keyset position of the last row of a page as an opaque, URL-safe token. List endpoints are ordered by
+ * {@code id DESC}, so the id is both the sort key and the tie-breaker.
+ */
+public final class CursorCodec {
+
+    private static final String PREFIX = "id:";
+
+    private CursorCodec() {
+    }
+
+    public static String encode(long id) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((PREFIX + id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @return the id to seek past, or {@code null} when the cursor is blank (first page)
+     */
+    public static Long decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        String decoded;
+        try {
+            decoded = new String(Base64.getUrlDecoder().decode(cursor.trim()), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw invalidCursor(cursor);
+        }
+        if (!decoded.startsWith(PREFIX)) {
+            throw invalidCursor(cursor);
+        }
+        try {
+            return Long.parseLong(decoded.substring(PREFIX.length()));
+        } catch (NumberFormatException e) {
+            throw invalidCursor(cursor);
+        }
+    }
+
+    private static ResponseStatusException invalidCursor(String cursor) {
+        return new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid cursor " + cursor);
+    }
+}
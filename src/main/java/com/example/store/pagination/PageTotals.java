@@ -0,0 +1,29 @@
+package com.example.store.pagination;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Slice;
+
+/**
+ * Turns a count-free {@link Slice} into a {@link Page} whose total comes from a statistics estimate rather than a
+ * {@code count(*)}. The estimate is corrected with what the slice itself proves: the total is exact on the last page,
+ * and never lower than the rows already seen when a next page exists.
+ */
+public final class PageTotals {
+
+    private PageTotals() {
+    }
+
+    public static <T> Page<T> withEstimatedTotal(Slice<T> slice, long estimate) {
+        long seen = slice.getPageable().getOffset() + slice.getNumberOfElements();
+        long total;
+        if (slice.hasNext()) {
+            total = Math.max(estimate, seen + 1);
+        } else if (slice.hasContent()) {
+            total = seen;
+        } else {
+            total = Math.max(0, Math.min(estimate, slice.getPageable().getOffset()));
+        }
+        return new PageImpl<>(slice.getContent(), slice.getPageable(), total);
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.store.repository;
+
+import com.example.store.pagination.ChangeToken;
+import com.example.store.repository.projection.ChangeRow;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Reads customers, products and orders in creation order, keyed by {@code (created_xid, kind, id)}.
+ *
+ * <p>Only rows whose transaction is below the snapshot's {@code xmin} are returned. Every transaction below
+ * {@code xmin} has finished, so no later commit can insert a row behind a position already handed out. Transaction
+ * ids are assigned at start, not at commit, so a plain id or sequence watermark could skip such rows. The price is
+ * that a long-running writer holds the feed back until it ends.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ChangeFeedRepository {
+
+    private static final String WATERMARK = "pg_snapshot_xmin(pg_current_snapshot())";
+
+    private static final String CHANGES_SQL = "SELECT kind, CAST(xid AS text), id, label, payload FROM ("
+            + "(SELECT " + ChangeRow.CUSTOMER + " AS kind, c.created_xid AS xid, c.id, c.name AS label, CAST(NULL AS text) AS payload "
+            + "FROM customer c WHERE (c.created_xid, c.id) > (CAST(? AS xid8), ?) AND c.created_xid < " + WATERMARK + " "
+            + "ORDER BY c.created_xid, c.id LIMIT ?) "
+            + "UNION ALL "
+            + "(SELECT " + ChangeRow.PRODUCT + ", p.created_xid, p.id, p.description, NULL "
+            + "FROM product p WHERE (p.created_xid, p.id) > (CAST(? AS xid8), ?) AND p.created_xid < " + WATERMARK + " "
+            + "ORDER BY p.created_xid, p.id LIMIT ?) "
+            + "UNION ALL "
+            + "(SELECT " + ChangeRow.ORDER + ", o.created_xid, o.id, NULL, CAST(v.payload AS text) "
+            + "FROM \"order\" o JOIN order_view v ON v.id = o.id "
+            + "WHERE (o.created_xid, o.id) > (CAST(? AS xid8), ?) AND o.created_xid < " + WATERMARK + " "
+            + "ORDER BY o.created_xid, o.id LIMIT ?)"
+            + ") changes ORDER BY xid, kind, id LIMIT ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /** Up to {@code limit} rows after {@code after}; each table is read through its {@code (created_xid, id)} index. */
+    public List<ChangeRow> findChangesAfter(ChangeToken after, int limit) {
+        String xid = Long.toString(after.xid());
+        return jdbcTemplate.query(CHANGES_SQL,
+                (rs, rowNum) -> new ChangeRow(rs.getInt(1), Long.parseLong(rs.getString(2)), rs.getLong(3),
+                        rs.getString(4), rs.getBytes(5)),
+                xid, idAfter(after, ChangeRow.CUSTOMER), limit,
+                xid, idAfter(after, ChangeRow.PRODUCT), limit,
+                xid, idAfter(after, ChangeRow.ORDER), limit,
+                limit);
+    }
+
+    /**
+     * Turns the {@code (xid, kind, id)} position into an {@code (xid, id)} bound for one table: within the token's
+     * transaction, kinds before the token's are done, the token's kind continues after its id and later kinds start
+     * from the beginning.
+     */
+    static long idAfter(ChangeToken after, int kind) {
+        if (kind < after.kind()) {
+            return Long.MAX_VALUE;
+        }
+        return kind == after.kind() ? after.id() : 0;
+    }
+}
@@ -1,11 +1,109 @@
 package com.example.store.repository;
 
+import com.example.store.dto.CustomerSuggestionDTO;
 import com.example.store.entity.Customer;
+import com.example.store.repository.projection.CustomerOrderRow;
+import com.example.store.repository.projection.CustomerRow;
+import com.example.store.repository.projection.CustomerSummaryRow;
+import com.example.store.repository.projection.LatestOrderView;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Name searches take a lower-cased LIKE pattern (see {@code CustomerService}) matched against {@code lower(name)}, the
+ * expression covered by the {@code idx_customer_name_trgm} GIN index.
+ */
 public interface CustomerRepository extends JpaRepository<Customer, Long> {
-    Page<Customer> findByNameContainingIgnoreCase(String name, Pageable pageable);
+    @Transactional(readOnly = true)
+    @Query("select c from Customer c where lower(c.name) like :pattern escape '!' order by c.id desc")
+    List<Customer> searchLatestByName(@Param("pattern") String pattern, Limit limit);
+
+    @Query(value = "SELECT CAST(reltuples AS bigint) FROM pg_class WHERE oid = CAST('customer' AS regclass)", nativeQuery = true)
+    long estimateCount();
+
+    /** Id and name of every customer, read in fetch-size batches to load {@code CustomerNameIndex}. */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "5000"))
+    @Query("select new com.example.store.dto.CustomerSuggestionDTO(c.id, c.name) from Customer c order by c.id")
+    Stream<CustomerSuggestionDTO> streamAllNames();
+
+    /** Read-write, so the query runs on the primary: the ids were just created and a replica may not have them yet. */
+    @Transactional
+    @Query("select new com.example.store.dto.CustomerSuggestionDTO(c.id, c.name) from Customer c where c.id in :ids")
+    List<CustomerSuggestionDTO> findNamesByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Transactional
+    @Query("select new com.example.store.dto.CustomerSuggestionDTO(c.id, c.name) from Customer c where c.id > :id order by c.id")
+    List<CustomerSuggestionDTO> findNamesByIdGreaterThan(@Param("id") long id);
+
+    @Query(value = "select new com.example.store.repository.projection.CustomerRow(c.id, c.name) from Customer c",
+            countQuery = "select count(c) from Customer c")
+    Page<CustomerRow> findCustomerRows(Pageable pageable);
+
+    @Query(value = "select new com.example.store.repository.projection.CustomerRow(c.id, c.name) from Customer c where lower(c.name) like :pattern escape '!'",
+            countQuery = "select count(c) from Customer c where lower(c.name) like :pattern escape '!'")
+    Page<CustomerRow> searchRowsByName(@Param("pattern") String pattern, Pageable pageable);
+
+    @Query("select new com.example.store.repository.projection.CustomerRow(c.id, c.name) from Customer c")
+    Slice<CustomerRow> findCustomerRowSlice(Pageable pageable);
+
+    @Query("select new com.example.store.repository.projection.CustomerRow(c.id, c.name) from Customer c where lower(c.name) like :pattern escape '!'")
+    Slice<CustomerRow> searchRowSliceByName(@Param("pattern") String pattern, Pageable pageable);
+
+    @Query("select new com.example.store.repository.projection.CustomerRow(c.id, c.name) from Customer c order by c.id desc")
+    List<CustomerRow> findLatestRows(Limit limit);
+
+    @Query("select new com.example.store.repository.projection.CustomerRow(c.id, c.name) from Customer c where c.id < :id order by c.id desc")
+    List<CustomerRow> findRowsByIdLessThan(@Param("id") Long id, Limit limit);
+
+    @Query("select new com.example.store.repository.projection.CustomerRow(c.id, c.name) from Customer c where lower(c.name) like :pattern escape '!' order by c.id desc")
+    List<CustomerRow> searchLatestRowsByName(@Param("pattern") String pattern, Limit limit);
+
+    @Query("select new com.example.store.repository.projection.CustomerRow(c.id, c.name) from Customer c where lower(c.name) like :pattern escape '!' and c.id < :id order by c.id desc")
+    List<CustomerRow> searchRowsByNameAndIdLessThan(@Param("pattern") String pattern, @Param("id") Long id, Limit limit);
+
+    @Query("select new com.example.store.repository.projection.CustomerOrderRow(o.customer.id, o.id, o.description) from Order o where o.customer.id in :customerIds order by o.id")
+    List<CustomerOrderRow> findOrderRowsByCustomerIds(@Param("customerIds") Collection<Long> customerIds);
+
+    @Query(value = "select new com.example.store.repository.projection.CustomerSummaryRow(c.id, c.name, (select count(o) from Order o where o.customer = c)) from Customer c",
+            countQuery = "select count(c) from Customer c")
+    Page<CustomerSummaryRow> findCustomerSummaryRows(Pageable pageable);
+
+    @Query(value = "select new com.example.store.repository.projection.CustomerSummaryRow(c.id, c.name, (select count(o) from Order o where o.customer = c)) from Customer c where lower(c.name) like :pattern escape '!'",
+            countQuery = "select count(c) from Customer c where lower(c.name) like :pattern escape '!'")
+    Page<CustomerSummaryRow> searchSummaryRowsByName(@Param("pattern") String pattern, Pageable pageable);
+
+    /** The newest {@code latest} orders of each customer, one index range scan on (customer_id, id) per customer. */
+    @Query(value = """
+            SELECT o.customer_id AS "customerId", o.id AS "id", o.description AS "description"
+            FROM customer c
+            CROSS JOIN LATERAL (
+                SELECT customer_id, id, description FROM "order" WHERE customer_id = c.id ORDER BY id DESC LIMIT :latest
+            ) o
+            WHERE c.id IN (:customerIds)
+            ORDER BY o.customer_id, o.id DESC
+            """, nativeQuery = true)
+    List<LatestOrderView> findLatestOrders(@Param("customerIds") Collection<Long> customerIds, @Param("latest") int latest);
+
+    @Query("select new com.example.store.repository.projection.CustomerOrderRow(o.customer.id, o.id, o.description) from Order o where o.customer.id = :customerId order by o.id desc")
+    List<CustomerOrderRow> findOrderRowsByCustomerId(@Param("customerId") Long customerId, Limit limit);
+
+    @Query("select new com.example.store.repository.projection.CustomerOrderRow(o.customer.id, o.id, o.description) from Order o where o.customer.id = :customerId and o.id < :id order by o.id desc")
+    List<CustomerOrderRow> findOrderRowsByCustomerIdAndIdLessThan(@Param("customerId") Long customerId, @Param("id") Long id, Limit limit);
+
+    @Query("select c.id from Customer c where c.id in :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
 }
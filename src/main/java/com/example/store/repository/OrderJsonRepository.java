@@ -0,0 +1,50 @@
+package com.example.store.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.support.DataAccessUtils;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Lets PostgreSQL build the response JSON of the order endpoints, so a read is one round trip and the application
+ * only copies bytes: no entities, no mapper, no Jackson. The JSON has the shape Jackson gives {@code OrderDTO} and
+ * {@code Page<OrderDTO>} ({@code VIA_DTO}). {@code getBytes} on a text column returns the UTF-8 bytes as sent by the
+ * server, without decoding them into a {@code String}.
+ */
+@Repository
+@RequiredArgsConstructor
+public class OrderJsonRepository {
+
+    private static final String ORDER_JSON = "json_build_object("
+            + "'id', o.id, "
+            + "'description', o.description, "
+            + "'customer', json_build_object('id', c.id, 'name', c.name), "
+            + "'products', COALESCE((SELECT json_agg(json_build_object('id', p.id, 'description', p.description) ORDER BY p.id) "
+            + "FROM order_product op JOIN product p ON p.id = op.product_id WHERE op.order_id = o.id), CAST('[]' AS json)))";
+
+    private static final String ORDER_SQL = "SELECT CAST(" + ORDER_JSON + " AS text) "
+            + "FROM \"order\" o JOIN customer c ON c.id = o.customer_id WHERE o.id = ?";
+
+    private static final String PAGE_SQL = "SELECT CAST(json_build_object("
+            + "'content', COALESCE((SELECT json_agg(" + ORDER_JSON + " ORDER BY o.id %1$s) "
+            + "FROM (SELECT id, description, customer_id FROM \"order\" ORDER BY id %1$s LIMIT ? OFFSET ?) o "
+            + "JOIN customer c ON c.id = o.customer_id), CAST('[]' AS json)), "
+            + "'page', json_build_object('size', ?, 'number', ?, 'totalElements', total.n, "
+            + "'totalPages', CAST(ceil(total.n / CAST(? AS numeric)) AS bigint))"
+            + ") AS text) FROM (SELECT count(*) AS n FROM \"order\") total";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /** @return the order as JSON, or {@code null} if there is no such order */
+    public byte[] findOrderJson(long id) {
+        return DataAccessUtils.singleResult(jdbcTemplate.query(ORDER_SQL, (rs, rowNum) -> rs.getBytes(1), id));
+    }
+
+    /** One page ordered by id, with totals, as JSON. */
+    public byte[] findPageJson(int page, int size, Sort.Direction direction) {
+        String sql = PAGE_SQL.formatted(direction.isAscending() ? "ASC" : "DESC");
+        return jdbcTemplate.queryForObject(sql, (rs, rowNum) -> rs.getBytes(1),
+                size, (long) page * size, size, page, size);
+    }
+}
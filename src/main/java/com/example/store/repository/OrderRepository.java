@@ -1,12 +1,20 @@
 package com.example.store.repository;
 
 import com.example.store.entity.Order;
+import com.example.store.repository.projection.OrderProductRow;
+import com.example.store.repository.projection.OrderRow;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface OrderRepository extends JpaRepository<Order, Long> {
@@ -14,7 +22,29 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
     @EntityGraph(attributePaths = {"customer"})
     Page<Order> findAll(Pageable pageable);
 
+    @Query(value = "SELECT CAST(reltuples AS bigint) FROM pg_class WHERE oid = CAST('\"order\"' AS regclass)", nativeQuery = true)
+    long estimateCount();
+
+    @Query("select coalesce(max(o.id), 0) from Order o")
+    long findMaxId();
+
     @Override
     @EntityGraph(attributePaths = {"customer", "products"})
     Optional<Order> findById(Long id);
+
+    @EntityGraph(attributePaths = {"customer"})
+    List<Order> findAllByOrderByIdDesc(Limit limit);
+
+    @EntityGraph(attributePaths = {"customer"})
+    List<Order> findByIdLessThanOrderByIdDesc(Long id, Limit limit);
+
+    @Query(value = "select new com.example.store.repository.projection.OrderRow(o.id, o.description, c.id, c.name) from Order o join o.customer c",
+            countQuery = "select count(o) from Order o")
+    Page<OrderRow> findOrderRows(Pageable pageable);
+
+    @Query("select new com.example.store.repository.projection.OrderRow(o.id, o.description, c.id, c.name) from Order o join o.customer c")
+    Slice<OrderRow> findOrderRowSlice(Pageable pageable);
+
+    @Query("select new com.example.store.repository.projection.OrderProductRow(o.id, p.id, p.description) from Order o join o.products p where o.id in :orderIds")
+    List<OrderProductRow> findProductRowsByOrderIds(@Param("orderIds") Collection<Long> orderIds);
 }
@@ -0,0 +1,59 @@
+package com.example.store.repository;
+
+import com.example.store.entity.OrderView;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface OrderViewRepository extends JpaRepository<OrderView, Long> {
+
+    /** Builds {@code order_view} rows from the base tables; a {@code WHERE} on {@code o} and {@link #ON_CONFLICT} follow. */
+    String UPSERT_SQL = "INSERT INTO order_view (id, payload) "
+            + "SELECT o.id, jsonb_build_object("
+            + "'id', o.id, "
+            + "'description', o.description, "
+            + "'customer', jsonb_build_object('id', c.id, 'name', c.name), "
+            + "'products', COALESCE((SELECT jsonb_agg(jsonb_build_object('id', p.id, 'description', p.description) ORDER BY p.id) "
+            + "FROM order_product op JOIN product p ON p.id = op.product_id WHERE op.order_id = o.id), CAST('[]' AS jsonb))) "
+            + "FROM \"order\" o JOIN customer c ON c.id = o.customer_id ";
+    String ON_CONFLICT = " ON CONFLICT (id) DO UPDATE SET payload = EXCLUDED.payload";
+    /** Like {@link #ON_CONFLICT}, but leaves rows whose payload is already right untouched (no new row version). */
+    String ON_CONFLICT_IF_CHANGED = ON_CONFLICT + " WHERE order_view.payload IS DISTINCT FROM EXCLUDED.payload";
+
+    /** Rebuilds every row in one statement; for JDBC callers that have just bulk-loaded orders. */
+    String REFRESH_ALL_SQL = UPSERT_SQL + "WHERE true" + ON_CONFLICT;
+
+    Slice<OrderView> findSliceBy(Pageable pageable);
+
+    List<OrderView> findAllByOrderByIdDesc(Limit limit);
+
+    List<OrderView> findByIdLessThanOrderByIdDesc(Long id, Limit limit);
+
+    @Modifying(flushAutomatically = true)
+    @Query(value = UPSERT_SQL + "WHERE o.id IN (:ids)" + ON_CONFLICT, nativeQuery = true)
+    int refresh(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query(value = UPSERT_SQL + "WHERE o.id > :afterId AND o.id <= :upToId" + ON_CONFLICT_IF_CHANGED, nativeQuery = true)
+    int refreshRange(@Param("afterId") long afterId, @Param("upToId") long upToId);
+
+    @Modifying
+    @Query(value = UPSERT_SQL + "WHERE o.id IN (:ids)" + ON_CONFLICT_IF_CHANGED, nativeQuery = true)
+    int refreshIfChanged(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query(value = UPSERT_SQL + "WHERE o.customer_id IN (:customerIds)" + ON_CONFLICT_IF_CHANGED, nativeQuery = true)
+    int refreshForCustomers(@Param("customerIds") Collection<Long> customerIds);
+
+    @Modifying
+    @Query(value = UPSERT_SQL + "WHERE o.id IN (SELECT op.order_id FROM order_product op WHERE op.product_id IN (:productIds))"
+            + ON_CONFLICT_IF_CHANGED, nativeQuery = true)
+    int refreshForProducts(@Param("productIds") Collection<Long> productIds);
+}
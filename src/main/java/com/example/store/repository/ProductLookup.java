@@ -0,0 +1,12 @@
+package com.example.store.repository;
+
+import com.example.store.entity.Product;
+
+import java.util.List;
+
+/** Repository fragment overriding {@code findAllById} of {@link ProductRepository}. */
+public interface ProductLookup {
+
+    /** The products that exist among {@code ids}, in no particular order. */
+    List<Product> findAllById(Iterable<Long> ids);
+}
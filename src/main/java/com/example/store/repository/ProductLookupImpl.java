@@ -0,0 +1,33 @@
+package com.example.store.repository;
+
+import com.example.store.entity.Product;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Session;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Spring Data's {@code findAllById} runs a {@code where id in (...)} query, which always goes to the database. Hibernate's
+ * multi-load checks the persistence context and the second-level cache first and only selects the ids left over, in
+ * batches.
+ */
+@RequiredArgsConstructor
+class ProductLookupImpl implements ProductLookup {
+
+    private final EntityManager entityManager;
+
+    @Override
+    public List<Product> findAllById(Iterable<Long> ids) {
+        List<Long> idList = new ArrayList<>();
+        ids.forEach(idList::add);
+        if (idList.isEmpty()) {
+            return List.of();
+        }
+        return entityManager.unwrap(Session.class)
+                .byMultipleIds(Product.class)
+                .enableOrderedReturn(false)
+                .multiLoad(idList);
+    }
+}
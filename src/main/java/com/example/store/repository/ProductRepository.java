@@ -1,7 +1,46 @@
 package com.example.store.repository;
 
 import com.example.store.entity.Product;
+import com.example.store.repository.projection.ProductOrderIdsView;
+import com.example.store.repository.projection.ProductRow;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-public interface ProductRepository extends JpaRepository<Product, Long> {
+import java.util.Collection;
+import java.util.List;
+
+public interface ProductRepository extends JpaRepository<Product, Long>, ProductLookup {
+    @Query(value = "SELECT CAST(reltuples AS bigint) FROM pg_class WHERE oid = CAST('product' AS regclass)", nativeQuery = true)
+    long estimateCount();
+
+    List<Product> findAllByOrderByIdDesc(Limit limit);
+
+    List<Product> findByIdLessThanOrderByIdDesc(Long id, Limit limit);
+
+    @Query(value = "select new com.example.store.repository.projection.ProductRow(p.id, p.description) from Product p",
+            countQuery = "select count(p) from Product p")
+    Page<ProductRow> findProductRows(Pageable pageable);
+
+    @Query("select new com.example.store.repository.projection.ProductRow(p.id, p.description) from Product p")
+    Slice<ProductRow> findProductRowSlice(Pageable pageable);
+
+    /**
+     * Order ids for a whole page of products in one statement, read from {@code order_product} alone. Products without
+     * orders have no row.
+     */
+    @Query(value = """
+            SELECT product_id AS "productId", string_agg(CAST(order_id AS text), ',' ORDER BY order_id) AS "orderIds"
+            FROM order_product
+            WHERE product_id IN (:productIds)
+            GROUP BY product_id
+            """, nativeQuery = true)
+    List<ProductOrderIdsView> aggregateOrderIds(@Param("productIds") Collection<Long> productIds);
+
+    @Query("select p.id from Product p where p.id in :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
 }
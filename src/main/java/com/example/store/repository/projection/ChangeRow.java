@@ -0,0 +1,13 @@
+package com.example.store.repository.projection;
+
+/**
+ * One row of the change feed. {@code label} is the customer name or product description; {@code payload} is the
+ * order's {@code order_view} JSON. Kinds sort customers before products before orders, so a client applying the feed
+ * in order has an order's customer and products before the order itself.
+ */
+public record ChangeRow(int kind, long xid, long id, String label, byte[] payload) {
+
+    public static final int CUSTOMER = 0;
+    public static final int PRODUCT = 1;
+    public static final int ORDER = 2;
+}
@@ -0,0 +1,3 @@
+package com.example.store.repository.projection;
+
+public record CustomerOrderRow(Long customerId, Long orderId, String description) {}
@@ -0,0 +1,4 @@
+package com.example.store.repository.projection;
+
+/** Columns of a customer list row, selected with a JPQL constructor expression. */
+public record CustomerRow(Long id, String name) {}
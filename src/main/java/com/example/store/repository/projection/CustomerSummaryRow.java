@@ -0,0 +1,4 @@
+package com.example.store.repository.projection;
+
+/** A customer list row with its order count, computed in the same query. */
+public record CustomerSummaryRow(Long id, String name, Long orderCount) {}
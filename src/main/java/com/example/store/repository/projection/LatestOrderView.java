@@ -0,0 +1,10 @@
+package com.example.store.repository.projection;
+
+/** Row of the native latest-orders-per-customer query; getters match the quoted column aliases. */
+public interface LatestOrderView {
+    Long getCustomerId();
+
+    Long getId();
+
+    String getDescription();
+}
@@ -0,0 +1,3 @@
+package com.example.store.repository.projection;
+
+public record OrderProductRow(Long orderId, Long productId, String description) {}
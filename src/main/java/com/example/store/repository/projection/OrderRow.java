@@ -0,0 +1,4 @@
+package com.example.store.repository.projection;
+
+/** Columns of an order list row, selected with a JPQL constructor expression. */
+public record OrderRow(Long id, String description, Long customerId, String customerName) {}
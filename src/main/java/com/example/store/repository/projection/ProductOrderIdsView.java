@@ -0,0 +1,8 @@
+package com.example.store.repository.projection;
+
+/** One product's order ids, aggregated in SQL into a comma-separated list ascending by id. */
+public interface ProductOrderIdsView {
+    Long getProductId();
+
+    String getOrderIds();
+}
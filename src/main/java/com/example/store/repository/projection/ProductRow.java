@@ -0,0 +1,4 @@
+package com.example.store.repository.projection;
+
+/** Columns of a product list row, selected with a JPQL constructor expression. */
+public record ProductRow(Long id, String description) {}
@@ -0,0 +1,63 @@
+package com.example.store.seed;
+
+import liquibase.change.custom.CustomTaskChange;
+import liquibase.database.Database;
+import liquibase.database.jvm.JdbcConnection;
+import liquibase.exception.CustomChangeException;
+import liquibase.exception.ValidationErrors;
+import liquibase.resource.ResourceAccessor;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.io.IOException;
+import java.sql.SQLException;
+
+/**
+ * Liquibase {@code customChange} that seeds generated data with {@link SeedLoader}. Parameters map onto
+ * {@link SeedSpec}; unset sizes default to zero.
+ */
+@Getter
+@Setter
+public class SeedDataChange implements CustomTaskChange {
+
+    private int customers;
+    private int products;
+    private int orders;
+    private int productsPerOrder;
+    private long seed = SeedSpec.DEFAULT_SEED;
+
+    @Override
+    public void execute(Database database) throws CustomChangeException {
+        try {
+            SeedLoader.load(((JdbcConnection) database.getConnection()).getUnderlyingConnection(), spec());
+        } catch (SQLException | IOException e) {
+            throw new CustomChangeException("Seeding failed: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public String getConfirmationMessage() {
+        return "Seeded " + customers + " customers, " + products + " products and " + orders + " orders";
+    }
+
+    @Override
+    public void setUp() {}
+
+    @Override
+    public void setFileOpener(ResourceAccessor resourceAccessor) {}
+
+    @Override
+    public ValidationErrors validate(Database database) {
+        ValidationErrors errors = new ValidationErrors();
+        try {
+            spec();
+        } catch (IllegalArgumentException e) {
+            errors.addError(e.getMessage());
+        }
+        return errors;
+    }
+
+    SeedSpec spec() {
+        return new SeedSpec(customers, products, orders, productsPerOrder, seed);
+    }
+}
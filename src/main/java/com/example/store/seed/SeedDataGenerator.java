@@ -0,0 +1,142 @@
+package com.example.store.seed;
+
+import com.example.store.service.ImportTable;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Writes the rows of a {@link SeedSpec} as CSV in the column order of {@link ImportTable}, so the output can be fed
+ * straight into {@link ImportTable#copySql()}. Rows are produced one at a time and never held in memory, so a 10M
+ * order dataset costs no more heap than a 100 order one.
+ *
+ * <p>Each table draws from its own random stream derived from the seed, so tables can be generated independently and
+ * in any order without changing their content.
+ */
+public class SeedDataGenerator {
+
+    private static final String[] FIRST_NAMES = {
+        "Muriel", "Lance", "Denise", "Dianne", "Jean", "Oscar", "Priya", "Hiroshi", "Amara", "Lukas", "Sofia", "Mateo",
+        "Chloe", "Noah", "Fatima", "Ethan", "Ingrid", "Kwame", "Lena", "Rafael", "Yuki", "Olivia", "Tomasz", "Aisha",
+        "Henry", "Maya", "Diego", "Freya", "Samuel", "Nadia", "Victor", "Elena"
+    };
+    private static final String[] LAST_NAMES = {
+        "Donnelly", "Stiedemann", "Harris", "Lemke", "Daniel", "Nakamura", "Okafor", "Schmidt", "Rossi", "Garcia",
+        "Kowalski", "Patel", "Nguyen", "Johansson", "Murphy", "Dubois", "Silva", "Kim", "Novak", "Mensah", "Fischer",
+        "Moreau", "Larsen", "Chen", "Walker", "Ivanova", "Brennan", "Costa", "Haddad", "Yilmaz", "Becker", "Tanaka"
+    };
+    private static final String[] ADJECTIVES = {
+        "Handcrafted", "Awesome", "Handmade", "Sleek", "Rustic", "Intelligent", "Gorgeous", "Incredible", "Practical",
+        "Ergonomic", "Refined", "Tasty", "Licensed", "Generic", "Small", "Unbranded", "Fantastic", "Modern", "Elegant",
+        "Bespoke"
+    };
+    private static final String[] MATERIALS = {
+        "Soft", "Metal", "Frozen", "Wooden", "Concrete", "Plastic", "Cotton", "Granite", "Rubber", "Steel", "Fresh",
+        "Bronze", "Marble", "Silk", "Leather"
+    };
+    private static final String[] NOUNS = {
+        "Chair", "Fish", "Salad", "Car", "Computer", "Keyboard", "Mouse", "Bike", "Ball", "Gloves", "Pants", "Shirt",
+        "Table", "Shoes", "Hat", "Towels", "Soap", "Tuna", "Chicken", "Cheese", "Bacon", "Pizza", "Chips", "Sausages"
+    };
+
+    private final SeedSpec spec;
+
+    public SeedDataGenerator(SeedSpec spec) {
+        this.spec = spec;
+    }
+
+    /** Number of rows {@link #write} produces for {@code table}. */
+    public long rowCount(ImportTable table) {
+        return switch (table) {
+            case CUSTOMERS -> spec.customers();
+            case PRODUCTS -> spec.products();
+            case ORDERS -> spec.orders();
+            case ORDER_PRODUCTS -> (long) spec.orders() * spec.linksPerOrder();
+        };
+    }
+
+    /** Writes a header line and {@link #rowCount} rows; returns the number of rows written. */
+    public long write(ImportTable table, Writer out) throws IOException {
+        out.write(String.join(",", table.columns()));
+        out.write('\n');
+        SplittableRandom random = new SplittableRandom(spec.seed() * 31 + table.ordinal());
+        StringBuilder row = new StringBuilder(64);
+        switch (table) {
+            case CUSTOMERS -> {
+                for (int id = 1; id <= spec.customers(); id++) {
+                    row.setLength(0);
+                    row.append(id).append(',').append(pick(random, FIRST_NAMES)).append(' ').append(pick(random, LAST_NAMES));
+                    writeRow(out, row);
+                }
+            }
+            case PRODUCTS -> {
+                for (int id = 1; id <= spec.products(); id++) {
+                    row.setLength(0);
+                    row.append(id).append(',');
+                    appendProductName(row, random);
+                    writeRow(out, row);
+                }
+            }
+            case ORDERS -> {
+                for (int id = 1; id <= spec.orders(); id++) {
+                    row.setLength(0);
+                    row.append(id).append(',');
+                    appendProductName(row, random);
+                    row.append(',').append(1 + random.nextInt(spec.customers()));
+                    writeRow(out, row);
+                }
+            }
+            case ORDER_PRODUCTS -> {
+                int[] productIds = new int[spec.linksPerOrder()];
+                for (int orderId = 1; orderId <= spec.orders(); orderId++) {
+                    sampleProducts(random, productIds);
+                    for (int productId : productIds) {
+                        row.setLength(0);
+                        row.append(orderId).append(',').append(productId);
+                        writeRow(out, row);
+                    }
+                }
+            }
+        }
+        return rowCount(table);
+    }
+
+    /**
+     * Fills {@code ids} with distinct product ids in ascending order using Floyd's sampling, which needs exactly one
+     * random draw per id no matter how close {@code ids.length} is to the number of products.
+     */
+    void sampleProducts(SplittableRandom random, int[] ids) {
+        int products = spec.products();
+        int k = ids.length;
+        for (int i = 0; i < k; i++) {
+            int bound = products - k + i + 1;
+            int candidate = 1 + random.nextInt(bound);
+            ids[i] = contains(ids, i, candidate) ? bound : candidate;
+        }
+        Arrays.sort(ids);
+    }
+
+    private static boolean contains(int[] ids, int length, int value) {
+        for (int i = 0; i < length; i++) {
+            if (ids[i] == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void appendProductName(StringBuilder row, SplittableRandom random) {
+        row.append(pick(random, ADJECTIVES)).append(' ').append(pick(random, MATERIALS)).append(' ').append(pick(random, NOUNS));
+    }
+
+    private static String pick(SplittableRandom random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    private static void writeRow(Writer out, StringBuilder row) throws IOException {
+        row.append('\n');
+        out.append(row);
+    }
+}
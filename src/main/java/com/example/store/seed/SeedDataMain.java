@@ -0,0 +1,79 @@
+package com.example.store.seed;
+
+import com.example.store.service.ImportTable;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * Command line entry point behind {@code ./gradlew seedData}. Connects with the same {@code DB_URL},
+ * {@code DB_USERNAME} and {@code DB_PASSWORD} variables as the application and loads the whole dataset in one
+ * transaction.
+ *
+ * <p>Generated ids start at 1, so the target tables must be empty; {@code --truncate} empties them first.
+ */
+public final class SeedDataMain {
+
+    private SeedDataMain() {}
+
+    public static void main(String[] args) throws Exception {
+        SeedSpec spec = new SeedSpec(
+                intArg(args, "customers", 1_000),
+                intArg(args, "products", 1_000),
+                intArg(args, "orders", 100_000),
+                intArg(args, "products-per-order", 3),
+                intArg(args, "seed", (int) SeedSpec.DEFAULT_SEED));
+        boolean truncate = Arrays.asList(args).contains("--truncate");
+
+        String url = env("DB_URL", "jdbc:postgresql://localhost:5433/store");
+        try (Connection connection = DriverManager.getConnection(url, env("DB_USERNAME", "admin"), env("DB_PASSWORD", "admin"))) {
+            connection.setAutoCommit(false);
+            try {
+                if (truncate) {
+                    try (Statement statement = connection.createStatement()) {
+                        statement.execute("TRUNCATE order_view, order_product, \"order\", product, customer");
+                    }
+                } else {
+                    requireEmpty(connection);
+                }
+                long started = System.nanoTime();
+                Map<ImportTable, Long> loaded = SeedLoader.load(connection, spec);
+                connection.commit();
+                System.out.printf("Seeded %s in %d ms%n", loaded, (System.nanoTime() - started) / 1_000_000);
+            } catch (Exception e) {
+                connection.rollback();
+                throw e;
+            }
+        }
+    }
+
+    private static void requireEmpty(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement();
+                ResultSet rs = statement.executeQuery(
+                        "SELECT EXISTS (SELECT 1 FROM customer) OR EXISTS (SELECT 1 FROM product) OR EXISTS (SELECT 1 FROM \"order\")")) {
+            rs.next();
+            if (rs.getBoolean(1)) {
+                throw new IllegalStateException("Tables already contain data; rerun with --truncate to replace it");
+            }
+        }
+    }
+
+    private static String env(String name, String defaultValue) {
+        String value = System.getenv(name);
+        return value == null || value.isBlank() ? defaultValue : value;
+    }
+
+    private static int intArg(String[] args, String name, int defaultValue) {
+        String prefix = "--" + name + "=";
+        return Arrays.stream(args)
+                .filter(arg -> arg.startsWith(prefix))
+                .map(arg -> Integer.parseInt(arg.substring(prefix.length()).replace("_", "")))
+                .findFirst()
+                .orElse(defaultValue);
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.store.seed;
+
+import com.example.store.repository.OrderViewRepository;
+import com.example.store.service.ImportTable;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.PGCopyOutputStream;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Streams a generated dataset into PostgreSQL with one {@code COPY ... FROM STDIN} per table, then moves the id
+ * sequences past the loaded ids. Once changeset {@code 10-order-view} has created it, {@code order_view} is rebuilt
+ * as well. Transaction handling is left to the caller: Liquibase runs it inside the changeset's transaction,
+ * {@link SeedDataMain} commits once at the end.
+ */
+@Slf4j
+public final class SeedLoader {
+
+    private static final int WRITE_BUFFER_SIZE = 1 << 16;
+
+    private SeedLoader() {}
+
+    /** Loads every table with at least one row in dependency order; returns the rows copied per table. */
+    public static Map<ImportTable, Long> load(Connection connection, SeedSpec spec) throws SQLException, IOException {
+        SeedDataGenerator generator = new SeedDataGenerator(spec);
+        PGConnection pgConnection = connection.unwrap(PGConnection.class);
+        Map<ImportTable, Long> loaded = new LinkedHashMap<>();
+        for (ImportTable table : ImportTable.values()) {
+            if (generator.rowCount(table) == 0) {
+                continue;
+            }
+            long started = System.nanoTime();
+            long rows = copy(pgConnection, table, generator);
+            String sequenceFix = table.sequenceFixSql();
+            if (sequenceFix != null) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute(sequenceFix);
+                }
+            }
+            log.info("Seeded {} rows into {} in {} ms", rows, table.path(), (System.nanoTime() - started) / 1_000_000);
+            loaded.put(table, rows);
+        }
+        if (generator.rowCount(ImportTable.ORDERS) > 0) {
+            refreshOrderView(connection);
+        }
+        return loaded;
+    }
+
+    private static void refreshOrderView(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            try (ResultSet rs = statement.executeQuery("SELECT to_regclass('order_view') IS NOT NULL")) {
+                if (!rs.next() || !rs.getBoolean(1)) {
+                    return;
+                }
+            }
+            long started = System.nanoTime();
+            int rows = statement.executeUpdate(OrderViewRepository.REFRESH_ALL_SQL);
+            log.info("Built {} order_view rows in {} ms", rows, (System.nanoTime() - started) / 1_000_000);
+        }
+    }
+
+    private static long copy(PGConnection connection, ImportTable table, SeedDataGenerator generator)
+            throws SQLException, IOException {
+        PGCopyOutputStream copy = new PGCopyOutputStream(connection, table.copySql());
+        try {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(copy, StandardCharsets.UTF_8), WRITE_BUFFER_SIZE);
+            generator.write(table, writer);
+            writer.flush();
+            return copy.endCopy();
+        } finally {
+            if (copy.isActive()) {
+                copy.cancelCopy();
+            }
+        }
+    }
+}
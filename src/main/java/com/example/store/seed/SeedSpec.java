@@ -0,0 +1,24 @@
+package com.example.store.seed;
+
+/**
+ * Size of a generated dataset. Ids are dense: customers {@code 1..customers}, products {@code 1..products}, orders
+ * {@code 1..orders}. The same spec and seed always produce the same rows.
+ */
+public record SeedSpec(int customers, int products, int orders, int productsPerOrder, long seed) {
+
+    public static final long DEFAULT_SEED = 42L;
+
+    public SeedSpec {
+        if (customers < 0 || products < 0 || orders < 0 || productsPerOrder < 0) {
+            throw new IllegalArgumentException("Seed sizes must not be negative");
+        }
+        if (orders > 0 && customers == 0) {
+            throw new IllegalArgumentException("Orders need at least one customer");
+        }
+    }
+
+    /** Products linked to each order, capped by the number of products. */
+    public int linksPerOrder() {
+        return Math.min(productsPerOrder, products);
+    }
+}
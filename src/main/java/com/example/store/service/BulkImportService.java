@@ -0,0 +1,163 @@
+package com.example.store.service;
+
+import com.example.store.dto.ImportResultDTO;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.PGCopyOutputStream;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import javax.sql.DataSource;
+
+/**
+ * Streams rows into PostgreSQL with {@code COPY ... FROM STDIN}, bypassing JPA. Request bodies are piped through a
+ * fixed-size copy buffer, so memory use does not grow with the number of rows.
+ *
+ * <p>Each import is one transaction: the COPY and the sequence fix-up commit together or not at all. Afterwards the
+ * caches listed by {@link ImportTable#caches()} are cleared, as is Hibernate's second-level cache, which COPY bypasses.
+ * Customer imports rebuild the typeahead index, product and order imports the {@link KnownIds} filter. Imports of
+ * orders or order products are copied into a temporary staging table first and inserted from there, so that inside the
+ * same transaction only the {@code order_view} rows of the orders they touched are refreshed.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BulkImportService {
+
+    private final DataSource dataSource;
+    private final CacheManager cacheManager;
+    private final CustomerNameIndex customerNameIndex;
+    private final ObjectMapper objectMapper;
+    private final EntityManagerFactory entityManagerFactory;
+    private final KnownIds knownIds;
+
+    /** CSV with a header line and the columns of {@link ImportTable#columns()}, in that order. */
+    public ImportResultDTO importCsv(ImportTable table, InputStream csv) {
+        return importRows(table, out -> csv.transferTo(out));
+    }
+
+    /** One JSON object per line, keyed by the column names of {@link ImportTable#columns()}. */
+    public ImportResultDTO importNdjson(ImportTable table, InputStream ndjson) {
+        return importRows(table, out -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+            writer.write(String.join(",", table.columns()));
+            writer.write('\n');
+            try (MappingIterator<JsonNode> rows = objectMapper.readerFor(JsonNode.class).readValues(ndjson)) {
+                while (rows.hasNextValue()) {
+                    writeCsvRow(writer, table, rows.nextValue());
+                }
+            }
+            writer.flush();
+        });
+    }
+
+    private ImportResultDTO importRows(ImportTable table, CopyBody body) {
+        long started = System.nanoTime();
+        long rows;
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            try {
+                boolean staged = table.feedsOrderView();
+                if (staged) {
+                    try (Statement statement = connection.createStatement()) {
+                        statement.execute(table.createStagingSql());
+                    }
+                }
+                PGCopyOutputStream copy = new PGCopyOutputStream(connection.unwrap(PGConnection.class),
+                        staged ? table.stagingCopySql() : table.copySql());
+                try {
+                    body.writeTo(copy);
+                    rows = copy.endCopy();
+                } finally {
+                    if (copy.isActive()) {
+                        copy.cancelCopy();
+                    }
+                }
+                try (Statement statement = connection.createStatement()) {
+                    if (staged) {
+                        statement.execute(table.insertStagedSql());
+                    }
+                    String sequenceFix = table.sequenceFixSql();
+                    if (sequenceFix != null) {
+                        statement.execute(sequenceFix);
+                    }
+                    if (staged) {
+                        statement.execute(table.refreshStagedOrdersSql());
+                    }
+                }
+                connection.commit();
+            } catch (SQLException | IOException | RuntimeException e) {
+                connection.rollback();
+                throw e;
+            }
+        } catch (SQLException | IOException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Import into " + table.path() + " failed: " + e.getMessage(), e);
+        }
+
+        evictCaches(table);
+        if (table == ImportTable.CUSTOMERS) {
+            customerNameIndex.rebuild();
+        } else if (table == ImportTable.PRODUCTS) {
+            knownIds.rebuild(KnownIds.Kind.PRODUCT);
+        } else if (table == ImportTable.ORDERS) {
+            knownIds.rebuild(KnownIds.Kind.ORDER);
+        }
+        long millis = (System.nanoTime() - started) / 1_000_000;
+        log.info("Imported {} rows into {} in {} ms", rows, table.path(), millis);
+        return new ImportResultDTO(table.path(), rows, millis);
+    }
+
+    private void evictCaches(ImportTable table) {
+        entityManagerFactory.getCache().evictAll();
+        for (String name : table.caches()) {
+            Cache cache = cacheManager.getCache(name);
+            if (cache != null) {
+                cache.clear();
+            }
+        }
+    }
+
+    private static void writeCsvRow(Writer writer, ImportTable table, JsonNode row) throws IOException {
+        boolean first = true;
+        for (String column : table.columns()) {
+            if (!first) {
+                writer.write(',');
+            }
+            first = false;
+            JsonNode value = row.get(column);
+            if (value != null && !value.isNull()) {
+                writeCsvValue(writer, value.asText());
+            }
+        }
+        writer.write('\n');
+    }
+
+    /** Quotes every non-null value, so an empty string stays distinct from NULL (an unquoted empty field). */
+    static void writeCsvValue(Writer writer, String value) throws IOException {
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    @FunctionalInterface
+    private interface CopyBody {
+        void writeTo(PGCopyOutputStream out) throws IOException;
+    }
+}
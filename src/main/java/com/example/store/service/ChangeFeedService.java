@@ -0,0 +1,80 @@
+package com.example.store.service;
+
+import com.example.store.dto.ChangeFeedDTO;
+import com.example.store.dto.CursorPage;
+import com.example.store.dto.OrderCustomerDTO;
+import com.example.store.dto.OrderDTO;
+import com.example.store.dto.OrderProductDTO;
+import com.example.store.pagination.ChangeToken;
+import com.example.store.repository.ChangeFeedRepository;
+import com.example.store.repository.projection.ChangeRow;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Delta sync for polling clients: everything created after a {@link ChangeToken}, oldest first, in one query. Only
+ * creations are reported; later edits to existing rows are not.
+ */
+@Service
+@RequiredArgsConstructor
+public class ChangeFeedService {
+
+    private final ChangeFeedRepository changeFeedRepository;
+    private final ObjectMapper objectMapper;
+
+    @Transactional(readOnly = true)
+    public ChangeFeedDTO getChanges(String since, int limit) {
+        int pageSize = CursorPage.clampSize(limit);
+        ChangeToken after = ChangeToken.decode(since);
+        List<ChangeRow> rows = changeFeedRepository.findChangesAfter(after, pageSize + 1);
+        boolean hasMore = rows.size() > pageSize;
+        List<ChangeRow> pageRows = hasMore ? rows.subList(0, pageSize) : rows;
+
+        List<OrderCustomerDTO> customers = new ArrayList<>();
+        List<OrderProductDTO> products = new ArrayList<>();
+        List<OrderDTO> orders = new ArrayList<>();
+        for (ChangeRow row : pageRows) {
+            switch (row.kind()) {
+                case ChangeRow.CUSTOMER -> customers.add(toCustomer(row));
+                case ChangeRow.PRODUCT -> products.add(toProduct(row));
+                case ChangeRow.ORDER -> orders.add(toOrder(row));
+                default -> throw new IllegalStateException("Unknown change kind " + row.kind());
+            }
+        }
+        ChangeToken next = pageRows.isEmpty() ? after : position(pageRows.get(pageRows.size() - 1));
+        return new ChangeFeedDTO(customers, products, orders, next.encode(), hasMore);
+    }
+
+    private static ChangeToken position(ChangeRow row) {
+        return new ChangeToken(row.xid(), row.kind(), row.id());
+    }
+
+    private static OrderCustomerDTO toCustomer(ChangeRow row) {
+        OrderCustomerDTO customer = new OrderCustomerDTO();
+        customer.setId(row.id());
+        customer.setName(row.label());
+        return customer;
+    }
+
+    private static OrderProductDTO toProduct(ChangeRow row) {
+        OrderProductDTO product = new OrderProductDTO();
+        product.setId(row.id());
+        product.setDescription(row.label());
+        return product;
+    }
+
+    private OrderDTO toOrder(ChangeRow row) {
+        try {
+            return objectMapper.readValue(row.payload(), OrderDTO.class);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unreadable order_view payload of order " + row.id(), e);
+        }
+    }
+}
@@ -0,0 +1,320 @@
+package com.example.store.service;
+
+import com.example.store.cache.CacheInvalidationBus;
+import com.example.store.cache.InvalidationMessage;
+import com.example.store.dto.CustomerSuggestionDTO;
+import com.example.store.repository.CustomerRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * In-memory trigram index over customer names for typeahead.
+ *
+ * <p>Each word of a name is padded the way {@code pg_trgm} does it ({@code "  word "}) and split into trigrams; every
+ * trigram maps to a sorted {@code long[]} posting list of customer ids. Query terms of three or more characters match
+ * anywhere inside a word, shorter terms match word prefixes. Candidates from the posting-list intersection are checked
+ * against the name before they are returned, newest customers first.
+ *
+ * <p>The index is loaded once the application is ready and kept current by {@link CustomerService#createCustomer}.
+ * Until the first load completes {@link #isReady()} is false and callers fall back to the database.
+ *
+ * <p>{@link #created} also evicts the new id from {@code customersPage} ({@link InvalidationMessage.RowIds}) through
+ * the {@link CacheManager}; with {@link CacheInvalidationBus} every node's listener reads the names of ids it has not
+ * indexed yet. A clear of {@code customersPage}, which follows every create and every bus reconnect, reads the
+ * customers above the highest indexed id, so creates whose messages were lost are picked up as well.
+ */
+@Slf4j
+@Component
+public class CustomerNameIndex {
+
+    static final String PAGE_CACHE = "customersPage";
+
+    private final CustomerRepository customerRepository;
+    private final CacheManager cacheManager;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private Index index = new Index();
+    private List<CustomerSuggestionDTO> addedDuringRebuild;
+    private volatile boolean ready;
+
+    public CustomerNameIndex(CustomerRepository customerRepository, CacheManager cacheManager,
+            ObjectProvider<CacheInvalidationBus> bus) {
+        this.customerRepository = customerRepository;
+        this.cacheManager = cacheManager;
+        bus.ifAvailable(b -> b.addListener(this::onInvalidation));
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        long started = System.nanoTime();
+        lock.writeLock().lock();
+        try {
+            addedDuringRebuild = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Index fresh = new Index();
+        try (Stream<CustomerSuggestionDTO> customers = customerRepository.streamAllNames()) {
+            customers.forEach(customer -> fresh.add(customer.getId(), customer.getName()));
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                addedDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+
+        lock.writeLock().lock();
+        try {
+            addedDuringRebuild.forEach(customer -> fresh.add(customer.getId(), customer.getName()));
+            addedDuringRebuild = null;
+            index = fresh;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Indexed {} customer names ({} trigrams) in {} ms",
+                fresh.size, fresh.postings.size(), (System.nanoTime() - started) / 1_000_000);
+    }
+
+    public void add(long id, String name) {
+        lock.writeLock().lock();
+        try {
+            index.add(id, name);
+            if (addedDuringRebuild != null) {
+                addedDuringRebuild.add(new CustomerSuggestionDTO(id, name));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** A customer was just created on this node; other nodes index it when the eviction reaches them. */
+    public void created(long id, String name) {
+        add(id, name);
+        Cache pages = cacheManager.getCache(PAGE_CACHE);
+        if (pages != null) {
+            // No page holds the new row yet; a BroadcastingCache sends the id on for the other nodes' indexes.
+            pages.evict(new InvalidationMessage.RowIds(Set.of(id)));
+        }
+    }
+
+    public List<CustomerSuggestionDTO> search(String query, int limit) {
+        List<String> terms = words(query);
+        if (terms.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            return index.search(terms, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void onInvalidation(InvalidationMessage message) {
+        if (!PAGE_CACHE.equals(message.cacheName())) {
+            return;
+        }
+        try {
+            if (message.isClear()) {
+                // Until the first load the whole table is read anyway.
+                if (ready) {
+                    customerRepository.findNamesByIdGreaterThan(maxId())
+                            .forEach(customer -> add(customer.getId(), customer.getName()));
+                }
+            } else if (message.key() instanceof InvalidationMessage.RowIds rows) {
+                List<Long> unknown = rows.ids().stream().filter(id -> !contains(id)).toList();
+                if (!unknown.isEmpty()) {
+                    customerRepository.findNamesByIdIn(unknown)
+                            .forEach(customer -> add(customer.getId(), customer.getName()));
+                }
+            }
+        } catch (RuntimeException e) {
+            log.warn("Could not index customers created on another node", e);
+        }
+    }
+
+    private boolean contains(long id) {
+        lock.readLock().lock();
+        try {
+            return index.nameOf(id) != null;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private long maxId() {
+        lock.readLock().lock();
+        try {
+            return index.size == 0 ? 0 : index.ids[index.size - 1];
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    static List<String> words(String text) {
+        if (text == null) {
+            return List.of();
+        }
+        return Arrays.stream(text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+"))
+                .filter(word -> !word.isEmpty())
+                .toList();
+    }
+
+    private static long trigram(char a, char b, char c) {
+        return ((long) a << 32) | ((long) b << 16) | c;
+    }
+
+    private static final class Index {
+        private final Map<Long, Postings> postings = new HashMap<>();
+        private long[] ids = new long[1024];
+        private String[] names = new String[1024];
+        private int size;
+
+        void add(long id, String name) {
+            if (!putName(id, name)) {
+                return;
+            }
+            for (String word : words(name)) {
+                String padded = "  " + word + " ";
+                for (int i = 0; i + 3 <= padded.length(); i++) {
+                    long key = trigram(padded.charAt(i), padded.charAt(i + 1), padded.charAt(i + 2));
+                    postings.computeIfAbsent(key, k -> new Postings()).add(id);
+                }
+            }
+        }
+
+        List<CustomerSuggestionDTO> search(List<String> terms, int limit) {
+            List<Postings> lists = new ArrayList<>();
+            for (String term : terms) {
+                for (long key : queryTrigrams(term)) {
+                    Postings list = postings.get(key);
+                    if (list == null) {
+                        return List.of();
+                    }
+                    lists.add(list);
+                }
+            }
+            lists.sort(Comparator.comparingInt(list -> list.size));
+            Postings smallest = lists.get(0);
+            String phrase = String.join(" ", terms);
+
+            List<CustomerSuggestionDTO> matches = new ArrayList<>(Math.min(limit, 64));
+            for (int i = smallest.size - 1; i >= 0 && matches.size() < limit; i--) {
+                long id = smallest.ids[i];
+                if (!containsAll(lists, id)) {
+                    continue;
+                }
+                String name = nameOf(id);
+                if (name != null && String.join(" ", words(name)).contains(phrase)) {
+                    matches.add(new CustomerSuggestionDTO(id, name));
+                }
+            }
+            return matches;
+        }
+
+        private static long[] queryTrigrams(String term) {
+            if (term.length() < 3) {
+                String padded = term.length() == 1 ? "  " + term : " " + term;
+                return new long[] {trigram(padded.charAt(0), padded.charAt(1), padded.charAt(2))};
+            }
+            long[] keys = new long[term.length() - 2];
+            for (int i = 0; i < keys.length; i++) {
+                keys[i] = trigram(term.charAt(i), term.charAt(i + 1), term.charAt(i + 2));
+            }
+            return keys;
+        }
+
+        private static boolean containsAll(List<Postings> lists, long id) {
+            for (int i = 1; i < lists.size(); i++) {
+                if (!lists.get(i).contains(id)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private boolean putName(long id, String name) {
+            int pos = Arrays.binarySearch(ids, 0, size, id);
+            if (pos >= 0) {
+                return false;
+            }
+            int insertAt = -pos - 1;
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+                names = Arrays.copyOf(names, size * 2);
+            }
+            System.arraycopy(ids, insertAt, ids, insertAt + 1, size - insertAt);
+            System.arraycopy(names, insertAt, names, insertAt + 1, size - insertAt);
+            ids[insertAt] = id;
+            names[insertAt] = name;
+            size++;
+            return true;
+        }
+
+        private String nameOf(long id) {
+            int pos = Arrays.binarySearch(ids, 0, size, id);
+            return pos >= 0 ? names[pos] : null;
+        }
+    }
+
+    /**
+     * Sorted, de-duplicated customer ids. Ids arrive in ascending order both from the startup scan and from new
+     * customers, so {@link #add} is almost always an append.
+     */
+    private static final class Postings {
+        private long[] ids = new long[4];
+        private int size;
+
+        void add(long id) {
+            if (size > 0 && ids[size - 1] >= id) {
+                int pos = Arrays.binarySearch(ids, 0, size, id);
+                if (pos >= 0) {
+                    return;
+                }
+                insert(-pos - 1, id);
+                return;
+            }
+            insert(size, id);
+        }
+
+        boolean contains(long id) {
+            return Arrays.binarySearch(ids, 0, size, id) >= 0;
+        }
+
+        private void insert(int at, long id) {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size + (size >> 1) + 1);
+            }
+            System.arraycopy(ids, at, ids, at + 1, size - at);
+            ids[at] = id;
+            size++;
+        }
+    }
+}
@@ -1,40 +1,220 @@
 package com.example.store.service;
 
+import com.example.store.dto.CursorPage;
 import com.example.store.dto.CustomerDTO;
+import com.example.store.dto.CustomerOrderDTO;
+import com.example.store.dto.CustomerSuggestionDTO;
+import com.example.store.dto.CustomerSummaryDTO;
 import com.example.store.entity.Customer;
 import com.example.store.mapper.CustomerMapper;
+import com.example.store.pagination.CursorCodec;
+import com.example.store.pagination.PageTotals;
 import com.example.store.repository.CustomerRepository;
+import com.example.store.repository.projection.CustomerOrderRow;
+import com.example.store.repository.projection.CustomerRow;
+import com.example.store.repository.projection.CustomerSummaryRow;
+import com.example.store.repository.projection.LatestOrderView;
 import io.micrometer.common.util.StringUtils;
 import lombok.RequiredArgsConstructor;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
 
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class CustomerService {
 
+    public static final int MAX_SUGGESTIONS = 50;
+    public static final int MAX_LATEST_ORDERS = 20;
+
     private final CustomerRepository customerRepository;
     private final CustomerMapper customerMapper;
+    private final CustomerNameIndex customerNameIndex;
 
     @Transactional(readOnly = true)
     @Cacheable(cacheNames = "customersPage",
             key = "'name=' + (#name == null ? '' : #name.trim()) + '|' + 'p=' + #pageable.pageNumber + '|' + 's=' + #pageable.pageSize + '|' + 'sort=' + #pageable.sort")
     public Page<CustomerDTO> getAllCustomers(String name, Pageable pageable) {
         String trimmedName = name != null ? name.trim() : null;
-        Page<Customer> customers = StringUtils.isBlank(trimmedName) ?
-                customerRepository.findAll(pageable) : customerRepository.findByNameContainingIgnoreCase(trimmedName, pageable);
-        return customers.map(customerMapper::customerToCustomerDTO);
+        Page<CustomerRow> customers = StringUtils.isBlank(trimmedName) ?
+                customerRepository.findCustomerRows(pageable) : customerRepository.searchRowsByName(namePattern(trimmedName), pageable);
+        Map<Long, List<CustomerOrderDTO>> orders = ordersOf(customers.getContent());
+        return customers.map(row -> toCustomerDTO(row, orders.getOrDefault(row.id(), List.of())));
+    }
+
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = "customersPage",
+            key = "'total=none|' + 'name=' + (#name == null ? '' : #name.trim()) + '|' + 'p=' + #pageable.pageNumber + '|' + 's=' + #pageable.pageSize + '|' + 'sort=' + #pageable.sort")
+    public Slice<CustomerDTO> getCustomersSlice(String name, Pageable pageable) {
+        String trimmedName = name != null ? name.trim() : null;
+        Slice<CustomerRow> customers = StringUtils.isBlank(trimmedName) ?
+                customerRepository.findCustomerRowSlice(pageable) : customerRepository.searchRowSliceByName(namePattern(trimmedName), pageable);
+        Map<Long, List<CustomerOrderDTO>> orders = ordersOf(customers.getContent());
+        return customers.map(row -> toCustomerDTO(row, orders.getOrDefault(row.id(), List.of())));
+    }
+
+    /**
+     * Table statistics say nothing about how many customers match a name filter, so filtered searches keep the exact
+     * count.
+     */
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = "customersPage",
+            key = "'total=estimate|' + 'name=' + (#name == null ? '' : #name.trim()) + '|' + 'p=' + #pageable.pageNumber + '|' + 's=' + #pageable.pageSize + '|' + 'sort=' + #pageable.sort")
+    public Page<CustomerDTO> getCustomersWithEstimatedTotal(String name, Pageable pageable) {
+        String trimmedName = name != null ? name.trim() : null;
+        if (!StringUtils.isBlank(trimmedName)) {
+            Page<CustomerRow> customers = customerRepository.searchRowsByName(namePattern(trimmedName), pageable);
+            Map<Long, List<CustomerOrderDTO>> orders = ordersOf(customers.getContent());
+            return customers.map(row -> toCustomerDTO(row, orders.getOrDefault(row.id(), List.of())));
+        }
+        Slice<CustomerRow> customers = customerRepository.findCustomerRowSlice(pageable);
+        Map<Long, List<CustomerOrderDTO>> orders = ordersOf(customers.getContent());
+        return PageTotals.withEstimatedTotal(
+                customers.map(row -> toCustomerDTO(row, orders.getOrDefault(row.id(), List.of()))),
+                customerRepository.estimateCount());
+    }
+
+    /**
+     * Customer page with each customer's order count instead of its full order list, plus at most
+     * {@code latestOrders} of its newest orders. The full history is paged through {@link #getCustomerOrders}.
+     */
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = "customersPage",
+            key = "'orders=summary|' + 'latest=' + #latestOrders + '|' + 'name=' + (#name == null ? '' : #name.trim()) + '|' + 'p=' + #pageable.pageNumber + '|' + 's=' + #pageable.pageSize + '|' + 'sort=' + #pageable.sort")
+    public Page<CustomerSummaryDTO> getCustomerSummaries(String name, int latestOrders, Pageable pageable) {
+        String trimmedName = name != null ? name.trim() : null;
+        int latest = Math.max(0, Math.min(latestOrders, MAX_LATEST_ORDERS));
+        Page<CustomerSummaryRow> customers = StringUtils.isBlank(trimmedName) ?
+                customerRepository.findCustomerSummaryRows(pageable) : customerRepository.searchSummaryRowsByName(namePattern(trimmedName), pageable);
+        Map<Long, List<CustomerOrderDTO>> orders = latest == 0 || customers.isEmpty() ? Map.of() :
+                customerRepository.findLatestOrders(customers.map(CustomerSummaryRow::id).getContent(), latest).stream()
+                        .collect(Collectors.groupingBy(LatestOrderView::getCustomerId,
+                                Collectors.mapping(CustomerService::toCustomerOrderDTO, Collectors.toList())));
+        return customers.map(row -> toCustomerSummaryDTO(row, orders.getOrDefault(row.id(), List.of())));
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<CustomerOrderDTO> getCustomerOrders(Long id, String cursor, int size) {
+        int pageSize = CursorPage.clampSize(size);
+        Long lastId = CursorCodec.decode(cursor);
+        if (!customerRepository.existsById(id)) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Not Found Customer by ID " + id);
+        }
+        Limit limit = Limit.of(pageSize + 1);
+        List<CustomerOrderRow> orders = lastId == null ?
+                customerRepository.findOrderRowsByCustomerId(id, limit) : customerRepository.findOrderRowsByCustomerIdAndIdLessThan(id, lastId, limit);
+        return CursorPage.of(orders, pageSize, CustomerOrderRow::orderId, CustomerService::toCustomerOrderDTO);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<CustomerDTO> getCustomersByCursor(String name, String cursor, int size) {
+        String trimmedName = name != null ? name.trim() : null;
+        int pageSize = CursorPage.clampSize(size);
+        Long lastId = CursorCodec.decode(cursor);
+        Limit limit = Limit.of(pageSize + 1);
+        List<CustomerRow> customers;
+        if (StringUtils.isBlank(trimmedName)) {
+            customers = lastId == null ?
+                    customerRepository.findLatestRows(limit) : customerRepository.findRowsByIdLessThan(lastId, limit);
+        } else {
+            String pattern = namePattern(trimmedName);
+            customers = lastId == null ?
+                    customerRepository.searchLatestRowsByName(pattern, limit) : customerRepository.searchRowsByNameAndIdLessThan(pattern, lastId, limit);
+        }
+        Map<Long, List<CustomerOrderDTO>> orders = ordersOf(customers.subList(0, Math.min(customers.size(), pageSize)));
+        return CursorPage.of(customers, pageSize, CustomerRow::id,
+                row -> toCustomerDTO(row, orders.getOrDefault(row.id(), List.of())));
     }
 
     @CacheEvict(cacheNames = "customersPage", allEntries = true)
     public CustomerDTO createCustomer(String name) {
         Customer customer = Customer.builder().name(name).orders(List.of()).build();
-        return customerMapper.customerToCustomerDTO(customerRepository.save(customer));
+        Customer saved = customerRepository.save(customer);
+        customerNameIndex.created(saved.getId(), saved.getName());
+        return customerMapper.customerToCustomerDTO(saved);
+    }
+
+    /**
+     * Typeahead over customer names, newest customers first. Served from {@link CustomerNameIndex}; until the index
+     * has finished loading the same lookup goes to the database. Not transactional, so index hits take no connection;
+     * the fallback runs in the read-only transaction of {@link CustomerRepository#searchLatestByName}.
+     */
+    public List<CustomerSuggestionDTO> suggestCustomers(String query, int limit) {
+        String trimmedQuery = query != null ? query.trim() : null;
+        if (StringUtils.isBlank(trimmedQuery)) {
+            return List.of();
+        }
+        int max = Math.max(1, Math.min(limit, MAX_SUGGESTIONS));
+        if (customerNameIndex.isReady()) {
+            return customerNameIndex.search(trimmedQuery, max);
+        }
+        return customerRepository.searchLatestByName(namePattern(trimmedQuery), Limit.of(max)).stream()
+                .map(customer -> new CustomerSuggestionDTO(customer.getId(), customer.getName()))
+                .toList();
+    }
+
+    /** Orders of a page of customers, by customer id, from one projection query. */
+    private Map<Long, List<CustomerOrderDTO>> ordersOf(List<CustomerRow> customers) {
+        if (customers.isEmpty()) {
+            return Map.of();
+        }
+        return customerRepository.findOrderRowsByCustomerIds(customers.stream().map(CustomerRow::id).toList()).stream()
+                .collect(Collectors.groupingBy(CustomerOrderRow::customerId,
+                        Collectors.mapping(CustomerService::toCustomerOrderDTO, Collectors.toList())));
+    }
+
+    private static CustomerDTO toCustomerDTO(CustomerRow row, List<CustomerOrderDTO> orders) {
+        CustomerDTO customer = new CustomerDTO();
+        customer.setId(row.id());
+        customer.setName(row.name());
+        customer.setOrders(orders);
+        return customer;
+    }
+
+    private static CustomerSummaryDTO toCustomerSummaryDTO(CustomerSummaryRow row, List<CustomerOrderDTO> orders) {
+        CustomerSummaryDTO customer = new CustomerSummaryDTO();
+        customer.setId(row.id());
+        customer.setName(row.name());
+        customer.setOrderCount(row.orderCount());
+        customer.setOrders(orders);
+        return customer;
+    }
+
+    private static CustomerOrderDTO toCustomerOrderDTO(CustomerOrderRow row) {
+        CustomerOrderDTO order = new CustomerOrderDTO();
+        order.setId(row.orderId());
+        order.setDescription(row.description());
+        return order;
+    }
+
+    private static CustomerOrderDTO toCustomerOrderDTO(LatestOrderView row) {
+        CustomerOrderDTO order = new CustomerOrderDTO();
+        order.setId(row.getId());
+        order.setDescription(row.getDescription());
+        return order;
+    }
+
+    /**
+     * Builds the {@code lower(name) LIKE} pattern for a substring search, escaping LIKE wildcards in the user's input
+     * with {@code !}, the escape character declared by the repository queries.
+     */
+    static String namePattern(String name) {
+        String escaped = name.toLowerCase(Locale.ROOT)
+                .replace("!", "!!")
+                .replace("%", "!%")
+                .replace("_", "!_");
+        return "%" + escaped + "%";
     }
 }
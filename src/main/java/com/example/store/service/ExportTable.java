@@ -0,0 +1,33 @@
+package com.example.store.service;
+
+/**
+ * Row sets served by {@link NdjsonExportService}. Each query returns one JSON document per row, in id order, shaped
+ * like the DTO of the matching list endpoint. Orders come straight from {@code order_view}; customers and products
+ * aggregate their orders through the foreign key indexes, one row at a time, so the server never materialises the
+ * whole result either.
+ */
+public enum ExportTable {
+    ORDERS("SELECT CAST(payload AS text) FROM order_view ORDER BY id"),
+    CUSTOMERS("SELECT CAST(json_build_object("
+            + "'id', c.id, "
+            + "'name', c.name, "
+            + "'orders', COALESCE((SELECT json_agg(json_build_object('id', o.id, 'description', o.description) ORDER BY o.id) "
+            + "FROM \"order\" o WHERE o.customer_id = c.id), CAST('[]' AS json))) AS text) "
+            + "FROM customer c ORDER BY c.id"),
+    PRODUCTS("SELECT CAST(json_build_object("
+            + "'id', p.id, "
+            + "'description', p.description, "
+            + "'orders', COALESCE((SELECT json_agg(op.order_id ORDER BY op.order_id) "
+            + "FROM order_product op WHERE op.product_id = p.id), CAST('[]' AS json))) AS text) "
+            + "FROM product p ORDER BY p.id");
+
+    private final String sql;
+
+    ExportTable(String sql) {
+        this.sql = sql;
+    }
+
+    public String sql() {
+        return sql;
+    }
+}
@@ -0,0 +1,105 @@
+package com.example.store.service;
+
+import com.example.store.repository.OrderViewRepository;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Tables accepted by {@link BulkImportService}, with the column order of their CSV/NDJSON rows, the id sequence to
+ * move past the imported ids, the caches whose entries the import can make stale and, for tables feeding
+ * {@code order_view}, the column holding the order id.
+ */
+public enum ImportTable {
+    CUSTOMERS("customers", "customer", List.of("id", "name"), "customer_id_seq",
+            List.of("customersPage"), null),
+    PRODUCTS("products", "product", List.of("id", "description"), "product_id_seq",
+            List.of("productPage", KnownIds.MISSING_CACHE), null),
+    ORDERS("orders", "\"order\"", List.of("id", "description", "customer_id"), "order_id_seq",
+            List.of("ordersPage", "customersPage", KnownIds.MISSING_CACHE), "id"),
+    ORDER_PRODUCTS("order-products", "order_product", List.of("order_id", "product_id"), null,
+            List.of("ordersPage", "productPage", "orderById", "productById"), "order_id");
+
+    /** Rows feeding {@code order_view} are copied here first, so the import knows which orders it touched. */
+    private static final String STAGING_TABLE = "import_staging";
+
+    private final String path;
+    private final String tableName;
+    private final List<String> columns;
+    private final String sequence;
+    private final List<String> caches;
+    private final String orderIdColumn;
+
+    ImportTable(String path, String tableName, List<String> columns, String sequence, List<String> caches,
+            String orderIdColumn) {
+        this.path = path;
+        this.tableName = tableName;
+        this.columns = columns;
+        this.sequence = sequence;
+        this.caches = caches;
+        this.orderIdColumn = orderIdColumn;
+    }
+
+    public static ImportTable fromPath(String path) {
+        return Arrays.stream(values())
+                .filter(table -> table.path.equals(path))
+                .findFirst()
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.BAD_REQUEST, "Unknown import table " + path));
+    }
+
+    public String path() {
+        return path;
+    }
+
+    public List<String> columns() {
+        return columns;
+    }
+
+    public List<String> caches() {
+        return caches;
+    }
+
+    public String copySql() {
+        return copySql(tableName);
+    }
+
+    public boolean feedsOrderView() {
+        return orderIdColumn != null;
+    }
+
+    /** Creates the staging table; it is dropped on commit or rollback. */
+    public String createStagingSql() {
+        return "CREATE TEMP TABLE " + STAGING_TABLE + " (LIKE " + tableName + " INCLUDING DEFAULTS) ON COMMIT DROP";
+    }
+
+    public String stagingCopySql() {
+        return copySql(STAGING_TABLE);
+    }
+
+    public String insertStagedSql() {
+        String columnList = String.join(", ", columns);
+        return "INSERT INTO " + tableName + " (" + columnList + ") SELECT " + columnList + " FROM " + STAGING_TABLE;
+    }
+
+    /** Refreshes the {@code order_view} rows of the staged orders only, leaving rows already right untouched. */
+    public String refreshStagedOrdersSql() {
+        return OrderViewRepository.UPSERT_SQL
+                + "WHERE o.id IN (SELECT " + orderIdColumn + " FROM " + STAGING_TABLE + ")"
+                + OrderViewRepository.ON_CONFLICT_IF_CHANGED;
+    }
+
+    private String copySql(String target) {
+        return "COPY " + target + " (" + String.join(", ", columns) + ") FROM STDIN WITH (FORMAT csv, HEADER true)";
+    }
+
+    /** Same fix-up as changesets 4, 5 and 9: never move the sequence backwards, never below the max id. */
+    public String sequenceFixSql() {
+        if (sequence == null) {
+            return null;
+        }
+        return "SELECT setval('" + sequence + "', GREATEST((SELECT COALESCE(MAX(id), 1) FROM " + tableName + "), "
+                + "(SELECT last_value FROM " + sequence + ")))";
+    }
+}
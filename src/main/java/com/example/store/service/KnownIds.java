@@ -0,0 +1,386 @@
+package com.example.store.service;
+
+import com.example.store.cache.BloomFilter;
+import com.example.store.cache.CacheInvalidationBus;
+import com.example.store.cache.InvalidationMessage;
+import com.example.store.datasource.ReplicaDataSource;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import javax.sql.DataSource;
+
+/**
+ * Answers "does order/product {@code id} certainly not exist?" without a query, so probes of random ids get their 404
+ * from memory.
+ *
+ * <p>Two sources say no. A {@link BloomFilter} per table over every existing id, loaded once the application is ready
+ * and fed by every create; ids above the largest one seen are never ruled out. The filter is only right while it sees
+ * every insert, from every node and from outside the application, and pooled sequences hand other nodes ids below
+ * this node's largest. So it is used only with {@code store.known-ids.filter-enabled}, which defaults to
+ * {@code store.cdc.enabled}: the change stream reports every insert. It is also reloaded every
+ * {@code store.known-ids.rebuild-interval}. And the {@code missingIds} cache, a short-TTL negative cache of ids a query
+ * found missing, keyed {@code order:<id>} or {@code product:<id>}. With read replicas a miss is only remembered once
+ * the primary confirms it, since a replica may not have the row yet.
+ *
+ * <p>{@link #created} also evicts {@code missingIds} key {@code order:<id>}, or {@code order:<first>-<last>} for a
+ * batch, through the {@link CacheManager}. With {@link CacheInvalidationBus} that eviction reaches every node on
+ * commit, and every node's listener adds the ids to its filter and drops their negative entries one by one. This node
+ * drops them at once and again after commit, since a probe in between still finds no row. A bus reconnect may have
+ * lost such messages, so it triggers a reload, as does a clear of the cache (e.g. by an import); the filter rules
+ * nothing out from then until the reload completes, as before the first load. Loads read the primary (a read-write
+ * transaction), never a lagging replica.
+ */
+@Slf4j
+@Component
+public class KnownIds {
+
+    public enum Kind {
+        ORDER("order", "\"order\""),
+        PRODUCT("product", "product");
+
+        private final String prefix;
+        private final String table;
+
+        Kind(String prefix, String table) {
+            this.prefix = prefix;
+            this.table = table;
+        }
+
+        String key(long id) {
+            return prefix + ":" + id;
+        }
+    }
+
+    public static final String MISSING_CACHE = "missingIds";
+
+    static final double FALSE_POSITIVE_RATE = 0.01;
+    static final long MIN_CAPACITY = 1_000_000;
+    /** A batch's ids are sent as one range if it spans fewer than this many ids per created row. */
+    static final int MAX_RANGE_SPREAD = 4;
+    private static final int FETCH_SIZE = 10_000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate primaryCheck;
+    private final CacheManager cacheManager;
+    private final MeterRegistry meterRegistry;
+    private final boolean replicasEnabled;
+    private final boolean filterEnabled;
+    private final Duration rebuildInterval;
+    private final Map<Kind, IdSet> sets = new EnumMap<>(Kind.class);
+    private ScheduledExecutorService periodicRebuild;
+
+    public KnownIds(DataSource dataSource, PlatformTransactionManager transactionManager, CacheManager cacheManager,
+            MeterRegistry meterRegistry, ObjectProvider<CacheInvalidationBus> bus,
+            ObjectProvider<ReplicaDataSource> replicaDataSource,
+            @Value("${store.known-ids.filter-enabled:${store.cdc.enabled:false}}") boolean filterEnabled,
+            @Value("${store.known-ids.rebuild-interval:1h}") Duration rebuildInterval) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(FETCH_SIZE);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.primaryCheck = new TransactionTemplate(transactionManager);
+        this.primaryCheck.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.cacheManager = cacheManager;
+        this.meterRegistry = meterRegistry;
+        this.replicasEnabled = replicaDataSource.getIfAvailable() != null;
+        this.filterEnabled = filterEnabled;
+        this.rebuildInterval = rebuildInterval;
+        for (Kind kind : Kind.values()) {
+            sets.put(kind, new IdSet(kind));
+        }
+        bus.ifAvailable(b -> b.addListener(this::onInvalidation));
+    }
+
+    /** Whether {@code id} is certainly not in the table; {@code false} means it may be and the database decides. */
+    public boolean isKnownMissing(Kind kind, long id) {
+        if (!sets.get(kind).mightExist(id)) {
+            count(kind, "filter");
+            return true;
+        }
+        Cache missing = cacheManager.getCache(MISSING_CACHE);
+        if (missing != null && missing.get(kind.key(id)) != null) {
+            count(kind, "negative-cache");
+            return true;
+        }
+        return false;
+    }
+
+    /** A query found no row for {@code id}; answer from memory for a while. */
+    public void recordMissing(Kind kind, long id) {
+        Cache missing = cacheManager.getCache(MISSING_CACHE);
+        if (missing == null) {
+            return;
+        }
+        if (replicasEnabled && TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                && existsOnPrimary(kind, id)) {
+            // The query ran on a replica behind the insert.
+            return;
+        }
+        missing.put(kind.key(id), Boolean.TRUE);
+    }
+
+    private boolean existsOnPrimary(Kind kind, long id) {
+        return Boolean.TRUE.equals(primaryCheck.execute(status -> jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM " + kind.table + " WHERE id = ?)", Boolean.class, id)));
+    }
+
+    /** {@code ids} were just assigned to new rows; call before the transaction commits. */
+    public void created(Kind kind, Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        discovered(kind, ids);
+        Cache missing = cacheManager.getCache(MISSING_CACHE);
+        if (missing == null) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            List<Long> created = List.copyOf(ids);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    forgetMissing(kind, created);
+                }
+            });
+        }
+        long first = ids.stream().mapToLong(Long::longValue).min().orElseThrow();
+        long last = ids.stream().mapToLong(Long::longValue).max().orElseThrow();
+        if (first == last) {
+            missing.evict(kind.key(first));
+        } else if (last - first < MAX_RANGE_SPREAD * ids.size()) {
+            missing.evict(kind.key(first) + "-" + last);
+        } else {
+            // Too sparse to send as a range; every node reloads instead.
+            missing.clear();
+        }
+    }
+
+    /** Rows this node learnt about on its own, e.g. from the change stream; nothing is sent to other nodes. */
+    public void discovered(Kind kind, Collection<Long> ids) {
+        IdSet set = sets.get(kind);
+        ids.forEach(set::add);
+        forgetMissing(kind, ids);
+    }
+
+    /** Drops the negative entries of {@code ids} from this node's cache only. */
+    private void forgetMissing(Kind kind, Iterable<Long> ids) {
+        Cache missing = cacheManager.getCache(MISSING_CACHE);
+        if (missing != null && missing.getNativeCache() instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> caffeine) {
+            for (Long id : ids) {
+                caffeine.asMap().remove(kind.key(id));
+            }
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        if (!filterEnabled) {
+            return;
+        }
+        for (Kind kind : Kind.values()) {
+            rebuild(kind);
+        }
+        startPeriodicRebuild();
+    }
+
+    /** Reloads the filter of {@code kind}; it rules nothing out until the reload completes. */
+    public void rebuild(Kind kind) {
+        load(kind, false);
+    }
+
+    private synchronized void startPeriodicRebuild() {
+        if (periodicRebuild != null) {
+            return;
+        }
+        periodicRebuild = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "known-ids-rebuild");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long millis = rebuildInterval.toMillis();
+        periodicRebuild.scheduleWithFixedDelay(() -> {
+            for (Kind kind : Kind.values()) {
+                try {
+                    load(kind, true);
+                } catch (RuntimeException e) {
+                    log.warn("Reloading {} ids failed", kind.prefix, e);
+                }
+            }
+        }, millis, millis, TimeUnit.MILLISECONDS);
+    }
+
+    /** {@code keepServing}: whether the current filter stays in use while the new one loads. */
+    private void load(Kind kind, boolean keepServing) {
+        if (!filterEnabled) {
+            return;
+        }
+        long started = System.nanoTime();
+        IdSet set = sets.get(kind);
+        if (!keepServing) {
+            set.ready = false;
+        }
+        set.rebuildLock.lock();
+        set.startRebuild();
+        try {
+            Long estimate = jdbcTemplate.queryForObject(
+                    "SELECT CAST(reltuples AS bigint) FROM pg_class WHERE oid = CAST(? AS regclass)", Long.class, kind.table);
+            long expected = Math.max(MIN_CAPACITY, 2 * Math.max(estimate != null ? estimate : 0, set.count()));
+            BloomFilter fresh = new BloomFilter(expected, FALSE_POSITIVE_RATE);
+            long[] maxId = {0};
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.query("SELECT id FROM " + kind.table,
+                    (RowCallbackHandler) rs -> {
+                        long id = rs.getLong(1);
+                        fresh.add(id);
+                        maxId[0] = Math.max(maxId[0], id);
+                    }));
+            set.finishRebuild(fresh, maxId[0]);
+            log.info("Loaded {} {} ids into a {} KB filter in {} ms", fresh.count(), kind.prefix,
+                    fresh.sizeInBytes() / 1024, (System.nanoTime() - started) / 1_000_000);
+        } catch (RuntimeException e) {
+            set.abortRebuild();
+            throw e;
+        } finally {
+            set.rebuildLock.unlock();
+        }
+    }
+
+    private void onInvalidation(InvalidationMessage message) {
+        if (!MISSING_CACHE.equals(message.cacheName())) {
+            return;
+        }
+        if (message.isClear()) {
+            // A reconnect or an import: creates may have been missed, so stop trusting the filter until reloaded.
+            for (Kind kind : Kind.values()) {
+                IdSet set = sets.get(kind);
+                if (set.ready) {
+                    set.ready = false;
+                    rebuildAsync(kind, false);
+                }
+            }
+            return;
+        }
+        if (message.key() instanceof String key) {
+            for (Kind kind : Kind.values()) {
+                if (key.startsWith(kind.prefix + ":")) {
+                    String ids = key.substring(kind.prefix.length() + 1);
+                    int dash = ids.indexOf('-', 1);
+                    long first = Long.parseLong(dash < 0 ? ids : ids.substring(0, dash));
+                    long last = dash < 0 ? first : Long.parseLong(ids.substring(dash + 1));
+                    IdSet set = sets.get(kind);
+                    List<Long> created = new ArrayList<>();
+                    for (long id = first; id <= last; id++) {
+                        set.add(id);
+                        created.add(id);
+                    }
+                    forgetMissing(kind, created);
+                }
+            }
+        }
+    }
+
+    private void rebuildAsync(Kind kind, boolean keepServing) {
+        IdSet set = sets.get(kind);
+        if (set.rebuildPending.compareAndSet(false, true)) {
+            CompletableFuture.runAsync(() -> {
+                try {
+                    load(kind, keepServing);
+                } finally {
+                    set.rebuildPending.set(false);
+                }
+            }).exceptionally(e -> {
+                log.warn("Reloading {} ids failed", kind.prefix, e);
+                return null;
+            });
+        }
+    }
+
+    private void count(Kind kind, String reason) {
+        Counter.builder("store.known_ids.rejections")
+                .description("Lookups answered 404 without a query")
+                .tag("kind", kind.prefix)
+                .tag("reason", reason)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private final class IdSet {
+
+        private final Kind kind;
+        private final ReentrantLock rebuildLock = new ReentrantLock();
+        private volatile BloomFilter filter;
+        private volatile long maxId;
+        private volatile boolean ready;
+        private List<Long> addedDuringRebuild;
+        private final AtomicBoolean rebuildPending = new AtomicBoolean();
+
+        IdSet(Kind kind) {
+            this.kind = kind;
+        }
+
+        boolean mightExist(long id) {
+            BloomFilter current = filter;
+            return !ready || id > maxId || current.mightContain(id);
+        }
+
+        synchronized void add(long id) {
+            if (filter != null) {
+                filter.add(id);
+                if (filter.count() > filter.capacity()) {
+                    // Past capacity the false-positive rate climbs; reload into a bigger filter.
+                    rebuildAsync(kind, true);
+                }
+            }
+            maxId = Math.max(maxId, id);
+            if (addedDuringRebuild != null) {
+                addedDuringRebuild.add(id);
+            }
+        }
+
+        synchronized long count() {
+            return filter != null ? filter.count() : 0;
+        }
+
+        synchronized void startRebuild() {
+            addedDuringRebuild = new ArrayList<>();
+        }
+
+        synchronized void finishRebuild(BloomFilter fresh, long freshMaxId) {
+            addedDuringRebuild.forEach(fresh::add);
+            maxId = Math.max(freshMaxId, addedDuringRebuild.stream().mapToLong(Long::longValue).max().orElse(0));
+            addedDuringRebuild = null;
+            filter = fresh;
+            ready = true;
+        }
+
+        synchronized void abortRebuild() {
+            addedDuringRebuild = null;
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.store.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.sql.DataSource;
+
+/**
+ * Writes every row of an {@link ExportTable} as NDJSON, one JSON document per line. The rows are read through a
+ * forward-only server-side cursor: the PostgreSQL driver only honours {@code fetchSize} outside autocommit, so the
+ * export runs in its own read-only transaction and holds {@code store.export.fetch-size} rows at a time. The JSON is
+ * built by the database and copied to the output as bytes, so memory use stays flat however many rows are exported.
+ *
+ * <p>Runs on the servlet container's async thread, outside any Spring transaction, which is why it manages the
+ * connection itself like {@link BulkImportService}. Read-only connections go to a replica when routing is enabled.
+ *
+ * <p>Each export holds a pooled connection for as long as the table takes to stream, so at most
+ * {@code store.export.max-concurrent} run at once: callers take a {@link Permit} with {@link #acquire()} before
+ * starting the response, and further requests get {@code 503 Service Unavailable} instead of draining the pool.
+ */
+@Slf4j
+@Service
+public class NdjsonExportService {
+
+    private static final int WRITE_BUFFER_SIZE = 1 << 16;
+
+    private final DataSource dataSource;
+    private final int fetchSize;
+    private final Semaphore permits;
+
+    public NdjsonExportService(DataSource dataSource, @Value("${store.export.fetch-size:1000}") int fetchSize,
+            @Value("${store.export.max-concurrent:2}") int maxConcurrent) {
+        this.dataSource = dataSource;
+        this.fetchSize = fetchSize;
+        this.permits = new Semaphore(maxConcurrent);
+    }
+
+    /** Takes one of the export slots, or throws {@code 503} when all are in use. */
+    public Permit acquire() {
+        if (!permits.tryAcquire()) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Too many exports running, retry later");
+        }
+        return new Permit();
+    }
+
+    /** An export slot; closing it more than once releases it once. */
+    public final class Permit implements AutoCloseable {
+
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Permit() {}
+
+        @Override
+        public void close() {
+            if (released.compareAndSet(false, true)) {
+                permits.release();
+            }
+        }
+    }
+
+    /** @return the number of rows written */
+    public long export(ExportTable table, OutputStream out) throws IOException {
+        long started = System.nanoTime();
+        long rows = 0;
+        BufferedOutputStream buffered = new BufferedOutputStream(out, WRITE_BUFFER_SIZE);
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setReadOnly(true);
+            connection.setAutoCommit(false);
+            try (PreparedStatement statement = connection.prepareStatement(table.sql(), ResultSet.TYPE_FORWARD_ONLY,
+                    ResultSet.CONCUR_READ_ONLY)) {
+                statement.setFetchSize(fetchSize);
+                try (ResultSet rs = statement.executeQuery()) {
+                    while (rs.next()) {
+                        buffered.write(rs.getBytes(1));
+                        buffered.write('\n');
+                        rows++;
+                    }
+                }
+                connection.commit();
+            } catch (SQLException | IOException e) {
+                connection.rollback();
+                throw e;
+            }
+        } catch (SQLException e) {
+            throw new IOException("Export of " + table + " failed after " + rows + " rows", e);
+        }
+        buffered.flush();
+        log.info("Exported {} {} rows in {} ms", rows, table, (System.nanoTime() - started) / 1_000_000);
+        return rows;
+    }
+}
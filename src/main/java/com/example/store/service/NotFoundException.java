@@ -0,0 +1,20 @@
+package com.example.store.service;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * A 404 without a stack trace. Lookups of unknown ids throw one per probe, and the trace would only cost time: it
+ * always points at the same lookup.
+ */
+public class NotFoundException extends ResponseStatusException {
+
+    public NotFoundException(String reason) {
+        super(HttpStatus.NOT_FOUND, reason);
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+}
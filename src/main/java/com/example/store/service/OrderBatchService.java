@@ -0,0 +1,159 @@
+package com.example.store.service;
+
+import com.example.store.cache.CacheInvalidator;
+import com.example.store.dto.OrderBatchDTO;
+import com.example.store.dto.OrderBatchResultDTO;
+import com.example.store.dto.request.CreateOrderRequest;
+import com.example.store.entity.Order;
+import com.example.store.repository.CustomerRepository;
+import com.example.store.repository.OrderRepository;
+import com.example.store.repository.OrderViewRepository;
+import com.example.store.repository.ProductRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Creates many orders in one transaction. Customer and product ids of the whole batch are checked with one
+ * {@code id IN (...)} query per entity type, and orders are persisted in chunks so Hibernate's JDBC batching
+ * ({@code hibernate.jdbc.batch_size}) turns each chunk into a few multi-row inserts into {@code order} and
+ * {@code order_product}. After each chunk is flushed its {@code order_view} rows are built with one upsert.
+ */
+@Service
+@RequiredArgsConstructor
+public class OrderBatchService {
+
+    static final int FLUSH_CHUNK_SIZE = 500;
+    static final int ID_QUERY_CHUNK_SIZE = 10_000;
+
+    private final OrderRepository orderRepository;
+    private final CustomerRepository customerRepository;
+    private final ProductRepository productRepository;
+    private final OrderViewRepository orderViewRepository;
+    private final EntityManager entityManager;
+    private final Validator validator;
+    private final CacheInvalidator cacheInvalidator;
+    private final KnownIds knownIds;
+
+    @Transactional
+    public OrderBatchDTO createOrders(List<CreateOrderRequest> requests) {
+        OrderBatchResultDTO[] results = new OrderBatchResultDTO[requests.size()];
+
+        List<Integer> candidates = new ArrayList<>();
+        for (int i = 0; i < requests.size(); i++) {
+            String violations = violations(requests.get(i));
+            if (violations != null) {
+                results[i] = OrderBatchResultDTO.rejected(i, violations);
+            } else {
+                candidates.add(i);
+            }
+        }
+
+        Set<Long> customerIds = candidates.stream().map(i -> requests.get(i).customerId()).collect(Collectors.toSet());
+        Set<Long> productIds = candidates.stream().flatMap(i -> requests.get(i).productIds().stream()).collect(Collectors.toSet());
+        Set<Long> knownCustomers = existingIds(customerIds, customerRepository::findExistingIds);
+        Set<Long> knownProducts = existingIds(productIds, productRepository::findExistingIds);
+
+        Set<Long> createdForCustomers = new HashSet<>();
+        Set<Long> createdWithProducts = new HashSet<>();
+        List<Integer> pendingIndexes = new ArrayList<>();
+        List<Order> pending = new ArrayList<>();
+        for (int i : candidates) {
+            CreateOrderRequest request = requests.get(i);
+            if (!knownCustomers.contains(request.customerId())) {
+                results[i] = OrderBatchResultDTO.rejected(i, "Not Found Customer by ID " + request.customerId());
+                continue;
+            }
+            Set<Long> missing = new TreeSet<>(request.productIds());
+            missing.removeAll(knownProducts);
+            if (!missing.isEmpty()) {
+                results[i] = OrderBatchResultDTO.rejected(i, "Not Found Product IDs: " + missing);
+                continue;
+            }
+
+            pending.add(Order.builder()
+                    .description(request.description())
+                    .customer(customerRepository.getReferenceById(request.customerId()))
+                    .products(request.productIds().stream().distinct().map(productRepository::getReferenceById).collect(Collectors.toList()))
+                    .build());
+            pendingIndexes.add(i);
+            createdForCustomers.add(request.customerId());
+            createdWithProducts.addAll(request.productIds());
+            if (pending.size() == FLUSH_CHUNK_SIZE) {
+                persist(pending, pendingIndexes, results);
+            }
+        }
+        persist(pending, pendingIndexes, results);
+
+        if (!createdForCustomers.isEmpty()) {
+            cacheInvalidator.ordersCreated(createdForCustomers, createdWithProducts);
+            knownIds.created(KnownIds.Kind.ORDER, Arrays.stream(results)
+                    .filter(result -> result.status() == OrderBatchResultDTO.Status.CREATED)
+                    .map(OrderBatchResultDTO::orderId)
+                    .toList());
+        }
+        return OrderBatchDTO.of(List.of(results));
+    }
+
+    private void persist(List<Order> orders, List<Integer> indexes, OrderBatchResultDTO[] results) {
+        if (orders.isEmpty()) {
+            return;
+        }
+        List<Order> saved = orderRepository.saveAll(orders);
+        entityManager.flush();
+        orderViewRepository.refresh(saved.stream().map(Order::getId).toList());
+        entityManager.clear();
+        for (int i = 0; i < saved.size(); i++) {
+            results[indexes.get(i)] = OrderBatchResultDTO.created(indexes.get(i), saved.get(i).getId());
+        }
+        orders.clear();
+        indexes.clear();
+    }
+
+    private String violations(CreateOrderRequest request) {
+        if (request == null) {
+            return "Order must not be null";
+        }
+        Set<ConstraintViolation<CreateOrderRequest>> violations = validator.validate(request);
+        if (violations.isEmpty()) {
+            if (request.productIds().stream().anyMatch(Objects::isNull)) {
+                return "productIds: must not contain null";
+            }
+            return null;
+        }
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining(", "));
+    }
+
+    private static Set<Long> existingIds(Set<Long> ids, Function<Collection<Long>, List<Long>> query) {
+        Set<Long> existing = new HashSet<>();
+        List<Long> chunk = new ArrayList<>(Math.min(ids.size(), ID_QUERY_CHUNK_SIZE));
+        for (Long id : ids) {
+            chunk.add(id);
+            if (chunk.size() == ID_QUERY_CHUNK_SIZE) {
+                existing.addAll(query.apply(chunk));
+                chunk = new ArrayList<>(ID_QUERY_CHUNK_SIZE);
+            }
+        }
+        if (!chunk.isEmpty()) {
+            existing.addAll(query.apply(chunk));
+        }
+        return existing;
+    }
+}
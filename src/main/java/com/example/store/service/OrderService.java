@@ -1,28 +1,47 @@
 package com.example.store.service;
 
+import com.example.store.cache.CacheInvalidator;
+import com.example.store.dto.CursorPage;
+import com.example.store.dto.OrderCustomerDTO;
 import com.example.store.dto.OrderDTO;
+import com.example.store.dto.OrderProductDTO;
 import com.example.store.dto.request.CreateOrderRequest;
 import com.example.store.entity.Customer;
 import com.example.store.entity.Order;
+import com.example.store.entity.OrderView;
 import com.example.store.entity.Product;
 import com.example.store.mapper.OrderMapper;
+import com.example.store.pagination.CursorCodec;
+import com.example.store.pagination.PageTotals;
 import com.example.store.repository.CustomerRepository;
+import com.example.store.repository.OrderJsonRepository;
 import com.example.store.repository.OrderRepository;
+import com.example.store.repository.OrderViewRepository;
 import com.example.store.repository.ProductRepository;
+import com.example.store.repository.projection.OrderProductRow;
+import com.example.store.repository.projection.OrderRow;
 import lombok.RequiredArgsConstructor;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
+/**
+ * Orders are read from the {@code order_view} read model ({@link OrderView}), which {@link #createOrder} and
+ * {@link OrderBatchService} keep current in the same transaction as the order. Pages sorted by anything other than
+ * {@code id} are not served by the view's primary key and keep reading the base tables.
+ */
 @Service
 @RequiredArgsConstructor
 public class OrderService {
@@ -31,16 +50,49 @@ public class OrderService {
     private final OrderMapper orderMapper;
     private final CustomerRepository customerRepository;
     private final ProductRepository productRepository;
+    private final OrderViewRepository orderViewRepository;
+    private final OrderJsonRepository orderJsonRepository;
+    private final CacheInvalidator cacheInvalidator;
+    private final KnownIds knownIds;
 
     @Transactional(readOnly = true)
     @Cacheable(cacheNames = "ordersPage",
             key = "'p=' + #pageable.pageNumber + '|' + 's=' + #pageable.pageSize + '|' + 'sort=' + #pageable.sort")
     public Page<OrderDTO> getAllOrders(Pageable pageable) {
-        Page<Order> orders = orderRepository.findAll(pageable);
-        return orders.map(orderMapper::orderToOrderDTO);
+        if (sortsById(pageable.getSort())) {
+            return orderViewRepository.findAll(pageable).map(OrderView::getPayload);
+        }
+        Page<OrderRow> orders = orderRepository.findOrderRows(pageable);
+        Map<Long, List<OrderProductDTO>> products = productsOf(orders);
+        return orders.map(row -> toOrderDTO(row, products.getOrDefault(row.id(), List.of())));
+    }
+
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = "ordersPage",
+            key = "'total=none|' + 'p=' + #pageable.pageNumber + '|' + 's=' + #pageable.pageSize + '|' + 'sort=' + #pageable.sort")
+    public Slice<OrderDTO> getOrdersSlice(Pageable pageable) {
+        return slice(pageable);
     }
 
-    @CacheEvict(cacheNames = "ordersPage", allEntries = true)
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = "ordersPage",
+            key = "'total=estimate|' + 'p=' + #pageable.pageNumber + '|' + 's=' + #pageable.pageSize + '|' + 'sort=' + #pageable.sort")
+    public Page<OrderDTO> getOrdersWithEstimatedTotal(Pageable pageable) {
+        Slice<OrderDTO> orders = slice(pageable);
+        return PageTotals.withEstimatedTotal(orders, orderRepository.estimateCount());
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<OrderDTO> getOrdersByCursor(String cursor, int size) {
+        int pageSize = CursorPage.clampSize(size);
+        Long lastId = CursorCodec.decode(cursor);
+        Limit limit = Limit.of(pageSize + 1);
+        List<OrderView> orders = lastId == null ?
+                orderViewRepository.findAllByOrderByIdDesc(limit) : orderViewRepository.findByIdLessThanOrderByIdDesc(lastId, limit);
+        return CursorPage.of(orders, pageSize, OrderView::getId, OrderView::getPayload);
+    }
+
+    @Transactional
     public OrderDTO createOrder(CreateOrderRequest request) {
         Customer customer = customerRepository.findById(request.customerId())
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Not Found Customer by ID " + request.customerId()));
@@ -59,14 +111,101 @@ public class OrderService {
                 .products(products)
                 .build();
 
-        return orderMapper.orderToOrderDTO(orderRepository.save(order));
+        OrderDTO created = orderMapper.orderToOrderDTO(orderRepository.save(order));
+        orderViewRepository.save(new OrderView(created));
+        knownIds.created(KnownIds.Kind.ORDER, List.of(created.getId()));
+        cacheInvalidator.ordersCreated(List.of(customer.getId()), foundIds);
+        return created;
     }
 
+    /** Concurrent misses on one id share a single load ({@code sync}); see {@code CacheLoadingConfig} for refresh. */
     @Transactional(readOnly = true)
-    @Cacheable(cacheNames = "orderById", key = "#id")
+    @Cacheable(cacheNames = "orderById", key = "#id", sync = true)
     public OrderDTO getOrderByID(Long id) {
-        Order order = orderRepository.findById(id)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Not Found Order by ID " + id));
-        return orderMapper.orderToOrderDTO(order);
+        return loadOrder(id);
+    }
+
+    /**
+     * {@link #getOrderByID} without the cache, for reloading a cached entry. Ids {@link KnownIds} rules out are refused
+     * without a query, and ids found missing are remembered there.
+     */
+    @Transactional(readOnly = true)
+    public OrderDTO loadOrder(Long id) {
+        if (id != null && knownIds.isKnownMissing(KnownIds.Kind.ORDER, id)) {
+            throw new NotFoundException("Not Found Order by ID " + id);
+        }
+        return orderViewRepository.findById(id)
+                .map(OrderView::getPayload)
+                .orElseThrow(() -> {
+                    if (id != null) {
+                        knownIds.recordMissing(KnownIds.Kind.ORDER, id);
+                    }
+                    return new NotFoundException("Not Found Order by ID " + id);
+                });
+    }
+
+    /** {@link #getOrderByID} as JSON built by PostgreSQL in one round trip; the bytes go to the response unparsed. */
+    @Transactional(readOnly = true)
+    public byte[] getOrderJson(Long id) {
+        byte[] json = orderJsonRepository.findOrderJson(id);
+        if (json == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Not Found Order by ID " + id);
+        }
+        return json;
+    }
+
+    /** {@link #getAllOrders} as JSON built by PostgreSQL in one round trip, page totals included. Sorts by id only. */
+    @Transactional(readOnly = true)
+    public byte[] getOrdersJson(Pageable pageable) {
+        if (!sortsById(pageable.getSort())) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "assembly=db only supports sorting by id");
+        }
+        Sort.Order byId = pageable.getSort().getOrderFor("id");
+        Sort.Direction direction = byId != null ? byId.getDirection() : Sort.Direction.DESC;
+        return orderJsonRepository.findPageJson(pageable.getPageNumber(), pageable.getPageSize(), direction);
+    }
+
+    private Slice<OrderDTO> slice(Pageable pageable) {
+        if (sortsById(pageable.getSort())) {
+            return orderViewRepository.findSliceBy(pageable).map(OrderView::getPayload);
+        }
+        Slice<OrderRow> orders = orderRepository.findOrderRowSlice(pageable);
+        Map<Long, List<OrderProductDTO>> products = productsOf(orders);
+        return orders.map(row -> toOrderDTO(row, products.getOrDefault(row.id(), List.of())));
+    }
+
+    /** Products of a page of orders, by order id, from one projection query. */
+    private Map<Long, List<OrderProductDTO>> productsOf(Slice<OrderRow> orders) {
+        if (orders.isEmpty()) {
+            return Map.of();
+        }
+        return orderRepository.findProductRowsByOrderIds(orders.map(OrderRow::id).getContent()).stream()
+                .collect(Collectors.groupingBy(OrderProductRow::orderId,
+                        Collectors.mapping(OrderService::toOrderProductDTO, Collectors.toList())));
+    }
+
+    /** Unsorted or sorted by id only, which the view can page through on its primary key. */
+    static boolean sortsById(Sort sort) {
+        return sort.stream().allMatch(order -> order.getProperty().equals("id"));
+    }
+
+    private static OrderDTO toOrderDTO(OrderRow row, List<OrderProductDTO> products) {
+        OrderCustomerDTO customer = new OrderCustomerDTO();
+        customer.setId(row.customerId());
+        customer.setName(row.customerName());
+
+        OrderDTO order = new OrderDTO();
+        order.setId(row.id());
+        order.setDescription(row.description());
+        order.setCustomer(customer);
+        order.setProducts(products);
+        return order;
+    }
+
+    private static OrderProductDTO toOrderProductDTO(OrderProductRow row) {
+        OrderProductDTO product = new OrderProductDTO();
+        product.setId(row.productId());
+        product.setDescription(row.description());
+        return product;
     }
 }
@@ -0,0 +1,61 @@
+package com.example.store.service;
+
+import com.example.store.repository.OrderRepository;
+import com.example.store.repository.OrderViewRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Rebuilds {@code order_view} from the base tables, {@link #CHUNK_SIZE} order ids per transaction so a large table
+ * never holds one long transaction. Stale rows are overwritten, missing ones inserted and rows that are already right
+ * left alone; rows of deleted orders go with the order ({@code ON DELETE CASCADE}).
+ *
+ * <p>Changeset {@code 10-order-view} backfills the view once. Set {@code store.order-view.rebuild-on-startup=true} to
+ * run this again at startup, e.g. after editing customers or products directly in the database.
+ */
+@Slf4j
+@Component
+public class OrderViewRebuilder {
+
+    static final int CHUNK_SIZE = 10_000;
+
+    private final OrderRepository orderRepository;
+    private final OrderViewRepository orderViewRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean rebuildOnStartup;
+
+    public OrderViewRebuilder(OrderRepository orderRepository, OrderViewRepository orderViewRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${store.order-view.rebuild-on-startup:false}") boolean rebuildOnStartup) {
+        this.orderRepository = orderRepository;
+        this.orderViewRepository = orderViewRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.rebuildOnStartup = rebuildOnStartup;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        if (rebuildOnStartup) {
+            rebuild();
+        }
+    }
+
+    /** @return the number of view rows written, i.e. those that were missing or stale */
+    public long rebuild() {
+        long started = System.nanoTime();
+        long maxId = orderRepository.findMaxId();
+        long rows = 0;
+        for (long afterId = 0; afterId < maxId; afterId += CHUNK_SIZE) {
+            long from = afterId;
+            Integer written = transactionTemplate.execute(status -> orderViewRepository.refreshRange(from, from + CHUNK_SIZE));
+            rows += written != null ? written : 0;
+        }
+        log.info("Rebuilt order_view, {} rows written in {} ms", rows, (System.nanoTime() - started) / 1_000_000);
+        return rows;
+    }
+}
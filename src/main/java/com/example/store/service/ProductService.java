@@ -1,18 +1,28 @@
 package com.example.store.service;
 
+import com.example.store.dto.CursorPage;
 import com.example.store.dto.ProductDTO;
 import com.example.store.entity.Product;
 import com.example.store.mapper.ProductMapper;
+import com.example.store.pagination.CursorCodec;
+import com.example.store.pagination.PageTotals;
 import com.example.store.repository.ProductRepository;
+import com.example.store.repository.projection.ProductOrderIdsView;
+import com.example.store.repository.projection.ProductRow;
 import lombok.RequiredArgsConstructor;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.http.HttpStatus;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.server.ResponseStatusException;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
@@ -20,26 +30,121 @@ public class ProductService {
 
     private final ProductRepository productRepository;
     private final ProductMapper productMapper;
+    private final KnownIds knownIds;
 
     @CacheEvict(cacheNames = "productPage", allEntries = true)
     public ProductDTO createProduct(String description) {
-        Product product = Product.builder().description(description).build();
-        return productMapper.productToProductDTO(productRepository.save(product));
+        Product product = productRepository.save(Product.builder().description(description).build());
+        knownIds.created(KnownIds.Kind.PRODUCT, List.of(product.getId()));
+        return productMapper.productToProductDTO(product);
     }
 
     @Transactional(readOnly = true)
     @Cacheable(cacheNames = "productPage",
             key = "'p=' + #pageable.pageNumber + '|' + 's=' + #pageable.pageSize + '|' + 'sort=' + #pageable.sort")
     public Page<ProductDTO> getAllProducts(Pageable pageable) {
-        Page<Product> products = productRepository.findAll(pageable);
-        return products.map(productMapper::productToProductDTO);
+        Page<ProductRow> products = productRepository.findProductRows(pageable);
+        Map<Long, long[]> orderIds = orderIdsByProduct(products.map(ProductRow::id).getContent());
+        return products.map(row -> toProductDTO(row, orderIds.get(row.id())));
+    }
+
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = "productPage",
+            key = "'total=none|' + 'p=' + #pageable.pageNumber + '|' + 's=' + #pageable.pageSize + '|' + 'sort=' + #pageable.sort")
+    public Slice<ProductDTO> getProductsSlice(Pageable pageable) {
+        Slice<ProductRow> products = productRepository.findProductRowSlice(pageable);
+        Map<Long, long[]> orderIds = orderIdsByProduct(products.map(ProductRow::id).getContent());
+        return products.map(row -> toProductDTO(row, orderIds.get(row.id())));
+    }
+
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = "productPage",
+            key = "'total=estimate|' + 'p=' + #pageable.pageNumber + '|' + 's=' + #pageable.pageSize + '|' + 'sort=' + #pageable.sort")
+    public Page<ProductDTO> getProductsWithEstimatedTotal(Pageable pageable) {
+        Slice<ProductRow> slice = productRepository.findProductRowSlice(pageable);
+        Map<Long, long[]> orderIds = orderIdsByProduct(slice.map(ProductRow::id).getContent());
+        Slice<ProductDTO> products = slice.map(row -> toProductDTO(row, orderIds.get(row.id())));
+        return PageTotals.withEstimatedTotal(products, productRepository.estimateCount());
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<ProductDTO> getProductsByCursor(String cursor, int size) {
+        int pageSize = CursorPage.clampSize(size);
+        Long lastId = CursorCodec.decode(cursor);
+        Limit limit = Limit.of(pageSize + 1);
+        List<Product> products = lastId == null ?
+                productRepository.findAllByOrderByIdDesc(limit) : productRepository.findByIdLessThanOrderByIdDesc(lastId, limit);
+        Map<Long, long[]> orderIds = orderIdsByProduct(products.stream().limit(pageSize).map(Product::getId).toList());
+        return CursorPage.of(products, pageSize, Product::getId, product -> toProductDTO(product, orderIds));
     }
 
+    /** Concurrent misses on one id share a single load ({@code sync}); see {@code CacheLoadingConfig} for refresh. */
     @Transactional(readOnly = true)
-    @Cacheable(cacheNames = "productById", key = "#id")
+    @Cacheable(cacheNames = "productById", key = "#id", sync = true)
     public ProductDTO getProductByID(Long id) {
-        Product product = productRepository.findById(id)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Not Found Product by ID " + id));
+        return loadProduct(id);
+    }
+
+    /**
+     * {@link #getProductByID} without the cache, for reloading a cached entry. Ids {@link KnownIds} rules out are
+     * refused without a query, and ids found missing are remembered there.
+     */
+    @Transactional(readOnly = true)
+    public ProductDTO loadProduct(Long id) {
+        if (id != null && knownIds.isKnownMissing(KnownIds.Kind.PRODUCT, id)) {
+            throw new NotFoundException("Not Found Product by ID " + id);
+        }
+        Product product = productRepository.findById(id).orElseThrow(() -> {
+            if (id != null) {
+                knownIds.recordMissing(KnownIds.Kind.PRODUCT, id);
+            }
+            return new NotFoundException("Not Found Product by ID " + id);
+        });
         return productMapper.productToProductDTO(product);
     }
+
+    /**
+     * Order ids of a page of products from a single aggregate query, instead of initializing the lazy
+     * {@code Product.orders} collection once per product.
+     */
+    private Map<Long, long[]> orderIdsByProduct(List<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return Map.of();
+        }
+        Map<Long, long[]> orderIds = new HashMap<>();
+        for (ProductOrderIdsView row : productRepository.aggregateOrderIds(productIds)) {
+            orderIds.put(row.getProductId(), parseIds(row.getOrderIds()));
+        }
+        return orderIds;
+    }
+
+    static long[] parseIds(String csv) {
+        if (csv == null || csv.isEmpty()) {
+            return new long[0];
+        }
+        String[] parts = csv.split(",");
+        long[] ids = new long[parts.length];
+        for (int i = 0; i < parts.length; i++) {
+            ids[i] = Long.parseLong(parts[i]);
+        }
+        return ids;
+    }
+
+    private ProductDTO toProductDTO(Product entity, Map<Long, long[]> orderIds) {
+        ProductDTO product = productMapper.productToProductDTOWithoutOrders(entity);
+        product.setOrders(toList(orderIds.get(entity.getId())));
+        return product;
+    }
+
+    private static ProductDTO toProductDTO(ProductRow row, long[] orderIds) {
+        ProductDTO product = new ProductDTO();
+        product.setId(row.id());
+        product.setDescription(row.description());
+        product.setOrders(toList(orderIds));
+        return product;
+    }
+
+    private static List<Long> toList(long[] ids) {
+        return ids == null ? List.of() : Arrays.stream(ids).boxed().toList();
+    }
 }
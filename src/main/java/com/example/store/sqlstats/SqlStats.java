@@ -0,0 +1,54 @@
+package com.example.store.sqlstats;
+
+/**
+ * JDBC work done by the current thread since {@link #start()}: statements sent, rows fetched and time spent inside
+ * JDBC calls. {@link SqlStatsDataSource} records into it; {@link SqlStatsFilter} starts and stops it around each HTTP
+ * request. Outside a started scope nothing is recorded.
+ */
+public final class SqlStats {
+
+    private static final ThreadLocal<SqlStats> CURRENT = new ThreadLocal<>();
+
+    private int statements;
+    private long rows;
+    private long jdbcNanos;
+
+    public static SqlStats start() {
+        SqlStats stats = new SqlStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    /** The stats of the current thread, or {@code null} outside a started scope. */
+    public static SqlStats current() {
+        return CURRENT.get();
+    }
+
+    public static void stop() {
+        CURRENT.remove();
+    }
+
+    public int statements() {
+        return statements;
+    }
+
+    public long rows() {
+        return rows;
+    }
+
+    public long jdbcNanos() {
+        return jdbcNanos;
+    }
+
+    void recordStatement(long nanos) {
+        statements++;
+        jdbcNanos += nanos;
+    }
+
+    void recordFetch(long nanos, boolean row) {
+        if (row) {
+            rows++;
+        }
+        jdbcNanos += nanos;
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.store.sqlstats;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Set;
+import javax.sql.DataSource;
+
+/**
+ * Wraps connections so every statement execution and every {@link ResultSet#next()} is recorded in {@link SqlStats}.
+ * A batch counts as one statement, since it is one round trip. Everything else, including {@code unwrap}, goes
+ * straight to the driver's objects.
+ */
+public class SqlStatsDataSource extends DelegatingDataSource {
+
+    private static final Set<String> EXECUTE_METHODS = Set.of(
+            "execute", "executeQuery", "executeUpdate", "executeLargeUpdate", "executeBatch", "executeLargeBatch");
+    private static final Set<Class<?>> STATEMENT_TYPES =
+            Set.of(Statement.class, PreparedStatement.class, CallableStatement.class);
+
+    public SqlStatsDataSource(DataSource target) {
+        super(target);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return proxy(Connection.class, obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return proxy(Connection.class, obtainTargetDataSource().getConnection(username, password));
+    }
+
+    private static <T> T proxy(Class<T> type, T target) {
+        InvocationHandler handler = (proxy, method, args) -> invoke(target, method, args);
+        return type.cast(Proxy.newProxyInstance(SqlStatsDataSource.class.getClassLoader(), new Class<?>[] {type}, handler));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        SqlStats stats = SqlStats.current();
+        boolean execute = target instanceof Statement && EXECUTE_METHODS.contains(method.getName());
+        boolean next = target instanceof ResultSet && method.getName().equals("next");
+        long started = stats != null && (execute || next) ? System.nanoTime() : 0;
+        Object result;
+        try {
+            result = method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        } finally {
+            if (stats != null && execute) {
+                stats.recordStatement(System.nanoTime() - started);
+            }
+        }
+        if (stats != null && next) {
+            stats.recordFetch(System.nanoTime() - started, (Boolean) result);
+        }
+        return wrap(method.getReturnType(), result);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Object wrap(Class<?> type, Object result) {
+        if (result != null && (STATEMENT_TYPES.contains(type) || type == ResultSet.class)) {
+            return proxy((Class) type, result);
+        }
+        return result;
+    }
+}
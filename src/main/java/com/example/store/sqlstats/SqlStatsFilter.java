@@ -0,0 +1,135 @@
+package com.example.store.sqlstats;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Counts the JDBC work of each HTTP request and reports it three ways:
+ *
+ * <ul>
+ *   <li>a {@code Server-Timing: db;dur=<ms>;desc="statements=<n> rows=<n>"} header, added just before the body is
+ *       written, so it covers everything the handler did;
+ *   <li>the {@code store.sql.statements}, {@code store.sql.rows} and {@code store.sql.time} meters, tagged with the
+ *       controller method ({@code handler=OrderController.getAllOrders});
+ *   <li>a warning when a request sends more statements than {@code store.sql.statement-budget}.
+ * </ul>
+ */
+@Slf4j
+public class SqlStatsFilter extends OncePerRequestFilter {
+
+    static final String HEADER = "Server-Timing";
+
+    private final MeterRegistry meterRegistry;
+    private final int statementBudget;
+
+    public SqlStatsFilter(MeterRegistry meterRegistry, int statementBudget) {
+        this.meterRegistry = meterRegistry;
+        this.statementBudget = statementBudget;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        SqlStats stats = SqlStats.start();
+        ServerTimingResponse timedResponse = new ServerTimingResponse(response, stats);
+        try {
+            chain.doFilter(request, timedResponse);
+        } finally {
+            SqlStats.stop();
+            if (!response.isCommitted()) {
+                timedResponse.addServerTiming();
+            }
+            record(request, stats);
+        }
+    }
+
+    private void record(HttpServletRequest request, SqlStats stats) {
+        String handler = handler(request);
+        DistributionSummary.builder("store.sql.statements")
+                .description("JDBC statements per HTTP request")
+                .tag("handler", handler)
+                .register(meterRegistry)
+                .record(stats.statements());
+        DistributionSummary.builder("store.sql.rows")
+                .description("Rows fetched per HTTP request")
+                .tag("handler", handler)
+                .register(meterRegistry)
+                .record(stats.rows());
+        Timer.builder("store.sql.time")
+                .description("Time spent in JDBC calls per HTTP request")
+                .tag("handler", handler)
+                .register(meterRegistry)
+                .record(stats.jdbcNanos(), TimeUnit.NANOSECONDS);
+
+        if (stats.statements() > statementBudget) {
+            log.warn("{} {} ({}) sent {} statements, budget is {}; {} rows, {} ms in JDBC", request.getMethod(),
+                    request.getRequestURI(), handler, stats.statements(), statementBudget, stats.rows(),
+                    stats.jdbcNanos() / 1_000_000);
+        }
+    }
+
+    private static String handler(HttpServletRequest request) {
+        if (request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE) instanceof HandlerMethod method) {
+            return method.getBeanType().getSimpleName() + "." + method.getMethod().getName();
+        }
+        return "none";
+    }
+
+    static String serverTiming(SqlStats stats) {
+        return String.format(Locale.ROOT, "db;dur=%.2f;desc=\"statements=%d rows=%d\"",
+                stats.jdbcNanos() / 1_000_000.0, stats.statements(), stats.rows());
+    }
+
+    /** Adds the header once, when the body is about to be written and headers can still change. */
+    private static class ServerTimingResponse extends HttpServletResponseWrapper {
+
+        private final SqlStats stats;
+        private boolean added;
+
+        ServerTimingResponse(HttpServletResponse response, SqlStats stats) {
+            super(response);
+            this.stats = stats;
+        }
+
+        void addServerTiming() {
+            if (!added) {
+                added = true;
+                addHeader(HEADER, serverTiming(stats));
+            }
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            addServerTiming();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            addServerTiming();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            addServerTiming();
+            super.flushBuffer();
+        }
+    }
+}
@@ -1,10100 +0,0 @@
-INSERT INTO customer (id, name) VALUES (1, 'Muriel Donnelly');
-INSERT INTO customer (id, name) VALUES (2, 'Lance Stiedemann Sr.');
-INSERT INTO customer (id, name) VALUES (3, 'Denise Harris');
-INSERT INTO customer (id, name) VALUES (4, 'Dianne Lemke');
-INSERT INTO customer (id, name) VALUES (5, 'Jean Daniel');
-INSERT INTO customer (id, name) VALUES (6, 'Vicki Kutch');
-INSERT INTO customer (id, name) VALUES (7, 'Dr. Winifred Morissette');
-INSERT INTO customer (id, name) VALUES (8, 'Robin Steuber');
-INSERT INTO customer (id, name) VALUES (9, 'Leticia MacGyver');
-INSERT INTO customer (id, name) VALUES (10, 'Dr. Natalie Oberbrunner');
-INSERT INTO customer (id, name) VALUES (11, 'Ms. Velma Mosciski');
-INSERT INTO customer (id, name) VALUES (12, 'Verna Beahan');
-INSERT INTO customer (id, name) VALUES (13, 'Salvatore Feil');
-INSERT INTO customer (id, name) VALUES (14, 'Irma Stoltenberg');
-INSERT INTO customer (id, name) VALUES (15, 'Zachary Adams');
-INSERT INTO customer (id, name) VALUES (16, 'Alexander Mayer');
-INSERT INTO customer (id, name) VALUES (17, 'Hattie Quigley');
-INSERT INTO customer (id, name) VALUES (18, 'Angelo Pfannerstill');
-INSERT INTO customer (id, name) VALUES (19, 'Moses Johnson');
-INSERT INTO customer (id, name) VALUES (20, 'Della Rutherford');
-INSERT INTO customer (id, name) VALUES (21, 'Loren Hoeger');
-INSERT INTO customer (id, name) VALUES (22, 'Brent Murray');
-INSERT INTO customer (id, name) VALUES (23, 'Julio Stark');
-INSERT INTO customer (id, name) VALUES (24, 'Mr. Christine Gislason');
-INSERT INTO customer (id, name) VALUES (25, 'Salvador Brakus');
-INSERT INTO customer (id, name) VALUES (26, 'Emma Stokes Sr.');
-INSERT INTO customer (id, name) VALUES (27, 'Ms. Grady Durgan');
-INSERT INTO customer (id, name) VALUES (28, 'Meghan Rogahn');
-INSERT INTO customer (id, name) VALUES (29, 'Orville McGlynn');
-INSERT INTO customer (id, name) VALUES (30, 'Cathy DuBuque');
-INSERT INTO customer (id, name) VALUES (31, 'Mr. Ella Champlin');
-INSERT INTO customer (id, name) VALUES (32, 'Norman Murphy');
-INSERT INTO customer (id, name) VALUES (33, 'Woodrow Howe');
-INSERT INTO customer (id, name) VALUES (34, 'Noel Hane');
-INSERT INTO customer (id, name) VALUES (35, 'Miss Kristen Fay');
-INSERT INTO customer (id, name) VALUES (36, 'Gwendolyn Bruen MD');
-INSERT INTO customer (id, name) VALUES (37, 'Irma Kuhic');
-INSERT INTO customer (id, name) VALUES (38, 'Clinton Will');
-INSERT INTO customer (id, name) VALUES (39, 'Jo Rath');
-INSERT INTO customer (id, name) VALUES (40, 'Myra Hamill');
-INSERT INTO customer (id, name) VALUES (41, 'Herman Corkery');
-INSERT INTO customer (id, name) VALUES (42, 'Mr. Phyllis Hyatt');
-INSERT INTO customer (id, name) VALUES (43, 'Walter Hyatt');
-INSERT INTO customer (id, name) VALUES (44, 'Jonathan Kunze');
-INSERT INTO customer (id, name) VALUES (45, 'Jan Greenfelder');
-INSERT INTO customer (id, name) VALUES (46, 'Nelson Parisian');
-INSERT INTO customer (id, name) VALUES (47, 'Mrs. Perry Balistreri Jr.');
-INSERT INTO customer (id, name) VALUES (48, 'Joseph Rogahn');
-INSERT INTO customer (id, name) VALUES (49, 'Kathryn Schultz');
-INSERT INTO customer (id, name) VALUES (50, 'Alton Welch');
-INSERT INTO customer (id, name) VALUES (51, 'Elisa Hilpert');
-INSERT INTO customer (id, name) VALUES (52, 'Jim Renner');
-INSERT INTO customer (id, name) VALUES (53, 'Elsie Ferry');
-INSERT INTO customer (id, name) VALUES (54, 'Mrs. Courtney Parisian');
-INSERT INTO customer (id, name) VALUES (55, 'Betsy Beer');
-INSERT INTO customer (id, name) VALUES (56, 'David Feest');
-INSERT INTO customer (id, name) VALUES (57, 'Aubrey Kuvalis');
-INSERT INTO customer (id, name) VALUES (58, 'Heidi Becker');
-INSERT INTO customer (id, name) VALUES (59, 'Dean Schroeder');
-INSERT INTO customer (id, name) VALUES (60, 'Guadalupe Kirlin');
-INSERT INTO customer (id, name) VALUES (61, 'Amber Nitzsche');
-INSERT INTO customer (id, name) VALUES (62, 'Johnathan Mayer I');
-INSERT INTO customer (id, name) VALUES (63, 'Mrs. Lisa Kessler');
-INSERT INTO customer (id, name) VALUES (64, 'Ms. Michelle Rolfson');
-INSERT INTO customer (id, name) VALUES (65, 'Johnny Roob');
-INSERT INTO customer (id, name) VALUES (66, 'Iris Vandervort');
-INSERT INTO customer (id, name) VALUES (67, 'Ashley Kassulke');
-INSERT INTO customer (id, name) VALUES (68, 'Terence Christiansen');
-INSERT INTO customer (id, name) VALUES (69, 'Noel Nikolaus');
-INSERT INTO customer (id, name) VALUES (70, 'Albert Boyle IV');
-INSERT INTO customer (id, name) VALUES (71, 'Frederick Mueller');
-INSERT INTO customer (id, name) VALUES (72, 'Jeff Bernhard I');
-INSERT INTO customer (id, name) VALUES (73, 'Edna Schultz');
-INSERT INTO customer (id, name) VALUES (74, 'Miss Wilma Glover');
-INSERT INTO customer (id, name) VALUES (75, 'Fred Runte');
-INSERT INTO customer (id, name) VALUES (76, 'Beulah Buckridge II');
-INSERT INTO customer (id, name) VALUES (77, 'Lauren Medhurst');
-INSERT INTO customer (id, name) VALUES (78, 'Saul Pagac');
-INSERT INTO customer (id, name) VALUES (79, 'Judith Ebert');
-INSERT INTO customer (id, name) VALUES (80, 'Lydia Runte');
-INSERT INTO customer (id, name) VALUES (81, 'Jon Lesch');
-INSERT INTO customer (id, name) VALUES (82, 'Ms. Guy Bailey');
-INSERT INTO customer (id, name) VALUES (83, 'Dale Zulauf');
-INSERT INTO customer (id, name) VALUES (84, 'Cheryl Schinner');
-INSERT INTO customer (id, name) VALUES (85, 'Dr. Marion Glover');
-INSERT INTO customer (id, name) VALUES (86, 'Deborah Blick');
-INSERT INTO customer (id, name) VALUES (87, 'Danielle Casper');
-INSERT INTO customer (id, name) VALUES (88, 'Rufus Hettinger');
-INSERT INTO customer (id, name) VALUES (89, 'Glenn Bernhard');
-INSERT INTO customer (id, name) VALUES (90, 'Tony Strosin');
-INSERT INTO customer (id, name) VALUES (91, 'Ricardo Franecki');
-INSERT INTO customer (id, name) VALUES (92, 'Dwayne Bergnaum PhD');
-INSERT INTO customer (id, name) VALUES (93, 'Clayton Little');
-INSERT INTO customer (id, name) VALUES (94, 'Jim Kohler');
-INSERT INTO customer (id, name) VALUES (95, 'Simon Kuhn');
-INSERT INTO customer (id, name) VALUES (96, 'Karla Leuschke');
-INSERT INTO customer (id, name) VALUES (97, 'Maurice Hintz');
-INSERT INTO customer (id, name) VALUES (98, 'Cody Stoltenberg');
-INSERT INTO customer (id, name) VALUES (99, 'Tracey King');
-INSERT INTO customer (id, name) VALUES (100, 'Ed Glover');
-INSERT INTO "order" (id, description, customer_id) VALUES (1, 'Handcrafted Soft Chair', 6);
-INSERT INTO "order" (id, description, customer_id) VALUES (2, 'Awesome Metal Fish', 45);
-INSERT INTO "order" (id, description, customer_id) VALUES (3, 'Handmade Frozen Salad', 61);
-INSERT INTO "order" (id, description, customer_id) VALUES (4, 'Sleek Soft Chair', 99);
-INSERT INTO "order" (id, description, customer_id) VALUES (5, 'Recycled Wooden Shoes', 4);
-INSERT INTO "order" (id, description, customer_id) VALUES (6, 'Small Concrete Table', 23);
-INSERT INTO "order" (id, description, customer_id) VALUES (7, 'Awesome Concrete Gloves', 77);
-INSERT INTO "order" (id, description, customer_id) VALUES (8, 'Fantastic Granite Computer', 45);
-INSERT INTO "order" (id, description, customer_id) VALUES (9, 'Sleek Frozen Car', 29);
-INSERT INTO "order" (id, description, customer_id) VALUES (10, 'Sleek Frozen Bacon', 83);
-INSERT INTO "order" (id, description, customer_id) VALUES (11, 'Licensed Cotton Sausages', 24);
-INSERT INTO "order" (id, description, customer_id) VALUES (12, 'Bespoke Concrete Car', 26);
-INSERT INTO "order" (id, description, customer_id) VALUES (13, 'Small Wooden Shirt', 50);
-INSERT INTO "order" (id, description, customer_id) VALUES (14, 'Handcrafted Concrete Computer', 23);
-INSERT INTO "order" (id, description, customer_id) VALUES (15, 'Handcrafted Fresh Computer', 80);
-INSERT INTO "order" (id, description, customer_id) VALUES (16, 'Oriental Frozen Shoes', 68);
-INSERT INTO "order" (id, description, customer_id) VALUES (17, 'Rustic Bronze Salad', 2);
-INSERT INTO "order" (id, description, customer_id) VALUES (18, 'Elegant Plastic Tuna', 31);
-INSERT INTO "order" (id, description, customer_id) VALUES (19, 'Sleek Cotton Towels', 18);
-INSERT INTO "order" (id, description, customer_id) VALUES (20, 'Luxurious Concrete Chips', 66);
-INSERT INTO "order" (id, description, customer_id) VALUES (21, 'Sleek Wooden Bike', 93);
-INSERT INTO "order" (id, description, customer_id) VALUES (22, 'Bespoke Concrete Car', 56);
-INSERT INTO "order" (id, description, customer_id) VALUES (23, 'Practical Rubber Tuna', 99);
-INSERT INTO "order" (id, description, customer_id) VALUES (24, 'Tasty Metal Car', 83);
-INSERT INTO "order" (id, description, customer_id) VALUES (25, 'Incredible Concrete Towels', 62);
-INSERT INTO "order" (id, description, customer_id) VALUES (26, 'Incredible Cotton Chicken', 20);
-INSERT INTO "order" (id, description, customer_id) VALUES (27, 'Gorgeous Concrete Towels', 22);
-INSERT INTO "order" (id, description, customer_id) VALUES (28, 'Practical Metal Sausages', 98);
-INSERT INTO "order" (id, description, customer_id) VALUES (29, 'Handmade Concrete Chair', 65);
-INSERT INTO "order" (id, description, customer_id) VALUES (30, 'Refined Soft Computer', 18);
-INSERT INTO "order" (id, description, customer_id) VALUES (31, 'Intelligent Granite Mouse', 18);
-INSERT INTO "order" (id, description, customer_id) VALUES (32, 'Ergonomic Plastic Chips', 23);
-INSERT INTO "order" (id, description, customer_id) VALUES (33, 'Electronic Cotton Computer', 13);
-INSERT INTO "order" (id, description, customer_id) VALUES (34, 'Awesome Bronze Car', 13);
-INSERT INTO "order" (id, description, customer_id) VALUES (35, 'Handmade Concrete Cheese', 47);
-INSERT INTO "order" (id, description, customer_id) VALUES (36, 'Fantastic Cotton Mouse', 25);
-INSERT INTO "order" (id, description, customer_id) VALUES (37, 'Awesome Frozen Car', 29);
-INSERT INTO "order" (id, description, customer_id) VALUES (38, 'Tasty Granite Chair', 50);
-INSERT INTO "order" (id, description, customer_id) VALUES (39, 'Rustic Rubber Chicken', 77);
-INSERT INTO "order" (id, description, customer_id) VALUES (40, 'Rustic Steel Shirt', 53);
-INSERT INTO "order" (id, description, customer_id) VALUES (41, 'Practical Frozen Chair', 76);
-INSERT INTO "order" (id, description, customer_id) VALUES (42, 'Fantastic Rubber Towels', 47);
-INSERT INTO "order" (id, description, customer_id) VALUES (43, 'Electronic Fresh Chair', 66);
-INSERT INTO "order" (id, description, customer_id) VALUES (44, 'Handcrafted Frozen Salad', 30);
-INSERT INTO "order" (id, description, customer_id) VALUES (45, 'Oriental Fresh Shirt', 37);
-INSERT INTO "order" (id, description, customer_id) VALUES (46, 'Small Concrete Ball', 42);
-INSERT INTO "order" (id, description, customer_id) VALUES (47, 'Intelligent Metal Gloves', 98);
-INSERT INTO "order" (id, description, customer_id) VALUES (48, 'Elegant Cotton Car', 32);
-INSERT INTO "order" (id, description, customer_id) VALUES (49, 'Generic Wooden Ball', 90);
-INSERT INTO "order" (id, description, customer_id) VALUES (50, 'Awesome Frozen Shirt', 92);
-INSERT INTO "order" (id, description, customer_id) VALUES (51, 'Gorgeous Metal Salad', 8);
-INSERT INTO "order" (id, description, customer_id) VALUES (52, 'Refined Metal Salad', 27);
-INSERT INTO "order" (id, description, customer_id) VALUES (53, 'Sleek Metal Cheese', 20);
-INSERT INTO "order" (id, description, customer_id) VALUES (54, 'Small Steel Pants', 16);
-INSERT INTO "order" (id, description, customer_id) VALUES (55, 'Intelligent Soft Computer', 42);
-INSERT INTO "order" (id, description, customer_id) VALUES (56, 'Gorgeous Soft Computer', 36);
-INSERT INTO "order" (id, description, customer_id) VALUES (57, 'Licensed Concrete Pants', 90);
-INSERT INTO "order" (id, description, customer_id) VALUES (58, 'Modern Concrete Bike', 49);
-INSERT INTO "order" (id, description, customer_id) VALUES (59, 'Licensed Plastic Pizza', 84);
-INSERT INTO "order" (id, description, customer_id) VALUES (60, 'Handcrafted Wooden Chair', 93);
-INSERT INTO "order" (id, description, customer_id) VALUES (61, 'Generic Metal Keyboard', 70);
-INSERT INTO "order" (id, description, customer_id) VALUES (62, 'Fantastic Frozen Towels', 25);
-INSERT INTO "order" (id, description, customer_id) VALUES (63, 'Modern Rubber Pizza', 46);
-INSERT INTO "order" (id, description, customer_id) VALUES (64, 'Licensed Cotton Towels', 26);
-INSERT INTO "order" (id, description, customer_id) VALUES (65, 'Rustic Concrete Keyboard', 63);
-INSERT INTO "order" (id, description, customer_id) VALUES (66, 'Oriental Concrete Pizza', 33);
-INSERT INTO "order" (id, description, customer_id) VALUES (67, 'Ergonomic Granite Chicken', 41);
-INSERT INTO "order" (id, description, customer_id) VALUES (68, 'Gorgeous Cotton Fish', 98);
-INSERT INTO "order" (id, description, customer_id) VALUES (69, 'Fantastic Soft Keyboard', 68);
-INSERT INTO "order" (id, description, customer_id) VALUES (70, 'Ergonomic Steel Ball', 78);
-INSERT INTO "order" (id, description, customer_id) VALUES (71, 'Licensed Plastic Fish', 24);
-INSERT INTO "order" (id, description, customer_id) VALUES (72, 'Oriental Concrete Ball', 26);
-INSERT INTO "order" (id, description, customer_id) VALUES (73, 'Fantastic Rubber Car', 26);
-INSERT INTO "order" (id, description, customer_id) VALUES (74, 'Handcrafted Steel Computer', 82);
-INSERT INTO "order" (id, description, customer_id) VALUES (75, 'Handmade Bronze Keyboard', 76);
-INSERT INTO "order" (id, description, customer_id) VALUES (76, 'Fantastic Steel Towels', 45);
-INSERT INTO "order" (id, description, customer_id) VALUES (77, 'Gorgeous Metal Cheese', 10);
-INSERT INTO "order" (id, description, customer_id) VALUES (78, 'Unbranded Bronze Table', 36);
-INSERT INTO "order" (id, description, customer_id) VALUES (79, 'Luxurious Plastic Chips', 73);
-INSERT INTO "order" (id, description, customer_id) VALUES (80, 'Modern Wooden Car', 13);
-INSERT INTO "order" (id, description, customer_id) VALUES (81, 'Unbranded Frozen Computer', 37);
-INSERT INTO "order" (id, description, customer_id) VALUES (82, 'Handmade Rubber Chips', 73);
-INSERT INTO "order" (id, description, customer_id) VALUES (83, 'Elegant Cotton Hat', 47);
-INSERT INTO "order" (id, description, customer_id) VALUES (84, 'Handcrafted Steel Bacon', 54);
-INSERT INTO "order" (id, description, customer_id) VALUES (85, 'Tasty Rubber Soap', 3);
-INSERT INTO "order" (id, description, customer_id) VALUES (86, 'Elegant Wooden Sausages', 21);
-INSERT INTO "order" (id, description, customer_id) VALUES (87, 'Refined Rubber Computer', 33);
-INSERT INTO "order" (id, description, customer_id) VALUES (88, 'Bespoke Granite Salad', 44);
-INSERT INTO "order" (id, description, customer_id) VALUES (89, 'Small Steel Fish', 96);
-INSERT INTO "order" (id, description, customer_id) VALUES (90, 'Tasty Wooden Ball', 69);
-INSERT INTO "order" (id, description, customer_id) VALUES (91, 'Recycled Fresh Car', 75);
-INSERT INTO "order" (id, description, customer_id) VALUES (92, 'Luxurious Wooden Shirt', 55);
-INSERT INTO "order" (id, description, customer_id) VALUES (93, 'Handmade Soft Computer', 87);
-INSERT INTO "order" (id, description, customer_id) VALUES (94, 'Sleek Fresh Bacon', 43);
-INSERT INTO "order" (id, description, customer_id) VALUES (95, 'Handmade Rubber Chicken', 12);
-INSERT INTO "order" (id, description, customer_id) VALUES (96, 'Handmade Bronze Towels', 14);
-INSERT INTO "order" (id, description, customer_id) VALUES (97, 'Awesome Cotton Gloves', 66);
-INSERT INTO "order" (id, description, customer_id) VALUES (98, 'Intelligent Cotton Chips', 30);
-INSERT INTO "order" (id, description, customer_id) VALUES (99, 'Elegant Rubber Keyboard', 61);
-INSERT INTO "order" (id, description, customer_id) VALUES (100, 'Awesome Frozen Chips', 44);
-INSERT INTO "order" (id, description, customer_id) VALUES (101, 'Small Metal Chicken', 63);
-INSERT INTO "order" (id, description, customer_id) VALUES (102, 'Handcrafted Frozen Chicken', 95);
-INSERT INTO "order" (id, description, customer_id) VALUES (103, 'Tasty Steel Pants', 92);
-INSERT INTO "order" (id, description, customer_id) VALUES (104, 'Gorgeous Soft Chair', 22);
-INSERT INTO "order" (id, description, customer_id) VALUES (105, 'Handcrafted Fresh Computer', 3);
-INSERT INTO "order" (id, description, customer_id) VALUES (106, 'Handcrafted Cotton Ball', 30);
-INSERT INTO "order" (id, description, customer_id) VALUES (107, 'Recycled Cotton Shirt', 55);
-INSERT INTO "order" (id, description, customer_id) VALUES (108, 'Rustic Granite Bacon', 76);
-INSERT INTO "order" (id, description, customer_id) VALUES (109, 'Oriental Metal Bike', 85);
-INSERT INTO "order" (id, description, customer_id) VALUES (110, 'Intelligent Cotton Keyboard', 68);
-INSERT INTO "order" (id, description, customer_id) VALUES (111, 'Sleek Granite Sausages', 12);
-INSERT INTO "order" (id, description, customer_id) VALUES (112, 'Tasty Soft Salad', 52);
-INSERT INTO "order" (id, description, customer_id) VALUES (113, 'Practical Soft Salad', 2);
-INSERT INTO "order" (id, description, customer_id) VALUES (114, 'Generic Frozen Ball', 62);
-INSERT INTO "order" (id, description, customer_id) VALUES (115, 'Incredible Soft Ball', 52);
-INSERT INTO "order" (id, description, customer_id) VALUES (116, 'Elegant Soft Tuna', 91);
-INSERT INTO "order" (id, description, customer_id) VALUES (117, 'Small Cotton Hat', 55);
-INSERT INTO "order" (id, description, customer_id) VALUES (118, 'Awesome Steel Pizza', 5);
-INSERT INTO "order" (id, description, customer_id) VALUES (119, 'Handcrafted Fresh Shoes', 2);
-INSERT INTO "order" (id, description, customer_id) VALUES (120, 'Tasty Wooden Pants', 75);
-INSERT INTO "order" (id, description, customer_id) VALUES (121, 'Modern Bronze Fish', 75);
-INSERT INTO "order" (id, description, customer_id) VALUES (122, 'Licensed Wooden Towels', 29);
-INSERT INTO "order" (id, description, customer_id) VALUES (123, 'Incredible Concrete Salad', 4);
-INSERT INTO "order" (id, description, customer_id) VALUES (124, 'Rustic Granite Cheese', 58);
-INSERT INTO "order" (id, description, customer_id) VALUES (125, 'Elegant Soft Hat', 58);
-INSERT INTO "order" (id, description, customer_id) VALUES (126, 'Generic Granite Fish', 26);
-INSERT INTO "order" (id, description, customer_id) VALUES (127, 'Gorgeous Plastic Towels', 63);
-INSERT INTO "order" (id, description, customer_id) VALUES (128, 'Gorgeous Fresh Mouse', 63);
-INSERT INTO "order" (id, description, customer_id) VALUES (129, 'Practical Plastic Pants', 10);
-INSERT INTO "order" (id, description, customer_id) VALUES (130, 'Practical Frozen Pants', 55);
-INSERT INTO "order" (id, description, customer_id) VALUES (131, 'Practical Cotton Computer', 86);
-INSERT INTO "order" (id, description, customer_id) VALUES (132, 'Electronic Bronze Towels', 84);
-INSERT INTO "order" (id, description, customer_id) VALUES (133, 'Incredible Steel Mouse', 58);
-INSERT INTO "order" (id, description, customer_id) VALUES (134, 'Refined Cotton Tuna', 83);
-INSERT INTO "order" (id, description, customer_id) VALUES (135, 'Unbranded Fresh Fish', 12);
-INSERT INTO "order" (id, description, customer_id) VALUES (136, 'Practical Rubber Mouse', 77);
-INSERT INTO "order" (id, description, customer_id) VALUES (137, 'Oriental Soft Keyboard', 45);
-INSERT INTO "order" (id, description, customer_id) VALUES (138, 'Fantastic Plastic Chair', 88);
-INSERT INTO "order" (id, description, customer_id) VALUES (139, 'Fantastic Granite Sausages', 9);
-INSERT INTO "order" (id, description, customer_id) VALUES (140, 'Recycled Soft Mouse', 29);
-INSERT INTO "order" (id, description, customer_id) VALUES (141, 'Modern Concrete Computer', 55);
-INSERT INTO "order" (id, description, customer_id) VALUES (142, 'Fantastic Plastic Chips', 48);
-INSERT INTO "order" (id, description, customer_id) VALUES (143, 'Bespoke Fresh Keyboard', 44);
-INSERT INTO "order" (id, description, customer_id) VALUES (144, 'Awesome Metal Towels', 90);
-INSERT INTO "order" (id, description, customer_id) VALUES (145, 'Incredible Steel Sausages', 44);
-INSERT INTO "order" (id, description, customer_id) VALUES (146, 'Oriental Plastic Shirt', 61);
-INSERT INTO "order" (id, description, customer_id) VALUES (147, 'Ergonomic Granite Chips', 15);
-INSERT INTO "order" (id, description, customer_id) VALUES (148, 'Practical Metal Chair', 85);
-INSERT INTO "order" (id, description, customer_id) VALUES (149, 'Generic Metal Ball', 48);
-INSERT INTO "order" (id, description, customer_id) VALUES (150, 'Licensed Metal Chicken', 69);
-INSERT INTO "order" (id, description, customer_id) VALUES (151, 'Practical Frozen Shirt', 19);
-INSERT INTO "order" (id, description, customer_id) VALUES (152, 'Refined Rubber Shoes', 23);
-INSERT INTO "order" (id, description, customer_id) VALUES (153, 'Ergonomic Wooden Sausages', 12);
-INSERT INTO "order" (id, description, customer_id) VALUES (154, 'Incredible Granite Chair', 89);
-INSERT INTO "order" (id, description, customer_id) VALUES (155, 'Luxurious Granite Car', 53);
-INSERT INTO "order" (id, description, customer_id) VALUES (156, 'Tasty Fresh Table', 32);
-INSERT INTO "order" (id, description, customer_id) VALUES (157, 'Licensed Bronze Computer', 32);
-INSERT INTO "order" (id, description, customer_id) VALUES (158, 'Awesome Concrete Shirt', 1);
-INSERT INTO "order" (id, description, customer_id) VALUES (159, 'Unbranded Soft Shirt', 3);
-INSERT INTO "order" (id, description, customer_id) VALUES (160, 'Refined Frozen Sausages', 88);
-INSERT INTO "order" (id, description, customer_id) VALUES (161, 'Tasty Rubber Shirt', 33);
-INSERT INTO "order" (id, description, customer_id) VALUES (162, 'Elegant Soft Towels', 4);
-INSERT INTO "order" (id, description, customer_id) VALUES (163, 'Tasty Frozen Gloves', 86);
-INSERT INTO "order" (id, description, customer_id) VALUES (164, 'Intelligent Steel Towels', 72);
-INSERT INTO "order" (id, description, customer_id) VALUES (165, 'Bespoke Metal Ball', 50);
-INSERT INTO "order" (id, description, customer_id) VALUES (166, 'Practical Steel Chips', 47);
-INSERT INTO "order" (id, description, customer_id) VALUES (167, 'Incredible Frozen Gloves', 15);
-INSERT INTO "order" (id, description, customer_id) VALUES (168, 'Modern Rubber Car', 34);
-INSERT INTO "order" (id, description, customer_id) VALUES (169, 'Oriental Rubber Hat', 100);
-INSERT INTO "order" (id, description, customer_id) VALUES (170, 'Fantastic Cotton Cheese', 10);
-INSERT INTO "order" (id, description, customer_id) VALUES (171, 'Refined Wooden Gloves', 29);
-INSERT INTO "order" (id, description, customer_id) VALUES (172, 'Modern Granite Ball', 90);
-INSERT INTO "order" (id, description, customer_id) VALUES (173, 'Tasty Rubber Table', 20);
-INSERT INTO "order" (id, description, customer_id) VALUES (174, 'Incredible Wooden Chips', 80);
-INSERT INTO "order" (id, description, customer_id) VALUES (175, 'Generic Fresh Pizza', 63);
-INSERT INTO "order" (id, description, customer_id) VALUES (176, 'Unbranded Metal Towels', 51);
-INSERT INTO "order" (id, description, customer_id) VALUES (177, 'Awesome Frozen Fish', 36);
-INSERT INTO "order" (id, description, customer_id) VALUES (178, 'Awesome Granite Ball', 82);
-INSERT INTO "order" (id, description, customer_id) VALUES (179, 'Oriental Granite Car', 89);
-INSERT INTO "order" (id, description, customer_id) VALUES (180, 'Modern Wooden Computer', 10);
-INSERT INTO "order" (id, description, customer_id) VALUES (181, 'Licensed Plastic Mouse', 12);
-INSERT INTO "order" (id, description, customer_id) VALUES (182, 'Unbranded Concrete Keyboard', 33);
-INSERT INTO "order" (id, description, customer_id) VALUES (183, 'Bespoke Cotton Shoes', 100);
-INSERT INTO "order" (id, description, customer_id) VALUES (184, 'Incredible Granite Towels', 84);
-INSERT INTO "order" (id, description, customer_id) VALUES (185, 'Unbranded Bronze Chips', 24);
-INSERT INTO "order" (id, description, customer_id) VALUES (186, 'Licensed Concrete Mouse', 48);
-INSERT INTO "order" (id, description, customer_id) VALUES (187, 'Modern Granite Ball', 4);
-INSERT INTO "order" (id, description, customer_id) VALUES (188, 'Refined Frozen Chicken', 73);
-INSERT INTO "order" (id, description, customer_id) VALUES (189, 'Unbranded Wooden Table', 86);
-INSERT INTO "order" (id, description, customer_id) VALUES (190, 'Intelligent Frozen Chicken', 29);
-INSERT INTO "order" (id, description, customer_id) VALUES (191, 'Ergonomic Steel Chips', 23);
-INSERT INTO "order" (id, description, customer_id) VALUES (192, 'Modern Cotton Car', 57);
-INSERT INTO "order" (id, description, customer_id) VALUES (193, 'Bespoke Soft Bike', 87);
-INSERT INTO "order" (id, description, customer_id) VALUES (194, 'Electronic Frozen Keyboard', 67);
-INSERT INTO "order" (id, description, customer_id) VALUES (195, 'Ergonomic Plastic Bike', 62);
-INSERT INTO "order" (id, description, customer_id) VALUES (196, 'Bespoke Fresh Ball', 58);
-INSERT INTO "order" (id, description, customer_id) VALUES (197, 'Modern Rubber Shoes', 69);
-INSERT INTO "order" (id, description, customer_id) VALUES (198, 'Incredible Concrete Fish', 61);
-INSERT INTO "order" (id, description, customer_id) VALUES (199, 'Generic Frozen Table', 8);
-INSERT INTO "order" (id, description, customer_id) VALUES (200, 'Unbranded Bronze Chair', 80);
-INSERT INTO "order" (id, description, customer_id) VALUES (201, 'Bespoke Cotton Shirt', 14);
-INSERT INTO "order" (id, description, customer_id) VALUES (202, 'Generic Plastic Chicken', 30);
-INSERT INTO "order" (id, description, customer_id) VALUES (203, 'Tasty Wooden Bacon', 24);
-INSERT INTO "order" (id, description, customer_id) VALUES (204, 'Electronic Rubber Keyboard', 58);
-INSERT INTO "order" (id, description, customer_id) VALUES (205, 'Rustic Steel Fish', 91);
-INSERT INTO "order" (id, description, customer_id) VALUES (206, 'Elegant Bronze Keyboard', 22);
-INSERT INTO "order" (id, description, customer_id) VALUES (207, 'Small Rubber Chicken', 13);
-INSERT INTO "order" (id, description, customer_id) VALUES (208, 'Ergonomic Fresh Shirt', 58);
-INSERT INTO "order" (id, description, customer_id) VALUES (209, 'Licensed Wooden Bike', 70);
-INSERT INTO "order" (id, description, customer_id) VALUES (210, 'Intelligent Rubber Chicken', 33);
-INSERT INTO "order" (id, description, customer_id) VALUES (211, 'Fantastic Soft Car', 84);
-INSERT INTO "order" (id, description, customer_id) VALUES (212, 'Small Cotton Shoes', 82);
-INSERT INTO "order" (id, description, customer_id) VALUES (213, 'Ergonomic Rubber Soap', 11);
-INSERT INTO "order" (id, description, customer_id) VALUES (214, 'Ergonomic Fresh Bike', 63);
-INSERT INTO "order" (id, description, customer_id) VALUES (215, 'Gorgeous Steel Chicken', 31);
-INSERT INTO "order" (id, description, customer_id) VALUES (216, 'Unbranded Granite Gloves', 24);
-INSERT INTO "order" (id, description, customer_id) VALUES (217, 'Rustic Concrete Gloves', 8);
-INSERT INTO "order" (id, description, customer_id) VALUES (218, 'Incredible Soft Mouse', 15);
-INSERT INTO "order" (id, description, customer_id) VALUES (219, 'Elegant Wooden Computer', 96);
-INSERT INTO "order" (id, description, customer_id) VALUES (220, 'Rustic Steel Mouse', 97);
-INSERT INTO "order" (id, description, customer_id) VALUES (221, 'Sleek Frozen Sausages', 10);
-INSERT INTO "order" (id, description, customer_id) VALUES (222, 'Unbranded Metal Fish', 95);
-INSERT INTO "order" (id, description, customer_id) VALUES (223, 'Ergonomic Steel Soap', 30);
-INSERT INTO "order" (id, description, customer_id) VALUES (224, 'Rustic Concrete Chair', 51);
-INSERT INTO "order" (id, description, customer_id) VALUES (225, 'Bespoke Plastic Car', 7);
-INSERT INTO "order" (id, description, customer_id) VALUES (226, 'Electronic Plastic Computer', 85);
-INSERT INTO "order" (id, description, customer_id) VALUES (227, 'Sleek Wooden Towels', 23);
-INSERT INTO "order" (id, description, customer_id) VALUES (228, 'Modern Soft Pants', 16);
-INSERT INTO "order" (id, description, customer_id) VALUES (229, 'Practical Soft Shirt', 82);
-INSERT INTO "order" (id, description, customer_id) VALUES (230, 'Ergonomic Soft Salad', 32);
-INSERT INTO "order" (id, description, customer_id) VALUES (231, 'Awesome Bronze Gloves', 29);
-INSERT INTO "order" (id, description, customer_id) VALUES (232, 'Handmade Plastic Chicken', 58);
-INSERT INTO "order" (id, description, customer_id) VALUES (233, 'Refined Fresh Bike', 64);
-INSERT INTO "order" (id, description, customer_id) VALUES (234, 'Fantastic Rubber Chicken', 86);
-INSERT INTO "order" (id, description, customer_id) VALUES (235, 'Incredible Soft Hat', 5);
-INSERT INTO "order" (id, description, customer_id) VALUES (236, 'Incredible Soft Sausages', 81);
-INSERT INTO "order" (id, description, customer_id) VALUES (237, 'Intelligent Bronze Tuna', 60);
-INSERT INTO "order" (id, description, customer_id) VALUES (238, 'Modern Concrete Cheese', 26);
-INSERT INTO "order" (id, description, customer_id) VALUES (239, 'Generic Soft Chair', 62);
-INSERT INTO "order" (id, description, customer_id) VALUES (240, 'Sleek Concrete Car', 69);
-INSERT INTO "order" (id, description, customer_id) VALUES (241, 'Handmade Metal Chair', 16);
-INSERT INTO "order" (id, description, customer_id) VALUES (242, 'Small Soft Car', 61);
-INSERT INTO "order" (id, description, customer_id) VALUES (243, 'Electronic Metal Computer', 63);
-INSERT INTO "order" (id, description, customer_id) VALUES (244, 'Fantastic Fresh Chair', 35);
-INSERT INTO "order" (id, description, customer_id) VALUES (245, 'Practical Wooden Ball', 25);
-INSERT INTO "order" (id, description, customer_id) VALUES (246, 'Small Wooden Sausages', 40);
-INSERT INTO "order" (id, description, customer_id) VALUES (247, 'Unbranded Granite Car', 31);
-INSERT INTO "order" (id, description, customer_id) VALUES (248, 'Oriental Metal Chips', 13);
-INSERT INTO "order" (id, description, customer_id) VALUES (249, 'Incredible Steel Ball', 22);
-INSERT INTO "order" (id, description, customer_id) VALUES (250, 'Licensed Metal Computer', 13);
-INSERT INTO "order" (id, description, customer_id) VALUES (251, 'Bespoke Cotton Chips', 71);
-INSERT INTO "order" (id, description, customer_id) VALUES (252, 'Oriental Granite Ball', 54);
-INSERT INTO "order" (id, description, customer_id) VALUES (253, 'Ergonomic Soft Salad', 62);
-INSERT INTO "order" (id, description, customer_id) VALUES (254, 'Luxurious Frozen Gloves', 23);
-INSERT INTO "order" (id, description, customer_id) VALUES (255, 'Gorgeous Soft Gloves', 79);
-INSERT INTO "order" (id, description, customer_id) VALUES (256, 'Incredible Steel Towels', 48);
-INSERT INTO "order" (id, description, customer_id) VALUES (257, 'Tasty Steel Table', 16);
-INSERT INTO "order" (id, description, customer_id) VALUES (258, 'Elegant Fresh Cheese', 47);
-INSERT INTO "order" (id, description, customer_id) VALUES (259, 'Modern Steel Bacon', 89);
-INSERT INTO "order" (id, description, customer_id) VALUES (260, 'Ergonomic Wooden Sausages', 38);
-INSERT INTO "order" (id, description, customer_id) VALUES (261, 'Rustic Plastic Chips', 31);
-INSERT INTO "order" (id, description, customer_id) VALUES (262, 'Incredible Granite Towels', 22);
-INSERT INTO "order" (id, description, customer_id) VALUES (263, 'Handmade Steel Computer', 79);
-INSERT INTO "order" (id, description, customer_id) VALUES (264, 'Rustic Rubber Chair', 22);
-INSERT INTO "order" (id, description, customer_id) VALUES (265, 'Oriental Steel Hat', 44);
-INSERT INTO "order" (id, description, customer_id) VALUES (266, 'Awesome Concrete Shirt', 23);
-INSERT INTO "order" (id, description, customer_id) VALUES (267, 'Unbranded Plastic Salad', 55);
-INSERT INTO "order" (id, description, customer_id) VALUES (268, 'Fantastic Metal Mouse', 53);
-INSERT INTO "order" (id, description, customer_id) VALUES (269, 'Recycled Metal Bike', 100);
-INSERT INTO "order" (id, description, customer_id) VALUES (270, 'Awesome Fresh Towels', 64);
-INSERT INTO "order" (id, description, customer_id) VALUES (271, 'Ergonomic Cotton Bike', 17);
-INSERT INTO "order" (id, description, customer_id) VALUES (272, 'Handcrafted Steel Shoes', 93);
-INSERT INTO "order" (id, description, customer_id) VALUES (273, 'Intelligent Granite Computer', 58);
-INSERT INTO "order" (id, description, customer_id) VALUES (274, 'Handcrafted Granite Tuna', 95);
-INSERT INTO "order" (id, description, customer_id) VALUES (275, 'Generic Fresh Tuna', 47);
-INSERT INTO "order" (id, description, customer_id) VALUES (276, 'Luxurious Steel Gloves', 19);
-INSERT INTO "order" (id, description, customer_id) VALUES (277, 'Handcrafted Wooden Fish', 20);
-INSERT INTO "order" (id, description, customer_id) VALUES (278, 'Ergonomic Concrete Tuna', 59);
-INSERT INTO "order" (id, description, customer_id) VALUES (279, 'Luxurious Metal Salad', 64);
-INSERT INTO "order" (id, description, customer_id) VALUES (280, 'Ergonomic Concrete Chips', 5);
-INSERT INTO "order" (id, description, customer_id) VALUES (281, 'Gorgeous Frozen Cheese', 24);
-INSERT INTO "order" (id, description, customer_id) VALUES (282, 'Awesome Cotton Pizza', 79);
-INSERT INTO "order" (id, description, customer_id) VALUES (283, 'Handmade Plastic Shoes', 18);
-INSERT INTO "order" (id, description, customer_id) VALUES (284, 'Handcrafted Cotton Computer', 33);
-INSERT INTO "order" (id, description, customer_id) VALUES (285, 'Handmade Soft Pizza', 63);
-INSERT INTO "order" (id, description, customer_id) VALUES (286, 'Recycled Concrete Ball', 39);
-INSERT INTO "order" (id, description, customer_id) VALUES (287, 'Handmade Soft Hat', 88);
-INSERT INTO "order" (id, description, customer_id) VALUES (288, 'Generic Cotton Gloves', 40);
-INSERT INTO "order" (id, description, customer_id) VALUES (289, 'Rustic Cotton Chair', 56);
-INSERT INTO "order" (id, description, customer_id) VALUES (290, 'Rustic Steel Shoes', 38);
-INSERT INTO "order" (id, description, customer_id) VALUES (291, 'Intelligent Granite Gloves', 20);
-INSERT INTO "order" (id, description, customer_id) VALUES (292, 'Gorgeous Frozen Shirt', 26);
-INSERT INTO "order" (id, description, customer_id) VALUES (293, 'Incredible Bronze Mouse', 53);
-INSERT INTO "order" (id, description, customer_id) VALUES (294, 'Luxurious Rubber Cheese', 30);
-INSERT INTO "order" (id, description, customer_id) VALUES (295, 'Incredible Rubber Chair', 55);
-INSERT INTO "order" (id, description, customer_id) VALUES (296, 'Incredible Granite Salad', 62);
-INSERT INTO "order" (id, description, customer_id) VALUES (297, 'Unbranded Plastic Towels', 30);
-INSERT INTO "order" (id, description, customer_id) VALUES (298, 'Handcrafted Granite Chips', 28);
-INSERT INTO "order" (id, description, customer_id) VALUES (299, 'Incredible Steel Pizza', 98);
-INSERT INTO "order" (id, description, customer_id) VALUES (300, 'Oriental Rubber Bike', 84);
-INSERT INTO "order" (id, description, customer_id) VALUES (301, 'Handcrafted Bronze Car', 87);
-INSERT INTO "order" (id, description, customer_id) VALUES (302, 'Ergonomic Fresh Bacon', 41);
-INSERT INTO "order" (id, description, customer_id) VALUES (303, 'Elegant Concrete Keyboard', 65);
-INSERT INTO "order" (id, description, customer_id) VALUES (304, 'Rustic Metal Ball', 43);
-INSERT INTO "order" (id, description, customer_id) VALUES (305, 'Ergonomic Frozen Computer', 97);
-INSERT INTO "order" (id, description, customer_id) VALUES (306, 'Rustic Bronze Pants', 85);
-INSERT INTO "order" (id, description, customer_id) VALUES (307, 'Electronic Bronze Bike', 8);
-INSERT INTO "order" (id, description, customer_id) VALUES (308, 'Licensed Rubber Table', 80);
-INSERT INTO "order" (id, description, customer_id) VALUES (309, 'Handmade Wooden Towels', 24);
-INSERT INTO "order" (id, description, customer_id) VALUES (310, 'Awesome Soft Mouse', 84);
-INSERT INTO "order" (id, description, customer_id) VALUES (311, 'Ergonomic Frozen Shoes', 14);
-INSERT INTO "order" (id, description, customer_id) VALUES (312, 'Electronic Wooden Tuna', 11);
-INSERT INTO "order" (id, description, customer_id) VALUES (313, 'Refined Wooden Pizza', 32);
-INSERT INTO "order" (id, description, customer_id) VALUES (314, 'Luxurious Frozen Shirt', 43);
-INSERT INTO "order" (id, description, customer_id) VALUES (315, 'Small Wooden Pants', 11);
-INSERT INTO "order" (id, description, customer_id) VALUES (316, 'Handmade Frozen Computer', 29);
-INSERT INTO "order" (id, description, customer_id) VALUES (317, 'Small Granite Chicken', 1);
-INSERT INTO "order" (id, description, customer_id) VALUES (318, 'Awesome Plastic Table', 44);
-INSERT INTO "order" (id, description, customer_id) VALUES (319, 'Recycled Bronze Fish', 97);
-INSERT INTO "order" (id, description, customer_id) VALUES (320, 'Licensed Metal Gloves', 79);
-INSERT INTO "order" (id, description, customer_id) VALUES (321, 'Handmade Bronze Fish', 83);
-INSERT INTO "order" (id, description, customer_id) VALUES (322, 'Fantastic Rubber Towels', 60);
-INSERT INTO "order" (id, description, customer_id) VALUES (323, 'Ergonomic Fresh Mouse', 6);
-INSERT INTO "order" (id, description, customer_id) VALUES (324, 'Handmade Granite Cheese', 8);
-INSERT INTO "order" (id, description, customer_id) VALUES (325, 'Sleek Plastic Ball', 24);
-INSERT INTO "order" (id, description, customer_id) VALUES (326, 'Licensed Rubber Pizza', 59);
-INSERT INTO "order" (id, description, customer_id) VALUES (327, 'Recycled Cotton Bacon', 79);
-INSERT INTO "order" (id, description, customer_id) VALUES (328, 'Handcrafted Concrete Shoes', 52);
-INSERT INTO "order" (id, description, customer_id) VALUES (329, 'Licensed Steel Pants', 19);
-INSERT INTO "order" (id, description, customer_id) VALUES (330, 'Incredible Granite Chair', 99);
-INSERT INTO "order" (id, description, customer_id) VALUES (331, 'Unbranded Plastic Pants', 90);
-INSERT INTO "order" (id, description, customer_id) VALUES (332, 'Rustic Metal Pizza', 26);
-INSERT INTO "order" (id, description, customer_id) VALUES (333, 'Small Soft Table', 28);
-INSERT INTO "order" (id, description, customer_id) VALUES (334, 'Handmade Wooden Computer', 87);
-INSERT INTO "order" (id, description, customer_id) VALUES (335, 'Elegant Rubber Fish', 30);
-INSERT INTO "order" (id, description, customer_id) VALUES (336, 'Gorgeous Bronze Pants', 30);
-INSERT INTO "order" (id, description, customer_id) VALUES (337, 'Licensed Wooden Chips', 72);
-INSERT INTO "order" (id, description, customer_id) VALUES (338, 'Practical Bronze Sausages', 78);
-INSERT INTO "order" (id, description, customer_id) VALUES (339, 'Fantastic Frozen Chips', 42);
-INSERT INTO "order" (id, description, customer_id) VALUES (340, 'Ergonomic Wooden Sausages', 49);
-INSERT INTO "order" (id, description, customer_id) VALUES (341, 'Recycled Soft Ball', 93);
-INSERT INTO "order" (id, description, customer_id) VALUES (342, 'Bespoke Granite Hat', 41);
-INSERT INTO "order" (id, description, customer_id) VALUES (343, 'Awesome Cotton Towels', 14);
-INSERT INTO "order" (id, description, customer_id) VALUES (344, 'Licensed Wooden Ball', 36);
-INSERT INTO "order" (id, description, customer_id) VALUES (345, 'Electronic Concrete Keyboard', 3);
-INSERT INTO "order" (id, description, customer_id) VALUES (346, 'Recycled Wooden Hat', 27);
-INSERT INTO "order" (id, description, customer_id) VALUES (347, 'Gorgeous Cotton Soap', 67);
-INSERT INTO "order" (id, description, customer_id) VALUES (348, 'Modern Plastic Bike', 87);
-INSERT INTO "order" (id, description, customer_id) VALUES (349, 'Ergonomic Rubber Towels', 59);
-INSERT INTO "order" (id, description, customer_id) VALUES (350, 'Rustic Cotton Fish', 93);
-INSERT INTO "order" (id, description, customer_id) VALUES (351, 'Luxurious Metal Shirt', 58);
-INSERT INTO "order" (id, description, customer_id) VALUES (352, 'Unbranded Wooden Cheese', 18);
-INSERT INTO "order" (id, description, customer_id) VALUES (353, 'Licensed Metal Shirt', 19);
-INSERT INTO "order" (id, description, customer_id) VALUES (354, 'Electronic Concrete Mouse', 50);
-INSERT INTO "order" (id, description, customer_id) VALUES (355, 'Generic Plastic Soap', 21);
-INSERT INTO "order" (id, description, customer_id) VALUES (356, 'Unbranded Frozen Chicken', 72);
-INSERT INTO "order" (id, description, customer_id) VALUES (357, 'Practical Metal Shirt', 51);
-INSERT INTO "order" (id, description, customer_id) VALUES (358, 'Intelligent Wooden Towels', 65);
-INSERT INTO "order" (id, description, customer_id) VALUES (359, 'Sleek Frozen Gloves', 29);
-INSERT INTO "order" (id, description, customer_id) VALUES (360, 'Gorgeous Granite Cheese', 41);
-INSERT INTO "order" (id, description, customer_id) VALUES (361, 'Handmade Plastic Mouse', 63);
-INSERT INTO "order" (id, description, customer_id) VALUES (362, 'Intelligent Bronze Mouse', 66);
-INSERT INTO "order" (id, description, customer_id) VALUES (363, 'Gorgeous Cotton Shoes', 74);
-INSERT INTO "order" (id, description, customer_id) VALUES (364, 'Rustic Soft Sausages', 86);
-INSERT INTO "order" (id, description, customer_id) VALUES (365, 'Luxurious Rubber Bike', 81);
-INSERT INTO "order" (id, description, customer_id) VALUES (366, 'Modern Wooden Ball', 52);
-INSERT INTO "order" (id, description, customer_id) VALUES (367, 'Handcrafted Concrete Bike', 76);
-INSERT INTO "order" (id, description, customer_id) VALUES (368, 'Fantastic Fresh Cheese', 73);
-INSERT INTO "order" (id, description, customer_id) VALUES (369, 'Generic Steel Tuna', 76);
-INSERT INTO "order" (id, description, customer_id) VALUES (370, 'Gorgeous Bronze Tuna', 33);
-INSERT INTO "order" (id, description, customer_id) VALUES (371, 'Recycled Fresh Bike', 38);
-INSERT INTO "order" (id, description, customer_id) VALUES (372, 'Oriental Cotton Bike', 46);
-INSERT INTO "order" (id, description, customer_id) VALUES (373, 'Intelligent Frozen Computer', 97);
-INSERT INTO "order" (id, description, customer_id) VALUES (374, 'Practical Fresh Cheese', 3);
-INSERT INTO "order" (id, description, customer_id) VALUES (375, 'Oriental Wooden Bacon', 2);
-INSERT INTO "order" (id, description, customer_id) VALUES (376, 'Small Bronze Table', 71);
-INSERT INTO "order" (id, description, customer_id) VALUES (377, 'Modern Soft Fish', 53);
-INSERT INTO "order" (id, description, customer_id) VALUES (378, 'Modern Bronze Bike', 43);
-INSERT INTO "order" (id, description, customer_id) VALUES (379, 'Ergonomic Wooden Table', 63);
-INSERT INTO "order" (id, description, customer_id) VALUES (380, 'Recycled Soft Tuna', 47);
-INSERT INTO "order" (id, description, customer_id) VALUES (381, 'Oriental Granite Pants', 74);
-INSERT INTO "order" (id, description, customer_id) VALUES (382, 'Licensed Rubber Mouse', 100);
-INSERT INTO "order" (id, description, customer_id) VALUES (383, 'Intelligent Frozen Car', 79);
-INSERT INTO "order" (id, description, customer_id) VALUES (384, 'Refined Metal Towels', 72);
-INSERT INTO "order" (id, description, customer_id) VALUES (385, 'Intelligent Soft Shirt', 76);
-INSERT INTO "order" (id, description, customer_id) VALUES (386, 'Awesome Soft Car', 71);
-INSERT INTO "order" (id, description, customer_id) VALUES (387, 'Ergonomic Rubber Mouse', 90);
-INSERT INTO "order" (id, description, customer_id) VALUES (388, 'Awesome Bronze Pants', 7);
-INSERT INTO "order" (id, description, customer_id) VALUES (389, 'Ergonomic Rubber Chair', 60);
-INSERT INTO "order" (id, description, customer_id) VALUES (390, 'Generic Frozen Salad', 99);
-INSERT INTO "order" (id, description, customer_id) VALUES (391, 'Awesome Metal Sausages', 90);
-INSERT INTO "order" (id, description, customer_id) VALUES (392, 'Tasty Soft Cheese', 21);
-INSERT INTO "order" (id, description, customer_id) VALUES (393, 'Unbranded Metal Bacon', 82);
-INSERT INTO "order" (id, description, customer_id) VALUES (394, 'Rustic Steel Gloves', 64);
-INSERT INTO "order" (id, description, customer_id) VALUES (395, 'Small Metal Chair', 9);
-INSERT INTO "order" (id, description, customer_id) VALUES (396, 'Intelligent Cotton Car', 56);
-INSERT INTO "order" (id, description, customer_id) VALUES (397, 'Generic Steel Gloves', 9);
-INSERT INTO "order" (id, description, customer_id) VALUES (398, 'Oriental Bronze Ball', 6);
-INSERT INTO "order" (id, description, customer_id) VALUES (399, 'Practical Steel Shirt', 46);
-INSERT INTO "order" (id, description, customer_id) VALUES (400, 'Electronic Steel Towels', 81);
-INSERT INTO "order" (id, description, customer_id) VALUES (401, 'Licensed Bronze Salad', 15);
-INSERT INTO "order" (id, description, customer_id) VALUES (402, 'Intelligent Granite Chicken', 65);
-INSERT INTO "order" (id, description, customer_id) VALUES (403, 'Awesome Steel Keyboard', 81);
-INSERT INTO "order" (id, description, customer_id) VALUES (404, 'Elegant Steel Chicken', 20);
-INSERT INTO "order" (id, description, customer_id) VALUES (405, 'Awesome Bronze Salad', 22);
-INSERT INTO "order" (id, description, customer_id) VALUES (406, 'Tasty Concrete Tuna', 91);
-INSERT INTO "order" (id, description, customer_id) VALUES (407, 'Handcrafted Frozen Cheese', 89);
-INSERT INTO "order" (id, description, customer_id) VALUES (408, 'Refined Soft Salad', 33);
-INSERT INTO "order" (id, description, customer_id) VALUES (409, 'Handcrafted Fresh Pizza', 46);
-INSERT INTO "order" (id, description, customer_id) VALUES (410, 'Sleek Bronze Chicken', 41);
-INSERT INTO "order" (id, description, customer_id) VALUES (411, 'Handcrafted Rubber Cheese', 7);
-INSERT INTO "order" (id, description, customer_id) VALUES (412, 'Tasty Bronze Chips', 97);
-INSERT INTO "order" (id, description, customer_id) VALUES (413, 'Intelligent Frozen Cheese', 73);
-INSERT INTO "order" (id, description, customer_id) VALUES (414, 'Unbranded Metal Hat', 34);
-INSERT INTO "order" (id, description, customer_id) VALUES (415, 'Modern Steel Salad', 91);
-INSERT INTO "order" (id, description, customer_id) VALUES (416, 'Practical Bronze Shirt', 90);
-INSERT INTO "order" (id, description, customer_id) VALUES (417, 'Sleek Metal Car', 93);
-INSERT INTO "order" (id, description, customer_id) VALUES (418, 'Sleek Frozen Cheese', 8);
-INSERT INTO "order" (id, description, customer_id) VALUES (419, 'Licensed Rubber Tuna', 80);
-INSERT INTO "order" (id, description, customer_id) VALUES (420, 'Electronic Plastic Soap', 83);
-INSERT INTO "order" (id, description, customer_id) VALUES (421, 'Awesome Soft Soap', 68);
-INSERT INTO "order" (id, description, customer_id) VALUES (422, 'Unbranded Bronze Keyboard', 15);
-INSERT INTO "order" (id, description, customer_id) VALUES (423, 'Incredible Cotton Car', 52);
-INSERT INTO "order" (id, description, customer_id) VALUES (424, 'Small Soft Table', 54);
-INSERT INTO "order" (id, description, customer_id) VALUES (425, 'Gorgeous Fresh Sausages', 81);
-INSERT INTO "order" (id, description, customer_id) VALUES (426, 'Small Granite Shoes', 32);
-INSERT INTO "order" (id, description, customer_id) VALUES (427, 'Refined Metal Mouse', 95);
-INSERT INTO "order" (id, description, customer_id) VALUES (428, 'Refined Plastic Soap', 27);
-INSERT INTO "order" (id, description, customer_id) VALUES (429, 'Recycled Bronze Salad', 78);
-INSERT INTO "order" (id, description, customer_id) VALUES (430, 'Handmade Rubber Gloves', 39);
-INSERT INTO "order" (id, description, customer_id) VALUES (431, 'Bespoke Cotton Fish', 31);
-INSERT INTO "order" (id, description, customer_id) VALUES (432, 'Elegant Steel Car', 19);
-INSERT INTO "order" (id, description, customer_id) VALUES (433, 'Recycled Cotton Soap', 49);
-INSERT INTO "order" (id, description, customer_id) VALUES (434, 'Sleek Bronze Salad', 46);
-INSERT INTO "order" (id, description, customer_id) VALUES (435, 'Elegant Metal Shoes', 73);
-INSERT INTO "order" (id, description, customer_id) VALUES (436, 'Rustic Concrete Towels', 38);
-INSERT INTO "order" (id, description, customer_id) VALUES (437, 'Small Wooden Shirt', 17);
-INSERT INTO "order" (id, description, customer_id) VALUES (438, 'Modern Plastic Tuna', 55);
-INSERT INTO "order" (id, description, customer_id) VALUES (439, 'Generic Concrete Chips', 49);
-INSERT INTO "order" (id, description, customer_id) VALUES (440, 'Elegant Plastic Keyboard', 43);
-INSERT INTO "order" (id, description, customer_id) VALUES (441, 'Incredible Wooden Chips', 20);
-INSERT INTO "order" (id, description, customer_id) VALUES (442, 'Ergonomic Metal Salad', 29);
-INSERT INTO "order" (id, description, customer_id) VALUES (443, 'Recycled Metal Cheese', 16);
-INSERT INTO "order" (id, description, customer_id) VALUES (444, 'Gorgeous Plastic Computer', 52);
-INSERT INTO "order" (id, description, customer_id) VALUES (445, 'Handcrafted Steel Sausages', 71);
-INSERT INTO "order" (id, description, customer_id) VALUES (446, 'Modern Plastic Pants', 21);
-INSERT INTO "order" (id, description, customer_id) VALUES (447, 'Gorgeous Steel Tuna', 10);
-INSERT INTO "order" (id, description, customer_id) VALUES (448, 'Oriental Steel Keyboard', 41);
-INSERT INTO "order" (id, description, customer_id) VALUES (449, 'Ergonomic Plastic Mouse', 100);
-INSERT INTO "order" (id, description, customer_id) VALUES (450, 'Intelligent Fresh Cheese', 33);
-INSERT INTO "order" (id, description, customer_id) VALUES (451, 'Intelligent Metal Keyboard', 58);
-INSERT INTO "order" (id, description, customer_id) VALUES (452, 'Unbranded Metal Car', 67);
-INSERT INTO "order" (id, description, customer_id) VALUES (453, 'Awesome Cotton Sausages', 89);
-INSERT INTO "order" (id, description, customer_id) VALUES (454, 'Gorgeous Wooden Tuna', 29);
-INSERT INTO "order" (id, description, customer_id) VALUES (455, 'Small Steel Shirt', 73);
-INSERT INTO "order" (id, description, customer_id) VALUES (456, 'Rustic Wooden Pizza', 95);
-INSERT INTO "order" (id, description, customer_id) VALUES (457, 'Refined Steel Keyboard', 61);
-INSERT INTO "order" (id, description, customer_id) VALUES (458, 'Fantastic Wooden Mouse', 83);
-INSERT INTO "order" (id, description, customer_id) VALUES (459, 'Unbranded Steel Pizza', 16);
-INSERT INTO "order" (id, description, customer_id) VALUES (460, 'Modern Soft Keyboard', 19);
-INSERT INTO "order" (id, description, customer_id) VALUES (461, 'Fantastic Rubber Computer', 65);
-INSERT INTO "order" (id, description, customer_id) VALUES (462, 'Incredible Granite Shoes', 40);
-INSERT INTO "order" (id, description, customer_id) VALUES (463, 'Sleek Rubber Ball', 45);
-INSERT INTO "order" (id, description, customer_id) VALUES (464, 'Ergonomic Bronze Cheese', 99);
-INSERT INTO "order" (id, description, customer_id) VALUES (465, 'Fantastic Frozen Bacon', 42);
-INSERT INTO "order" (id, description, customer_id) VALUES (466, 'Practical Rubber Shirt', 48);
-INSERT INTO "order" (id, description, customer_id) VALUES (467, 'Rustic Rubber Mouse', 23);
-INSERT INTO "order" (id, description, customer_id) VALUES (468, 'Sleek Rubber Shirt', 41);
-INSERT INTO "order" (id, description, customer_id) VALUES (469, 'Practical Granite Soap', 54);
-INSERT INTO "order" (id, description, customer_id) VALUES (470, 'Recycled Soft Soap', 14);
-INSERT INTO "order" (id, description, customer_id) VALUES (471, 'Generic Steel Table', 29);
-INSERT INTO "order" (id, description, customer_id) VALUES (472, 'Elegant Metal Fish', 58);
-INSERT INTO "order" (id, description, customer_id) VALUES (473, 'Small Metal Bacon', 92);
-INSERT INTO "order" (id, description, customer_id) VALUES (474, 'Sleek Soft Shirt', 3);
-INSERT INTO "order" (id, description, customer_id) VALUES (475, 'Modern Metal Shoes', 30);
-INSERT INTO "order" (id, description, customer_id) VALUES (476, 'Recycled Granite Shirt', 34);
-INSERT INTO "order" (id, description, customer_id) VALUES (477, 'Sleek Granite Shoes', 6);
-INSERT INTO "order" (id, description, customer_id) VALUES (478, 'Ergonomic Granite Sausages', 62);
-INSERT INTO "order" (id, description, customer_id) VALUES (479, 'Refined Concrete Computer', 84);
-INSERT INTO "order" (id, description, customer_id) VALUES (480, 'Rustic Cotton Gloves', 19);
-INSERT INTO "order" (id, description, customer_id) VALUES (481, 'Electronic Concrete Bike', 12);
-INSERT INTO "order" (id, description, customer_id) VALUES (482, 'Tasty Plastic Shoes', 47);
-INSERT INTO "order" (id, description, customer_id) VALUES (483, 'Recycled Granite Soap', 45);
-INSERT INTO "order" (id, description, customer_id) VALUES (484, 'Practical Plastic Towels', 57);
-INSERT INTO "order" (id, description, customer_id) VALUES (485, 'Awesome Wooden Salad', 77);
-INSERT INTO "order" (id, description, customer_id) VALUES (486, 'Unbranded Bronze Chair', 37);
-INSERT INTO "order" (id, description, customer_id) VALUES (487, 'Gorgeous Concrete Chips', 17);
-INSERT INTO "order" (id, description, customer_id) VALUES (488, 'Tasty Rubber Shirt', 19);
-INSERT INTO "order" (id, description, customer_id) VALUES (489, 'Unbranded Granite Table', 89);
-INSERT INTO "order" (id, description, customer_id) VALUES (490, 'Unbranded Frozen Towels', 66);
-INSERT INTO "order" (id, description, customer_id) VALUES (491, 'Gorgeous Wooden Car', 2);
-INSERT INTO "order" (id, description, customer_id) VALUES (492, 'Tasty Frozen Bacon', 31);
-INSERT INTO "order" (id, description, customer_id) VALUES (493, 'Tasty Metal Hat', 22);
-INSERT INTO "order" (id, description, customer_id) VALUES (494, 'Electronic Plastic Pants', 36);
-INSERT INTO "order" (id, description, customer_id) VALUES (495, 'Rustic Rubber Ball', 30);
-INSERT INTO "order" (id, description, customer_id) VALUES (496, 'Handmade Wooden Tuna', 22);
-INSERT INTO "order" (id, description, customer_id) VALUES (497, 'Ergonomic Frozen Ball', 42);
-INSERT INTO "order" (id, description, customer_id) VALUES (498, 'Electronic Granite Shoes', 67);
-INSERT INTO "order" (id, description, customer_id) VALUES (499, 'Awesome Granite Shirt', 2);
-INSERT INTO "order" (id, description, customer_id) VALUES (500, 'Awesome Bronze Table', 88);
-INSERT INTO "order" (id, description, customer_id) VALUES (501, 'Gorgeous Fresh Pants', 38);
-INSERT INTO "order" (id, description, customer_id) VALUES (502, 'Handmade Steel Shoes', 61);
-INSERT INTO "order" (id, description, customer_id) VALUES (503, 'Electronic Concrete Hat', 43);
-INSERT INTO "order" (id, description, customer_id) VALUES (504, 'Fantastic Granite Pizza', 44);
-INSERT INTO "order" (id, description, customer_id) VALUES (505, 'Intelligent Frozen Keyboard', 60);
-INSERT INTO "order" (id, description, customer_id) VALUES (506, 'Handmade Metal Pizza', 78);
-INSERT INTO "order" (id, description, customer_id) VALUES (507, 'Bespoke Cotton Sausages', 31);
-INSERT INTO "order" (id, description, customer_id) VALUES (508, 'Bespoke Frozen Chair', 5);
-INSERT INTO "order" (id, description, customer_id) VALUES (509, 'Incredible Fresh Pants', 15);
-INSERT INTO "order" (id, description, customer_id) VALUES (510, 'Gorgeous Fresh Car', 6);
-INSERT INTO "order" (id, description, customer_id) VALUES (511, 'Modern Granite Soap', 66);
-INSERT INTO "order" (id, description, customer_id) VALUES (512, 'Electronic Frozen Bacon', 83);
-INSERT INTO "order" (id, description, customer_id) VALUES (513, 'Awesome Soft Shirt', 55);
-INSERT INTO "order" (id, description, customer_id) VALUES (514, 'Small Steel Pants', 42);
-INSERT INTO "order" (id, description, customer_id) VALUES (515, 'Licensed Steel Keyboard', 50);
-INSERT INTO "order" (id, description, customer_id) VALUES (516, 'Licensed Metal Mouse', 31);
-INSERT INTO "order" (id, description, customer_id) VALUES (517, 'Awesome Cotton Pizza', 33);
-INSERT INTO "order" (id, description, customer_id) VALUES (518, 'Electronic Rubber Keyboard', 97);
-INSERT INTO "order" (id, description, customer_id) VALUES (519, 'Ergonomic Concrete Car', 74);
-INSERT INTO "order" (id, description, customer_id) VALUES (520, 'Recycled Cotton Pants', 20);
-INSERT INTO "order" (id, description, customer_id) VALUES (521, 'Tasty Wooden Soap', 83);
-INSERT INTO "order" (id, description, customer_id) VALUES (522, 'Bespoke Wooden Bacon', 61);
-INSERT INTO "order" (id, description, customer_id) VALUES (523, 'Handmade Frozen Keyboard', 96);
-INSERT INTO "order" (id, description, customer_id) VALUES (524, 'Incredible Fresh Shirt', 38);
-INSERT INTO "order" (id, description, customer_id) VALUES (525, 'Handcrafted Concrete Chair', 98);
-INSERT INTO "order" (id, description, customer_id) VALUES (526, 'Gorgeous Wooden Gloves', 67);
-INSERT INTO "order" (id, description, customer_id) VALUES (527, 'Ergonomic Concrete Towels', 4);
-INSERT INTO "order" (id, description, customer_id) VALUES (528, 'Small Plastic Cheese', 83);
-INSERT INTO "order" (id, description, customer_id) VALUES (529, 'Practical Rubber Cheese', 14);
-INSERT INTO "order" (id, description, customer_id) VALUES (530, 'Modern Steel Soap', 60);
-INSERT INTO "order" (id, description, customer_id) VALUES (531, 'Ergonomic Granite Chips', 60);
-INSERT INTO "order" (id, description, customer_id) VALUES (532, 'Refined Soft Keyboard', 96);
-INSERT INTO "order" (id, description, customer_id) VALUES (533, 'Recycled Steel Bike', 31);
-INSERT INTO "order" (id, description, customer_id) VALUES (534, 'Generic Soft Table', 66);
-INSERT INTO "order" (id, description, customer_id) VALUES (535, 'Rustic Rubber Car', 63);
-INSERT INTO "order" (id, description, customer_id) VALUES (536, 'Gorgeous Soft Chair', 70);
-INSERT INTO "order" (id, description, customer_id) VALUES (537, 'Practical Metal Ball', 84);
-INSERT INTO "order" (id, description, customer_id) VALUES (538, 'Unbranded Steel Bacon', 56);
-INSERT INTO "order" (id, description, customer_id) VALUES (539, 'Elegant Soft Tuna', 27);
-INSERT INTO "order" (id, description, customer_id) VALUES (540, 'Oriental Plastic Gloves', 38);
-INSERT INTO "order" (id, description, customer_id) VALUES (541, 'Practical Wooden Cheese', 5);
-INSERT INTO "order" (id, description, customer_id) VALUES (542, 'Handcrafted Plastic Mouse', 65);
-INSERT INTO "order" (id, description, customer_id) VALUES (543, 'Electronic Frozen Bacon', 2);
-INSERT INTO "order" (id, description, customer_id) VALUES (544, 'Licensed Metal Pants', 94);
-INSERT INTO "order" (id, description, customer_id) VALUES (545, 'Refined Concrete Tuna', 87);
-INSERT INTO "order" (id, description, customer_id) VALUES (546, 'Practical Granite Shoes', 22);
-INSERT INTO "order" (id, description, customer_id) VALUES (547, 'Fantastic Steel Keyboard', 59);
-INSERT INTO "order" (id, description, customer_id) VALUES (548, 'Luxurious Metal Bacon', 6);
-INSERT INTO "order" (id, description, customer_id) VALUES (549, 'Gorgeous Granite Bacon', 53);
-INSERT INTO "order" (id, description, customer_id) VALUES (550, 'Unbranded Metal Chips', 90);
-INSERT INTO "order" (id, description, customer_id) VALUES (551, 'Practical Bronze Bike', 94);
-INSERT INTO "order" (id, description, customer_id) VALUES (552, 'Small Granite Bike', 39);
-INSERT INTO "order" (id, description, customer_id) VALUES (553, 'Handmade Plastic Mouse', 20);
-INSERT INTO "order" (id, description, customer_id) VALUES (554, 'Elegant Fresh Shirt', 40);
-INSERT INTO "order" (id, description, customer_id) VALUES (555, 'Recycled Plastic Computer', 63);
-INSERT INTO "order" (id, description, customer_id) VALUES (556, 'Rustic Plastic Shoes', 49);
-INSERT INTO "order" (id, description, customer_id) VALUES (557, 'Elegant Plastic Table', 50);
-INSERT INTO "order" (id, description, customer_id) VALUES (558, 'Bespoke Concrete Keyboard', 84);
-INSERT INTO "order" (id, description, customer_id) VALUES (559, 'Tasty Plastic Gloves', 11);
-INSERT INTO "order" (id, description, customer_id) VALUES (560, 'Modern Fresh Keyboard', 62);
-INSERT INTO "order" (id, description, customer_id) VALUES (561, 'Handcrafted Frozen Bacon', 78);
-INSERT INTO "order" (id, description, customer_id) VALUES (562, 'Electronic Rubber Chips', 72);
-INSERT INTO "order" (id, description, customer_id) VALUES (563, 'Handmade Granite Chips', 87);
-INSERT INTO "order" (id, description, customer_id) VALUES (564, 'Unbranded Frozen Gloves', 10);
-INSERT INTO "order" (id, description, customer_id) VALUES (565, 'Oriental Cotton Chair', 97);
-INSERT INTO "order" (id, description, customer_id) VALUES (566, 'Handcrafted Metal Bike', 39);
-INSERT INTO "order" (id, description, customer_id) VALUES (567, 'Handmade Plastic Chips', 64);
-INSERT INTO "order" (id, description, customer_id) VALUES (568, 'Recycled Bronze Salad', 77);
-INSERT INTO "order" (id, description, customer_id) VALUES (569, 'Handmade Plastic Hat', 85);
-INSERT INTO "order" (id, description, customer_id) VALUES (570, 'Tasty Granite Mouse', 49);
-INSERT INTO "order" (id, description, customer_id) VALUES (571, 'Generic Cotton Tuna', 82);
-INSERT INTO "order" (id, description, customer_id) VALUES (572, 'Intelligent Concrete Shirt', 94);
-INSERT INTO "order" (id, description, customer_id) VALUES (573, 'Awesome Granite Shoes', 55);
-INSERT INTO "order" (id, description, customer_id) VALUES (574, 'Incredible Fresh Salad', 19);
-INSERT INTO "order" (id, description, customer_id) VALUES (575, 'Rustic Plastic Shirt', 8);
-INSERT INTO "order" (id, description, customer_id) VALUES (576, 'Awesome Fresh Computer', 36);
-INSERT INTO "order" (id, description, customer_id) VALUES (577, 'Handmade Cotton Bike', 74);
-INSERT INTO "order" (id, description, customer_id) VALUES (578, 'Gorgeous Metal Chair', 45);
-INSERT INTO "order" (id, description, customer_id) VALUES (579, 'Handcrafted Metal Table', 44);
-INSERT INTO "order" (id, description, customer_id) VALUES (580, 'Handmade Fresh Chips', 72);
-INSERT INTO "order" (id, description, customer_id) VALUES (581, 'Licensed Plastic Bike', 50);
-INSERT INTO "order" (id, description, customer_id) VALUES (582, 'Licensed Steel Ball', 90);
-INSERT INTO "order" (id, description, customer_id) VALUES (583, 'Handmade Rubber Cheese', 3);
-INSERT INTO "order" (id, description, customer_id) VALUES (584, 'Practical Granite Pants', 92);
-INSERT INTO "order" (id, description, customer_id) VALUES (585, 'Oriental Bronze Pizza', 31);
-INSERT INTO "order" (id, description, customer_id) VALUES (586, 'Elegant Steel Hat', 80);
-INSERT INTO "order" (id, description, customer_id) VALUES (587, 'Rustic Granite Shirt', 96);
-INSERT INTO "order" (id, description, customer_id) VALUES (588, 'Rustic Bronze Bike', 14);
-INSERT INTO "order" (id, description, customer_id) VALUES (589, 'Licensed Concrete Chicken', 91);
-INSERT INTO "order" (id, description, customer_id) VALUES (590, 'Modern Concrete Chair', 95);
-INSERT INTO "order" (id, description, customer_id) VALUES (591, 'Unbranded Concrete Soap', 68);
-INSERT INTO "order" (id, description, customer_id) VALUES (592, 'Licensed Cotton Hat', 19);
-INSERT INTO "order" (id, description, customer_id) VALUES (593, 'Gorgeous Soft Chips', 38);
-INSERT INTO "order" (id, description, customer_id) VALUES (594, 'Small Plastic Soap', 98);
-INSERT INTO "order" (id, description, customer_id) VALUES (595, 'Unbranded Frozen Shoes', 10);
-INSERT INTO "order" (id, description, customer_id) VALUES (596, 'Gorgeous Cotton Car', 94);
-INSERT INTO "order" (id, description, customer_id) VALUES (597, 'Modern Metal Tuna', 60);
-INSERT INTO "order" (id, description, customer_id) VALUES (598, 'Fantastic Rubber Keyboard', 12);
-INSERT INTO "order" (id, description, customer_id) VALUES (599, 'Handmade Frozen Fish', 50);
-INSERT INTO "order" (id, description, customer_id) VALUES (600, 'Practical Steel Tuna', 60);
-INSERT INTO "order" (id, description, customer_id) VALUES (601, 'Oriental Concrete Computer', 87);
-INSERT INTO "order" (id, description, customer_id) VALUES (602, 'Tasty Rubber Soap', 85);
-INSERT INTO "order" (id, description, customer_id) VALUES (603, 'Refined Metal Chips', 48);
-INSERT INTO "order" (id, description, customer_id) VALUES (604, 'Handmade Plastic Cheese', 58);
-INSERT INTO "order" (id, description, customer_id) VALUES (605, 'Electronic Concrete Chair', 96);
-INSERT INTO "order" (id, description, customer_id) VALUES (606, 'Generic Bronze Pants', 55);
-INSERT INTO "order" (id, description, customer_id) VALUES (607, 'Modern Metal Chair', 38);
-INSERT INTO "order" (id, description, customer_id) VALUES (608, 'Handmade Plastic Pizza', 44);
-INSERT INTO "order" (id, description, customer_id) VALUES (609, 'Bespoke Cotton Bike', 37);
-INSERT INTO "order" (id, description, customer_id) VALUES (610, 'Gorgeous Bronze Soap', 25);
-INSERT INTO "order" (id, description, customer_id) VALUES (611, 'Handmade Cotton Bike', 35);
-INSERT INTO "order" (id, description, customer_id) VALUES (612, 'Unbranded Metal Shoes', 15);
-INSERT INTO "order" (id, description, customer_id) VALUES (613, 'Modern Granite Hat', 3);
-INSERT INTO "order" (id, description, customer_id) VALUES (614, 'Practical Cotton Fish', 13);
-INSERT INTO "order" (id, description, customer_id) VALUES (615, 'Generic Soft Pants', 34);
-INSERT INTO "order" (id, description, customer_id) VALUES (616, 'Intelligent Metal Computer', 99);
-INSERT INTO "order" (id, description, customer_id) VALUES (617, 'Rustic Bronze Pants', 58);
-INSERT INTO "order" (id, description, customer_id) VALUES (618, 'Fantastic Wooden Pants', 15);
-INSERT INTO "order" (id, description, customer_id) VALUES (619, 'Gorgeous Soft Chair', 36);
-INSERT INTO "order" (id, description, customer_id) VALUES (620, 'Rustic Bronze Table', 98);
-INSERT INTO "order" (id, description, customer_id) VALUES (621, 'Intelligent Granite Hat', 34);
-INSERT INTO "order" (id, description, customer_id) VALUES (622, 'Sleek Cotton Chair', 95);
-INSERT INTO "order" (id, description, customer_id) VALUES (623, 'Small Frozen Bike', 93);
-INSERT INTO "order" (id, description, customer_id) VALUES (624, 'Unbranded Granite Soap', 68);
-INSERT INTO "order" (id, description, customer_id) VALUES (625, 'Handcrafted Concrete Towels', 76);
-INSERT INTO "order" (id, description, customer_id) VALUES (626, 'Luxurious Bronze Hat', 6);
-INSERT INTO "order" (id, description, customer_id) VALUES (627, 'Handmade Rubber Salad', 3);
-INSERT INTO "order" (id, description, customer_id) VALUES (628, 'Ergonomic Rubber Hat', 9);
-INSERT INTO "order" (id, description, customer_id) VALUES (629, 'Handcrafted Metal Gloves', 65);
-INSERT INTO "order" (id, description, customer_id) VALUES (630, 'Refined Soft Tuna', 54);
-INSERT INTO "order" (id, description, customer_id) VALUES (631, 'Handmade Steel Salad', 69);
-INSERT INTO "order" (id, description, customer_id) VALUES (632, 'Handcrafted Wooden Ball', 11);
-INSERT INTO "order" (id, description, customer_id) VALUES (633, 'Awesome Bronze Bacon', 48);
-INSERT INTO "order" (id, description, customer_id) VALUES (634, 'Awesome Cotton Chair', 86);
-INSERT INTO "order" (id, description, customer_id) VALUES (635, 'Handcrafted Rubber Pizza', 73);
-INSERT INTO "order" (id, description, customer_id) VALUES (636, 'Gorgeous Frozen Chair', 39);
-INSERT INTO "order" (id, description, customer_id) VALUES (637, 'Bespoke Rubber Sausages', 98);
-INSERT INTO "order" (id, description, customer_id) VALUES (638, 'Recycled Soft Shirt', 27);
-INSERT INTO "order" (id, description, customer_id) VALUES (639, 'Electronic Cotton Car', 54);
-INSERT INTO "order" (id, description, customer_id) VALUES (640, 'Refined Steel Sausages', 63);
-INSERT INTO "order" (id, description, customer_id) VALUES (641, 'Sleek Steel Fish', 90);
-INSERT INTO "order" (id, description, customer_id) VALUES (642, 'Sleek Cotton Tuna', 2);
-INSERT INTO "order" (id, description, customer_id) VALUES (643, 'Refined Rubber Pants', 35);
-INSERT INTO "order" (id, description, customer_id) VALUES (644, 'Intelligent Wooden Pizza', 77);
-INSERT INTO "order" (id, description, customer_id) VALUES (645, 'Rustic Steel Shirt', 51);
-INSERT INTO "order" (id, description, customer_id) VALUES (646, 'Practical Wooden Salad', 84);
-INSERT INTO "order" (id, description, customer_id) VALUES (647, 'Bespoke Concrete Salad', 95);
-INSERT INTO "order" (id, description, customer_id) VALUES (648, 'Practical Frozen Soap', 82);
-INSERT INTO "order" (id, description, customer_id) VALUES (649, 'Oriental Wooden Chips', 64);
-INSERT INTO "order" (id, description, customer_id) VALUES (650, 'Modern Wooden Fish', 98);
-INSERT INTO "order" (id, description, customer_id) VALUES (651, 'Tasty Bronze Table', 74);
-INSERT INTO "order" (id, description, customer_id) VALUES (652, 'Licensed Concrete Mouse', 19);
-INSERT INTO "order" (id, description, customer_id) VALUES (653, 'Small Fresh Chicken', 72);
-INSERT INTO "order" (id, description, customer_id) VALUES (654, 'Intelligent Concrete Shoes', 83);
-INSERT INTO "order" (id, description, customer_id) VALUES (655, 'Intelligent Steel Sausages', 32);
-INSERT INTO "order" (id, description, customer_id) VALUES (656, 'Refined Steel Table', 96);
-INSERT INTO "order" (id, description, customer_id) VALUES (657, 'Sleek Steel Fish', 67);
-INSERT INTO "order" (id, description, customer_id) VALUES (658, 'Elegant Bronze Fish', 35);
-INSERT INTO "order" (id, description, customer_id) VALUES (659, 'Fantastic Metal Bacon', 5);
-INSERT INTO "order" (id, description, customer_id) VALUES (660, 'Handcrafted Concrete Shoes', 18);
-INSERT INTO "order" (id, description, customer_id) VALUES (661, 'Handmade Granite Soap', 63);
-INSERT INTO "order" (id, description, customer_id) VALUES (662, 'Elegant Granite Pizza', 72);
-INSERT INTO "order" (id, description, customer_id) VALUES (663, 'Handcrafted Rubber Computer', 68);
-INSERT INTO "order" (id, description, customer_id) VALUES (664, 'Refined Bronze Shirt', 3);
-INSERT INTO "order" (id, description, customer_id) VALUES (665, 'Rustic Wooden Bike', 24);
-INSERT INTO "order" (id, description, customer_id) VALUES (666, 'Gorgeous Concrete Pants', 90);
-INSERT INTO "order" (id, description, customer_id) VALUES (667, 'Gorgeous Frozen Fish', 20);
-INSERT INTO "order" (id, description, customer_id) VALUES (668, 'Refined Rubber Cheese', 70);
-INSERT INTO "order" (id, description, customer_id) VALUES (669, 'Tasty Metal Pants', 96);
-INSERT INTO "order" (id, description, customer_id) VALUES (670, 'Fantastic Bronze Ball', 99);
-INSERT INTO "order" (id, description, customer_id) VALUES (671, 'Handmade Plastic Car', 7);
-INSERT INTO "order" (id, description, customer_id) VALUES (672, 'Generic Cotton Towels', 38);
-INSERT INTO "order" (id, description, customer_id) VALUES (673, 'Luxurious Metal Bacon', 94);
-INSERT INTO "order" (id, description, customer_id) VALUES (674, 'Handmade Cotton Sausages', 58);
-INSERT INTO "order" (id, description, customer_id) VALUES (675, 'Modern Cotton Hat', 9);
-INSERT INTO "order" (id, description, customer_id) VALUES (676, 'Intelligent Frozen Tuna', 39);
-INSERT INTO "order" (id, description, customer_id) VALUES (677, 'Ergonomic Bronze Shoes', 7);
-INSERT INTO "order" (id, description, customer_id) VALUES (678, 'Fantastic Granite Pants', 94);
-INSERT INTO "order" (id, description, customer_id) VALUES (679, 'Unbranded Plastic Cheese', 90);
-INSERT INTO "order" (id, description, customer_id) VALUES (680, 'Recycled Granite Table', 33);
-INSERT INTO "order" (id, description, customer_id) VALUES (681, 'Incredible Granite Bike', 27);
-INSERT INTO "order" (id, description, customer_id) VALUES (682, 'Practical Granite Shirt', 73);
-INSERT INTO "order" (id, description, customer_id) VALUES (683, 'Recycled Soft Tuna', 25);
-INSERT INTO "order" (id, description, customer_id) VALUES (684, 'Rustic Rubber Shirt', 68);
-INSERT INTO "order" (id, description, customer_id) VALUES (685, 'Incredible Soft Hat', 73);
-INSERT INTO "order" (id, description, customer_id) VALUES (686, 'Practical Fresh Chips', 3);
-INSERT INTO "order" (id, description, customer_id) VALUES (687, 'Small Fresh Cheese', 99);
-INSERT INTO "order" (id, description, customer_id) VALUES (688, 'Practical Cotton Computer', 40);
-INSERT INTO "order" (id, description, customer_id) VALUES (689, 'Fantastic Fresh Cheese', 49);
-INSERT INTO "order" (id, description, customer_id) VALUES (690, 'Small Concrete Bacon', 90);
-INSERT INTO "order" (id, description, customer_id) VALUES (691, 'Intelligent Frozen Soap', 35);
-INSERT INTO "order" (id, description, customer_id) VALUES (692, 'Handmade Steel Pizza', 39);
-INSERT INTO "order" (id, description, customer_id) VALUES (693, 'Electronic Plastic Car', 70);
-INSERT INTO "order" (id, description, customer_id) VALUES (694, 'Intelligent Bronze Gloves', 90);
-INSERT INTO "order" (id, description, customer_id) VALUES (695, 'Recycled Fresh Pizza', 41);
-INSERT INTO "order" (id, description, customer_id) VALUES (696, 'Incredible Steel Shirt', 31);
-INSERT INTO "order" (id, description, customer_id) VALUES (697, 'Tasty Metal Car', 42);
-INSERT INTO "order" (id, description, customer_id) VALUES (698, 'Ergonomic Concrete Chicken', 11);
-INSERT INTO "order" (id, description, customer_id) VALUES (699, 'Awesome Metal Chicken', 77);
-INSERT INTO "order" (id, description, customer_id) VALUES (700, 'Tasty Metal Table', 18);
-INSERT INTO "order" (id, description, customer_id) VALUES (701, 'Refined Fresh Tuna', 28);
-INSERT INTO "order" (id, description, customer_id) VALUES (702, 'Small Steel Bike', 81);
-INSERT INTO "order" (id, description, customer_id) VALUES (703, 'Gorgeous Plastic Chair', 25);
-INSERT INTO "order" (id, description, customer_id) VALUES (704, 'Intelligent Bronze Ball', 52);
-INSERT INTO "order" (id, description, customer_id) VALUES (705, 'Incredible Steel Car', 42);
-INSERT INTO "order" (id, description, customer_id) VALUES (706, 'Unbranded Soft Chicken', 100);
-INSERT INTO "order" (id, description, customer_id) VALUES (707, 'Bespoke Wooden Bacon', 56);
-INSERT INTO "order" (id, description, customer_id) VALUES (708, 'Generic Wooden Shoes', 78);
-INSERT INTO "order" (id, description, customer_id) VALUES (709, 'Sleek Concrete Soap', 71);
-INSERT INTO "order" (id, description, customer_id) VALUES (710, 'Awesome Concrete Bike', 54);
-INSERT INTO "order" (id, description, customer_id) VALUES (711, 'Luxurious Frozen Shirt', 9);
-INSERT INTO "order" (id, description, customer_id) VALUES (712, 'Electronic Metal Ball', 9);
-INSERT INTO "order" (id, description, customer_id) VALUES (713, 'Handmade Fresh Tuna', 87);
-INSERT INTO "order" (id, description, customer_id) VALUES (714, 'Handcrafted Frozen Chair', 41);
-INSERT INTO "order" (id, description, customer_id) VALUES (715, 'Intelligent Cotton Bacon', 4);
-INSERT INTO "order" (id, description, customer_id) VALUES (716, 'Tasty Bronze Table', 3);
-INSERT INTO "order" (id, description, customer_id) VALUES (717, 'Handmade Plastic Computer', 79);
-INSERT INTO "order" (id, description, customer_id) VALUES (718, 'Refined Frozen Soap', 60);
-INSERT INTO "order" (id, description, customer_id) VALUES (719, 'Oriental Rubber Fish', 60);
-INSERT INTO "order" (id, description, customer_id) VALUES (720, 'Refined Cotton Table', 53);
-INSERT INTO "order" (id, description, customer_id) VALUES (721, 'Oriental Steel Cheese', 30);
-INSERT INTO "order" (id, description, customer_id) VALUES (722, 'Handcrafted Steel Cheese', 45);
-INSERT INTO "order" (id, description, customer_id) VALUES (723, 'Oriental Fresh Towels', 15);
-INSERT INTO "order" (id, description, customer_id) VALUES (724, 'Gorgeous Concrete Chicken', 99);
-INSERT INTO "order" (id, description, customer_id) VALUES (725, 'Unbranded Fresh Bike', 28);
-INSERT INTO "order" (id, description, customer_id) VALUES (726, 'Awesome Fresh Mouse', 78);
-INSERT INTO "order" (id, description, customer_id) VALUES (727, 'Rustic Steel Salad', 49);
-INSERT INTO "order" (id, description, customer_id) VALUES (728, 'Modern Bronze Chair', 10);
-INSERT INTO "order" (id, description, customer_id) VALUES (729, 'Handcrafted Cotton Salad', 74);
-INSERT INTO "order" (id, description, customer_id) VALUES (730, 'Elegant Metal Tuna', 21);
-INSERT INTO "order" (id, description, customer_id) VALUES (731, 'Modern Rubber Chair', 17);
-INSERT INTO "order" (id, description, customer_id) VALUES (732, 'Bespoke Cotton Salad', 66);
-INSERT INTO "order" (id, description, customer_id) VALUES (733, 'Modern Plastic Chips', 44);
-INSERT INTO "order" (id, description, customer_id) VALUES (734, 'Electronic Frozen Cheese', 11);
-INSERT INTO "order" (id, description, customer_id) VALUES (735, 'Refined Cotton Salad', 58);
-INSERT INTO "order" (id, description, customer_id) VALUES (736, 'Bespoke Bronze Towels', 36);
-INSERT INTO "order" (id, description, customer_id) VALUES (737, 'Ergonomic Granite Bacon', 49);
-INSERT INTO "order" (id, description, customer_id) VALUES (738, 'Practical Bronze Chair', 1);
-INSERT INTO "order" (id, description, customer_id) VALUES (739, 'Licensed Metal Mouse', 21);
-INSERT INTO "order" (id, description, customer_id) VALUES (740, 'Luxurious Steel Pizza', 25);
-INSERT INTO "order" (id, description, customer_id) VALUES (741, 'Fantastic Wooden Bike', 90);
-INSERT INTO "order" (id, description, customer_id) VALUES (742, 'Small Wooden Bacon', 37);
-INSERT INTO "order" (id, description, customer_id) VALUES (743, 'Licensed Wooden Pizza', 11);
-INSERT INTO "order" (id, description, customer_id) VALUES (744, 'Awesome Granite Gloves', 84);
-INSERT INTO "order" (id, description, customer_id) VALUES (745, 'Licensed Cotton Pizza', 7);
-INSERT INTO "order" (id, description, customer_id) VALUES (746, 'Electronic Steel Mouse', 98);
-INSERT INTO "order" (id, description, customer_id) VALUES (747, 'Tasty Fresh Chips', 65);
-INSERT INTO "order" (id, description, customer_id) VALUES (748, 'Refined Granite Bacon', 96);
-INSERT INTO "order" (id, description, customer_id) VALUES (749, 'Gorgeous Granite Sausages', 4);
-INSERT INTO "order" (id, description, customer_id) VALUES (750, 'Small Fresh Hat', 45);
-INSERT INTO "order" (id, description, customer_id) VALUES (751, 'Small Bronze Computer', 43);
-INSERT INTO "order" (id, description, customer_id) VALUES (752, 'Modern Steel Shirt', 39);
-INSERT INTO "order" (id, description, customer_id) VALUES (753, 'Gorgeous Steel Pizza', 86);
-INSERT INTO "order" (id, description, customer_id) VALUES (754, 'Luxurious Soft Bike', 28);
-INSERT INTO "order" (id, description, customer_id) VALUES (755, 'Generic Bronze Keyboard', 38);
-INSERT INTO "order" (id, description, customer_id) VALUES (756, 'Practical Bronze Table', 89);
-INSERT INTO "order" (id, description, customer_id) VALUES (757, 'Practical Metal Computer', 91);
-INSERT INTO "order" (id, description, customer_id) VALUES (758, 'Refined Frozen Pants', 47);
-INSERT INTO "order" (id, description, customer_id) VALUES (759, 'Recycled Wooden Towels', 98);
-INSERT INTO "order" (id, description, customer_id) VALUES (760, 'Awesome Bronze Cheese', 17);
-INSERT INTO "order" (id, description, customer_id) VALUES (761, 'Recycled Frozen Shoes', 93);
-INSERT INTO "order" (id, description, customer_id) VALUES (762, 'Fantastic Soft Bike', 49);
-INSERT INTO "order" (id, description, customer_id) VALUES (763, 'Ergonomic Frozen Fish', 46);
-INSERT INTO "order" (id, description, customer_id) VALUES (764, 'Rustic Soft Gloves', 17);
-INSERT INTO "order" (id, description, customer_id) VALUES (765, 'Luxurious Soft Gloves', 9);
-INSERT INTO "order" (id, description, customer_id) VALUES (766, 'Awesome Bronze Chicken', 7);
-INSERT INTO "order" (id, description, customer_id) VALUES (767, 'Sleek Soft Mouse', 51);
-INSERT INTO "order" (id, description, customer_id) VALUES (768, 'Gorgeous Cotton Fish', 28);
-INSERT INTO "order" (id, description, customer_id) VALUES (769, 'Small Metal Cheese', 14);
-INSERT INTO "order" (id, description, customer_id) VALUES (770, 'Incredible Soft Shoes', 92);
-INSERT INTO "order" (id, description, customer_id) VALUES (771, 'Recycled Steel Fish', 86);
-INSERT INTO "order" (id, description, customer_id) VALUES (772, 'Elegant Metal Hat', 13);
-INSERT INTO "order" (id, description, customer_id) VALUES (773, 'Elegant Fresh Chicken', 24);
-INSERT INTO "order" (id, description, customer_id) VALUES (774, 'Modern Soft Pizza', 16);
-INSERT INTO "order" (id, description, customer_id) VALUES (775, 'Incredible Bronze Bike', 82);
-INSERT INTO "order" (id, description, customer_id) VALUES (776, 'Gorgeous Rubber Computer', 75);
-INSERT INTO "order" (id, description, customer_id) VALUES (777, 'Intelligent Soft Bacon', 9);
-INSERT INTO "order" (id, description, customer_id) VALUES (778, 'Handcrafted Frozen Chair', 86);
-INSERT INTO "order" (id, description, customer_id) VALUES (779, 'Modern Frozen Pizza', 60);
-INSERT INTO "order" (id, description, customer_id) VALUES (780, 'Awesome Soft Chips', 46);
-INSERT INTO "order" (id, description, customer_id) VALUES (781, 'Small Steel Mouse', 1);
-INSERT INTO "order" (id, description, customer_id) VALUES (782, 'Small Bronze Mouse', 42);
-INSERT INTO "order" (id, description, customer_id) VALUES (783, 'Licensed Wooden Gloves', 64);
-INSERT INTO "order" (id, description, customer_id) VALUES (784, 'Rustic Concrete Chips', 42);
-INSERT INTO "order" (id, description, customer_id) VALUES (785, 'Handmade Cotton Pants', 54);
-INSERT INTO "order" (id, description, customer_id) VALUES (786, 'Handcrafted Cotton Chicken', 6);
-INSERT INTO "order" (id, description, customer_id) VALUES (787, 'Rustic Cotton Hat', 80);
-INSERT INTO "order" (id, description, customer_id) VALUES (788, 'Modern Concrete Car', 88);
-INSERT INTO "order" (id, description, customer_id) VALUES (789, 'Awesome Bronze Salad', 5);
-INSERT INTO "order" (id, description, customer_id) VALUES (790, 'Incredible Plastic Shirt', 57);
-INSERT INTO "order" (id, description, customer_id) VALUES (791, 'Sleek Concrete Computer', 18);
-INSERT INTO "order" (id, description, customer_id) VALUES (792, 'Intelligent Frozen Towels', 87);
-INSERT INTO "order" (id, description, customer_id) VALUES (793, 'Sleek Soft Hat', 9);
-INSERT INTO "order" (id, description, customer_id) VALUES (794, 'Licensed Bronze Table', 36);
-INSERT INTO "order" (id, description, customer_id) VALUES (795, 'Sleek Granite Keyboard', 75);
-INSERT INTO "order" (id, description, customer_id) VALUES (796, 'Licensed Wooden Shoes', 76);
-INSERT INTO "order" (id, description, customer_id) VALUES (797, 'Practical Plastic Chips', 82);
-INSERT INTO "order" (id, description, customer_id) VALUES (798, 'Oriental Frozen Shirt', 40);
-INSERT INTO "order" (id, description, customer_id) VALUES (799, 'Intelligent Concrete Mouse', 25);
-INSERT INTO "order" (id, description, customer_id) VALUES (800, 'Modern Frozen Cheese', 71);
-INSERT INTO "order" (id, description, customer_id) VALUES (801, 'Small Bronze Chips', 44);
-INSERT INTO "order" (id, description, customer_id) VALUES (802, 'Electronic Cotton Shoes', 18);
-INSERT INTO "order" (id, description, customer_id) VALUES (803, 'Handcrafted Cotton Pants', 34);
-INSERT INTO "order" (id, description, customer_id) VALUES (804, 'Elegant Metal Pants', 40);
-INSERT INTO "order" (id, description, customer_id) VALUES (805, 'Gorgeous Plastic Chips', 11);
-INSERT INTO "order" (id, description, customer_id) VALUES (806, 'Unbranded Plastic Gloves', 31);
-INSERT INTO "order" (id, description, customer_id) VALUES (807, 'Tasty Frozen Cheese', 6);
-INSERT INTO "order" (id, description, customer_id) VALUES (808, 'Unbranded Granite Bike', 81);
-INSERT INTO "order" (id, description, customer_id) VALUES (809, 'Tasty Rubber Bike', 29);
-INSERT INTO "order" (id, description, customer_id) VALUES (810, 'Fantastic Bronze Ball', 92);
-INSERT INTO "order" (id, description, customer_id) VALUES (811, 'Generic Rubber Mouse', 81);
-INSERT INTO "order" (id, description, customer_id) VALUES (812, 'Generic Bronze Sausages', 95);
-INSERT INTO "order" (id, description, customer_id) VALUES (813, 'Oriental Metal Bacon', 24);
-INSERT INTO "order" (id, description, customer_id) VALUES (814, 'Oriental Bronze Tuna', 25);
-INSERT INTO "order" (id, description, customer_id) VALUES (815, 'Bespoke Cotton Towels', 75);
-INSERT INTO "order" (id, description, customer_id) VALUES (816, 'Recycled Fresh Bike', 47);
-INSERT INTO "order" (id, description, customer_id) VALUES (817, 'Gorgeous Steel Towels', 35);
-INSERT INTO "order" (id, description, customer_id) VALUES (818, 'Electronic Steel Shirt', 71);
-INSERT INTO "order" (id, description, customer_id) VALUES (819, 'Handmade Steel Shoes', 28);
-INSERT INTO "order" (id, description, customer_id) VALUES (820, 'Oriental Concrete Chicken', 83);
-INSERT INTO "order" (id, description, customer_id) VALUES (821, 'Electronic Granite Mouse', 51);
-INSERT INTO "order" (id, description, customer_id) VALUES (822, 'Tasty Steel Shirt', 100);
-INSERT INTO "order" (id, description, customer_id) VALUES (823, 'Handcrafted Rubber Salad', 47);
-INSERT INTO "order" (id, description, customer_id) VALUES (824, 'Refined Metal Towels', 84);
-INSERT INTO "order" (id, description, customer_id) VALUES (825, 'Modern Cotton Bike', 74);
-INSERT INTO "order" (id, description, customer_id) VALUES (826, 'Small Bronze Pizza', 61);
-INSERT INTO "order" (id, description, customer_id) VALUES (827, 'Small Plastic Chips', 13);
-INSERT INTO "order" (id, description, customer_id) VALUES (828, 'Awesome Wooden Bacon', 8);
-INSERT INTO "order" (id, description, customer_id) VALUES (829, 'Luxurious Plastic Salad', 99);
-INSERT INTO "order" (id, description, customer_id) VALUES (830, 'Generic Concrete Car', 49);
-INSERT INTO "order" (id, description, customer_id) VALUES (831, 'Gorgeous Soft Computer', 49);
-INSERT INTO "order" (id, description, customer_id) VALUES (832, 'Fantastic Soft Bacon', 68);
-INSERT INTO "order" (id, description, customer_id) VALUES (833, 'Refined Granite Shoes', 30);
-INSERT INTO "order" (id, description, customer_id) VALUES (834, 'Practical Bronze Computer', 59);
-INSERT INTO "order" (id, description, customer_id) VALUES (835, 'Tasty Granite Bacon', 28);
-INSERT INTO "order" (id, description, customer_id) VALUES (836, 'Generic Concrete Table', 59);
-INSERT INTO "order" (id, description, customer_id) VALUES (837, 'Incredible Wooden Pizza', 10);
-INSERT INTO "order" (id, description, customer_id) VALUES (838, 'Elegant Metal Towels', 28);
-INSERT INTO "order" (id, description, customer_id) VALUES (839, 'Elegant Granite Chips', 19);
-INSERT INTO "order" (id, description, customer_id) VALUES (840, 'Small Steel Salad', 89);
-INSERT INTO "order" (id, description, customer_id) VALUES (841, 'Sleek Frozen Gloves', 60);
-INSERT INTO "order" (id, description, customer_id) VALUES (842, 'Elegant Plastic Chicken', 36);
-INSERT INTO "order" (id, description, customer_id) VALUES (843, 'Recycled Metal Towels', 77);
-INSERT INTO "order" (id, description, customer_id) VALUES (844, 'Ergonomic Rubber Bike', 5);
-INSERT INTO "order" (id, description, customer_id) VALUES (845, 'Handmade Metal Cheese', 7);
-INSERT INTO "order" (id, description, customer_id) VALUES (846, 'Generic Steel Soap', 3);
-INSERT INTO "order" (id, description, customer_id) VALUES (847, 'Practical Cotton Gloves', 28);
-INSERT INTO "order" (id, description, customer_id) VALUES (848, 'Ergonomic Cotton Towels', 96);
-INSERT INTO "order" (id, description, customer_id) VALUES (849, 'Incredible Steel Hat', 39);
-INSERT INTO "order" (id, description, customer_id) VALUES (850, 'Incredible Bronze Mouse', 10);
-INSERT INTO "order" (id, description, customer_id) VALUES (851, 'Licensed Steel Sausages', 6);
-INSERT INTO "order" (id, description, customer_id) VALUES (852, 'Unbranded Concrete Pants', 14);
-INSERT INTO "order" (id, description, customer_id) VALUES (853, 'Tasty Plastic Keyboard', 82);
-INSERT INTO "order" (id, description, customer_id) VALUES (854, 'Handmade Frozen Ball', 30);
-INSERT INTO "order" (id, description, customer_id) VALUES (855, 'Modern Frozen Soap', 75);
-INSERT INTO "order" (id, description, customer_id) VALUES (856, 'Rustic Rubber Mouse', 29);
-INSERT INTO "order" (id, description, customer_id) VALUES (857, 'Electronic Plastic Pants', 92);
-INSERT INTO "order" (id, description, customer_id) VALUES (858, 'Fantastic Granite Chair', 39);
-INSERT INTO "order" (id, description, customer_id) VALUES (859, 'Unbranded Wooden Pants', 71);
-INSERT INTO "order" (id, description, customer_id) VALUES (860, 'Tasty Granite Tuna', 15);
-INSERT INTO "order" (id, description, customer_id) VALUES (861, 'Practical Soft Ball', 59);
-INSERT INTO "order" (id, description, customer_id) VALUES (862, 'Bespoke Metal Chair', 4);
-INSERT INTO "order" (id, description, customer_id) VALUES (863, 'Licensed Cotton Bike', 30);
-INSERT INTO "order" (id, description, customer_id) VALUES (864, 'Refined Rubber Hat', 15);
-INSERT INTO "order" (id, description, customer_id) VALUES (865, 'Licensed Bronze Salad', 37);
-INSERT INTO "order" (id, description, customer_id) VALUES (866, 'Rustic Granite Keyboard', 12);
-INSERT INTO "order" (id, description, customer_id) VALUES (867, 'Luxurious Plastic Bacon', 12);
-INSERT INTO "order" (id, description, customer_id) VALUES (868, 'Sleek Granite Table', 75);
-INSERT INTO "order" (id, description, customer_id) VALUES (869, 'Modern Granite Table', 53);
-INSERT INTO "order" (id, description, customer_id) VALUES (870, 'Sleek Plastic Tuna', 96);
-INSERT INTO "order" (id, description, customer_id) VALUES (871, 'Gorgeous Plastic Bike', 20);
-INSERT INTO "order" (id, description, customer_id) VALUES (872, 'Small Wooden Pants', 86);
-INSERT INTO "order" (id, description, customer_id) VALUES (873, 'Oriental Cotton Pants', 72);
-INSERT INTO "order" (id, description, customer_id) VALUES (874, 'Generic Soft Hat', 89);
-INSERT INTO "order" (id, description, customer_id) VALUES (875, 'Sleek Cotton Chair', 76);
-INSERT INTO "order" (id, description, customer_id) VALUES (876, 'Gorgeous Frozen Bacon', 50);
-INSERT INTO "order" (id, description, customer_id) VALUES (877, 'Refined Soft Shirt', 32);
-INSERT INTO "order" (id, description, customer_id) VALUES (878, 'Elegant Metal Chair', 89);
-INSERT INTO "order" (id, description, customer_id) VALUES (879, 'Generic Soft Shirt', 5);
-INSERT INTO "order" (id, description, customer_id) VALUES (880, 'Tasty Rubber Hat', 46);
-INSERT INTO "order" (id, description, customer_id) VALUES (881, 'Small Steel Soap', 87);
-INSERT INTO "order" (id, description, customer_id) VALUES (882, 'Handmade Bronze Tuna', 73);
-INSERT INTO "order" (id, description, customer_id) VALUES (883, 'Awesome Plastic Mouse', 3);
-INSERT INTO "order" (id, description, customer_id) VALUES (884, 'Bespoke Fresh Bike', 49);
-INSERT INTO "order" (id, description, customer_id) VALUES (885, 'Handmade Rubber Shirt', 64);
-INSERT INTO "order" (id, description, customer_id) VALUES (886, 'Gorgeous Rubber Fish', 16);
-INSERT INTO "order" (id, description, customer_id) VALUES (887, 'Rustic Rubber Bacon', 88);
-INSERT INTO "order" (id, description, customer_id) VALUES (888, 'Incredible Wooden Chair', 98);
-INSERT INTO "order" (id, description, customer_id) VALUES (889, 'Tasty Cotton Mouse', 19);
-INSERT INTO "order" (id, description, customer_id) VALUES (890, 'Electronic Concrete Sausages', 65);
-INSERT INTO "order" (id, description, customer_id) VALUES (891, 'Licensed Wooden Bike', 68);
-INSERT INTO "order" (id, description, customer_id) VALUES (892, 'Oriental Frozen Car', 22);
-INSERT INTO "order" (id, description, customer_id) VALUES (893, 'Refined Concrete Bacon', 56);
-INSERT INTO "order" (id, description, customer_id) VALUES (894, 'Modern Wooden Table', 15);
-INSERT INTO "order" (id, description, customer_id) VALUES (895, 'Handmade Steel Fish', 99);
-INSERT INTO "order" (id, description, customer_id) VALUES (896, 'Practical Wooden Cheese', 49);
-INSERT INTO "order" (id, description, customer_id) VALUES (897, 'Ergonomic Rubber Table', 96);
-INSERT INTO "order" (id, description, customer_id) VALUES (898, 'Recycled Bronze Chicken', 89);
-INSERT INTO "order" (id, description, customer_id) VALUES (899, 'Recycled Plastic Tuna', 32);
-INSERT INTO "order" (id, description, customer_id) VALUES (900, 'Gorgeous Cotton Towels', 46);
-INSERT INTO "order" (id, description, customer_id) VALUES (901, 'Fantastic Wooden Gloves', 1);
-INSERT INTO "order" (id, description, customer_id) VALUES (902, 'Awesome Frozen Hat', 67);
-INSERT INTO "order" (id, description, customer_id) VALUES (903, 'Rustic Bronze Ball', 30);
-INSERT INTO "order" (id, description, customer_id) VALUES (904, 'Modern Bronze Pizza', 4);
-INSERT INTO "order" (id, description, customer_id) VALUES (905, 'Incredible Rubber Hat', 7);
-INSERT INTO "order" (id, description, customer_id) VALUES (906, 'Rustic Frozen Soap', 1);
-INSERT INTO "order" (id, description, customer_id) VALUES (907, 'Handcrafted Plastic Keyboard', 46);
-INSERT INTO "order" (id, description, customer_id) VALUES (908, 'Bespoke Rubber Bacon', 18);
-INSERT INTO "order" (id, description, customer_id) VALUES (909, 'Generic Bronze Table', 31);
-INSERT INTO "order" (id, description, customer_id) VALUES (910, 'Practical Fresh Tuna', 25);
-INSERT INTO "order" (id, description, customer_id) VALUES (911, 'Fantastic Bronze Gloves', 16);
-INSERT INTO "order" (id, description, customer_id) VALUES (912, 'Incredible Metal Hat', 66);
-INSERT INTO "order" (id, description, customer_id) VALUES (913, 'Awesome Plastic Pants', 8);
-INSERT INTO "order" (id, description, customer_id) VALUES (914, 'Ergonomic Granite Table', 10);
-INSERT INTO "order" (id, description, customer_id) VALUES (915, 'Bespoke Bronze Cheese', 41);
-INSERT INTO "order" (id, description, customer_id) VALUES (916, 'Recycled Granite Pants', 97);
-INSERT INTO "order" (id, description, customer_id) VALUES (917, 'Electronic Concrete Chips', 100);
-INSERT INTO "order" (id, description, customer_id) VALUES (918, 'Intelligent Concrete Mouse', 77);
-INSERT INTO "order" (id, description, customer_id) VALUES (919, 'Recycled Plastic Towels', 49);
-INSERT INTO "order" (id, description, customer_id) VALUES (920, 'Practical Granite Salad', 3);
-INSERT INTO "order" (id, description, customer_id) VALUES (921, 'Gorgeous Steel Shoes', 73);
-INSERT INTO "order" (id, description, customer_id) VALUES (922, 'Generic Metal Computer', 44);
-INSERT INTO "order" (id, description, customer_id) VALUES (923, 'Incredible Rubber Bike', 12);
-INSERT INTO "order" (id, description, customer_id) VALUES (924, 'Refined Metal Salad', 24);
-INSERT INTO "order" (id, description, customer_id) VALUES (925, 'Awesome Frozen Table', 58);
-INSERT INTO "order" (id, description, customer_id) VALUES (926, 'Handmade Fresh Hat', 37);
-INSERT INTO "order" (id, description, customer_id) VALUES (927, 'Intelligent Soft Gloves', 27);
-INSERT INTO "order" (id, description, customer_id) VALUES (928, 'Rustic Cotton Pizza', 76);
-INSERT INTO "order" (id, description, customer_id) VALUES (929, 'Modern Frozen Salad', 83);
-INSERT INTO "order" (id, description, customer_id) VALUES (930, 'Tasty Cotton Chicken', 2);
-INSERT INTO "order" (id, description, customer_id) VALUES (931, 'Luxurious Frozen Bacon', 82);
-INSERT INTO "order" (id, description, customer_id) VALUES (932, 'Recycled Wooden Keyboard', 66);
-INSERT INTO "order" (id, description, customer_id) VALUES (933, 'Sleek Soft Soap', 39);
-INSERT INTO "order" (id, description, customer_id) VALUES (934, 'Gorgeous Steel Pants', 77);
-INSERT INTO "order" (id, description, customer_id) VALUES (935, 'Oriental Bronze Bike', 25);
-INSERT INTO "order" (id, description, customer_id) VALUES (936, 'Gorgeous Frozen Mouse', 78);
-INSERT INTO "order" (id, description, customer_id) VALUES (937, 'Licensed Wooden Bike', 11);
-INSERT INTO "order" (id, description, customer_id) VALUES (938, 'Bespoke Soft Shirt', 10);
-INSERT INTO "order" (id, description, customer_id) VALUES (939, 'Oriental Frozen Keyboard', 56);
-INSERT INTO "order" (id, description, customer_id) VALUES (940, 'Fantastic Steel Chicken', 76);
-INSERT INTO "order" (id, description, customer_id) VALUES (941, 'Gorgeous Granite Mouse', 57);
-INSERT INTO "order" (id, description, customer_id) VALUES (942, 'Ergonomic Concrete Chair', 60);
-INSERT INTO "order" (id, description, customer_id) VALUES (943, 'Oriental Soft Chicken', 34);
-INSERT INTO "order" (id, description, customer_id) VALUES (944, 'Refined Frozen Hat', 35);
-INSERT INTO "order" (id, description, customer_id) VALUES (945, 'Ergonomic Wooden Tuna', 72);
-INSERT INTO "order" (id, description, customer_id) VALUES (946, 'Gorgeous Granite Cheese', 18);
-INSERT INTO "order" (id, description, customer_id) VALUES (947, 'Licensed Plastic Bacon', 5);
-INSERT INTO "order" (id, description, customer_id) VALUES (948, 'Generic Bronze Keyboard', 68);
-INSERT INTO "order" (id, description, customer_id) VALUES (949, 'Incredible Rubber Mouse', 42);
-INSERT INTO "order" (id, description, customer_id) VALUES (950, 'Electronic Fresh Shirt', 87);
-INSERT INTO "order" (id, description, customer_id) VALUES (951, 'Handmade Cotton Bike', 87);
-INSERT INTO "order" (id, description, customer_id) VALUES (952, 'Elegant Metal Chair', 61);
-INSERT INTO "order" (id, description, customer_id) VALUES (953, 'Intelligent Cotton Bike', 29);
-INSERT INTO "order" (id, description, customer_id) VALUES (954, 'Bespoke Metal Mouse', 29);
-INSERT INTO "order" (id, description, customer_id) VALUES (955, 'Luxurious Plastic Chair', 60);
-INSERT INTO "order" (id, description, customer_id) VALUES (956, 'Awesome Plastic Cheese', 37);
-INSERT INTO "order" (id, description, customer_id) VALUES (957, 'Tasty Concrete Soap', 23);
-INSERT INTO "order" (id, description, customer_id) VALUES (958, 'Electronic Rubber Chair', 71);
-INSERT INTO "order" (id, description, customer_id) VALUES (959, 'Elegant Fresh Table', 20);
-INSERT INTO "order" (id, description, customer_id) VALUES (960, 'Rustic Soft Cheese', 27);
-INSERT INTO "order" (id, description, customer_id) VALUES (961, 'Licensed Plastic Tuna', 60);
-INSERT INTO "order" (id, description, customer_id) VALUES (962, 'Small Frozen Shirt', 65);
-INSERT INTO "order" (id, description, customer_id) VALUES (963, 'Handcrafted Frozen Shoes', 38);
-INSERT INTO "order" (id, description, customer_id) VALUES (964, 'Rustic Rubber Chicken', 58);
-INSERT INTO "order" (id, description, customer_id) VALUES (965, 'Unbranded Frozen Towels', 39);
-INSERT INTO "order" (id, description, customer_id) VALUES (966, 'Incredible Wooden Mouse', 90);
-INSERT INTO "order" (id, description, customer_id) VALUES (967, 'Refined Frozen Sausages', 26);
-INSERT INTO "order" (id, description, customer_id) VALUES (968, 'Practical Steel Keyboard', 22);
-INSERT INTO "order" (id, description, customer_id) VALUES (969, 'Rustic Metal Hat', 82);
-INSERT INTO "order" (id, description, customer_id) VALUES (970, 'Tasty Bronze Cheese', 72);
-INSERT INTO "order" (id, description, customer_id) VALUES (971, 'Tasty Concrete Mouse', 36);
-INSERT INTO "order" (id, description, customer_id) VALUES (972, 'Modern Wooden Chicken', 48);
-INSERT INTO "order" (id, description, customer_id) VALUES (973, 'Intelligent Steel Gloves', 14);
-INSERT INTO "order" (id, description, customer_id) VALUES (974, 'Handcrafted Concrete Hat', 18);
-INSERT INTO "order" (id, description, customer_id) VALUES (975, 'Refined Concrete Cheese', 41);
-INSERT INTO "order" (id, description, customer_id) VALUES (976, 'Generic Bronze Salad', 82);
-INSERT INTO "order" (id, description, customer_id) VALUES (977, 'Electronic Cotton Sausages', 51);
-INSERT INTO "order" (id, description, customer_id) VALUES (978, 'Rustic Cotton Chair', 23);
-INSERT INTO "order" (id, description, customer_id) VALUES (979, 'Rustic Rubber Gloves', 34);
-INSERT INTO "order" (id, description, customer_id) VALUES (980, 'Electronic Concrete Keyboard', 3);
-INSERT INTO "order" (id, description, customer_id) VALUES (981, 'Modern Soft Salad', 75);
-INSERT INTO "order" (id, description, customer_id) VALUES (982, 'Recycled Fresh Fish', 98);
-INSERT INTO "order" (id, description, customer_id) VALUES (983, 'Intelligent Fresh Sausages', 50);
-INSERT INTO "order" (id, description, customer_id) VALUES (984, 'Gorgeous Metal Keyboard', 50);
-INSERT INTO "order" (id, description, customer_id) VALUES (985, 'Awesome Metal Chair', 87);
-INSERT INTO "order" (id, description, customer_id) VALUES (986, 'Elegant Plastic Keyboard', 24);
-INSERT INTO "order" (id, description, customer_id) VALUES (987, 'Bespoke Soft Soap', 72);
-INSERT INTO "order" (id, description, customer_id) VALUES (988, 'Oriental Granite Fish', 33);
-INSERT INTO "order" (id, description, customer_id) VALUES (989, 'Recycled Metal Sausages', 2);
-INSERT INTO "order" (id, description, customer_id) VALUES (990, 'Tasty Granite Chips', 75);
-INSERT INTO "order" (id, description, customer_id) VALUES (991, 'Rustic Metal Computer', 97);
-INSERT INTO "order" (id, description, customer_id) VALUES (992, 'Intelligent Cotton Ball', 92);
-INSERT INTO "order" (id, description, customer_id) VALUES (993, 'Ergonomic Concrete Computer', 90);
-INSERT INTO "order" (id, description, customer_id) VALUES (994, 'Elegant Rubber Ball', 95);
-INSERT INTO "order" (id, description, customer_id) VALUES (995, 'Intelligent Plastic Soap', 43);
-INSERT INTO "order" (id, description, customer_id) VALUES (996, 'Unbranded Frozen Keyboard', 50);
-INSERT INTO "order" (id, description, customer_id) VALUES (997, 'Unbranded Cotton Bike', 90);
-INSERT INTO "order" (id, description, customer_id) VALUES (998, 'Sleek Soft Pants', 68);
-INSERT INTO "order" (id, description, customer_id) VALUES (999, 'Generic Bronze Hat', 96);
-INSERT INTO "order" (id, description, customer_id) VALUES (1000, 'Oriental Steel Pants', 91);
-INSERT INTO "order" (id, description, customer_id) VALUES (1001, 'Gorgeous Bronze Shirt', 57);
-INSERT INTO "order" (id, description, customer_id) VALUES (1002, 'Licensed Cotton Ball', 42);
-INSERT INTO "order" (id, description, customer_id) VALUES (1003, 'Elegant Frozen Towels', 95);
-INSERT INTO "order" (id, description, customer_id) VALUES (1004, 'Licensed Metal Gloves', 18);
-INSERT INTO "order" (id, description, customer_id) VALUES (1005, 'Small Granite Shirt', 15);
-INSERT INTO "order" (id, description, customer_id) VALUES (1006, 'Small Metal Keyboard', 24);
-INSERT INTO "order" (id, description, customer_id) VALUES (1007, 'Practical Granite Towels', 41);
-INSERT INTO "order" (id, description, customer_id) VALUES (1008, 'Modern Concrete Gloves', 38);
-INSERT INTO "order" (id, description, customer_id) VALUES (1009, 'Recycled Bronze Bacon', 84);
-INSERT INTO "order" (id, description, customer_id) VALUES (1010, 'Modern Rubber Sausages', 20);
-INSERT INTO "order" (id, description, customer_id) VALUES (1011, 'Oriental Metal Bacon', 98);
-INSERT INTO "order" (id, description, customer_id) VALUES (1012, 'Practical Soft Gloves', 7);
-INSERT INTO "order" (id, description, customer_id) VALUES (1013, 'Gorgeous Concrete Shoes', 25);
-INSERT INTO "order" (id, description, customer_id) VALUES (1014, 'Handcrafted Wooden Mouse', 13);
-INSERT INTO "order" (id, description, customer_id) VALUES (1015, 'Fantastic Metal Hat', 34);
-INSERT INTO "order" (id, description, customer_id) VALUES (1016, 'Gorgeous Rubber Car', 35);
-INSERT INTO "order" (id, description, customer_id) VALUES (1017, 'Licensed Cotton Table', 45);
-INSERT INTO "order" (id, description, customer_id) VALUES (1018, 'Recycled Cotton Sausages', 30);
-INSERT INTO "order" (id, description, customer_id) VALUES (1019, 'Recycled Soft Pants', 75);
-INSERT INTO "order" (id, description, customer_id) VALUES (1020, 'Incredible Wooden Keyboard', 80);
-INSERT INTO "order" (id, description, customer_id) VALUES (1021, 'Awesome Bronze Cheese', 93);
-INSERT INTO "order" (id, description, customer_id) VALUES (1022, 'Handmade Steel Salad', 33);
-INSERT INTO "order" (id, description, customer_id) VALUES (1023, 'Handcrafted Steel Shoes', 59);
-INSERT INTO "order" (id, description, customer_id) VALUES (1024, 'Gorgeous Concrete Hat', 25);
-INSERT INTO "order" (id, description, customer_id) VALUES (1025, 'Recycled Cotton Chips', 51);
-INSERT INTO "order" (id, description, customer_id) VALUES (1026, 'Awesome Rubber Tuna', 3);
-INSERT INTO "order" (id, description, customer_id) VALUES (1027, 'Bespoke Cotton Chair', 41);
-INSERT INTO "order" (id, description, customer_id) VALUES (1028, 'Modern Bronze Fish', 73);
-INSERT INTO "order" (id, description, customer_id) VALUES (1029, 'Fantastic Fresh Car', 15);
-INSERT INTO "order" (id, description, customer_id) VALUES (1030, 'Recycled Soft Chicken', 71);
-INSERT INTO "order" (id, description, customer_id) VALUES (1031, 'Modern Soft Hat', 25);
-INSERT INTO "order" (id, description, customer_id) VALUES (1032, 'Sleek Soft Gloves', 49);
-INSERT INTO "order" (id, description, customer_id) VALUES (1033, 'Unbranded Concrete Pants', 28);
-INSERT INTO "order" (id, description, customer_id) VALUES (1034, 'Rustic Frozen Ball', 34);
-INSERT INTO "order" (id, description, customer_id) VALUES (1035, 'Intelligent Cotton Sausages', 64);
-INSERT INTO "order" (id, description, customer_id) VALUES (1036, 'Licensed Steel Keyboard', 58);
-INSERT INTO "order" (id, description, customer_id) VALUES (1037, 'Luxurious Soft Bacon', 34);
-INSERT INTO "order" (id, description, customer_id) VALUES (1038, 'Oriental Metal Cheese', 19);
-INSERT INTO "order" (id, description, customer_id) VALUES (1039, 'Handcrafted Concrete Shoes', 9);
-INSERT INTO "order" (id, description, customer_id) VALUES (1040, 'Refined Frozen Tuna', 97);
-INSERT INTO "order" (id, description, customer_id) VALUES (1041, 'Awesome Plastic Towels', 3);
-INSERT INTO "order" (id, description, customer_id) VALUES (1042, 'Awesome Soft Salad', 20);
-INSERT INTO "order" (id, description, customer_id) VALUES (1043, 'Electronic Concrete Chicken', 42);
-INSERT INTO "order" (id, description, customer_id) VALUES (1044, 'Gorgeous Frozen Sausages', 95);
-INSERT INTO "order" (id, description, customer_id) VALUES (1045, 'Sleek Bronze Salad', 21);
-INSERT INTO "order" (id, description, customer_id) VALUES (1046, 'Gorgeous Fresh Sausages', 42);
-INSERT INTO "order" (id, description, customer_id) VALUES (1047, 'Practical Soft Chips', 51);
-INSERT INTO "order" (id, description, customer_id) VALUES (1048, 'Ergonomic Granite Shirt', 68);
-INSERT INTO "order" (id, description, customer_id) VALUES (1049, 'Ergonomic Concrete Chair', 39);
-INSERT INTO "order" (id, description, customer_id) VALUES (1050, 'Handmade Metal Soap', 50);
-INSERT INTO "order" (id, description, customer_id) VALUES (1051, 'Bespoke Fresh Computer', 73);
-INSERT INTO "order" (id, description, customer_id) VALUES (1052, 'Electronic Soft Gloves', 35);
-INSERT INTO "order" (id, description, customer_id) VALUES (1053, 'Unbranded Cotton Hat', 72);
-INSERT INTO "order" (id, description, customer_id) VALUES (1054, 'Oriental Soft Cheese', 27);
-INSERT INTO "order" (id, description, customer_id) VALUES (1055, 'Modern Concrete Pants', 52);
-INSERT INTO "order" (id, description, customer_id) VALUES (1056, 'Oriental Steel Table', 35);
-INSERT INTO "order" (id, description, customer_id) VALUES (1057, 'Intelligent Bronze Table', 73);
-INSERT INTO "order" (id, description, customer_id) VALUES (1058, 'Ergonomic Wooden Bike', 28);
-INSERT INTO "order" (id, description, customer_id) VALUES (1059, 'Handcrafted Bronze Table', 68);
-INSERT INTO "order" (id, description, customer_id) VALUES (1060, 'Electronic Soft Computer', 54);
-INSERT INTO "order" (id, description, customer_id) VALUES (1061, 'Sleek Plastic Fish', 80);
-INSERT INTO "order" (id, description, customer_id) VALUES (1062, 'Oriental Wooden Sausages', 48);
-INSERT INTO "order" (id, description, customer_id) VALUES (1063, 'Handcrafted Cotton Gloves', 80);
-INSERT INTO "order" (id, description, customer_id) VALUES (1064, 'Recycled Soft Chair', 3);
-INSERT INTO "order" (id, description, customer_id) VALUES (1065, 'Practical Wooden Cheese', 95);
-INSERT INTO "order" (id, description, customer_id) VALUES (1066, 'Oriental Bronze Cheese', 43);
-INSERT INTO "order" (id, description, customer_id) VALUES (1067, 'Bespoke Plastic Cheese', 13);
-INSERT INTO "order" (id, description, customer_id) VALUES (1068, 'Sleek Plastic Pizza', 72);
-INSERT INTO "order" (id, description, customer_id) VALUES (1069, 'Handcrafted Plastic Shirt', 69);
-INSERT INTO "order" (id, description, customer_id) VALUES (1070, 'Sleek Frozen Chicken', 41);
-INSERT INTO "order" (id, description, customer_id) VALUES (1071, 'Sleek Granite Chair', 100);
-INSERT INTO "order" (id, description, customer_id) VALUES (1072, 'Rustic Granite Chips', 10);
-INSERT INTO "order" (id, description, customer_id) VALUES (1073, 'Elegant Plastic Soap', 99);
-INSERT INTO "order" (id, description, customer_id) VALUES (1074, 'Rustic Bronze Cheese', 19);
-INSERT INTO "order" (id, description, customer_id) VALUES (1075, 'Gorgeous Metal Chicken', 37);
-INSERT INTO "order" (id, description, customer_id) VALUES (1076, 'Bespoke Wooden Keyboard', 69);
-INSERT INTO "order" (id, description, customer_id) VALUES (1077, 'Intelligent Wooden Fish', 58);
-INSERT INTO "order" (id, description, customer_id) VALUES (1078, 'Practical Cotton Computer', 39);
-INSERT INTO "order" (id, description, customer_id) VALUES (1079, 'Electronic Plastic Ball', 85);
-INSERT INTO "order" (id, description, customer_id) VALUES (1080, 'Tasty Concrete Soap', 94);
-INSERT INTO "order" (id, description, customer_id) VALUES (1081, 'Tasty Concrete Chicken', 86);
-INSERT INTO "order" (id, description, customer_id) VALUES (1082, 'Tasty Rubber Ball', 60);
-INSERT INTO "order" (id, description, customer_id) VALUES (1083, 'Gorgeous Soft Bike', 77);
-INSERT INTO "order" (id, description, customer_id) VALUES (1084, 'Rustic Rubber Gloves', 21);
-INSERT INTO "order" (id, description, customer_id) VALUES (1085, 'Licensed Plastic Towels', 71);
-INSERT INTO "order" (id, description, customer_id) VALUES (1086, 'Practical Steel Shoes', 93);
-INSERT INTO "order" (id, description, customer_id) VALUES (1087, 'Ergonomic Steel Keyboard', 73);
-INSERT INTO "order" (id, description, customer_id) VALUES (1088, 'Recycled Soft Chicken', 34);
-INSERT INTO "order" (id, description, customer_id) VALUES (1089, 'Bespoke Rubber Shoes', 98);
-INSERT INTO "order" (id, description, customer_id) VALUES (1090, 'Unbranded Frozen Bike', 53);
-INSERT INTO "order" (id, description, customer_id) VALUES (1091, 'Recycled Frozen Pants', 60);
-INSERT INTO "order" (id, description, customer_id) VALUES (1092, 'Handmade Frozen Fish', 70);
-INSERT INTO "order" (id, description, customer_id) VALUES (1093, 'Rustic Concrete Shoes', 78);
-INSERT INTO "order" (id, description, customer_id) VALUES (1094, 'Incredible Frozen Fish', 85);
-INSERT INTO "order" (id, description, customer_id) VALUES (1095, 'Bespoke Fresh Bike', 47);
-INSERT INTO "order" (id, description, customer_id) VALUES (1096, 'Fantastic Concrete Fish', 67);
-INSERT INTO "order" (id, description, customer_id) VALUES (1097, 'Awesome Wooden Cheese', 27);
-INSERT INTO "order" (id, description, customer_id) VALUES (1098, 'Modern Frozen Fish', 41);
-INSERT INTO "order" (id, description, customer_id) VALUES (1099, 'Refined Granite Pizza', 94);
-INSERT INTO "order" (id, description, customer_id) VALUES (1100, 'Elegant Rubber Bacon', 49);
-INSERT INTO "order" (id, description, customer_id) VALUES (1101, 'Licensed Bronze Keyboard', 67);
-INSERT INTO "order" (id, description, customer_id) VALUES (1102, 'Recycled Steel Fish', 63);
-INSERT INTO "order" (id, description, customer_id) VALUES (1103, 'Electronic Cotton Chicken', 73);
-INSERT INTO "order" (id, description, customer_id) VALUES (1104, 'Licensed Steel Shirt', 21);
-INSERT INTO "order" (id, description, customer_id) VALUES (1105, 'Practical Granite Chicken', 23);
-INSERT INTO "order" (id, description, customer_id) VALUES (1106, 'Incredible Soft Cheese', 40);
-INSERT INTO "order" (id, description, customer_id) VALUES (1107, 'Luxurious Rubber Pants', 29);
-INSERT INTO "order" (id, description, customer_id) VALUES (1108, 'Modern Steel Bike', 16);
-INSERT INTO "order" (id, description, customer_id) VALUES (1109, 'Sleek Steel Bike', 2);
-INSERT INTO "order" (id, description, customer_id) VALUES (1110, 'Elegant Concrete Salad', 61);
-INSERT INTO "order" (id, description, customer_id) VALUES (1111, 'Sleek Cotton Pizza', 85);
-INSERT INTO "order" (id, description, customer_id) VALUES (1112, 'Elegant Concrete Car', 84);
-INSERT INTO "order" (id, description, customer_id) VALUES (1113, 'Generic Concrete Hat', 68);
-INSERT INTO "order" (id, description, customer_id) VALUES (1114, 'Incredible Wooden Hat', 87);
-INSERT INTO "order" (id, description, customer_id) VALUES (1115, 'Handmade Metal Sausages', 46);
-INSERT INTO "order" (id, description, customer_id) VALUES (1116, 'Incredible Plastic Pants', 89);
-INSERT INTO "order" (id, description, customer_id) VALUES (1117, 'Fantastic Steel Table', 6);
-INSERT INTO "order" (id, description, customer_id) VALUES (1118, 'Gorgeous Steel Computer', 94);
-INSERT INTO "order" (id, description, customer_id) VALUES (1119, 'Gorgeous Fresh Pizza', 73);
-INSERT INTO "order" (id, description, customer_id) VALUES (1120, 'Recycled Rubber Bacon', 72);
-INSERT INTO "order" (id, description, customer_id) VALUES (1121, 'Unbranded Soft Fish', 26);
-INSERT INTO "order" (id, description, customer_id) VALUES (1122, 'Sleek Soft Car', 26);
-INSERT INTO "order" (id, description, customer_id) VALUES (1123, 'Bespoke Fresh Hat', 15);
-INSERT INTO "order" (id, description, customer_id) VALUES (1124, 'Small Frozen Chicken', 45);
-INSERT INTO "order" (id, description, customer_id) VALUES (1125, 'Unbranded Fresh Shirt', 7);
-INSERT INTO "order" (id, description, customer_id) VALUES (1126, 'Elegant Granite Soap', 88);
-INSERT INTO "order" (id, description, customer_id) VALUES (1127, 'Intelligent Concrete Computer', 49);
-INSERT INTO "order" (id, description, customer_id) VALUES (1128, 'Refined Granite Chair', 71);
-INSERT INTO "order" (id, description, customer_id) VALUES (1129, 'Rustic Plastic Shoes', 53);
-INSERT INTO "order" (id, description, customer_id) VALUES (1130, 'Practical Frozen Pizza', 13);
-INSERT INTO "order" (id, description, customer_id) VALUES (1131, 'Handcrafted Soft Bacon', 43);
-INSERT INTO "order" (id, description, customer_id) VALUES (1132, 'Handcrafted Granite Mouse', 50);
-INSERT INTO "order" (id, description, customer_id) VALUES (1133, 'Oriental Rubber Pants', 32);
-INSERT INTO "order" (id, description, customer_id) VALUES (1134, 'Handcrafted Soft Pizza', 42);
-INSERT INTO "order" (id, description, customer_id) VALUES (1135, 'Intelligent Frozen Sausages', 36);
-INSERT INTO "order" (id, description, customer_id) VALUES (1136, 'Licensed Granite Shoes', 95);
-INSERT INTO "order" (id, description, customer_id) VALUES (1137, 'Oriental Concrete Pizza', 48);
-INSERT INTO "order" (id, description, customer_id) VALUES (1138, 'Bespoke Frozen Gloves', 63);
-INSERT INTO "order" (id, description, customer_id) VALUES (1139, 'Ergonomic Fresh Cheese', 78);
-INSERT INTO "order" (id, description, customer_id) VALUES (1140, 'Oriental Cotton Table', 42);
-INSERT INTO "order" (id, description, customer_id) VALUES (1141, 'Incredible Cotton Ball', 25);
-INSERT INTO "order" (id, description, customer_id) VALUES (1142, 'Small Plastic Table', 62);
-INSERT INTO "order" (id, description, customer_id) VALUES (1143, 'Handmade Metal Chicken', 17);
-INSERT INTO "order" (id, description, customer_id) VALUES (1144, 'Handmade Cotton Chair', 11);
-INSERT INTO "order" (id, description, customer_id) VALUES (1145, 'Incredible Fresh Salad', 29);
-INSERT INTO "order" (id, description, customer_id) VALUES (1146, 'Modern Wooden Salad', 31);
-INSERT INTO "order" (id, description, customer_id) VALUES (1147, 'Refined Concrete Towels', 92);
-INSERT INTO "order" (id, description, customer_id) VALUES (1148, 'Modern Wooden Tuna', 77);
-INSERT INTO "order" (id, description, customer_id) VALUES (1149, 'Refined Frozen Shirt', 27);
-INSERT INTO "order" (id, description, customer_id) VALUES (1150, 'Modern Rubber Chicken', 36);
-INSERT INTO "order" (id, description, customer_id) VALUES (1151, 'Rustic Cotton Shirt', 35);
-INSERT INTO "order" (id, description, customer_id) VALUES (1152, 'Tasty Metal Towels', 23);
-INSERT INTO "order" (id, description, customer_id) VALUES (1153, 'Ergonomic Soft Keyboard', 82);
-INSERT INTO "order" (id, description, customer_id) VALUES (1154, 'Recycled Frozen Ball', 29);
-INSERT INTO "order" (id, description, customer_id) VALUES (1155, 'Rustic Plastic Soap', 78);
-INSERT INTO "order" (id, description, customer_id) VALUES (1156, 'Electronic Rubber Hat', 73);
-INSERT INTO "order" (id, description, customer_id) VALUES (1157, 'Intelligent Rubber Salad', 31);
-INSERT INTO "order" (id, description, customer_id) VALUES (1158, 'Fantastic Bronze Sausages', 91);
-INSERT INTO "order" (id, description, customer_id) VALUES (1159, 'Ergonomic Cotton Keyboard', 85);
-INSERT INTO "order" (id, description, customer_id) VALUES (1160, 'Tasty Concrete Salad', 98);
-INSERT INTO "order" (id, description, customer_id) VALUES (1161, 'Unbranded Wooden Tuna', 3);
-INSERT INTO "order" (id, description, customer_id) VALUES (1162, 'Fantastic Concrete Sausages', 98);
-INSERT INTO "order" (id, description, customer_id) VALUES (1163, 'Tasty Frozen Car', 26);
-INSERT INTO "order" (id, description, customer_id) VALUES (1164, 'Licensed Metal Chips', 41);
-INSERT INTO "order" (id, description, customer_id) VALUES (1165, 'Intelligent Frozen Shirt', 88);
-INSERT INTO "order" (id, description, customer_id) VALUES (1166, 'Rustic Cotton Gloves', 51);
-INSERT INTO "order" (id, description, customer_id) VALUES (1167, 'Handcrafted Steel Chair', 53);
-INSERT INTO "order" (id, description, customer_id) VALUES (1168, 'Rustic Fresh Cheese', 84);
-INSERT INTO "order" (id, description, customer_id) VALUES (1169, 'Fantastic Bronze Bike', 69);
-INSERT INTO "order" (id, description, customer_id) VALUES (1170, 'Fantastic Cotton Shirt', 29);
-INSERT INTO "order" (id, description, customer_id) VALUES (1171, 'Incredible Concrete Ball', 35);
-INSERT INTO "order" (id, description, customer_id) VALUES (1172, 'Generic Granite Salad', 28);
-INSERT INTO "order" (id, description, customer_id) VALUES (1173, 'Oriental Concrete Tuna', 39);
-INSERT INTO "order" (id, description, customer_id) VALUES (1174, 'Refined Cotton Bacon', 35);
-INSERT INTO "order" (id, description, customer_id) VALUES (1175, 'Generic Wooden Towels', 20);
-INSERT INTO "order" (id, description, customer_id) VALUES (1176, 'Handcrafted Frozen Cheese', 34);
-INSERT INTO "order" (id, description, customer_id) VALUES (1177, 'Ergonomic Steel Soap', 32);
-INSERT INTO "order" (id, description, customer_id) VALUES (1178, 'Recycled Wooden Bacon', 65);
-INSERT INTO "order" (id, description, customer_id) VALUES (1179, 'Handcrafted Metal Bike', 87);
-INSERT INTO "order" (id, description, customer_id) VALUES (1180, 'Recycled Bronze Sausages', 50);
-INSERT INTO "order" (id, description, customer_id) VALUES (1181, 'Elegant Rubber Shirt', 61);
-INSERT INTO "order" (id, description, customer_id) VALUES (1182, 'Handmade Cotton Soap', 73);
-INSERT INTO "order" (id, description, customer_id) VALUES (1183, 'Licensed Granite Tuna', 33);
-INSERT INTO "order" (id, description, customer_id) VALUES (1184, 'Rustic Wooden Soap', 58);
-INSERT INTO "order" (id, description, customer_id) VALUES (1185, 'Refined Steel Ball', 49);
-INSERT INTO "order" (id, description, customer_id) VALUES (1186, 'Awesome Frozen Chair', 26);
-INSERT INTO "order" (id, description, customer_id) VALUES (1187, 'Awesome Fresh Towels', 26);
-INSERT INTO "order" (id, description, customer_id) VALUES (1188, 'Elegant Concrete Table', 35);
-INSERT INTO "order" (id, description, customer_id) VALUES (1189, 'Bespoke Soft Pants', 89);
-INSERT INTO "order" (id, description, customer_id) VALUES (1190, 'Licensed Concrete Pants', 19);
-INSERT INTO "order" (id, description, customer_id) VALUES (1191, 'Small Steel Soap', 75);
-INSERT INTO "order" (id, description, customer_id) VALUES (1192, 'Intelligent Bronze Bacon', 57);
-INSERT INTO "order" (id, description, customer_id) VALUES (1193, 'Unbranded Metal Table', 20);
-INSERT INTO "order" (id, description, customer_id) VALUES (1194, 'Refined Soft Chips', 2);
-INSERT INTO "order" (id, description, customer_id) VALUES (1195, 'Fantastic Cotton Cheese', 52);
-INSERT INTO "order" (id, description, customer_id) VALUES (1196, 'Bespoke Concrete Chair', 35);
-INSERT INTO "order" (id, description, customer_id) VALUES (1197, 'Fantastic Concrete Shirt', 44);
-INSERT INTO "order" (id, description, customer_id) VALUES (1198, 'Awesome Steel Computer', 86);
-INSERT INTO "order" (id, description, customer_id) VALUES (1199, 'Fantastic Metal Table', 27);
-INSERT INTO "order" (id, description, customer_id) VALUES (1200, 'Gorgeous Soft Chips', 100);
-INSERT INTO "order" (id, description, customer_id) VALUES (1201, 'Gorgeous Granite Ball', 72);
-INSERT INTO "order" (id, description, customer_id) VALUES (1202, 'Electronic Cotton Computer', 93);
-INSERT INTO "order" (id, description, customer_id) VALUES (1203, 'Electronic Soft Salad', 43);
-INSERT INTO "order" (id, description, customer_id) VALUES (1204, 'Handcrafted Bronze Sausages', 83);
-INSERT INTO "order" (id, description, customer_id) VALUES (1205, 'Handcrafted Metal Mouse', 79);
-INSERT INTO "order" (id, description, customer_id) VALUES (1206, 'Ergonomic Wooden Cheese', 56);
-INSERT INTO "order" (id, description, customer_id) VALUES (1207, 'Generic Frozen Ball', 47);
-INSERT INTO "order" (id, description, customer_id) VALUES (1208, 'Incredible Frozen Keyboard', 20);
-INSERT INTO "order" (id, description, customer_id) VALUES (1209, 'Incredible Rubber Car', 76);
-INSERT INTO "order" (id, description, customer_id) VALUES (1210, 'Tasty Metal Mouse', 7);
-INSERT INTO "order" (id, description, customer_id) VALUES (1211, 'Elegant Plastic Soap', 53);
-INSERT INTO "order" (id, description, customer_id) VALUES (1212, 'Electronic Metal Gloves', 76);
-INSERT INTO "order" (id, description, customer_id) VALUES (1213, 'Oriental Fresh Bacon', 43);
-INSERT INTO "order" (id, description, customer_id) VALUES (1214, 'Handcrafted Wooden Bacon', 38);
-INSERT INTO "order" (id, description, customer_id) VALUES (1215, 'Handmade Fresh Bacon', 18);
-INSERT INTO "order" (id, description, customer_id) VALUES (1216, 'Modern Granite Chips', 29);
-INSERT INTO "order" (id, description, customer_id) VALUES (1217, 'Fantastic Frozen Car', 48);
-INSERT INTO "order" (id, description, customer_id) VALUES (1218, 'Unbranded Metal Bacon', 78);
-INSERT INTO "order" (id, description, customer_id) VALUES (1219, 'Modern Granite Hat', 62);
-INSERT INTO "order" (id, description, customer_id) VALUES (1220, 'Recycled Rubber Soap', 36);
-INSERT INTO "order" (id, description, customer_id) VALUES (1221, 'Awesome Granite Pizza', 60);
-INSERT INTO "order" (id, description, customer_id) VALUES (1222, 'Electronic Plastic Fish', 92);
-INSERT INTO "order" (id, description, customer_id) VALUES (1223, 'Gorgeous Soft Towels', 65);
-INSERT INTO "order" (id, description, customer_id) VALUES (1224, 'Modern Bronze Cheese', 97);
-INSERT INTO "order" (id, description, customer_id) VALUES (1225, 'Gorgeous Cotton Pizza', 32);
-INSERT INTO "order" (id, description, customer_id) VALUES (1226, 'Handmade Fresh Mouse', 72);
-INSERT INTO "order" (id, description, customer_id) VALUES (1227, 'Modern Rubber Cheese', 98);
-INSERT INTO "order" (id, description, customer_id) VALUES (1228, 'Tasty Granite Tuna', 41);
-INSERT INTO "order" (id, description, customer_id) VALUES (1229, 'Fantastic Granite Mouse', 79);
-INSERT INTO "order" (id, description, customer_id) VALUES (1230, 'Electronic Fresh Towels', 47);
-INSERT INTO "order" (id, description, customer_id) VALUES (1231, 'Generic Concrete Chicken', 51);
-INSERT INTO "order" (id, description, customer_id) VALUES (1232, 'Oriental Plastic Shoes', 8);
-INSERT INTO "order" (id, description, customer_id) VALUES (1233, 'Intelligent Bronze Chicken', 6);
-INSERT INTO "order" (id, description, customer_id) VALUES (1234, 'Handcrafted Granite Salad', 32);
-INSERT INTO "order" (id, description, customer_id) VALUES (1235, 'Luxurious Concrete Shoes', 31);
-INSERT INTO "order" (id, description, customer_id) VALUES (1236, 'Incredible Frozen Chair', 68);
-INSERT INTO "order" (id, description, customer_id) VALUES (1237, 'Ergonomic Granite Towels', 90);
-INSERT INTO "order" (id, description, customer_id) VALUES (1238, 'Awesome Soft Keyboard', 71);
-INSERT INTO "order" (id, description, customer_id) VALUES (1239, 'Luxurious Plastic Chips', 25);
-INSERT INTO "order" (id, description, customer_id) VALUES (1240, 'Gorgeous Rubber Car', 83);
-INSERT INTO "order" (id, description, customer_id) VALUES (1241, 'Oriental Bronze Ball', 47);
-INSERT INTO "order" (id, description, customer_id) VALUES (1242, 'Luxurious Rubber Car', 29);
-INSERT INTO "order" (id, description, customer_id) VALUES (1243, 'Sleek Bronze Sausages', 41);
-INSERT INTO "order" (id, description, customer_id) VALUES (1244, 'Incredible Fresh Computer', 6);
-INSERT INTO "order" (id, description, customer_id) VALUES (1245, 'Electronic Steel Car', 54);
-INSERT INTO "order" (id, description, customer_id) VALUES (1246, 'Fantastic Granite Tuna', 76);
-INSERT INTO "order" (id, description, customer_id) VALUES (1247, 'Small Soft Salad', 61);
-INSERT INTO "order" (id, description, customer_id) VALUES (1248, 'Oriental Fresh Tuna', 3);
-INSERT INTO "order" (id, description, customer_id) VALUES (1249, 'Oriental Bronze Chair', 11);
-INSERT INTO "order" (id, description, customer_id) VALUES (1250, 'Ergonomic Granite Gloves', 51);
-INSERT INTO "order" (id, description, customer_id) VALUES (1251, 'Handmade Plastic Towels', 57);
-INSERT INTO "order" (id, description, customer_id) VALUES (1252, 'Oriental Granite Tuna', 53);
-INSERT INTO "order" (id, description, customer_id) VALUES (1253, 'Elegant Steel Chips', 96);
-INSERT INTO "order" (id, description, customer_id) VALUES (1254, 'Intelligent Soft Tuna', 18);
-INSERT INTO "order" (id, description, customer_id) VALUES (1255, 'Modern Steel Car', 96);
-INSERT INTO "order" (id, description, customer_id) VALUES (1256, 'Rustic Soft Bacon', 15);
-INSERT INTO "order" (id, description, customer_id) VALUES (1257, 'Practical Cotton Gloves', 99);
-INSERT INTO "order" (id, description, customer_id) VALUES (1258, 'Ergonomic Concrete Shirt', 70);
-INSERT INTO "order" (id, description, customer_id) VALUES (1259, 'Elegant Cotton Hat', 57);
-INSERT INTO "order" (id, description, customer_id) VALUES (1260, 'Incredible Wooden Gloves', 77);
-INSERT INTO "order" (id, description, customer_id) VALUES (1261, 'Tasty Rubber Shoes', 20);
-INSERT INTO "order" (id, description, customer_id) VALUES (1262, 'Oriental Soft Computer', 48);
-INSERT INTO "order" (id, description, customer_id) VALUES (1263, 'Bespoke Bronze Bike', 38);
-INSERT INTO "order" (id, description, customer_id) VALUES (1264, 'Practical Plastic Table', 33);
-INSERT INTO "order" (id, description, customer_id) VALUES (1265, 'Intelligent Frozen Table', 60);
-INSERT INTO "order" (id, description, customer_id) VALUES (1266, 'Licensed Cotton Chicken', 79);
-INSERT INTO "order" (id, description, customer_id) VALUES (1267, 'Rustic Granite Pants', 59);
-INSERT INTO "order" (id, description, customer_id) VALUES (1268, 'Intelligent Rubber Car', 9);
-INSERT INTO "order" (id, description, customer_id) VALUES (1269, 'Sleek Soft Chips', 82);
-INSERT INTO "order" (id, description, customer_id) VALUES (1270, 'Modern Cotton Ball', 21);
-INSERT INTO "order" (id, description, customer_id) VALUES (1271, 'Generic Bronze Chips', 8);
-INSERT INTO "order" (id, description, customer_id) VALUES (1272, 'Fantastic Soft Chair', 94);
-INSERT INTO "order" (id, description, customer_id) VALUES (1273, 'Handcrafted Rubber Keyboard', 75);
-INSERT INTO "order" (id, description, customer_id) VALUES (1274, 'Modern Concrete Mouse', 25);
-INSERT INTO "order" (id, description, customer_id) VALUES (1275, 'Licensed Granite Gloves', 82);
-INSERT INTO "order" (id, description, customer_id) VALUES (1276, 'Incredible Steel Shoes', 1);
-INSERT INTO "order" (id, description, customer_id) VALUES (1277, 'Licensed Plastic Shirt', 68);
-INSERT INTO "order" (id, description, customer_id) VALUES (1278, 'Incredible Steel Pants', 99);
-INSERT INTO "order" (id, description, customer_id) VALUES (1279, 'Fantastic Wooden Towels', 54);
-INSERT INTO "order" (id, description, customer_id) VALUES (1280, 'Unbranded Steel Shirt', 44);
-INSERT INTO "order" (id, description, customer_id) VALUES (1281, 'Luxurious Concrete Chair', 96);
-INSERT INTO "order" (id, description, customer_id) VALUES (1282, 'Unbranded Plastic Cheese', 48);
-INSERT INTO "order" (id, description, customer_id) VALUES (1283, 'Elegant Bronze Shirt', 88);
-INSERT INTO "order" (id, description, customer_id) VALUES (1284, 'Oriental Fresh Pizza', 27);
-INSERT INTO "order" (id, description, customer_id) VALUES (1285, 'Sleek Cotton Fish', 14);
-INSERT INTO "order" (id, description, customer_id) VALUES (1286, 'Rustic Granite Mouse', 67);
-INSERT INTO "order" (id, description, customer_id) VALUES (1287, 'Unbranded Granite Cheese', 51);
-INSERT INTO "order" (id, description, customer_id) VALUES (1288, 'Luxurious Plastic Shoes', 21);
-INSERT INTO "order" (id, description, customer_id) VALUES (1289, 'Electronic Wooden Ball', 64);
-INSERT INTO "order" (id, description, customer_id) VALUES (1290, 'Oriental Soft Mouse', 89);
-INSERT INTO "order" (id, description, customer_id) VALUES (1291, 'Modern Wooden Keyboard', 85);
-INSERT INTO "order" (id, description, customer_id) VALUES (1292, 'Incredible Soft Fish', 62);
-INSERT INTO "order" (id, description, customer_id) VALUES (1293, 'Awesome Concrete Pizza', 1);
-INSERT INTO "order" (id, description, customer_id) VALUES (1294, 'Fantastic Frozen Gloves', 44);
-INSERT INTO "order" (id, description, customer_id) VALUES (1295, 'Bespoke Granite Salad', 76);
-INSERT INTO "order" (id, description, customer_id) VALUES (1296, 'Licensed Concrete Table', 37);
-INSERT INTO "order" (id, description, customer_id) VALUES (1297, 'Licensed Rubber Keyboard', 6);
-INSERT INTO "order" (id, description, customer_id) VALUES (1298, 'Rustic Soft Keyboard', 44);
-INSERT INTO "order" (id, description, customer_id) VALUES (1299, 'Unbranded Cotton Soap', 60);
-INSERT INTO "order" (id, description, customer_id) VALUES (1300, 'Electronic Soft Shoes', 89);
-INSERT INTO "order" (id, description, customer_id) VALUES (1301, 'Tasty Granite Bike', 85);
-INSERT INTO "order" (id, description, customer_id) VALUES (1302, 'Intelligent Concrete Towels', 43);
-INSERT INTO "order" (id, description, customer_id) VALUES (1303, 'Unbranded Fresh Cheese', 73);
-INSERT INTO "order" (id, description, customer_id) VALUES (1304, 'Bespoke Granite Pizza', 81);
-INSERT INTO "order" (id, description, customer_id) VALUES (1305, 'Practical Rubber Computer', 72);
-INSERT INTO "order" (id, description, customer_id) VALUES (1306, 'Ergonomic Steel Pants', 32);
-INSERT INTO "order" (id, description, customer_id) VALUES (1307, 'Awesome Soft Shoes', 26);
-INSERT INTO "order" (id, description, customer_id) VALUES (1308, 'Luxurious Steel Chips', 82);
-INSERT INTO "order" (id, description, customer_id) VALUES (1309, 'Ergonomic Plastic Computer', 17);
-INSERT INTO "order" (id, description, customer_id) VALUES (1310, 'Gorgeous Concrete Shirt', 50);
-INSERT INTO "order" (id, description, customer_id) VALUES (1311, 'Bespoke Frozen Computer', 17);
-INSERT INTO "order" (id, description, customer_id) VALUES (1312, 'Electronic Metal Shirt', 45);
-INSERT INTO "order" (id, description, customer_id) VALUES (1313, 'Tasty Steel Sausages', 23);
-INSERT INTO "order" (id, description, customer_id) VALUES (1314, 'Oriental Bronze Fish', 1);
-INSERT INTO "order" (id, description, customer_id) VALUES (1315, 'Gorgeous Plastic Fish', 30);
-INSERT INTO "order" (id, description, customer_id) VALUES (1316, 'Handcrafted Metal Chicken', 65);
-INSERT INTO "order" (id, description, customer_id) VALUES (1317, 'Luxurious Frozen Hat', 2);
-INSERT INTO "order" (id, description, customer_id) VALUES (1318, 'Incredible Steel Keyboard', 94);
-INSERT INTO "order" (id, description, customer_id) VALUES (1319, 'Licensed Concrete Shoes', 89);
-INSERT INTO "order" (id, description, customer_id) VALUES (1320, 'Modern Fresh Bacon', 69);
-INSERT INTO "order" (id, description, customer_id) VALUES (1321, 'Practical Soft Shoes', 51);
-INSERT INTO "order" (id, description, customer_id) VALUES (1322, 'Handmade Steel Fish', 15);
-INSERT INTO "order" (id, description, customer_id) VALUES (1323, 'Small Frozen Keyboard', 10);
-INSERT INTO "order" (id, description, customer_id) VALUES (1324, 'Elegant Rubber Table', 72);
-INSERT INTO "order" (id, description, customer_id) VALUES (1325, 'Bespoke Bronze Cheese', 44);
-INSERT INTO "order" (id, description, customer_id) VALUES (1326, 'Ergonomic Concrete Cheese', 30);
-INSERT INTO "order" (id, description, customer_id) VALUES (1327, 'Fantastic Plastic Shirt', 65);
-INSERT INTO "order" (id, description, customer_id) VALUES (1328, 'Practical Wooden Bacon', 1);
-INSERT INTO "order" (id, description, customer_id) VALUES (1329, 'Handmade Steel Sausages', 47);
-INSERT INTO "order" (id, description, customer_id) VALUES (1330, 'Rustic Fresh Bike', 42);
-INSERT INTO "order" (id, description, customer_id) VALUES (1331, 'Bespoke Plastic Mouse', 30);
-INSERT INTO "order" (id, description, customer_id) VALUES (1332, 'Recycled Concrete Table', 59);
-INSERT INTO "order" (id, description, customer_id) VALUES (1333, 'Ergonomic Steel Sausages', 12);
-INSERT INTO "order" (id, description, customer_id) VALUES (1334, 'Gorgeous Rubber Table', 78);
-INSERT INTO "order" (id, description, customer_id) VALUES (1335, 'Modern Granite Chicken', 77);
-INSERT INTO "order" (id, description, customer_id) VALUES (1336, 'Handcrafted Frozen Computer', 52);
-INSERT INTO "order" (id, description, customer_id) VALUES (1337, 'Unbranded Frozen Bike', 67);
-INSERT INTO "order" (id, description, customer_id) VALUES (1338, 'Elegant Metal Ball', 51);
-INSERT INTO "order" (id, description, customer_id) VALUES (1339, 'Intelligent Rubber Table', 19);
-INSERT INTO "order" (id, description, customer_id) VALUES (1340, 'Elegant Rubber Gloves', 83);
-INSERT INTO "order" (id, description, customer_id) VALUES (1341, 'Licensed Concrete Gloves', 45);
-INSERT INTO "order" (id, description, customer_id) VALUES (1342, 'Ergonomic Metal Bike', 89);
-INSERT INTO "order" (id, description, customer_id) VALUES (1343, 'Awesome Rubber Fish', 13);
-INSERT INTO "order" (id, description, customer_id) VALUES (1344, 'Awesome Steel Soap', 20);
-INSERT INTO "order" (id, description, customer_id) VALUES (1345, 'Awesome Metal Salad', 3);
-INSERT INTO "order" (id, description, customer_id) VALUES (1346, 'Rustic Frozen Chips', 22);
-INSERT INTO "order" (id, description, customer_id) VALUES (1347, 'Bespoke Bronze Shirt', 30);
-INSERT INTO "order" (id, description, customer_id) VALUES (1348, 'Gorgeous Plastic Bike', 89);
-INSERT INTO "order" (id, description, customer_id) VALUES (1349, 'Generic Bronze Chicken', 80);
-INSERT INTO "order" (id, description, customer_id) VALUES (1350, 'Generic Cotton Soap', 49);
-INSERT INTO "order" (id, description, customer_id) VALUES (1351, 'Luxurious Granite Pizza', 28);
-INSERT INTO "order" (id, description, customer_id) VALUES (1352, 'Licensed Frozen Sausages', 27);
-INSERT INTO "order" (id, description, customer_id) VALUES (1353, 'Handcrafted Cotton Chair', 10);
-INSERT INTO "order" (id, description, customer_id) VALUES (1354, 'Handcrafted Steel Pizza', 31);
-INSERT INTO "order" (id, description, customer_id) VALUES (1355, 'Generic Steel Chips', 51);
-INSERT INTO "order" (id, description, customer_id) VALUES (1356, 'Fantastic Wooden Table', 33);
-INSERT INTO "order" (id, description, customer_id) VALUES (1357, 'Ergonomic Steel Shirt', 7);
-INSERT INTO "order" (id, description, customer_id) VALUES (1358, 'Rustic Metal Chair', 75);
-INSERT INTO "order" (id, description, customer_id) VALUES (1359, 'Practical Plastic Soap', 65);
-INSERT INTO "order" (id, description, customer_id) VALUES (1360, 'Elegant Fresh Cheese', 32);
-INSERT INTO "order" (id, description, customer_id) VALUES (1361, 'Recycled Rubber Chips', 71);
-INSERT INTO "order" (id, description, customer_id) VALUES (1362, 'Elegant Fresh Computer', 37);
-INSERT INTO "order" (id, description, customer_id) VALUES (1363, 'Small Metal Car', 55);
-INSERT INTO "order" (id, description, customer_id) VALUES (1364, 'Sleek Rubber Chips', 37);
-INSERT INTO "order" (id, description, customer_id) VALUES (1365, 'Refined Concrete Ball', 13);
-INSERT INTO "order" (id, description, customer_id) VALUES (1366, 'Rustic Concrete Bacon', 17);
-INSERT INTO "order" (id, description, customer_id) VALUES (1367, 'Rustic Concrete Hat', 11);
-INSERT INTO "order" (id, description, customer_id) VALUES (1368, 'Refined Wooden Pants', 51);
-INSERT INTO "order" (id, description, customer_id) VALUES (1369, 'Refined Granite Car', 64);
-INSERT INTO "order" (id, description, customer_id) VALUES (1370, 'Incredible Granite Chicken', 56);
-INSERT INTO "order" (id, description, customer_id) VALUES (1371, 'Tasty Frozen Keyboard', 86);
-INSERT INTO "order" (id, description, customer_id) VALUES (1372, 'Modern Bronze Bike', 10);
-INSERT INTO "order" (id, description, customer_id) VALUES (1373, 'Refined Frozen Bike', 76);
-INSERT INTO "order" (id, description, customer_id) VALUES (1374, 'Incredible Rubber Sausages', 79);
-INSERT INTO "order" (id, description, customer_id) VALUES (1375, 'Modern Concrete Shirt', 15);
-INSERT INTO "order" (id, description, customer_id) VALUES (1376, 'Oriental Fresh Car', 82);
-INSERT INTO "order" (id, description, customer_id) VALUES (1377, 'Licensed Frozen Cheese', 87);
-INSERT INTO "order" (id, description, customer_id) VALUES (1378, 'Ergonomic Steel Tuna', 98);
-INSERT INTO "order" (id, description, customer_id) VALUES (1379, 'Tasty Frozen Shirt', 85);
-INSERT INTO "order" (id, description, customer_id) VALUES (1380, 'Ergonomic Metal Table', 44);
-INSERT INTO "order" (id, description, customer_id) VALUES (1381, 'Intelligent Metal Fish', 4);
-INSERT INTO "order" (id, description, customer_id) VALUES (1382, 'Awesome Cotton Soap', 1);
-INSERT INTO "order" (id, description, customer_id) VALUES (1383, 'Tasty Steel Sausages', 88);
-INSERT INTO "order" (id, description, customer_id) VALUES (1384, 'Electronic Cotton Bike', 86);
-INSERT INTO "order" (id, description, customer_id) VALUES (1385, 'Handcrafted Bronze Keyboard', 48);
-INSERT INTO "order" (id, description, customer_id) VALUES (1386, 'Ergonomic Rubber Ball', 56);
-INSERT INTO "order" (id, description, customer_id) VALUES (1387, 'Incredible Bronze Keyboard', 71);
-INSERT INTO "order" (id, description, customer_id) VALUES (1388, 'Unbranded Wooden Car', 62);
-INSERT INTO "order" (id, description, customer_id) VALUES (1389, 'Unbranded Wooden Hat', 22);
-INSERT INTO "order" (id, description, customer_id) VALUES (1390, 'Tasty Cotton Mouse', 64);
-INSERT INTO "order" (id, description, customer_id) VALUES (1391, 'Licensed Fresh Keyboard', 16);
-INSERT INTO "order" (id, description, customer_id) VALUES (1392, 'Elegant Soft Fish', 5);
-INSERT INTO "order" (id, description, customer_id) VALUES (1393, 'Refined Fresh Bike', 69);
-INSERT INTO "order" (id, description, customer_id) VALUES (1394, 'Unbranded Wooden Pizza', 100);
-INSERT INTO "order" (id, description, customer_id) VALUES (1395, 'Generic Frozen Shirt', 32);
-INSERT INTO "order" (id, description, customer_id) VALUES (1396, 'Intelligent Wooden Shirt', 74);
-INSERT INTO "order" (id, description, customer_id) VALUES (1397, 'Modern Bronze Bacon', 27);
-INSERT INTO "order" (id, description, customer_id) VALUES (1398, 'Handcrafted Granite Sausages', 70);
-INSERT INTO "order" (id, description, customer_id) VALUES (1399, 'Elegant Soft Fish', 57);
-INSERT INTO "order" (id, description, customer_id) VALUES (1400, 'Incredible Wooden Cheese', 75);
-INSERT INTO "order" (id, description, customer_id) VALUES (1401, 'Practical Plastic Table', 97);
-INSERT INTO "order" (id, description, customer_id) VALUES (1402, 'Recycled Bronze Keyboard', 7);
-INSERT INTO "order" (id, description, customer_id) VALUES (1403, 'Recycled Cotton Fish', 73);
-INSERT INTO "order" (id, description, customer_id) VALUES (1404, 'Handmade Metal Gloves', 98);
-INSERT INTO "order" (id, description, customer_id) VALUES (1405, 'Bespoke Rubber Ball', 97);
-INSERT INTO "order" (id, description, customer_id) VALUES (1406, 'Recycled Wooden Mouse', 36);
-INSERT INTO "order" (id, description, customer_id) VALUES (1407, 'Modern Rubber Soap', 37);
-INSERT INTO "order" (id, description, customer_id) VALUES (1408, 'Awesome Bronze Ball', 73);
-INSERT INTO "order" (id, description, customer_id) VALUES (1409, 'Elegant Cotton Mouse', 13);
-INSERT INTO "order" (id, description, customer_id) VALUES (1410, 'Tasty Plastic Towels', 50);
-INSERT INTO "order" (id, description, customer_id) VALUES (1411, 'Luxurious Plastic Bacon', 75);
-INSERT INTO "order" (id, description, customer_id) VALUES (1412, 'Elegant Fresh Bike', 40);
-INSERT INTO "order" (id, description, customer_id) VALUES (1413, 'Unbranded Wooden Tuna', 96);
-INSERT INTO "order" (id, description, customer_id) VALUES (1414, 'Licensed Metal Salad', 34);
-INSERT INTO "order" (id, description, customer_id) VALUES (1415, 'Oriental Fresh Keyboard', 64);
-INSERT INTO "order" (id, description, customer_id) VALUES (1416, 'Tasty Steel Shirt', 97);
-INSERT INTO "order" (id, description, customer_id) VALUES (1417, 'Practical Rubber Bacon', 59);
-INSERT INTO "order" (id, description, customer_id) VALUES (1418, 'Bespoke Bronze Cheese', 66);
-INSERT INTO "order" (id, description, customer_id) VALUES (1419, 'Rustic Wooden Fish', 1);
-INSERT INTO "order" (id, description, customer_id) VALUES (1420, 'Tasty Bronze Fish', 63);
-INSERT INTO "order" (id, description, customer_id) VALUES (1421, 'Practical Metal Chips', 77);
-INSERT INTO "order" (id, description, customer_id) VALUES (1422, 'Oriental Fresh Salad', 88);
-INSERT INTO "order" (id, description, customer_id) VALUES (1423, 'Incredible Concrete Computer', 88);
-INSERT INTO "order" (id, description, customer_id) VALUES (1424, 'Rustic Metal Bike', 16);
-INSERT INTO "order" (id, description, customer_id) VALUES (1425, 'Tasty Concrete Towels', 24);
-INSERT INTO "order" (id, description, customer_id) VALUES (1426, 'Licensed Soft Computer', 36);
-INSERT INTO "order" (id, description, customer_id) VALUES (1427, 'Rustic Wooden Shoes', 84);
-INSERT INTO "order" (id, description, customer_id) VALUES (1428, 'Refined Metal Chicken', 94);
-INSERT INTO "order" (id, description, customer_id) VALUES (1429, 'Small Granite Chair', 19);
-INSERT INTO "order" (id, description, customer_id) VALUES (1430, 'Rustic Plastic Car', 25);
-INSERT INTO "order" (id, description, customer_id) VALUES (1431, 'Small Metal Bacon', 60);
-INSERT INTO "order" (id, description, customer_id) VALUES (1432, 'Awesome Steel Shirt', 41);
-INSERT INTO "order" (id, description, customer_id) VALUES (1433, 'Tasty Granite Towels', 9);
-INSERT INTO "order" (id, description, customer_id) VALUES (1434, 'Licensed Metal Fish', 60);
-INSERT INTO "order" (id, description, customer_id) VALUES (1435, 'Handcrafted Concrete Soap', 79);
-INSERT INTO "order" (id, description, customer_id) VALUES (1436, 'Awesome Bronze Fish', 48);
-INSERT INTO "order" (id, description, customer_id) VALUES (1437, 'Oriental Metal Tuna', 86);
-INSERT INTO "order" (id, description, customer_id) VALUES (1438, 'Incredible Steel Chicken', 98);
-INSERT INTO "order" (id, description, customer_id) VALUES (1439, 'Gorgeous Concrete Bacon', 62);
-INSERT INTO "order" (id, description, customer_id) VALUES (1440, 'Handcrafted Concrete Pants', 31);
-INSERT INTO "order" (id, description, customer_id) VALUES (1441, 'Intelligent Steel Ball', 84);
-INSERT INTO "order" (id, description, customer_id) VALUES (1442, 'Handcrafted Granite Towels', 91);
-INSERT INTO "order" (id, description, customer_id) VALUES (1443, 'Elegant Concrete Cheese', 97);
-INSERT INTO "order" (id, description, customer_id) VALUES (1444, 'Licensed Wooden Chair', 97);
-INSERT INTO "order" (id, description, customer_id) VALUES (1445, 'Incredible Frozen Cheese', 6);
-INSERT INTO "order" (id, description, customer_id) VALUES (1446, 'Awesome Rubber Keyboard', 76);
-INSERT INTO "order" (id, description, customer_id) VALUES (1447, 'Bespoke Granite Bacon', 39);
-INSERT INTO "order" (id, description, customer_id) VALUES (1448, 'Handmade Frozen Cheese', 61);
-INSERT INTO "order" (id, description, customer_id) VALUES (1449, 'Rustic Rubber Car', 14);
-INSERT INTO "order" (id, description, customer_id) VALUES (1450, 'Electronic Rubber Sausages', 20);
-INSERT INTO "order" (id, description, customer_id) VALUES (1451, 'Tasty Cotton Soap', 92);
-INSERT INTO "order" (id, description, customer_id) VALUES (1452, 'Oriental Fresh Bacon', 24);
-INSERT INTO "order" (id, description, customer_id) VALUES (1453, 'Rustic Cotton Gloves', 97);
-INSERT INTO "order" (id, description, customer_id) VALUES (1454, 'Unbranded Wooden Hat', 41);
-INSERT INTO "order" (id, description, customer_id) VALUES (1455, 'Luxurious Steel Pizza', 37);
-INSERT INTO "order" (id, description, customer_id) VALUES (1456, 'Sleek Frozen Car', 67);
-INSERT INTO "order" (id, description, customer_id) VALUES (1457, 'Gorgeous Rubber Bike', 63);
-INSERT INTO "order" (id, description, customer_id) VALUES (1458, 'Gorgeous Cotton Table', 42);
-INSERT INTO "order" (id, description, customer_id) VALUES (1459, 'Ergonomic Frozen Towels', 55);
-INSERT INTO "order" (id, description, customer_id) VALUES (1460, 'Tasty Concrete Chair', 27);
-INSERT INTO "order" (id, description, customer_id) VALUES (1461, 'Modern Frozen Ball', 73);
-INSERT INTO "order" (id, description, customer_id) VALUES (1462, 'Rustic Metal Bacon', 60);
-INSERT INTO "order" (id, description, customer_id) VALUES (1463, 'Oriental Rubber Chair', 76);
-INSERT INTO "order" (id, description, customer_id) VALUES (1464, 'Recycled Cotton Soap', 21);
-INSERT INTO "order" (id, description, customer_id) VALUES (1465, 'Handmade Frozen Hat', 25);
-INSERT INTO "order" (id, description, customer_id) VALUES (1466, 'Refined Soft Mouse', 92);
-INSERT INTO "order" (id, description, customer_id) VALUES (1467, 'Refined Rubber Ball', 46);
-INSERT INTO "order" (id, description, customer_id) VALUES (1468, 'Unbranded Metal Chips', 52);
-INSERT INTO "order" (id, description, customer_id) VALUES (1469, 'Elegant Wooden Towels', 10);
-INSERT INTO "order" (id, description, customer_id) VALUES (1470, 'Fantastic Rubber Chips', 71);
-INSERT INTO "order" (id, description, customer_id) VALUES (1471, 'Luxurious Frozen Gloves', 92);
-INSERT INTO "order" (id, description, customer_id) VALUES (1472, 'Unbranded Metal Hat', 70);
-INSERT INTO "order" (id, description, customer_id) VALUES (1473, 'Awesome Steel Bike', 21);
-INSERT INTO "order" (id, description, customer_id) VALUES (1474, 'Intelligent Wooden Sausages', 9);
-INSERT INTO "order" (id, description, customer_id) VALUES (1475, 'Unbranded Soft Chicken', 81);
-INSERT INTO "order" (id, description, customer_id) VALUES (1476, 'Recycled Granite Computer', 40);
-INSERT INTO "order" (id, description, customer_id) VALUES (1477, 'Rustic Steel Car', 62);
-INSERT INTO "order" (id, description, customer_id) VALUES (1478, 'Incredible Fresh Bacon', 48);
-INSERT INTO "order" (id, description, customer_id) VALUES (1479, 'Ergonomic Concrete Chips', 20);
-INSERT INTO "order" (id, description, customer_id) VALUES (1480, 'Licensed Concrete Pants', 74);
-INSERT INTO "order" (id, description, customer_id) VALUES (1481, 'Elegant Rubber Bacon', 57);
-INSERT INTO "order" (id, description, customer_id) VALUES (1482, 'Fantastic Metal Pizza', 27);
-INSERT INTO "order" (id, description, customer_id) VALUES (1483, 'Modern Wooden Table', 61);
-INSERT INTO "order" (id, description, customer_id) VALUES (1484, 'Practical Rubber Soap', 100);
-INSERT INTO "order" (id, description, customer_id) VALUES (1485, 'Unbranded Wooden Salad', 29);
-INSERT INTO "order" (id, description, customer_id) VALUES (1486, 'Incredible Rubber Hat', 42);
-INSERT INTO "order" (id, description, customer_id) VALUES (1487, 'Gorgeous Rubber Car', 26);
-INSERT INTO "order" (id, description, customer_id) VALUES (1488, 'Elegant Rubber Car', 23);
-INSERT INTO "order" (id, description, customer_id) VALUES (1489, 'Practical Steel Bike', 52);
-INSERT INTO "order" (id, description, customer_id) VALUES (1490, 'Generic Fresh Sausages', 19);
-INSERT INTO "order" (id, description, customer_id) VALUES (1491, 'Handcrafted Metal Towels', 20);
-INSERT INTO "order" (id, description, customer_id) VALUES (1492, 'Handmade Soft Cheese', 45);
-INSERT INTO "order" (id, description, customer_id) VALUES (1493, 'Fantastic Soft Shoes', 81);
-INSERT INTO "order" (id, description, customer_id) VALUES (1494, 'Fantastic Cotton Soap', 92);
-INSERT INTO "order" (id, description, customer_id) VALUES (1495, 'Recycled Plastic Tuna', 23);
-INSERT INTO "order" (id, description, customer_id) VALUES (1496, 'Sleek Plastic Cheese', 32);
-INSERT INTO "order" (id, description, customer_id) VALUES (1497, 'Fantastic Metal Bacon', 58);
-INSERT INTO "order" (id, description, customer_id) VALUES (1498, 'Gorgeous Soft Towels', 48);
-INSERT INTO "order" (id, description, customer_id) VALUES (1499, 'Modern Rubber Chips', 58);
-INSERT INTO "order" (id, description, customer_id) VALUES (1500, 'Recycled Wooden Chair', 83);
-INSERT INTO "order" (id, description, customer_id) VALUES (1501, 'Bespoke Frozen Chair', 35);
-INSERT INTO "order" (id, description, customer_id) VALUES (1502, 'Intelligent Steel Bike', 31);
-INSERT INTO "order" (id, description, customer_id) VALUES (1503, 'Ergonomic Wooden Shoes', 84);
-INSERT INTO "order" (id, description, customer_id) VALUES (1504, 'Intelligent Plastic Mouse', 83);
-INSERT INTO "order" (id, description, customer_id) VALUES (1505, 'Modern Plastic Fish', 10);
-INSERT INTO "order" (id, description, customer_id) VALUES (1506, 'Gorgeous Wooden Salad', 69);
-INSERT INTO "order" (id, description, customer_id) VALUES (1507, 'Handcrafted Bronze Pants', 72);
-INSERT INTO "order" (id, description, customer_id) VALUES (1508, 'Gorgeous Bronze Tuna', 80);
-INSERT INTO "order" (id, description, customer_id) VALUES (1509, 'Refined Granite Chips', 40);
-INSERT INTO "order" (id, description, customer_id) VALUES (1510, 'Elegant Granite Chair', 16);
-INSERT INTO "order" (id, description, customer_id) VALUES (1511, 'Practical Soft Shoes', 34);
-INSERT INTO "order" (id, description, customer_id) VALUES (1512, 'Awesome Plastic Gloves', 46);
-INSERT INTO "order" (id, description, customer_id) VALUES (1513, 'Refined Plastic Chair', 78);
-INSERT INTO "order" (id, description, customer_id) VALUES (1514, 'Incredible Bronze Chicken', 77);
-INSERT INTO "order" (id, description, customer_id) VALUES (1515, 'Gorgeous Wooden Bike', 42);
-INSERT INTO "order" (id, description, customer_id) VALUES (1516, 'Sleek Granite Tuna', 76);
-INSERT INTO "order" (id, description, customer_id) VALUES (1517, 'Elegant Steel Computer', 55);
-INSERT INTO "order" (id, description, customer_id) VALUES (1518, 'Modern Plastic Hat', 8);
-INSERT INTO "order" (id, description, customer_id) VALUES (1519, 'Refined Granite Shirt', 68);
-INSERT INTO "order" (id, description, customer_id) VALUES (1520, 'Gorgeous Wooden Pizza', 66);
-INSERT INTO "order" (id, description, customer_id) VALUES (1521, 'Unbranded Bronze Bacon', 72);
-INSERT INTO "order" (id, description, customer_id) VALUES (1522, 'Refined Rubber Ball', 47);
-INSERT INTO "order" (id, description, customer_id) VALUES (1523, 'Elegant Frozen Car', 84);
-INSERT INTO "order" (id, description, customer_id) VALUES (1524, 'Licensed Soft Pants', 43);
-INSERT INTO "order" (id, description, customer_id) VALUES (1525, 'Incredible Plastic Mouse', 87);
-INSERT INTO "order" (id, description, customer_id) VALUES (1526, 'Generic Cotton Mouse', 96);
-INSERT INTO "order" (id, description, customer_id) VALUES (1527, 'Handmade Bronze Chicken', 48);
-INSERT INTO "order" (id, description, customer_id) VALUES (1528, 'Tasty Soft Soap', 68);
-INSERT INTO "order" (id, description, customer_id) VALUES (1529, 'Practical Steel Shoes', 98);
-INSERT INTO "order" (id, description, customer_id) VALUES (1530, 'Licensed Granite Towels', 84);
-INSERT INTO "order" (id, description, customer_id) VALUES (1531, 'Practical Plastic Mouse', 7);
-INSERT INTO "order" (id, description, customer_id) VALUES (1532, 'Awesome Fresh Gloves', 27);
-INSERT INTO "order" (id, description, customer_id) VALUES (1533, 'Handcrafted Fresh Chips', 49);
-INSERT INTO "order" (id, description, customer_id) VALUES (1534, 'Refined Cotton Keyboard', 53);
-INSERT INTO "order" (id, description, customer_id) VALUES (1535, 'Intelligent Soft Chips', 55);
-INSERT INTO "order" (id, description, customer_id) VALUES (1536, 'Incredible Bronze Chips', 15);
-INSERT INTO "order" (id, description, customer_id) VALUES (1537, 'Bespoke Rubber Computer', 9);
-INSERT INTO "order" (id, description, customer_id) VALUES (1538, 'Intelligent Rubber Tuna', 14);
-INSERT INTO "order" (id, description, customer_id) VALUES (1539, 'Bespoke Rubber Chair', 38);
-INSERT INTO "order" (id, description, customer_id) VALUES (1540, 'Handmade Concrete Chicken', 33);
-INSERT INTO "order" (id, description, customer_id) VALUES (1541, 'Handcrafted Steel Chips', 82);
-INSERT INTO "order" (id, description, customer_id) VALUES (1542, 'Tasty Wooden Chicken', 31);
-INSERT INTO "order" (id, description, customer_id) VALUES (1543, 'Unbranded Soft Shoes', 73);
-INSERT INTO "order" (id, description, customer_id) VALUES (1544, 'Small Fresh Mouse', 43);
-INSERT INTO "order" (id, description, customer_id) VALUES (1545, 'Bespoke Plastic Soap', 58);
-INSERT INTO "order" (id, description, customer_id) VALUES (1546, 'Rustic Fresh Cheese', 84);
-INSERT INTO "order" (id, description, customer_id) VALUES (1547, 'Bespoke Plastic Chips', 90);
-INSERT INTO "order" (id, description, customer_id) VALUES (1548, 'Small Cotton Sausages', 31);
-INSERT INTO "order" (id, description, customer_id) VALUES (1549, 'Ergonomic Rubber Chair', 24);
-INSERT INTO "order" (id, description, customer_id) VALUES (1550, 'Rustic Fresh Mouse', 66);
-INSERT INTO "order" (id, description, customer_id) VALUES (1551, 'Generic Plastic Keyboard', 33);
-INSERT INTO "order" (id, description, customer_id) VALUES (1552, 'Electronic Soft Chair', 67);
-INSERT INTO "order" (id, description, customer_id) VALUES (1553, 'Generic Rubber Pants', 98);
-INSERT INTO "order" (id, description, customer_id) VALUES (1554, 'Awesome Frozen Car', 69);
-INSERT INTO "order" (id, description, customer_id) VALUES (1555, 'Tasty Rubber Hat', 90);
-INSERT INTO "order" (id, description, customer_id) VALUES (1556, 'Practical Fresh Shoes', 16);
-INSERT INTO "order" (id, description, customer_id) VALUES (1557, 'Unbranded Soft Cheese', 18);
-INSERT INTO "order" (id, description, customer_id) VALUES (1558, 'Recycled Frozen Chicken', 20);
-INSERT INTO "order" (id, description, customer_id) VALUES (1559, 'Generic Plastic Chips', 36);
-INSERT INTO "order" (id, description, customer_id) VALUES (1560, 'Fantastic Wooden Towels', 25);
-INSERT INTO "order" (id, description, customer_id) VALUES (1561, 'Awesome Wooden Bacon', 92);
-INSERT INTO "order" (id, description, customer_id) VALUES (1562, 'Handmade Concrete Cheese', 11);
-INSERT INTO "order" (id, description, customer_id) VALUES (1563, 'Intelligent Steel Shoes', 57);
-INSERT INTO "order" (id, description, customer_id) VALUES (1564, 'Awesome Rubber Chicken', 85);
-INSERT INTO "order" (id, description, customer_id) VALUES (1565, 'Small Concrete Computer', 47);
-INSERT INTO "order" (id, description, customer_id) VALUES (1566, 'Fantastic Concrete Chips', 14);
-INSERT INTO "order" (id, description, customer_id) VALUES (1567, 'Elegant Plastic Gloves', 18);
-INSERT INTO "order" (id, description, customer_id) VALUES (1568, 'Tasty Rubber Car', 37);
-INSERT INTO "order" (id, description, customer_id) VALUES (1569, 'Rustic Soft Table', 24);
-INSERT INTO "order" (id, description, customer_id) VALUES (1570, 'Gorgeous Steel Computer', 12);
-INSERT INTO "order" (id, description, customer_id) VALUES (1571, 'Oriental Concrete Mouse', 86);
-INSERT INTO "order" (id, description, customer_id) VALUES (1572, 'Small Frozen Cheese', 99);
-INSERT INTO "order" (id, description, customer_id) VALUES (1573, 'Ergonomic Bronze Bacon', 36);
-INSERT INTO "order" (id, description, customer_id) VALUES (1574, 'Practical Rubber Bacon', 82);
-INSERT INTO "order" (id, description, customer_id) VALUES (1575, 'Refined Wooden Car', 66);
-INSERT INTO "order" (id, description, customer_id) VALUES (1576, 'Sleek Concrete Computer', 41);
-INSERT INTO "order" (id, description, customer_id) VALUES (1577, 'Oriental Granite Hat', 83);
-INSERT INTO "order" (id, description, customer_id) VALUES (1578, 'Practical Rubber Chips', 21);
-INSERT INTO "order" (id, description, customer_id) VALUES (1579, 'Handcrafted Granite Bike', 82);
-INSERT INTO "order" (id, description, customer_id) VALUES (1580, 'Generic Frozen Gloves', 68);
-INSERT INTO "order" (id, description, customer_id) VALUES (1581, 'Ergonomic Cotton Chips', 18);
-INSERT INTO "order" (id, description, customer_id) VALUES (1582, 'Unbranded Granite Fish', 72);
-INSERT INTO "order" (id, description, customer_id) VALUES (1583, 'Sleek Granite Gloves', 43);
-INSERT INTO "order" (id, description, customer_id) VALUES (1584, 'Licensed Wooden Hat', 53);
-INSERT INTO "order" (id, description, customer_id) VALUES (1585, 'Unbranded Plastic Chicken', 86);
-INSERT INTO "order" (id, description, customer_id) VALUES (1586, 'Rustic Rubber Pizza', 55);
-INSERT INTO "order" (id, description, customer_id) VALUES (1587, 'Sleek Frozen Pants', 25);
-INSERT INTO "order" (id, description, customer_id) VALUES (1588, 'Bespoke Steel Bacon', 81);
-INSERT INTO "order" (id, description, customer_id) VALUES (1589, 'Generic Steel Mouse', 57);
-INSERT INTO "order" (id, description, customer_id) VALUES (1590, 'Licensed Metal Hat', 25);
-INSERT INTO "order" (id, description, customer_id) VALUES (1591, 'Recycled Steel Computer', 49);
-INSERT INTO "order" (id, description, customer_id) VALUES (1592, 'Intelligent Soft Ball', 24);
-INSERT INTO "order" (id, description, customer_id) VALUES (1593, 'Awesome Granite Gloves', 74);
-INSERT INTO "order" (id, description, customer_id) VALUES (1594, 'Tasty Steel Mouse', 42);
-INSERT INTO "order" (id, description, customer_id) VALUES (1595, 'Modern Plastic Gloves', 31);
-INSERT INTO "order" (id, description, customer_id) VALUES (1596, 'Gorgeous Wooden Towels', 87);
-INSERT INTO "order" (id, description, customer_id) VALUES (1597, 'Small Soft Towels', 46);
-INSERT INTO "order" (id, description, customer_id) VALUES (1598, 'Luxurious Concrete Bacon', 11);
-INSERT INTO "order" (id, description, customer_id) VALUES (1599, 'Licensed Metal Car', 20);
-INSERT INTO "order" (id, description, customer_id) VALUES (1600, 'Ergonomic Metal Mouse', 98);
-INSERT INTO "order" (id, description, customer_id) VALUES (1601, 'Fantastic Cotton Chair', 90);
-INSERT INTO "order" (id, description, customer_id) VALUES (1602, 'Elegant Steel Towels', 95);
-INSERT INTO "order" (id, description, customer_id) VALUES (1603, 'Unbranded Bronze Gloves', 67);
-INSERT INTO "order" (id, description, customer_id) VALUES (1604, 'Modern Fresh Shoes', 43);
-INSERT INTO "order" (id, description, customer_id) VALUES (1605, 'Refined Steel Bike', 6);
-INSERT INTO "order" (id, description, customer_id) VALUES (1606, 'Tasty Metal Chicken', 20);
-INSERT INTO "order" (id, description, customer_id) VALUES (1607, 'Modern Rubber Car', 63);
-INSERT INTO "order" (id, description, customer_id) VALUES (1608, 'Rustic Soft Mouse', 12);
-INSERT INTO "order" (id, description, customer_id) VALUES (1609, 'Luxurious Steel Table', 58);
-INSERT INTO "order" (id, description, customer_id) VALUES (1610, 'Gorgeous Wooden Salad', 82);
-INSERT INTO "order" (id, description, customer_id) VALUES (1611, 'Generic Plastic Ball', 80);
-INSERT INTO "order" (id, description, customer_id) VALUES (1612, 'Modern Fresh Car', 45);
-INSERT INTO "order" (id, description, customer_id) VALUES (1613, 'Small Cotton Towels', 76);
-INSERT INTO "order" (id, description, customer_id) VALUES (1614, 'Sleek Cotton Car', 86);
-INSERT INTO "order" (id, description, customer_id) VALUES (1615, 'Handmade Granite Mouse', 79);
-INSERT INTO "order" (id, description, customer_id) VALUES (1616, 'Intelligent Granite Bike', 79);
-INSERT INTO "order" (id, description, customer_id) VALUES (1617, 'Gorgeous Concrete Ball', 49);
-INSERT INTO "order" (id, description, customer_id) VALUES (1618, 'Ergonomic Steel Ball', 10);
-INSERT INTO "order" (id, description, customer_id) VALUES (1619, 'Bespoke Cotton Shirt', 89);
-INSERT INTO "order" (id, description, customer_id) VALUES (1620, 'Luxurious Soft Bike', 58);
-INSERT INTO "order" (id, description, customer_id) VALUES (1621, 'Luxurious Cotton Bacon', 92);
-INSERT INTO "order" (id, description, customer_id) VALUES (1622, 'Practical Granite Car', 27);
-INSERT INTO "order" (id, description, customer_id) VALUES (1623, 'Intelligent Plastic Shirt', 22);
-INSERT INTO "order" (id, description, customer_id) VALUES (1624, 'Modern Cotton Shirt', 20);
-INSERT INTO "order" (id, description, customer_id) VALUES (1625, 'Refined Plastic Chair', 99);
-INSERT INTO "order" (id, description, customer_id) VALUES (1626, 'Licensed Steel Shirt', 75);
-INSERT INTO "order" (id, description, customer_id) VALUES (1627, 'Incredible Steel Bike', 90);
-INSERT INTO "order" (id, description, customer_id) VALUES (1628, 'Ergonomic Cotton Keyboard', 40);
-INSERT INTO "order" (id, description, customer_id) VALUES (1629, 'Refined Rubber Soap', 28);
-INSERT INTO "order" (id, description, customer_id) VALUES (1630, 'Gorgeous Cotton Fish', 69);
-INSERT INTO "order" (id, description, customer_id) VALUES (1631, 'Licensed Soft Bike', 99);
-INSERT INTO "order" (id, description, customer_id) VALUES (1632, 'Awesome Fresh Mouse', 31);
-INSERT INTO "order" (id, description, customer_id) VALUES (1633, 'Rustic Wooden Ball', 9);
-INSERT INTO "order" (id, description, customer_id) VALUES (1634, 'Awesome Frozen Mouse', 77);
-INSERT INTO "order" (id, description, customer_id) VALUES (1635, 'Handmade Bronze Fish', 67);
-INSERT INTO "order" (id, description, customer_id) VALUES (1636, 'Gorgeous Steel Cheese', 95);
-INSERT INTO "order" (id, description, customer_id) VALUES (1637, 'Recycled Frozen Mouse', 4);
-INSERT INTO "order" (id, description, customer_id) VALUES (1638, 'Awesome Metal Chicken', 95);
-INSERT INTO "order" (id, description, customer_id) VALUES (1639, 'Practical Metal Keyboard', 37);
-INSERT INTO "order" (id, description, customer_id) VALUES (1640, 'Fantastic Wooden Ball', 1);
-INSERT INTO "order" (id, description, customer_id) VALUES (1641, 'Refined Plastic Computer', 79);
-INSERT INTO "order" (id, description, customer_id) VALUES (1642, 'Recycled Plastic Soap', 55);
-INSERT INTO "order" (id, description, customer_id) VALUES (1643, 'Intelligent Fresh Table', 71);
-INSERT INTO "order" (id, description, customer_id) VALUES (1644, 'Handmade Soft Gloves', 18);
-INSERT INTO "order" (id, description, customer_id) VALUES (1645, 'Rustic Rubber Computer', 95);
-INSERT INTO "order" (id, description, customer_id) VALUES (1646, 'Awesome Rubber Chair', 20);
-INSERT INTO "order" (id, description, customer_id) VALUES (1647, 'Awesome Frozen Ball', 88);
-INSERT INTO "order" (id, description, customer_id) VALUES (1648, 'Handmade Wooden Chicken', 64);
-INSERT INTO "order" (id, description, customer_id) VALUES (1649, 'Intelligent Bronze Keyboard', 98);
-INSERT INTO "order" (id, description, customer_id) VALUES (1650, 'Unbranded Bronze Gloves', 64);
-INSERT INTO "order" (id, description, customer_id) VALUES (1651, 'Recycled Plastic Pants', 71);
-INSERT INTO "order" (id, description, customer_id) VALUES (1652, 'Intelligent Rubber Ball', 69);
-INSERT INTO "order" (id, description, customer_id) VALUES (1653, 'Handcrafted Wooden Soap', 59);
-INSERT INTO "order" (id, description, customer_id) VALUES (1654, 'Gorgeous Bronze Chips', 57);
-INSERT INTO "order" (id, description, customer_id) VALUES (1655, 'Refined Concrete Shirt', 15);
-INSERT INTO "order" (id, description, customer_id) VALUES (1656, 'Fantastic Rubber Bike', 100);
-INSERT INTO "order" (id, description, customer_id) VALUES (1657, 'Sleek Metal Shoes', 92);
-INSERT INTO "order" (id, description, customer_id) VALUES (1658, 'Awesome Rubber Shirt', 56);
-INSERT INTO "order" (id, description, customer_id) VALUES (1659, 'Generic Fresh Ball', 19);
-INSERT INTO "order" (id, description, customer_id) VALUES (1660, 'Fantastic Bronze Cheese', 22);
-INSERT INTO "order" (id, description, customer_id) VALUES (1661, 'Intelligent Bronze Shoes', 6);
-INSERT INTO "order" (id, description, customer_id) VALUES (1662, 'Modern Concrete Sausages', 10);
-INSERT INTO "order" (id, description, customer_id) VALUES (1663, 'Rustic Granite Salad', 37);
-INSERT INTO "order" (id, description, customer_id) VALUES (1664, 'Elegant Cotton Chicken', 62);
-INSERT INTO "order" (id, description, customer_id) VALUES (1665, 'Sleek Bronze Table', 87);
-INSERT INTO "order" (id, description, customer_id) VALUES (1666, 'Ergonomic Cotton Car', 84);
-INSERT INTO "order" (id, description, customer_id) VALUES (1667, 'Small Concrete Chips', 60);
-INSERT INTO "order" (id, description, customer_id) VALUES (1668, 'Oriental Wooden Chair', 84);
-INSERT INTO "order" (id, description, customer_id) VALUES (1669, 'Gorgeous Metal Towels', 66);
-INSERT INTO "order" (id, description, customer_id) VALUES (1670, 'Bespoke Soft Cheese', 86);
-INSERT INTO "order" (id, description, customer_id) VALUES (1671, 'Fantastic Fresh Fish', 9);
-INSERT INTO "order" (id, description, customer_id) VALUES (1672, 'Recycled Granite Bike', 44);
-INSERT INTO "order" (id, description, customer_id) VALUES (1673, 'Handmade Plastic Keyboard', 70);
-INSERT INTO "order" (id, description, customer_id) VALUES (1674, 'Intelligent Frozen Fish', 79);
-INSERT INTO "order" (id, description, customer_id) VALUES (1675, 'Sleek Plastic Chips', 49);
-INSERT INTO "order" (id, description, customer_id) VALUES (1676, 'Awesome Bronze Tuna', 34);
-INSERT INTO "order" (id, description, customer_id) VALUES (1677, 'Unbranded Concrete Keyboard', 73);
-INSERT INTO "order" (id, description, customer_id) VALUES (1678, 'Sleek Metal Mouse', 93);
-INSERT INTO "order" (id, description, customer_id) VALUES (1679, 'Recycled Frozen Tuna', 92);
-INSERT INTO "order" (id, description, customer_id) VALUES (1680, 'Practical Plastic Chips', 2);
-INSERT INTO "order" (id, description, customer_id) VALUES (1681, 'Small Concrete Soap', 87);
-INSERT INTO "order" (id, description, customer_id) VALUES (1682, 'Rustic Wooden Mouse', 65);
-INSERT INTO "order" (id, description, customer_id) VALUES (1683, 'Unbranded Rubber Chicken', 26);
-INSERT INTO "order" (id, description, customer_id) VALUES (1684, 'Small Bronze Car', 31);
-INSERT INTO "order" (id, description, customer_id) VALUES (1685, 'Small Rubber Computer', 73);
-INSERT INTO "order" (id, description, customer_id) VALUES (1686, 'Bespoke Concrete Pants', 3);
-INSERT INTO "order" (id, description, customer_id) VALUES (1687, 'Handcrafted Metal Salad', 91);
-INSERT INTO "order" (id, description, customer_id) VALUES (1688, 'Generic Soft Chicken', 78);
-INSERT INTO "order" (id, description, customer_id) VALUES (1689, 'Small Cotton Mouse', 27);
-INSERT INTO "order" (id, description, customer_id) VALUES (1690, 'Luxurious Concrete Sausages', 47);
-INSERT INTO "order" (id, description, customer_id) VALUES (1691, 'Elegant Concrete Pants', 39);
-INSERT INTO "order" (id, description, customer_id) VALUES (1692, 'Gorgeous Fresh Bike', 59);
-INSERT INTO "order" (id, description, customer_id) VALUES (1693, 'Fantastic Metal Pizza', 38);
-INSERT INTO "order" (id, description, customer_id) VALUES (1694, 'Luxurious Frozen Cheese', 29);
-INSERT INTO "order" (id, description, customer_id) VALUES (1695, 'Small Frozen Pants', 50);
-INSERT INTO "order" (id, description, customer_id) VALUES (1696, 'Rustic Steel Sausages', 5);
-INSERT INTO "order" (id, description, customer_id) VALUES (1697, 'Oriental Fresh Towels', 90);
-INSERT INTO "order" (id, description, customer_id) VALUES (1698, 'Licensed Wooden Mouse', 56);
-INSERT INTO "order" (id, description, customer_id) VALUES (1699, 'Sleek Wooden Salad', 100);
-INSERT INTO "order" (id, description, customer_id) VALUES (1700, 'Oriental Rubber Bike', 78);
-INSERT INTO "order" (id, description, customer_id) VALUES (1701, 'Small Concrete Shirt', 95);
-INSERT INTO "order" (id, description, customer_id) VALUES (1702, 'Fantastic Plastic Tuna', 26);
-INSERT INTO "order" (id, description, customer_id) VALUES (1703, 'Ergonomic Rubber Mouse', 61);
-INSERT INTO "order" (id, description, customer_id) VALUES (1704, 'Refined Soft Fish', 86);
-INSERT INTO "order" (id, description, customer_id) VALUES (1705, 'Fantastic Steel Cheese', 32);
-INSERT INTO "order" (id, description, customer_id) VALUES (1706, 'Recycled Steel Table', 9);
-INSERT INTO "order" (id, description, customer_id) VALUES (1707, 'Rustic Metal Pants', 94);
-INSERT INTO "order" (id, description, customer_id) VALUES (1708, 'Fantastic Fresh Sausages', 41);
-INSERT INTO "order" (id, description, customer_id) VALUES (1709, 'Generic Granite Mouse', 45);
-INSERT INTO "order" (id, description, customer_id) VALUES (1710, 'Luxurious Soft Sausages', 12);
-INSERT INTO "order" (id, description, customer_id) VALUES (1711, 'Gorgeous Wooden Ball', 72);
-INSERT INTO "order" (id, description, customer_id) VALUES (1712, 'Gorgeous Bronze Chips', 55);
-INSERT INTO "order" (id, description, customer_id) VALUES (1713, 'Modern Granite Shoes', 91);
-INSERT INTO "order" (id, description, customer_id) VALUES (1714, 'Bespoke Fresh Keyboard', 92);
-INSERT INTO "order" (id, description, customer_id) VALUES (1715, 'Gorgeous Plastic Pants', 41);
-INSERT INTO "order" (id, description, customer_id) VALUES (1716, 'Sleek Steel Pizza', 62);
-INSERT INTO "order" (id, description, customer_id) VALUES (1717, 'Luxurious Soft Fish', 98);
-INSERT INTO "order" (id, description, customer_id) VALUES (1718, 'Licensed Bronze Fish', 59);
-INSERT INTO "order" (id, description, customer_id) VALUES (1719, 'Incredible Soft Pizza', 23);
-INSERT INTO "order" (id, description, customer_id) VALUES (1720, 'Generic Bronze Mouse', 96);
-INSERT INTO "order" (id, description, customer_id) VALUES (1721, 'Generic Bronze Salad', 56);
-INSERT INTO "order" (id, description, customer_id) VALUES (1722, 'Recycled Granite Table', 60);
-INSERT INTO "order" (id, description, customer_id) VALUES (1723, 'Sleek Frozen Table', 89);
-INSERT INTO "order" (id, description, customer_id) VALUES (1724, 'Ergonomic Concrete Soap', 42);
-INSERT INTO "order" (id, description, customer_id) VALUES (1725, 'Rustic Concrete Ball', 56);
-INSERT INTO "order" (id, description, customer_id) VALUES (1726, 'Electronic Metal Tuna', 48);
-INSERT INTO "order" (id, description, customer_id) VALUES (1727, 'Awesome Fresh Car', 84);
-INSERT INTO "order" (id, description, customer_id) VALUES (1728, 'Luxurious Frozen Towels', 38);
-INSERT INTO "order" (id, description, customer_id) VALUES (1729, 'Licensed Frozen Salad', 31);
-INSERT INTO "order" (id, description, customer_id) VALUES (1730, 'Unbranded Plastic Ball', 66);
-INSERT INTO "order" (id, description, customer_id) VALUES (1731, 'Electronic Bronze Bike', 86);
-INSERT INTO "order" (id, description, customer_id) VALUES (1732, 'Tasty Cotton Tuna', 16);
-INSERT INTO "order" (id, description, customer_id) VALUES (1733, 'Modern Granite Keyboard', 21);
-INSERT INTO "order" (id, description, customer_id) VALUES (1734, 'Elegant Metal Table', 39);
-INSERT INTO "order" (id, description, customer_id) VALUES (1735, 'Rustic Steel Gloves', 32);
-INSERT INTO "order" (id, description, customer_id) VALUES (1736, 'Oriental Steel Salad', 10);
-INSERT INTO "order" (id, description, customer_id) VALUES (1737, 'Oriental Wooden Keyboard', 48);
-INSERT INTO "order" (id, description, customer_id) VALUES (1738, 'Rustic Granite Keyboard', 75);
-INSERT INTO "order" (id, description, customer_id) VALUES (1739, 'Luxurious Metal Chips', 1);
-INSERT INTO "order" (id, description, customer_id) VALUES (1740, 'Rustic Granite Tuna', 37);
-INSERT INTO "order" (id, description, customer_id) VALUES (1741, 'Fantastic Frozen Soap', 94);
-INSERT INTO "order" (id, description, customer_id) VALUES (1742, 'Small Granite Fish', 21);
-INSERT INTO "order" (id, description, customer_id) VALUES (1743, 'Generic Wooden Shoes', 75);
-INSERT INTO "order" (id, description, customer_id) VALUES (1744, 'Intelligent Plastic Keyboard', 95);
-INSERT INTO "order" (id, description, customer_id) VALUES (1745, 'Rustic Steel Chips', 67);
-INSERT INTO "order" (id, description, customer_id) VALUES (1746, 'Licensed Soft Car', 33);
-INSERT INTO "order" (id, description, customer_id) VALUES (1747, 'Intelligent Bronze Salad', 29);
-INSERT INTO "order" (id, description, customer_id) VALUES (1748, 'Small Rubber Keyboard', 74);
-INSERT INTO "order" (id, description, customer_id) VALUES (1749, 'Fantastic Wooden Bike', 11);
-INSERT INTO "order" (id, description, customer_id) VALUES (1750, 'Oriental Metal Hat', 45);
-INSERT INTO "order" (id, description, customer_id) VALUES (1751, 'Recycled Granite Keyboard', 86);
-INSERT INTO "order" (id, description, customer_id) VALUES (1752, 'Recycled Fresh Gloves', 31);
-INSERT INTO "order" (id, description, customer_id) VALUES (1753, 'Licensed Plastic Car', 62);
-INSERT INTO "order" (id, description, customer_id) VALUES (1754, 'Generic Frozen Chicken', 29);
-INSERT INTO "order" (id, description, customer_id) VALUES (1755, 'Recycled Soft Car', 86);
-INSERT INTO "order" (id, description, customer_id) VALUES (1756, 'Bespoke Bronze Chair', 70);
-INSERT INTO "order" (id, description, customer_id) VALUES (1757, 'Luxurious Granite Computer', 10);
-INSERT INTO "order" (id, description, customer_id) VALUES (1758, 'Unbranded Plastic Chicken', 59);
-INSERT INTO "order" (id, description, customer_id) VALUES (1759, 'Licensed Concrete Shirt', 90);
-INSERT INTO "order" (id, description, customer_id) VALUES (1760, 'Gorgeous Cotton Keyboard', 99);
-INSERT INTO "order" (id, description, customer_id) VALUES (1761, 'Licensed Concrete Ball', 8);
-INSERT INTO "order" (id, description, customer_id) VALUES (1762, 'Small Frozen Mouse', 82);
-INSERT INTO "order" (id, description, customer_id) VALUES (1763, 'Electronic Steel Chips', 62);
-INSERT INTO "order" (id, description, customer_id) VALUES (1764, 'Elegant Granite Bike', 62);
-INSERT INTO "order" (id, description, customer_id) VALUES (1765, 'Luxurious Fresh Fish', 91);
-INSERT INTO "order" (id, description, customer_id) VALUES (1766, 'Sleek Soft Car', 100);
-INSERT INTO "order" (id, description, customer_id) VALUES (1767, 'Licensed Plastic Cheese', 96);
-INSERT INTO "order" (id, description, customer_id) VALUES (1768, 'Unbranded Frozen Bike', 39);
-INSERT INTO "order" (id, description, customer_id) VALUES (1769, 'Intelligent Metal Pizza', 72);
-INSERT INTO "order" (id, description, customer_id) VALUES (1770, 'Generic Bronze Mouse', 7);
-INSERT INTO "order" (id, description, customer_id) VALUES (1771, 'Handcrafted Concrete Table', 64);
-INSERT INTO "order" (id, description, customer_id) VALUES (1772, 'Small Cotton Computer', 30);
-INSERT INTO "order" (id, description, customer_id) VALUES (1773, 'Recycled Frozen Gloves', 74);
-INSERT INTO "order" (id, description, customer_id) VALUES (1774, 'Licensed Plastic Chair', 19);
-INSERT INTO "order" (id, description, customer_id) VALUES (1775, 'Oriental Steel Tuna', 32);
-INSERT INTO "order" (id, description, customer_id) VALUES (1776, 'Unbranded Granite Salad', 7);
-INSERT INTO "order" (id, description, customer_id) VALUES (1777, 'Sleek Fresh Bacon', 12);
-INSERT INTO "order" (id, description, customer_id) VALUES (1778, 'Handmade Steel Towels', 52);
-INSERT INTO "order" (id, description, customer_id) VALUES (1779, 'Awesome Granite Table', 24);
-INSERT INTO "order" (id, description, customer_id) VALUES (1780, 'Licensed Frozen Soap', 16);
-INSERT INTO "order" (id, description, customer_id) VALUES (1781, 'Fantastic Fresh Fish', 33);
-INSERT INTO "order" (id, description, customer_id) VALUES (1782, 'Luxurious Frozen Keyboard', 92);
-INSERT INTO "order" (id, description, customer_id) VALUES (1783, 'Sleek Frozen Keyboard', 49);
-INSERT INTO "order" (id, description, customer_id) VALUES (1784, 'Unbranded Metal Mouse', 45);
-INSERT INTO "order" (id, description, customer_id) VALUES (1785, 'Modern Frozen Sausages', 50);
-INSERT INTO "order" (id, description, customer_id) VALUES (1786, 'Modern Granite Soap', 17);
-INSERT INTO "order" (id, description, customer_id) VALUES (1787, 'Practical Wooden Chicken', 66);
-INSERT INTO "order" (id, description, customer_id) VALUES (1788, 'Gorgeous Rubber Towels', 27);
-INSERT INTO "order" (id, description, customer_id) VALUES (1789, 'Handcrafted Bronze Shoes', 30);
-INSERT INTO "order" (id, description, customer_id) VALUES (1790, 'Handmade Frozen Towels', 16);
-INSERT INTO "order" (id, description, customer_id) VALUES (1791, 'Recycled Frozen Tuna', 96);
-INSERT INTO "order" (id, description, customer_id) VALUES (1792, 'Intelligent Wooden Pizza', 59);
-INSERT INTO "order" (id, description, customer_id) VALUES (1793, 'Elegant Cotton Sausages', 84);
-INSERT INTO "order" (id, description, customer_id) VALUES (1794, 'Generic Wooden Bacon', 75);
-INSERT INTO "order" (id, description, customer_id) VALUES (1795, 'Bespoke Plastic Ball', 51);
-INSERT INTO "order" (id, description, customer_id) VALUES (1796, 'Luxurious Metal Bacon', 88);
-INSERT INTO "order" (id, description, customer_id) VALUES (1797, 'Incredible Wooden Chips', 42);
-INSERT INTO "order" (id, description, customer_id) VALUES (1798, 'Refined Bronze Bike', 81);
-INSERT INTO "order" (id, description, customer_id) VALUES (1799, 'Oriental Plastic Ball', 91);
-INSERT INTO "order" (id, description, customer_id) VALUES (1800, 'Refined Soft Towels', 52);
-INSERT INTO "order" (id, description, customer_id) VALUES (1801, 'Tasty Granite Salad', 46);
-INSERT INTO "order" (id, description, customer_id) VALUES (1802, 'Recycled Rubber Hat', 42);
-INSERT INTO "order" (id, description, customer_id) VALUES (1803, 'Luxurious Granite Car', 23);
-INSERT INTO "order" (id, description, customer_id) VALUES (1804, 'Intelligent Soft Sausages', 37);
-INSERT INTO "order" (id, description, customer_id) VALUES (1805, 'Rustic Cotton Car', 72);
-INSERT INTO "order" (id, description, customer_id) VALUES (1806, 'Licensed Bronze Fish', 51);
-INSERT INTO "order" (id, description, customer_id) VALUES (1807, 'Luxurious Cotton Table', 29);
-INSERT INTO "order" (id, description, customer_id) VALUES (1808, 'Rustic Wooden Table', 2);
-INSERT INTO "order" (id, description, customer_id) VALUES (1809, 'Gorgeous Wooden Cheese', 24);
-INSERT INTO "order" (id, description, customer_id) VALUES (1810, 'Handmade Cotton Pants', 77);
-INSERT INTO "order" (id, description, customer_id) VALUES (1811, 'Incredible Fresh Salad', 74);
-INSERT INTO "order" (id, description, customer_id) VALUES (1812, 'Licensed Plastic Chips', 6);
-INSERT INTO "order" (id, description, customer_id) VALUES (1813, 'Unbranded Steel Hat', 20);
-INSERT INTO "order" (id, description, customer_id) VALUES (1814, 'Recycled Fresh Ball', 82);
-INSERT INTO "order" (id, description, customer_id) VALUES (1815, 'Electronic Wooden Chair', 4);
-INSERT INTO "order" (id, description, customer_id) VALUES (1816, 'Small Plastic Salad', 57);
-INSERT INTO "order" (id, description, customer_id) VALUES (1817, 'Modern Cotton Table', 29);
-INSERT INTO "order" (id, description, customer_id) VALUES (1818, 'Electronic Rubber Shirt', 69);
-INSERT INTO "order" (id, description, customer_id) VALUES (1819, 'Licensed Granite Chips', 29);
-INSERT INTO "order" (id, description, customer_id) VALUES (1820, 'Luxurious Granite Sausages', 45);
-INSERT INTO "order" (id, description, customer_id) VALUES (1821, 'Elegant Bronze Sausages', 24);
-INSERT INTO "order" (id, description, customer_id) VALUES (1822, 'Generic Soft Soap', 13);
-INSERT INTO "order" (id, description, customer_id) VALUES (1823, 'Tasty Wooden Towels', 34);
-INSERT INTO "order" (id, description, customer_id) VALUES (1824, 'Oriental Steel Sausages', 21);
-INSERT INTO "order" (id, description, customer_id) VALUES (1825, 'Intelligent Plastic Shirt', 47);
-INSERT INTO "order" (id, description, customer_id) VALUES (1826, 'Bespoke Steel Chips', 96);
-INSERT INTO "order" (id, description, customer_id) VALUES (1827, 'Refined Concrete Car', 59);
-INSERT INTO "order" (id, description, customer_id) VALUES (1828, 'Incredible Metal Gloves', 21);
-INSERT INTO "order" (id, description, customer_id) VALUES (1829, 'Ergonomic Bronze Car', 29);
-INSERT INTO "order" (id, description, customer_id) VALUES (1830, 'Generic Rubber Chips', 44);
-INSERT INTO "order" (id, description, customer_id) VALUES (1831, 'Incredible Fresh Towels', 10);
-INSERT INTO "order" (id, description, customer_id) VALUES (1832, 'Small Bronze Car', 3);
-INSERT INTO "order" (id, description, customer_id) VALUES (1833, 'Recycled Granite Computer', 75);
-INSERT INTO "order" (id, description, customer_id) VALUES (1834, 'Tasty Cotton Table', 28);
-INSERT INTO "order" (id, description, customer_id) VALUES (1835, 'Rustic Frozen Mouse', 92);
-INSERT INTO "order" (id, description, customer_id) VALUES (1836, 'Practical Steel Pants', 55);
-INSERT INTO "order" (id, description, customer_id) VALUES (1837, 'Handmade Frozen Towels', 70);
-INSERT INTO "order" (id, description, customer_id) VALUES (1838, 'Licensed Cotton Fish', 82);
-INSERT INTO "order" (id, description, customer_id) VALUES (1839, 'Practical Rubber Keyboard', 98);
-INSERT INTO "order" (id, description, customer_id) VALUES (1840, 'Small Fresh Soap', 6);
-INSERT INTO "order" (id, description, customer_id) VALUES (1841, 'Refined Frozen Chips', 97);
-INSERT INTO "order" (id, description, customer_id) VALUES (1842, 'Licensed Bronze Shirt', 29);
-INSERT INTO "order" (id, description, customer_id) VALUES (1843, 'Electronic Concrete Bacon', 99);
-INSERT INTO "order" (id, description, customer_id) VALUES (1844, 'Intelligent Cotton Keyboard', 27);
-INSERT INTO "order" (id, description, customer_id) VALUES (1845, 'Small Concrete Computer', 30);
-INSERT INTO "order" (id, description, customer_id) VALUES (1846, 'Luxurious Plastic Bike', 42);
-INSERT INTO "order" (id, description, customer_id) VALUES (1847, 'Refined Metal Gloves', 35);
-INSERT INTO "order" (id, description, customer_id) VALUES (1848, 'Handmade Concrete Chips', 52);
-INSERT INTO "order" (id, description, customer_id) VALUES (1849, 'Gorgeous Rubber Hat', 87);
-INSERT INTO "order" (id, description, customer_id) VALUES (1850, 'Handmade Frozen Gloves', 56);
-INSERT INTO "order" (id, description, customer_id) VALUES (1851, 'Intelligent Soft Gloves', 68);
-INSERT INTO "order" (id, description, customer_id) VALUES (1852, 'Handcrafted Frozen Fish', 71);
-INSERT INTO "order" (id, description, customer_id) VALUES (1853, 'Unbranded Plastic Bacon', 6);
-INSERT INTO "order" (id, description, customer_id) VALUES (1854, 'Licensed Metal Computer', 34);
-INSERT INTO "order" (id, description, customer_id) VALUES (1855, 'Incredible Concrete Pants', 64);
-INSERT INTO "order" (id, description, customer_id) VALUES (1856, 'Fantastic Rubber Chicken', 71);
-INSERT INTO "order" (id, description, customer_id) VALUES (1857, 'Small Steel Computer', 11);
-INSERT INTO "order" (id, description, customer_id) VALUES (1858, 'Gorgeous Plastic Computer', 74);
-INSERT INTO "order" (id, description, customer_id) VALUES (1859, 'Elegant Concrete Fish', 74);
-INSERT INTO "order" (id, description, customer_id) VALUES (1860, 'Practical Rubber Soap', 1);
-INSERT INTO "order" (id, description, customer_id) VALUES (1861, 'Elegant Metal Salad', 10);
-INSERT INTO "order" (id, description, customer_id) VALUES (1862, 'Tasty Steel Shoes', 11);
-INSERT INTO "order" (id, description, customer_id) VALUES (1863, 'Incredible Fresh Soap', 13);
-INSERT INTO "order" (id, description, customer_id) VALUES (1864, 'Practical Wooden Tuna', 24);
-INSERT INTO "order" (id, description, customer_id) VALUES (1865, 'Rustic Fresh Towels', 74);
-INSERT INTO "order" (id, description, customer_id) VALUES (1866, 'Awesome Plastic Chicken', 24);
-INSERT INTO "order" (id, description, customer_id) VALUES (1867, 'Fantastic Bronze Keyboard', 89);
-INSERT INTO "order" (id, description, customer_id) VALUES (1868, 'Awesome Rubber Chair', 15);
-INSERT INTO "order" (id, description, customer_id) VALUES (1869, 'Generic Concrete Table', 29);
-INSERT INTO "order" (id, description, customer_id) VALUES (1870, 'Oriental Soft Chips', 4);
-INSERT INTO "order" (id, description, customer_id) VALUES (1871, 'Recycled Concrete Shirt', 53);
-INSERT INTO "order" (id, description, customer_id) VALUES (1872, 'Gorgeous Rubber Pizza', 93);
-INSERT INTO "order" (id, description, customer_id) VALUES (1873, 'Rustic Bronze Chips', 86);
-INSERT INTO "order" (id, description, customer_id) VALUES (1874, 'Elegant Soft Pants', 18);
-INSERT INTO "order" (id, description, customer_id) VALUES (1875, 'Gorgeous Granite Table', 57);
-INSERT INTO "order" (id, description, customer_id) VALUES (1876, 'Unbranded Steel Table', 1);
-INSERT INTO "order" (id, description, customer_id) VALUES (1877, 'Refined Concrete Soap', 39);
-INSERT INTO "order" (id, description, customer_id) VALUES (1878, 'Awesome Cotton Gloves', 38);
-INSERT INTO "order" (id, description, customer_id) VALUES (1879, 'Recycled Concrete Towels', 25);
-INSERT INTO "order" (id, description, customer_id) VALUES (1880, 'Luxurious Bronze Table', 59);
-INSERT INTO "order" (id, description, customer_id) VALUES (1881, 'Tasty Steel Tuna', 62);
-INSERT INTO "order" (id, description, customer_id) VALUES (1882, 'Handmade Bronze Chicken', 73);
-INSERT INTO "order" (id, description, customer_id) VALUES (1883, 'Recycled Concrete Soap', 21);
-INSERT INTO "order" (id, description, customer_id) VALUES (1884, 'Oriental Cotton Chair', 12);
-INSERT INTO "order" (id, description, customer_id) VALUES (1885, 'Sleek Metal Mouse', 74);
-INSERT INTO "order" (id, description, customer_id) VALUES (1886, 'Handcrafted Cotton Pants', 90);
-INSERT INTO "order" (id, description, customer_id) VALUES (1887, 'Incredible Fresh Chair', 65);
-INSERT INTO "order" (id, description, customer_id) VALUES (1888, 'Refined Bronze Mouse', 21);
-INSERT INTO "order" (id, description, customer_id) VALUES (1889, 'Tasty Concrete Ball', 5);
-INSERT INTO "order" (id, description, customer_id) VALUES (1890, 'Practical Frozen Sausages', 13);
-INSERT INTO "order" (id, description, customer_id) VALUES (1891, 'Rustic Steel Keyboard', 8);
-INSERT INTO "order" (id, description, customer_id) VALUES (1892, 'Rustic Bronze Towels', 71);
-INSERT INTO "order" (id, description, customer_id) VALUES (1893, 'Sleek Frozen Bacon', 62);
-INSERT INTO "order" (id, description, customer_id) VALUES (1894, 'Practical Granite Fish', 9);
-INSERT INTO "order" (id, description, customer_id) VALUES (1895, 'Generic Plastic Sausages', 61);
-INSERT INTO "order" (id, description, customer_id) VALUES (1896, 'Generic Frozen Shoes', 97);
-INSERT INTO "order" (id, description, customer_id) VALUES (1897, 'Gorgeous Plastic Towels', 45);
-INSERT INTO "order" (id, description, customer_id) VALUES (1898, 'Ergonomic Frozen Chicken', 52);
-INSERT INTO "order" (id, description, customer_id) VALUES (1899, 'Sleek Plastic Ball', 79);
-INSERT INTO "order" (id, description, customer_id) VALUES (1900, 'Recycled Granite Cheese', 92);
-INSERT INTO "order" (id, description, customer_id) VALUES (1901, 'Handcrafted Frozen Salad', 2);
-INSERT INTO "order" (id, description, customer_id) VALUES (1902, 'Awesome Frozen Ball', 35);
-INSERT INTO "order" (id, description, customer_id) VALUES (1903, 'Awesome Wooden Soap', 9);
-INSERT INTO "order" (id, description, customer_id) VALUES (1904, 'Generic Metal Pizza', 32);
-INSERT INTO "order" (id, description, customer_id) VALUES (1905, 'Handcrafted Soft Soap', 60);
-INSERT INTO "order" (id, description, customer_id) VALUES (1906, 'Handcrafted Metal Bacon', 46);
-INSERT INTO "order" (id, description, customer_id) VALUES (1907, 'Sleek Concrete Pants', 69);
-INSERT INTO "order" (id, description, customer_id) VALUES (1908, 'Licensed Wooden Cheese', 66);
-INSERT INTO "order" (id, description, customer_id) VALUES (1909, 'Incredible Rubber Mouse', 44);
-INSERT INTO "order" (id, description, customer_id) VALUES (1910, 'Incredible Bronze Computer', 26);
-INSERT INTO "order" (id, description, customer_id) VALUES (1911, 'Fantastic Fresh Pizza', 21);
-INSERT INTO "order" (id, description, customer_id) VALUES (1912, 'Handmade Frozen Pants', 85);
-INSERT INTO "order" (id, description, customer_id) VALUES (1913, 'Handmade Concrete Ball', 78);
-INSERT INTO "order" (id, description, customer_id) VALUES (1914, 'Recycled Concrete Gloves', 5);
-INSERT INTO "order" (id, description, customer_id) VALUES (1915, 'Refined Fresh Computer', 10);
-INSERT INTO "order" (id, description, customer_id) VALUES (1916, 'Unbranded Bronze Bacon', 86);
-INSERT INTO "order" (id, description, customer_id) VALUES (1917, 'Refined Frozen Shirt', 53);
-INSERT INTO "order" (id, description, customer_id) VALUES (1918, 'Elegant Rubber Hat', 7);
-INSERT INTO "order" (id, description, customer_id) VALUES (1919, 'Gorgeous Bronze Chicken', 13);
-INSERT INTO "order" (id, description, customer_id) VALUES (1920, 'Unbranded Plastic Chicken', 98);
-INSERT INTO "order" (id, description, customer_id) VALUES (1921, 'Handcrafted Rubber Bacon', 84);
-INSERT INTO "order" (id, description, customer_id) VALUES (1922, 'Awesome Rubber Salad', 52);
-INSERT INTO "order" (id, description, customer_id) VALUES (1923, 'Practical Steel Gloves', 99);
-INSERT INTO "order" (id, description, customer_id) VALUES (1924, 'Tasty Soft Towels', 6);
-INSERT INTO "order" (id, description, customer_id) VALUES (1925, 'Ergonomic Wooden Shirt', 95);
-INSERT INTO "order" (id, description, customer_id) VALUES (1926, 'Licensed Soft Cheese', 8);
-INSERT INTO "order" (id, description, customer_id) VALUES (1927, 'Intelligent Wooden Chips', 77);
-INSERT INTO "order" (id, description, customer_id) VALUES (1928, 'Unbranded Bronze Ball', 38);
-INSERT INTO "order" (id, description, customer_id) VALUES (1929, 'Generic Rubber Soap', 20);
-INSERT INTO "order" (id, description, customer_id) VALUES (1930, 'Ergonomic Rubber Pizza', 65);
-INSERT INTO "order" (id, description, customer_id) VALUES (1931, 'Practical Metal Shoes', 85);
-INSERT INTO "order" (id, description, customer_id) VALUES (1932, 'Small Frozen Salad', 37);
-INSERT INTO "order" (id, description, customer_id) VALUES (1933, 'Handmade Metal Computer', 52);
-INSERT INTO "order" (id, description, customer_id) VALUES (1934, 'Awesome Plastic Fish', 53);
-INSERT INTO "order" (id, description, customer_id) VALUES (1935, 'Recycled Plastic Towels', 66);
-INSERT INTO "order" (id, description, customer_id) VALUES (1936, 'Sleek Steel Cheese', 13);
-INSERT INTO "order" (id, description, customer_id) VALUES (1937, 'Handmade Rubber Salad', 29);
-INSERT INTO "order" (id, description, customer_id) VALUES (1938, 'Elegant Fresh Pants', 50);
-INSERT INTO "order" (id, description, customer_id) VALUES (1939, 'Bespoke Concrete Shoes', 66);
-INSERT INTO "order" (id, description, customer_id) VALUES (1940, 'Refined Granite Car', 97);
-INSERT INTO "order" (id, description, customer_id) VALUES (1941, 'Bespoke Granite Cheese', 88);
-INSERT INTO "order" (id, description, customer_id) VALUES (1942, 'Sleek Cotton Bike', 34);
-INSERT INTO "order" (id, description, customer_id) VALUES (1943, 'Refined Granite Tuna', 6);
-INSERT INTO "order" (id, description, customer_id) VALUES (1944, 'Rustic Steel Sausages', 77);
-INSERT INTO "order" (id, description, customer_id) VALUES (1945, 'Bespoke Concrete Gloves', 44);
-INSERT INTO "order" (id, description, customer_id) VALUES (1946, 'Licensed Cotton Hat', 12);
-INSERT INTO "order" (id, description, customer_id) VALUES (1947, 'Gorgeous Frozen Chair', 84);
-INSERT INTO "order" (id, description, customer_id) VALUES (1948, 'Gorgeous Granite Pants', 37);
-INSERT INTO "order" (id, description, customer_id) VALUES (1949, 'Elegant Frozen Soap', 35);
-INSERT INTO "order" (id, description, customer_id) VALUES (1950, 'Sleek Soft Sausages', 43);
-INSERT INTO "order" (id, description, customer_id) VALUES (1951, 'Elegant Frozen Bike', 74);
-INSERT INTO "order" (id, description, customer_id) VALUES (1952, 'Small Metal Shirt', 78);
-INSERT INTO "order" (id, description, customer_id) VALUES (1953, 'Fantastic Bronze Sausages', 24);
-INSERT INTO "order" (id, description, customer_id) VALUES (1954, 'Unbranded Metal Bike', 49);
-INSERT INTO "order" (id, description, customer_id) VALUES (1955, 'Intelligent Metal Mouse', 28);
-INSERT INTO "order" (id, description, customer_id) VALUES (1956, 'Luxurious Rubber Ball', 93);
-INSERT INTO "order" (id, description, customer_id) VALUES (1957, 'Handcrafted Concrete Mouse', 83);
-INSERT INTO "order" (id, description, customer_id) VALUES (1958, 'Licensed Fresh Mouse', 72);
-INSERT INTO "order" (id, description, customer_id) VALUES (1959, 'Elegant Frozen Pizza', 91);
-INSERT INTO "order" (id, description, customer_id) VALUES (1960, 'Handmade Rubber Pants', 9);
-INSERT INTO "order" (id, description, customer_id) VALUES (1961, 'Modern Granite Computer', 13);
-INSERT INTO "order" (id, description, customer_id) VALUES (1962, 'Incredible Bronze Computer', 59);
-INSERT INTO "order" (id, description, customer_id) VALUES (1963, 'Licensed Granite Tuna', 14);
-INSERT INTO "order" (id, description, customer_id) VALUES (1964, 'Tasty Fresh Bike', 30);
-INSERT INTO "order" (id, description, customer_id) VALUES (1965, 'Licensed Granite Gloves', 83);
-INSERT INTO "order" (id, description, customer_id) VALUES (1966, 'Sleek Cotton Car', 99);
-INSERT INTO "order" (id, description, customer_id) VALUES (1967, 'Modern Metal Cheese', 45);
-INSERT INTO "order" (id, description, customer_id) VALUES (1968, 'Luxurious Steel Mouse', 95);
-INSERT INTO "order" (id, description, customer_id) VALUES (1969, 'Handmade Wooden Car', 82);
-INSERT INTO "order" (id, description, customer_id) VALUES (1970, 'Recycled Cotton Chicken', 28);
-INSERT INTO "order" (id, description, customer_id) VALUES (1971, 'Tasty Metal Chair', 33);
-INSERT INTO "order" (id, description, customer_id) VALUES (1972, 'Rustic Fresh Fish', 14);
-INSERT INTO "order" (id, description, customer_id) VALUES (1973, 'Handcrafted Fresh Soap', 17);
-INSERT INTO "order" (id, description, customer_id) VALUES (1974, 'Gorgeous Frozen Keyboard', 34);
-INSERT INTO "order" (id, description, customer_id) VALUES (1975, 'Recycled Concrete Soap', 60);
-INSERT INTO "order" (id, description, customer_id) VALUES (1976, 'Sleek Soft Soap', 7);
-INSERT INTO "order" (id, description, customer_id) VALUES (1977, 'Refined Bronze Shirt', 54);
-INSERT INTO "order" (id, description, customer_id) VALUES (1978, 'Practical Bronze Shoes', 85);
-INSERT INTO "order" (id, description, customer_id) VALUES (1979, 'Handcrafted Concrete Computer', 28);
-INSERT INTO "order" (id, description, customer_id) VALUES (1980, 'Handmade Wooden Shirt', 51);
-INSERT INTO "order" (id, description, customer_id) VALUES (1981, 'Refined Plastic Cheese', 98);
-INSERT INTO "order" (id, description, customer_id) VALUES (1982, 'Bespoke Steel Chicken', 50);
-INSERT INTO "order" (id, description, customer_id) VALUES (1983, 'Generic Soft Salad', 74);
-INSERT INTO "order" (id, description, customer_id) VALUES (1984, 'Handmade Frozen Pants', 90);
-INSERT INTO "order" (id, description, customer_id) VALUES (1985, 'Refined Steel Salad', 22);
-INSERT INTO "order" (id, description, customer_id) VALUES (1986, 'Gorgeous Metal Shoes', 60);
-INSERT INTO "order" (id, description, customer_id) VALUES (1987, 'Sleek Bronze Fish', 30);
-INSERT INTO "order" (id, description, customer_id) VALUES (1988, 'Modern Cotton Bike', 69);
-INSERT INTO "order" (id, description, customer_id) VALUES (1989, 'Handmade Fresh Bike', 20);
-INSERT INTO "order" (id, description, customer_id) VALUES (1990, 'Refined Steel Ball', 60);
-INSERT INTO "order" (id, description, customer_id) VALUES (1991, 'Recycled Metal Bike', 27);
-INSERT INTO "order" (id, description, customer_id) VALUES (1992, 'Gorgeous Cotton Chair', 98);
-INSERT INTO "order" (id, description, customer_id) VALUES (1993, 'Oriental Cotton Car', 2);
-INSERT INTO "order" (id, description, customer_id) VALUES (1994, 'Licensed Granite Bike', 41);
-INSERT INTO "order" (id, description, customer_id) VALUES (1995, 'Handmade Rubber Gloves', 26);
-INSERT INTO "order" (id, description, customer_id) VALUES (1996, 'Refined Metal Pants', 41);
-INSERT INTO "order" (id, description, customer_id) VALUES (1997, 'Electronic Cotton Pants', 26);
-INSERT INTO "order" (id, description, customer_id) VALUES (1998, 'Handcrafted Fresh Chair', 57);
-INSERT INTO "order" (id, description, customer_id) VALUES (1999, 'Awesome Bronze Hat', 10);
-INSERT INTO "order" (id, description, customer_id) VALUES (2000, 'Gorgeous Wooden Mouse', 45);
-INSERT INTO "order" (id, description, customer_id) VALUES (2001, 'Unbranded Frozen Tuna', 4);
-INSERT INTO "order" (id, description, customer_id) VALUES (2002, 'Oriental Soft Chicken', 15);
-INSERT INTO "order" (id, description, customer_id) VALUES (2003, 'Practical Steel Bacon', 97);
-INSERT INTO "order" (id, description, customer_id) VALUES (2004, 'Gorgeous Wooden Table', 72);
-INSERT INTO "order" (id, description, customer_id) VALUES (2005, 'Bespoke Soft Hat', 11);
-INSERT INTO "order" (id, description, customer_id) VALUES (2006, 'Licensed Cotton Towels', 3);
-INSERT INTO "order" (id, description, customer_id) VALUES (2007, 'Unbranded Metal Chicken', 60);
-INSERT INTO "order" (id, description, customer_id) VALUES (2008, 'Rustic Steel Pizza', 40);
-INSERT INTO "order" (id, description, customer_id) VALUES (2009, 'Tasty Rubber Bacon', 83);
-INSERT INTO "order" (id, description, customer_id) VALUES (2010, 'Unbranded Steel Fish', 25);
-INSERT INTO "order" (id, description, customer_id) VALUES (2011, 'Luxurious Cotton Mouse', 50);
-INSERT INTO "order" (id, description, customer_id) VALUES (2012, 'Intelligent Frozen Fish', 99);
-INSERT INTO "order" (id, description, customer_id) VALUES (2013, 'Generic Bronze Towels', 97);
-INSERT INTO "order" (id, description, customer_id) VALUES (2014, 'Electronic Wooden Bacon', 59);
-INSERT INTO "order" (id, description, customer_id) VALUES (2015, 'Awesome Plastic Bacon', 84);
-INSERT INTO "order" (id, description, customer_id) VALUES (2016, 'Small Concrete Ball', 81);
-INSERT INTO "order" (id, description, customer_id) VALUES (2017, 'Bespoke Soft Bacon', 11);
-INSERT INTO "order" (id, description, customer_id) VALUES (2018, 'Oriental Cotton Soap', 2);
-INSERT INTO "order" (id, description, customer_id) VALUES (2019, 'Bespoke Bronze Cheese', 22);
-INSERT INTO "order" (id, description, customer_id) VALUES (2020, 'Handcrafted Fresh Shirt', 42);
-INSERT INTO "order" (id, description, customer_id) VALUES (2021, 'Small Granite Computer', 73);
-INSERT INTO "order" (id, description, customer_id) VALUES (2022, 'Handmade Frozen Shirt', 59);
-INSERT INTO "order" (id, description, customer_id) VALUES (2023, 'Practical Metal Gloves', 58);
-INSERT INTO "order" (id, description, customer_id) VALUES (2024, 'Licensed Bronze Tuna', 64);
-INSERT INTO "order" (id, description, customer_id) VALUES (2025, 'Generic Bronze Towels', 57);
-INSERT INTO "order" (id, description, customer_id) VALUES (2026, 'Refined Bronze Keyboard', 26);
-INSERT INTO "order" (id, description, customer_id) VALUES (2027, 'Handmade Steel Chair', 30);
-INSERT INTO "order" (id, description, customer_id) VALUES (2028, 'Small Steel Hat', 76);
-INSERT INTO "order" (id, description, customer_id) VALUES (2029, 'Handcrafted Steel Ball', 54);
-INSERT INTO "order" (id, description, customer_id) VALUES (2030, 'Small Cotton Shoes', 70);
-INSERT INTO "order" (id, description, customer_id) VALUES (2031, 'Small Frozen Bike', 78);
-INSERT INTO "order" (id, description, customer_id) VALUES (2032, 'Fantastic Rubber Bacon', 44);
-INSERT INTO "order" (id, description, customer_id) VALUES (2033, 'Rustic Wooden Bacon', 54);
-INSERT INTO "order" (id, description, customer_id) VALUES (2034, 'Ergonomic Plastic Pizza', 24);
-INSERT INTO "order" (id, description, customer_id) VALUES (2035, 'Handcrafted Granite Ball', 64);
-INSERT INTO "order" (id, description, customer_id) VALUES (2036, 'Handcrafted Plastic Bike', 34);
-INSERT INTO "order" (id, description, customer_id) VALUES (2037, 'Gorgeous Steel Ball', 76);
-INSERT INTO "order" (id, description, customer_id) VALUES (2038, 'Bespoke Soft Pizza', 89);
-INSERT INTO "order" (id, description, customer_id) VALUES (2039, 'Handcrafted Fresh Pants', 46);
-INSERT INTO "order" (id, description, customer_id) VALUES (2040, 'Fantastic Metal Computer', 77);
-INSERT INTO "order" (id, description, customer_id) VALUES (2041, 'Fantastic Steel Cheese', 16);
-INSERT INTO "order" (id, description, customer_id) VALUES (2042, 'Sleek Wooden Chicken', 80);
-INSERT INTO "order" (id, description, customer_id) VALUES (2043, 'Handcrafted Plastic Salad', 62);
-INSERT INTO "order" (id, description, customer_id) VALUES (2044, 'Bespoke Frozen Hat', 6);
-INSERT INTO "order" (id, description, customer_id) VALUES (2045, 'Unbranded Plastic Shoes', 24);
-INSERT INTO "order" (id, description, customer_id) VALUES (2046, 'Rustic Metal Hat', 67);
-INSERT INTO "order" (id, description, customer_id) VALUES (2047, 'Oriental Steel Tuna', 68);
-INSERT INTO "order" (id, description, customer_id) VALUES (2048, 'Handcrafted Wooden Keyboard', 28);
-INSERT INTO "order" (id, description, customer_id) VALUES (2049, 'Intelligent Metal Sausages', 37);
-INSERT INTO "order" (id, description, customer_id) VALUES (2050, 'Licensed Plastic Pants', 100);
-INSERT INTO "order" (id, description, customer_id) VALUES (2051, 'Incredible Frozen Soap', 64);
-INSERT INTO "order" (id, description, customer_id) VALUES (2052, 'Licensed Fresh Gloves', 86);
-INSERT INTO "order" (id, description, customer_id) VALUES (2053, 'Electronic Metal Fish', 77);
-INSERT INTO "order" (id, description, customer_id) VALUES (2054, 'Rustic Rubber Pizza', 72);
-INSERT INTO "order" (id, description, customer_id) VALUES (2055, 'Rustic Steel Cheese', 64);
-INSERT INTO "order" (id, description, customer_id) VALUES (2056, 'Bespoke Rubber Keyboard', 74);
-INSERT INTO "order" (id, description, customer_id) VALUES (2057, 'Electronic Cotton Sausages', 92);
-INSERT INTO "order" (id, description, customer_id) VALUES (2058, 'Elegant Granite Chair', 25);
-INSERT INTO "order" (id, description, customer_id) VALUES (2059, 'Licensed Granite Chips', 37);
-INSERT INTO "order" (id, description, customer_id) VALUES (2060, 'Small Plastic Ball', 63);
-INSERT INTO "order" (id, description, customer_id) VALUES (2061, 'Gorgeous Frozen Mouse', 68);
-INSERT INTO "order" (id, description, customer_id) VALUES (2062, 'Oriental Bronze Pants', 37);
-INSERT INTO "order" (id, description, customer_id) VALUES (2063, 'Small Wooden Hat', 69);
-INSERT INTO "order" (id, description, customer_id) VALUES (2064, 'Oriental Wooden Hat', 5);
-INSERT INTO "order" (id, description, customer_id) VALUES (2065, 'Oriental Bronze Tuna', 58);
-INSERT INTO "order" (id, description, customer_id) VALUES (2066, 'Luxurious Cotton Pants', 26);
-INSERT INTO "order" (id, description, customer_id) VALUES (2067, 'Luxurious Wooden Chicken', 2);
-INSERT INTO "order" (id, description, customer_id) VALUES (2068, 'Bespoke Plastic Salad', 35);
-INSERT INTO "order" (id, description, customer_id) VALUES (2069, 'Refined Steel Gloves', 28);
-INSERT INTO "order" (id, description, customer_id) VALUES (2070, 'Recycled Cotton Cheese', 28);
-INSERT INTO "order" (id, description, customer_id) VALUES (2071, 'Generic Fresh Table', 9);
-INSERT INTO "order" (id, description, customer_id) VALUES (2072, 'Refined Metal Soap', 34);
-INSERT INTO "order" (id, description, customer_id) VALUES (2073, 'Elegant Steel Table', 47);
-INSERT INTO "order" (id, description, customer_id) VALUES (2074, 'Bespoke Metal Salad', 97);
-INSERT INTO "order" (id, description, customer_id) VALUES (2075, 'Rustic Fresh Salad', 12);
-INSERT INTO "order" (id, description, customer_id) VALUES (2076, 'Elegant Granite Car', 57);
-INSERT INTO "order" (id, description, customer_id) VALUES (2077, 'Licensed Metal Pants', 9);
-INSERT INTO "order" (id, description, customer_id) VALUES (2078, 'Small Fresh Cheese', 80);
-INSERT INTO "order" (id, description, customer_id) VALUES (2079, 'Bespoke Fresh Cheese', 67);
-INSERT INTO "order" (id, description, customer_id) VALUES (2080, 'Rustic Concrete Shoes', 28);
-INSERT INTO "order" (id, description, customer_id) VALUES (2081, 'Licensed Rubber Gloves', 49);
-INSERT INTO "order" (id, description, customer_id) VALUES (2082, 'Modern Concrete Chair', 42);
-INSERT INTO "order" (id, description, customer_id) VALUES (2083, 'Electronic Cotton Ball', 19);
-INSERT INTO "order" (id, description, customer_id) VALUES (2084, 'Licensed Steel Chair', 98);
-INSERT INTO "order" (id, description, customer_id) VALUES (2085, 'Gorgeous Metal Shoes', 52);
-INSERT INTO "order" (id, description, customer_id) VALUES (2086, 'Licensed Concrete Computer', 80);
-INSERT INTO "order" (id, description, customer_id) VALUES (2087, 'Tasty Rubber Chicken', 66);
-INSERT INTO "order" (id, description, customer_id) VALUES (2088, 'Refined Frozen Car', 27);
-INSERT INTO "order" (id, description, customer_id) VALUES (2089, 'Modern Frozen Shoes', 15);
-INSERT INTO "order" (id, description, customer_id) VALUES (2090, 'Sleek Fresh Soap', 57);
-INSERT INTO "order" (id, description, customer_id) VALUES (2091, 'Licensed Soft Pants', 53);
-INSERT INTO "order" (id, description, customer_id) VALUES (2092, 'Refined Rubber Pizza', 70);
-INSERT INTO "order" (id, description, customer_id) VALUES (2093, 'Gorgeous Granite Chips', 2);
-INSERT INTO "order" (id, description, customer_id) VALUES (2094, 'Unbranded Wooden Chicken', 64);
-INSERT INTO "order" (id, description, customer_id) VALUES (2095, 'Small Plastic Mouse', 28);
-INSERT INTO "order" (id, description, customer_id) VALUES (2096, 'Bespoke Plastic Cheese', 87);
-INSERT INTO "order" (id, description, customer_id) VALUES (2097, 'Incredible Rubber Tuna', 93);
-INSERT INTO "order" (id, description, customer_id) VALUES (2098, 'Modern Frozen Sausages', 78);
-INSERT INTO "order" (id, description, customer_id) VALUES (2099, 'Awesome Metal Fish', 16);
-INSERT INTO "order" (id, description, customer_id) VALUES (2100, 'Small Concrete Keyboard', 24);
-INSERT INTO "order" (id, description, customer_id) VALUES (2101, 'Gorgeous Steel Pants', 20);
-INSERT INTO "order" (id, description, customer_id) VALUES (2102, 'Ergonomic Fresh Cheese', 66);
-INSERT INTO "order" (id, description, customer_id) VALUES (2103, 'Intelligent Metal Pants', 60);
-INSERT INTO "order" (id, description, customer_id) VALUES (2104, 'Handmade Cotton Chips', 92);
-INSERT INTO "order" (id, description, customer_id) VALUES (2105, 'Luxurious Fresh Bacon', 100);
-INSERT INTO "order" (id, description, customer_id) VALUES (2106, 'Modern Plastic Computer', 20);
-INSERT INTO "order" (id, description, customer_id) VALUES (2107, 'Electronic Bronze Pants', 75);
-INSERT INTO "order" (id, description, customer_id) VALUES (2108, 'Bespoke Soft Keyboard', 78);
-INSERT INTO "order" (id, description, customer_id) VALUES (2109, 'Modern Concrete Pants', 62);
-INSERT INTO "order" (id, description, customer_id) VALUES (2110, 'Modern Cotton Ball', 35);
-INSERT INTO "order" (id, description, customer_id) VALUES (2111, 'Refined Steel Pants', 31);
-INSERT INTO "order" (id, description, customer_id) VALUES (2112, 'Incredible Soft Chicken', 32);
-INSERT INTO "order" (id, description, customer_id) VALUES (2113, 'Rustic Steel Computer', 64);
-INSERT INTO "order" (id, description, customer_id) VALUES (2114, 'Unbranded Rubber Table', 94);
-INSERT INTO "order" (id, description, customer_id) VALUES (2115, 'Rustic Rubber Gloves', 15);
-INSERT INTO "order" (id, description, customer_id) VALUES (2116, 'Tasty Wooden Towels', 96);
-INSERT INTO "order" (id, description, customer_id) VALUES (2117, 'Fantastic Plastic Car', 65);
-INSERT INTO "order" (id, description, customer_id) VALUES (2118, 'Practical Steel Tuna', 45);
-INSERT INTO "order" (id, description, customer_id) VALUES (2119, 'Incredible Metal Salad', 85);
-INSERT INTO "order" (id, description, customer_id) VALUES (2120, 'Unbranded Concrete Tuna', 100);
-INSERT INTO "order" (id, description, customer_id) VALUES (2121, 'Fantastic Rubber Chips', 98);
-INSERT INTO "order" (id, description, customer_id) VALUES (2122, 'Ergonomic Metal Tuna', 71);
-INSERT INTO "order" (id, description, customer_id) VALUES (2123, 'Luxurious Frozen Salad', 3);
-INSERT INTO "order" (id, description, customer_id) VALUES (2124, 'Ergonomic Granite Mouse', 42);
-INSERT INTO "order" (id, description, customer_id) VALUES (2125, 'Ergonomic Concrete Chicken', 8);
-INSERT INTO "order" (id, description, customer_id) VALUES (2126, 'Refined Rubber Shoes', 53);
-INSERT INTO "order" (id, description, customer_id) VALUES (2127, 'Awesome Steel Shirt', 3);
-INSERT INTO "order" (id, description, customer_id) VALUES (2128, 'Elegant Concrete Bike', 95);
-INSERT INTO "order" (id, description, customer_id) VALUES (2129, 'Handcrafted Metal Sausages', 7);
-INSERT INTO "order" (id, description, customer_id) VALUES (2130, 'Intelligent Frozen Shirt', 67);
-INSERT INTO "order" (id, description, customer_id) VALUES (2131, 'Tasty Bronze Chair', 59);
-INSERT INTO "order" (id, description, customer_id) VALUES (2132, 'Elegant Bronze Pizza', 20);
-INSERT INTO "order" (id, description, customer_id) VALUES (2133, 'Generic Wooden Table', 20);
-INSERT INTO "order" (id, description, customer_id) VALUES (2134, 'Practical Bronze Fish', 48);
-INSERT INTO "order" (id, description, customer_id) VALUES (2135, 'Rustic Wooden Car', 56);
-INSERT INTO "order" (id, description, customer_id) VALUES (2136, 'Small Frozen Car', 31);
-INSERT INTO "order" (id, description, customer_id) VALUES (2137, 'Handcrafted Plastic Shoes', 22);
-INSERT INTO "order" (id, description, customer_id) VALUES (2138, 'Generic Cotton Bacon', 36);
-INSERT INTO "order" (id, description, customer_id) VALUES (2139, 'Oriental Rubber Chips', 85);
-INSERT INTO "order" (id, description, customer_id) VALUES (2140, 'Bespoke Plastic Chair', 24);
-INSERT INTO "order" (id, description, customer_id) VALUES (2141, 'Electronic Steel Gloves', 48);
-INSERT INTO "order" (id, description, customer_id) VALUES (2142, 'Licensed Plastic Chicken', 11);
-INSERT INTO "order" (id, description, customer_id) VALUES (2143, 'Generic Fresh Shoes', 51);
-INSERT INTO "order" (id, description, customer_id) VALUES (2144, 'Practical Frozen Pants', 33);
-INSERT INTO "order" (id, description, customer_id) VALUES (2145, 'Refined Soft Tuna', 58);
-INSERT INTO "order" (id, description, customer_id) VALUES (2146, 'Small Rubber Pizza', 22);
-INSERT INTO "order" (id, description, customer_id) VALUES (2147, 'Modern Steel Hat', 85);
-INSERT INTO "order" (id, description, customer_id) VALUES (2148, 'Small Concrete Soap', 1);
-INSERT INTO "order" (id, description, customer_id) VALUES (2149, 'Electronic Bronze Gloves', 83);
-INSERT INTO "order" (id, description, customer_id) VALUES (2150, 'Awesome Concrete Table', 73);
-INSERT INTO "order" (id, description, customer_id) VALUES (2151, 'Fantastic Fresh Chair', 31);
-INSERT INTO "order" (id, description, customer_id) VALUES (2152, 'Modern Plastic Bike', 44);
-INSERT INTO "order" (id, description, customer_id) VALUES (2153, 'Recycled Plastic Bike', 93);
-INSERT INTO "order" (id, description, customer_id) VALUES (2154, 'Practical Cotton Pants', 81);
-INSERT INTO "order" (id, description, customer_id) VALUES (2155, 'Oriental Rubber Mouse', 72);
-INSERT INTO "order" (id, description, customer_id) VALUES (2156, 'Electronic Wooden Pants', 53);
-INSERT INTO "order" (id, description, customer_id) VALUES (2157, 'Tasty Concrete Car', 96);
-INSERT INTO "order" (id, description, customer_id) VALUES (2158, 'Electronic Metal Table', 45);
-INSERT INTO "order" (id, description, customer_id) VALUES (2159, 'Electronic Frozen Table', 8);
-INSERT INTO "order" (id, description, customer_id) VALUES (2160, 'Fantastic Steel Mouse', 34);
-INSERT INTO "order" (id, description, customer_id) VALUES (2161, 'Awesome Granite Shoes', 49);
-INSERT INTO "order" (id, description, customer_id) VALUES (2162, 'Incredible Concrete Fish', 42);
-INSERT INTO "order" (id, description, customer_id) VALUES (2163, 'Awesome Plastic Bacon', 55);
-INSERT INTO "order" (id, description, customer_id) VALUES (2164, 'Elegant Soft Bike', 99);
-INSERT INTO "order" (id, description, customer_id) VALUES (2165, 'Gorgeous Frozen Towels', 55);
-INSERT INTO "order" (id, description, customer_id) VALUES (2166, 'Fantastic Fresh Sausages', 50);
-INSERT INTO "order" (id, description, customer_id) VALUES (2167, 'Rustic Rubber Chicken', 79);
-INSERT INTO "order" (id, description, customer_id) VALUES (2168, 'Luxurious Soft Gloves', 96);
-INSERT INTO "order" (id, description, customer_id) VALUES (2169, 'Licensed Plastic Bacon', 76);
-INSERT INTO "order" (id, description, customer_id) VALUES (2170, 'Small Rubber Towels', 42);
-INSERT INTO "order" (id, description, customer_id) VALUES (2171, 'Tasty Bronze Salad', 92);
-INSERT INTO "order" (id, description, customer_id) VALUES (2172, 'Practical Metal Computer', 100);
-INSERT INTO "order" (id, description, customer_id) VALUES (2173, 'Elegant Frozen Chicken', 59);
-INSERT INTO "order" (id, description, customer_id) VALUES (2174, 'Incredible Cotton Shoes', 3);
-INSERT INTO "order" (id, description, customer_id) VALUES (2175, 'Unbranded Wooden Table', 73);
-INSERT INTO "order" (id, description, customer_id) VALUES (2176, 'Gorgeous Frozen Mouse', 20);
-INSERT INTO "order" (id, description, customer_id) VALUES (2177, 'Rustic Concrete Keyboard', 76);
-INSERT INTO "order" (id, description, customer_id) VALUES (2178, 'Awesome Soft Tuna', 82);
-INSERT INTO "order" (id, description, customer_id) VALUES (2179, 'Ergonomic Wooden Chair', 33);
-INSERT INTO "order" (id, description, customer_id) VALUES (2180, 'Awesome Fresh Ball', 8);
-INSERT INTO "order" (id, description, customer_id) VALUES (2181, 'Fantastic Soft Keyboard', 16);
-INSERT INTO "order" (id, description, customer_id) VALUES (2182, 'Awesome Rubber Towels', 49);
-INSERT INTO "order" (id, description, customer_id) VALUES (2183, 'Bespoke Frozen Towels', 35);
-INSERT INTO "order" (id, description, customer_id) VALUES (2184, 'Rustic Soft Hat', 100);
-INSERT INTO "order" (id, description, customer_id) VALUES (2185, 'Unbranded Frozen Computer', 9);
-INSERT INTO "order" (id, description, customer_id) VALUES (2186, 'Electronic Rubber Bacon', 19);
-INSERT INTO "order" (id, description, customer_id) VALUES (2187, 'Intelligent Fresh Hat', 61);
-INSERT INTO "order" (id, description, customer_id) VALUES (2188, 'Refined Bronze Table', 7);
-INSERT INTO "order" (id, description, customer_id) VALUES (2189, 'Generic Rubber Cheese', 19);
-INSERT INTO "order" (id, description, customer_id) VALUES (2190, 'Oriental Soft Computer', 47);
-INSERT INTO "order" (id, description, customer_id) VALUES (2191, 'Recycled Granite Chair', 85);
-INSERT INTO "order" (id, description, customer_id) VALUES (2192, 'Oriental Bronze Chicken', 18);
-INSERT INTO "order" (id, description, customer_id) VALUES (2193, 'Oriental Cotton Sausages', 1);
-INSERT INTO "order" (id, description, customer_id) VALUES (2194, 'Ergonomic Granite Tuna', 2);
-INSERT INTO "order" (id, description, customer_id) VALUES (2195, 'Handmade Cotton Chicken', 51);
-INSERT INTO "order" (id, description, customer_id) VALUES (2196, 'Licensed Concrete Computer', 39);
-INSERT INTO "order" (id, description, customer_id) VALUES (2197, 'Handcrafted Concrete Pizza', 100);
-INSERT INTO "order" (id, description, customer_id) VALUES (2198, 'Fantastic Granite Ball', 54);
-INSERT INTO "order" (id, description, customer_id) VALUES (2199, 'Luxurious Granite Fish', 89);
-INSERT INTO "order" (id, description, customer_id) VALUES (2200, 'Elegant Metal Car', 7);
-INSERT INTO "order" (id, description, customer_id) VALUES (2201, 'Elegant Plastic Bike', 19);
-INSERT INTO "order" (id, description, customer_id) VALUES (2202, 'Modern Cotton Computer', 28);
-INSERT INTO "order" (id, description, customer_id) VALUES (2203, 'Recycled Granite Salad', 60);
-INSERT INTO "order" (id, description, customer_id) VALUES (2204, 'Sleek Bronze Mouse', 25);
-INSERT INTO "order" (id, description, customer_id) VALUES (2205, 'Luxurious Frozen Car', 28);
-INSERT INTO "order" (id, description, customer_id) VALUES (2206, 'Modern Frozen Salad', 13);
-INSERT INTO "order" (id, description, customer_id) VALUES (2207, 'Elegant Granite Bike', 86);
-INSERT INTO "order" (id, description, customer_id) VALUES (2208, 'Fantastic Metal Chicken', 10);
-INSERT INTO "order" (id, description, customer_id) VALUES (2209, 'Licensed Steel Hat', 67);
-INSERT INTO "order" (id, description, customer_id) VALUES (2210, 'Awesome Granite Gloves', 1);
-INSERT INTO "order" (id, description, customer_id) VALUES (2211, 'Handcrafted Cotton Car', 37);
-INSERT INTO "order" (id, description, customer_id) VALUES (2212, 'Intelligent Rubber Sausages', 83);
-INSERT INTO "order" (id, description, customer_id) VALUES (2213, 'Rustic Bronze Ball', 65);
-INSERT INTO "order" (id, description, customer_id) VALUES (2214, 'Awesome Metal Sausages', 69);
-INSERT INTO "order" (id, description, customer_id) VALUES (2215, 'Handmade Concrete Sausages', 62);
-INSERT INTO "order" (id, description, customer_id) VALUES (2216, 'Practical Steel Car', 88);
-INSERT INTO "order" (id, description, customer_id) VALUES (2217, 'Elegant Bronze Hat', 89);
-INSERT INTO "order" (id, description, customer_id) VALUES (2218, 'Intelligent Metal Cheese', 42);
-INSERT INTO "order" (id, description, customer_id) VALUES (2219, 'Practical Concrete Sausages', 70);
-INSERT INTO "order" (id, description, customer_id) VALUES (2220, 'Generic Concrete Salad', 87);
-INSERT INTO "order" (id, description, customer_id) VALUES (2221, 'Licensed Metal Pizza', 97);
-INSERT INTO "order" (id, description, customer_id) VALUES (2222, 'Tasty Frozen Table', 30);
-INSERT INTO "order" (id, description, customer_id) VALUES (2223, 'Unbranded Concrete Shoes', 86);
-INSERT INTO "order" (id, description, customer_id) VALUES (2224, 'Generic Bronze Chicken', 14);
-INSERT INTO "order" (id, description, customer_id) VALUES (2225, 'Generic Fresh Salad', 34);
-INSERT INTO "order" (id, description, customer_id) VALUES (2226, 'Recycled Rubber Computer', 13);
-INSERT INTO "order" (id, description, customer_id) VALUES (2227, 'Tasty Fresh Car', 69);
-INSERT INTO "order" (id, description, customer_id) VALUES (2228, 'Incredible Plastic Pizza', 38);
-INSERT INTO "order" (id, description, customer_id) VALUES (2229, 'Incredible Metal Tuna', 95);
-INSERT INTO "order" (id, description, customer_id) VALUES (2230, 'Ergonomic Granite Mouse', 28);
-INSERT INTO "order" (id, description, customer_id) VALUES (2231, 'Gorgeous Bronze Chair', 6);
-INSERT INTO "order" (id, description, customer_id) VALUES (2232, 'Incredible Fresh Pants', 47);
-INSERT INTO "order" (id, description, customer_id) VALUES (2233, 'Unbranded Rubber Towels', 97);
-INSERT INTO "order" (id, description, customer_id) VALUES (2234, 'Recycled Bronze Ball', 64);
-INSERT INTO "order" (id, description, customer_id) VALUES (2235, 'Small Cotton Bacon', 23);
-INSERT INTO "order" (id, description, customer_id) VALUES (2236, 'Modern Steel Ball', 8);
-INSERT INTO "order" (id, description, customer_id) VALUES (2237, 'Gorgeous Metal Soap', 78);
-INSERT INTO "order" (id, description, customer_id) VALUES (2238, 'Licensed Wooden Mouse', 44);
-INSERT INTO "order" (id, description, customer_id) VALUES (2239, 'Elegant Fresh Car', 39);
-INSERT INTO "order" (id, description, customer_id) VALUES (2240, 'Bespoke Plastic Pizza', 76);
-INSERT INTO "order" (id, description, customer_id) VALUES (2241, 'Small Metal Soap', 51);
-INSERT INTO "order" (id, description, customer_id) VALUES (2242, 'Refined Metal Shirt', 66);
-INSERT INTO "order" (id, description, customer_id) VALUES (2243, 'Luxurious Granite Sausages', 41);
-INSERT INTO "order" (id, description, customer_id) VALUES (2244, 'Electronic Steel Gloves', 10);
-INSERT INTO "order" (id, description, customer_id) VALUES (2245, 'Handcrafted Frozen Fish', 39);
-INSERT INTO "order" (id, description, customer_id) VALUES (2246, 'Handmade Rubber Chicken', 58);
-INSERT INTO "order" (id, description, customer_id) VALUES (2247, 'Handmade Granite Sausages', 72);
-INSERT INTO "order" (id, description, customer_id) VALUES (2248, 'Electronic Plastic Pants', 70);
-INSERT INTO "order" (id, description, customer_id) VALUES (2249, 'Fantastic Soft Tuna', 68);
-INSERT INTO "order" (id, description, customer_id) VALUES (2250, 'Practical Metal Soap', 16);
-INSERT INTO "order" (id, description, customer_id) VALUES (2251, 'Handcrafted Fresh Keyboard', 42);
-INSERT INTO "order" (id, description, customer_id) VALUES (2252, 'Tasty Fresh Chips', 82);
-INSERT INTO "order" (id, description, customer_id) VALUES (2253, 'Tasty Soft Bike', 14);
-INSERT INTO "order" (id, description, customer_id) VALUES (2254, 'Refined Frozen Bacon', 10);
-INSERT INTO "order" (id, description, customer_id) VALUES (2255, 'Tasty Rubber Gloves', 85);
-INSERT INTO "order" (id, description, customer_id) VALUES (2256, 'Licensed Cotton Tuna', 35);
-INSERT INTO "order" (id, description, customer_id) VALUES (2257, 'Awesome Bronze Chicken', 66);
-INSERT INTO "order" (id, description, customer_id) VALUES (2258, 'Handmade Granite Bacon', 96);
-INSERT INTO "order" (id, description, customer_id) VALUES (2259, 'Recycled Wooden Pants', 5);
-INSERT INTO "order" (id, description, customer_id) VALUES (2260, 'Tasty Bronze Mouse', 61);
-INSERT INTO "order" (id, description, customer_id) VALUES (2261, 'Handcrafted Wooden Cheese', 64);
-INSERT INTO "order" (id, description, customer_id) VALUES (2262, 'Handmade Rubber Chips', 4);
-INSERT INTO "order" (id, description, customer_id) VALUES (2263, 'Practical Soft Salad', 66);
-INSERT INTO "order" (id, description, customer_id) VALUES (2264, 'Handcrafted Wooden Shoes', 100);
-INSERT INTO "order" (id, description, customer_id) VALUES (2265, 'Ergonomic Concrete Ball', 4);
-INSERT INTO "order" (id, description, customer_id) VALUES (2266, 'Oriental Plastic Keyboard', 13);
-INSERT INTO "order" (id, description, customer_id) VALUES (2267, 'Licensed Granite Fish', 47);
-INSERT INTO "order" (id, description, customer_id) VALUES (2268, 'Incredible Bronze Table', 100);
-INSERT INTO "order" (id, description, customer_id) VALUES (2269, 'Elegant Frozen Cheese', 21);
-INSERT INTO "order" (id, description, customer_id) VALUES (2270, 'Gorgeous Rubber Towels', 32);
-INSERT INTO "order" (id, description, customer_id) VALUES (2271, 'Handmade Rubber Bacon', 23);
-INSERT INTO "order" (id, description, customer_id) VALUES (2272, 'Fantastic Granite Bacon', 24);
-INSERT INTO "order" (id, description, customer_id) VALUES (2273, 'Refined Granite Bacon', 79);
-INSERT INTO "order" (id, description, customer_id) VALUES (2274, 'Modern Bronze Keyboard', 93);
-INSERT INTO "order" (id, description, customer_id) VALUES (2275, 'Small Rubber Fish', 89);
-INSERT INTO "order" (id, description, customer_id) VALUES (2276, 'Unbranded Fresh Salad', 59);
-INSERT INTO "order" (id, description, customer_id) VALUES (2277, 'Oriental Bronze Towels', 30);
-INSERT INTO "order" (id, description, customer_id) VALUES (2278, 'Elegant Soft Shoes', 62);
-INSERT INTO "order" (id, description, customer_id) VALUES (2279, 'Licensed Fresh Hat', 36);
-INSERT INTO "order" (id, description, customer_id) VALUES (2280, 'Licensed Bronze Chair', 55);
-INSERT INTO "order" (id, description, customer_id) VALUES (2281, 'Handcrafted Wooden Salad', 65);
-INSERT INTO "order" (id, description, customer_id) VALUES (2282, 'Modern Metal Mouse', 79);
-INSERT INTO "order" (id, description, customer_id) VALUES (2283, 'Unbranded Steel Cheese', 42);
-INSERT INTO "order" (id, description, customer_id) VALUES (2284, 'Unbranded Metal Gloves', 48);
-INSERT INTO "order" (id, description, customer_id) VALUES (2285, 'Handcrafted Bronze Bacon', 93);
-INSERT INTO "order" (id, description, customer_id) VALUES (2286, 'Gorgeous Fresh Ball', 35);
-INSERT INTO "order" (id, description, customer_id) VALUES (2287, 'Licensed Cotton Shoes', 5);
-INSERT INTO "order" (id, description, customer_id) VALUES (2288, 'Bespoke Rubber Shoes', 63);
-INSERT INTO "order" (id, description, customer_id) VALUES (2289, 'Ergonomic Bronze Chicken', 53);
-INSERT INTO "order" (id, description, customer_id) VALUES (2290, 'Bespoke Fresh Tuna', 40);
-INSERT INTO "order" (id, description, customer_id) VALUES (2291, 'Luxurious Granite Gloves', 79);
-INSERT INTO "order" (id, description, customer_id) VALUES (2292, 'Modern Concrete Car', 76);
-INSERT INTO "order" (id, description, customer_id) VALUES (2293, 'Rustic Wooden Tuna', 100);
-INSERT INTO "order" (id, description, customer_id) VALUES (2294, 'Practical Rubber Pizza', 14);
-INSERT INTO "order" (id, description, customer_id) VALUES (2295, 'Incredible Metal Keyboard', 62);
-INSERT INTO "order" (id, description, customer_id) VALUES (2296, 'Elegant Cotton Hat', 71);
-INSERT INTO "order" (id, description, customer_id) VALUES (2297, 'Ergonomic Fresh Tuna', 16);
-INSERT INTO "order" (id, description, customer_id) VALUES (2298, 'Intelligent Plastic Shoes', 4);
-INSERT INTO "order" (id, description, customer_id) VALUES (2299, 'Bespoke Wooden Cheese', 77);
-INSERT INTO "order" (id, description, customer_id) VALUES (2300, 'Awesome Metal Keyboard', 37);
-INSERT INTO "order" (id, description, customer_id) VALUES (2301, 'Small Steel Shoes', 43);
-INSERT INTO "order" (id, description, customer_id) VALUES (2302, 'Elegant Rubber Ball', 29);
-INSERT INTO "order" (id, description, customer_id) VALUES (2303, 'Oriental Steel Keyboard', 58);
-INSERT INTO "order" (id, description, customer_id) VALUES (2304, 'Luxurious Granite Hat', 93);
-INSERT INTO "order" (id, description, customer_id) VALUES (2305, 'Modern Soft Table', 32);
-INSERT INTO "order" (id, description, customer_id) VALUES (2306, 'Generic Fresh Car', 25);
-INSERT INTO "order" (id, description, customer_id) VALUES (2307, 'Small Granite Car', 73);
-INSERT INTO "order" (id, description, customer_id) VALUES (2308, 'Rustic Plastic Chips', 74);
-INSERT INTO "order" (id, description, customer_id) VALUES (2309, 'Rustic Fresh Pants', 95);
-INSERT INTO "order" (id, description, customer_id) VALUES (2310, 'Fantastic Granite Pizza', 50);
-INSERT INTO "order" (id, description, customer_id) VALUES (2311, 'Awesome Concrete Ball', 31);
-INSERT INTO "order" (id, description, customer_id) VALUES (2312, 'Generic Rubber Shoes', 86);
-INSERT INTO "order" (id, description, customer_id) VALUES (2313, 'Small Bronze Salad', 57);
-INSERT INTO "order" (id, description, customer_id) VALUES (2314, 'Awesome Cotton Keyboard', 33);
-INSERT INTO "order" (id, description, customer_id) VALUES (2315, 'Handmade Steel Hat', 40);
-INSERT INTO "order" (id, description, customer_id) VALUES (2316, 'Handcrafted Wooden Bike', 56);
-INSERT INTO "order" (id, description, customer_id) VALUES (2317, 'Sleek Concrete Gloves', 31);
-INSERT INTO "order" (id, description, customer_id) VALUES (2318, 'Handcrafted Plastic Bacon', 2);
-INSERT INTO "order" (id, description, customer_id) VALUES (2319, 'Gorgeous Concrete Gloves', 73);
-INSERT INTO "order" (id, description, customer_id) VALUES (2320, 'Oriental Plastic Towels', 32);
-INSERT INTO "order" (id, description, customer_id) VALUES (2321, 'Oriental Plastic Fish', 68);
-INSERT INTO "order" (id, description, customer_id) VALUES (2322, 'Generic Steel Car', 94);
-INSERT INTO "order" (id, description, customer_id) VALUES (2323, 'Ergonomic Steel Fish', 74);
-INSERT INTO "order" (id, description, customer_id) VALUES (2324, 'Small Soft Bacon', 66);
-INSERT INTO "order" (id, description, customer_id) VALUES (2325, 'Recycled Metal Table', 55);
-INSERT INTO "order" (id, description, customer_id) VALUES (2326, 'Elegant Cotton Sausages', 11);
-INSERT INTO "order" (id, description, customer_id) VALUES (2327, 'Handmade Rubber Cheese', 69);
-INSERT INTO "order" (id, description, customer_id) VALUES (2328, 'Incredible Metal Hat', 59);
-INSERT INTO "order" (id, description, customer_id) VALUES (2329, 'Generic Soft Tuna', 4);
-INSERT INTO "order" (id, description, customer_id) VALUES (2330, 'Modern Frozen Soap', 58);
-INSERT INTO "order" (id, description, customer_id) VALUES (2331, 'Elegant Concrete Computer', 63);
-INSERT INTO "order" (id, description, customer_id) VALUES (2332, 'Awesome Metal Fish', 32);
-INSERT INTO "order" (id, description, customer_id) VALUES (2333, 'Luxurious Cotton Sausages', 82);
-INSERT INTO "order" (id, description, customer_id) VALUES (2334, 'Ergonomic Concrete Mouse', 35);
-INSERT INTO "order" (id, description, customer_id) VALUES (2335, 'Small Cotton Computer', 20);
-INSERT INTO "order" (id, description, customer_id) VALUES (2336, 'Rustic Fresh Towels', 25);
-INSERT INTO "order" (id, description, customer_id) VALUES (2337, 'Bespoke Metal Tuna', 53);
-INSERT INTO "order" (id, description, customer_id) VALUES (2338, 'Bespoke Plastic Salad', 94);
-INSERT INTO "order" (id, description, customer_id) VALUES (2339, 'Tasty Fresh Mouse', 54);
-INSERT INTO "order" (id, description, customer_id) VALUES (2340, 'Tasty Plastic Towels', 98);
-INSERT INTO "order" (id, description, customer_id) VALUES (2341, 'Unbranded Wooden Towels', 61);
-INSERT INTO "order" (id, description, customer_id) VALUES (2342, 'Incredible Plastic Bike', 98);
-INSERT INTO "order" (id, description, customer_id) VALUES (2343, 'Incredible Concrete Keyboard', 84);
-INSERT INTO "order" (id, description, customer_id) VALUES (2344, 'Awesome Rubber Mouse', 29);
-INSERT INTO "order" (id, description, customer_id) VALUES (2345, 'Unbranded Concrete Gloves', 23);
-INSERT INTO "order" (id, description, customer_id) VALUES (2346, 'Bespoke Plastic Pants', 94);
-INSERT INTO "order" (id, description, customer_id) VALUES (2347, 'Practical Plastic Hat', 91);
-INSERT INTO "order" (id, description, customer_id) VALUES (2348, 'Fantastic Fresh Pants', 16);
-INSERT INTO "order" (id, description, customer_id) VALUES (2349, 'Ergonomic Rubber Bacon', 47);
-INSERT INTO "order" (id, description, customer_id) VALUES (2350, 'Generic Plastic Car', 71);
-INSERT INTO "order" (id, description, customer_id) VALUES (2351, 'Sleek Rubber Ball', 59);
-INSERT INTO "order" (id, description, customer_id) VALUES (2352, 'Practical Soft Ball', 1);
-INSERT INTO "order" (id, description, customer_id) VALUES (2353, 'Sleek Steel Mouse', 9);
-INSERT INTO "order" (id, description, customer_id) VALUES (2354, 'Bespoke Soft Bike', 38);
-INSERT INTO "order" (id, description, customer_id) VALUES (2355, 'Generic Metal Soap', 45);
-INSERT INTO "order" (id, description, customer_id) VALUES (2356, 'Elegant Cotton Towels', 98);
-INSERT INTO "order" (id, description, customer_id) VALUES (2357, 'Rustic Steel Mouse', 51);
-INSERT INTO "order" (id, description, customer_id) VALUES (2358, 'Small Granite Shoes', 74);
-INSERT INTO "order" (id, description, customer_id) VALUES (2359, 'Oriental Bronze Soap', 73);
-INSERT INTO "order" (id, description, customer_id) VALUES (2360, 'Oriental Rubber Pizza', 66);
-INSERT INTO "order" (id, description, customer_id) VALUES (2361, 'Luxurious Wooden Bacon', 91);
-INSERT INTO "order" (id, description, customer_id) VALUES (2362, 'Refined Concrete Pants', 95);
-INSERT INTO "order" (id, description, customer_id) VALUES (2363, 'Practical Metal Pants', 95);
-INSERT INTO "order" (id, description, customer_id) VALUES (2364, 'Intelligent Frozen Chair', 91);
-INSERT INTO "order" (id, description, customer_id) VALUES (2365, 'Unbranded Bronze Bacon', 94);
-INSERT INTO "order" (id, description, customer_id) VALUES (2366, 'Practical Wooden Pizza', 56);
-INSERT INTO "order" (id, description, customer_id) VALUES (2367, 'Generic Bronze Pizza', 40);
-INSERT INTO "order" (id, description, customer_id) VALUES (2368, 'Generic Concrete Mouse', 3);
-INSERT INTO "order" (id, description, customer_id) VALUES (2369, 'Small Soft Computer', 19);
-INSERT INTO "order" (id, description, customer_id) VALUES (2370, 'Generic Wooden Keyboard', 85);
-INSERT INTO "order" (id, description, customer_id) VALUES (2371, 'Incredible Soft Chair', 55);
-INSERT INTO "order" (id, description, customer_id) VALUES (2372, 'Practical Rubber Fish', 50);
-INSERT INTO "order" (id, description, customer_id) VALUES (2373, 'Ergonomic Soft Ball', 96);
-INSERT INTO "order" (id, description, customer_id) VALUES (2374, 'Fantastic Bronze Pizza', 51);
-INSERT INTO "order" (id, description, customer_id) VALUES (2375, 'Gorgeous Plastic Pants', 75);
-INSERT INTO "order" (id, description, customer_id) VALUES (2376, 'Handcrafted Bronze Towels', 49);
-INSERT INTO "order" (id, description, customer_id) VALUES (2377, 'Small Cotton Salad', 36);
-INSERT INTO "order" (id, description, customer_id) VALUES (2378, 'Handcrafted Fresh Table', 51);
-INSERT INTO "order" (id, description, customer_id) VALUES (2379, 'Oriental Bronze Pants', 78);
-INSERT INTO "order" (id, description, customer_id) VALUES (2380, 'Fantastic Soft Fish', 7);
-INSERT INTO "order" (id, description, customer_id) VALUES (2381, 'Practical Plastic Shoes', 100);
-INSERT INTO "order" (id, description, customer_id) VALUES (2382, 'Modern Metal Hat', 22);
-INSERT INTO "order" (id, description, customer_id) VALUES (2383, 'Bespoke Rubber Keyboard', 39);
-INSERT INTO "order" (id, description, customer_id) VALUES (2384, 'Licensed Plastic Table', 43);
-INSERT INTO "order" (id, description, customer_id) VALUES (2385, 'Bespoke Concrete Table', 54);
-INSERT INTO "order" (id, description, customer_id) VALUES (2386, 'Practical Soft Chips', 92);
-INSERT INTO "order" (id, description, customer_id) VALUES (2387, 'Electronic Cotton Chair', 88);
-INSERT INTO "order" (id, description, customer_id) VALUES (2388, 'Generic Cotton Cheese', 98);
-INSERT INTO "order" (id, description, customer_id) VALUES (2389, 'Recycled Wooden Fish', 95);
-INSERT INTO "order" (id, description, customer_id) VALUES (2390, 'Awesome Fresh Bacon', 57);
-INSERT INTO "order" (id, description, customer_id) VALUES (2391, 'Intelligent Bronze Soap', 52);
-INSERT INTO "order" (id, description, customer_id) VALUES (2392, 'Intelligent Plastic Car', 60);
-INSERT INTO "order" (id, description, customer_id) VALUES (2393, 'Gorgeous Concrete Fish', 7);
-INSERT INTO "order" (id, description, customer_id) VALUES (2394, 'Handmade Concrete Mouse', 44);
-INSERT INTO "order" (id, description, customer_id) VALUES (2395, 'Refined Wooden Chicken', 76);
-INSERT INTO "order" (id, description, customer_id) VALUES (2396, 'Intelligent Plastic Chips', 80);
-INSERT INTO "order" (id, description, customer_id) VALUES (2397, 'Bespoke Metal Sausages', 51);
-INSERT INTO "order" (id, description, customer_id) VALUES (2398, 'Electronic Rubber Fish', 81);
-INSERT INTO "order" (id, description, customer_id) VALUES (2399, 'Unbranded Soft Keyboard', 93);
-INSERT INTO "order" (id, description, customer_id) VALUES (2400, 'Gorgeous Wooden Pizza', 89);
-INSERT INTO "order" (id, description, customer_id) VALUES (2401, 'Intelligent Rubber Sausages', 98);
-INSERT INTO "order" (id, description, customer_id) VALUES (2402, 'Ergonomic Soft Pizza', 32);
-INSERT INTO "order" (id, description, customer_id) VALUES (2403, 'Modern Fresh Pants', 59);
-INSERT INTO "order" (id, description, customer_id) VALUES (2404, 'Gorgeous Concrete Shirt', 31);
-INSERT INTO "order" (id, description, customer_id) VALUES (2405, 'Incredible Soft Pants', 21);
-INSERT INTO "order" (id, description, customer_id) VALUES (2406, 'Tasty Steel Car', 7);
-INSERT INTO "order" (id, description, customer_id) VALUES (2407, 'Rustic Metal Towels', 51);
-INSERT INTO "order" (id, description, customer_id) VALUES (2408, 'Practical Metal Bacon', 33);
-INSERT INTO "order" (id, description, customer_id) VALUES (2409, 'Small Metal Cheese', 89);
-INSERT INTO "order" (id, description, customer_id) VALUES (2410, 'Unbranded Plastic Sausages', 74);
-INSERT INTO "order" (id, description, customer_id) VALUES (2411, 'Gorgeous Concrete Sausages', 66);
-INSERT INTO "order" (id, description, customer_id) VALUES (2412, 'Practical Wooden Tuna', 29);
-INSERT INTO "order" (id, description, customer_id) VALUES (2413, 'Recycled Concrete Tuna', 57);
-INSERT INTO "order" (id, description, customer_id) VALUES (2414, 'Bespoke Concrete Bacon', 79);
-INSERT INTO "order" (id, description, customer_id) VALUES (2415, 'Bespoke Concrete Table', 58);
-INSERT INTO "order" (id, description, customer_id) VALUES (2416, 'Fantastic Soft Bike', 16);
-INSERT INTO "order" (id, description, customer_id) VALUES (2417, 'Handcrafted Metal Bacon', 32);
-INSERT INTO "order" (id, description, customer_id) VALUES (2418, 'Sleek Granite Pants', 67);
-INSERT INTO "order" (id, description, customer_id) VALUES (2419, 'Gorgeous Metal Table', 45);
-INSERT INTO "order" (id, description, customer_id) VALUES (2420, 'Handcrafted Soft Chicken', 9);
-INSERT INTO "order" (id, description, customer_id) VALUES (2421, 'Recycled Fresh Hat', 88);
-INSERT INTO "order" (id, description, customer_id) VALUES (2422, 'Rustic Wooden Shoes', 42);
-INSERT INTO "order" (id, description, customer_id) VALUES (2423, 'Sleek Rubber Salad', 45);
-INSERT INTO "order" (id, description, customer_id) VALUES (2424, 'Handmade Rubber Chair', 98);
-INSERT INTO "order" (id, description, customer_id) VALUES (2425, 'Oriental Granite Cheese', 54);
-INSERT INTO "order" (id, description, customer_id) VALUES (2426, 'Generic Cotton Gloves', 94);
-INSERT INTO "order" (id, description, customer_id) VALUES (2427, 'Practical Granite Table', 33);
-INSERT INTO "order" (id, description, customer_id) VALUES (2428, 'Small Wooden Tuna', 79);
-INSERT INTO "order" (id, description, customer_id) VALUES (2429, 'Practical Soft Shirt', 50);
-INSERT INTO "order" (id, description, customer_id) VALUES (2430, 'Rustic Rubber Car', 72);
-INSERT INTO "order" (id, description, customer_id) VALUES (2431, 'Luxurious Rubber Pants', 59);
-INSERT INTO "order" (id, description, customer_id) VALUES (2432, 'Recycled Steel Soap', 66);
-INSERT INTO "order" (id, description, customer_id) VALUES (2433, 'Refined Fresh Chicken', 32);
-INSERT INTO "order" (id, description, customer_id) VALUES (2434, 'Modern Cotton Shirt', 32);
-INSERT INTO "order" (id, description, customer_id) VALUES (2435, 'Practical Frozen Chips', 42);
-INSERT INTO "order" (id, description, customer_id) VALUES (2436, 'Tasty Concrete Soap', 13);
-INSERT INTO "order" (id, description, customer_id) VALUES (2437, 'Intelligent Plastic Cheese', 48);
-INSERT INTO "order" (id, description, customer_id) VALUES (2438, 'Refined Frozen Gloves', 61);
-INSERT INTO "order" (id, description, customer_id) VALUES (2439, 'Tasty Bronze Towels', 72);
-INSERT INTO "order" (id, description, customer_id) VALUES (2440, 'Recycled Fresh Fish', 51);
-INSERT INTO "order" (id, description, customer_id) VALUES (2441, 'Intelligent Concrete Bike', 15);
-INSERT INTO "order" (id, description, customer_id) VALUES (2442, 'Modern Granite Bacon', 24);
-INSERT INTO "order" (id, description, customer_id) VALUES (2443, 'Elegant Cotton Towels', 88);
-INSERT INTO "order" (id, description, customer_id) VALUES (2444, 'Tasty Wooden Pants', 5);
-INSERT INTO "order" (id, description, customer_id) VALUES (2445, 'Intelligent Steel Bacon', 52);
-INSERT INTO "order" (id, description, customer_id) VALUES (2446, 'Fantastic Plastic Bike', 85);
-INSERT INTO "order" (id, description, customer_id) VALUES (2447, 'Tasty Wooden Ball', 83);
-INSERT INTO "order" (id, description, customer_id) VALUES (2448, 'Fantastic Frozen Sausages', 77);
-INSERT INTO "order" (id, description, customer_id) VALUES (2449, 'Generic Frozen Salad', 73);
-INSERT INTO "order" (id, description, customer_id) VALUES (2450, 'Handmade Fresh Salad', 62);
-INSERT INTO "order" (id, description, customer_id) VALUES (2451, 'Licensed Frozen Gloves', 21);
-INSERT INTO "order" (id, description, customer_id) VALUES (2452, 'Gorgeous Granite Gloves', 83);
-INSERT INTO "order" (id, description, customer_id) VALUES (2453, 'Awesome Soft Towels', 60);
-INSERT INTO "order" (id, description, customer_id) VALUES (2454, 'Awesome Soft Chips', 23);
-INSERT INTO "order" (id, description, customer_id) VALUES (2455, 'Bespoke Soft Keyboard', 55);
-INSERT INTO "order" (id, description, customer_id) VALUES (2456, 'Oriental Steel Chicken', 63);
-INSERT INTO "order" (id, description, customer_id) VALUES (2457, 'Rustic Concrete Car', 80);
-INSERT INTO "order" (id, description, customer_id) VALUES (2458, 'Incredible Soft Bacon', 3);
-INSERT INTO "order" (id, description, customer_id) VALUES (2459, 'Luxurious Granite Shoes', 32);
-INSERT INTO "order" (id, description, customer_id) VALUES (2460, 'Luxurious Metal Hat', 58);
-INSERT INTO "order" (id, description, customer_id) VALUES (2461, 'Elegant Fresh Soap', 50);
-INSERT INTO "order" (id, description, customer_id) VALUES (2462, 'Bespoke Metal Fish', 91);
-INSERT INTO "order" (id, description, customer_id) VALUES (2463, 'Practical Fresh Chips', 33);
-INSERT INTO "order" (id, description, customer_id) VALUES (2464, 'Elegant Steel Salad', 54);
-INSERT INTO "order" (id, description, customer_id) VALUES (2465, 'Licensed Plastic Fish', 82);
-INSERT INTO "order" (id, description, customer_id) VALUES (2466, 'Ergonomic Soft Ball', 90);
-INSERT INTO "order" (id, description, customer_id) VALUES (2467, 'Intelligent Bronze Sausages', 2);
-INSERT INTO "order" (id, description, customer_id) VALUES (2468, 'Luxurious Bronze Table', 94);
-INSERT INTO "order" (id, description, customer_id) VALUES (2469, 'Licensed Steel Table', 27);
-INSERT INTO "order" (id, description, customer_id) VALUES (2470, 'Awesome Wooden Gloves', 34);
-INSERT INTO "order" (id, description, customer_id) VALUES (2471, 'Licensed Plastic Cheese', 17);
-INSERT INTO "order" (id, description, customer_id) VALUES (2472, 'Incredible Metal Keyboard', 74);
-INSERT INTO "order" (id, description, customer_id) VALUES (2473, 'Handmade Granite Shirt', 75);
-INSERT INTO "order" (id, description, customer_id) VALUES (2474, 'Generic Rubber Sausages', 3);
-INSERT INTO "order" (id, description, customer_id) VALUES (2475, 'Awesome Bronze Hat', 30);
-INSERT INTO "order" (id, description, customer_id) VALUES (2476, 'Sleek Cotton Bike', 63);
-INSERT INTO "order" (id, description, customer_id) VALUES (2477, 'Recycled Frozen Ball', 66);
-INSERT INTO "order" (id, description, customer_id) VALUES (2478, 'Ergonomic Fresh Tuna', 32);
-INSERT INTO "order" (id, description, customer_id) VALUES (2479, 'Tasty Steel Chair', 68);
-INSERT INTO "order" (id, description, customer_id) VALUES (2480, 'Luxurious Frozen Hat', 95);
-INSERT INTO "order" (id, description, customer_id) VALUES (2481, 'Luxurious Soft Salad', 2);
-INSERT INTO "order" (id, description, customer_id) VALUES (2482, 'Awesome Steel Cheese', 19);
-INSERT INTO "order" (id, description, customer_id) VALUES (2483, 'Incredible Plastic Pants', 96);
-INSERT INTO "order" (id, description, customer_id) VALUES (2484, 'Refined Frozen Salad', 70);
-INSERT INTO "order" (id, description, customer_id) VALUES (2485, 'Electronic Granite Shoes', 65);
-INSERT INTO "order" (id, description, customer_id) VALUES (2486, 'Fantastic Soft Bike', 66);
-INSERT INTO "order" (id, description, customer_id) VALUES (2487, 'Intelligent Metal Table', 87);
-INSERT INTO "order" (id, description, customer_id) VALUES (2488, 'Incredible Fresh Fish', 38);
-INSERT INTO "order" (id, description, customer_id) VALUES (2489, 'Recycled Cotton Towels', 10);
-INSERT INTO "order" (id, description, customer_id) VALUES (2490, 'Unbranded Bronze Pizza', 32);
-INSERT INTO "order" (id, description, customer_id) VALUES (2491, 'Generic Plastic Ball', 68);
-INSERT INTO "order" (id, description, customer_id) VALUES (2492, 'Luxurious Rubber Bike', 65);
-INSERT INTO "order" (id, description, customer_id) VALUES (2493, 'Unbranded Frozen Pants', 25);
-INSERT INTO "order" (id, description, customer_id) VALUES (2494, 'Oriental Rubber Computer', 65);
-INSERT INTO "order" (id, description, customer_id) VALUES (2495, 'Luxurious Metal Keyboard', 59);
-INSERT INTO "order" (id, description, customer_id) VALUES (2496, 'Gorgeous Soft Soap', 14);
-INSERT INTO "order" (id, description, customer_id) VALUES (2497, 'Handcrafted Soft Ball', 52);
-INSERT INTO "order" (id, description, customer_id) VALUES (2498, 'Ergonomic Cotton Pizza', 65);
-INSERT INTO "order" (id, description, customer_id) VALUES (2499, 'Refined Metal Towels', 53);
-INSERT INTO "order" (id, description, customer_id) VALUES (2500, 'Bespoke Soft Salad', 46);
-INSERT INTO "order" (id, description, customer_id) VALUES (2501, 'Intelligent Wooden Salad', 84);
-INSERT INTO "order" (id, description, customer_id) VALUES (2502, 'Luxurious Frozen Chair', 61);
-INSERT INTO "order" (id, description, customer_id) VALUES (2503, 'Modern Rubber Tuna', 40);
-INSERT INTO "order" (id, description, customer_id) VALUES (2504, 'Bespoke Rubber Fish', 77);
-INSERT INTO "order" (id, description, customer_id) VALUES (2505, 'Luxurious Plastic Fish', 72);
-INSERT INTO "order" (id, description, customer_id) VALUES (2506, 'Practical Metal Cheese', 19);
-INSERT INTO "order" (id, description, customer_id) VALUES (2507, 'Handcrafted Cotton Table', 6);
-INSERT INTO "order" (id, description, customer_id) VALUES (2508, 'Handmade Frozen Sausages', 9);
-INSERT INTO "order" (id, description, customer_id) VALUES (2509, 'Fantastic Frozen Towels', 38);
-INSERT INTO "order" (id, description, customer_id) VALUES (2510, 'Awesome Frozen Keyboard', 64);
-INSERT INTO "order" (id, description, customer_id) VALUES (2511, 'Sleek Cotton Shirt', 30);
-INSERT INTO "order" (id, description, customer_id) VALUES (2512, 'Handcrafted Concrete Chips', 23);
-INSERT INTO "order" (id, description, customer_id) VALUES (2513, 'Practical Cotton Hat', 27);
-INSERT INTO "order" (id, description, customer_id) VALUES (2514, 'Handmade Plastic Pants', 51);
-INSERT INTO "order" (id, description, customer_id) VALUES (2515, 'Tasty Plastic Chips', 5);
-INSERT INTO "order" (id, description, customer_id) VALUES (2516, 'Small Concrete Chair', 43);
-INSERT INTO "order" (id, description, customer_id) VALUES (2517, 'Electronic Metal Chair', 61);
-INSERT INTO "order" (id, description, customer_id) VALUES (2518, 'Handmade Wooden Sausages', 31);
-INSERT INTO "order" (id, description, customer_id) VALUES (2519, 'Awesome Cotton Table', 1);
-INSERT INTO "order" (id, description, customer_id) VALUES (2520, 'Generic Wooden Chicken', 85);
-INSERT INTO "order" (id, description, customer_id) VALUES (2521, 'Refined Metal Salad', 35);
-INSERT INTO "order" (id, description, customer_id) VALUES (2522, 'Ergonomic Granite Table', 51);
-INSERT INTO "order" (id, description, customer_id) VALUES (2523, 'Gorgeous Fresh Chicken', 82);
-INSERT INTO "order" (id, description, customer_id) VALUES (2524, 'Generic Bronze Table', 36);
-INSERT INTO "order" (id, description, customer_id) VALUES (2525, 'Sleek Wooden Fish', 5);
-INSERT INTO "order" (id, description, customer_id) VALUES (2526, 'Unbranded Wooden Ball', 25);
-INSERT INTO "order" (id, description, customer_id) VALUES (2527, 'Licensed Wooden Computer', 3);
-INSERT INTO "order" (id, description, customer_id) VALUES (2528, 'Modern Fresh Chair', 67);
-INSERT INTO "order" (id, description, customer_id) VALUES (2529, 'Practical Cotton Tuna', 29);
-INSERT INTO "order" (id, description, customer_id) VALUES (2530, 'Unbranded Metal Pizza', 89);
-INSERT INTO "order" (id, description, customer_id) VALUES (2531, 'Tasty Fresh Mouse', 61);
-INSERT INTO "order" (id, description, customer_id) VALUES (2532, 'Handcrafted Fresh Fish', 92);
-INSERT INTO "order" (id, description, customer_id) VALUES (2533, 'Ergonomic Rubber Shoes', 57);
-INSERT INTO "order" (id, description, customer_id) VALUES (2534, 'Electronic Granite Mouse', 71);
-INSERT INTO "order" (id, description, customer_id) VALUES (2535, 'Refined Rubber Cheese', 27);
-INSERT INTO "order" (id, description, customer_id) VALUES (2536, 'Electronic Plastic Bacon', 67);
-INSERT INTO "order" (id, description, customer_id) VALUES (2537, 'Bespoke Metal Chicken', 86);
-INSERT INTO "order" (id, description, customer_id) VALUES (2538, 'Unbranded Cotton Keyboard', 69);
-INSERT INTO "order" (id, description, customer_id) VALUES (2539, 'Electronic Concrete Pizza', 1);
-INSERT INTO "order" (id, description, customer_id) VALUES (2540, 'Luxurious Bronze Shoes', 21);
-INSERT INTO "order" (id, description, customer_id) VALUES (2541, 'Gorgeous Wooden Keyboard', 60);
-INSERT INTO "order" (id, description, customer_id) VALUES (2542, 'Awesome Cotton Cheese', 43);
-INSERT INTO "order" (id, description, customer_id) VALUES (2543, 'Fantastic Frozen Table', 89);
-INSERT INTO "order" (id, description, customer_id) VALUES (2544, 'Rustic Cotton Soap', 57);
-INSERT INTO "order" (id, description, customer_id) VALUES (2545, 'Luxurious Frozen Computer', 27);
-INSERT INTO "order" (id, description, customer_id) VALUES (2546, 'Fantastic Steel Hat', 1);
-INSERT INTO "order" (id, description, customer_id) VALUES (2547, 'Handmade Soft Sausages', 36);
-INSERT INTO "order" (id, description, customer_id) VALUES (2548, 'Awesome Granite Ball', 52);
-INSERT INTO "order" (id, description, customer_id) VALUES (2549, 'Elegant Plastic Mouse', 100);
-INSERT INTO "order" (id, description, customer_id) VALUES (2550, 'Oriental Bronze Pizza', 18);
-INSERT INTO "order" (id, description, customer_id) VALUES (2551, 'Practical Concrete Bacon', 62);
-INSERT INTO "order" (id, description, customer_id) VALUES (2552, 'Intelligent Plastic Pizza', 19);
-INSERT INTO "order" (id, description, customer_id) VALUES (2553, 'Licensed Rubber Gloves', 75);
-INSERT INTO "order" (id, description, customer_id) VALUES (2554, 'Practical Metal Bike', 100);
-INSERT INTO "order" (id, description, customer_id) VALUES (2555, 'Rustic Plastic Fish', 100);
-INSERT INTO "order" (id, description, customer_id) VALUES (2556, 'Intelligent Bronze Shoes', 93);
-INSERT INTO "order" (id, description, customer_id) VALUES (2557, 'Oriental Metal Bike', 13);
-INSERT INTO "order" (id, description, customer_id) VALUES (2558, 'Oriental Wooden Towels', 24);
-INSERT INTO "order" (id, description, customer_id) VALUES (2559, 'Incredible Soft Gloves', 28);
-INSERT INTO "order" (id, description, customer_id) VALUES (2560, 'Intelligent Steel Bacon', 58);
-INSERT INTO "order" (id, description, customer_id) VALUES (2561, 'Tasty Concrete Gloves', 56);
-INSERT INTO "order" (id, description, customer_id) VALUES (2562, 'Small Concrete Chips', 81);
-INSERT INTO "order" (id, description, customer_id) VALUES (2563, 'Refined Bronze Shirt', 49);
-INSERT INTO "order" (id, description, customer_id) VALUES (2564, 'Licensed Frozen Keyboard', 49);
-INSERT INTO "order" (id, description, customer_id) VALUES (2565, 'Incredible Cotton Hat', 17);
-INSERT INTO "order" (id, description, customer_id) VALUES (2566, 'Rustic Fresh Chair', 41);
-INSERT INTO "order" (id, description, customer_id) VALUES (2567, 'Fantastic Soft Sausages', 27);
-INSERT INTO "order" (id, description, customer_id) VALUES (2568, 'Gorgeous Soft Ball', 29);
-INSERT INTO "order" (id, description, customer_id) VALUES (2569, 'Oriental Concrete Pizza', 20);
-INSERT INTO "order" (id, description, customer_id) VALUES (2570, 'Rustic Concrete Hat', 50);
-INSERT INTO "order" (id, description, customer_id) VALUES (2571, 'Electronic Granite Shoes', 7);
-INSERT INTO "order" (id, description, customer_id) VALUES (2572, 'Unbranded Rubber Sausages', 80);
-INSERT INTO "order" (id, description, customer_id) VALUES (2573, 'Handcrafted Metal Mouse', 3);
-INSERT INTO "order" (id, description, customer_id) VALUES (2574, 'Handmade Metal Chips', 41);
-INSERT INTO "order" (id, description, customer_id) VALUES (2575, 'Oriental Bronze Bike', 68);
-INSERT INTO "order" (id, description, customer_id) VALUES (2576, 'Ergonomic Plastic Towels', 50);
-INSERT INTO "order" (id, description, customer_id) VALUES (2577, 'Sleek Fresh Car', 100);
-INSERT INTO "order" (id, description, customer_id) VALUES (2578, 'Rustic Metal Cheese', 24);
-INSERT INTO "order" (id, description, customer_id) VALUES (2579, 'Intelligent Bronze Shirt', 15);
-INSERT INTO "order" (id, description, customer_id) VALUES (2580, 'Electronic Fresh Sausages', 12);
-INSERT INTO "order" (id, description, customer_id) VALUES (2581, 'Handcrafted Granite Bike', 14);
-INSERT INTO "order" (id, description, customer_id) VALUES (2582, 'Recycled Soft Table', 27);
-INSERT INTO "order" (id, description, customer_id) VALUES (2583, 'Licensed Metal Sausages', 42);
-INSERT INTO "order" (id, description, customer_id) VALUES (2584, 'Sleek Soft Soap', 30);
-INSERT INTO "order" (id, description, customer_id) VALUES (2585, 'Awesome Metal Chair', 42);
-INSERT INTO "order" (id, description, customer_id) VALUES (2586, 'Oriental Rubber Computer', 59);
-INSERT INTO "order" (id, description, customer_id) VALUES (2587, 'Sleek Granite Chips', 6);
-INSERT INTO "order" (id, description, customer_id) VALUES (2588, 'Fantastic Soft Ball', 57);
-INSERT INTO "order" (id, description, customer_id) VALUES (2589, 'Rustic Metal Keyboard', 65);
-INSERT INTO "order" (id, description, customer_id) VALUES (2590, 'Modern Fresh Computer', 73);
-INSERT INTO "order" (id, description, customer_id) VALUES (2591, 'Elegant Bronze Chicken', 14);
-INSERT INTO "order" (id, description, customer_id) VALUES (2592, 'Awesome Concrete Towels', 7);
-INSERT INTO "order" (id, description, customer_id) VALUES (2593, 'Licensed Wooden Soap', 93);
-INSERT INTO "order" (id, description, customer_id) VALUES (2594, 'Modern Cotton Keyboard', 48);
-INSERT INTO "order" (id, description, customer_id) VALUES (2595, 'Refined Cotton Cheese', 98);
-INSERT INTO "order" (id, description, customer_id) VALUES (2596, 'Electronic Fresh Car', 30);
-INSERT INTO "order" (id, description, customer_id) VALUES (2597, 'Luxurious Rubber Chair', 89);
-INSERT INTO "order" (id, description, customer_id) VALUES (2598, 'Rustic Soft Pizza', 69);
-INSERT INTO "order" (id, description, customer_id) VALUES (2599, 'Licensed Wooden Cheese', 57);
-INSERT INTO "order" (id, description, customer_id) VALUES (2600, 'Handcrafted Metal Ball', 16);
-INSERT INTO "order" (id, description, customer_id) VALUES (2601, 'Oriental Soft Table', 90);
-INSERT INTO "order" (id, description, customer_id) VALUES (2602, 'Unbranded Steel Mouse', 80);
-INSERT INTO "order" (id, description, customer_id) VALUES (2603, 'Generic Concrete Gloves', 12);
-INSERT INTO "order" (id, description, customer_id) VALUES (2604, 'Sleek Plastic Bike', 94);
-INSERT INTO "order" (id, description, customer_id) VALUES (2605, 'Tasty Rubber Tuna', 2);
-INSERT INTO "order" (id, description, customer_id) VALUES (2606, 'Elegant Rubber Fish', 97);
-INSERT INTO "order" (id, description, customer_id) VALUES (2607, 'Awesome Fresh Gloves', 1);
-INSERT INTO "order" (id, description, customer_id) VALUES (2608, 'Handmade Steel Pizza', 70);
-INSERT INTO "order" (id, description, customer_id) VALUES (2609, 'Oriental Wooden Salad', 71);
-INSERT INTO "order" (id, description, customer_id) VALUES (2610, 'Luxurious Steel Bacon', 88);
-INSERT INTO "order" (id, description, customer_id) VALUES (2611, 'Awesome Plastic Gloves', 19);
-INSERT INTO "order" (id, description, customer_id) VALUES (2612, 'Electronic Fresh Chicken', 100);
-INSERT INTO "order" (id, description, customer_id) VALUES (2613, 'Awesome Rubber Ball', 4);
-INSERT INTO "order" (id, description, customer_id) VALUES (2614, 'Awesome Concrete Cheese', 17);
-INSERT INTO "order" (id, description, customer_id) VALUES (2615, 'Unbranded Wooden Mouse', 38);
-INSERT INTO "order" (id, description, customer_id) VALUES (2616, 'Small Concrete Hat', 13);
-INSERT INTO "order" (id, description, customer_id) VALUES (2617, 'Refined Granite Shirt', 18);
-INSERT INTO "order" (id, description, customer_id) VALUES (2618, 'Licensed Wooden Hat', 98);
-INSERT INTO "order" (id, description, customer_id) VALUES (2619, 'Practical Concrete Salad', 60);
-INSERT INTO "order" (id, description, customer_id) VALUES (2620, 'Licensed Frozen Chips', 58);
-INSERT INTO "order" (id, description, customer_id) VALUES (2621, 'Luxurious Concrete Towels', 91);
-INSERT INTO "order" (id, description, customer_id) VALUES (2622, 'Recycled Plastic Mouse', 95);
-INSERT INTO "order" (id, description, customer_id) VALUES (2623, 'Practical Concrete Pants', 81);
-INSERT INTO "order" (id, description, customer_id) VALUES (2624, 'Sleek Wooden Cheese', 65);
-INSERT INTO "order" (id, description, customer_id) VALUES (2625, 'Rustic Metal Pizza', 80);
-INSERT INTO "order" (id, description, customer_id) VALUES (2626, 'Practical Cotton Salad', 60);
-INSERT INTO "order" (id, description, customer_id) VALUES (2627, 'Handcrafted Cotton Computer', 22);
-INSERT INTO "order" (id, description, customer_id) VALUES (2628, 'Sleek Frozen Pants', 58);
-INSERT INTO "order" (id, description, customer_id) VALUES (2629, 'Refined Soft Chicken', 18);
-INSERT INTO "order" (id, description, customer_id) VALUES (2630, 'Ergonomic Cotton Sausages', 73);
-INSERT INTO "order" (id, description, customer_id) VALUES (2631, 'Oriental Wooden Shirt', 13);
-INSERT INTO "order" (id, description, customer_id) VALUES (2632, 'Sleek Wooden Bike', 84);
-INSERT INTO "order" (id, description, customer_id) VALUES (2633, 'Electronic Concrete Chips', 34);
-INSERT INTO "order" (id, description, customer_id) VALUES (2634, 'Incredible Concrete Table', 14);
-INSERT INTO "order" (id, description, customer_id) VALUES (2635, 'Licensed Wooden Keyboard', 13);
-INSERT INTO "order" (id, description, customer_id) VALUES (2636, 'Fantastic Soft Soap', 80);
-INSERT INTO "order" (id, description, customer_id) VALUES (2637, 'Tasty Metal Sausages', 76);
-INSERT INTO "order" (id, description, customer_id) VALUES (2638, 'Rustic Bronze Chair', 57);
-INSERT INTO "order" (id, description, customer_id) VALUES (2639, 'Tasty Bronze Shoes', 56);
-INSERT INTO "order" (id, description, customer_id) VALUES (2640, 'Gorgeous Steel Salad', 99);
-INSERT INTO "order" (id, description, customer_id) VALUES (2641, 'Rustic Fresh Pants', 83);
-INSERT INTO "order" (id, description, customer_id) VALUES (2642, 'Refined Concrete Bike', 24);
-INSERT INTO "order" (id, description, customer_id) VALUES (2643, 'Intelligent Fresh Pants', 91);
-INSERT INTO "order" (id, description, customer_id) VALUES (2644, 'Practical Soft Shirt', 52);
-INSERT INTO "order" (id, description, customer_id) VALUES (2645, 'Fantastic Steel Bike', 15);
-INSERT INTO "order" (id, description, customer_id) VALUES (2646, 'Handcrafted Wooden Pants', 99);
-INSERT INTO "order" (id, description, customer_id) VALUES (2647, 'Generic Concrete Towels', 60);
-INSERT INTO "order" (id, description, customer_id) VALUES (2648, 'Gorgeous Wooden Shirt', 34);
-INSERT INTO "order" (id, description, customer_id) VALUES (2649, 'Fantastic Soft Salad', 67);
-INSERT INTO "order" (id, description, customer_id) VALUES (2650, 'Licensed Bronze Chips', 29);
-INSERT INTO "order" (id, description, customer_id) VALUES (2651, 'Ergonomic Metal Bacon', 57);
-INSERT INTO "order" (id, description, customer_id) VALUES (2652, 'Oriental Steel Tuna', 5);
-INSERT INTO "order" (id, description, customer_id) VALUES (2653, 'Refined Rubber Car', 1);
-INSERT INTO "order" (id, description, customer_id) VALUES (2654, 'Modern Cotton Table', 23);
-INSERT INTO "order" (id, description, customer_id) VALUES (2655, 'Rustic Bronze Towels', 43);
-INSERT INTO "order" (id, description, customer_id) VALUES (2656, 'Unbranded Steel Sausages', 18);
-INSERT INTO "order" (id, description, customer_id) VALUES (2657, 'Refined Granite Chips', 89);
-INSERT INTO "order" (id, description, customer_id) VALUES (2658, 'Luxurious Concrete Fish', 8);
-INSERT INTO "order" (id, description, customer_id) VALUES (2659, 'Fantastic Fresh Towels', 45);
-INSERT INTO "order" (id, description, customer_id) VALUES (2660, 'Modern Cotton Salad', 94);
-INSERT INTO "order" (id, description, customer_id) VALUES (2661, 'Elegant Metal Shirt', 99);
-INSERT INTO "order" (id, description, customer_id) VALUES (2662, 'Rustic Frozen Bacon', 65);
-INSERT INTO "order" (id, description, customer_id) VALUES (2663, 'Awesome Granite Sausages', 45);
-INSERT INTO "order" (id, description, customer_id) VALUES (2664, 'Elegant Wooden Bacon', 39);
-INSERT INTO "order" (id, description, customer_id) VALUES (2665, 'Awesome Frozen Gloves', 86);
-INSERT INTO "order" (id, description, customer_id) VALUES (2666, 'Modern Soft Bacon', 25);
-INSERT INTO "order" (id, description, customer_id) VALUES (2667, 'Electronic Fresh Computer', 61);
-INSERT INTO "order" (id, description, customer_id) VALUES (2668, 'Sleek Steel Mouse', 42);
-INSERT INTO "order" (id, description, customer_id) VALUES (2669, 'Elegant Metal Table', 11);
-INSERT INTO "order" (id, description, customer_id) VALUES (2670, 'Recycled Frozen Mouse', 78);
-INSERT INTO "order" (id, description, customer_id) VALUES (2671, 'Fantastic Granite Bacon', 80);
-INSERT INTO "order" (id, description, customer_id) VALUES (2672, 'Handcrafted Wooden Pizza', 79);
-INSERT INTO "order" (id, description, customer_id) VALUES (2673, 'Ergonomic Cotton Chips', 12);
-INSERT INTO "order" (id, description, customer_id) VALUES (2674, 'Intelligent Soft Chips', 16);
-INSERT INTO "order" (id, description, customer_id) VALUES (2675, 'Electronic Bronze Mouse', 62);
-INSERT INTO "order" (id, description, customer_id) VALUES (2676, 'Bespoke Granite Shirt', 93);
-INSERT INTO "order" (id, description, customer_id) VALUES (2677, 'Awesome Wooden Hat', 53);
-INSERT INTO "order" (id, description, customer_id) VALUES (2678, 'Small Rubber Computer', 75);
-INSERT INTO "order" (id, description, customer_id) VALUES (2679, 'Small Plastic Pants', 82);
-INSERT INTO "order" (id, description, customer_id) VALUES (2680, 'Generic Steel Mouse', 47);
-INSERT INTO "order" (id, description, customer_id) VALUES (2681, 'Elegant Fresh Ball', 13);
-INSERT INTO "order" (id, description, customer_id) VALUES (2682, 'Luxurious Plastic Chair', 36);
-INSERT INTO "order" (id, description, customer_id) VALUES (2683, 'Handmade Frozen Fish', 70);
-INSERT INTO "order" (id, description, customer_id) VALUES (2684, 'Incredible Granite Towels', 22);
-INSERT INTO "order" (id, description, customer_id) VALUES (2685, 'Gorgeous Rubber Shirt', 70);
-INSERT INTO "order" (id, description, customer_id) VALUES (2686, 'Recycled Steel Chicken', 32);
-INSERT INTO "order" (id, description, customer_id) VALUES (2687, 'Ergonomic Cotton Sausages', 89);
-INSERT INTO "order" (id, description, customer_id) VALUES (2688, 'Elegant Wooden Sausages', 69);
-INSERT INTO "order" (id, description, customer_id) VALUES (2689, 'Small Plastic Pants', 60);
-INSERT INTO "order" (id, description, customer_id) VALUES (2690, 'Licensed Concrete Keyboard', 56);
-INSERT INTO "order" (id, description, customer_id) VALUES (2691, 'Gorgeous Granite Hat', 78);
-INSERT INTO "order" (id, description, customer_id) VALUES (2692, 'Practical Cotton Cheese', 4);
-INSERT INTO "order" (id, description, customer_id) VALUES (2693, 'Rustic Wooden Bike', 76);
-INSERT INTO "order" (id, description, customer_id) VALUES (2694, 'Practical Granite Towels', 63);
-INSERT INTO "order" (id, description, customer_id) VALUES (2695, 'Sleek Frozen Shoes', 20);
-INSERT INTO "order" (id, description, customer_id) VALUES (2696, 'Electronic Metal Chair', 79);
-INSERT INTO "order" (id, description, customer_id) VALUES (2697, 'Elegant Concrete Sausages', 54);
-INSERT INTO "order" (id, description, customer_id) VALUES (2698, 'Awesome Frozen Salad', 60);
-INSERT INTO "order" (id, description, customer_id) VALUES (2699, 'Licensed Rubber Chips', 91);
-INSERT INTO "order" (id, description, customer_id) VALUES (2700, 'Recycled Granite Shoes', 14);
-INSERT INTO "order" (id, description, customer_id) VALUES (2701, 'Elegant Metal Bacon', 78);
-INSERT INTO "order" (id, description, customer_id) VALUES (2702, 'Practical Wooden Computer', 45);
-INSERT INTO "order" (id, description, customer_id) VALUES (2703, 'Practical Fresh Sausages', 13);
-INSERT INTO "order" (id, description, customer_id) VALUES (2704, 'Practical Wooden Towels', 51);
-INSERT INTO "order" (id, description, customer_id) VALUES (2705, 'Awesome Fresh Tuna', 15);
-INSERT INTO "order" (id, description, customer_id) VALUES (2706, 'Gorgeous Wooden Tuna', 55);
-INSERT INTO "order" (id, description, customer_id) VALUES (2707, 'Practical Frozen Fish', 89);
-INSERT INTO "order" (id, description, customer_id) VALUES (2708, 'Licensed Bronze Pants', 94);
-INSERT INTO "order" (id, description, customer_id) VALUES (2709, 'Ergonomic Bronze Towels', 25);
-INSERT INTO "order" (id, description, customer_id) VALUES (2710, 'Elegant Frozen Shirt', 81);
-INSERT INTO "order" (id, description, customer_id) VALUES (2711, 'Refined Soft Towels', 48);
-INSERT INTO "order" (id, description, customer_id) VALUES (2712, 'Incredible Soft Ball', 36);
-INSERT INTO "order" (id, description, customer_id) VALUES (2713, 'Oriental Frozen Fish', 24);
-INSERT INTO "order" (id, description, customer_id) VALUES (2714, 'Awesome Frozen Tuna', 24);
-INSERT INTO "order" (id, description, customer_id) VALUES (2715, 'Ergonomic Rubber Pizza', 72);
-INSERT INTO "order" (id, description, customer_id) VALUES (2716, 'Gorgeous Plastic Soap', 8);
-INSERT INTO "order" (id, description, customer_id) VALUES (2717, 'Incredible Rubber Cheese', 78);
-INSERT INTO "order" (id, description, customer_id) VALUES (2718, 'Sleek Concrete Tuna', 27);
-INSERT INTO "order" (id, description, customer_id) VALUES (2719, 'Electronic Fresh Pizza', 13);
-INSERT INTO "order" (id, description, customer_id) VALUES (2720, 'Recycled Concrete Bike', 33);
-INSERT INTO "order" (id, description, customer_id) VALUES (2721, 'Generic Rubber Bacon', 85);
-INSERT INTO "order" (id, description, customer_id) VALUES (2722, 'Sleek Rubber Pants', 4);
-INSERT INTO "order" (id, description, customer_id) VALUES (2723, 'Fantastic Frozen Gloves', 54);
-INSERT INTO "order" (id, description, customer_id) VALUES (2724, 'Rustic Rubber Fish', 2);
-INSERT INTO "order" (id, description, customer_id) VALUES (2725, 'Gorgeous Bronze Tuna', 53);
-INSERT INTO "order" (id, description, customer_id) VALUES (2726, 'Awesome Granite Pizza', 62);
-INSERT INTO "order" (id, description, customer_id) VALUES (2727, 'Unbranded Frozen Shirt', 3);
-INSERT INTO "order" (id, description, customer_id) VALUES (2728, 'Licensed Plastic Shirt', 45);
-INSERT INTO "order" (id, description, customer_id) VALUES (2729, 'Oriental Granite Keyboard', 2);
-INSERT INTO "order" (id, description, customer_id) VALUES (2730, 'Refined Wooden Gloves', 34);
-INSERT INTO "order" (id, description, customer_id) VALUES (2731, 'Small Metal Keyboard', 65);
-INSERT INTO "order" (id, description, customer_id) VALUES (2732, 'Recycled Cotton Chips', 14);
-INSERT INTO "order" (id, description, customer_id) VALUES (2733, 'Small Cotton Cheese', 59);
-INSERT INTO "order" (id, description, customer_id) VALUES (2734, 'Bespoke Metal Tuna', 38);
-INSERT INTO "order" (id, description, customer_id) VALUES (2735, 'Intelligent Soft Tuna', 19);
-INSERT INTO "order" (id, description, customer_id) VALUES (2736, 'Tasty Granite Computer', 76);
-INSERT INTO "order" (id, description, customer_id) VALUES (2737, 'Incredible Steel Salad', 86);
-INSERT INTO "order" (id, description, customer_id) VALUES (2738, 'Tasty Cotton Pants', 34);
-INSERT INTO "order" (id, description, customer_id) VALUES (2739, 'Generic Concrete Bacon', 64);
-INSERT INTO "order" (id, description, customer_id) VALUES (2740, 'Refined Wooden Shirt', 86);
-INSERT INTO "order" (id, description, customer_id) VALUES (2741, 'Oriental Metal Tuna', 63);
-INSERT INTO "order" (id, description, customer_id) VALUES (2742, 'Electronic Rubber Tuna', 84);
-INSERT INTO "order" (id, description, customer_id) VALUES (2743, 'Handcrafted Frozen Keyboard', 22);
-INSERT INTO "order" (id, description, customer_id) VALUES (2744, 'Practical Cotton Pants', 82);
-INSERT INTO "order" (id, description, customer_id) VALUES (2745, 'Handcrafted Metal Chips', 49);
-INSERT INTO "order" (id, description, customer_id) VALUES (2746, 'Modern Metal Bacon', 40);
-INSERT INTO "order" (id, description, customer_id) VALUES (2747, 'Electronic Frozen Shirt', 5);
-INSERT INTO "order" (id, description, customer_id) VALUES (2748, 'Incredible Wooden Salad', 3);
-INSERT INTO "order" (id, description, customer_id) VALUES (2749, 'Handcrafted Concrete Chair', 28);
-INSERT INTO "order" (id, description, customer_id) VALUES (2750, 'Handmade Cotton Computer', 63);
-INSERT INTO "order" (id, description, customer_id) VALUES (2751, 'Elegant Cotton Mouse', 49);
-INSERT INTO "order" (id, description, customer_id) VALUES (2752, 'Unbranded Fresh Chair', 58);
-INSERT INTO "order" (id, description, customer_id) VALUES (2753, 'Refined Wooden Gloves', 41);
-INSERT INTO "order" (id, description, customer_id) VALUES (2754, 'Luxurious Plastic Pizza', 66);
-INSERT INTO "order" (id, description, customer_id) VALUES (2755, 'Modern Frozen Bacon', 82);
-INSERT INTO "order" (id, description, customer_id) VALUES (2756, 'Bespoke Bronze Soap', 9);
-INSERT INTO "order" (id, description, customer_id) VALUES (2757, 'Unbranded Concrete Fish', 98);
-INSERT INTO "order" (id, description, customer_id) VALUES (2758, 'Electronic Bronze Ball', 23);
-INSERT INTO "order" (id, description, customer_id) VALUES (2759, 'Recycled Steel Car', 96);
-INSERT INTO "order" (id, description, customer_id) VALUES (2760, 'Sleek Granite Towels', 72);
-INSERT INTO "order" (id, description, customer_id) VALUES (2761, 'Practical Granite Keyboard', 65);
-INSERT INTO "order" (id, description, customer_id) VALUES (2762, 'Incredible Metal Chips', 61);
-INSERT INTO "order" (id, description, customer_id) VALUES (2763, 'Licensed Fresh Chips', 87);
-INSERT INTO "order" (id, description, customer_id) VALUES (2764, 'Intelligent Bronze Mouse', 90);
-INSERT INTO "order" (id, description, customer_id) VALUES (2765, 'Generic Frozen Bike', 48);
-INSERT INTO "order" (id, description, customer_id) VALUES (2766, 'Modern Metal Chicken', 72);
-INSERT INTO "order" (id, description, customer_id) VALUES (2767, 'Handcrafted Concrete Car', 93);
-INSERT INTO "order" (id, description, customer_id) VALUES (2768, 'Licensed Wooden Gloves', 23);
-INSERT INTO "order" (id, description, customer_id) VALUES (2769, 'Rustic Bronze Shoes', 8);
-INSERT INTO "order" (id, description, customer_id) VALUES (2770, 'Fantastic Soft Towels', 49);
-INSERT INTO "order" (id, description, customer_id) VALUES (2771, 'Unbranded Steel Hat', 6);
-INSERT INTO "order" (id, description, customer_id) VALUES (2772, 'Unbranded Fresh Hat', 76);
-INSERT INTO "order" (id, description, customer_id) VALUES (2773, 'Fantastic Fresh Cheese', 36);
-INSERT INTO "order" (id, description, customer_id) VALUES (2774, 'Recycled Bronze Salad', 100);
-INSERT INTO "order" (id, description, customer_id) VALUES (2775, 'Recycled Rubber Sausages', 58);
-INSERT INTO "order" (id, description, customer_id) VALUES (2776, 'Generic Granite Sausages', 96);
-INSERT INTO "order" (id, description, customer_id) VALUES (2777, 'Bespoke Granite Pants', 95);
-INSERT INTO "order" (id, description, customer_id) VALUES (2778, 'Incredible Steel Pizza', 72);
-INSERT INTO "order" (id, description, customer_id) VALUES (2779, 'Small Plastic Bacon', 84);
-INSERT INTO "order" (id, description, customer_id) VALUES (2780, 'Small Soft Sausages', 47);
-INSERT INTO "order" (id, description, customer_id) VALUES (2781, 'Fantastic Wooden Computer', 30);
-INSERT INTO "order" (id, description, customer_id) VALUES (2782, 'Handmade Bronze Bike', 1);
-INSERT INTO "order" (id, description, customer_id) VALUES (2783, 'Refined Wooden Shoes', 97);
-INSERT INTO "order" (id, description, customer_id) VALUES (2784, 'Oriental Steel Keyboard', 57);
-INSERT INTO "order" (id, description, customer_id) VALUES (2785, 'Generic Granite Salad', 70);
-INSERT INTO "order" (id, description, customer_id) VALUES (2786, 'Handcrafted Fresh Shoes', 9);
-INSERT INTO "order" (id, description, customer_id) VALUES (2787, 'Sleek Metal Keyboard', 12);
-INSERT INTO "order" (id, description, customer_id) VALUES (2788, 'Modern Granite Fish', 70);
-INSERT INTO "order" (id, description, customer_id) VALUES (2789, 'Oriental Cotton Pants', 50);
-INSERT INTO "order" (id, description, customer_id) VALUES (2790, 'Rustic Rubber Bacon', 62);
-INSERT INTO "order" (id, description, customer_id) VALUES (2791, 'Sleek Cotton Sausages', 91);
-INSERT INTO "order" (id, description, customer_id) VALUES (2792, 'Unbranded Plastic Shirt', 22);
-INSERT INTO "order" (id, description, customer_id) VALUES (2793, 'Practical Metal Hat', 92);
-INSERT INTO "order" (id, description, customer_id) VALUES (2794, 'Handcrafted Wooden Sausages', 11);
-INSERT INTO "order" (id, description, customer_id) VALUES (2795, 'Bespoke Fresh Ball', 75);
-INSERT INTO "order" (id, description, customer_id) VALUES (2796, 'Handcrafted Frozen Keyboard', 56);
-INSERT INTO "order" (id, description, customer_id) VALUES (2797, 'Refined Soft Sausages', 90);
-INSERT INTO "order" (id, description, customer_id) VALUES (2798, 'Intelligent Plastic Computer', 96);
-INSERT INTO "order" (id, description, customer_id) VALUES (2799, 'Fantastic Concrete Bike', 39);
-INSERT INTO "order" (id, description, customer_id) VALUES (2800, 'Sleek Metal Table', 44);
-INSERT INTO "order" (id, description, customer_id) VALUES (2801, 'Fantastic Fresh Bacon', 66);
-INSERT INTO "order" (id, description, customer_id) VALUES (2802, 'Oriental Granite Gloves', 55);
-INSERT INTO "order" (id, description, customer_id) VALUES (2803, 'Luxurious Rubber Ball', 10);
-INSERT INTO "order" (id, description, customer_id) VALUES (2804, 'Handcrafted Plastic Mouse', 1);
-INSERT INTO "order" (id, description, customer_id) VALUES (2805, 'Licensed Bronze Pizza', 46);
-INSERT INTO "order" (id, description, customer_id) VALUES (2806, 'Awesome Frozen Chips', 98);
-INSERT INTO "order" (id, description, customer_id) VALUES (2807, 'Rustic Concrete Mouse', 79);
-INSERT INTO "order" (id, description, customer_id) VALUES (2808, 'Incredible Wooden Car', 91);
-INSERT INTO "order" (id, description, customer_id) VALUES (2809, 'Handcrafted Cotton Gloves', 78);
-INSERT INTO "order" (id, description, customer_id) VALUES (2810, 'Refined Granite Salad', 54);
-INSERT INTO "order" (id, description, customer_id) VALUES (2811, 'Modern Metal Chips', 70);
-INSERT INTO "order" (id, description, customer_id) VALUES (2812, 'Electronic Steel Bacon', 79);
-INSERT INTO "order" (id, description, customer_id) VALUES (2813, 'Oriental Fresh Table', 87);
-INSERT INTO "order" (id, description, customer_id) VALUES (2814, 'Unbranded Rubber Gloves', 30);
-INSERT INTO "order" (id, description, customer_id) VALUES (2815, 'Intelligent Wooden Shoes', 91);
-INSERT INTO "order" (id, description, customer_id) VALUES (2816, 'Rustic Metal Table', 37);
-INSERT INTO "order" (id, description, customer_id) VALUES (2817, 'Oriental Concrete Ball', 32);
-INSERT INTO "order" (id, description, customer_id) VALUES (2818, 'Oriental Rubber Bacon', 33);
-INSERT INTO "order" (id, description, customer_id) VALUES (2819, 'Incredible Cotton Sausages', 91);
-INSERT INTO "order" (id, description, customer_id) VALUES (2820, 'Luxurious Frozen Chicken', 18);
-INSERT INTO "order" (id, description, customer_id) VALUES (2821, 'Licensed Fresh Gloves', 62);
-INSERT INTO "order" (id, description, customer_id) VALUES (2822, 'Tasty Steel Shirt', 66);
-INSERT INTO "order" (id, description, customer_id) VALUES (2823, 'Practical Rubber Car', 32);
-INSERT INTO "order" (id, description, customer_id) VALUES (2824, 'Gorgeous Frozen Mouse', 89);
-INSERT INTO "order" (id, description, customer_id) VALUES (2825, 'Awesome Bronze Sausages', 48);
-INSERT INTO "order" (id, description, customer_id) VALUES (2826, 'Bespoke Fresh Keyboard', 9);
-INSERT INTO "order" (id, description, customer_id) VALUES (2827, 'Licensed Plastic Shoes', 82);
-INSERT INTO "order" (id, description, customer_id) VALUES (2828, 'Tasty Rubber Shirt', 72);
-INSERT INTO "order" (id, description, customer_id) VALUES (2829, 'Sleek Concrete Chicken', 53);
-INSERT INTO "order" (id, description, customer_id) VALUES (2830, 'Ergonomic Frozen Tuna', 64);
-INSERT INTO "order" (id, description, customer_id) VALUES (2831, 'Unbranded Frozen Cheese', 93);
-INSERT INTO "order" (id, description, customer_id) VALUES (2832, 'Luxurious Frozen Bike', 25);
-INSERT INTO "order" (id, description, customer_id) VALUES (2833, 'Practical Plastic Hat', 87);
-INSERT INTO "order" (id, description, customer_id) VALUES (2834, 'Unbranded Rubber Pizza', 77);
-INSERT INTO "order" (id, description, customer_id) VALUES (2835, 'Fantastic Plastic Computer', 88);
-INSERT INTO "order" (id, description, customer_id) VALUES (2836, 'Handmade Granite Bike', 11);
-INSERT INTO "order" (id, description, customer_id) VALUES (2837, 'Luxurious Steel Bacon', 49);
-INSERT INTO "order" (id, description, customer_id) VALUES (2838, 'Handcrafted Concrete Towels', 100);
-INSERT INTO "order" (id, description, customer_id) VALUES (2839, 'Bespoke Frozen Mouse', 99);
-INSERT INTO "order" (id, description, customer_id) VALUES (2840, 'Small Frozen Cheese', 44);
-INSERT INTO "order" (id, description, customer_id) VALUES (2841, 'Recycled Cotton Pizza', 75);
-INSERT INTO "order" (id, description, customer_id) VALUES (2842, 'Tasty Cotton Chips', 29);
-INSERT INTO "order" (id, description, customer_id) VALUES (2843, 'Practical Plastic Ball', 96);
-INSERT INTO "order" (id, description, customer_id) VALUES (2844, 'Unbranded Fresh Soap', 13);
-INSERT INTO "order" (id, description, customer_id) VALUES (2845, 'Luxurious Soft Gloves', 9);
-INSERT INTO "order" (id, description, customer_id) VALUES (2846, 'Unbranded Metal Salad', 14);
-INSERT INTO "order" (id, description, customer_id) VALUES (2847, 'Recycled Steel Pizza', 1);
-INSERT INTO "order" (id, description, customer_id) VALUES (2848, 'Refined Cotton Pizza', 57);
-INSERT INTO "order" (id, description, customer_id) VALUES (2849, 'Tasty Plastic Pizza', 72);
-INSERT INTO "order" (id, description, customer_id) VALUES (2850, 'Oriental Wooden Towels', 40);
-INSERT INTO "order" (id, description, customer_id) VALUES (2851, 'Handmade Soft Gloves', 48);
-INSERT INTO "order" (id, description, customer_id) VALUES (2852, 'Bespoke Wooden Chair', 99);
-INSERT INTO "order" (id, description, customer_id) VALUES (2853, 'Fantastic Concrete Hat', 2);
-INSERT INTO "order" (id, description, customer_id) VALUES (2854, 'Modern Metal Keyboard', 100);
-INSERT INTO "order" (id, description, customer_id) VALUES (2855, 'Awesome Granite Cheese', 45);
-INSERT INTO "order" (id, description, customer_id) VALUES (2856, 'Electronic Granite Bacon', 90);
-INSERT INTO "order" (id, description, customer_id) VALUES (2857, 'Bespoke Soft Fish', 45);
-INSERT INTO "order" (id, description, customer_id) VALUES (2858, 'Oriental Cotton Fish', 86);
-INSERT INTO "order" (id, description, customer_id) VALUES (2859, 'Generic Plastic Bike', 8);
-INSERT INTO "order" (id, description, customer_id) VALUES (2860, 'Intelligent Metal Pants', 31);
-INSERT INTO "order" (id, description, customer_id) VALUES (2861, 'Electronic Rubber Pizza', 61);
-INSERT INTO "order" (id, description, customer_id) VALUES (2862, 'Bespoke Rubber Chips', 3);
-INSERT INTO "order" (id, description, customer_id) VALUES (2863, 'Intelligent Rubber Bike', 56);
-INSERT INTO "order" (id, description, customer_id) VALUES (2864, 'Incredible Bronze Pizza', 53);
-INSERT INTO "order" (id, description, customer_id) VALUES (2865, 'Incredible Soft Pizza', 53);
-INSERT INTO "order" (id, description, customer_id) VALUES (2866, 'Recycled Fresh Sausages', 81);
-INSERT INTO "order" (id, description, customer_id) VALUES (2867, 'Electronic Rubber Shirt', 97);
-INSERT INTO "order" (id, description, customer_id) VALUES (2868, 'Incredible Plastic Chicken', 36);
-INSERT INTO "order" (id, description, customer_id) VALUES (2869, 'Licensed Soft Mouse', 69);
-INSERT INTO "order" (id, description, customer_id) VALUES (2870, 'Gorgeous Granite Computer', 95);
-INSERT INTO "order" (id, description, customer_id) VALUES (2871, 'Handmade Fresh Soap', 48);
-INSERT INTO "order" (id, description, customer_id) VALUES (2872, 'Fantastic Concrete Soap', 47);
-INSERT INTO "order" (id, description, customer_id) VALUES (2873, 'Gorgeous Frozen Bike', 53);
-INSERT INTO "order" (id, description, customer_id) VALUES (2874, 'Generic Concrete Chicken', 46);
-INSERT INTO "order" (id, description, customer_id) VALUES (2875, 'Generic Steel Car', 57);
-INSERT INTO "order" (id, description, customer_id) VALUES (2876, 'Handmade Concrete Sausages', 72);
-INSERT INTO "order" (id, description, customer_id) VALUES (2877, 'Recycled Cotton Pizza', 29);
-INSERT INTO "order" (id, description, customer_id) VALUES (2878, 'Recycled Steel Chair', 71);
-INSERT INTO "order" (id, description, customer_id) VALUES (2879, 'Luxurious Bronze Bike', 74);
-INSERT INTO "order" (id, description, customer_id) VALUES (2880, 'Small Metal Chips', 61);
-INSERT INTO "order" (id, description, customer_id) VALUES (2881, 'Incredible Bronze Tuna', 32);
-INSERT INTO "order" (id, description, customer_id) VALUES (2882, 'Handcrafted Bronze Hat', 29);
-INSERT INTO "order" (id, description, customer_id) VALUES (2883, 'Fantastic Plastic Table', 68);
-INSERT INTO "order" (id, description, customer_id) VALUES (2884, 'Modern Steel Soap', 43);
-INSERT INTO "order" (id, description, customer_id) VALUES (2885, 'Luxurious Concrete Table', 26);
-INSERT INTO "order" (id, description, customer_id) VALUES (2886, 'Sleek Granite Keyboard', 47);
-INSERT INTO "order" (id, description, customer_id) VALUES (2887, 'Modern Rubber Pizza', 87);
-INSERT INTO "order" (id, description, customer_id) VALUES (2888, 'Bespoke Fresh Chair', 53);
-INSERT INTO "order" (id, description, customer_id) VALUES (2889, 'Ergonomic Soft Towels', 76);
-INSERT INTO "order" (id, description, customer_id) VALUES (2890, 'Ergonomic Steel Gloves', 88);
-INSERT INTO "order" (id, description, customer_id) VALUES (2891, 'Recycled Cotton Chips', 54);
-INSERT INTO "order" (id, description, customer_id) VALUES (2892, 'Tasty Cotton Car', 5);
-INSERT INTO "order" (id, description, customer_id) VALUES (2893, 'Awesome Granite Soap', 68);
-INSERT INTO "order" (id, description, customer_id) VALUES (2894, 'Ergonomic Steel Car', 8);
-INSERT INTO "order" (id, description, customer_id) VALUES (2895, 'Licensed Metal Towels', 58);
-INSERT INTO "order" (id, description, customer_id) VALUES (2896, 'Small Granite Chips', 93);
-INSERT INTO "order" (id, description, customer_id) VALUES (2897, 'Ergonomic Steel Bike', 84);
-INSERT INTO "order" (id, description, customer_id) VALUES (2898, 'Sleek Bronze Salad', 4);
-INSERT INTO "order" (id, description, customer_id) VALUES (2899, 'Rustic Granite Salad', 20);
-INSERT INTO "order" (id, description, customer_id) VALUES (2900, 'Luxurious Plastic Mouse', 31);
-INSERT INTO "order" (id, description, customer_id) VALUES (2901, 'Practical Cotton Bike', 67);
-INSERT INTO "order" (id, description, customer_id) VALUES (2902, 'Practical Wooden Salad', 37);
-INSERT INTO "order" (id, description, customer_id) VALUES (2903, 'Generic Soft Cheese', 82);
-INSERT INTO "order" (id, description, customer_id) VALUES (2904, 'Small Fresh Cheese', 26);
-INSERT INTO "order" (id, description, customer_id) VALUES (2905, 'Modern Granite Sausages', 47);
-INSERT INTO "order" (id, description, customer_id) VALUES (2906, 'Modern Wooden Fish', 37);
-INSERT INTO "order" (id, description, customer_id) VALUES (2907, 'Rustic Granite Pizza', 11);
-INSERT INTO "order" (id, description, customer_id) VALUES (2908, 'Generic Wooden Table', 31);
-INSERT INTO "order" (id, description, customer_id) VALUES (2909, 'Elegant Bronze Sausages', 56);
-INSERT INTO "order" (id, description, customer_id) VALUES (2910, 'Bespoke Soft Hat', 32);
-INSERT INTO "order" (id, description, customer_id) VALUES (2911, 'Small Granite Fish', 93);
-INSERT INTO "order" (id, description, customer_id) VALUES (2912, 'Fantastic Frozen Shirt', 2);
-INSERT INTO "order" (id, description, customer_id) VALUES (2913, 'Tasty Rubber Car', 64);
-INSERT INTO "order" (id, description, customer_id) VALUES (2914, 'Electronic Soft Chips', 50);
-INSERT INTO "order" (id, description, customer_id) VALUES (2915, 'Awesome Plastic Table', 39);
-INSERT INTO "order" (id, description, customer_id) VALUES (2916, 'Refined Bronze Ball', 18);
-INSERT INTO "order" (id, description, customer_id) VALUES (2917, 'Fantastic Cotton Chips', 20);
-INSERT INTO "order" (id, description, customer_id) VALUES (2918, 'Fantastic Steel Shoes', 67);
-INSERT INTO "order" (id, description, customer_id) VALUES (2919, 'Awesome Plastic Chips', 69);
-INSERT INTO "order" (id, description, customer_id) VALUES (2920, 'Elegant Concrete Ball', 84);
-INSERT INTO "order" (id, description, customer_id) VALUES (2921, 'Fantastic Cotton Pants', 99);
-INSERT INTO "order" (id, description, customer_id) VALUES (2922, 'Handmade Fresh Shoes', 40);
-INSERT INTO "order" (id, description, customer_id) VALUES (2923, 'Handmade Soft Towels', 71);
-INSERT INTO "order" (id, description, customer_id) VALUES (2924, 'Oriental Concrete Table', 76);
-INSERT INTO "order" (id, description, customer_id) VALUES (2925, 'Practical Bronze Chair', 3);
-INSERT INTO "order" (id, description, customer_id) VALUES (2926, 'Fantastic Concrete Table', 91);
-INSERT INTO "order" (id, description, customer_id) VALUES (2927, 'Practical Plastic Computer', 84);
-INSERT INTO "order" (id, description, customer_id) VALUES (2928, 'Oriental Fresh Pizza', 87);
-INSERT INTO "order" (id, description, customer_id) VALUES (2929, 'Intelligent Rubber Fish', 69);
-INSERT INTO "order" (id, description, customer_id) VALUES (2930, 'Tasty Metal Sausages', 32);
-INSERT INTO "order" (id, description, customer_id) VALUES (2931, 'Modern Frozen Towels', 59);
-INSERT INTO "order" (id, description, customer_id) VALUES (2932, 'Elegant Soft Chicken', 47);
-INSERT INTO "order" (id, description, customer_id) VALUES (2933, 'Oriental Granite Chips', 24);
-INSERT INTO "order" (id, description, customer_id) VALUES (2934, 'Gorgeous Rubber Shirt', 71);
-INSERT INTO "order" (id, description, customer_id) VALUES (2935, 'Intelligent Steel Pants', 85);
-INSERT INTO "order" (id, description, customer_id) VALUES (2936, 'Small Metal Chicken', 22);
-INSERT INTO "order" (id, description, customer_id) VALUES (2937, 'Generic Plastic Cheese', 33);
-INSERT INTO "order" (id, description, customer_id) VALUES (2938, 'Rustic Rubber Gloves', 80);
-INSERT INTO "order" (id, description, customer_id) VALUES (2939, 'Small Wooden Soap', 81);
-INSERT INTO "order" (id, description, customer_id) VALUES (2940, 'Refined Metal Mouse', 98);
-INSERT INTO "order" (id, description, customer_id) VALUES (2941, 'Small Cotton Gloves', 80);
-INSERT INTO "order" (id, description, customer_id) VALUES (2942, 'Recycled Steel Pants', 87);
-INSERT INTO "order" (id, description, customer_id) VALUES (2943, 'Handcrafted Cotton Shoes', 9);
-INSERT INTO "order" (id, description, customer_id) VALUES (2944, 'Modern Cotton Pants', 13);
-INSERT INTO "order" (id, description, customer_id) VALUES (2945, 'Practical Bronze Gloves', 24);
-INSERT INTO "order" (id, description, customer_id) VALUES (2946, 'Handmade Wooden Bacon', 8);
-INSERT INTO "order" (id, description, customer_id) VALUES (2947, 'Bespoke Wooden Sausages', 93);
-INSERT INTO "order" (id, description, customer_id) VALUES (2948, 'Awesome Granite Car', 35);
-INSERT INTO "order" (id, description, customer_id) VALUES (2949, 'Elegant Bronze Hat', 37);
-INSERT INTO "order" (id, description, customer_id) VALUES (2950, 'Unbranded Plastic Car', 19);
-INSERT INTO "order" (id, description, customer_id) VALUES (2951, 'Incredible Fresh Car', 85);
-INSERT INTO "order" (id, description, customer_id) VALUES (2952, 'Fantastic Metal Hat', 92);
-INSERT INTO "order" (id, description, customer_id) VALUES (2953, 'Elegant Plastic Ball', 12);
-INSERT INTO "order" (id, description, customer_id) VALUES (2954, 'Bespoke Wooden Gloves', 41);
-INSERT INTO "order" (id, description, customer_id) VALUES (2955, 'Handmade Frozen Ball', 32);
-INSERT INTO "order" (id, description, customer_id) VALUES (2956, 'Recycled Frozen Gloves', 51);
-INSERT INTO "order" (id, description, customer_id) VALUES (2957, 'Rustic Bronze Computer', 83);
-INSERT INTO "order" (id, description, customer_id) VALUES (2958, 'Awesome Metal Table', 13);
-INSERT INTO "order" (id, description, customer_id) VALUES (2959, 'Practical Fresh Salad', 1);
-INSERT INTO "order" (id, description, customer_id) VALUES (2960, 'Awesome Cotton Sausages', 3);
-INSERT INTO "order" (id, description, customer_id) VALUES (2961, 'Intelligent Concrete Gloves', 100);
-INSERT INTO "order" (id, description, customer_id) VALUES (2962, 'Tasty Concrete Fish', 26);
-INSERT INTO "order" (id, description, customer_id) VALUES (2963, 'Luxurious Bronze Tuna', 34);
-INSERT INTO "order" (id, description, customer_id) VALUES (2964, 'Handcrafted Metal Chips', 55);
-INSERT INTO "order" (id, description, customer_id) VALUES (2965, 'Small Wooden Chicken', 30);
-INSERT INTO "order" (id, description, customer_id) VALUES (2966, 'Small Concrete Keyboard', 66);
-INSERT INTO "order" (id, description, customer_id) VALUES (2967, 'Handcrafted Frozen Keyboard', 44);
-INSERT INTO "order" (id, description, customer_id) VALUES (2968, 'Small Steel Computer', 97);
-INSERT INTO "order" (id, description, customer_id) VALUES (2969, 'Licensed Plastic Sausages', 35);
-INSERT INTO "order" (id, description, customer_id) VALUES (2970, 'Fantastic Wooden Chicken', 68);
-INSERT INTO "order" (id, description, customer_id) VALUES (2971, 'Gorgeous Steel Cheese', 8);
-INSERT INTO "order" (id, description, customer_id) VALUES (2972, 'Gorgeous Steel Bike', 16);
-INSERT INTO "order" (id, description, customer_id) VALUES (2973, 'Tasty Granite Shoes', 82);
-INSERT INTO "order" (id, description, customer_id) VALUES (2974, 'Electronic Cotton Towels', 60);
-INSERT INTO "order" (id, description, customer_id) VALUES (2975, 'Bespoke Granite Fish', 8);
-INSERT INTO "order" (id, description, customer_id) VALUES (2976, 'Elegant Bronze Chips', 95);
-INSERT INTO "order" (id, description, customer_id) VALUES (2977, 'Oriental Granite Car', 37);
-INSERT INTO "order" (id, description, customer_id) VALUES (2978, 'Recycled Cotton Fish', 75);
-INSERT INTO "order" (id, description, customer_id) VALUES (2979, 'Refined Bronze Shirt', 12);
-INSERT INTO "order" (id, description, customer_id) VALUES (2980, 'Handcrafted Metal Salad', 12);
-INSERT INTO "order" (id, description, customer_id) VALUES (2981, 'Bespoke Steel Salad', 70);
-INSERT INTO "order" (id, description, customer_id) VALUES (2982, 'Handmade Frozen Chair', 34);
-INSERT INTO "order" (id, description, customer_id) VALUES (2983, 'Recycled Steel Mouse', 34);
-INSERT INTO "order" (id, description, customer_id) VALUES (2984, 'Tasty Rubber Sausages', 79);
-INSERT INTO "order" (id, description, customer_id) VALUES (2985, 'Practical Metal Towels', 88);
-INSERT INTO "order" (id, description, customer_id) VALUES (2986, 'Refined Fresh Hat', 42);
-INSERT INTO "order" (id, description, customer_id) VALUES (2987, 'Gorgeous Wooden Pizza', 21);
-INSERT INTO "order" (id, description, customer_id) VALUES (2988, 'Fantastic Soft Pants', 25);
-INSERT INTO "order" (id, description, customer_id) VALUES (2989, 'Recycled Frozen Pizza', 48);
-INSERT INTO "order" (id, description, customer_id) VALUES (2990, 'Gorgeous Frozen Sausages', 77);
-INSERT INTO "order" (id, description, customer_id) VALUES (2991, 'Practical Granite Table', 6);
-INSERT INTO "order" (id, description, customer_id) VALUES (2992, 'Handcrafted Metal Salad', 23);
-INSERT INTO "order" (id, description, customer_id) VALUES (2993, 'Tasty Wooden Gloves', 32);
-INSERT INTO "order" (id, description, customer_id) VALUES (2994, 'Rustic Concrete Chips', 34);
-INSERT INTO "order" (id, description, customer_id) VALUES (2995, 'Licensed Granite Shoes', 71);
-INSERT INTO "order" (id, description, customer_id) VALUES (2996, 'Unbranded Plastic Towels', 72);
-INSERT INTO "order" (id, description, customer_id) VALUES (2997, 'Luxurious Plastic Salad', 89);
-INSERT INTO "order" (id, description, customer_id) VALUES (2998, 'Recycled Concrete Shirt', 33);
-INSERT INTO "order" (id, description, customer_id) VALUES (2999, 'Ergonomic Frozen Hat', 15);
-INSERT INTO "order" (id, description, customer_id) VALUES (3000, 'Modern Cotton Towels', 15);
-INSERT INTO "order" (id, description, customer_id) VALUES (3001, 'Ergonomic Bronze Ball', 67);
-INSERT INTO "order" (id, description, customer_id) VALUES (3002, 'Incredible Metal Gloves', 37);
-INSERT INTO "order" (id, description, customer_id) VALUES (3003, 'Handcrafted Bronze Pants', 31);
-INSERT INTO "order" (id, description, customer_id) VALUES (3004, 'Tasty Cotton Car', 54);
-INSERT INTO "order" (id, description, customer_id) VALUES (3005, 'Recycled Cotton Shoes', 94);
-INSERT INTO "order" (id, description, customer_id) VALUES (3006, 'Incredible Bronze Sausages', 41);
-INSERT INTO "order" (id, description, customer_id) VALUES (3007, 'Recycled Concrete Chair', 84);
-INSERT INTO "order" (id, description, customer_id) VALUES (3008, 'Ergonomic Plastic Tuna', 86);
-INSERT INTO "order" (id, description, customer_id) VALUES (3009, 'Electronic Wooden Computer', 56);
-INSERT INTO "order" (id, description, customer_id) VALUES (3010, 'Awesome Metal Shirt', 41);
-INSERT INTO "order" (id, description, customer_id) VALUES (3011, 'Small Fresh Mouse', 48);
-INSERT INTO "order" (id, description, customer_id) VALUES (3012, 'Modern Wooden Chicken', 79);
-INSERT INTO "order" (id, description, customer_id) VALUES (3013, 'Luxurious Frozen Towels', 57);
-INSERT INTO "order" (id, description, customer_id) VALUES (3014, 'Small Fresh Soap', 74);
-INSERT INTO "order" (id, description, customer_id) VALUES (3015, 'Tasty Bronze Bacon', 18);
-INSERT INTO "order" (id, description, customer_id) VALUES (3016, 'Fantastic Metal Chips', 61);
-INSERT INTO "order" (id, description, customer_id) VALUES (3017, 'Ergonomic Fresh Mouse', 29);
-INSERT INTO "order" (id, description, customer_id) VALUES (3018, 'Awesome Steel Fish', 45);
-INSERT INTO "order" (id, description, customer_id) VALUES (3019, 'Refined Plastic Car', 49);
-INSERT INTO "order" (id, description, customer_id) VALUES (3020, 'Elegant Fresh Fish', 100);
-INSERT INTO "order" (id, description, customer_id) VALUES (3021, 'Unbranded Plastic Salad', 36);
-INSERT INTO "order" (id, description, customer_id) VALUES (3022, 'Generic Metal Sausages', 19);
-INSERT INTO "order" (id, description, customer_id) VALUES (3023, 'Intelligent Frozen Mouse', 81);
-INSERT INTO "order" (id, description, customer_id) VALUES (3024, 'Luxurious Cotton Fish', 89);
-INSERT INTO "order" (id, description, customer_id) VALUES (3025, 'Licensed Granite Chicken', 15);
-INSERT INTO "order" (id, description, customer_id) VALUES (3026, 'Ergonomic Plastic Tuna', 25);
-INSERT INTO "order" (id, description, customer_id) VALUES (3027, 'Incredible Steel Bacon', 87);
-INSERT INTO "order" (id, description, customer_id) VALUES (3028, 'Bespoke Bronze Table', 87);
-INSERT INTO "order" (id, description, customer_id) VALUES (3029, 'Unbranded Metal Sausages', 89);
-INSERT INTO "order" (id, description, customer_id) VALUES (3030, 'Rustic Granite Chair', 62);
-INSERT INTO "order" (id, description, customer_id) VALUES (3031, 'Practical Metal Mouse', 88);
-INSERT INTO "order" (id, description, customer_id) VALUES (3032, 'Small Bronze Hat', 20);
-INSERT INTO "order" (id, description, customer_id) VALUES (3033, 'Bespoke Steel Fish', 3);
-INSERT INTO "order" (id, description, customer_id) VALUES (3034, 'Refined Fresh Cheese', 44);
-INSERT INTO "order" (id, description, customer_id) VALUES (3035, 'Awesome Rubber Tuna', 76);
-INSERT INTO "order" (id, description, customer_id) VALUES (3036, 'Generic Wooden Towels', 14);
-INSERT INTO "order" (id, description, customer_id) VALUES (3037, 'Licensed Granite Towels', 75);
-INSERT INTO "order" (id, description, customer_id) VALUES (3038, 'Practical Fresh Salad', 36);
-INSERT INTO "order" (id, description, customer_id) VALUES (3039, 'Practical Cotton Ball', 20);
-INSERT INTO "order" (id, description, customer_id) VALUES (3040, 'Small Bronze Car', 100);
-INSERT INTO "order" (id, description, customer_id) VALUES (3041, 'Oriental Frozen Ball', 72);
-INSERT INTO "order" (id, description, customer_id) VALUES (3042, 'Recycled Plastic Pizza', 32);
-INSERT INTO "order" (id, description, customer_id) VALUES (3043, 'Recycled Frozen Chair', 73);
-INSERT INTO "order" (id, description, customer_id) VALUES (3044, 'Incredible Frozen Sausages', 58);
-INSERT INTO "order" (id, description, customer_id) VALUES (3045, 'Practical Metal Shirt', 77);
-INSERT INTO "order" (id, description, customer_id) VALUES (3046, 'Luxurious Steel Bike', 53);
-INSERT INTO "order" (id, description, customer_id) VALUES (3047, 'Bespoke Steel Pants', 72);
-INSERT INTO "order" (id, description, customer_id) VALUES (3048, 'Rustic Granite Car', 70);
-INSERT INTO "order" (id, description, customer_id) VALUES (3049, 'Tasty Granite Pants', 67);
-INSERT INTO "order" (id, description, customer_id) VALUES (3050, 'Awesome Concrete Salad', 95);
-INSERT INTO "order" (id, description, customer_id) VALUES (3051, 'Ergonomic Granite Pants', 86);
-INSERT INTO "order" (id, description, customer_id) VALUES (3052, 'Practical Bronze Shoes', 36);
-INSERT INTO "order" (id, description, customer_id) VALUES (3053, 'Gorgeous Frozen Chair', 67);
-INSERT INTO "order" (id, description, customer_id) VALUES (3054, 'Electronic Fresh Table', 10);
-INSERT INTO "order" (id, description, customer_id) VALUES (3055, 'Practical Granite Computer', 32);
-INSERT INTO "order" (id, description, customer_id) VALUES (3056, 'Oriental Frozen Shirt', 38);
-INSERT INTO "order" (id, description, customer_id) VALUES (3057, 'Practical Cotton Tuna', 56);
-INSERT INTO "order" (id, description, customer_id) VALUES (3058, 'Awesome Cotton Ball', 86);
-INSERT INTO "order" (id, description, customer_id) VALUES (3059, 'Licensed Rubber Chips', 24);
-INSERT INTO "order" (id, description, customer_id) VALUES (3060, 'Handmade Cotton Towels', 97);
-INSERT INTO "order" (id, description, customer_id) VALUES (3061, 'Generic Fresh Bike', 44);
-INSERT INTO "order" (id, description, customer_id) VALUES (3062, 'Elegant Plastic Tuna', 22);
-INSERT INTO "order" (id, description, customer_id) VALUES (3063, 'Gorgeous Granite Fish', 17);
-INSERT INTO "order" (id, description, customer_id) VALUES (3064, 'Modern Soft Tuna', 56);
-INSERT INTO "order" (id, description, customer_id) VALUES (3065, 'Generic Bronze Chair', 83);
-INSERT INTO "order" (id, description, customer_id) VALUES (3066, 'Recycled Bronze Ball', 87);
-INSERT INTO "order" (id, description, customer_id) VALUES (3067, 'Intelligent Soft Pizza', 86);
-INSERT INTO "order" (id, description, customer_id) VALUES (3068, 'Oriental Fresh Car', 1);
-INSERT INTO "order" (id, description, customer_id) VALUES (3069, 'Rustic Wooden Bacon', 76);
-INSERT INTO "order" (id, description, customer_id) VALUES (3070, 'Tasty Granite Pizza', 30);
-INSERT INTO "order" (id, description, customer_id) VALUES (3071, 'Bespoke Rubber Bike', 62);
-INSERT INTO "order" (id, description, customer_id) VALUES (3072, 'Refined Plastic Salad', 82);
-INSERT INTO "order" (id, description, customer_id) VALUES (3073, 'Ergonomic Soft Towels', 47);
-INSERT INTO "order" (id, description, customer_id) VALUES (3074, 'Recycled Plastic Table', 13);
-INSERT INTO "order" (id, description, customer_id) VALUES (3075, 'Luxurious Granite Towels', 49);
-INSERT INTO "order" (id, description, customer_id) VALUES (3076, 'Oriental Frozen Bike', 93);
-INSERT INTO "order" (id, description, customer_id) VALUES (3077, 'Elegant Steel Table', 72);
-INSERT INTO "order" (id, description, customer_id) VALUES (3078, 'Fantastic Steel Car', 50);
-INSERT INTO "order" (id, description, customer_id) VALUES (3079, 'Fantastic Steel Tuna', 88);
-INSERT INTO "order" (id, description, customer_id) VALUES (3080, 'Awesome Bronze Chicken', 8);
-INSERT INTO "order" (id, description, customer_id) VALUES (3081, 'Electronic Cotton Soap', 70);
-INSERT INTO "order" (id, description, customer_id) VALUES (3082, 'Fantastic Frozen Car', 100);
-INSERT INTO "order" (id, description, customer_id) VALUES (3083, 'Ergonomic Frozen Bacon', 9);
-INSERT INTO "order" (id, description, customer_id) VALUES (3084, 'Gorgeous Cotton Car', 86);
-INSERT INTO "order" (id, description, customer_id) VALUES (3085, 'Unbranded Fresh Chair', 85);
-INSERT INTO "order" (id, description, customer_id) VALUES (3086, 'Handmade Frozen Chair', 16);
-INSERT INTO "order" (id, description, customer_id) VALUES (3087, 'Incredible Rubber Gloves', 18);
-INSERT INTO "order" (id, description, customer_id) VALUES (3088, 'Gorgeous Steel Cheese', 52);
-INSERT INTO "order" (id, description, customer_id) VALUES (3089, 'Generic Soft Bacon', 97);
-INSERT INTO "order" (id, description, customer_id) VALUES (3090, 'Tasty Cotton Keyboard', 16);
-INSERT INTO "order" (id, description, customer_id) VALUES (3091, 'Ergonomic Steel Fish', 77);
-INSERT INTO "order" (id, description, customer_id) VALUES (3092, 'Fantastic Granite Tuna', 77);
-INSERT INTO "order" (id, description, customer_id) VALUES (3093, 'Bespoke Plastic Hat', 18);
-INSERT INTO "order" (id, description, customer_id) VALUES (3094, 'Modern Rubber Table', 71);
-INSERT INTO "order" (id, description, customer_id) VALUES (3095, 'Small Rubber Car', 60);
-INSERT INTO "order" (id, description, customer_id) VALUES (3096, 'Gorgeous Granite Table', 32);
-INSERT INTO "order" (id, description, customer_id) VALUES (3097, 'Bespoke Steel Chips', 32);
-INSERT INTO "order" (id, description, customer_id) VALUES (3098, 'Unbranded Bronze Chicken', 60);
-INSERT INTO "order" (id, description, customer_id) VALUES (3099, 'Modern Soft Mouse', 14);
-INSERT INTO "order" (id, description, customer_id) VALUES (3100, 'Bespoke Metal Soap', 23);
-INSERT INTO "order" (id, description, customer_id) VALUES (3101, 'Refined Soft Car', 10);
-INSERT INTO "order" (id, description, customer_id) VALUES (3102, 'Recycled Concrete Bike', 5);
-INSERT INTO "order" (id, description, customer_id) VALUES (3103, 'Unbranded Bronze Gloves', 59);
-INSERT INTO "order" (id, description, customer_id) VALUES (3104, 'Small Fresh Sausages', 25);
-INSERT INTO "order" (id, description, customer_id) VALUES (3105, 'Licensed Rubber Cheese', 75);
-INSERT INTO "order" (id, description, customer_id) VALUES (3106, 'Practical Frozen Ball', 44);
-INSERT INTO "order" (id, description, customer_id) VALUES (3107, 'Refined Steel Chicken', 66);
-INSERT INTO "order" (id, description, customer_id) VALUES (3108, 'Tasty Soft Soap', 20);
-INSERT INTO "order" (id, description, customer_id) VALUES (3109, 'Incredible Granite Hat', 80);
-INSERT INTO "order" (id, description, customer_id) VALUES (3110, 'Recycled Cotton Shirt', 93);
-INSERT INTO "order" (id, description, customer_id) VALUES (3111, 'Awesome Soft Shirt', 40);
-INSERT INTO "order" (id, description, customer_id) VALUES (3112, 'Tasty Plastic Shirt', 22);
-INSERT INTO "order" (id, description, customer_id) VALUES (3113, 'Tasty Bronze Shirt', 56);
-INSERT INTO "order" (id, description, customer_id) VALUES (3114, 'Gorgeous Concrete Shirt', 84);
-INSERT INTO "order" (id, description, customer_id) VALUES (3115, 'Modern Granite Car', 60);
-INSERT INTO "order" (id, description, customer_id) VALUES (3116, 'Intelligent Plastic Computer', 29);
-INSERT INTO "order" (id, description, customer_id) VALUES (3117, 'Small Metal Cheese', 85);
-INSERT INTO "order" (id, description, customer_id) VALUES (3118, 'Modern Metal Chicken', 1);
-INSERT INTO "order" (id, description, customer_id) VALUES (3119, 'Licensed Wooden Chair', 25);
-INSERT INTO "order" (id, description, customer_id) VALUES (3120, 'Modern Soft Shoes', 41);
-INSERT INTO "order" (id, description, customer_id) VALUES (3121, 'Rustic Plastic Pizza', 21);
-INSERT INTO "order" (id, description, customer_id) VALUES (3122, 'Generic Steel Soap', 40);
-INSERT INTO "order" (id, description, customer_id) VALUES (3123, 'Gorgeous Plastic Pizza', 36);
-INSERT INTO "order" (id, description, customer_id) VALUES (3124, 'Electronic Plastic Chair', 93);
-INSERT INTO "order" (id, description, customer_id) VALUES (3125, 'Elegant Wooden Bike', 12);
-INSERT INTO "order" (id, description, customer_id) VALUES (3126, 'Generic Wooden Pizza', 25);
-INSERT INTO "order" (id, description, customer_id) VALUES (3127, 'Awesome Cotton Salad', 80);
-INSERT INTO "order" (id, description, customer_id) VALUES (3128, 'Small Fresh Towels', 20);
-INSERT INTO "order" (id, description, customer_id) VALUES (3129, 'Refined Granite Chips', 49);
-INSERT INTO "order" (id, description, customer_id) VALUES (3130, 'Tasty Bronze Salad', 45);
-INSERT INTO "order" (id, description, customer_id) VALUES (3131, 'Generic Frozen Soap', 29);
-INSERT INTO "order" (id, description, customer_id) VALUES (3132, 'Refined Metal Sausages', 19);
-INSERT INTO "order" (id, description, customer_id) VALUES (3133, 'Tasty Frozen Tuna', 70);
-INSERT INTO "order" (id, description, customer_id) VALUES (3134, 'Generic Granite Ball', 77);
-INSERT INTO "order" (id, description, customer_id) VALUES (3135, 'Ergonomic Rubber Sausages', 30);
-INSERT INTO "order" (id, description, customer_id) VALUES (3136, 'Generic Frozen Tuna', 99);
-INSERT INTO "order" (id, description, customer_id) VALUES (3137, 'Handcrafted Soft Towels', 26);
-INSERT INTO "order" (id, description, customer_id) VALUES (3138, 'Ergonomic Plastic Shoes', 99);
-INSERT INTO "order" (id, description, customer_id) VALUES (3139, 'Intelligent Soft Car', 67);
-INSERT INTO "order" (id, description, customer_id) VALUES (3140, 'Fantastic Frozen Bacon', 11);
-INSERT INTO "order" (id, description, customer_id) VALUES (3141, 'Oriental Steel Bacon', 97);
-INSERT INTO "order" (id, description, customer_id) VALUES (3142, 'Intelligent Wooden Shoes', 16);
-INSERT INTO "order" (id, description, customer_id) VALUES (3143, 'Practical Cotton Car', 32);
-INSERT INTO "order" (id, description, customer_id) VALUES (3144, 'Gorgeous Concrete Hat', 45);
-INSERT INTO "order" (id, description, customer_id) VALUES (3145, 'Practical Wooden Hat', 6);
-INSERT INTO "order" (id, description, customer_id) VALUES (3146, 'Awesome Soft Pizza', 74);
-INSERT INTO "order" (id, description, customer_id) VALUES (3147, 'Sleek Cotton Hat', 26);
-INSERT INTO "order" (id, description, customer_id) VALUES (3148, 'Rustic Frozen Pants', 62);
-INSERT INTO "order" (id, description, customer_id) VALUES (3149, 'Modern Steel Sausages', 77);
-INSERT INTO "order" (id, description, customer_id) VALUES (3150, 'Tasty Metal Gloves', 29);
-INSERT INTO "order" (id, description, customer_id) VALUES (3151, 'Rustic Metal Bike', 66);
-INSERT INTO "order" (id, description, customer_id) VALUES (3152, 'Awesome Steel Mouse', 83);
-INSERT INTO "order" (id, description, customer_id) VALUES (3153, 'Luxurious Cotton Shoes', 84);
-INSERT INTO "order" (id, description, customer_id) VALUES (3154, 'Elegant Metal Pizza', 41);
-INSERT INTO "order" (id, description, customer_id) VALUES (3155, 'Intelligent Steel Fish', 65);
-INSERT INTO "order" (id, description, customer_id) VALUES (3156, 'Incredible Bronze Soap', 85);
-INSERT INTO "order" (id, description, customer_id) VALUES (3157, 'Gorgeous Wooden Computer', 1);
-INSERT INTO "order" (id, description, customer_id) VALUES (3158, 'Intelligent Steel Car', 94);
-INSERT INTO "order" (id, description, customer_id) VALUES (3159, 'Incredible Steel Keyboard', 63);
-INSERT INTO "order" (id, description, customer_id) VALUES (3160, 'Refined Fresh Fish', 71);
-INSERT INTO "order" (id, description, customer_id) VALUES (3161, 'Oriental Soft Bacon', 57);
-INSERT INTO "order" (id, description, customer_id) VALUES (3162, 'Luxurious Fresh Bacon', 99);
-INSERT INTO "order" (id, description, customer_id) VALUES (3163, 'Refined Soft Fish', 31);
-INSERT INTO "order" (id, description, customer_id) VALUES (3164, 'Fantastic Fresh Chicken', 25);
-INSERT INTO "order" (id, description, customer_id) VALUES (3165, 'Recycled Steel Bacon', 18);
-INSERT INTO "order" (id, description, customer_id) VALUES (3166, 'Intelligent Steel Chair', 1);
-INSERT INTO "order" (id, description, customer_id) VALUES (3167, 'Elegant Granite Soap', 98);
-INSERT INTO "order" (id, description, customer_id) VALUES (3168, 'Modern Rubber Bacon', 22);
-INSERT INTO "order" (id, description, customer_id) VALUES (3169, 'Incredible Frozen Chips', 71);
-INSERT INTO "order" (id, description, customer_id) VALUES (3170, 'Tasty Rubber Mouse', 39);
-INSERT INTO "order" (id, description, customer_id) VALUES (3171, 'Licensed Plastic Keyboard', 14);
-INSERT INTO "order" (id, description, customer_id) VALUES (3172, 'Gorgeous Granite Shirt', 59);
-INSERT INTO "order" (id, description, customer_id) VALUES (3173, 'Rustic Concrete Ball', 26);
-INSERT INTO "order" (id, description, customer_id) VALUES (3174, 'Modern Cotton Shoes', 96);
-INSERT INTO "order" (id, description, customer_id) VALUES (3175, 'Fantastic Soft Salad', 88);
-INSERT INTO "order" (id, description, customer_id) VALUES (3176, 'Modern Rubber Soap', 53);
-INSERT INTO "order" (id, description, customer_id) VALUES (3177, 'Electronic Plastic Shoes', 27);
-INSERT INTO "order" (id, description, customer_id) VALUES (3178, 'Modern Steel Gloves', 16);
-INSERT INTO "order" (id, description, customer_id) VALUES (3179, 'Refined Wooden Table', 15);
-INSERT INTO "order" (id, description, customer_id) VALUES (3180, 'Licensed Wooden Chips', 87);
-INSERT INTO "order" (id, description, customer_id) VALUES (3181, 'Incredible Steel Sausages', 83);
-INSERT INTO "order" (id, description, customer_id) VALUES (3182, 'Intelligent Steel Pizza', 54);
-INSERT INTO "order" (id, description, customer_id) VALUES (3183, 'Practical Fresh Fish', 49);
-INSERT INTO "order" (id, description, customer_id) VALUES (3184, 'Fantastic Fresh Car', 46);
-INSERT INTO "order" (id, description, customer_id) VALUES (3185, 'Incredible Granite Shirt', 53);
-INSERT INTO "order" (id, description, customer_id) VALUES (3186, 'Tasty Concrete Sausages', 39);
-INSERT INTO "order" (id, description, customer_id) VALUES (3187, 'Awesome Bronze Ball', 50);
-INSERT INTO "order" (id, description, customer_id) VALUES (3188, 'Ergonomic Frozen Chair', 31);
-INSERT INTO "order" (id, description, customer_id) VALUES (3189, 'Awesome Cotton Fish', 95);
-INSERT INTO "order" (id, description, customer_id) VALUES (3190, 'Awesome Granite Pizza', 2);
-INSERT INTO "order" (id, description, customer_id) VALUES (3191, 'Handmade Cotton Bacon', 51);
-INSERT INTO "order" (id, description, customer_id) VALUES (3192, 'Incredible Granite Table', 18);
-INSERT INTO "order" (id, description, customer_id) VALUES (3193, 'Recycled Plastic Chips', 26);
-INSERT INTO "order" (id, description, customer_id) VALUES (3194, 'Incredible Frozen Towels', 88);
-INSERT INTO "order" (id, description, customer_id) VALUES (3195, 'Recycled Rubber Car', 88);
-INSERT INTO "order" (id, description, customer_id) VALUES (3196, 'Gorgeous Concrete Bacon', 60);
-INSERT INTO "order" (id, description, customer_id) VALUES (3197, 'Practical Cotton Keyboard', 82);
-INSERT INTO "order" (id, description, customer_id) VALUES (3198, 'Licensed Granite Pants', 69);
-INSERT INTO "order" (id, description, customer_id) VALUES (3199, 'Elegant Fresh Fish', 7);
-INSERT INTO "order" (id, description, customer_id) VALUES (3200, 'Luxurious Cotton Chips', 40);
-INSERT INTO "order" (id, description, customer_id) VALUES (3201, 'Gorgeous Bronze Bike', 47);
-INSERT INTO "order" (id, description, customer_id) VALUES (3202, 'Rustic Concrete Pizza', 41);
-INSERT INTO "order" (id, description, customer_id) VALUES (3203, 'Luxurious Frozen Shoes', 75);
-INSERT INTO "order" (id, description, customer_id) VALUES (3204, 'Intelligent Cotton Chips', 63);
-INSERT INTO "order" (id, description, customer_id) VALUES (3205, 'Intelligent Frozen Computer', 12);
-INSERT INTO "order" (id, description, customer_id) VALUES (3206, 'Generic Concrete Ball', 63);
-INSERT INTO "order" (id, description, customer_id) VALUES (3207, 'Luxurious Frozen Fish', 19);
-INSERT INTO "order" (id, description, customer_id) VALUES (3208, 'Refined Soft Soap', 23);
-INSERT INTO "order" (id, description, customer_id) VALUES (3209, 'Bespoke Rubber Bacon', 70);
-INSERT INTO "order" (id, description, customer_id) VALUES (3210, 'Sleek Metal Chicken', 69);
-INSERT INTO "order" (id, description, customer_id) VALUES (3211, 'Recycled Frozen Tuna', 73);
-INSERT INTO "order" (id, description, customer_id) VALUES (3212, 'Bespoke Frozen Salad', 1);
-INSERT INTO "order" (id, description, customer_id) VALUES (3213, 'Luxurious Soft Car', 93);
-INSERT INTO "order" (id, description, customer_id) VALUES (3214, 'Recycled Metal Ball', 87);
-INSERT INTO "order" (id, description, customer_id) VALUES (3215, 'Oriental Soft Shirt', 62);
-INSERT INTO "order" (id, description, customer_id) VALUES (3216, 'Electronic Plastic Chair', 36);
-INSERT INTO "order" (id, description, customer_id) VALUES (3217, 'Practical Rubber Tuna', 69);
-INSERT INTO "order" (id, description, customer_id) VALUES (3218, 'Bespoke Granite Hat', 37);
-INSERT INTO "order" (id, description, customer_id) VALUES (3219, 'Recycled Steel Tuna', 84);
-INSERT INTO "order" (id, description, customer_id) VALUES (3220, 'Awesome Granite Ball', 21);
-INSERT INTO "order" (id, description, customer_id) VALUES (3221, 'Small Wooden Towels', 53);
-INSERT INTO "order" (id, description, customer_id) VALUES (3222, 'Small Bronze Salad', 13);
-INSERT INTO "order" (id, description, customer_id) VALUES (3223, 'Recycled Steel Mouse', 60);
-INSERT INTO "order" (id, description, customer_id) VALUES (3224, 'Refined Wooden Hat', 92);
-INSERT INTO "order" (id, description, customer_id) VALUES (3225, 'Oriental Rubber Fish', 77);
-INSERT INTO "order" (id, description, customer_id) VALUES (3226, 'Generic Bronze Hat', 79);
-INSERT INTO "order" (id, description, customer_id) VALUES (3227, 'Practical Metal Chair', 11);
-INSERT INTO "order" (id, description, customer_id) VALUES (3228, 'Electronic Steel Chicken', 33);
-INSERT INTO "order" (id, description, customer_id) VALUES (3229, 'Oriental Bronze Shoes', 80);
-INSERT INTO "order" (id, description, customer_id) VALUES (3230, 'Gorgeous Wooden Pizza', 35);
-INSERT INTO "order" (id, description, customer_id) VALUES (3231, 'Recycled Wooden Pants', 17);
-INSERT INTO "order" (id, description, customer_id) VALUES (3232, 'Elegant Frozen Soap', 17);
-INSERT INTO "order" (id, description, customer_id) VALUES (3233, 'Incredible Bronze Table', 88);
-INSERT INTO "order" (id, description, customer_id) VALUES (3234, 'Gorgeous Plastic Salad', 56);
-INSERT INTO "order" (id, description, customer_id) VALUES (3235, 'Licensed Fresh Chicken', 47);
-INSERT INTO "order" (id, description, customer_id) VALUES (3236, 'Awesome Frozen Table', 4);
-INSERT INTO "order" (id, description, customer_id) VALUES (3237, 'Awesome Soft Hat', 93);
-INSERT INTO "order" (id, description, customer_id) VALUES (3238, 'Oriental Metal Keyboard', 45);
-INSERT INTO "order" (id, description, customer_id) VALUES (3239, 'Rustic Wooden Pizza', 28);
-INSERT INTO "order" (id, description, customer_id) VALUES (3240, 'Handmade Wooden Tuna', 49);
-INSERT INTO "order" (id, description, customer_id) VALUES (3241, 'Luxurious Soft Keyboard', 49);
-INSERT INTO "order" (id, description, customer_id) VALUES (3242, 'Rustic Steel Pants', 46);
-INSERT INTO "order" (id, description, customer_id) VALUES (3243, 'Small Wooden Car', 23);
-INSERT INTO "order" (id, description, customer_id) VALUES (3244, 'Intelligent Frozen Chair', 67);
-INSERT INTO "order" (id, description, customer_id) VALUES (3245, 'Incredible Frozen Hat', 89);
-INSERT INTO "order" (id, description, customer_id) VALUES (3246, 'Licensed Bronze Shoes', 18);
-INSERT INTO "order" (id, description, customer_id) VALUES (3247, 'Fantastic Bronze Fish', 28);
-INSERT INTO "order" (id, description, customer_id) VALUES (3248, 'Unbranded Metal Bike', 43);
-INSERT INTO "order" (id, description, customer_id) VALUES (3249, 'Sleek Cotton Keyboard', 83);
-INSERT INTO "order" (id, description, customer_id) VALUES (3250, 'Elegant Wooden Pizza', 2);
-INSERT INTO "order" (id, description, customer_id) VALUES (3251, 'Rustic Bronze Salad', 46);
-INSERT INTO "order" (id, description, customer_id) VALUES (3252, 'Electronic Rubber Table', 47);
-INSERT INTO "order" (id, description, customer_id) VALUES (3253, 'Gorgeous Soft Bike', 93);
-INSERT INTO "order" (id, description, customer_id) VALUES (3254, 'Small Frozen Keyboard', 82);
-INSERT INTO "order" (id, description, customer_id) VALUES (3255, 'Unbranded Cotton Hat', 62);
-INSERT INTO "order" (id, description, customer_id) VALUES (3256, 'Modern Frozen Tuna', 39);
-INSERT INTO "order" (id, description, customer_id) VALUES (3257, 'Luxurious Cotton Chair', 56);
-INSERT INTO "order" (id, description, customer_id) VALUES (3258, 'Bespoke Concrete Computer', 63);
-INSERT INTO "order" (id, description, customer_id) VALUES (3259, 'Ergonomic Cotton Tuna', 37);
-INSERT INTO "order" (id, description, customer_id) VALUES (3260, 'Small Soft Car', 62);
-INSERT INTO "order" (id, description, customer_id) VALUES (3261, 'Licensed Wooden Mouse', 14);
-INSERT INTO "order" (id, description, customer_id) VALUES (3262, 'Rustic Bronze Salad', 67);
-INSERT INTO "order" (id, description, customer_id) VALUES (3263, 'Oriental Granite Shoes', 64);
-INSERT INTO "order" (id, description, customer_id) VALUES (3264, 'Gorgeous Cotton Chicken', 54);
-INSERT INTO "order" (id, description, customer_id) VALUES (3265, 'Awesome Soft Chair', 38);
-INSERT INTO "order" (id, description, customer_id) VALUES (3266, 'Elegant Metal Fish', 40);
-INSERT INTO "order" (id, description, customer_id) VALUES (3267, 'Modern Soft Hat', 57);
-INSERT INTO "order" (id, description, customer_id) VALUES (3268, 'Elegant Concrete Bike', 33);
-INSERT INTO "order" (id, description, customer_id) VALUES (3269, 'Handmade Soft Mouse', 21);
-INSERT INTO "order" (id, description, customer_id) VALUES (3270, 'Small Plastic Computer', 43);
-INSERT INTO "order" (id, description, customer_id) VALUES (3271, 'Tasty Soft Ball', 81);
-INSERT INTO "order" (id, description, customer_id) VALUES (3272, 'Gorgeous Wooden Tuna', 17);
-INSERT INTO "order" (id, description, customer_id) VALUES (3273, 'Unbranded Soft Cheese', 39);
-INSERT INTO "order" (id, description, customer_id) VALUES (3274, 'Handcrafted Steel Hat', 75);
-INSERT INTO "order" (id, description, customer_id) VALUES (3275, 'Rustic Cotton Tuna', 51);
-INSERT INTO "order" (id, description, customer_id) VALUES (3276, 'Rustic Concrete Shirt', 75);
-INSERT INTO "order" (id, description, customer_id) VALUES (3277, 'Elegant Granite Car', 32);
-INSERT INTO "order" (id, description, customer_id) VALUES (3278, 'Generic Frozen Gloves', 22);
-INSERT INTO "order" (id, description, customer_id) VALUES (3279, 'Refined Frozen Gloves', 6);
-INSERT INTO "order" (id, description, customer_id) VALUES (3280, 'Recycled Concrete Car', 64);
-INSERT INTO "order" (id, description, customer_id) VALUES (3281, 'Refined Fresh Keyboard', 61);
-INSERT INTO "order" (id, description, customer_id) VALUES (3282, 'Gorgeous Soft Fish', 60);
-INSERT INTO "order" (id, description, customer_id) VALUES (3283, 'Ergonomic Bronze Bacon', 98);
-INSERT INTO "order" (id, description, customer_id) VALUES (3284, 'Handmade Soft Hat', 21);
-INSERT INTO "order" (id, description, customer_id) VALUES (3285, 'Licensed Frozen Cheese', 92);
-INSERT INTO "order" (id, description, customer_id) VALUES (3286, 'Rustic Frozen Tuna', 38);
-INSERT INTO "order" (id, description, customer_id) VALUES (3287, 'Luxurious Concrete Computer', 70);
-INSERT INTO "order" (id, description, customer_id) VALUES (3288, 'Small Steel Salad', 1);
-INSERT INTO "order" (id, description, customer_id) VALUES (3289, 'Awesome Metal Bacon', 4);
-INSERT INTO "order" (id, description, customer_id) VALUES (3290, 'Intelligent Metal Tuna', 99);
-INSERT INTO "order" (id, description, customer_id) VALUES (3291, 'Gorgeous Wooden Shoes', 26);
-INSERT INTO "order" (id, description, customer_id) VALUES (3292, 'Generic Wooden Soap', 27);
-INSERT INTO "order" (id, description, customer_id) VALUES (3293, 'Bespoke Rubber Cheese', 93);
-INSERT INTO "order" (id, description, customer_id) VALUES (3294, 'Small Soft Cheese', 42);
-INSERT INTO "order" (id, description, customer_id) VALUES (3295, 'Modern Soft Fish', 5);
-INSERT INTO "order" (id, description, customer_id) VALUES (3296, 'Luxurious Steel Cheese', 39);
-INSERT INTO "order" (id, description, customer_id) VALUES (3297, 'Sleek Cotton Sausages', 96);
-INSERT INTO "order" (id, description, customer_id) VALUES (3298, 'Electronic Steel Ball', 93);
-INSERT INTO "order" (id, description, customer_id) VALUES (3299, 'Electronic Concrete Keyboard', 34);
-INSERT INTO "order" (id, description, customer_id) VALUES (3300, 'Tasty Metal Ball', 36);
-INSERT INTO "order" (id, description, customer_id) VALUES (3301, 'Handmade Bronze Chips', 61);
-INSERT INTO "order" (id, description, customer_id) VALUES (3302, 'Unbranded Granite Pants', 57);
-INSERT INTO "order" (id, description, customer_id) VALUES (3303, 'Sleek Frozen Soap', 34);
-INSERT INTO "order" (id, description, customer_id) VALUES (3304, 'Incredible Soft Soap', 13);
-INSERT INTO "order" (id, description, customer_id) VALUES (3305, 'Refined Metal Keyboard', 40);
-INSERT INTO "order" (id, description, customer_id) VALUES (3306, 'Fantastic Metal Table', 10);
-INSERT INTO "order" (id, description, customer_id) VALUES (3307, 'Sleek Soft Ball', 67);
-INSERT INTO "order" (id, description, customer_id) VALUES (3308, 'Sleek Metal Pizza', 71);
-INSERT INTO "order" (id, description, customer_id) VALUES (3309, 'Elegant Frozen Hat', 66);
-INSERT INTO "order" (id, description, customer_id) VALUES (3310, 'Fantastic Fresh Shirt', 18);
-INSERT INTO "order" (id, description, customer_id) VALUES (3311, 'Incredible Cotton Car', 3);
-INSERT INTO "order" (id, description, customer_id) VALUES (3312, 'Electronic Metal Fish', 15);
-INSERT INTO "order" (id, description, customer_id) VALUES (3313, 'Small Soft Computer', 83);
-INSERT INTO "order" (id, description, customer_id) VALUES (3314, 'Elegant Rubber Gloves', 77);
-INSERT INTO "order" (id, description, customer_id) VALUES (3315, 'Fantastic Steel Gloves', 71);
-INSERT INTO "order" (id, description, customer_id) VALUES (3316, 'Ergonomic Fresh Table', 42);
-INSERT INTO "order" (id, description, customer_id) VALUES (3317, 'Intelligent Soft Towels', 68);
-INSERT INTO "order" (id, description, customer_id) VALUES (3318, 'Sleek Metal Pizza', 65);
-INSERT INTO "order" (id, description, customer_id) VALUES (3319, 'Licensed Frozen Pants', 54);
-INSERT INTO "order" (id, description, customer_id) VALUES (3320, 'Intelligent Wooden Computer', 85);
-INSERT INTO "order" (id, description, customer_id) VALUES (3321, 'Rustic Bronze Shirt', 14);
-INSERT INTO "order" (id, description, customer_id) VALUES (3322, 'Handcrafted Fresh Pants', 94);
-INSERT INTO "order" (id, description, customer_id) VALUES (3323, 'Refined Wooden Chips', 75);
-INSERT INTO "order" (id, description, customer_id) VALUES (3324, 'Handcrafted Fresh Pizza', 95);
-INSERT INTO "order" (id, description, customer_id) VALUES (3325, 'Gorgeous Bronze Computer', 86);
-INSERT INTO "order" (id, description, customer_id) VALUES (3326, 'Ergonomic Cotton Shirt', 58);
-INSERT INTO "order" (id, description, customer_id) VALUES (3327, 'Generic Soft Towels', 25);
-INSERT INTO "order" (id, description, customer_id) VALUES (3328, 'Generic Granite Salad', 52);
-INSERT INTO "order" (id, description, customer_id) VALUES (3329, 'Unbranded Concrete Table', 25);
-INSERT INTO "order" (id, description, customer_id) VALUES (3330, 'Ergonomic Concrete Bacon', 91);
-INSERT INTO "order" (id, description, customer_id) VALUES (3331, 'Recycled Plastic Tuna', 96);
-INSERT INTO "order" (id, description, customer_id) VALUES (3332, 'Incredible Soft Bike', 88);
-INSERT INTO "order" (id, description, customer_id) VALUES (3333, 'Unbranded Frozen Fish', 12);
-INSERT INTO "order" (id, description, customer_id) VALUES (3334, 'Bespoke Cotton Shoes', 36);
-INSERT INTO "order" (id, description, customer_id) VALUES (3335, 'Ergonomic Frozen Chicken', 28);
-INSERT INTO "order" (id, description, customer_id) VALUES (3336, 'Electronic Frozen Shoes', 80);
-INSERT INTO "order" (id, description, customer_id) VALUES (3337, 'Recycled Metal Bacon', 89);
-INSERT INTO "order" (id, description, customer_id) VALUES (3338, 'Bespoke Concrete Tuna', 96);
-INSERT INTO "order" (id, description, customer_id) VALUES (3339, 'Small Metal Ball', 38);
-INSERT INTO "order" (id, description, customer_id) VALUES (3340, 'Oriental Cotton Shirt', 75);
-INSERT INTO "order" (id, description, customer_id) VALUES (3341, 'Bespoke Granite Bacon', 12);
-INSERT INTO "order" (id, description, customer_id) VALUES (3342, 'Generic Steel Cheese', 75);
-INSERT INTO "order" (id, description, customer_id) VALUES (3343, 'Generic Bronze Cheese', 90);
-INSERT INTO "order" (id, description, customer_id) VALUES (3344, 'Modern Rubber Chair', 3);
-INSERT INTO "order" (id, description, customer_id) VALUES (3345, 'Luxurious Granite Salad', 48);
-INSERT INTO "order" (id, description, customer_id) VALUES (3346, 'Fantastic Plastic Chair', 66);
-INSERT INTO "order" (id, description, customer_id) VALUES (3347, 'Intelligent Cotton Soap', 99);
-INSERT INTO "order" (id, description, customer_id) VALUES (3348, 'Electronic Soft Gloves', 54);
-INSERT INTO "order" (id, description, customer_id) VALUES (3349, 'Generic Wooden Pants', 31);
-INSERT INTO "order" (id, description, customer_id) VALUES (3350, 'Modern Metal Pants', 26);
-INSERT INTO "order" (id, description, customer_id) VALUES (3351, 'Ergonomic Cotton Sausages', 19);
-INSERT INTO "order" (id, description, customer_id) VALUES (3352, 'Sleek Metal Computer', 8);
-INSERT INTO "order" (id, description, customer_id) VALUES (3353, 'Electronic Wooden Sausages', 80);
-INSERT INTO "order" (id, description, customer_id) VALUES (3354, 'Small Soft Computer', 91);
-INSERT INTO "order" (id, description, customer_id) VALUES (3355, 'Recycled Fresh Bike', 37);
-INSERT INTO "order" (id, description, customer_id) VALUES (3356, 'Luxurious Bronze Pants', 92);
-INSERT INTO "order" (id, description, customer_id) VALUES (3357, 'Handcrafted Cotton Keyboard', 95);
-INSERT INTO "order" (id, description, customer_id) VALUES (3358, 'Awesome Granite Chips', 38);
-INSERT INTO "order" (id, description, customer_id) VALUES (3359, 'Unbranded Steel Table', 41);
-INSERT INTO "order" (id, description, customer_id) VALUES (3360, 'Ergonomic Concrete Soap', 5);
-INSERT INTO "order" (id, description, customer_id) VALUES (3361, 'Practical Metal Shirt', 81);
-INSERT INTO "order" (id, description, customer_id) VALUES (3362, 'Refined Frozen Car', 92);
-INSERT INTO "order" (id, description, customer_id) VALUES (3363, 'Unbranded Bronze Cheese', 71);
-INSERT INTO "order" (id, description, customer_id) VALUES (3364, 'Refined Granite Car', 40);
-INSERT INTO "order" (id, description, customer_id) VALUES (3365, 'Ergonomic Rubber Keyboard', 10);
-INSERT INTO "order" (id, description, customer_id) VALUES (3366, 'Practical Granite Chair', 7);
-INSERT INTO "order" (id, description, customer_id) VALUES (3367, 'Oriental Steel Bike', 57);
-INSERT INTO "order" (id, description, customer_id) VALUES (3368, 'Refined Frozen Cheese', 73);
-INSERT INTO "order" (id, description, customer_id) VALUES (3369, 'Fantastic Plastic Soap', 13);
-INSERT INTO "order" (id, description, customer_id) VALUES (3370, 'Licensed Frozen Shoes', 87);
-INSERT INTO "order" (id, description, customer_id) VALUES (3371, 'Awesome Plastic Salad', 53);
-INSERT INTO "order" (id, description, customer_id) VALUES (3372, 'Bespoke Soft Bike', 91);
-INSERT INTO "order" (id, description, customer_id) VALUES (3373, 'Handmade Soft Tuna', 20);
-INSERT INTO "order" (id, description, customer_id) VALUES (3374, 'Oriental Granite Towels', 62);
-INSERT INTO "order" (id, description, customer_id) VALUES (3375, 'Refined Cotton Bacon', 10);
-INSERT INTO "order" (id, description, customer_id) VALUES (3376, 'Licensed Cotton Table', 74);
-INSERT INTO "order" (id, description, customer_id) VALUES (3377, 'Small Cotton Towels', 76);
-INSERT INTO "order" (id, description, customer_id) VALUES (3378, 'Sleek Rubber Ball', 64);
-INSERT INTO "order" (id, description, customer_id) VALUES (3379, 'Awesome Frozen Soap', 2);
-INSERT INTO "order" (id, description, customer_id) VALUES (3380, 'Recycled Cotton Ball', 99);
-INSERT INTO "order" (id, description, customer_id) VALUES (3381, 'Fantastic Rubber Chair', 87);
-INSERT INTO "order" (id, description, customer_id) VALUES (3382, 'Luxurious Bronze Shoes', 58);
-INSERT INTO "order" (id, description, customer_id) VALUES (3383, 'Rustic Fresh Shirt', 49);
-INSERT INTO "order" (id, description, customer_id) VALUES (3384, 'Licensed Granite Computer', 49);
-INSERT INTO "order" (id, description, customer_id) VALUES (3385, 'Elegant Plastic Soap', 18);
-INSERT INTO "order" (id, description, customer_id) VALUES (3386, 'Ergonomic Granite Hat', 36);
-INSERT INTO "order" (id, description, customer_id) VALUES (3387, 'Fantastic Bronze Mouse', 2);
-INSERT INTO "order" (id, description, customer_id) VALUES (3388, 'Incredible Rubber Mouse', 79);
-INSERT INTO "order" (id, description, customer_id) VALUES (3389, 'Small Wooden Table', 49);
-INSERT INTO "order" (id, description, customer_id) VALUES (3390, 'Licensed Concrete Table', 79);
-INSERT INTO "order" (id, description, customer_id) VALUES (3391, 'Incredible Wooden Tuna', 76);
-INSERT INTO "order" (id, description, customer_id) VALUES (3392, 'Bespoke Rubber Bacon', 46);
-INSERT INTO "order" (id, description, customer_id) VALUES (3393, 'Oriental Soft Pizza', 99);
-INSERT INTO "order" (id, description, customer_id) VALUES (3394, 'Gorgeous Frozen Keyboard', 17);
-INSERT INTO "order" (id, description, customer_id) VALUES (3395, 'Awesome Bronze Car', 4);
-INSERT INTO "order" (id, description, customer_id) VALUES (3396, 'Oriental Fresh Tuna', 53);
-INSERT INTO "order" (id, description, customer_id) VALUES (3397, 'Rustic Granite Sausages', 8);
-INSERT INTO "order" (id, description, customer_id) VALUES (3398, 'Ergonomic Soft Ball', 16);
-INSERT INTO "order" (id, description, customer_id) VALUES (3399, 'Fantastic Frozen Cheese', 26);
-INSERT INTO "order" (id, description, customer_id) VALUES (3400, 'Handmade Fresh Pizza', 83);
-INSERT INTO "order" (id, description, customer_id) VALUES (3401, 'Awesome Frozen Pizza', 88);
-INSERT INTO "order" (id, description, customer_id) VALUES (3402, 'Intelligent Cotton Fish', 58);
-INSERT INTO "order" (id, description, customer_id) VALUES (3403, 'Sleek Concrete Tuna', 58);
-INSERT INTO "order" (id, description, customer_id) VALUES (3404, 'Oriental Steel Chair', 98);
-INSERT INTO "order" (id, description, customer_id) VALUES (3405, 'Incredible Bronze Computer', 14);
-INSERT INTO "order" (id, description, customer_id) VALUES (3406, 'Generic Granite Bike', 85);
-INSERT INTO "order" (id, description, customer_id) VALUES (3407, 'Recycled Bronze Keyboard', 68);
-INSERT INTO "order" (id, description, customer_id) VALUES (3408, 'Fantastic Steel Cheese', 72);
-INSERT INTO "order" (id, description, customer_id) VALUES (3409, 'Handcrafted Frozen Chair', 22);
-INSERT INTO "order" (id, description, customer_id) VALUES (3410, 'Recycled Fresh Ball', 69);
-INSERT INTO "order" (id, description, customer_id) VALUES (3411, 'Awesome Plastic Chips', 88);
-INSERT INTO "order" (id, description, customer_id) VALUES (3412, 'Ergonomic Metal Fish', 86);
-INSERT INTO "order" (id, description, customer_id) VALUES (3413, 'Handcrafted Plastic Gloves', 85);
-INSERT INTO "order" (id, description, customer_id) VALUES (3414, 'Fantastic Plastic Keyboard', 1);
-INSERT INTO "order" (id, description, customer_id) VALUES (3415, 'Refined Plastic Table', 56);
-INSERT INTO "order" (id, description, customer_id) VALUES (3416, 'Handmade Plastic Ball', 50);
-INSERT INTO "order" (id, description, customer_id) VALUES (3417, 'Handcrafted Cotton Cheese', 22);
-INSERT INTO "order" (id, description, customer_id) VALUES (3418, 'Practical Granite Shoes', 17);
-INSERT INTO "order" (id, description, customer_id) VALUES (3419, 'Licensed Bronze Salad', 68);
-INSERT INTO "order" (id, description, customer_id) VALUES (3420, 'Gorgeous Granite Shoes', 89);
-INSERT INTO "order" (id, description, customer_id) VALUES (3421, 'Sleek Rubber Ball', 21);
-INSERT INTO "order" (id, description, customer_id) VALUES (3422, 'Luxurious Steel Car', 16);
-INSERT INTO "order" (id, description, customer_id) VALUES (3423, 'Licensed Cotton Shoes', 42);
-INSERT INTO "order" (id, description, customer_id) VALUES (3424, 'Small Steel Pants', 62);
-INSERT INTO "order" (id, description, customer_id) VALUES (3425, 'Elegant Fresh Pants', 54);
-INSERT INTO "order" (id, description, customer_id) VALUES (3426, 'Recycled Soft Cheese', 15);
-INSERT INTO "order" (id, description, customer_id) VALUES (3427, 'Tasty Plastic Hat', 86);
-INSERT INTO "order" (id, description, customer_id) VALUES (3428, 'Intelligent Concrete Shoes', 76);
-INSERT INTO "order" (id, description, customer_id) VALUES (3429, 'Recycled Wooden Table', 78);
-INSERT INTO "order" (id, description, customer_id) VALUES (3430, 'Small Granite Towels', 62);
-INSERT INTO "order" (id, description, customer_id) VALUES (3431, 'Awesome Soft Mouse', 1);
-INSERT INTO "order" (id, description, customer_id) VALUES (3432, 'Fantastic Rubber Cheese', 50);
-INSERT INTO "order" (id, description, customer_id) VALUES (3433, 'Small Rubber Keyboard', 35);
-INSERT INTO "order" (id, description, customer_id) VALUES (3434, 'Rustic Granite Ball', 21);
-INSERT INTO "order" (id, description, customer_id) VALUES (3435, 'Gorgeous Frozen Mouse', 41);
-INSERT INTO "order" (id, description, customer_id) VALUES (3436, 'Practical Granite Bike', 55);
-INSERT INTO "order" (id, description, customer_id) VALUES (3437, 'Recycled Granite Computer', 31);
-INSERT INTO "order" (id, description, customer_id) VALUES (3438, 'Practical Frozen Tuna', 95);
-INSERT INTO "order" (id, description, customer_id) VALUES (3439, 'Elegant Metal Hat', 90);
-INSERT INTO "order" (id, description, customer_id) VALUES (3440, 'Electronic Steel Hat', 45);
-INSERT INTO "order" (id, description, customer_id) VALUES (3441, 'Oriental Plastic Hat', 45);
-INSERT INTO "order" (id, description, customer_id) VALUES (3442, 'Ergonomic Soft Fish', 67);
-INSERT INTO "order" (id, description, customer_id) VALUES (3443, 'Handmade Plastic Shoes', 81);
-INSERT INTO "order" (id, description, customer_id) VALUES (3444, 'Small Wooden Towels', 62);
-INSERT INTO "order" (id, description, customer_id) VALUES (3445, 'Electronic Cotton Towels', 40);
-INSERT INTO "order" (id, description, customer_id) VALUES (3446, 'Recycled Fresh Pizza', 93);
-INSERT INTO "order" (id, description, customer_id) VALUES (3447, 'Intelligent Fresh Fish', 73);
-INSERT INTO "order" (id, description, customer_id) VALUES (3448, 'Refined Steel Sausages', 22);
-INSERT INTO "order" (id, description, customer_id) VALUES (3449, 'Rustic Wooden Sausages', 61);
-INSERT INTO "order" (id, description, customer_id) VALUES (3450, 'Modern Wooden Shirt', 32);
-INSERT INTO "order" (id, description, customer_id) VALUES (3451, 'Small Plastic Fish', 46);
-INSERT INTO "order" (id, description, customer_id) VALUES (3452, 'Refined Soft Keyboard', 79);
-INSERT INTO "order" (id, description, customer_id) VALUES (3453, 'Ergonomic Wooden Chips', 81);
-INSERT INTO "order" (id, description, customer_id) VALUES (3454, 'Gorgeous Soft Bacon', 37);
-INSERT INTO "order" (id, description, customer_id) VALUES (3455, 'Modern Steel Cheese', 77);
-INSERT INTO "order" (id, description, customer_id) VALUES (3456, 'Practical Steel Fish', 41);
-INSERT INTO "order" (id, description, customer_id) VALUES (3457, 'Fantastic Concrete Chicken', 17);
-INSERT INTO "order" (id, description, customer_id) VALUES (3458, 'Practical Granite Pizza', 58);
-INSERT INTO "order" (id, description, customer_id) VALUES (3459, 'Elegant Rubber Chips', 74);
-INSERT INTO "order" (id, description, customer_id) VALUES (3460, 'Electronic Steel Keyboard', 56);
-INSERT INTO "order" (id, description, customer_id) VALUES (3461, 'Oriental Rubber Car', 3);
-INSERT INTO "order" (id, description, customer_id) VALUES (3462, 'Modern Frozen Car', 76);
-INSERT INTO "order" (id, description, customer_id) VALUES (3463, 'Rustic Frozen Computer', 63);
-INSERT INTO "order" (id, description, customer_id) VALUES (3464, 'Elegant Steel Tuna', 64);
-INSERT INTO "order" (id, description, customer_id) VALUES (3465, 'Handcrafted Fresh Hat', 12);
-INSERT INTO "order" (id, description, customer_id) VALUES (3466, 'Practical Steel Pants', 71);
-INSERT INTO "order" (id, description, customer_id) VALUES (3467, 'Licensed Fresh Car', 64);
-INSERT INTO "order" (id, description, customer_id) VALUES (3468, 'Modern Granite Gloves', 78);
-INSERT INTO "order" (id, description, customer_id) VALUES (3469, 'Generic Cotton Car', 64);
-INSERT INTO "order" (id, description, customer_id) VALUES (3470, 'Rustic Steel Salad', 68);
-INSERT INTO "order" (id, description, customer_id) VALUES (3471, 'Gorgeous Frozen Chair', 55);
-INSERT INTO "order" (id, description, customer_id) VALUES (3472, 'Intelligent Cotton Fish', 86);
-INSERT INTO "order" (id, description, customer_id) VALUES (3473, 'Bespoke Plastic Bacon', 55);
-INSERT INTO "order" (id, description, customer_id) VALUES (3474, 'Tasty Plastic Keyboard', 51);
-INSERT INTO "order" (id, description, customer_id) VALUES (3475, 'Intelligent Fresh Towels', 60);
-INSERT INTO "order" (id, description, customer_id) VALUES (3476, 'Small Wooden Towels', 12);
-INSERT INTO "order" (id, description, customer_id) VALUES (3477, 'Ergonomic Bronze Chicken', 60);
-INSERT INTO "order" (id, description, customer_id) VALUES (3478, 'Generic Rubber Keyboard', 63);
-INSERT INTO "order" (id, description, customer_id) VALUES (3479, 'Unbranded Rubber Chicken', 40);
-INSERT INTO "order" (id, description, customer_id) VALUES (3480, 'Awesome Cotton Shirt', 64);
-INSERT INTO "order" (id, description, customer_id) VALUES (3481, 'Small Metal Pants', 42);
-INSERT INTO "order" (id, description, customer_id) VALUES (3482, 'Generic Bronze Keyboard', 15);
-INSERT INTO "order" (id, description, customer_id) VALUES (3483, 'Tasty Cotton Keyboard', 87);
-INSERT INTO "order" (id, description, customer_id) VALUES (3484, 'Electronic Soft Cheese', 71);
-INSERT INTO "order" (id, description, customer_id) VALUES (3485, 'Awesome Steel Pants', 36);
-INSERT INTO "order" (id, description, customer_id) VALUES (3486, 'Unbranded Plastic Fish', 65);
-INSERT INTO "order" (id, description, customer_id) VALUES (3487, 'Incredible Soft Pizza', 37);
-INSERT INTO "order" (id, description, customer_id) VALUES (3488, 'Elegant Granite Chicken', 15);
-INSERT INTO "order" (id, description, customer_id) VALUES (3489, 'Tasty Steel Sausages', 56);
-INSERT INTO "order" (id, description, customer_id) VALUES (3490, 'Incredible Metal Keyboard', 85);
-INSERT INTO "order" (id, description, customer_id) VALUES (3491, 'Licensed Plastic Gloves', 90);
-INSERT INTO "order" (id, description, customer_id) VALUES (3492, 'Luxurious Rubber Car', 66);
-INSERT INTO "order" (id, description, customer_id) VALUES (3493, 'Handmade Granite Pizza', 12);
-INSERT INTO "order" (id, description, customer_id) VALUES (3494, 'Handcrafted Bronze Fish', 89);
-INSERT INTO "order" (id, description, customer_id) VALUES (3495, 'Handcrafted Wooden Towels', 40);
-INSERT INTO "order" (id, description, customer_id) VALUES (3496, 'Ergonomic Soft Chair', 83);
-INSERT INTO "order" (id, description, customer_id) VALUES (3497, 'Bespoke Bronze Pizza', 27);
-INSERT INTO "order" (id, description, customer_id) VALUES (3498, 'Modern Bronze Cheese', 74);
-INSERT INTO "order" (id, description, customer_id) VALUES (3499, 'Generic Cotton Hat', 7);
-INSERT INTO "order" (id, description, customer_id) VALUES (3500, 'Intelligent Metal Bike', 50);
-INSERT INTO "order" (id, description, customer_id) VALUES (3501, 'Bespoke Steel Sausages', 88);
-INSERT INTO "order" (id, description, customer_id) VALUES (3502, 'Licensed Plastic Towels', 38);
-INSERT INTO "order" (id, description, customer_id) VALUES (3503, 'Handmade Granite Mouse', 66);
-INSERT INTO "order" (id, description, customer_id) VALUES (3504, 'Ergonomic Fresh Sausages', 89);
-INSERT INTO "order" (id, description, customer_id) VALUES (3505, 'Intelligent Wooden Fish', 24);
-INSERT INTO "order" (id, description, customer_id) VALUES (3506, 'Elegant Wooden Mouse', 90);
-INSERT INTO "order" (id, description, customer_id) VALUES (3507, 'Incredible Steel Mouse', 10);
-INSERT INTO "order" (id, description, customer_id) VALUES (3508, 'Modern Fresh Shirt', 32);
-INSERT INTO "order" (id, description, customer_id) VALUES (3509, 'Recycled Metal Hat', 67);
-INSERT INTO "order" (id, description, customer_id) VALUES (3510, 'Generic Wooden Tuna', 90);
-INSERT INTO "order" (id, description, customer_id) VALUES (3511, 'Sleek Concrete Shoes', 43);
-INSERT INTO "order" (id, description, customer_id) VALUES (3512, 'Rustic Plastic Shirt', 43);
-INSERT INTO "order" (id, description, customer_id) VALUES (3513, 'Fantastic Plastic Hat', 71);
-INSERT INTO "order" (id, description, customer_id) VALUES (3514, 'Rustic Fresh Salad', 47);
-INSERT INTO "order" (id, description, customer_id) VALUES (3515, 'Rustic Bronze Gloves', 37);
-INSERT INTO "order" (id, description, customer_id) VALUES (3516, 'Handmade Bronze Towels', 47);
-INSERT INTO "order" (id, description, customer_id) VALUES (3517, 'Rustic Fresh Chips', 96);
-INSERT INTO "order" (id, description, customer_id) VALUES (3518, 'Ergonomic Rubber Soap', 86);
-INSERT INTO "order" (id, description, customer_id) VALUES (3519, 'Unbranded Steel Pizza', 91);
-INSERT INTO "order" (id, description, customer_id) VALUES (3520, 'Tasty Granite Gloves', 62);
-INSERT INTO "order" (id, description, customer_id) VALUES (3521, 'Awesome Steel Towels', 80);
-INSERT INTO "order" (id, description, customer_id) VALUES (3522, 'Elegant Concrete Soap', 54);
-INSERT INTO "order" (id, description, customer_id) VALUES (3523, 'Rustic Fresh Soap', 62);
-INSERT INTO "order" (id, description, customer_id) VALUES (3524, 'Modern Concrete Pants', 9);
-INSERT INTO "order" (id, description, customer_id) VALUES (3525, 'Gorgeous Concrete Tuna', 52);
-INSERT INTO "order" (id, description, customer_id) VALUES (3526, 'Awesome Wooden Mouse', 64);
-INSERT INTO "order" (id, description, customer_id) VALUES (3527, 'Modern Bronze Computer', 44);
-INSERT INTO "order" (id, description, customer_id) VALUES (3528, 'Elegant Granite Soap', 83);
-INSERT INTO "order" (id, description, customer_id) VALUES (3529, 'Electronic Metal Salad', 57);
-INSERT INTO "order" (id, description, customer_id) VALUES (3530, 'Fantastic Metal Soap', 63);
-INSERT INTO "order" (id, description, customer_id) VALUES (3531, 'Oriental Bronze Shoes', 64);
-INSERT INTO "order" (id, description, customer_id) VALUES (3532, 'Oriental Plastic Salad', 7);
-INSERT INTO "order" (id, description, customer_id) VALUES (3533, 'Incredible Fresh Towels', 7);
-INSERT INTO "order" (id, description, customer_id) VALUES (3534, 'Recycled Cotton Car', 41);
-INSERT INTO "order" (id, description, customer_id) VALUES (3535, 'Gorgeous Bronze Mouse', 87);
-INSERT INTO "order" (id, description, customer_id) VALUES (3536, 'Awesome Frozen Hat', 70);
-INSERT INTO "order" (id, description, customer_id) VALUES (3537, 'Tasty Rubber Car', 2);
-INSERT INTO "order" (id, description, customer_id) VALUES (3538, 'Handmade Frozen Bike', 39);
-INSERT INTO "order" (id, description, customer_id) VALUES (3539, 'Handmade Steel Car', 45);
-INSERT INTO "order" (id, description, customer_id) VALUES (3540, 'Refined Plastic Chips', 31);
-INSERT INTO "order" (id, description, customer_id) VALUES (3541, 'Practical Bronze Bike', 84);
-INSERT INTO "order" (id, description, customer_id) VALUES (3542, 'Refined Cotton Shirt', 95);
-INSERT INTO "order" (id, description, customer_id) VALUES (3543, 'Oriental Bronze Bike', 25);
-INSERT INTO "order" (id, description, customer_id) VALUES (3544, 'Ergonomic Plastic Cheese', 15);
-INSERT INTO "order" (id, description, customer_id) VALUES (3545, 'Refined Steel Pants', 34);
-INSERT INTO "order" (id, description, customer_id) VALUES (3546, 'Awesome Plastic Sausages', 60);
-INSERT INTO "order" (id, description, customer_id) VALUES (3547, 'Licensed Plastic Sausages', 95);
-INSERT INTO "order" (id, description, customer_id) VALUES (3548, 'Handcrafted Steel Pizza', 87);
-INSERT INTO "order" (id, description, customer_id) VALUES (3549, 'Modern Wooden Pizza', 84);
-INSERT INTO "order" (id, description, customer_id) VALUES (3550, 'Ergonomic Bronze Pants', 67);
-INSERT INTO "order" (id, description, customer_id) VALUES (3551, 'Modern Fresh Pizza', 85);
-INSERT INTO "order" (id, description, customer_id) VALUES (3552, 'Practical Bronze Sausages', 57);
-INSERT INTO "order" (id, description, customer_id) VALUES (3553, 'Ergonomic Wooden Towels', 34);
-INSERT INTO "order" (id, description, customer_id) VALUES (3554, 'Rustic Steel Soap', 40);
-INSERT INTO "order" (id, description, customer_id) VALUES (3555, 'Handcrafted Fresh Car', 79);
-INSERT INTO "order" (id, description, customer_id) VALUES (3556, 'Oriental Plastic Hat', 33);
-INSERT INTO "order" (id, description, customer_id) VALUES (3557, 'Recycled Concrete Bike', 97);
-INSERT INTO "order" (id, description, customer_id) VALUES (3558, 'Ergonomic Cotton Bacon', 78);
-INSERT INTO "order" (id, description, customer_id) VALUES (3559, 'Generic Cotton Pants', 80);
-INSERT INTO "order" (id, description, customer_id) VALUES (3560, 'Handcrafted Frozen Shirt', 98);
-INSERT INTO "order" (id, description, customer_id) VALUES (3561, 'Luxurious Steel Fish', 16);
-INSERT INTO "order" (id, description, customer_id) VALUES (3562, 'Awesome Fresh Table', 63);
-INSERT INTO "order" (id, description, customer_id) VALUES (3563, 'Tasty Metal Ball', 1);
-INSERT INTO "order" (id, description, customer_id) VALUES (3564, 'Fantastic Wooden Bacon', 21);
-INSERT INTO "order" (id, description, customer_id) VALUES (3565, 'Elegant Rubber Bike', 88);
-INSERT INTO "order" (id, description, customer_id) VALUES (3566, 'Elegant Steel Mouse', 90);
-INSERT INTO "order" (id, description, customer_id) VALUES (3567, 'Tasty Bronze Computer', 41);
-INSERT INTO "order" (id, description, customer_id) VALUES (3568, 'Luxurious Metal Shirt', 97);
-INSERT INTO "order" (id, description, customer_id) VALUES (3569, 'Small Soft Towels', 18);
-INSERT INTO "order" (id, description, customer_id) VALUES (3570, 'Luxurious Soft Shoes', 10);
-INSERT INTO "order" (id, description, customer_id) VALUES (3571, 'Gorgeous Cotton Salad', 32);
-INSERT INTO "order" (id, description, customer_id) VALUES (3572, 'Luxurious Soft Mouse', 95);
-INSERT INTO "order" (id, description, customer_id) VALUES (3573, 'Rustic Granite Chips', 59);
-INSERT INTO "order" (id, description, customer_id) VALUES (3574, 'Generic Frozen Shoes', 65);
-INSERT INTO "order" (id, description, customer_id) VALUES (3575, 'Elegant Frozen Towels', 80);
-INSERT INTO "order" (id, description, customer_id) VALUES (3576, 'Awesome Metal Mouse', 57);
-INSERT INTO "order" (id, description, customer_id) VALUES (3577, 'Unbranded Steel Towels', 31);
-INSERT INTO "order" (id, description, customer_id) VALUES (3578, 'Recycled Soft Car', 11);
-INSERT INTO "order" (id, description, customer_id) VALUES (3579, 'Unbranded Wooden Chips', 32);
-INSERT INTO "order" (id, description, customer_id) VALUES (3580, 'Rustic Plastic Mouse', 95);
-INSERT INTO "order" (id, description, customer_id) VALUES (3581, 'Intelligent Bronze Salad', 20);
-INSERT INTO "order" (id, description, customer_id) VALUES (3582, 'Awesome Bronze Bike', 48);
-INSERT INTO "order" (id, description, customer_id) VALUES (3583, 'Gorgeous Metal Sausages', 33);
-INSERT INTO "order" (id, description, customer_id) VALUES (3584, 'Luxurious Cotton Pizza', 19);
-INSERT INTO "order" (id, description, customer_id) VALUES (3585, 'Recycled Rubber Mouse', 1);
-INSERT INTO "order" (id, description, customer_id) VALUES (3586, 'Licensed Metal Gloves', 49);
-INSERT INTO "order" (id, description, customer_id) VALUES (3587, 'Handmade Steel Tuna', 16);
-INSERT INTO "order" (id, description, customer_id) VALUES (3588, 'Gorgeous Concrete Hat', 2);
-INSERT INTO "order" (id, description, customer_id) VALUES (3589, 'Oriental Cotton Salad', 40);
-INSERT INTO "order" (id, description, customer_id) VALUES (3590, 'Tasty Concrete Pants', 95);
-INSERT INTO "order" (id, description, customer_id) VALUES (3591, 'Incredible Rubber Cheese', 70);
-INSERT INTO "order" (id, description, customer_id) VALUES (3592, 'Sleek Granite Ball', 20);
-INSERT INTO "order" (id, description, customer_id) VALUES (3593, 'Recycled Frozen Bacon', 95);
-INSERT INTO "order" (id, description, customer_id) VALUES (3594, 'Awesome Concrete Salad', 97);
-INSERT INTO "order" (id, description, customer_id) VALUES (3595, 'Ergonomic Fresh Computer', 25);
-INSERT INTO "order" (id, description, customer_id) VALUES (3596, 'Sleek Granite Pizza', 2);
-INSERT INTO "order" (id, description, customer_id) VALUES (3597, 'Ergonomic Steel Bike', 84);
-INSERT INTO "order" (id, description, customer_id) VALUES (3598, 'Handmade Concrete Chips', 81);
-INSERT INTO "order" (id, description, customer_id) VALUES (3599, 'Incredible Concrete Chips', 98);
-INSERT INTO "order" (id, description, customer_id) VALUES (3600, 'Luxurious Soft Sausages', 99);
-INSERT INTO "order" (id, description, customer_id) VALUES (3601, 'Generic Bronze Bacon', 88);
-INSERT INTO "order" (id, description, customer_id) VALUES (3602, 'Elegant Concrete Car', 56);
-INSERT INTO "order" (id, description, customer_id) VALUES (3603, 'Awesome Concrete Chair', 52);
-INSERT INTO "order" (id, description, customer_id) VALUES (3604, 'Intelligent Bronze Bacon', 88);
-INSERT INTO "order" (id, description, customer_id) VALUES (3605, 'Electronic Rubber Shoes', 44);
-INSERT INTO "order" (id, description, customer_id) VALUES (3606, 'Ergonomic Fresh Hat', 85);
-INSERT INTO "order" (id, description, customer_id) VALUES (3607, 'Recycled Soft Pants', 78);
-INSERT INTO "order" (id, description, customer_id) VALUES (3608, 'Intelligent Wooden Fish', 58);
-INSERT INTO "order" (id, description, customer_id) VALUES (3609, 'Modern Plastic Table', 6);
-INSERT INTO "order" (id, description, customer_id) VALUES (3610, 'Modern Wooden Soap', 94);
-INSERT INTO "order" (id, description, customer_id) VALUES (3611, 'Handmade Steel Soap', 77);
-INSERT INTO "order" (id, description, customer_id) VALUES (3612, 'Recycled Fresh Chair', 89);
-INSERT INTO "order" (id, description, customer_id) VALUES (3613, 'Generic Soft Keyboard', 36);
-INSERT INTO "order" (id, description, customer_id) VALUES (3614, 'Sleek Soft Sausages', 78);
-INSERT INTO "order" (id, description, customer_id) VALUES (3615, 'Licensed Concrete Shirt', 3);
-INSERT INTO "order" (id, description, customer_id) VALUES (3616, 'Gorgeous Wooden Bike', 46);
-INSERT INTO "order" (id, description, customer_id) VALUES (3617, 'Incredible Cotton Chair', 19);
-INSERT INTO "order" (id, description, customer_id) VALUES (3618, 'Bespoke Bronze Shoes', 80);
-INSERT INTO "order" (id, description, customer_id) VALUES (3619, 'Intelligent Granite Hat', 58);
-INSERT INTO "order" (id, description, customer_id) VALUES (3620, 'Generic Cotton Cheese', 80);
-INSERT INTO "order" (id, description, customer_id) VALUES (3621, 'Oriental Bronze Computer', 42);
-INSERT INTO "order" (id, description, customer_id) VALUES (3622, 'Rustic Fresh Mouse', 100);
-INSERT INTO "order" (id, description, customer_id) VALUES (3623, 'Unbranded Granite Hat', 84);
-INSERT INTO "order" (id, description, customer_id) VALUES (3624, 'Incredible Cotton Pizza', 92);
-INSERT INTO "order" (id, description, customer_id) VALUES (3625, 'Licensed Frozen Tuna', 11);
-INSERT INTO "order" (id, description, customer_id) VALUES (3626, 'Awesome Soft Mouse', 86);
-INSERT INTO "order" (id, description, customer_id) VALUES (3627, 'Handcrafted Soft Bacon', 77);
-INSERT INTO "order" (id, description, customer_id) VALUES (3628, 'Handmade Fresh Car', 96);
-INSERT INTO "order" (id, description, customer_id) VALUES (3629, 'Modern Bronze Fish', 51);
-INSERT INTO "order" (id, description, customer_id) VALUES (3630, 'Luxurious Rubber Fish', 19);
-INSERT INTO "order" (id, description, customer_id) VALUES (3631, 'Unbranded Cotton Sausages', 54);
-INSERT INTO "order" (id, description, customer_id) VALUES (3632, 'Incredible Soft Chair', 61);
-INSERT INTO "order" (id, description, customer_id) VALUES (3633, 'Electronic Metal Shirt', 11);
-INSERT INTO "order" (id, description, customer_id) VALUES (3634, 'Unbranded Metal Sausages', 76);
-INSERT INTO "order" (id, description, customer_id) VALUES (3635, 'Fantastic Bronze Pants', 31);
-INSERT INTO "order" (id, description, customer_id) VALUES (3636, 'Oriental Granite Shoes', 55);
-INSERT INTO "order" (id, description, customer_id) VALUES (3637, 'Rustic Granite Hat', 26);
-INSERT INTO "order" (id, description, customer_id) VALUES (3638, 'Luxurious Wooden Car', 8);
-INSERT INTO "order" (id, description, customer_id) VALUES (3639, 'Recycled Fresh Computer', 33);
-INSERT INTO "order" (id, description, customer_id) VALUES (3640, 'Sleek Steel Bacon', 65);
-INSERT INTO "order" (id, description, customer_id) VALUES (3641, 'Luxurious Fresh Keyboard', 60);
-INSERT INTO "order" (id, description, customer_id) VALUES (3642, 'Handcrafted Fresh Table', 1);
-INSERT INTO "order" (id, description, customer_id) VALUES (3643, 'Generic Rubber Gloves', 73);
-INSERT INTO "order" (id, description, customer_id) VALUES (3644, 'Licensed Cotton Cheese', 63);
-INSERT INTO "order" (id, description, customer_id) VALUES (3645, 'Oriental Soft Salad', 91);
-INSERT INTO "order" (id, description, customer_id) VALUES (3646, 'Ergonomic Bronze Bacon', 76);
-INSERT INTO "order" (id, description, customer_id) VALUES (3647, 'Bespoke Metal Shoes', 7);
-INSERT INTO "order" (id, description, customer_id) VALUES (3648, 'Generic Steel Chips', 49);
-INSERT INTO "order" (id, description, customer_id) VALUES (3649, 'Fantastic Frozen Cheese', 7);
-INSERT INTO "order" (id, description, customer_id) VALUES (3650, 'Fantastic Frozen Chicken', 32);
-INSERT INTO "order" (id, description, customer_id) VALUES (3651, 'Refined Bronze Ball', 56);
-INSERT INTO "order" (id, description, customer_id) VALUES (3652, 'Ergonomic Plastic Ball', 51);
-INSERT INTO "order" (id, description, customer_id) VALUES (3653, 'Oriental Bronze Salad', 7);
-INSERT INTO "order" (id, description, customer_id) VALUES (3654, 'Refined Fresh Mouse', 17);
-INSERT INTO "order" (id, description, customer_id) VALUES (3655, 'Bespoke Plastic Soap', 26);
-INSERT INTO "order" (id, description, customer_id) VALUES (3656, 'Unbranded Soft Keyboard', 51);
-INSERT INTO "order" (id, description, customer_id) VALUES (3657, 'Small Plastic Keyboard', 80);
-INSERT INTO "order" (id, description, customer_id) VALUES (3658, 'Generic Fresh Hat', 35);
-INSERT INTO "order" (id, description, customer_id) VALUES (3659, 'Bespoke Frozen Soap', 40);
-INSERT INTO "order" (id, description, customer_id) VALUES (3660, 'Electronic Metal Shirt', 59);
-INSERT INTO "order" (id, description, customer_id) VALUES (3661, 'Small Frozen Mouse', 69);
-INSERT INTO "order" (id, description, customer_id) VALUES (3662, 'Licensed Rubber Gloves', 47);
-INSERT INTO "order" (id, description, customer_id) VALUES (3663, 'Electronic Steel Hat', 15);
-INSERT INTO "order" (id, description, customer_id) VALUES (3664, 'Generic Rubber Chair', 75);
-INSERT INTO "order" (id, description, customer_id) VALUES (3665, 'Refined Fresh Towels', 17);
-INSERT INTO "order" (id, description, customer_id) VALUES (3666, 'Generic Concrete Mouse', 67);
-INSERT INTO "order" (id, description, customer_id) VALUES (3667, 'Incredible Soft Pizza', 63);
-INSERT INTO "order" (id, description, customer_id) VALUES (3668, 'Refined Fresh Gloves', 97);
-INSERT INTO "order" (id, description, customer_id) VALUES (3669, 'Generic Metal Fish', 97);
-INSERT INTO "order" (id, description, customer_id) VALUES (3670, 'Modern Rubber Shoes', 26);
-INSERT INTO "order" (id, description, customer_id) VALUES (3671, 'Incredible Cotton Shirt', 62);
-INSERT INTO "order" (id, description, customer_id) VALUES (3672, 'Handmade Concrete Computer', 56);
-INSERT INTO "order" (id, description, customer_id) VALUES (3673, 'Generic Metal Computer', 29);
-INSERT INTO "order" (id, description, customer_id) VALUES (3674, 'Incredible Plastic Mouse', 90);
-INSERT INTO "order" (id, description, customer_id) VALUES (3675, 'Unbranded Concrete Table', 44);
-INSERT INTO "order" (id, description, customer_id) VALUES (3676, 'Tasty Plastic Gloves', 23);
-INSERT INTO "order" (id, description, customer_id) VALUES (3677, 'Incredible Cotton Fish', 5);
-INSERT INTO "order" (id, description, customer_id) VALUES (3678, 'Tasty Soft Gloves', 60);
-INSERT INTO "order" (id, description, customer_id) VALUES (3679, 'Luxurious Rubber Salad', 100);
-INSERT INTO "order" (id, description, customer_id) VALUES (3680, 'Luxurious Steel Pizza', 82);
-INSERT INTO "order" (id, description, customer_id) VALUES (3681, 'Awesome Bronze Chair', 38);
-INSERT INTO "order" (id, description, customer_id) VALUES (3682, 'Generic Bronze Bacon', 27);
-INSERT INTO "order" (id, description, customer_id) VALUES (3683, 'Sleek Steel Shirt', 87);
-INSERT INTO "order" (id, description, customer_id) VALUES (3684, 'Elegant Wooden Tuna', 61);
-INSERT INTO "order" (id, description, customer_id) VALUES (3685, 'Electronic Metal Bacon', 46);
-INSERT INTO "order" (id, description, customer_id) VALUES (3686, 'Intelligent Granite Salad', 99);
-INSERT INTO "order" (id, description, customer_id) VALUES (3687, 'Electronic Rubber Gloves', 26);
-INSERT INTO "order" (id, description, customer_id) VALUES (3688, 'Ergonomic Steel Bacon', 85);
-INSERT INTO "order" (id, description, customer_id) VALUES (3689, 'Bespoke Granite Sausages', 73);
-INSERT INTO "order" (id, description, customer_id) VALUES (3690, 'Luxurious Bronze Pizza', 15);
-INSERT INTO "order" (id, description, customer_id) VALUES (3691, 'Rustic Plastic Salad', 95);
-INSERT INTO "order" (id, description, customer_id) VALUES (3692, 'Bespoke Wooden Tuna', 16);
-INSERT INTO "order" (id, description, customer_id) VALUES (3693, 'Generic Frozen Gloves', 16);
-INSERT INTO "order" (id, description, customer_id) VALUES (3694, 'Licensed Fresh Bacon', 59);
-INSERT INTO "order" (id, description, customer_id) VALUES (3695, 'Generic Plastic Car', 25);
-INSERT INTO "order" (id, description, customer_id) VALUES (3696, 'Awesome Granite Chips', 75);
-INSERT INTO "order" (id, description, customer_id) VALUES (3697, 'Gorgeous Wooden Chair', 44);
-INSERT INTO "order" (id, description, customer_id) VALUES (3698, 'Elegant Frozen Shirt', 18);
-INSERT INTO "order" (id, description, customer_id) VALUES (3699, 'Awesome Granite Shoes', 92);
-INSERT INTO "order" (id, description, customer_id) VALUES (3700, 'Practical Metal Keyboard', 72);
-INSERT INTO "order" (id, description, customer_id) VALUES (3701, 'Generic Frozen Cheese', 71);
-INSERT INTO "order" (id, description, customer_id) VALUES (3702, 'Incredible Metal Car', 50);
-INSERT INTO "order" (id, description, customer_id) VALUES (3703, 'Awesome Bronze Pizza', 58);
-INSERT INTO "order" (id, description, customer_id) VALUES (3704, 'Small Wooden Computer', 78);
-INSERT INTO "order" (id, description, customer_id) VALUES (3705, 'Intelligent Metal Table', 88);
-INSERT INTO "order" (id, description, customer_id) VALUES (3706, 'Oriental Granite Computer', 43);
-INSERT INTO "order" (id, description, customer_id) VALUES (3707, 'Unbranded Rubber Car', 66);
-INSERT INTO "order" (id, description, customer_id) VALUES (3708, 'Practical Rubber Chips', 77);
-INSERT INTO "order" (id, description, customer_id) VALUES (3709, 'Modern Bronze Computer', 2);
-INSERT INTO "order" (id, description, customer_id) VALUES (3710, 'Fantastic Granite Pants', 100);
-INSERT INTO "order" (id, description, customer_id) VALUES (3711, 'Handmade Wooden Pizza', 59);
-INSERT INTO "order" (id, description, customer_id) VALUES (3712, 'Awesome Rubber Computer', 62);
-INSERT INTO "order" (id, description, customer_id) VALUES (3713, 'Practical Soft Pizza', 63);
-INSERT INTO "order" (id, description, customer_id) VALUES (3714, 'Unbranded Frozen Mouse', 3);
-INSERT INTO "order" (id, description, customer_id) VALUES (3715, 'Tasty Bronze Gloves', 26);
-INSERT INTO "order" (id, description, customer_id) VALUES (3716, 'Handmade Granite Car', 71);
-INSERT INTO "order" (id, description, customer_id) VALUES (3717, 'Handmade Steel Tuna', 51);
-INSERT INTO "order" (id, description, customer_id) VALUES (3718, 'Gorgeous Plastic Pizza', 51);
-INSERT INTO "order" (id, description, customer_id) VALUES (3719, 'Tasty Soft Car', 96);
-INSERT INTO "order" (id, description, customer_id) VALUES (3720, 'Elegant Bronze Pizza', 95);
-INSERT INTO "order" (id, description, customer_id) VALUES (3721, 'Oriental Concrete Chips', 81);
-INSERT INTO "order" (id, description, customer_id) VALUES (3722, 'Modern Wooden Cheese', 77);
-INSERT INTO "order" (id, description, customer_id) VALUES (3723, 'Elegant Wooden Shirt', 13);
-INSERT INTO "order" (id, description, customer_id) VALUES (3724, 'Tasty Rubber Ball', 66);
-INSERT INTO "order" (id, description, customer_id) VALUES (3725, 'Modern Plastic Pants', 75);
-INSERT INTO "order" (id, description, customer_id) VALUES (3726, 'Refined Cotton Chicken', 39);
-INSERT INTO "order" (id, description, customer_id) VALUES (3727, 'Recycled Frozen Sausages', 20);
-INSERT INTO "order" (id, description, customer_id) VALUES (3728, 'Licensed Fresh Shirt', 52);
-INSERT INTO "order" (id, description, customer_id) VALUES (3729, 'Elegant Frozen Ball', 7);
-INSERT INTO "order" (id, description, customer_id) VALUES (3730, 'Incredible Concrete Fish', 15);
-INSERT INTO "order" (id, description, customer_id) VALUES (3731, 'Incredible Cotton Tuna', 44);
-INSERT INTO "order" (id, description, customer_id) VALUES (3732, 'Small Wooden Gloves', 73);
-INSERT INTO "order" (id, description, customer_id) VALUES (3733, 'Intelligent Frozen Shirt', 77);
-INSERT INTO "order" (id, description, customer_id) VALUES (3734, 'Unbranded Soft Ball', 78);
-INSERT INTO "order" (id, description, customer_id) VALUES (3735, 'Sleek Granite Computer', 88);
-INSERT INTO "order" (id, description, customer_id) VALUES (3736, 'Luxurious Metal Fish', 44);
-INSERT INTO "order" (id, description, customer_id) VALUES (3737, 'Small Fresh Cheese', 7);
-INSERT INTO "order" (id, description, customer_id) VALUES (3738, 'Electronic Soft Fish', 72);
-INSERT INTO "order" (id, description, customer_id) VALUES (3739, 'Incredible Frozen Shoes', 96);
-INSERT INTO "order" (id, description, customer_id) VALUES (3740, 'Elegant Plastic Towels', 99);
-INSERT INTO "order" (id, description, customer_id) VALUES (3741, 'Recycled Steel Bacon', 39);
-INSERT INTO "order" (id, description, customer_id) VALUES (3742, 'Gorgeous Metal Pizza', 7);
-INSERT INTO "order" (id, description, customer_id) VALUES (3743, 'Refined Concrete Shoes', 12);
-INSERT INTO "order" (id, description, customer_id) VALUES (3744, 'Licensed Cotton Tuna', 67);
-INSERT INTO "order" (id, description, customer_id) VALUES (3745, 'Small Soft Bike', 38);
-INSERT INTO "order" (id, description, customer_id) VALUES (3746, 'Ergonomic Concrete Fish', 14);
-INSERT INTO "order" (id, description, customer_id) VALUES (3747, 'Refined Rubber Chicken', 82);
-INSERT INTO "order" (id, description, customer_id) VALUES (3748, 'Licensed Rubber Pizza', 90);
-INSERT INTO "order" (id, description, customer_id) VALUES (3749, 'Handmade Steel Cheese', 34);
-INSERT INTO "order" (id, description, customer_id) VALUES (3750, 'Fantastic Rubber Salad', 76);
-INSERT INTO "order" (id, description, customer_id) VALUES (3751, 'Electronic Metal Ball', 85);
-INSERT INTO "order" (id, description, customer_id) VALUES (3752, 'Handcrafted Soft Bike', 50);
-INSERT INTO "order" (id, description, customer_id) VALUES (3753, 'Modern Concrete Tuna', 69);
-INSERT INTO "order" (id, description, customer_id) VALUES (3754, 'Gorgeous Concrete Car', 8);
-INSERT INTO "order" (id, description, customer_id) VALUES (3755, 'Incredible Plastic Cheese', 26);
-INSERT INTO "order" (id, description, customer_id) VALUES (3756, 'Luxurious Rubber Shoes', 51);
-INSERT INTO "order" (id, description, customer_id) VALUES (3757, 'Bespoke Bronze Tuna', 19);
-INSERT INTO "order" (id, description, customer_id) VALUES (3758, 'Sleek Frozen Mouse', 8);
-INSERT INTO "order" (id, description, customer_id) VALUES (3759, 'Electronic Metal Shoes', 85);
-INSERT INTO "order" (id, description, customer_id) VALUES (3760, 'Bespoke Frozen Shirt', 83);
-INSERT INTO "order" (id, description, customer_id) VALUES (3761, 'Intelligent Rubber Chicken', 45);
-INSERT INTO "order" (id, description, customer_id) VALUES (3762, 'Practical Plastic Chicken', 83);
-INSERT INTO "order" (id, description, customer_id) VALUES (3763, 'Small Fresh Tuna', 16);
-INSERT INTO "order" (id, description, customer_id) VALUES (3764, 'Gorgeous Metal Bacon', 25);
-INSERT INTO "order" (id, description, customer_id) VALUES (3765, 'Handmade Cotton Fish', 49);
-INSERT INTO "order" (id, description, customer_id) VALUES (3766, 'Fantastic Frozen Soap', 60);
-INSERT INTO "order" (id, description, customer_id) VALUES (3767, 'Sleek Fresh Tuna', 87);
-INSERT INTO "order" (id, description, customer_id) VALUES (3768, 'Unbranded Bronze Chips', 48);
-INSERT INTO "order" (id, description, customer_id) VALUES (3769, 'Handcrafted Steel Bike', 49);
-INSERT INTO "order" (id, description, customer_id) VALUES (3770, 'Elegant Rubber Shirt', 45);
-INSERT INTO "order" (id, description, customer_id) VALUES (3771, 'Sleek Bronze Gloves', 68);
-INSERT INTO "order" (id, description, customer_id) VALUES (3772, 'Refined Metal Shirt', 69);
-INSERT INTO "order" (id, description, customer_id) VALUES (3773, 'Electronic Bronze Pants', 45);
-INSERT INTO "order" (id, description, customer_id) VALUES (3774, 'Small Cotton Fish', 60);
-INSERT INTO "order" (id, description, customer_id) VALUES (3775, 'Electronic Concrete Chair', 32);
-INSERT INTO "order" (id, description, customer_id) VALUES (3776, 'Gorgeous Steel Towels', 55);
-INSERT INTO "order" (id, description, customer_id) VALUES (3777, 'Luxurious Rubber Ball', 19);
-INSERT INTO "order" (id, description, customer_id) VALUES (3778, 'Modern Bronze Keyboard', 84);
-INSERT INTO "order" (id, description, customer_id) VALUES (3779, 'Small Rubber Shoes', 90);
-INSERT INTO "order" (id, description, customer_id) VALUES (3780, 'Refined Frozen Tuna', 87);
-INSERT INTO "order" (id, description, customer_id) VALUES (3781, 'Licensed Metal Keyboard', 11);
-INSERT INTO "order" (id, description, customer_id) VALUES (3782, 'Handmade Plastic Shirt', 26);
-INSERT INTO "order" (id, description, customer_id) VALUES (3783, 'Elegant Wooden Cheese', 8);
-INSERT INTO "order" (id, description, customer_id) VALUES (3784, 'Practical Wooden Salad', 42);
-INSERT INTO "order" (id, description, customer_id) VALUES (3785, 'Recycled Rubber Soap', 79);
-INSERT INTO "order" (id, description, customer_id) VALUES (3786, 'Licensed Metal Computer', 30);
-INSERT INTO "order" (id, description, customer_id) VALUES (3787, 'Bespoke Concrete Cheese', 63);
-INSERT INTO "order" (id, description, customer_id) VALUES (3788, 'Rustic Plastic Pants', 91);
-INSERT INTO "order" (id, description, customer_id) VALUES (3789, 'Luxurious Frozen Sausages', 83);
-INSERT INTO "order" (id, description, customer_id) VALUES (3790, 'Ergonomic Steel Tuna', 28);
-INSERT INTO "order" (id, description, customer_id) VALUES (3791, 'Unbranded Cotton Bacon', 73);
-INSERT INTO "order" (id, description, customer_id) VALUES (3792, 'Fantastic Concrete Chicken', 81);
-INSERT INTO "order" (id, description, customer_id) VALUES (3793, 'Intelligent Granite Pizza', 24);
-INSERT INTO "order" (id, description, customer_id) VALUES (3794, 'Oriental Frozen Pizza', 76);
-INSERT INTO "order" (id, description, customer_id) VALUES (3795, 'Oriental Granite Mouse', 23);
-INSERT INTO "order" (id, description, customer_id) VALUES (3796, 'Electronic Soft Towels', 81);
-INSERT INTO "order" (id, description, customer_id) VALUES (3797, 'Sleek Fresh Bacon', 68);
-INSERT INTO "order" (id, description, customer_id) VALUES (3798, 'Licensed Plastic Hat', 6);
-INSERT INTO "order" (id, description, customer_id) VALUES (3799, 'Handmade Frozen Car', 37);
-INSERT INTO "order" (id, description, customer_id) VALUES (3800, 'Elegant Steel Bacon', 9);
-INSERT INTO "order" (id, description, customer_id) VALUES (3801, 'Practical Granite Soap', 11);
-INSERT INTO "order" (id, description, customer_id) VALUES (3802, 'Tasty Fresh Bike', 48);
-INSERT INTO "order" (id, description, customer_id) VALUES (3803, 'Unbranded Bronze Mouse', 89);
-INSERT INTO "order" (id, description, customer_id) VALUES (3804, 'Refined Steel Bike', 53);
-INSERT INTO "order" (id, description, customer_id) VALUES (3805, 'Awesome Rubber Car', 48);
-INSERT INTO "order" (id, description, customer_id) VALUES (3806, 'Awesome Cotton Cheese', 40);
-INSERT INTO "order" (id, description, customer_id) VALUES (3807, 'Intelligent Granite Ball', 3);
-INSERT INTO "order" (id, description, customer_id) VALUES (3808, 'Bespoke Plastic Car', 47);
-INSERT INTO "order" (id, description, customer_id) VALUES (3809, 'Awesome Bronze Chips', 51);
-INSERT INTO "order" (id, description, customer_id) VALUES (3810, 'Handmade Soft Table', 66);
-INSERT INTO "order" (id, description, customer_id) VALUES (3811, 'Fantastic Steel Pizza', 47);
-INSERT INTO "order" (id, description, customer_id) VALUES (3812, 'Refined Metal Tuna', 82);
-INSERT INTO "order" (id, description, customer_id) VALUES (3813, 'Incredible Wooden Car', 78);
-INSERT INTO "order" (id, description, customer_id) VALUES (3814, 'Oriental Bronze Soap', 56);
-INSERT INTO "order" (id, description, customer_id) VALUES (3815, 'Rustic Plastic Hat', 35);
-INSERT INTO "order" (id, description, customer_id) VALUES (3816, 'Bespoke Concrete Chicken', 57);
-INSERT INTO "order" (id, description, customer_id) VALUES (3817, 'Elegant Metal Keyboard', 70);
-INSERT INTO "order" (id, description, customer_id) VALUES (3818, 'Electronic Plastic Soap', 80);
-INSERT INTO "order" (id, description, customer_id) VALUES (3819, 'Incredible Wooden Table', 46);
-INSERT INTO "order" (id, description, customer_id) VALUES (3820, 'Modern Concrete Bacon', 88);
-INSERT INTO "order" (id, description, customer_id) VALUES (3821, 'Handmade Steel Hat', 43);
-INSERT INTO "order" (id, description, customer_id) VALUES (3822, 'Luxurious Concrete Sausages', 64);
-INSERT INTO "order" (id, description, customer_id) VALUES (3823, 'Gorgeous Bronze Computer', 8);
-INSERT INTO "order" (id, description, customer_id) VALUES (3824, 'Fantastic Wooden Fish', 20);
-INSERT INTO "order" (id, description, customer_id) VALUES (3825, 'Tasty Rubber Cheese', 62);
-INSERT INTO "order" (id, description, customer_id) VALUES (3826, 'Ergonomic Soft Shirt', 33);
-INSERT INTO "order" (id, description, customer_id) VALUES (3827, 'Recycled Concrete Towels', 83);
-INSERT INTO "order" (id, description, customer_id) VALUES (3828, 'Rustic Frozen Towels', 92);
-INSERT INTO "order" (id, description, customer_id) VALUES (3829, 'Electronic Steel Bike', 8);
-INSERT INTO "order" (id, description, customer_id) VALUES (3830, 'Ergonomic Concrete Salad', 15);
-INSERT INTO "order" (id, description, customer_id) VALUES (3831, 'Incredible Frozen Keyboard', 35);
-INSERT INTO "order" (id, description, customer_id) VALUES (3832, 'Fantastic Fresh Hat', 48);
-INSERT INTO "order" (id, description, customer_id) VALUES (3833, 'Modern Cotton Car', 43);
-INSERT INTO "order" (id, description, customer_id) VALUES (3834, 'Gorgeous Steel Shirt', 42);
-INSERT INTO "order" (id, description, customer_id) VALUES (3835, 'Electronic Bronze Ball', 86);
-INSERT INTO "order" (id, description, customer_id) VALUES (3836, 'Gorgeous Steel Mouse', 97);
-INSERT INTO "order" (id, description, customer_id) VALUES (3837, 'Licensed Granite Pants', 31);
-INSERT INTO "order" (id, description, customer_id) VALUES (3838, 'Unbranded Bronze Mouse', 87);
-INSERT INTO "order" (id, description, customer_id) VALUES (3839, 'Fantastic Steel Hat', 83);
-INSERT INTO "order" (id, description, customer_id) VALUES (3840, 'Handmade Granite Car', 48);
-INSERT INTO "order" (id, description, customer_id) VALUES (3841, 'Gorgeous Metal Chair', 92);
-INSERT INTO "order" (id, description, customer_id) VALUES (3842, 'Practical Frozen Gloves', 28);
-INSERT INTO "order" (id, description, customer_id) VALUES (3843, 'Modern Bronze Bike', 94);
-INSERT INTO "order" (id, description, customer_id) VALUES (3844, 'Luxurious Bronze Towels', 9);
-INSERT INTO "order" (id, description, customer_id) VALUES (3845, 'Incredible Wooden Bacon', 57);
-INSERT INTO "order" (id, description, customer_id) VALUES (3846, 'Unbranded Concrete Chicken', 85);
-INSERT INTO "order" (id, description, customer_id) VALUES (3847, 'Handcrafted Metal Ball', 91);
-INSERT INTO "order" (id, description, customer_id) VALUES (3848, 'Oriental Granite Chicken', 90);
-INSERT INTO "order" (id, description, customer_id) VALUES (3849, 'Recycled Steel Computer', 1);
-INSERT INTO "order" (id, description, customer_id) VALUES (3850, 'Ergonomic Soft Sausages', 7);
-INSERT INTO "order" (id, description, customer_id) VALUES (3851, 'Generic Rubber Pizza', 89);
-INSERT INTO "order" (id, description, customer_id) VALUES (3852, 'Licensed Bronze Pizza', 37);
-INSERT INTO "order" (id, description, customer_id) VALUES (3853, 'Refined Frozen Cheese', 44);
-INSERT INTO "order" (id, description, customer_id) VALUES (3854, 'Small Plastic Fish', 5);
-INSERT INTO "order" (id, description, customer_id) VALUES (3855, 'Rustic Plastic Soap', 44);
-INSERT INTO "order" (id, description, customer_id) VALUES (3856, 'Small Soft Ball', 77);
-INSERT INTO "order" (id, description, customer_id) VALUES (3857, 'Bespoke Rubber Keyboard', 49);
-INSERT INTO "order" (id, description, customer_id) VALUES (3858, 'Luxurious Cotton Car', 5);
-INSERT INTO "order" (id, description, customer_id) VALUES (3859, 'Handcrafted Wooden Mouse', 11);
-INSERT INTO "order" (id, description, customer_id) VALUES (3860, 'Fantastic Granite Shoes', 81);
-INSERT INTO "order" (id, description, customer_id) VALUES (3861, 'Refined Plastic Cheese', 66);
-INSERT INTO "order" (id, description, customer_id) VALUES (3862, 'Oriental Steel Salad', 9);
-INSERT INTO "order" (id, description, customer_id) VALUES (3863, 'Recycled Concrete Salad', 34);
-INSERT INTO "order" (id, description, customer_id) VALUES (3864, 'Licensed Frozen Hat', 3);
-INSERT INTO "order" (id, description, customer_id) VALUES (3865, 'Modern Rubber Shoes', 1);
-INSERT INTO "order" (id, description, customer_id) VALUES (3866, 'Electronic Frozen Table', 66);
-INSERT INTO "order" (id, description, customer_id) VALUES (3867, 'Refined Plastic Pizza', 47);
-INSERT INTO "order" (id, description, customer_id) VALUES (3868, 'Elegant Wooden Towels', 11);
-INSERT INTO "order" (id, description, customer_id) VALUES (3869, 'Awesome Granite Soap', 29);
-INSERT INTO "order" (id, description, customer_id) VALUES (3870, 'Oriental Granite Shoes', 3);
-INSERT INTO "order" (id, description, customer_id) VALUES (3871, 'Unbranded Fresh Table', 83);
-INSERT INTO "order" (id, description, customer_id) VALUES (3872, 'Awesome Cotton Salad', 54);
-INSERT INTO "order" (id, description, customer_id) VALUES (3873, 'Modern Rubber Shirt', 36);
-INSERT INTO "order" (id, description, customer_id) VALUES (3874, 'Intelligent Cotton Shoes', 19);
-INSERT INTO "order" (id, description, customer_id) VALUES (3875, 'Fantastic Fresh Cheese', 45);
-INSERT INTO "order" (id, description, customer_id) VALUES (3876, 'Licensed Concrete Salad', 29);
-INSERT INTO "order" (id, description, customer_id) VALUES (3877, 'Intelligent Rubber Shoes', 8);
-INSERT INTO "order" (id, description, customer_id) VALUES (3878, 'Electronic Wooden Shoes', 7);
-INSERT INTO "order" (id, description, customer_id) VALUES (3879, 'Bespoke Cotton Car', 92);
-INSERT INTO "order" (id, description, customer_id) VALUES (3880, 'Practical Rubber Shoes', 98);
-INSERT INTO "order" (id, description, customer_id) VALUES (3881, 'Practical Wooden Salad', 23);
-INSERT INTO "order" (id, description, customer_id) VALUES (3882, 'Practical Wooden Mouse', 95);
-INSERT INTO "order" (id, description, customer_id) VALUES (3883, 'Tasty Bronze Mouse', 32);
-INSERT INTO "order" (id, description, customer_id) VALUES (3884, 'Rustic Soft Shoes', 14);
-INSERT INTO "order" (id, description, customer_id) VALUES (3885, 'Practical Plastic Sausages', 69);
-INSERT INTO "order" (id, description, customer_id) VALUES (3886, 'Luxurious Bronze Hat', 63);
-INSERT INTO "order" (id, description, customer_id) VALUES (3887, 'Gorgeous Cotton Shoes', 52);
-INSERT INTO "order" (id, description, customer_id) VALUES (3888, 'Generic Plastic Soap', 55);
-INSERT INTO "order" (id, description, customer_id) VALUES (3889, 'Luxurious Wooden Sausages', 86);
-INSERT INTO "order" (id, description, customer_id) VALUES (3890, 'Intelligent Steel Fish', 53);
-INSERT INTO "order" (id, description, customer_id) VALUES (3891, 'Luxurious Metal Soap', 2);
-INSERT INTO "order" (id, description, customer_id) VALUES (3892, 'Gorgeous Granite Towels', 64);
-INSERT INTO "order" (id, description, customer_id) VALUES (3893, 'Recycled Granite Tuna', 76);
-INSERT INTO "order" (id, description, customer_id) VALUES (3894, 'Electronic Rubber Soap', 73);
-INSERT INTO "order" (id, description, customer_id) VALUES (3895, 'Oriental Metal Chicken', 13);
-INSERT INTO "order" (id, description, customer_id) VALUES (3896, 'Unbranded Metal Shirt', 23);
-INSERT INTO "order" (id, description, customer_id) VALUES (3897, 'Generic Cotton Cheese', 26);
-INSERT INTO "order" (id, description, customer_id) VALUES (3898, 'Modern Rubber Bacon', 86);
-INSERT INTO "order" (id, description, customer_id) VALUES (3899, 'Intelligent Wooden Computer', 55);
-INSERT INTO "order" (id, description, customer_id) VALUES (3900, 'Handmade Frozen Salad', 88);
-INSERT INTO "order" (id, description, customer_id) VALUES (3901, 'Ergonomic Bronze Bacon', 34);
-INSERT INTO "order" (id, description, customer_id) VALUES (3902, 'Fantastic Bronze Towels', 34);
-INSERT INTO "order" (id, description, customer_id) VALUES (3903, 'Tasty Bronze Fish', 73);
-INSERT INTO "order" (id, description, customer_id) VALUES (3904, 'Gorgeous Steel Soap', 17);
-INSERT INTO "order" (id, description, customer_id) VALUES (3905, 'Ergonomic Soft Pizza', 26);
-INSERT INTO "order" (id, description, customer_id) VALUES (3906, 'Intelligent Granite Soap', 67);
-INSERT INTO "order" (id, description, customer_id) VALUES (3907, 'Rustic Bronze Bacon', 72);
-INSERT INTO "order" (id, description, customer_id) VALUES (3908, 'Refined Rubber Towels', 14);
-INSERT INTO "order" (id, description, customer_id) VALUES (3909, 'Ergonomic Cotton Shoes', 44);
-INSERT INTO "order" (id, description, customer_id) VALUES (3910, 'Tasty Rubber Hat', 68);
-INSERT INTO "order" (id, description, customer_id) VALUES (3911, 'Generic Rubber Sausages', 87);
-INSERT INTO "order" (id, description, customer_id) VALUES (3912, 'Generic Soft Bike', 54);
-INSERT INTO "order" (id, description, customer_id) VALUES (3913, 'Recycled Fresh Shirt', 2);
-INSERT INTO "order" (id, description, customer_id) VALUES (3914, 'Generic Fresh Keyboard', 48);
-INSERT INTO "order" (id, description, customer_id) VALUES (3915, 'Ergonomic Concrete Salad', 88);
-INSERT INTO "order" (id, description, customer_id) VALUES (3916, 'Generic Granite Bacon', 2);
-INSERT INTO "order" (id, description, customer_id) VALUES (3917, 'Generic Granite Shoes', 88);
-INSERT INTO "order" (id, description, customer_id) VALUES (3918, 'Bespoke Fresh Shirt', 81);
-INSERT INTO "order" (id, description, customer_id) VALUES (3919, 'Fantastic Rubber Towels', 39);
-INSERT INTO "order" (id, description, customer_id) VALUES (3920, 'Fantastic Rubber Hat', 51);
-INSERT INTO "order" (id, description, customer_id) VALUES (3921, 'Sleek Steel Shirt', 64);
-INSERT INTO "order" (id, description, customer_id) VALUES (3922, 'Bespoke Cotton Bacon', 92);
-INSERT INTO "order" (id, description, customer_id) VALUES (3923, 'Ergonomic Metal Chicken', 82);
-INSERT INTO "order" (id, description, customer_id) VALUES (3924, 'Handcrafted Bronze Gloves', 41);
-INSERT INTO "order" (id, description, customer_id) VALUES (3925, 'Handmade Cotton Chips', 5);
-INSERT INTO "order" (id, description, customer_id) VALUES (3926, 'Oriental Granite Mouse', 13);
-INSERT INTO "order" (id, description, customer_id) VALUES (3927, 'Generic Soft Computer', 96);
-INSERT INTO "order" (id, description, customer_id) VALUES (3928, 'Luxurious Rubber Mouse', 49);
-INSERT INTO "order" (id, description, customer_id) VALUES (3929, 'Unbranded Metal Keyboard', 70);
-INSERT INTO "order" (id, description, customer_id) VALUES (3930, 'Handcrafted Frozen Hat', 88);
-INSERT INTO "order" (id, description, customer_id) VALUES (3931, 'Electronic Fresh Tuna', 19);
-INSERT INTO "order" (id, description, customer_id) VALUES (3932, 'Licensed Frozen Sausages', 100);
-INSERT INTO "order" (id, description, customer_id) VALUES (3933, 'Gorgeous Bronze Chair', 26);
-INSERT INTO "order" (id, description, customer_id) VALUES (3934, 'Tasty Soft Keyboard', 80);
-INSERT INTO "order" (id, description, customer_id) VALUES (3935, 'Incredible Granite Computer', 83);
-INSERT INTO "order" (id, description, customer_id) VALUES (3936, 'Handmade Rubber Chicken', 39);
-INSERT INTO "order" (id, description, customer_id) VALUES (3937, 'Bespoke Cotton Shirt', 87);
-INSERT INTO "order" (id, description, customer_id) VALUES (3938, 'Handmade Soft Bike', 2);
-INSERT INTO "order" (id, description, customer_id) VALUES (3939, 'Recycled Granite Table', 7);
-INSERT INTO "order" (id, description, customer_id) VALUES (3940, 'Fantastic Cotton Salad', 20);
-INSERT INTO "order" (id, description, customer_id) VALUES (3941, 'Awesome Bronze Mouse', 71);
-INSERT INTO "order" (id, description, customer_id) VALUES (3942, 'Ergonomic Concrete Towels', 32);
-INSERT INTO "order" (id, description, customer_id) VALUES (3943, 'Luxurious Soft Pizza', 18);
-INSERT INTO "order" (id, description, customer_id) VALUES (3944, 'Luxurious Wooden Towels', 47);
-INSERT INTO "order" (id, description, customer_id) VALUES (3945, 'Tasty Wooden Bike', 78);
-INSERT INTO "order" (id, description, customer_id) VALUES (3946, 'Handmade Fresh Shoes', 3);
-INSERT INTO "order" (id, description, customer_id) VALUES (3947, 'Small Concrete Cheese', 46);
-INSERT INTO "order" (id, description, customer_id) VALUES (3948, 'Handmade Concrete Hat', 90);
-INSERT INTO "order" (id, description, customer_id) VALUES (3949, 'Luxurious Frozen Sausages', 36);
-INSERT INTO "order" (id, description, customer_id) VALUES (3950, 'Practical Concrete Gloves', 40);
-INSERT INTO "order" (id, description, customer_id) VALUES (3951, 'Refined Bronze Cheese', 85);
-INSERT INTO "order" (id, description, customer_id) VALUES (3952, 'Intelligent Concrete Table', 85);
-INSERT INTO "order" (id, description, customer_id) VALUES (3953, 'Handmade Concrete Bacon', 69);
-INSERT INTO "order" (id, description, customer_id) VALUES (3954, 'Recycled Concrete Keyboard', 53);
-INSERT INTO "order" (id, description, customer_id) VALUES (3955, 'Bespoke Rubber Gloves', 43);
-INSERT INTO "order" (id, description, customer_id) VALUES (3956, 'Ergonomic Frozen Cheese', 27);
-INSERT INTO "order" (id, description, customer_id) VALUES (3957, 'Recycled Steel Keyboard', 95);
-INSERT INTO "order" (id, description, customer_id) VALUES (3958, 'Awesome Rubber Pants', 43);
-INSERT INTO "order" (id, description, customer_id) VALUES (3959, 'Oriental Plastic Chips', 45);
-INSERT INTO "order" (id, description, customer_id) VALUES (3960, 'Sleek Soft Sausages', 34);
-INSERT INTO "order" (id, description, customer_id) VALUES (3961, 'Luxurious Granite Table', 9);
-INSERT INTO "order" (id, description, customer_id) VALUES (3962, 'Awesome Concrete Pants', 99);
-INSERT INTO "order" (id, description, customer_id) VALUES (3963, 'Incredible Soft Car', 87);
-INSERT INTO "order" (id, description, customer_id) VALUES (3964, 'Generic Frozen Car', 92);
-INSERT INTO "order" (id, description, customer_id) VALUES (3965, 'Incredible Wooden Shoes', 27);
-INSERT INTO "order" (id, description, customer_id) VALUES (3966, 'Small Wooden Cheese', 71);
-INSERT INTO "order" (id, description, customer_id) VALUES (3967, 'Electronic Soft Salad', 37);
-INSERT INTO "order" (id, description, customer_id) VALUES (3968, 'Unbranded Plastic Shirt', 31);
-INSERT INTO "order" (id, description, customer_id) VALUES (3969, 'Bespoke Fresh Bike', 71);
-INSERT INTO "order" (id, description, customer_id) VALUES (3970, 'Tasty Concrete Hat', 95);
-INSERT INTO "order" (id, description, customer_id) VALUES (3971, 'Sleek Plastic Sausages', 21);
-INSERT INTO "order" (id, description, customer_id) VALUES (3972, 'Oriental Cotton Ball', 28);
-INSERT INTO "order" (id, description, customer_id) VALUES (3973, 'Incredible Granite Chair', 79);
-INSERT INTO "order" (id, description, customer_id) VALUES (3974, 'Bespoke Granite Shirt', 34);
-INSERT INTO "order" (id, description, customer_id) VALUES (3975, 'Ergonomic Soft Pizza', 18);
-INSERT INTO "order" (id, description, customer_id) VALUES (3976, 'Fantastic Plastic Chicken', 56);
-INSERT INTO "order" (id, description, customer_id) VALUES (3977, 'Refined Cotton Soap', 99);
-INSERT INTO "order" (id, description, customer_id) VALUES (3978, 'Ergonomic Fresh Sausages', 55);
-INSERT INTO "order" (id, description, customer_id) VALUES (3979, 'Electronic Bronze Gloves', 87);
-INSERT INTO "order" (id, description, customer_id) VALUES (3980, 'Electronic Cotton Pants', 30);
-INSERT INTO "order" (id, description, customer_id) VALUES (3981, 'Handcrafted Concrete Hat', 19);
-INSERT INTO "order" (id, description, customer_id) VALUES (3982, 'Oriental Plastic Pizza', 4);
-INSERT INTO "order" (id, description, customer_id) VALUES (3983, 'Rustic Bronze Computer', 82);
-INSERT INTO "order" (id, description, customer_id) VALUES (3984, 'Electronic Fresh Table', 90);
-INSERT INTO "order" (id, description, customer_id) VALUES (3985, 'Recycled Rubber Pizza', 7);
-INSERT INTO "order" (id, description, customer_id) VALUES (3986, 'Refined Plastic Table', 48);
-INSERT INTO "order" (id, description, customer_id) VALUES (3987, 'Modern Plastic Ball', 85);
-INSERT INTO "order" (id, description, customer_id) VALUES (3988, 'Generic Bronze Fish', 9);
-INSERT INTO "order" (id, description, customer_id) VALUES (3989, 'Ergonomic Wooden Computer', 91);
-INSERT INTO "order" (id, description, customer_id) VALUES (3990, 'Bespoke Concrete Bacon', 10);
-INSERT INTO "order" (id, description, customer_id) VALUES (3991, 'Ergonomic Bronze Keyboard', 5);
-INSERT INTO "order" (id, description, customer_id) VALUES (3992, 'Handmade Plastic Table', 60);
-INSERT INTO "order" (id, description, customer_id) VALUES (3993, 'Refined Concrete Bacon', 35);
-INSERT INTO "order" (id, description, customer_id) VALUES (3994, 'Tasty Bronze Bike', 52);
-INSERT INTO "order" (id, description, customer_id) VALUES (3995, 'Unbranded Bronze Soap', 56);
-INSERT INTO "order" (id, description, customer_id) VALUES (3996, 'Refined Cotton Keyboard', 2);
-INSERT INTO "order" (id, description, customer_id) VALUES (3997, 'Bespoke Metal Shirt', 23);
-INSERT INTO "order" (id, description, customer_id) VALUES (3998, 'Sleek Steel Mouse', 44);
-INSERT INTO "order" (id, description, customer_id) VALUES (3999, 'Rustic Soft Shoes', 76);
-INSERT INTO "order" (id, description, customer_id) VALUES (4000, 'Practical Cotton Sausages', 56);
-INSERT INTO "order" (id, description, customer_id) VALUES (4001, 'Rustic Soft Hat', 46);
-INSERT INTO "order" (id, description, customer_id) VALUES (4002, 'Fantastic Rubber Ball', 80);
-INSERT INTO "order" (id, description, customer_id) VALUES (4003, 'Incredible Wooden Towels', 14);
-INSERT INTO "order" (id, description, customer_id) VALUES (4004, 'Ergonomic Wooden Salad', 46);
-INSERT INTO "order" (id, description, customer_id) VALUES (4005, 'Bespoke Steel Pizza', 29);
-INSERT INTO "order" (id, description, customer_id) VALUES (4006, 'Ergonomic Rubber Car', 42);
-INSERT INTO "order" (id, description, customer_id) VALUES (4007, 'Ergonomic Concrete Chicken', 90);
-INSERT INTO "order" (id, description, customer_id) VALUES (4008, 'Tasty Rubber Table', 44);
-INSERT INTO "order" (id, description, customer_id) VALUES (4009, 'Awesome Fresh Tuna', 40);
-INSERT INTO "order" (id, description, customer_id) VALUES (4010, 'Handcrafted Frozen Towels', 35);
-INSERT INTO "order" (id, description, customer_id) VALUES (4011, 'Rustic Bronze Tuna', 75);
-INSERT INTO "order" (id, description, customer_id) VALUES (4012, 'Handcrafted Metal Bike', 16);
-INSERT INTO "order" (id, description, customer_id) VALUES (4013, 'Gorgeous Rubber Keyboard', 82);
-INSERT INTO "order" (id, description, customer_id) VALUES (4014, 'Incredible Soft Keyboard', 68);
-INSERT INTO "order" (id, description, customer_id) VALUES (4015, 'Handcrafted Metal Keyboard', 41);
-INSERT INTO "order" (id, description, customer_id) VALUES (4016, 'Small Rubber Pizza', 55);
-INSERT INTO "order" (id, description, customer_id) VALUES (4017, 'Bespoke Steel Sausages', 56);
-INSERT INTO "order" (id, description, customer_id) VALUES (4018, 'Awesome Plastic Salad', 17);
-INSERT INTO "order" (id, description, customer_id) VALUES (4019, 'Modern Granite Keyboard', 59);
-INSERT INTO "order" (id, description, customer_id) VALUES (4020, 'Practical Metal Towels', 71);
-INSERT INTO "order" (id, description, customer_id) VALUES (4021, 'Unbranded Plastic Chips', 63);
-INSERT INTO "order" (id, description, customer_id) VALUES (4022, 'Tasty Steel Fish', 1);
-INSERT INTO "order" (id, description, customer_id) VALUES (4023, 'Licensed Concrete Computer', 43);
-INSERT INTO "order" (id, description, customer_id) VALUES (4024, 'Recycled Rubber Chair', 15);
-INSERT INTO "order" (id, description, customer_id) VALUES (4025, 'Luxurious Cotton Hat', 14);
-INSERT INTO "order" (id, description, customer_id) VALUES (4026, 'Generic Steel Bike', 14);
-INSERT INTO "order" (id, description, customer_id) VALUES (4027, 'Elegant Frozen Ball', 26);
-INSERT INTO "order" (id, description, customer_id) VALUES (4028, 'Practical Bronze Pants', 80);
-INSERT INTO "order" (id, description, customer_id) VALUES (4029, 'Incredible Fresh Pants', 89);
-INSERT INTO "order" (id, description, customer_id) VALUES (4030, 'Unbranded Fresh Chips', 38);
-INSERT INTO "order" (id, description, customer_id) VALUES (4031, 'Practical Rubber Car', 57);
-INSERT INTO "order" (id, description, customer_id) VALUES (4032, 'Incredible Metal Pants', 79);
-INSERT INTO "order" (id, description, customer_id) VALUES (4033, 'Ergonomic Metal Car', 76);
-INSERT INTO "order" (id, description, customer_id) VALUES (4034, 'Handcrafted Soft Keyboard', 15);
-INSERT INTO "order" (id, description, customer_id) VALUES (4035, 'Small Rubber Soap', 89);
-INSERT INTO "order" (id, description, customer_id) VALUES (4036, 'Ergonomic Frozen Pizza', 51);
-INSERT INTO "order" (id, description, customer_id) VALUES (4037, 'Licensed Bronze Towels', 77);
-INSERT INTO "order" (id, description, customer_id) VALUES (4038, 'Intelligent Fresh Fish', 23);
-INSERT INTO "order" (id, description, customer_id) VALUES (4039, 'Tasty Cotton Shoes', 23);
-INSERT INTO "order" (id, description, customer_id) VALUES (4040, 'Ergonomic Frozen Sausages', 77);
-INSERT INTO "order" (id, description, customer_id) VALUES (4041, 'Incredible Cotton Gloves', 84);
-INSERT INTO "order" (id, description, customer_id) VALUES (4042, 'Small Plastic Table', 66);
-INSERT INTO "order" (id, description, customer_id) VALUES (4043, 'Tasty Metal Bike', 89);
-INSERT INTO "order" (id, description, customer_id) VALUES (4044, 'Rustic Wooden Shirt', 66);
-INSERT INTO "order" (id, description, customer_id) VALUES (4045, 'Oriental Rubber Pizza', 10);
-INSERT INTO "order" (id, description, customer_id) VALUES (4046, 'Awesome Plastic Hat', 45);
-INSERT INTO "order" (id, description, customer_id) VALUES (4047, 'Sleek Granite Pizza', 67);
-INSERT INTO "order" (id, description, customer_id) VALUES (4048, 'Incredible Soft Chair', 23);
-INSERT INTO "order" (id, description, customer_id) VALUES (4049, 'Oriental Steel Hat', 40);
-INSERT INTO "order" (id, description, customer_id) VALUES (4050, 'Licensed Granite Car', 3);
-INSERT INTO "order" (id, description, customer_id) VALUES (4051, 'Ergonomic Granite Pizza', 17);
-INSERT INTO "order" (id, description, customer_id) VALUES (4052, 'Ergonomic Granite Pants', 35);
-INSERT INTO "order" (id, description, customer_id) VALUES (4053, 'Small Frozen Ball', 1);
-INSERT INTO "order" (id, description, customer_id) VALUES (4054, 'Bespoke Soft Pants', 17);
-INSERT INTO "order" (id, description, customer_id) VALUES (4055, 'Small Steel Tuna', 25);
-INSERT INTO "order" (id, description, customer_id) VALUES (4056, 'Incredible Fresh Mouse', 45);
-INSERT INTO "order" (id, description, customer_id) VALUES (4057, 'Intelligent Frozen Gloves', 7);
-INSERT INTO "order" (id, description, customer_id) VALUES (4058, 'Licensed Fresh Table', 100);
-INSERT INTO "order" (id, description, customer_id) VALUES (4059, 'Practical Metal Shirt', 23);
-INSERT INTO "order" (id, description, customer_id) VALUES (4060, 'Intelligent Frozen Bike', 77);
-INSERT INTO "order" (id, description, customer_id) VALUES (4061, 'Awesome Metal Table', 45);
-INSERT INTO "order" (id, description, customer_id) VALUES (4062, 'Oriental Cotton Mouse', 55);
-INSERT INTO "order" (id, description, customer_id) VALUES (4063, 'Electronic Wooden Table', 37);
-INSERT INTO "order" (id, description, customer_id) VALUES (4064, 'Oriental Wooden Shirt', 59);
-INSERT INTO "order" (id, description, customer_id) VALUES (4065, 'Handmade Frozen Pizza', 15);
-INSERT INTO "order" (id, description, customer_id) VALUES (4066, 'Generic Fresh Ball', 21);
-INSERT INTO "order" (id, description, customer_id) VALUES (4067, 'Refined Soft Bike', 28);
-INSERT INTO "order" (id, description, customer_id) VALUES (4068, 'Incredible Steel Cheese', 38);
-INSERT INTO "order" (id, description, customer_id) VALUES (4069, 'Practical Cotton Gloves', 11);
-INSERT INTO "order" (id, description, customer_id) VALUES (4070, 'Awesome Soft Pizza', 83);
-INSERT INTO "order" (id, description, customer_id) VALUES (4071, 'Fantastic Bronze Cheese', 93);
-INSERT INTO "order" (id, description, customer_id) VALUES (4072, 'Small Concrete Chicken', 25);
-INSERT INTO "order" (id, description, customer_id) VALUES (4073, 'Oriental Metal Towels', 72);
-INSERT INTO "order" (id, description, customer_id) VALUES (4074, 'Fantastic Concrete Gloves', 57);
-INSERT INTO "order" (id, description, customer_id) VALUES (4075, 'Electronic Frozen Tuna', 88);
-INSERT INTO "order" (id, description, customer_id) VALUES (4076, 'Practical Steel Computer', 51);
-INSERT INTO "order" (id, description, customer_id) VALUES (4077, 'Licensed Bronze Gloves', 9);
-INSERT INTO "order" (id, description, customer_id) VALUES (4078, 'Rustic Metal Fish', 85);
-INSERT INTO "order" (id, description, customer_id) VALUES (4079, 'Bespoke Plastic Hat', 30);
-INSERT INTO "order" (id, description, customer_id) VALUES (4080, 'Bespoke Rubber Mouse', 70);
-INSERT INTO "order" (id, description, customer_id) VALUES (4081, 'Practical Wooden Chips', 100);
-INSERT INTO "order" (id, description, customer_id) VALUES (4082, 'Rustic Bronze Chicken', 3);
-INSERT INTO "order" (id, description, customer_id) VALUES (4083, 'Incredible Fresh Bike', 33);
-INSERT INTO "order" (id, description, customer_id) VALUES (4084, 'Elegant Fresh Ball', 40);
-INSERT INTO "order" (id, description, customer_id) VALUES (4085, 'Luxurious Plastic Hat', 77);
-INSERT INTO "order" (id, description, customer_id) VALUES (4086, 'Practical Granite Keyboard', 24);
-INSERT INTO "order" (id, description, customer_id) VALUES (4087, 'Oriental Frozen Towels', 71);
-INSERT INTO "order" (id, description, customer_id) VALUES (4088, 'Awesome Soft Cheese', 55);
-INSERT INTO "order" (id, description, customer_id) VALUES (4089, 'Licensed Plastic Tuna', 33);
-INSERT INTO "order" (id, description, customer_id) VALUES (4090, 'Recycled Rubber Chair', 73);
-INSERT INTO "order" (id, description, customer_id) VALUES (4091, 'Handcrafted Rubber Shirt', 85);
-INSERT INTO "order" (id, description, customer_id) VALUES (4092, 'Practical Plastic Bacon', 21);
-INSERT INTO "order" (id, description, customer_id) VALUES (4093, 'Generic Concrete Chips', 87);
-INSERT INTO "order" (id, description, customer_id) VALUES (4094, 'Fantastic Granite Towels', 100);
-INSERT INTO "order" (id, description, customer_id) VALUES (4095, 'Luxurious Soft Table', 18);
-INSERT INTO "order" (id, description, customer_id) VALUES (4096, 'Ergonomic Wooden Cheese', 26);
-INSERT INTO "order" (id, description, customer_id) VALUES (4097, 'Rustic Granite Soap', 59);
-INSERT INTO "order" (id, description, customer_id) VALUES (4098, 'Bespoke Cotton Tuna', 41);
-INSERT INTO "order" (id, description, customer_id) VALUES (4099, 'Bespoke Frozen Bacon', 37);
-INSERT INTO "order" (id, description, customer_id) VALUES (4100, 'Practical Frozen Table', 28);
-INSERT INTO "order" (id, description, customer_id) VALUES (4101, 'Practical Granite Keyboard', 56);
-INSERT INTO "order" (id, description, customer_id) VALUES (4102, 'Tasty Concrete Chair', 12);
-INSERT INTO "order" (id, description, customer_id) VALUES (4103, 'Fantastic Plastic Bacon', 74);
-INSERT INTO "order" (id, description, customer_id) VALUES (4104, 'Modern Frozen Pants', 18);
-INSERT INTO "order" (id, description, customer_id) VALUES (4105, 'Modern Metal Car', 22);
-INSERT INTO "order" (id, description, customer_id) VALUES (4106, 'Small Frozen Gloves', 15);
-INSERT INTO "order" (id, description, customer_id) VALUES (4107, 'Electronic Cotton Chair', 28);
-INSERT INTO "order" (id, description, customer_id) VALUES (4108, 'Luxurious Rubber Cheese', 41);
-INSERT INTO "order" (id, description, customer_id) VALUES (4109, 'Tasty Bronze Bacon', 97);
-INSERT INTO "order" (id, description, customer_id) VALUES (4110, 'Bespoke Plastic Tuna', 36);
-INSERT INTO "order" (id, description, customer_id) VALUES (4111, 'Recycled Rubber Hat', 62);
-INSERT INTO "order" (id, description, customer_id) VALUES (4112, 'Small Wooden Sausages', 27);
-INSERT INTO "order" (id, description, customer_id) VALUES (4113, 'Sleek Cotton Car', 15);
-INSERT INTO "order" (id, description, customer_id) VALUES (4114, 'Tasty Concrete Ball', 81);
-INSERT INTO "order" (id, description, customer_id) VALUES (4115, 'Oriental Wooden Bacon', 55);
-INSERT INTO "order" (id, description, customer_id) VALUES (4116, 'Luxurious Wooden Towels', 43);
-INSERT INTO "order" (id, description, customer_id) VALUES (4117, 'Tasty Frozen Car', 43);
-INSERT INTO "order" (id, description, customer_id) VALUES (4118, 'Handcrafted Cotton Ball', 9);
-INSERT INTO "order" (id, description, customer_id) VALUES (4119, 'Electronic Granite Fish', 33);
-INSERT INTO "order" (id, description, customer_id) VALUES (4120, 'Oriental Cotton Ball', 19);
-INSERT INTO "order" (id, description, customer_id) VALUES (4121, 'Handmade Plastic Mouse', 80);
-INSERT INTO "order" (id, description, customer_id) VALUES (4122, 'Gorgeous Rubber Chips', 88);
-INSERT INTO "order" (id, description, customer_id) VALUES (4123, 'Intelligent Steel Computer', 94);
-INSERT INTO "order" (id, description, customer_id) VALUES (4124, 'Handcrafted Frozen Cheese', 40);
-INSERT INTO "order" (id, description, customer_id) VALUES (4125, 'Sleek Fresh Keyboard', 93);
-INSERT INTO "order" (id, description, customer_id) VALUES (4126, 'Awesome Bronze Salad', 85);
-INSERT INTO "order" (id, description, customer_id) VALUES (4127, 'Tasty Bronze Car', 38);
-INSERT INTO "order" (id, description, customer_id) VALUES (4128, 'Gorgeous Frozen Mouse', 59);
-INSERT INTO "order" (id, description, customer_id) VALUES (4129, 'Rustic Granite Gloves', 72);
-INSERT INTO "order" (id, description, customer_id) VALUES (4130, 'Incredible Fresh Pants', 73);
-INSERT INTO "order" (id, description, customer_id) VALUES (4131, 'Awesome Granite Ball', 5);
-INSERT INTO "order" (id, description, customer_id) VALUES (4132, 'Small Rubber Keyboard', 38);
-INSERT INTO "order" (id, description, customer_id) VALUES (4133, 'Oriental Bronze Fish', 31);
-INSERT INTO "order" (id, description, customer_id) VALUES (4134, 'Unbranded Soft Shoes', 92);
-INSERT INTO "order" (id, description, customer_id) VALUES (4135, 'Tasty Bronze Ball', 34);
-INSERT INTO "order" (id, description, customer_id) VALUES (4136, 'Handcrafted Metal Soap', 46);
-INSERT INTO "order" (id, description, customer_id) VALUES (4137, 'Incredible Steel Shoes', 49);
-INSERT INTO "order" (id, description, customer_id) VALUES (4138, 'Ergonomic Steel Computer', 98);
-INSERT INTO "order" (id, description, customer_id) VALUES (4139, 'Oriental Wooden Shoes', 75);
-INSERT INTO "order" (id, description, customer_id) VALUES (4140, 'Licensed Wooden Sausages', 35);
-INSERT INTO "order" (id, description, customer_id) VALUES (4141, 'Electronic Concrete Computer', 5);
-INSERT INTO "order" (id, description, customer_id) VALUES (4142, 'Awesome Frozen Bike', 36);
-INSERT INTO "order" (id, description, customer_id) VALUES (4143, 'Intelligent Plastic Gloves', 30);
-INSERT INTO "order" (id, description, customer_id) VALUES (4144, 'Handcrafted Steel Computer', 76);
-INSERT INTO "order" (id, description, customer_id) VALUES (4145, 'Generic Concrete Chicken', 42);
-INSERT INTO "order" (id, description, customer_id) VALUES (4146, 'Generic Cotton Table', 93);
-INSERT INTO "order" (id, description, customer_id) VALUES (4147, 'Handmade Steel Table', 59);
-INSERT INTO "order" (id, description, customer_id) VALUES (4148, 'Practical Frozen Fish', 6);
-INSERT INTO "order" (id, description, customer_id) VALUES (4149, 'Luxurious Granite Table', 78);
-INSERT INTO "order" (id, description, customer_id) VALUES (4150, 'Refined Granite Computer', 88);
-INSERT INTO "order" (id, description, customer_id) VALUES (4151, 'Awesome Steel Towels', 57);
-INSERT INTO "order" (id, description, customer_id) VALUES (4152, 'Incredible Granite Keyboard', 5);
-INSERT INTO "order" (id, description, customer_id) VALUES (4153, 'Intelligent Granite Mouse', 33);
-INSERT INTO "order" (id, description, customer_id) VALUES (4154, 'Unbranded Rubber Cheese', 95);
-INSERT INTO "order" (id, description, customer_id) VALUES (4155, 'Elegant Steel Car', 61);
-INSERT INTO "order" (id, description, customer_id) VALUES (4156, 'Licensed Cotton Computer', 45);
-INSERT INTO "order" (id, description, customer_id) VALUES (4157, 'Gorgeous Wooden Bacon', 15);
-INSERT INTO "order" (id, description, customer_id) VALUES (4158, 'Practical Bronze Cheese', 81);
-INSERT INTO "order" (id, description, customer_id) VALUES (4159, 'Intelligent Cotton Bacon', 5);
-INSERT INTO "order" (id, description, customer_id) VALUES (4160, 'Unbranded Rubber Mouse', 69);
-INSERT INTO "order" (id, description, customer_id) VALUES (4161, 'Intelligent Steel Bacon', 58);
-INSERT INTO "order" (id, description, customer_id) VALUES (4162, 'Recycled Plastic Towels', 19);
-INSERT INTO "order" (id, description, customer_id) VALUES (4163, 'Awesome Wooden Bike', 23);
-INSERT INTO "order" (id, description, customer_id) VALUES (4164, 'Bespoke Cotton Fish', 56);
-INSERT INTO "order" (id, description, customer_id) VALUES (4165, 'Fantastic Steel Shoes', 59);
-INSERT INTO "order" (id, description, customer_id) VALUES (4166, 'Ergonomic Granite Sausages', 20);
-INSERT INTO "order" (id, description, customer_id) VALUES (4167, 'Licensed Fresh Bacon', 18);
-INSERT INTO "order" (id, description, customer_id) VALUES (4168, 'Bespoke Granite Soap', 26);
-INSERT INTO "order" (id, description, customer_id) VALUES (4169, 'Incredible Granite Table', 41);
-INSERT INTO "order" (id, description, customer_id) VALUES (4170, 'Luxurious Soft Computer', 17);
-INSERT INTO "order" (id, description, customer_id) VALUES (4171, 'Bespoke Fresh Cheese', 57);
-INSERT INTO "order" (id, description, customer_id) VALUES (4172, 'Luxurious Fresh Chair', 78);
-INSERT INTO "order" (id, description, customer_id) VALUES (4173, 'Licensed Steel Car', 40);
-INSERT INTO "order" (id, description, customer_id) VALUES (4174, 'Incredible Granite Car', 3);
-INSERT INTO "order" (id, description, customer_id) VALUES (4175, 'Fantastic Soft Fish', 26);
-INSERT INTO "order" (id, description, customer_id) VALUES (4176, 'Tasty Steel Chips', 3);
-INSERT INTO "order" (id, description, customer_id) VALUES (4177, 'Handcrafted Steel Sausages', 33);
-INSERT INTO "order" (id, description, customer_id) VALUES (4178, 'Electronic Soft Chair', 14);
-INSERT INTO "order" (id, description, customer_id) VALUES (4179, 'Elegant Cotton Hat', 70);
-INSERT INTO "order" (id, description, customer_id) VALUES (4180, 'Small Concrete Bike', 25);
-INSERT INTO "order" (id, description, customer_id) VALUES (4181, 'Incredible Rubber Chicken', 64);
-INSERT INTO "order" (id, description, customer_id) VALUES (4182, 'Practical Bronze Soap', 34);
-INSERT INTO "order" (id, description, customer_id) VALUES (4183, 'Oriental Cotton Soap', 61);
-INSERT INTO "order" (id, description, customer_id) VALUES (4184, 'Intelligent Wooden Soap', 91);
-INSERT INTO "order" (id, description, customer_id) VALUES (4185, 'Licensed Granite Bike', 63);
-INSERT INTO "order" (id, description, customer_id) VALUES (4186, 'Elegant Plastic Table', 70);
-INSERT INTO "order" (id, description, customer_id) VALUES (4187, 'Oriental Concrete Bike', 9);
-INSERT INTO "order" (id, description, customer_id) VALUES (4188, 'Luxurious Plastic Soap', 62);
-INSERT INTO "order" (id, description, customer_id) VALUES (4189, 'Modern Granite Cheese', 96);
-INSERT INTO "order" (id, description, customer_id) VALUES (4190, 'Recycled Fresh Bike', 68);
-INSERT INTO "order" (id, description, customer_id) VALUES (4191, 'Sleek Steel Pants', 21);
-INSERT INTO "order" (id, description, customer_id) VALUES (4192, 'Oriental Fresh Table', 85);
-INSERT INTO "order" (id, description, customer_id) VALUES (4193, 'Incredible Cotton Table', 40);
-INSERT INTO "order" (id, description, customer_id) VALUES (4194, 'Fantastic Steel Gloves', 92);
-INSERT INTO "order" (id, description, customer_id) VALUES (4195, 'Handcrafted Cotton Mouse', 21);
-INSERT INTO "order" (id, description, customer_id) VALUES (4196, 'Elegant Rubber Chair', 41);
-INSERT INTO "order" (id, description, customer_id) VALUES (4197, 'Awesome Metal Mouse', 28);
-INSERT INTO "order" (id, description, customer_id) VALUES (4198, 'Generic Frozen Bike', 67);
-INSERT INTO "order" (id, description, customer_id) VALUES (4199, 'Recycled Rubber Chair', 69);
-INSERT INTO "order" (id, description, customer_id) VALUES (4200, 'Electronic Metal Pizza', 99);
-INSERT INTO "order" (id, description, customer_id) VALUES (4201, 'Handmade Steel Bacon', 85);
-INSERT INTO "order" (id, description, customer_id) VALUES (4202, 'Practical Frozen Mouse', 30);
-INSERT INTO "order" (id, description, customer_id) VALUES (4203, 'Sleek Soft Car', 35);
-INSERT INTO "order" (id, description, customer_id) VALUES (4204, 'Handcrafted Rubber Shirt', 36);
-INSERT INTO "order" (id, description, customer_id) VALUES (4205, 'Elegant Wooden Chicken', 52);
-INSERT INTO "order" (id, description, customer_id) VALUES (4206, 'Electronic Granite Bike', 5);
-INSERT INTO "order" (id, description, customer_id) VALUES (4207, 'Refined Metal Table', 6);
-INSERT INTO "order" (id, description, customer_id) VALUES (4208, 'Recycled Plastic Cheese', 13);
-INSERT INTO "order" (id, description, customer_id) VALUES (4209, 'Handmade Bronze Sausages', 3);
-INSERT INTO "order" (id, description, customer_id) VALUES (4210, 'Gorgeous Frozen Chair', 47);
-INSERT INTO "order" (id, description, customer_id) VALUES (4211, 'Unbranded Rubber Chair', 6);
-INSERT INTO "order" (id, description, customer_id) VALUES (4212, 'Intelligent Frozen Shirt', 85);
-INSERT INTO "order" (id, description, customer_id) VALUES (4213, 'Handcrafted Bronze Mouse', 19);
-INSERT INTO "order" (id, description, customer_id) VALUES (4214, 'Electronic Metal Car', 56);
-INSERT INTO "order" (id, description, customer_id) VALUES (4215, 'Oriental Rubber Hat', 85);
-INSERT INTO "order" (id, description, customer_id) VALUES (4216, 'Sleek Rubber Chair', 54);
-INSERT INTO "order" (id, description, customer_id) VALUES (4217, 'Tasty Rubber Bacon', 65);
-INSERT INTO "order" (id, description, customer_id) VALUES (4218, 'Awesome Rubber Cheese', 91);
-INSERT INTO "order" (id, description, customer_id) VALUES (4219, 'Recycled Granite Shirt', 73);
-INSERT INTO "order" (id, description, customer_id) VALUES (4220, 'Tasty Concrete Soap', 83);
-INSERT INTO "order" (id, description, customer_id) VALUES (4221, 'Elegant Granite Bacon', 13);
-INSERT INTO "order" (id, description, customer_id) VALUES (4222, 'Modern Frozen Pizza', 65);
-INSERT INTO "order" (id, description, customer_id) VALUES (4223, 'Tasty Steel Gloves', 45);
-INSERT INTO "order" (id, description, customer_id) VALUES (4224, 'Handcrafted Soft Computer', 83);
-INSERT INTO "order" (id, description, customer_id) VALUES (4225, 'Modern Cotton Mouse', 30);
-INSERT INTO "order" (id, description, customer_id) VALUES (4226, 'Practical Plastic Keyboard', 92);
-INSERT INTO "order" (id, description, customer_id) VALUES (4227, 'Handcrafted Wooden Sausages', 91);
-INSERT INTO "order" (id, description, customer_id) VALUES (4228, 'Intelligent Soft Pants', 3);
-INSERT INTO "order" (id, description, customer_id) VALUES (4229, 'Licensed Bronze Cheese', 36);
-INSERT INTO "order" (id, description, customer_id) VALUES (4230, 'Unbranded Frozen Table', 86);
-INSERT INTO "order" (id, description, customer_id) VALUES (4231, 'Practical Plastic Salad', 44);
-INSERT INTO "order" (id, description, customer_id) VALUES (4232, 'Oriental Bronze Chicken', 98);
-INSERT INTO "order" (id, description, customer_id) VALUES (4233, 'Oriental Rubber Bacon', 49);
-INSERT INTO "order" (id, description, customer_id) VALUES (4234, 'Refined Granite Gloves', 83);
-INSERT INTO "order" (id, description, customer_id) VALUES (4235, 'Modern Rubber Bacon', 72);
-INSERT INTO "order" (id, description, customer_id) VALUES (4236, 'Handcrafted Frozen Salad', 94);
-INSERT INTO "order" (id, description, customer_id) VALUES (4237, 'Bespoke Fresh Chicken', 30);
-INSERT INTO "order" (id, description, customer_id) VALUES (4238, 'Tasty Bronze Soap', 23);
-INSERT INTO "order" (id, description, customer_id) VALUES (4239, 'Licensed Bronze Hat', 77);
-INSERT INTO "order" (id, description, customer_id) VALUES (4240, 'Generic Rubber Mouse', 31);
-INSERT INTO "order" (id, description, customer_id) VALUES (4241, 'Modern Steel Hat', 29);
-INSERT INTO "order" (id, description, customer_id) VALUES (4242, 'Handmade Soft Sausages', 78);
-INSERT INTO "order" (id, description, customer_id) VALUES (4243, 'Practical Metal Car', 1);
-INSERT INTO "order" (id, description, customer_id) VALUES (4244, 'Handcrafted Fresh Car', 66);
-INSERT INTO "order" (id, description, customer_id) VALUES (4245, 'Practical Metal Pants', 32);
-INSERT INTO "order" (id, description, customer_id) VALUES (4246, 'Intelligent Concrete Salad', 30);
-INSERT INTO "order" (id, description, customer_id) VALUES (4247, 'Luxurious Metal Shoes', 19);
-INSERT INTO "order" (id, description, customer_id) VALUES (4248, 'Refined Bronze Bike', 87);
-INSERT INTO "order" (id, description, customer_id) VALUES (4249, 'Luxurious Metal Chair', 48);
-INSERT INTO "order" (id, description, customer_id) VALUES (4250, 'Small Plastic Towels', 14);
-INSERT INTO "order" (id, description, customer_id) VALUES (4251, 'Refined Fresh Table', 31);
-INSERT INTO "order" (id, description, customer_id) VALUES (4252, 'Awesome Metal Hat', 29);
-INSERT INTO "order" (id, description, customer_id) VALUES (4253, 'Generic Frozen Salad', 99);
-INSERT INTO "order" (id, description, customer_id) VALUES (4254, 'Awesome Frozen Chicken', 68);
-INSERT INTO "order" (id, description, customer_id) VALUES (4255, 'Ergonomic Cotton Car', 44);
-INSERT INTO "order" (id, description, customer_id) VALUES (4256, 'Oriental Cotton Soap', 58);
-INSERT INTO "order" (id, description, customer_id) VALUES (4257, 'Luxurious Wooden Table', 98);
-INSERT INTO "order" (id, description, customer_id) VALUES (4258, 'Awesome Wooden Mouse', 100);
-INSERT INTO "order" (id, description, customer_id) VALUES (4259, 'Unbranded Concrete Tuna', 61);
-INSERT INTO "order" (id, description, customer_id) VALUES (4260, 'Electronic Granite Towels', 67);
-INSERT INTO "order" (id, description, customer_id) VALUES (4261, 'Licensed Soft Bike', 42);
-INSERT INTO "order" (id, description, customer_id) VALUES (4262, 'Bespoke Steel Bike', 86);
-INSERT INTO "order" (id, description, customer_id) VALUES (4263, 'Luxurious Concrete Soap', 11);
-INSERT INTO "order" (id, description, customer_id) VALUES (4264, 'Licensed Concrete Computer', 97);
-INSERT INTO "order" (id, description, customer_id) VALUES (4265, 'Oriental Steel Fish', 93);
-INSERT INTO "order" (id, description, customer_id) VALUES (4266, 'Small Metal Fish', 89);
-INSERT INTO "order" (id, description, customer_id) VALUES (4267, 'Electronic Cotton Soap', 100);
-INSERT INTO "order" (id, description, customer_id) VALUES (4268, 'Oriental Granite Car', 90);
-INSERT INTO "order" (id, description, customer_id) VALUES (4269, 'Luxurious Concrete Cheese', 19);
-INSERT INTO "order" (id, description, customer_id) VALUES (4270, 'Fantastic Bronze Gloves', 90);
-INSERT INTO "order" (id, description, customer_id) VALUES (4271, 'Electronic Soft Tuna', 12);
-INSERT INTO "order" (id, description, customer_id) VALUES (4272, 'Generic Wooden Pants', 99);
-INSERT INTO "order" (id, description, customer_id) VALUES (4273, 'Practical Cotton Hat', 25);
-INSERT INTO "order" (id, description, customer_id) VALUES (4274, 'Modern Frozen Bacon', 15);
-INSERT INTO "order" (id, description, customer_id) VALUES (4275, 'Practical Steel Car', 49);
-INSERT INTO "order" (id, description, customer_id) VALUES (4276, 'Awesome Bronze Car', 93);
-INSERT INTO "order" (id, description, customer_id) VALUES (4277, 'Licensed Steel Pants', 77);
-INSERT INTO "order" (id, description, customer_id) VALUES (4278, 'Awesome Metal Ball', 49);
-INSERT INTO "order" (id, description, customer_id) VALUES (4279, 'Unbranded Steel Ball', 76);
-INSERT INTO "order" (id, description, customer_id) VALUES (4280, 'Awesome Concrete Gloves', 56);
-INSERT INTO "order" (id, description, customer_id) VALUES (4281, 'Rustic Bronze Table', 16);
-INSERT INTO "order" (id, description, customer_id) VALUES (4282, 'Bespoke Steel Chair', 28);
-INSERT INTO "order" (id, description, customer_id) VALUES (4283, 'Modern Plastic Bike', 74);
-INSERT INTO "order" (id, description, customer_id) VALUES (4284, 'Unbranded Soft Table', 68);
-INSERT INTO "order" (id, description, customer_id) VALUES (4285, 'Bespoke Concrete Bacon', 71);
-INSERT INTO "order" (id, description, customer_id) VALUES (4286, 'Unbranded Wooden Shirt', 93);
-INSERT INTO "order" (id, description, customer_id) VALUES (4287, 'Sleek Steel Sausages', 64);
-INSERT INTO "order" (id, description, customer_id) VALUES (4288, 'Incredible Concrete Sausages', 87);
-INSERT INTO "order" (id, description, customer_id) VALUES (4289, 'Unbranded Fresh Bacon', 57);
-INSERT INTO "order" (id, description, customer_id) VALUES (4290, 'Oriental Concrete Chair', 30);
-INSERT INTO "order" (id, description, customer_id) VALUES (4291, 'Elegant Metal Chips', 3);
-INSERT INTO "order" (id, description, customer_id) VALUES (4292, 'Incredible Metal Pizza', 65);
-INSERT INTO "order" (id, description, customer_id) VALUES (4293, 'Small Wooden Towels', 62);
-INSERT INTO "order" (id, description, customer_id) VALUES (4294, 'Gorgeous Granite Keyboard', 92);
-INSERT INTO "order" (id, description, customer_id) VALUES (4295, 'Small Bronze Sausages', 83);
-INSERT INTO "order" (id, description, customer_id) VALUES (4296, 'Recycled Wooden Shoes', 84);
-INSERT INTO "order" (id, description, customer_id) VALUES (4297, 'Sleek Granite Sausages', 88);
-INSERT INTO "order" (id, description, customer_id) VALUES (4298, 'Fantastic Fresh Salad', 40);
-INSERT INTO "order" (id, description, customer_id) VALUES (4299, 'Handcrafted Frozen Chicken', 20);
-INSERT INTO "order" (id, description, customer_id) VALUES (4300, 'Licensed Frozen Chair', 5);
-INSERT INTO "order" (id, description, customer_id) VALUES (4301, 'Awesome Cotton Soap', 11);
-INSERT INTO "order" (id, description, customer_id) VALUES (4302, 'Handcrafted Fresh Ball', 98);
-INSERT INTO "order" (id, description, customer_id) VALUES (4303, 'Practical Concrete Shirt', 58);
-INSERT INTO "order" (id, description, customer_id) VALUES (4304, 'Unbranded Rubber Chips', 57);
-INSERT INTO "order" (id, description, customer_id) VALUES (4305, 'Oriental Granite Pizza', 71);
-INSERT INTO "order" (id, description, customer_id) VALUES (4306, 'Bespoke Plastic Mouse', 73);
-INSERT INTO "order" (id, description, customer_id) VALUES (4307, 'Incredible Steel Cheese', 55);
-INSERT INTO "order" (id, description, customer_id) VALUES (4308, 'Tasty Wooden Salad', 64);
-INSERT INTO "order" (id, description, customer_id) VALUES (4309, 'Gorgeous Wooden Shoes', 43);
-INSERT INTO "order" (id, description, customer_id) VALUES (4310, 'Sleek Wooden Table', 51);
-INSERT INTO "order" (id, description, customer_id) VALUES (4311, 'Unbranded Granite Keyboard', 74);
-INSERT INTO "order" (id, description, customer_id) VALUES (4312, 'Unbranded Soft Pants', 23);
-INSERT INTO "order" (id, description, customer_id) VALUES (4313, 'Ergonomic Fresh Bike', 6);
-INSERT INTO "order" (id, description, customer_id) VALUES (4314, 'Recycled Metal Computer', 81);
-INSERT INTO "order" (id, description, customer_id) VALUES (4315, 'Tasty Rubber Keyboard', 97);
-INSERT INTO "order" (id, description, customer_id) VALUES (4316, 'Sleek Frozen Pizza', 52);
-INSERT INTO "order" (id, description, customer_id) VALUES (4317, 'Refined Metal Mouse', 51);
-INSERT INTO "order" (id, description, customer_id) VALUES (4318, 'Oriental Metal Gloves', 75);
-INSERT INTO "order" (id, description, customer_id) VALUES (4319, 'Ergonomic Bronze Keyboard', 98);
-INSERT INTO "order" (id, description, customer_id) VALUES (4320, 'Generic Granite Mouse', 29);
-INSERT INTO "order" (id, description, customer_id) VALUES (4321, 'Small Bronze Computer', 22);
-INSERT INTO "order" (id, description, customer_id) VALUES (4322, 'Handmade Bronze Chicken', 36);
-INSERT INTO "order" (id, description, customer_id) VALUES (4323, 'Modern Steel Salad', 13);
-INSERT INTO "order" (id, description, customer_id) VALUES (4324, 'Fantastic Rubber Gloves', 58);
-INSERT INTO "order" (id, description, customer_id) VALUES (4325, 'Elegant Plastic Gloves', 51);
-INSERT INTO "order" (id, description, customer_id) VALUES (4326, 'Rustic Bronze Cheese', 34);
-INSERT INTO "order" (id, description, customer_id) VALUES (4327, 'Small Concrete Bacon', 99);
-INSERT INTO "order" (id, description, customer_id) VALUES (4328, 'Elegant Wooden Car', 11);
-INSERT INTO "order" (id, description, customer_id) VALUES (4329, 'Electronic Plastic Chair', 1);
-INSERT INTO "order" (id, description, customer_id) VALUES (4330, 'Licensed Bronze Sausages', 31);
-INSERT INTO "order" (id, description, customer_id) VALUES (4331, 'Electronic Fresh Bike', 76);
-INSERT INTO "order" (id, description, customer_id) VALUES (4332, 'Electronic Granite Mouse', 67);
-INSERT INTO "order" (id, description, customer_id) VALUES (4333, 'Handcrafted Bronze Bike', 15);
-INSERT INTO "order" (id, description, customer_id) VALUES (4334, 'Bespoke Bronze Pants', 33);
-INSERT INTO "order" (id, description, customer_id) VALUES (4335, 'Modern Fresh Pants', 30);
-INSERT INTO "order" (id, description, customer_id) VALUES (4336, 'Generic Plastic Gloves', 67);
-INSERT INTO "order" (id, description, customer_id) VALUES (4337, 'Rustic Concrete Ball', 1);
-INSERT INTO "order" (id, description, customer_id) VALUES (4338, 'Unbranded Plastic Computer', 98);
-INSERT INTO "order" (id, description, customer_id) VALUES (4339, 'Incredible Granite Chips', 77);
-INSERT INTO "order" (id, description, customer_id) VALUES (4340, 'Intelligent Wooden Pizza', 44);
-INSERT INTO "order" (id, description, customer_id) VALUES (4341, 'Tasty Bronze Mouse', 18);
-INSERT INTO "order" (id, description, customer_id) VALUES (4342, 'Modern Cotton Computer', 63);
-INSERT INTO "order" (id, description, customer_id) VALUES (4343, 'Electronic Cotton Bike', 65);
-INSERT INTO "order" (id, description, customer_id) VALUES (4344, 'Luxurious Plastic Tuna', 6);
-INSERT INTO "order" (id, description, customer_id) VALUES (4345, 'Handcrafted Soft Cheese', 88);
-INSERT INTO "order" (id, description, customer_id) VALUES (4346, 'Awesome Bronze Car', 3);
-INSERT INTO "order" (id, description, customer_id) VALUES (4347, 'Unbranded Plastic Gloves', 96);
-INSERT INTO "order" (id, description, customer_id) VALUES (4348, 'Ergonomic Plastic Soap', 55);
-INSERT INTO "order" (id, description, customer_id) VALUES (4349, 'Ergonomic Steel Pants', 99);
-INSERT INTO "order" (id, description, customer_id) VALUES (4350, 'Elegant Bronze Computer', 42);
-INSERT INTO "order" (id, description, customer_id) VALUES (4351, 'Gorgeous Soft Soap', 87);
-INSERT INTO "order" (id, description, customer_id) VALUES (4352, 'Awesome Bronze Pants', 38);
-INSERT INTO "order" (id, description, customer_id) VALUES (4353, 'Refined Cotton Fish', 90);
-INSERT INTO "order" (id, description, customer_id) VALUES (4354, 'Gorgeous Frozen Ball', 1);
-INSERT INTO "order" (id, description, customer_id) VALUES (4355, 'Intelligent Steel Car', 51);
-INSERT INTO "order" (id, description, customer_id) VALUES (4356, 'Oriental Bronze Chair', 100);
-INSERT INTO "order" (id, description, customer_id) VALUES (4357, 'Awesome Granite Bike', 73);
-INSERT INTO "order" (id, description, customer_id) VALUES (4358, 'Handmade Bronze Bacon', 100);
-INSERT INTO "order" (id, description, customer_id) VALUES (4359, 'Awesome Plastic Bike', 67);
-INSERT INTO "order" (id, description, customer_id) VALUES (4360, 'Luxurious Concrete Salad', 8);
-INSERT INTO "order" (id, description, customer_id) VALUES (4361, 'Oriental Frozen Shoes', 28);
-INSERT INTO "order" (id, description, customer_id) VALUES (4362, 'Handcrafted Frozen Table', 40);
-INSERT INTO "order" (id, description, customer_id) VALUES (4363, 'Generic Plastic Bacon', 53);
-INSERT INTO "order" (id, description, customer_id) VALUES (4364, 'Incredible Granite Towels', 31);
-INSERT INTO "order" (id, description, customer_id) VALUES (4365, 'Handcrafted Cotton Bacon', 78);
-INSERT INTO "order" (id, description, customer_id) VALUES (4366, 'Ergonomic Soft Pants', 61);
-INSERT INTO "order" (id, description, customer_id) VALUES (4367, 'Bespoke Metal Chair', 32);
-INSERT INTO "order" (id, description, customer_id) VALUES (4368, 'Tasty Steel Tuna', 78);
-INSERT INTO "order" (id, description, customer_id) VALUES (4369, 'Luxurious Bronze Chicken', 99);
-INSERT INTO "order" (id, description, customer_id) VALUES (4370, 'Fantastic Plastic Shirt', 71);
-INSERT INTO "order" (id, description, customer_id) VALUES (4371, 'Generic Cotton Cheese', 79);
-INSERT INTO "order" (id, description, customer_id) VALUES (4372, 'Rustic Bronze Mouse', 100);
-INSERT INTO "order" (id, description, customer_id) VALUES (4373, 'Practical Concrete Chicken', 88);
-INSERT INTO "order" (id, description, customer_id) VALUES (4374, 'Unbranded Soft Towels', 41);
-INSERT INTO "order" (id, description, customer_id) VALUES (4375, 'Unbranded Cotton Bacon', 35);
-INSERT INTO "order" (id, description, customer_id) VALUES (4376, 'Small Steel Bacon', 1);
-INSERT INTO "order" (id, description, customer_id) VALUES (4377, 'Oriental Wooden Hat', 30);
-INSERT INTO "order" (id, description, customer_id) VALUES (4378, 'Gorgeous Steel Pants', 8);
-INSERT INTO "order" (id, description, customer_id) VALUES (4379, 'Tasty Granite Salad', 53);
-INSERT INTO "order" (id, description, customer_id) VALUES (4380, 'Bespoke Frozen Pizza', 6);
-INSERT INTO "order" (id, description, customer_id) VALUES (4381, 'Handcrafted Granite Table', 66);
-INSERT INTO "order" (id, description, customer_id) VALUES (4382, 'Incredible Metal Tuna', 79);
-INSERT INTO "order" (id, description, customer_id) VALUES (4383, 'Elegant Wooden Computer', 11);
-INSERT INTO "order" (id, description, customer_id) VALUES (4384, 'Rustic Concrete Chips', 83);
-INSERT INTO "order" (id, description, customer_id) VALUES (4385, 'Oriental Cotton Chair', 51);
-INSERT INTO "order" (id, description, customer_id) VALUES (4386, 'Licensed Steel Gloves', 86);
-INSERT INTO "order" (id, description, customer_id) VALUES (4387, 'Licensed Cotton Mouse', 60);
-INSERT INTO "order" (id, description, customer_id) VALUES (4388, 'Awesome Metal Salad', 37);
-INSERT INTO "order" (id, description, customer_id) VALUES (4389, 'Unbranded Soft Chicken', 30);
-INSERT INTO "order" (id, description, customer_id) VALUES (4390, 'Handmade Granite Bacon', 86);
-INSERT INTO "order" (id, description, customer_id) VALUES (4391, 'Ergonomic Rubber Tuna', 92);
-INSERT INTO "order" (id, description, customer_id) VALUES (4392, 'Oriental Soft Soap', 47);
-INSERT INTO "order" (id, description, customer_id) VALUES (4393, 'Gorgeous Rubber Chips', 75);
-INSERT INTO "order" (id, description, customer_id) VALUES (4394, 'Fantastic Soft Sausages', 59);
-INSERT INTO "order" (id, description, customer_id) VALUES (4395, 'Incredible Wooden Chair', 33);
-INSERT INTO "order" (id, description, customer_id) VALUES (4396, 'Luxurious Steel Salad', 85);
-INSERT INTO "order" (id, description, customer_id) VALUES (4397, 'Bespoke Rubber Bike', 48);
-INSERT INTO "order" (id, description, customer_id) VALUES (4398, 'Ergonomic Concrete Towels', 55);
-INSERT INTO "order" (id, description, customer_id) VALUES (4399, 'Sleek Wooden Car', 25);
-INSERT INTO "order" (id, description, customer_id) VALUES (4400, 'Rustic Bronze Sausages', 18);
-INSERT INTO "order" (id, description, customer_id) VALUES (4401, 'Handcrafted Granite Keyboard', 22);
-INSERT INTO "order" (id, description, customer_id) VALUES (4402, 'Generic Bronze Bacon', 44);
-INSERT INTO "order" (id, description, customer_id) VALUES (4403, 'Refined Frozen Sausages', 62);
-INSERT INTO "order" (id, description, customer_id) VALUES (4404, 'Bespoke Frozen Hat', 19);
-INSERT INTO "order" (id, description, customer_id) VALUES (4405, 'Refined Metal Soap', 61);
-INSERT INTO "order" (id, description, customer_id) VALUES (4406, 'Rustic Metal Chair', 62);
-INSERT INTO "order" (id, description, customer_id) VALUES (4407, 'Intelligent Bronze Cheese', 58);
-INSERT INTO "order" (id, description, customer_id) VALUES (4408, 'Sleek Soft Pants', 47);
-INSERT INTO "order" (id, description, customer_id) VALUES (4409, 'Recycled Soft Chicken', 11);
-INSERT INTO "order" (id, description, customer_id) VALUES (4410, 'Fantastic Concrete Table', 95);
-INSERT INTO "order" (id, description, customer_id) VALUES (4411, 'Bespoke Granite Cheese', 27);
-INSERT INTO "order" (id, description, customer_id) VALUES (4412, 'Oriental Bronze Tuna', 63);
-INSERT INTO "order" (id, description, customer_id) VALUES (4413, 'Licensed Bronze Bike', 19);
-INSERT INTO "order" (id, description, customer_id) VALUES (4414, 'Oriental Cotton Pants', 30);
-INSERT INTO "order" (id, description, customer_id) VALUES (4415, 'Gorgeous Fresh Pants', 37);
-INSERT INTO "order" (id, description, customer_id) VALUES (4416, 'Rustic Cotton Salad', 25);
-INSERT INTO "order" (id, description, customer_id) VALUES (4417, 'Electronic Soft Bacon', 16);
-INSERT INTO "order" (id, description, customer_id) VALUES (4418, 'Luxurious Concrete Pizza', 91);
-INSERT INTO "order" (id, description, customer_id) VALUES (4419, 'Fantastic Soft Soap', 68);
-INSERT INTO "order" (id, description, customer_id) VALUES (4420, 'Sleek Cotton Mouse', 62);
-INSERT INTO "order" (id, description, customer_id) VALUES (4421, 'Small Bronze Bacon', 84);
-INSERT INTO "order" (id, description, customer_id) VALUES (4422, 'Handmade Plastic Sausages', 24);
-INSERT INTO "order" (id, description, customer_id) VALUES (4423, 'Sleek Bronze Shirt', 5);
-INSERT INTO "order" (id, description, customer_id) VALUES (4424, 'Handcrafted Frozen Towels', 44);
-INSERT INTO "order" (id, description, customer_id) VALUES (4425, 'Luxurious Soft Chicken', 63);
-INSERT INTO "order" (id, description, customer_id) VALUES (4426, 'Tasty Rubber Mouse', 11);
-INSERT INTO "order" (id, description, customer_id) VALUES (4427, 'Luxurious Plastic Car', 22);
-INSERT INTO "order" (id, description, customer_id) VALUES (4428, 'Ergonomic Frozen Bike', 4);
-INSERT INTO "order" (id, description, customer_id) VALUES (4429, 'Small Rubber Mouse', 8);
-INSERT INTO "order" (id, description, customer_id) VALUES (4430, 'Handcrafted Rubber Chips', 10);
-INSERT INTO "order" (id, description, customer_id) VALUES (4431, 'Intelligent Metal Cheese', 5);
-INSERT INTO "order" (id, description, customer_id) VALUES (4432, 'Small Wooden Sausages', 83);
-INSERT INTO "order" (id, description, customer_id) VALUES (4433, 'Ergonomic Bronze Bike', 18);
-INSERT INTO "order" (id, description, customer_id) VALUES (4434, 'Handmade Cotton Bike', 18);
-INSERT INTO "order" (id, description, customer_id) VALUES (4435, 'Gorgeous Metal Chair', 58);
-INSERT INTO "order" (id, description, customer_id) VALUES (4436, 'Rustic Metal Car', 23);
-INSERT INTO "order" (id, description, customer_id) VALUES (4437, 'Gorgeous Rubber Pants', 99);
-INSERT INTO "order" (id, description, customer_id) VALUES (4438, 'Tasty Steel Chicken', 33);
-INSERT INTO "order" (id, description, customer_id) VALUES (4439, 'Rustic Soft Chicken', 27);
-INSERT INTO "order" (id, description, customer_id) VALUES (4440, 'Unbranded Metal Chips', 44);
-INSERT INTO "order" (id, description, customer_id) VALUES (4441, 'Bespoke Fresh Keyboard', 80);
-INSERT INTO "order" (id, description, customer_id) VALUES (4442, 'Generic Wooden Sausages', 79);
-INSERT INTO "order" (id, description, customer_id) VALUES (4443, 'Refined Granite Soap', 3);
-INSERT INTO "order" (id, description, customer_id) VALUES (4444, 'Rustic Concrete Salad', 96);
-INSERT INTO "order" (id, description, customer_id) VALUES (4445, 'Licensed Bronze Car', 80);
-INSERT INTO "order" (id, description, customer_id) VALUES (4446, 'Oriental Steel Fish', 46);
-INSERT INTO "order" (id, description, customer_id) VALUES (4447, 'Handmade Rubber Towels', 54);
-INSERT INTO "order" (id, description, customer_id) VALUES (4448, 'Handmade Bronze Pants', 54);
-INSERT INTO "order" (id, description, customer_id) VALUES (4449, 'Small Rubber Bike', 9);
-INSERT INTO "order" (id, description, customer_id) VALUES (4450, 'Awesome Concrete Towels', 19);
-INSERT INTO "order" (id, description, customer_id) VALUES (4451, 'Rustic Bronze Chips', 5);
-INSERT INTO "order" (id, description, customer_id) VALUES (4452, 'Tasty Frozen Car', 21);
-INSERT INTO "order" (id, description, customer_id) VALUES (4453, 'Small Granite Pants', 9);
-INSERT INTO "order" (id, description, customer_id) VALUES (4454, 'Gorgeous Soft Pizza', 75);
-INSERT INTO "order" (id, description, customer_id) VALUES (4455, 'Licensed Metal Chips', 8);
-INSERT INTO "order" (id, description, customer_id) VALUES (4456, 'Ergonomic Bronze Mouse', 32);
-INSERT INTO "order" (id, description, customer_id) VALUES (4457, 'Tasty Frozen Gloves', 33);
-INSERT INTO "order" (id, description, customer_id) VALUES (4458, 'Handmade Fresh Gloves', 67);
-INSERT INTO "order" (id, description, customer_id) VALUES (4459, 'Rustic Concrete Keyboard', 42);
-INSERT INTO "order" (id, description, customer_id) VALUES (4460, 'Rustic Plastic Gloves', 83);
-INSERT INTO "order" (id, description, customer_id) VALUES (4461, 'Rustic Rubber Salad', 46);
-INSERT INTO "order" (id, description, customer_id) VALUES (4462, 'Fantastic Concrete Cheese', 92);
-INSERT INTO "order" (id, description, customer_id) VALUES (4463, 'Handmade Metal Hat', 34);
-INSERT INTO "order" (id, description, customer_id) VALUES (4464, 'Modern Soft Soap', 78);
-INSERT INTO "order" (id, description, customer_id) VALUES (4465, 'Electronic Cotton Keyboard', 25);
-INSERT INTO "order" (id, description, customer_id) VALUES (4466, 'Luxurious Steel Sausages', 97);
-INSERT INTO "order" (id, description, customer_id) VALUES (4467, 'Small Frozen Shirt', 60);
-INSERT INTO "order" (id, description, customer_id) VALUES (4468, 'Unbranded Plastic Tuna', 23);
-INSERT INTO "order" (id, description, customer_id) VALUES (4469, 'Gorgeous Steel Keyboard', 42);
-INSERT INTO "order" (id, description, customer_id) VALUES (4470, 'Sleek Concrete Mouse', 63);
-INSERT INTO "order" (id, description, customer_id) VALUES (4471, 'Small Fresh Chips', 90);
-INSERT INTO "order" (id, description, customer_id) VALUES (4472, 'Elegant Metal Pants', 86);
-INSERT INTO "order" (id, description, customer_id) VALUES (4473, 'Bespoke Granite Hat', 50);
-INSERT INTO "order" (id, description, customer_id) VALUES (4474, 'Sleek Bronze Shirt', 70);
-INSERT INTO "order" (id, description, customer_id) VALUES (4475, 'Unbranded Granite Pizza', 51);
-INSERT INTO "order" (id, description, customer_id) VALUES (4476, 'Electronic Concrete Computer', 10);
-INSERT INTO "order" (id, description, customer_id) VALUES (4477, 'Recycled Concrete Chair', 81);
-INSERT INTO "order" (id, description, customer_id) VALUES (4478, 'Luxurious Wooden Shirt', 21);
-INSERT INTO "order" (id, description, customer_id) VALUES (4479, 'Ergonomic Steel Towels', 67);
-INSERT INTO "order" (id, description, customer_id) VALUES (4480, 'Generic Rubber Chicken', 81);
-INSERT INTO "order" (id, description, customer_id) VALUES (4481, 'Incredible Wooden Fish', 25);
-INSERT INTO "order" (id, description, customer_id) VALUES (4482, 'Recycled Soft Soap', 14);
-INSERT INTO "order" (id, description, customer_id) VALUES (4483, 'Luxurious Steel Chicken', 32);
-INSERT INTO "order" (id, description, customer_id) VALUES (4484, 'Licensed Rubber Shoes', 38);
-INSERT INTO "order" (id, description, customer_id) VALUES (4485, 'Handmade Frozen Fish', 38);
-INSERT INTO "order" (id, description, customer_id) VALUES (4486, 'Gorgeous Bronze Pizza', 85);
-INSERT INTO "order" (id, description, customer_id) VALUES (4487, 'Fantastic Fresh Chicken', 35);
-INSERT INTO "order" (id, description, customer_id) VALUES (4488, 'Incredible Concrete Shoes', 64);
-INSERT INTO "order" (id, description, customer_id) VALUES (4489, 'Electronic Wooden Cheese', 62);
-INSERT INTO "order" (id, description, customer_id) VALUES (4490, 'Handcrafted Frozen Shoes', 80);
-INSERT INTO "order" (id, description, customer_id) VALUES (4491, 'Small Concrete Pizza', 36);
-INSERT INTO "order" (id, description, customer_id) VALUES (4492, 'Rustic Bronze Chips', 38);
-INSERT INTO "order" (id, description, customer_id) VALUES (4493, 'Awesome Rubber Pants', 54);
-INSERT INTO "order" (id, description, customer_id) VALUES (4494, 'Refined Cotton Sausages', 82);
-INSERT INTO "order" (id, description, customer_id) VALUES (4495, 'Handmade Plastic Bacon', 73);
-INSERT INTO "order" (id, description, customer_id) VALUES (4496, 'Gorgeous Granite Towels', 27);
-INSERT INTO "order" (id, description, customer_id) VALUES (4497, 'Refined Fresh Bike', 78);
-INSERT INTO "order" (id, description, customer_id) VALUES (4498, 'Practical Concrete Bike', 35);
-INSERT INTO "order" (id, description, customer_id) VALUES (4499, 'Modern Fresh Car', 100);
-INSERT INTO "order" (id, description, customer_id) VALUES (4500, 'Small Rubber Hat', 67);
-INSERT INTO "order" (id, description, customer_id) VALUES (4501, 'Oriental Metal Computer', 93);
-INSERT INTO "order" (id, description, customer_id) VALUES (4502, 'Generic Wooden Towels', 95);
-INSERT INTO "order" (id, description, customer_id) VALUES (4503, 'Tasty Granite Salad', 98);
-INSERT INTO "order" (id, description, customer_id) VALUES (4504, 'Sleek Rubber Chair', 45);
-INSERT INTO "order" (id, description, customer_id) VALUES (4505, 'Handcrafted Rubber Tuna', 66);
-INSERT INTO "order" (id, description, customer_id) VALUES (4506, 'Gorgeous Concrete Table', 89);
-INSERT INTO "order" (id, description, customer_id) VALUES (4507, 'Fantastic Rubber Pizza', 96);
-INSERT INTO "order" (id, description, customer_id) VALUES (4508, 'Luxurious Fresh Chicken', 9);
-INSERT INTO "order" (id, description, customer_id) VALUES (4509, 'Gorgeous Fresh Chips', 99);
-INSERT INTO "order" (id, description, customer_id) VALUES (4510, 'Fantastic Concrete Gloves', 63);
-INSERT INTO "order" (id, description, customer_id) VALUES (4511, 'Awesome Metal Tuna', 19);
-INSERT INTO "order" (id, description, customer_id) VALUES (4512, 'Intelligent Metal Pants', 88);
-INSERT INTO "order" (id, description, customer_id) VALUES (4513, 'Sleek Frozen Chair', 14);
-INSERT INTO "order" (id, description, customer_id) VALUES (4514, 'Practical Steel Bike', 100);
-INSERT INTO "order" (id, description, customer_id) VALUES (4515, 'Electronic Bronze Bike', 57);
-INSERT INTO "order" (id, description, customer_id) VALUES (4516, 'Generic Wooden Car', 38);
-INSERT INTO "order" (id, description, customer_id) VALUES (4517, 'Rustic Bronze Bike', 50);
-INSERT INTO "order" (id, description, customer_id) VALUES (4518, 'Luxurious Granite Table', 95);
-INSERT INTO "order" (id, description, customer_id) VALUES (4519, 'Refined Fresh Chicken', 4);
-INSERT INTO "order" (id, description, customer_id) VALUES (4520, 'Sleek Plastic Chips', 59);
-INSERT INTO "order" (id, description, customer_id) VALUES (4521, 'Generic Cotton Soap', 12);
-INSERT INTO "order" (id, description, customer_id) VALUES (4522, 'Refined Plastic Hat', 99);
-INSERT INTO "order" (id, description, customer_id) VALUES (4523, 'Generic Granite Hat', 94);
-INSERT INTO "order" (id, description, customer_id) VALUES (4524, 'Fantastic Cotton Mouse', 75);
-INSERT INTO "order" (id, description, customer_id) VALUES (4525, 'Small Metal Fish', 49);
-INSERT INTO "order" (id, description, customer_id) VALUES (4526, 'Oriental Granite Salad', 8);
-INSERT INTO "order" (id, description, customer_id) VALUES (4527, 'Small Granite Bike', 9);
-INSERT INTO "order" (id, description, customer_id) VALUES (4528, 'Tasty Rubber Shoes', 65);
-INSERT INTO "order" (id, description, customer_id) VALUES (4529, 'Electronic Cotton Shirt', 63);
-INSERT INTO "order" (id, description, customer_id) VALUES (4530, 'Incredible Rubber Towels', 38);
-INSERT INTO "order" (id, description, customer_id) VALUES (4531, 'Sleek Steel Bacon', 97);
-INSERT INTO "order" (id, description, customer_id) VALUES (4532, 'Handmade Granite Shirt', 96);
-INSERT INTO "order" (id, description, customer_id) VALUES (4533, 'Ergonomic Granite Car', 2);
-INSERT INTO "order" (id, description, customer_id) VALUES (4534, 'Unbranded Cotton Mouse', 60);
-INSERT INTO "order" (id, description, customer_id) VALUES (4535, 'Incredible Bronze Hat', 64);
-INSERT INTO "order" (id, description, customer_id) VALUES (4536, 'Oriental Concrete Salad', 60);
-INSERT INTO "order" (id, description, customer_id) VALUES (4537, 'Unbranded Granite Shirt', 38);
-INSERT INTO "order" (id, description, customer_id) VALUES (4538, 'Licensed Metal Chicken', 17);
-INSERT INTO "order" (id, description, customer_id) VALUES (4539, 'Incredible Granite Bike', 93);
-INSERT INTO "order" (id, description, customer_id) VALUES (4540, 'Incredible Frozen Mouse', 29);
-INSERT INTO "order" (id, description, customer_id) VALUES (4541, 'Modern Metal Cheese', 85);
-INSERT INTO "order" (id, description, customer_id) VALUES (4542, 'Tasty Cotton Sausages', 36);
-INSERT INTO "order" (id, description, customer_id) VALUES (4543, 'Ergonomic Frozen Keyboard', 42);
-INSERT INTO "order" (id, description, customer_id) VALUES (4544, 'Practical Rubber Ball', 27);
-INSERT INTO "order" (id, description, customer_id) VALUES (4545, 'Intelligent Fresh Table', 40);
-INSERT INTO "order" (id, description, customer_id) VALUES (4546, 'Modern Bronze Pizza', 88);
-INSERT INTO "order" (id, description, customer_id) VALUES (4547, 'Ergonomic Cotton Chips', 71);
-INSERT INTO "order" (id, description, customer_id) VALUES (4548, 'Handmade Frozen Bike', 31);
-INSERT INTO "order" (id, description, customer_id) VALUES (4549, 'Luxurious Frozen Soap', 67);
-INSERT INTO "order" (id, description, customer_id) VALUES (4550, 'Unbranded Fresh Chips', 28);
-INSERT INTO "order" (id, description, customer_id) VALUES (4551, 'Rustic Plastic Ball', 42);
-INSERT INTO "order" (id, description, customer_id) VALUES (4552, 'Bespoke Metal Keyboard', 77);
-INSERT INTO "order" (id, description, customer_id) VALUES (4553, 'Tasty Wooden Computer', 53);
-INSERT INTO "order" (id, description, customer_id) VALUES (4554, 'Generic Fresh Hat', 54);
-INSERT INTO "order" (id, description, customer_id) VALUES (4555, 'Incredible Wooden Computer', 52);
-INSERT INTO "order" (id, description, customer_id) VALUES (4556, 'Handmade Frozen Mouse', 85);
-INSERT INTO "order" (id, description, customer_id) VALUES (4557, 'Recycled Soft Cheese', 64);
-INSERT INTO "order" (id, description, customer_id) VALUES (4558, 'Gorgeous Granite Shoes', 25);
-INSERT INTO "order" (id, description, customer_id) VALUES (4559, 'Licensed Steel Chair', 32);
-INSERT INTO "order" (id, description, customer_id) VALUES (4560, 'Unbranded Rubber Chicken', 39);
-INSERT INTO "order" (id, description, customer_id) VALUES (4561, 'Licensed Rubber Ball', 45);
-INSERT INTO "order" (id, description, customer_id) VALUES (4562, 'Recycled Fresh Tuna', 53);
-INSERT INTO "order" (id, description, customer_id) VALUES (4563, 'Small Frozen Shoes', 24);
-INSERT INTO "order" (id, description, customer_id) VALUES (4564, 'Licensed Steel Sausages', 56);
-INSERT INTO "order" (id, description, customer_id) VALUES (4565, 'Oriental Steel Salad', 62);
-INSERT INTO "order" (id, description, customer_id) VALUES (4566, 'Recycled Metal Ball', 96);
-INSERT INTO "order" (id, description, customer_id) VALUES (4567, 'Luxurious Steel Ball', 98);
-INSERT INTO "order" (id, description, customer_id) VALUES (4568, 'Gorgeous Concrete Hat', 69);
-INSERT INTO "order" (id, description, customer_id) VALUES (4569, 'Incredible Wooden Salad', 6);
-INSERT INTO "order" (id, description, customer_id) VALUES (4570, 'Bespoke Frozen Computer', 1);
-INSERT INTO "order" (id, description, customer_id) VALUES (4571, 'Rustic Fresh Computer', 78);
-INSERT INTO "order" (id, description, customer_id) VALUES (4572, 'Elegant Frozen Computer', 89);
-INSERT INTO "order" (id, description, customer_id) VALUES (4573, 'Incredible Granite Car', 81);
-INSERT INTO "order" (id, description, customer_id) VALUES (4574, 'Tasty Metal Chair', 63);
-INSERT INTO "order" (id, description, customer_id) VALUES (4575, 'Practical Frozen Gloves', 72);
-INSERT INTO "order" (id, description, customer_id) VALUES (4576, 'Tasty Fresh Cheese', 90);
-INSERT INTO "order" (id, description, customer_id) VALUES (4577, 'Small Cotton Car', 28);
-INSERT INTO "order" (id, description, customer_id) VALUES (4578, 'Recycled Granite Gloves', 89);
-INSERT INTO "order" (id, description, customer_id) VALUES (4579, 'Modern Granite Shoes', 98);
-INSERT INTO "order" (id, description, customer_id) VALUES (4580, 'Incredible Frozen Chair', 2);
-INSERT INTO "order" (id, description, customer_id) VALUES (4581, 'Ergonomic Concrete Cheese', 26);
-INSERT INTO "order" (id, description, customer_id) VALUES (4582, 'Licensed Cotton Cheese', 100);
-INSERT INTO "order" (id, description, customer_id) VALUES (4583, 'Gorgeous Concrete Salad', 31);
-INSERT INTO "order" (id, description, customer_id) VALUES (4584, 'Intelligent Cotton Chips', 92);
-INSERT INTO "order" (id, description, customer_id) VALUES (4585, 'Bespoke Cotton Chair', 82);
-INSERT INTO "order" (id, description, customer_id) VALUES (4586, 'Ergonomic Fresh Fish', 76);
-INSERT INTO "order" (id, description, customer_id) VALUES (4587, 'Tasty Plastic Sausages', 97);
-INSERT INTO "order" (id, description, customer_id) VALUES (4588, 'Refined Bronze Chips', 66);
-INSERT INTO "order" (id, description, customer_id) VALUES (4589, 'Fantastic Frozen Fish', 87);
-INSERT INTO "order" (id, description, customer_id) VALUES (4590, 'Generic Plastic Pizza', 76);
-INSERT INTO "order" (id, description, customer_id) VALUES (4591, 'Rustic Concrete Salad', 98);
-INSERT INTO "order" (id, description, customer_id) VALUES (4592, 'Handcrafted Granite Towels', 10);
-INSERT INTO "order" (id, description, customer_id) VALUES (4593, 'Licensed Soft Cheese', 87);
-INSERT INTO "order" (id, description, customer_id) VALUES (4594, 'Bespoke Wooden Shirt', 8);
-INSERT INTO "order" (id, description, customer_id) VALUES (4595, 'Recycled Metal Computer', 52);
-INSERT INTO "order" (id, description, customer_id) VALUES (4596, 'Practical Wooden Chips', 53);
-INSERT INTO "order" (id, description, customer_id) VALUES (4597, 'Recycled Granite Cheese', 68);
-INSERT INTO "order" (id, description, customer_id) VALUES (4598, 'Recycled Rubber Mouse', 30);
-INSERT INTO "order" (id, description, customer_id) VALUES (4599, 'Rustic Granite Table', 95);
-INSERT INTO "order" (id, description, customer_id) VALUES (4600, 'Luxurious Fresh Table', 30);
-INSERT INTO "order" (id, description, customer_id) VALUES (4601, 'Practical Granite Soap', 64);
-INSERT INTO "order" (id, description, customer_id) VALUES (4602, 'Practical Granite Chicken', 14);
-INSERT INTO "order" (id, description, customer_id) VALUES (4603, 'Luxurious Plastic Keyboard', 22);
-INSERT INTO "order" (id, description, customer_id) VALUES (4604, 'Modern Plastic Hat', 18);
-INSERT INTO "order" (id, description, customer_id) VALUES (4605, 'Electronic Granite Computer', 7);
-INSERT INTO "order" (id, description, customer_id) VALUES (4606, 'Luxurious Metal Shirt', 23);
-INSERT INTO "order" (id, description, customer_id) VALUES (4607, 'Recycled Concrete Soap', 99);
-INSERT INTO "order" (id, description, customer_id) VALUES (4608, 'Generic Granite Tuna', 1);
-INSERT INTO "order" (id, description, customer_id) VALUES (4609, 'Elegant Plastic Salad', 91);
-INSERT INTO "order" (id, description, customer_id) VALUES (4610, 'Oriental Cotton Pizza', 90);
-INSERT INTO "order" (id, description, customer_id) VALUES (4611, 'Fantastic Frozen Car', 27);
-INSERT INTO "order" (id, description, customer_id) VALUES (4612, 'Bespoke Steel Pizza', 93);
-INSERT INTO "order" (id, description, customer_id) VALUES (4613, 'Ergonomic Granite Towels', 66);
-INSERT INTO "order" (id, description, customer_id) VALUES (4614, 'Tasty Steel Chair', 21);
-INSERT INTO "order" (id, description, customer_id) VALUES (4615, 'Handcrafted Soft Ball', 58);
-INSERT INTO "order" (id, description, customer_id) VALUES (4616, 'Modern Plastic Keyboard', 48);
-INSERT INTO "order" (id, description, customer_id) VALUES (4617, 'Awesome Wooden Shirt', 87);
-INSERT INTO "order" (id, description, customer_id) VALUES (4618, 'Practical Soft Keyboard', 41);
-INSERT INTO "order" (id, description, customer_id) VALUES (4619, 'Practical Frozen Fish', 93);
-INSERT INTO "order" (id, description, customer_id) VALUES (4620, 'Licensed Steel Shirt', 69);
-INSERT INTO "order" (id, description, customer_id) VALUES (4621, 'Rustic Concrete Ball', 50);
-INSERT INTO "order" (id, description, customer_id) VALUES (4622, 'Intelligent Soft Gloves', 8);
-INSERT INTO "order" (id, description, customer_id) VALUES (4623, 'Elegant Concrete Salad', 69);
-INSERT INTO "order" (id, description, customer_id) VALUES (4624, 'Licensed Metal Cheese', 4);
-INSERT INTO "order" (id, description, customer_id) VALUES (4625, 'Handmade Concrete Salad', 68);
-INSERT INTO "order" (id, description, customer_id) VALUES (4626, 'Small Frozen Fish', 58);
-INSERT INTO "order" (id, description, customer_id) VALUES (4627, 'Luxurious Frozen Shoes', 83);
-INSERT INTO "order" (id, description, customer_id) VALUES (4628, 'Luxurious Rubber Mouse', 87);
-INSERT INTO "order" (id, description, customer_id) VALUES (4629, 'Handmade Cotton Table', 56);
-INSERT INTO "order" (id, description, customer_id) VALUES (4630, 'Tasty Rubber Hat', 87);
-INSERT INTO "order" (id, description, customer_id) VALUES (4631, 'Electronic Metal Fish', 42);
-INSERT INTO "order" (id, description, customer_id) VALUES (4632, 'Bespoke Steel Chicken', 79);
-INSERT INTO "order" (id, description, customer_id) VALUES (4633, 'Recycled Metal Chips', 11);
-INSERT INTO "order" (id, description, customer_id) VALUES (4634, 'Luxurious Rubber Tuna', 59);
-INSERT INTO "order" (id, description, customer_id) VALUES (4635, 'Oriental Metal Computer', 51);
-INSERT INTO "order" (id, description, customer_id) VALUES (4636, 'Tasty Fresh Soap', 64);
-INSERT INTO "order" (id, description, customer_id) VALUES (4637, 'Generic Frozen Cheese', 9);
-INSERT INTO "order" (id, description, customer_id) VALUES (4638, 'Electronic Frozen Chips', 11);
-INSERT INTO "order" (id, description, customer_id) VALUES (4639, 'Refined Metal Mouse', 91);
-INSERT INTO "order" (id, description, customer_id) VALUES (4640, 'Licensed Steel Shirt', 6);
-INSERT INTO "order" (id, description, customer_id) VALUES (4641, 'Electronic Plastic Computer', 2);
-INSERT INTO "order" (id, description, customer_id) VALUES (4642, 'Modern Soft Bacon', 45);
-INSERT INTO "order" (id, description, customer_id) VALUES (4643, 'Handmade Frozen Gloves', 24);
-INSERT INTO "order" (id, description, customer_id) VALUES (4644, 'Unbranded Cotton Sausages', 67);
-INSERT INTO "order" (id, description, customer_id) VALUES (4645, 'Small Plastic Shoes', 90);
-INSERT INTO "order" (id, description, customer_id) VALUES (4646, 'Unbranded Metal Keyboard', 5);
-INSERT INTO "order" (id, description, customer_id) VALUES (4647, 'Fantastic Rubber Table', 81);
-INSERT INTO "order" (id, description, customer_id) VALUES (4648, 'Refined Soft Cheese', 83);
-INSERT INTO "order" (id, description, customer_id) VALUES (4649, 'Intelligent Steel Table', 56);
-INSERT INTO "order" (id, description, customer_id) VALUES (4650, 'Generic Wooden Ball', 27);
-INSERT INTO "order" (id, description, customer_id) VALUES (4651, 'Bespoke Bronze Table', 17);
-INSERT INTO "order" (id, description, customer_id) VALUES (4652, 'Intelligent Plastic Soap', 12);
-INSERT INTO "order" (id, description, customer_id) VALUES (4653, 'Rustic Plastic Table', 32);
-INSERT INTO "order" (id, description, customer_id) VALUES (4654, 'Rustic Granite Mouse', 7);
-INSERT INTO "order" (id, description, customer_id) VALUES (4655, 'Sleek Steel Keyboard', 15);
-INSERT INTO "order" (id, description, customer_id) VALUES (4656, 'Electronic Metal Car', 82);
-INSERT INTO "order" (id, description, customer_id) VALUES (4657, 'Bespoke Granite Keyboard', 31);
-INSERT INTO "order" (id, description, customer_id) VALUES (4658, 'Handmade Frozen Hat', 72);
-INSERT INTO "order" (id, description, customer_id) VALUES (4659, 'Incredible Granite Chips', 100);
-INSERT INTO "order" (id, description, customer_id) VALUES (4660, 'Tasty Rubber Keyboard', 16);
-INSERT INTO "order" (id, description, customer_id) VALUES (4661, 'Recycled Bronze Hat', 33);
-INSERT INTO "order" (id, description, customer_id) VALUES (4662, 'Small Granite Soap', 62);
-INSERT INTO "order" (id, description, customer_id) VALUES (4663, 'Practical Bronze Bacon', 51);
-INSERT INTO "order" (id, description, customer_id) VALUES (4664, 'Gorgeous Steel Ball', 38);
-INSERT INTO "order" (id, description, customer_id) VALUES (4665, 'Practical Fresh Bacon', 88);
-INSERT INTO "order" (id, description, customer_id) VALUES (4666, 'Oriental Rubber Gloves', 21);
-INSERT INTO "order" (id, description, customer_id) VALUES (4667, 'Small Fresh Bike', 10);
-INSERT INTO "order" (id, description, customer_id) VALUES (4668, 'Oriental Metal Shirt', 97);
-INSERT INTO "order" (id, description, customer_id) VALUES (4669, 'Handcrafted Rubber Shirt', 34);
-INSERT INTO "order" (id, description, customer_id) VALUES (4670, 'Modern Steel Hat', 95);
-INSERT INTO "order" (id, description, customer_id) VALUES (4671, 'Electronic Bronze Keyboard', 39);
-INSERT INTO "order" (id, description, customer_id) VALUES (4672, 'Fantastic Metal Car', 52);
-INSERT INTO "order" (id, description, customer_id) VALUES (4673, 'Rustic Wooden Shoes', 65);
-INSERT INTO "order" (id, description, customer_id) VALUES (4674, 'Ergonomic Rubber Fish', 87);
-INSERT INTO "order" (id, description, customer_id) VALUES (4675, 'Ergonomic Wooden Shirt', 85);
-INSERT INTO "order" (id, description, customer_id) VALUES (4676, 'Recycled Bronze Fish', 75);
-INSERT INTO "order" (id, description, customer_id) VALUES (4677, 'Ergonomic Cotton Shirt', 63);
-INSERT INTO "order" (id, description, customer_id) VALUES (4678, 'Ergonomic Wooden Gloves', 34);
-INSERT INTO "order" (id, description, customer_id) VALUES (4679, 'Fantastic Granite Car', 36);
-INSERT INTO "order" (id, description, customer_id) VALUES (4680, 'Gorgeous Granite Bacon', 44);
-INSERT INTO "order" (id, description, customer_id) VALUES (4681, 'Small Steel Towels', 4);
-INSERT INTO "order" (id, description, customer_id) VALUES (4682, 'Oriental Steel Soap', 76);
-INSERT INTO "order" (id, description, customer_id) VALUES (4683, 'Tasty Soft Gloves', 62);
-INSERT INTO "order" (id, description, customer_id) VALUES (4684, 'Intelligent Steel Bike', 35);
-INSERT INTO "order" (id, description, customer_id) VALUES (4685, 'Tasty Soft Table', 74);
-INSERT INTO "order" (id, description, customer_id) VALUES (4686, 'Handmade Fresh Chicken', 78);
-INSERT INTO "order" (id, description, customer_id) VALUES (4687, 'Sleek Wooden Computer', 31);
-INSERT INTO "order" (id, description, customer_id) VALUES (4688, 'Recycled Fresh Pizza', 59);
-INSERT INTO "order" (id, description, customer_id) VALUES (4689, 'Rustic Bronze Bike', 89);
-INSERT INTO "order" (id, description, customer_id) VALUES (4690, 'Modern Cotton Pizza', 64);
-INSERT INTO "order" (id, description, customer_id) VALUES (4691, 'Electronic Metal Pants', 17);
-INSERT INTO "order" (id, description, customer_id) VALUES (4692, 'Awesome Granite Towels', 24);
-INSERT INTO "order" (id, description, customer_id) VALUES (4693, 'Refined Wooden Chicken', 69);
-INSERT INTO "order" (id, description, customer_id) VALUES (4694, 'Gorgeous Wooden Cheese', 25);
-INSERT INTO "order" (id, description, customer_id) VALUES (4695, 'Handcrafted Fresh Car', 17);
-INSERT INTO "order" (id, description, customer_id) VALUES (4696, 'Sleek Granite Pants', 45);
-INSERT INTO "order" (id, description, customer_id) VALUES (4697, 'Recycled Steel Ball', 55);
-INSERT INTO "order" (id, description, customer_id) VALUES (4698, 'Modern Granite Fish', 100);
-INSERT INTO "order" (id, description, customer_id) VALUES (4699, 'Luxurious Wooden Keyboard', 70);
-INSERT INTO "order" (id, description, customer_id) VALUES (4700, 'Gorgeous Steel Shirt', 24);
-INSERT INTO "order" (id, description, customer_id) VALUES (4701, 'Awesome Fresh Computer', 56);
-INSERT INTO "order" (id, description, customer_id) VALUES (4702, 'Practical Cotton Fish', 46);
-INSERT INTO "order" (id, description, customer_id) VALUES (4703, 'Sleek Granite Table', 45);
-INSERT INTO "order" (id, description, customer_id) VALUES (4704, 'Licensed Granite Shirt', 38);
-INSERT INTO "order" (id, description, customer_id) VALUES (4705, 'Fantastic Bronze Pizza', 4);
-INSERT INTO "order" (id, description, customer_id) VALUES (4706, 'Oriental Granite Mouse', 6);
-INSERT INTO "order" (id, description, customer_id) VALUES (4707, 'Handmade Soft Shoes', 45);
-INSERT INTO "order" (id, description, customer_id) VALUES (4708, 'Awesome Plastic Tuna', 67);
-INSERT INTO "order" (id, description, customer_id) VALUES (4709, 'Tasty Wooden Fish', 64);
-INSERT INTO "order" (id, description, customer_id) VALUES (4710, 'Tasty Granite Table', 53);
-INSERT INTO "order" (id, description, customer_id) VALUES (4711, 'Bespoke Steel Salad', 35);
-INSERT INTO "order" (id, description, customer_id) VALUES (4712, 'Practical Rubber Cheese', 43);
-INSERT INTO "order" (id, description, customer_id) VALUES (4713, 'Elegant Soft Gloves', 90);
-INSERT INTO "order" (id, description, customer_id) VALUES (4714, 'Ergonomic Soft Pants', 50);
-INSERT INTO "order" (id, description, customer_id) VALUES (4715, 'Incredible Wooden Fish', 60);
-INSERT INTO "order" (id, description, customer_id) VALUES (4716, 'Small Granite Gloves', 1);
-INSERT INTO "order" (id, description, customer_id) VALUES (4717, 'Luxurious Plastic Hat', 41);
-INSERT INTO "order" (id, description, customer_id) VALUES (4718, 'Oriental Steel Sausages', 21);
-INSERT INTO "order" (id, description, customer_id) VALUES (4719, 'Sleek Fresh Chicken', 37);
-INSERT INTO "order" (id, description, customer_id) VALUES (4720, 'Luxurious Rubber Computer', 64);
-INSERT INTO "order" (id, description, customer_id) VALUES (4721, 'Handmade Soft Bacon', 23);
-INSERT INTO "order" (id, description, customer_id) VALUES (4722, 'Licensed Steel Towels', 2);
-INSERT INTO "order" (id, description, customer_id) VALUES (4723, 'Incredible Bronze Pants', 44);
-INSERT INTO "order" (id, description, customer_id) VALUES (4724, 'Gorgeous Steel Shoes', 53);
-INSERT INTO "order" (id, description, customer_id) VALUES (4725, 'Luxurious Metal Car', 90);
-INSERT INTO "order" (id, description, customer_id) VALUES (4726, 'Tasty Cotton Chair', 59);
-INSERT INTO "order" (id, description, customer_id) VALUES (4727, 'Luxurious Frozen Towels', 19);
-INSERT INTO "order" (id, description, customer_id) VALUES (4728, 'Refined Frozen Shoes', 61);
-INSERT INTO "order" (id, description, customer_id) VALUES (4729, 'Licensed Plastic Shoes', 90);
-INSERT INTO "order" (id, description, customer_id) VALUES (4730, 'Luxurious Bronze Fish', 69);
-INSERT INTO "order" (id, description, customer_id) VALUES (4731, 'Small Rubber Towels', 71);
-INSERT INTO "order" (id, description, customer_id) VALUES (4732, 'Licensed Granite Table', 43);
-INSERT INTO "order" (id, description, customer_id) VALUES (4733, 'Fantastic Fresh Cheese', 64);
-INSERT INTO "order" (id, description, customer_id) VALUES (4734, 'Handmade Steel Shirt', 45);
-INSERT INTO "order" (id, description, customer_id) VALUES (4735, 'Rustic Concrete Cheese', 100);
-INSERT INTO "order" (id, description, customer_id) VALUES (4736, 'Generic Steel Chicken', 62);
-INSERT INTO "order" (id, description, customer_id) VALUES (4737, 'Unbranded Wooden Cheese', 51);
-INSERT INTO "order" (id, description, customer_id) VALUES (4738, 'Recycled Granite Gloves', 31);
-INSERT INTO "order" (id, description, customer_id) VALUES (4739, 'Electronic Rubber Pizza', 58);
-INSERT INTO "order" (id, description, customer_id) VALUES (4740, 'Licensed Rubber Salad', 100);
-INSERT INTO "order" (id, description, customer_id) VALUES (4741, 'Generic Plastic Mouse', 64);
-INSERT INTO "order" (id, description, customer_id) VALUES (4742, 'Elegant Concrete Chicken', 9);
-INSERT INTO "order" (id, description, customer_id) VALUES (4743, 'Licensed Frozen Chicken', 90);
-INSERT INTO "order" (id, description, customer_id) VALUES (4744, 'Handmade Fresh Ball', 93);
-INSERT INTO "order" (id, description, customer_id) VALUES (4745, 'Handcrafted Frozen Fish', 58);
-INSERT INTO "order" (id, description, customer_id) VALUES (4746, 'Unbranded Steel Car', 6);
-INSERT INTO "order" (id, description, customer_id) VALUES (4747, 'Ergonomic Metal Computer', 37);
-INSERT INTO "order" (id, description, customer_id) VALUES (4748, 'Handcrafted Frozen Tuna', 53);
-INSERT INTO "order" (id, description, customer_id) VALUES (4749, 'Refined Soft Pizza', 3);
-INSERT INTO "order" (id, description, customer_id) VALUES (4750, 'Intelligent Soft Computer', 33);
-INSERT INTO "order" (id, description, customer_id) VALUES (4751, 'Oriental Bronze Shoes', 86);
-INSERT INTO "order" (id, description, customer_id) VALUES (4752, 'Recycled Frozen Shirt', 64);
-INSERT INTO "order" (id, description, customer_id) VALUES (4753, 'Recycled Granite Soap', 71);
-INSERT INTO "order" (id, description, customer_id) VALUES (4754, 'Practical Cotton Tuna', 57);
-INSERT INTO "order" (id, description, customer_id) VALUES (4755, 'Generic Metal Car', 16);
-INSERT INTO "order" (id, description, customer_id) VALUES (4756, 'Elegant Rubber Towels', 23);
-INSERT INTO "order" (id, description, customer_id) VALUES (4757, 'Luxurious Soft Cheese', 44);
-INSERT INTO "order" (id, description, customer_id) VALUES (4758, 'Handcrafted Frozen Bike', 35);
-INSERT INTO "order" (id, description, customer_id) VALUES (4759, 'Small Granite Table', 92);
-INSERT INTO "order" (id, description, customer_id) VALUES (4760, 'Electronic Steel Towels', 90);
-INSERT INTO "order" (id, description, customer_id) VALUES (4761, 'Incredible Rubber Towels', 8);
-INSERT INTO "order" (id, description, customer_id) VALUES (4762, 'Modern Rubber Towels', 29);
-INSERT INTO "order" (id, description, customer_id) VALUES (4763, 'Practical Frozen Fish', 70);
-INSERT INTO "order" (id, description, customer_id) VALUES (4764, 'Handmade Wooden Chair', 70);
-INSERT INTO "order" (id, description, customer_id) VALUES (4765, 'Handcrafted Concrete Salad', 22);
-INSERT INTO "order" (id, description, customer_id) VALUES (4766, 'Licensed Concrete Sausages', 37);
-INSERT INTO "order" (id, description, customer_id) VALUES (4767, 'Generic Soft Gloves', 65);
-INSERT INTO "order" (id, description, customer_id) VALUES (4768, 'Recycled Bronze Salad', 10);
-INSERT INTO "order" (id, description, customer_id) VALUES (4769, 'Elegant Cotton Pizza', 92);
-INSERT INTO "order" (id, description, customer_id) VALUES (4770, 'Oriental Steel Computer', 41);
-INSERT INTO "order" (id, description, customer_id) VALUES (4771, 'Rustic Rubber Computer', 87);
-INSERT INTO "order" (id, description, customer_id) VALUES (4772, 'Unbranded Plastic Towels', 54);
-INSERT INTO "order" (id, description, customer_id) VALUES (4773, 'Elegant Granite Car', 19);
-INSERT INTO "order" (id, description, customer_id) VALUES (4774, 'Refined Steel Chicken', 88);
-INSERT INTO "order" (id, description, customer_id) VALUES (4775, 'Licensed Bronze Bacon', 86);
-INSERT INTO "order" (id, description, customer_id) VALUES (4776, 'Awesome Cotton Computer', 99);
-INSERT INTO "order" (id, description, customer_id) VALUES (4777, 'Sleek Fresh Chair', 80);
-INSERT INTO "order" (id, description, customer_id) VALUES (4778, 'Refined Rubber Bike', 50);
-INSERT INTO "order" (id, description, customer_id) VALUES (4779, 'Handmade Metal Sausages', 19);
-INSERT INTO "order" (id, description, customer_id) VALUES (4780, 'Handcrafted Wooden Ball', 73);
-INSERT INTO "order" (id, description, customer_id) VALUES (4781, 'Unbranded Bronze Shirt', 12);
-INSERT INTO "order" (id, description, customer_id) VALUES (4782, 'Refined Cotton Gloves', 31);
-INSERT INTO "order" (id, description, customer_id) VALUES (4783, 'Oriental Frozen Gloves', 69);
-INSERT INTO "order" (id, description, customer_id) VALUES (4784, 'Tasty Rubber Tuna', 4);
-INSERT INTO "order" (id, description, customer_id) VALUES (4785, 'Unbranded Granite Hat', 17);
-INSERT INTO "order" (id, description, customer_id) VALUES (4786, 'Handcrafted Metal Chips', 71);
-INSERT INTO "order" (id, description, customer_id) VALUES (4787, 'Licensed Granite Pizza', 71);
-INSERT INTO "order" (id, description, customer_id) VALUES (4788, 'Sleek Plastic Cheese', 32);
-INSERT INTO "order" (id, description, customer_id) VALUES (4789, 'Recycled Cotton Shirt', 75);
-INSERT INTO "order" (id, description, customer_id) VALUES (4790, 'Bespoke Granite Bacon', 78);
-INSERT INTO "order" (id, description, customer_id) VALUES (4791, 'Modern Plastic Shoes', 52);
-INSERT INTO "order" (id, description, customer_id) VALUES (4792, 'Luxurious Wooden Hat', 51);
-INSERT INTO "order" (id, description, customer_id) VALUES (4793, 'Modern Concrete Ball', 14);
-INSERT INTO "order" (id, description, customer_id) VALUES (4794, 'Intelligent Concrete Chicken', 31);
-INSERT INTO "order" (id, description, customer_id) VALUES (4795, 'Bespoke Rubber Chips', 88);
-INSERT INTO "order" (id, description, customer_id) VALUES (4796, 'Recycled Fresh Computer', 27);
-INSERT INTO "order" (id, description, customer_id) VALUES (4797, 'Licensed Granite Table', 10);
-INSERT INTO "order" (id, description, customer_id) VALUES (4798, 'Rustic Metal Computer', 80);
-INSERT INTO "order" (id, description, customer_id) VALUES (4799, 'Incredible Rubber Gloves', 48);
-INSERT INTO "order" (id, description, customer_id) VALUES (4800, 'Handcrafted Rubber Soap', 56);
-INSERT INTO "order" (id, description, customer_id) VALUES (4801, 'Rustic Frozen Chicken', 16);
-INSERT INTO "order" (id, description, customer_id) VALUES (4802, 'Modern Fresh Gloves', 97);
-INSERT INTO "order" (id, description, customer_id) VALUES (4803, 'Generic Bronze Car', 50);
-INSERT INTO "order" (id, description, customer_id) VALUES (4804, 'Ergonomic Metal Table', 58);
-INSERT INTO "order" (id, description, customer_id) VALUES (4805, 'Awesome Wooden Hat', 27);
-INSERT INTO "order" (id, description, customer_id) VALUES (4806, 'Handcrafted Frozen Bike', 9);
-INSERT INTO "order" (id, description, customer_id) VALUES (4807, 'Unbranded Metal Soap', 29);
-INSERT INTO "order" (id, description, customer_id) VALUES (4808, 'Incredible Steel Fish', 17);
-INSERT INTO "order" (id, description, customer_id) VALUES (4809, 'Unbranded Wooden Keyboard', 62);
-INSERT INTO "order" (id, description, customer_id) VALUES (4810, 'Intelligent Bronze Shirt', 92);
-INSERT INTO "order" (id, description, customer_id) VALUES (4811, 'Luxurious Bronze Pizza', 16);
-INSERT INTO "order" (id, description, customer_id) VALUES (4812, 'Practical Plastic Chair', 65);
-INSERT INTO "order" (id, description, customer_id) VALUES (4813, 'Oriental Metal Chicken', 91);
-INSERT INTO "order" (id, description, customer_id) VALUES (4814, 'Gorgeous Plastic Mouse', 40);
-INSERT INTO "order" (id, description, customer_id) VALUES (4815, 'Electronic Cotton Chair', 11);
-INSERT INTO "order" (id, description, customer_id) VALUES (4816, 'Unbranded Granite Towels', 26);
-INSERT INTO "order" (id, description, customer_id) VALUES (4817, 'Refined Cotton Ball', 29);
-INSERT INTO "order" (id, description, customer_id) VALUES (4818, 'Luxurious Soft Chicken', 86);
-INSERT INTO "order" (id, description, customer_id) VALUES (4819, 'Practical Rubber Chicken', 26);
-INSERT INTO "order" (id, description, customer_id) VALUES (4820, 'Recycled Metal Ball', 27);
-INSERT INTO "order" (id, description, customer_id) VALUES (4821, 'Generic Bronze Gloves', 74);
-INSERT INTO "order" (id, description, customer_id) VALUES (4822, 'Modern Plastic Chair', 12);
-INSERT INTO "order" (id, description, customer_id) VALUES (4823, 'Elegant Wooden Bacon', 87);
-INSERT INTO "order" (id, description, customer_id) VALUES (4824, 'Awesome Soft Table', 78);
-INSERT INTO "order" (id, description, customer_id) VALUES (4825, 'Handcrafted Concrete Gloves', 90);
-INSERT INTO "order" (id, description, customer_id) VALUES (4826, 'Ergonomic Metal Keyboard', 74);
-INSERT INTO "order" (id, description, customer_id) VALUES (4827, 'Modern Concrete Chair', 92);
-INSERT INTO "order" (id, description, customer_id) VALUES (4828, 'Elegant Plastic Salad', 56);
-INSERT INTO "order" (id, description, customer_id) VALUES (4829, 'Small Bronze Shoes', 39);
-INSERT INTO "order" (id, description, customer_id) VALUES (4830, 'Recycled Cotton Chips', 71);
-INSERT INTO "order" (id, description, customer_id) VALUES (4831, 'Gorgeous Concrete Chicken', 100);
-INSERT INTO "order" (id, description, customer_id) VALUES (4832, 'Electronic Cotton Soap', 10);
-INSERT INTO "order" (id, description, customer_id) VALUES (4833, 'Tasty Concrete Tuna', 21);
-INSERT INTO "order" (id, description, customer_id) VALUES (4834, 'Electronic Bronze Mouse', 32);
-INSERT INTO "order" (id, description, customer_id) VALUES (4835, 'Elegant Plastic Sausages', 9);
-INSERT INTO "order" (id, description, customer_id) VALUES (4836, 'Modern Wooden Pizza', 4);
-INSERT INTO "order" (id, description, customer_id) VALUES (4837, 'Fantastic Steel Pizza', 74);
-INSERT INTO "order" (id, description, customer_id) VALUES (4838, 'Small Plastic Chair', 88);
-INSERT INTO "order" (id, description, customer_id) VALUES (4839, 'Gorgeous Cotton Table', 90);
-INSERT INTO "order" (id, description, customer_id) VALUES (4840, 'Awesome Concrete Pants', 67);
-INSERT INTO "order" (id, description, customer_id) VALUES (4841, 'Luxurious Plastic Pizza', 84);
-INSERT INTO "order" (id, description, customer_id) VALUES (4842, 'Handmade Bronze Soap', 20);
-INSERT INTO "order" (id, description, customer_id) VALUES (4843, 'Unbranded Rubber Soap', 37);
-INSERT INTO "order" (id, description, customer_id) VALUES (4844, 'Sleek Wooden Towels', 92);
-INSERT INTO "order" (id, description, customer_id) VALUES (4845, 'Generic Plastic Pizza', 92);
-INSERT INTO "order" (id, description, customer_id) VALUES (4846, 'Elegant Soft Bike', 33);
-INSERT INTO "order" (id, description, customer_id) VALUES (4847, 'Unbranded Fresh Computer', 67);
-INSERT INTO "order" (id, description, customer_id) VALUES (4848, 'Practical Frozen Shirt', 58);
-INSERT INTO "order" (id, description, customer_id) VALUES (4849, 'Generic Metal Computer', 6);
-INSERT INTO "order" (id, description, customer_id) VALUES (4850, 'Incredible Cotton Car', 45);
-INSERT INTO "order" (id, description, customer_id) VALUES (4851, 'Unbranded Bronze Car', 63);
-INSERT INTO "order" (id, description, customer_id) VALUES (4852, 'Incredible Bronze Shoes', 49);
-INSERT INTO "order" (id, description, customer_id) VALUES (4853, 'Fantastic Bronze Pants', 12);
-INSERT INTO "order" (id, description, customer_id) VALUES (4854, 'Rustic Steel Chips', 66);
-INSERT INTO "order" (id, description, customer_id) VALUES (4855, 'Modern Soft Pants', 51);
-INSERT INTO "order" (id, description, customer_id) VALUES (4856, 'Unbranded Fresh Table', 76);
-INSERT INTO "order" (id, description, customer_id) VALUES (4857, 'Licensed Soft Hat', 75);
-INSERT INTO "order" (id, description, customer_id) VALUES (4858, 'Awesome Frozen Chicken', 81);
-INSERT INTO "order" (id, description, customer_id) VALUES (4859, 'Bespoke Concrete Ball', 33);
-INSERT INTO "order" (id, description, customer_id) VALUES (4860, 'Small Bronze Computer', 74);
-INSERT INTO "order" (id, description, customer_id) VALUES (4861, 'Electronic Soft Cheese', 24);
-INSERT INTO "order" (id, description, customer_id) VALUES (4862, 'Small Wooden Pants', 41);
-INSERT INTO "order" (id, description, customer_id) VALUES (4863, 'Small Wooden Chair', 70);
-INSERT INTO "order" (id, description, customer_id) VALUES (4864, 'Unbranded Fresh Cheese', 49);
-INSERT INTO "order" (id, description, customer_id) VALUES (4865, 'Modern Bronze Pizza', 1);
-INSERT INTO "order" (id, description, customer_id) VALUES (4866, 'Sleek Bronze Pants', 2);
-INSERT INTO "order" (id, description, customer_id) VALUES (4867, 'Rustic Cotton Keyboard', 80);
-INSERT INTO "order" (id, description, customer_id) VALUES (4868, 'Elegant Wooden Towels', 48);
-INSERT INTO "order" (id, description, customer_id) VALUES (4869, 'Licensed Metal Soap', 30);
-INSERT INTO "order" (id, description, customer_id) VALUES (4870, 'Awesome Rubber Sausages', 52);
-INSERT INTO "order" (id, description, customer_id) VALUES (4871, 'Awesome Plastic Computer', 24);
-INSERT INTO "order" (id, description, customer_id) VALUES (4872, 'Electronic Steel Tuna', 89);
-INSERT INTO "order" (id, description, customer_id) VALUES (4873, 'Bespoke Fresh Car', 51);
-INSERT INTO "order" (id, description, customer_id) VALUES (4874, 'Intelligent Granite Towels', 88);
-INSERT INTO "order" (id, description, customer_id) VALUES (4875, 'Handcrafted Cotton Soap', 26);
-INSERT INTO "order" (id, description, customer_id) VALUES (4876, 'Ergonomic Wooden Tuna', 59);
-INSERT INTO "order" (id, description, customer_id) VALUES (4877, 'Refined Concrete Chicken', 3);
-INSERT INTO "order" (id, description, customer_id) VALUES (4878, 'Small Soft Fish', 86);
-INSERT INTO "order" (id, description, customer_id) VALUES (4879, 'Small Wooden Mouse', 17);
-INSERT INTO "order" (id, description, customer_id) VALUES (4880, 'Electronic Concrete Shoes', 58);
-INSERT INTO "order" (id, description, customer_id) VALUES (4881, 'Small Wooden Shirt', 5);
-INSERT INTO "order" (id, description, customer_id) VALUES (4882, 'Electronic Rubber Hat', 60);
-INSERT INTO "order" (id, description, customer_id) VALUES (4883, 'Bespoke Concrete Towels', 2);
-INSERT INTO "order" (id, description, customer_id) VALUES (4884, 'Modern Frozen Towels', 65);
-INSERT INTO "order" (id, description, customer_id) VALUES (4885, 'Refined Plastic Pants', 48);
-INSERT INTO "order" (id, description, customer_id) VALUES (4886, 'Recycled Concrete Hat', 43);
-INSERT INTO "order" (id, description, customer_id) VALUES (4887, 'Small Plastic Chips', 84);
-INSERT INTO "order" (id, description, customer_id) VALUES (4888, 'Electronic Wooden Gloves', 51);
-INSERT INTO "order" (id, description, customer_id) VALUES (4889, 'Recycled Rubber Chicken', 55);
-INSERT INTO "order" (id, description, customer_id) VALUES (4890, 'Tasty Cotton Pants', 67);
-INSERT INTO "order" (id, description, customer_id) VALUES (4891, 'Modern Wooden Cheese', 61);
-INSERT INTO "order" (id, description, customer_id) VALUES (4892, 'Gorgeous Soft Towels', 23);
-INSERT INTO "order" (id, description, customer_id) VALUES (4893, 'Luxurious Steel Hat', 75);
-INSERT INTO "order" (id, description, customer_id) VALUES (4894, 'Handcrafted Steel Chicken', 32);
-INSERT INTO "order" (id, description, customer_id) VALUES (4895, 'Electronic Wooden Mouse', 94);
-INSERT INTO "order" (id, description, customer_id) VALUES (4896, 'Handmade Granite Cheese', 100);
-INSERT INTO "order" (id, description, customer_id) VALUES (4897, 'Handcrafted Steel Tuna', 60);
-INSERT INTO "order" (id, description, customer_id) VALUES (4898, 'Intelligent Frozen Ball', 54);
-INSERT INTO "order" (id, description, customer_id) VALUES (4899, 'Bespoke Frozen Bacon', 80);
-INSERT INTO "order" (id, description, customer_id) VALUES (4900, 'Oriental Rubber Chair', 62);
-INSERT INTO "order" (id, description, customer_id) VALUES (4901, 'Electronic Soft Towels', 70);
-INSERT INTO "order" (id, description, customer_id) VALUES (4902, 'Electronic Bronze Pizza', 7);
-INSERT INTO "order" (id, description, customer_id) VALUES (4903, 'Electronic Wooden Mouse', 7);
-INSERT INTO "order" (id, description, customer_id) VALUES (4904, 'Small Rubber Chicken', 93);
-INSERT INTO "order" (id, description, customer_id) VALUES (4905, 'Refined Metal Shirt', 63);
-INSERT INTO "order" (id, description, customer_id) VALUES (4906, 'Gorgeous Granite Soap', 4);
-INSERT INTO "order" (id, description, customer_id) VALUES (4907, 'Unbranded Rubber Sausages', 92);
-INSERT INTO "order" (id, description, customer_id) VALUES (4908, 'Luxurious Fresh Keyboard', 64);
-INSERT INTO "order" (id, description, customer_id) VALUES (4909, 'Handmade Frozen Mouse', 4);
-INSERT INTO "order" (id, description, customer_id) VALUES (4910, 'Fantastic Wooden Towels', 50);
-INSERT INTO "order" (id, description, customer_id) VALUES (4911, 'Sleek Steel Cheese', 70);
-INSERT INTO "order" (id, description, customer_id) VALUES (4912, 'Tasty Frozen Towels', 76);
-INSERT INTO "order" (id, description, customer_id) VALUES (4913, 'Practical Wooden Table', 91);
-INSERT INTO "order" (id, description, customer_id) VALUES (4914, 'Tasty Steel Salad', 18);
-INSERT INTO "order" (id, description, customer_id) VALUES (4915, 'Licensed Rubber Car', 67);
-INSERT INTO "order" (id, description, customer_id) VALUES (4916, 'Generic Wooden Computer', 84);
-INSERT INTO "order" (id, description, customer_id) VALUES (4917, 'Luxurious Concrete Ball', 26);
-INSERT INTO "order" (id, description, customer_id) VALUES (4918, 'Sleek Wooden Computer', 62);
-INSERT INTO "order" (id, description, customer_id) VALUES (4919, 'Recycled Steel Ball', 90);
-INSERT INTO "order" (id, description, customer_id) VALUES (4920, 'Electronic Steel Shoes', 16);
-INSERT INTO "order" (id, description, customer_id) VALUES (4921, 'Oriental Fresh Soap', 8);
-INSERT INTO "order" (id, description, customer_id) VALUES (4922, 'Handmade Steel Hat', 86);
-INSERT INTO "order" (id, description, customer_id) VALUES (4923, 'Small Granite Hat', 93);
-INSERT INTO "order" (id, description, customer_id) VALUES (4924, 'Licensed Metal Ball', 37);
-INSERT INTO "order" (id, description, customer_id) VALUES (4925, 'Bespoke Soft Ball', 24);
-INSERT INTO "order" (id, description, customer_id) VALUES (4926, 'Recycled Concrete Computer', 10);
-INSERT INTO "order" (id, description, customer_id) VALUES (4927, 'Luxurious Frozen Towels', 25);
-INSERT INTO "order" (id, description, customer_id) VALUES (4928, 'Practical Soft Computer', 63);
-INSERT INTO "order" (id, description, customer_id) VALUES (4929, 'Unbranded Wooden Pants', 49);
-INSERT INTO "order" (id, description, customer_id) VALUES (4930, 'Refined Fresh Bacon', 3);
-INSERT INTO "order" (id, description, customer_id) VALUES (4931, 'Oriental Frozen Pants', 19);
-INSERT INTO "order" (id, description, customer_id) VALUES (4932, 'Bespoke Frozen Hat', 85);
-INSERT INTO "order" (id, description, customer_id) VALUES (4933, 'Electronic Bronze Chips', 17);
-INSERT INTO "order" (id, description, customer_id) VALUES (4934, 'Practical Bronze Mouse', 83);
-INSERT INTO "order" (id, description, customer_id) VALUES (4935, 'Gorgeous Fresh Towels', 5);
-INSERT INTO "order" (id, description, customer_id) VALUES (4936, 'Sleek Concrete Salad', 61);
-INSERT INTO "order" (id, description, customer_id) VALUES (4937, 'Unbranded Steel Pants', 34);
-INSERT INTO "order" (id, description, customer_id) VALUES (4938, 'Small Soft Bike', 81);
-INSERT INTO "order" (id, description, customer_id) VALUES (4939, 'Rustic Rubber Soap', 74);
-INSERT INTO "order" (id, description, customer_id) VALUES (4940, 'Handmade Soft Ball', 7);
-INSERT INTO "order" (id, description, customer_id) VALUES (4941, 'Electronic Bronze Chair', 27);
-INSERT INTO "order" (id, description, customer_id) VALUES (4942, 'Tasty Frozen Pizza', 32);
-INSERT INTO "order" (id, description, customer_id) VALUES (4943, 'Rustic Concrete Chicken', 86);
-INSERT INTO "order" (id, description, customer_id) VALUES (4944, 'Rustic Metal Chips', 2);
-INSERT INTO "order" (id, description, customer_id) VALUES (4945, 'Fantastic Bronze Pants', 22);
-INSERT INTO "order" (id, description, customer_id) VALUES (4946, 'Sleek Fresh Computer', 53);
-INSERT INTO "order" (id, description, customer_id) VALUES (4947, 'Handmade Concrete Tuna', 93);
-INSERT INTO "order" (id, description, customer_id) VALUES (4948, 'Modern Cotton Soap', 19);
-INSERT INTO "order" (id, description, customer_id) VALUES (4949, 'Oriental Concrete Gloves', 56);
-INSERT INTO "order" (id, description, customer_id) VALUES (4950, 'Practical Wooden Salad', 83);
-INSERT INTO "order" (id, description, customer_id) VALUES (4951, 'Intelligent Cotton Shoes', 30);
-INSERT INTO "order" (id, description, customer_id) VALUES (4952, 'Sleek Steel Pants', 69);
-INSERT INTO "order" (id, description, customer_id) VALUES (4953, 'Bespoke Cotton Shirt', 36);
-INSERT INTO "order" (id, description, customer_id) VALUES (4954, 'Luxurious Wooden Table', 32);
-INSERT INTO "order" (id, description, customer_id) VALUES (4955, 'Sleek Wooden Towels', 86);
-INSERT INTO "order" (id, description, customer_id) VALUES (4956, 'Tasty Cotton Chair', 14);
-INSERT INTO "order" (id, description, customer_id) VALUES (4957, 'Awesome Soft Fish', 99);
-INSERT INTO "order" (id, description, customer_id) VALUES (4958, 'Handmade Steel Chicken', 9);
-INSERT INTO "order" (id, description, customer_id) VALUES (4959, 'Ergonomic Soft Pants', 53);
-INSERT INTO "order" (id, description, customer_id) VALUES (4960, 'Small Plastic Pizza', 19);
-INSERT INTO "order" (id, description, customer_id) VALUES (4961, 'Recycled Steel Car', 29);
-INSERT INTO "order" (id, description, customer_id) VALUES (4962, 'Incredible Fresh Cheese', 18);
-INSERT INTO "order" (id, description, customer_id) VALUES (4963, 'Recycled Wooden Pants', 95);
-INSERT INTO "order" (id, description, customer_id) VALUES (4964, 'Handmade Rubber Computer', 7);
-INSERT INTO "order" (id, description, customer_id) VALUES (4965, 'Elegant Steel Pants', 16);
-INSERT INTO "order" (id, description, customer_id) VALUES (4966, 'Unbranded Soft Gloves', 67);
-INSERT INTO "order" (id, description, customer_id) VALUES (4967, 'Awesome Frozen Cheese', 88);
-INSERT INTO "order" (id, description, customer_id) VALUES (4968, 'Oriental Cotton Mouse', 85);
-INSERT INTO "order" (id, description, customer_id) VALUES (4969, 'Ergonomic Cotton Bacon', 60);
-INSERT INTO "order" (id, description, customer_id) VALUES (4970, 'Electronic Soft Chicken', 26);
-INSERT INTO "order" (id, description, customer_id) VALUES (4971, 'Gorgeous Bronze Fish', 20);
-INSERT INTO "order" (id, description, customer_id) VALUES (4972, 'Unbranded Cotton Mouse', 36);
-INSERT INTO "order" (id, description, customer_id) VALUES (4973, 'Oriental Soft Chicken', 34);
-INSERT INTO "order" (id, description, customer_id) VALUES (4974, 'Elegant Bronze Pizza', 59);
-INSERT INTO "order" (id, description, customer_id) VALUES (4975, 'Generic Metal Table', 26);
-INSERT INTO "order" (id, description, customer_id) VALUES (4976, 'Licensed Concrete Computer', 3);
-INSERT INTO "order" (id, description, customer_id) VALUES (4977, 'Fantastic Granite Chips', 91);
-INSERT INTO "order" (id, description, customer_id) VALUES (4978, 'Awesome Metal Shoes', 1);
-INSERT INTO "order" (id, description, customer_id) VALUES (4979, 'Recycled Steel Sausages', 44);
-INSERT INTO "order" (id, description, customer_id) VALUES (4980, 'Oriental Fresh Ball', 27);
-INSERT INTO "order" (id, description, customer_id) VALUES (4981, 'Unbranded Wooden Cheese', 25);
-INSERT INTO "order" (id, description, customer_id) VALUES (4982, 'Rustic Concrete Towels', 7);
-INSERT INTO "order" (id, description, customer_id) VALUES (4983, 'Licensed Frozen Shirt', 29);
-INSERT INTO "order" (id, description, customer_id) VALUES (4984, 'Bespoke Plastic Tuna', 46);
-INSERT INTO "order" (id, description, customer_id) VALUES (4985, 'Handcrafted Concrete Car', 77);
-INSERT INTO "order" (id, description, customer_id) VALUES (4986, 'Unbranded Soft Bike', 45);
-INSERT INTO "order" (id, description, customer_id) VALUES (4987, 'Recycled Granite Towels', 21);
-INSERT INTO "order" (id, description, customer_id) VALUES (4988, 'Refined Concrete Tuna', 98);
-INSERT INTO "order" (id, description, customer_id) VALUES (4989, 'Refined Frozen Hat', 91);
-INSERT INTO "order" (id, description, customer_id) VALUES (4990, 'Handcrafted Cotton Bike', 16);
-INSERT INTO "order" (id, description, customer_id) VALUES (4991, 'Oriental Wooden Sausages', 18);
-INSERT INTO "order" (id, description, customer_id) VALUES (4992, 'Unbranded Frozen Chips', 60);
-INSERT INTO "order" (id, description, customer_id) VALUES (4993, 'Gorgeous Steel Computer', 94);
-INSERT INTO "order" (id, description, customer_id) VALUES (4994, 'Handcrafted Rubber Bike', 96);
-INSERT INTO "order" (id, description, customer_id) VALUES (4995, 'Licensed Frozen Hat', 27);
-INSERT INTO "order" (id, description, customer_id) VALUES (4996, 'Modern Fresh Gloves', 2);
-INSERT INTO "order" (id, description, customer_id) VALUES (4997, 'Handcrafted Soft Tuna', 58);
-INSERT INTO "order" (id, description, customer_id) VALUES (4998, 'Fantastic Metal Sausages', 8);
-INSERT INTO "order" (id, description, customer_id) VALUES (4999, 'Handcrafted Plastic Keyboard', 97);
-INSERT INTO "order" (id, description, customer_id) VALUES (5000, 'Bespoke Cotton Car', 61);
-INSERT INTO "order" (id, description, customer_id) VALUES (5001, 'Intelligent Cotton Computer', 58);
-INSERT INTO "order" (id, description, customer_id) VALUES (5002, 'Ergonomic Granite Salad', 41);
-INSERT INTO "order" (id, description, customer_id) VALUES (5003, 'Licensed Plastic Car', 91);
-INSERT INTO "order" (id, description, customer_id) VALUES (5004, 'Fantastic Cotton Tuna', 64);
-INSERT INTO "order" (id, description, customer_id) VALUES (5005, 'Luxurious Plastic Bike', 28);
-INSERT INTO "order" (id, description, customer_id) VALUES (5006, 'Tasty Plastic Salad', 34);
-INSERT INTO "order" (id, description, customer_id) VALUES (5007, 'Generic Steel Cheese', 94);
-INSERT INTO "order" (id, description, customer_id) VALUES (5008, 'Generic Plastic Towels', 73);
-INSERT INTO "order" (id, description, customer_id) VALUES (5009, 'Handmade Cotton Keyboard', 9);
-INSERT INTO "order" (id, description, customer_id) VALUES (5010, 'Refined Soft Chair', 75);
-INSERT INTO "order" (id, description, customer_id) VALUES (5011, 'Ergonomic Frozen Bike', 45);
-INSERT INTO "order" (id, description, customer_id) VALUES (5012, 'Electronic Granite Chicken', 93);
-INSERT INTO "order" (id, description, customer_id) VALUES (5013, 'Unbranded Rubber Towels', 74);
-INSERT INTO "order" (id, description, customer_id) VALUES (5014, 'Recycled Steel Car', 98);
-INSERT INTO "order" (id, description, customer_id) VALUES (5015, 'Bespoke Frozen Shoes', 52);
-INSERT INTO "order" (id, description, customer_id) VALUES (5016, 'Sleek Plastic Hat', 62);
-INSERT INTO "order" (id, description, customer_id) VALUES (5017, 'Ergonomic Metal Hat', 27);
-INSERT INTO "order" (id, description, customer_id) VALUES (5018, 'Elegant Wooden Sausages', 44);
-INSERT INTO "order" (id, description, customer_id) VALUES (5019, 'Tasty Cotton Chicken', 95);
-INSERT INTO "order" (id, description, customer_id) VALUES (5020, 'Handcrafted Concrete Computer', 100);
-INSERT INTO "order" (id, description, customer_id) VALUES (5021, 'Small Frozen Towels', 86);
-INSERT INTO "order" (id, description, customer_id) VALUES (5022, 'Oriental Concrete Fish', 1);
-INSERT INTO "order" (id, description, customer_id) VALUES (5023, 'Practical Fresh Chair', 51);
-INSERT INTO "order" (id, description, customer_id) VALUES (5024, 'Gorgeous Granite Pizza', 28);
-INSERT INTO "order" (id, description, customer_id) VALUES (5025, 'Refined Bronze Table', 7);
-INSERT INTO "order" (id, description, customer_id) VALUES (5026, 'Refined Granite Soap', 76);
-INSERT INTO "order" (id, description, customer_id) VALUES (5027, 'Sleek Plastic Sausages', 76);
-INSERT INTO "order" (id, description, customer_id) VALUES (5028, 'Tasty Plastic Shirt', 71);
-INSERT INTO "order" (id, description, customer_id) VALUES (5029, 'Awesome Plastic Table', 69);
-INSERT INTO "order" (id, description, customer_id) VALUES (5030, 'Bespoke Fresh Bacon', 60);
-INSERT INTO "order" (id, description, customer_id) VALUES (5031, 'Sleek Granite Fish', 14);
-INSERT INTO "order" (id, description, customer_id) VALUES (5032, 'Rustic Metal Salad', 77);
-INSERT INTO "order" (id, description, customer_id) VALUES (5033, 'Electronic Wooden Shirt', 6);
-INSERT INTO "order" (id, description, customer_id) VALUES (5034, 'Practical Bronze Bike', 20);
-INSERT INTO "order" (id, description, customer_id) VALUES (5035, 'Practical Rubber Mouse', 33);
-INSERT INTO "order" (id, description, customer_id) VALUES (5036, 'Oriental Wooden Tuna', 13);
-INSERT INTO "order" (id, description, customer_id) VALUES (5037, 'Tasty Metal Mouse', 79);
-INSERT INTO "order" (id, description, customer_id) VALUES (5038, 'Handmade Plastic Fish', 44);
-INSERT INTO "order" (id, description, customer_id) VALUES (5039, 'Tasty Frozen Fish', 96);
-INSERT INTO "order" (id, description, customer_id) VALUES (5040, 'Rustic Bronze Hat', 30);
-INSERT INTO "order" (id, description, customer_id) VALUES (5041, 'Luxurious Frozen Pizza', 94);
-INSERT INTO "order" (id, description, customer_id) VALUES (5042, 'Oriental Bronze Gloves', 11);
-INSERT INTO "order" (id, description, customer_id) VALUES (5043, 'Incredible Plastic Hat', 13);
-INSERT INTO "order" (id, description, customer_id) VALUES (5044, 'Elegant Rubber Computer', 82);
-INSERT INTO "order" (id, description, customer_id) VALUES (5045, 'Fantastic Frozen Gloves', 62);
-INSERT INTO "order" (id, description, customer_id) VALUES (5046, 'Rustic Soft Bike', 99);
-INSERT INTO "order" (id, description, customer_id) VALUES (5047, 'Ergonomic Soft Chicken', 33);
-INSERT INTO "order" (id, description, customer_id) VALUES (5048, 'Oriental Bronze Keyboard', 99);
-INSERT INTO "order" (id, description, customer_id) VALUES (5049, 'Fantastic Metal Cheese', 48);
-INSERT INTO "order" (id, description, customer_id) VALUES (5050, 'Oriental Steel Chips', 32);
-INSERT INTO "order" (id, description, customer_id) VALUES (5051, 'Intelligent Rubber Ball', 27);
-INSERT INTO "order" (id, description, customer_id) VALUES (5052, 'Bespoke Fresh Hat', 45);
-INSERT INTO "order" (id, description, customer_id) VALUES (5053, 'Ergonomic Steel Gloves', 48);
-INSERT INTO "order" (id, description, customer_id) VALUES (5054, 'Tasty Soft Shirt', 39);
-INSERT INTO "order" (id, description, customer_id) VALUES (5055, 'Recycled Metal Table', 36);
-INSERT INTO "order" (id, description, customer_id) VALUES (5056, 'Handmade Steel Computer', 44);
-INSERT INTO "order" (id, description, customer_id) VALUES (5057, 'Elegant Granite Pizza', 77);
-INSERT INTO "order" (id, description, customer_id) VALUES (5058, 'Rustic Wooden Chair', 49);
-INSERT INTO "order" (id, description, customer_id) VALUES (5059, 'Rustic Concrete Sausages', 22);
-INSERT INTO "order" (id, description, customer_id) VALUES (5060, 'Practical Wooden Shirt', 41);
-INSERT INTO "order" (id, description, customer_id) VALUES (5061, 'Modern Frozen Soap', 79);
-INSERT INTO "order" (id, description, customer_id) VALUES (5062, 'Intelligent Wooden Hat', 79);
-INSERT INTO "order" (id, description, customer_id) VALUES (5063, 'Ergonomic Cotton Soap', 64);
-INSERT INTO "order" (id, description, customer_id) VALUES (5064, 'Rustic Concrete Pants', 95);
-INSERT INTO "order" (id, description, customer_id) VALUES (5065, 'Practical Cotton Chips', 73);
-INSERT INTO "order" (id, description, customer_id) VALUES (5066, 'Oriental Frozen Chicken', 39);
-INSERT INTO "order" (id, description, customer_id) VALUES (5067, 'Rustic Granite Pants', 48);
-INSERT INTO "order" (id, description, customer_id) VALUES (5068, 'Unbranded Fresh Bike', 51);
-INSERT INTO "order" (id, description, customer_id) VALUES (5069, 'Refined Concrete Car', 94);
-INSERT INTO "order" (id, description, customer_id) VALUES (5070, 'Refined Soft Chair', 11);
-INSERT INTO "order" (id, description, customer_id) VALUES (5071, 'Intelligent Granite Bacon', 58);
-INSERT INTO "order" (id, description, customer_id) VALUES (5072, 'Modern Rubber Bacon', 96);
-INSERT INTO "order" (id, description, customer_id) VALUES (5073, 'Generic Rubber Hat', 82);
-INSERT INTO "order" (id, description, customer_id) VALUES (5074, 'Luxurious Soft Shirt', 6);
-INSERT INTO "order" (id, description, customer_id) VALUES (5075, 'Modern Frozen Soap', 91);
-INSERT INTO "order" (id, description, customer_id) VALUES (5076, 'Intelligent Plastic Ball', 15);
-INSERT INTO "order" (id, description, customer_id) VALUES (5077, 'Oriental Plastic Cheese', 15);
-INSERT INTO "order" (id, description, customer_id) VALUES (5078, 'Awesome Granite Cheese', 37);
-INSERT INTO "order" (id, description, customer_id) VALUES (5079, 'Gorgeous Cotton Gloves', 27);
-INSERT INTO "order" (id, description, customer_id) VALUES (5080, 'Bespoke Plastic Keyboard', 47);
-INSERT INTO "order" (id, description, customer_id) VALUES (5081, 'Incredible Concrete Gloves', 29);
-INSERT INTO "order" (id, description, customer_id) VALUES (5082, 'Rustic Fresh Bike', 89);
-INSERT INTO "order" (id, description, customer_id) VALUES (5083, 'Sleek Bronze Shirt', 11);
-INSERT INTO "order" (id, description, customer_id) VALUES (5084, 'Recycled Fresh Pizza', 57);
-INSERT INTO "order" (id, description, customer_id) VALUES (5085, 'Tasty Wooden Car', 1);
-INSERT INTO "order" (id, description, customer_id) VALUES (5086, 'Handcrafted Rubber Chicken', 78);
-INSERT INTO "order" (id, description, customer_id) VALUES (5087, 'Luxurious Cotton Shoes', 66);
-INSERT INTO "order" (id, description, customer_id) VALUES (5088, 'Sleek Bronze Car', 40);
-INSERT INTO "order" (id, description, customer_id) VALUES (5089, 'Bespoke Bronze Ball', 84);
-INSERT INTO "order" (id, description, customer_id) VALUES (5090, 'Generic Metal Towels', 81);
-INSERT INTO "order" (id, description, customer_id) VALUES (5091, 'Rustic Bronze Bacon', 19);
-INSERT INTO "order" (id, description, customer_id) VALUES (5092, 'Bespoke Plastic Hat', 81);
-INSERT INTO "order" (id, description, customer_id) VALUES (5093, 'Handcrafted Rubber Keyboard', 3);
-INSERT INTO "order" (id, description, customer_id) VALUES (5094, 'Awesome Frozen Table', 90);
-INSERT INTO "order" (id, description, customer_id) VALUES (5095, 'Gorgeous Plastic Shirt', 9);
-INSERT INTO "order" (id, description, customer_id) VALUES (5096, 'Bespoke Plastic Mouse', 14);
-INSERT INTO "order" (id, description, customer_id) VALUES (5097, 'Sleek Soft Keyboard', 38);
-INSERT INTO "order" (id, description, customer_id) VALUES (5098, 'Handcrafted Rubber Shirt', 56);
-INSERT INTO "order" (id, description, customer_id) VALUES (5099, 'Small Wooden Cheese', 88);
-INSERT INTO "order" (id, description, customer_id) VALUES (5100, 'Luxurious Rubber Pizza', 34);
-INSERT INTO "order" (id, description, customer_id) VALUES (5101, 'Gorgeous Cotton Bike', 99);
-INSERT INTO "order" (id, description, customer_id) VALUES (5102, 'Oriental Frozen Sausages', 57);
-INSERT INTO "order" (id, description, customer_id) VALUES (5103, 'Handmade Bronze Bacon', 95);
-INSERT INTO "order" (id, description, customer_id) VALUES (5104, 'Handmade Cotton Mouse', 79);
-INSERT INTO "order" (id, description, customer_id) VALUES (5105, 'Refined Granite Cheese', 81);
-INSERT INTO "order" (id, description, customer_id) VALUES (5106, 'Unbranded Metal Ball', 33);
-INSERT INTO "order" (id, description, customer_id) VALUES (5107, 'Oriental Granite Pizza', 64);
-INSERT INTO "order" (id, description, customer_id) VALUES (5108, 'Elegant Wooden Tuna', 32);
-INSERT INTO "order" (id, description, customer_id) VALUES (5109, 'Recycled Wooden Sausages', 57);
-INSERT INTO "order" (id, description, customer_id) VALUES (5110, 'Licensed Steel Fish', 76);
-INSERT INTO "order" (id, description, customer_id) VALUES (5111, 'Electronic Concrete Towels', 1);
-INSERT INTO "order" (id, description, customer_id) VALUES (5112, 'Incredible Granite Shirt', 43);
-INSERT INTO "order" (id, description, customer_id) VALUES (5113, 'Tasty Concrete Gloves', 53);
-INSERT INTO "order" (id, description, customer_id) VALUES (5114, 'Incredible Fresh Mouse', 53);
-INSERT INTO "order" (id, description, customer_id) VALUES (5115, 'Elegant Fresh Pizza', 19);
-INSERT INTO "order" (id, description, customer_id) VALUES (5116, 'Bespoke Plastic Keyboard', 34);
-INSERT INTO "order" (id, description, customer_id) VALUES (5117, 'Luxurious Fresh Bike', 50);
-INSERT INTO "order" (id, description, customer_id) VALUES (5118, 'Generic Metal Hat', 88);
-INSERT INTO "order" (id, description, customer_id) VALUES (5119, 'Gorgeous Plastic Sausages', 100);
-INSERT INTO "order" (id, description, customer_id) VALUES (5120, 'Awesome Frozen Mouse', 68);
-INSERT INTO "order" (id, description, customer_id) VALUES (5121, 'Fantastic Cotton Cheese', 85);
-INSERT INTO "order" (id, description, customer_id) VALUES (5122, 'Generic Fresh Pizza', 4);
-INSERT INTO "order" (id, description, customer_id) VALUES (5123, 'Small Steel Computer', 36);
-INSERT INTO "order" (id, description, customer_id) VALUES (5124, 'Electronic Steel Fish', 25);
-INSERT INTO "order" (id, description, customer_id) VALUES (5125, 'Handcrafted Metal Soap', 63);
-INSERT INTO "order" (id, description, customer_id) VALUES (5126, 'Licensed Bronze Car', 7);
-INSERT INTO "order" (id, description, customer_id) VALUES (5127, 'Small Bronze Shirt', 35);
-INSERT INTO "order" (id, description, customer_id) VALUES (5128, 'Gorgeous Fresh Sausages', 98);
-INSERT INTO "order" (id, description, customer_id) VALUES (5129, 'Electronic Granite Bacon', 10);
-INSERT INTO "order" (id, description, customer_id) VALUES (5130, 'Modern Soft Soap', 54);
-INSERT INTO "order" (id, description, customer_id) VALUES (5131, 'Luxurious Plastic Pizza', 18);
-INSERT INTO "order" (id, description, customer_id) VALUES (5132, 'Tasty Cotton Bacon', 60);
-INSERT INTO "order" (id, description, customer_id) VALUES (5133, 'Licensed Plastic Gloves', 37);
-INSERT INTO "order" (id, description, customer_id) VALUES (5134, 'Small Steel Gloves', 56);
-INSERT INTO "order" (id, description, customer_id) VALUES (5135, 'Handcrafted Frozen Fish', 21);
-INSERT INTO "order" (id, description, customer_id) VALUES (5136, 'Incredible Cotton Table', 77);
-INSERT INTO "order" (id, description, customer_id) VALUES (5137, 'Small Granite Bike', 11);
-INSERT INTO "order" (id, description, customer_id) VALUES (5138, 'Generic Wooden Tuna', 23);
-INSERT INTO "order" (id, description, customer_id) VALUES (5139, 'Rustic Fresh Bike', 85);
-INSERT INTO "order" (id, description, customer_id) VALUES (5140, 'Modern Plastic Towels', 27);
-INSERT INTO "order" (id, description, customer_id) VALUES (5141, 'Handcrafted Frozen Sausages', 19);
-INSERT INTO "order" (id, description, customer_id) VALUES (5142, 'Recycled Bronze Bike', 10);
-INSERT INTO "order" (id, description, customer_id) VALUES (5143, 'Elegant Metal Computer', 44);
-INSERT INTO "order" (id, description, customer_id) VALUES (5144, 'Incredible Bronze Shoes', 99);
-INSERT INTO "order" (id, description, customer_id) VALUES (5145, 'Small Rubber Chicken', 94);
-INSERT INTO "order" (id, description, customer_id) VALUES (5146, 'Handmade Wooden Computer', 20);
-INSERT INTO "order" (id, description, customer_id) VALUES (5147, 'Handcrafted Bronze Chicken', 55);
-INSERT INTO "order" (id, description, customer_id) VALUES (5148, 'Awesome Steel Salad', 55);
-INSERT INTO "order" (id, description, customer_id) VALUES (5149, 'Incredible Frozen Shoes', 85);
-INSERT INTO "order" (id, description, customer_id) VALUES (5150, 'Intelligent Frozen Chips', 87);
-INSERT INTO "order" (id, description, customer_id) VALUES (5151, 'Small Steel Fish', 7);
-INSERT INTO "order" (id, description, customer_id) VALUES (5152, 'Modern Frozen Keyboard', 8);
-INSERT INTO "order" (id, description, customer_id) VALUES (5153, 'Modern Plastic Towels', 91);
-INSERT INTO "order" (id, description, customer_id) VALUES (5154, 'Luxurious Metal Bike', 22);
-INSERT INTO "order" (id, description, customer_id) VALUES (5155, 'Refined Frozen Cheese', 78);
-INSERT INTO "order" (id, description, customer_id) VALUES (5156, 'Ergonomic Rubber Pants', 45);
-INSERT INTO "order" (id, description, customer_id) VALUES (5157, 'Bespoke Bronze Sausages', 22);
-INSERT INTO "order" (id, description, customer_id) VALUES (5158, 'Rustic Rubber Hat', 49);
-INSERT INTO "order" (id, description, customer_id) VALUES (5159, 'Small Cotton Towels', 11);
-INSERT INTO "order" (id, description, customer_id) VALUES (5160, 'Ergonomic Bronze Bacon', 46);
-INSERT INTO "order" (id, description, customer_id) VALUES (5161, 'Handcrafted Bronze Chicken', 3);
-INSERT INTO "order" (id, description, customer_id) VALUES (5162, 'Ergonomic Bronze Fish', 24);
-INSERT INTO "order" (id, description, customer_id) VALUES (5163, 'Ergonomic Fresh Cheese', 32);
-INSERT INTO "order" (id, description, customer_id) VALUES (5164, 'Handcrafted Plastic Cheese', 73);
-INSERT INTO "order" (id, description, customer_id) VALUES (5165, 'Oriental Metal Cheese', 76);
-INSERT INTO "order" (id, description, customer_id) VALUES (5166, 'Gorgeous Fresh Tuna', 73);
-INSERT INTO "order" (id, description, customer_id) VALUES (5167, 'Rustic Plastic Mouse', 56);
-INSERT INTO "order" (id, description, customer_id) VALUES (5168, 'Incredible Rubber Bike', 12);
-INSERT INTO "order" (id, description, customer_id) VALUES (5169, 'Rustic Frozen Tuna', 55);
-INSERT INTO "order" (id, description, customer_id) VALUES (5170, 'Tasty Soft Computer', 4);
-INSERT INTO "order" (id, description, customer_id) VALUES (5171, 'Luxurious Steel Car', 98);
-INSERT INTO "order" (id, description, customer_id) VALUES (5172, 'Unbranded Concrete Pants', 77);
-INSERT INTO "order" (id, description, customer_id) VALUES (5173, 'Handmade Cotton Mouse', 55);
-INSERT INTO "order" (id, description, customer_id) VALUES (5174, 'Refined Metal Table', 94);
-INSERT INTO "order" (id, description, customer_id) VALUES (5175, 'Fantastic Rubber Salad', 25);
-INSERT INTO "order" (id, description, customer_id) VALUES (5176, 'Rustic Fresh Bacon', 4);
-INSERT INTO "order" (id, description, customer_id) VALUES (5177, 'Elegant Wooden Gloves', 77);
-INSERT INTO "order" (id, description, customer_id) VALUES (5178, 'Incredible Rubber Table', 62);
-INSERT INTO "order" (id, description, customer_id) VALUES (5179, 'Gorgeous Bronze Cheese', 68);
-INSERT INTO "order" (id, description, customer_id) VALUES (5180, 'Tasty Steel Car', 6);
-INSERT INTO "order" (id, description, customer_id) VALUES (5181, 'Refined Cotton Table', 5);
-INSERT INTO "order" (id, description, customer_id) VALUES (5182, 'Elegant Wooden Chair', 79);
-INSERT INTO "order" (id, description, customer_id) VALUES (5183, 'Oriental Fresh Soap', 7);
-INSERT INTO "order" (id, description, customer_id) VALUES (5184, 'Gorgeous Wooden Shoes', 40);
-INSERT INTO "order" (id, description, customer_id) VALUES (5185, 'Licensed Wooden Ball', 63);
-INSERT INTO "order" (id, description, customer_id) VALUES (5186, 'Incredible Steel Gloves', 4);
-INSERT INTO "order" (id, description, customer_id) VALUES (5187, 'Modern Plastic Chips', 53);
-INSERT INTO "order" (id, description, customer_id) VALUES (5188, 'Bespoke Wooden Cheese', 12);
-INSERT INTO "order" (id, description, customer_id) VALUES (5189, 'Unbranded Frozen Tuna', 18);
-INSERT INTO "order" (id, description, customer_id) VALUES (5190, 'Modern Cotton Car', 18);
-INSERT INTO "order" (id, description, customer_id) VALUES (5191, 'Recycled Concrete Pants', 74);
-INSERT INTO "order" (id, description, customer_id) VALUES (5192, 'Elegant Rubber Sausages', 95);
-INSERT INTO "order" (id, description, customer_id) VALUES (5193, 'Small Soft Soap', 27);
-INSERT INTO "order" (id, description, customer_id) VALUES (5194, 'Tasty Granite Gloves', 28);
-INSERT INTO "order" (id, description, customer_id) VALUES (5195, 'Elegant Granite Mouse', 81);
-INSERT INTO "order" (id, description, customer_id) VALUES (5196, 'Electronic Frozen Fish', 97);
-INSERT INTO "order" (id, description, customer_id) VALUES (5197, 'Fantastic Steel Keyboard', 84);
-INSERT INTO "order" (id, description, customer_id) VALUES (5198, 'Rustic Fresh Shirt', 27);
-INSERT INTO "order" (id, description, customer_id) VALUES (5199, 'Bespoke Concrete Bacon', 97);
-INSERT INTO "order" (id, description, customer_id) VALUES (5200, 'Bespoke Soft Towels', 94);
-INSERT INTO "order" (id, description, customer_id) VALUES (5201, 'Elegant Concrete Towels', 93);
-INSERT INTO "order" (id, description, customer_id) VALUES (5202, 'Sleek Rubber Chicken', 48);
-INSERT INTO "order" (id, description, customer_id) VALUES (5203, 'Refined Soft Ball', 16);
-INSERT INTO "order" (id, description, customer_id) VALUES (5204, 'Elegant Concrete Table', 61);
-INSERT INTO "order" (id, description, customer_id) VALUES (5205, 'Oriental Rubber Car', 27);
-INSERT INTO "order" (id, description, customer_id) VALUES (5206, 'Rustic Bronze Salad', 45);
-INSERT INTO "order" (id, description, customer_id) VALUES (5207, 'Handmade Cotton Shirt', 61);
-INSERT INTO "order" (id, description, customer_id) VALUES (5208, 'Recycled Plastic Towels', 61);
-INSERT INTO "order" (id, description, customer_id) VALUES (5209, 'Generic Plastic Bacon', 60);
-INSERT INTO "order" (id, description, customer_id) VALUES (5210, 'Handmade Fresh Chair', 34);
-INSERT INTO "order" (id, description, customer_id) VALUES (5211, 'Small Wooden Cheese', 16);
-INSERT INTO "order" (id, description, customer_id) VALUES (5212, 'Unbranded Soft Computer', 82);
-INSERT INTO "order" (id, description, customer_id) VALUES (5213, 'Oriental Cotton Bike', 5);
-INSERT INTO "order" (id, description, customer_id) VALUES (5214, 'Incredible Fresh Pants', 36);
-INSERT INTO "order" (id, description, customer_id) VALUES (5215, 'Small Frozen Sausages', 98);
-INSERT INTO "order" (id, description, customer_id) VALUES (5216, 'Generic Fresh Mouse', 16);
-INSERT INTO "order" (id, description, customer_id) VALUES (5217, 'Intelligent Steel Table', 46);
-INSERT INTO "order" (id, description, customer_id) VALUES (5218, 'Small Steel Towels', 68);
-INSERT INTO "order" (id, description, customer_id) VALUES (5219, 'Refined Steel Sausages', 65);
-INSERT INTO "order" (id, description, customer_id) VALUES (5220, 'Electronic Rubber Chips', 73);
-INSERT INTO "order" (id, description, customer_id) VALUES (5221, 'Awesome Metal Hat', 90);
-INSERT INTO "order" (id, description, customer_id) VALUES (5222, 'Gorgeous Wooden Chicken', 75);
-INSERT INTO "order" (id, description, customer_id) VALUES (5223, 'Handcrafted Steel Chips', 47);
-INSERT INTO "order" (id, description, customer_id) VALUES (5224, 'Handmade Wooden Chicken', 67);
-INSERT INTO "order" (id, description, customer_id) VALUES (5225, 'Ergonomic Frozen Bacon', 68);
-INSERT INTO "order" (id, description, customer_id) VALUES (5226, 'Luxurious Plastic Bike', 60);
-INSERT INTO "order" (id, description, customer_id) VALUES (5227, 'Refined Metal Pants', 17);
-INSERT INTO "order" (id, description, customer_id) VALUES (5228, 'Sleek Wooden Fish', 20);
-INSERT INTO "order" (id, description, customer_id) VALUES (5229, 'Sleek Frozen Gloves', 20);
-INSERT INTO "order" (id, description, customer_id) VALUES (5230, 'Oriental Fresh Keyboard', 76);
-INSERT INTO "order" (id, description, customer_id) VALUES (5231, 'Practical Rubber Keyboard', 34);
-INSERT INTO "order" (id, description, customer_id) VALUES (5232, 'Incredible Steel Shoes', 93);
-INSERT INTO "order" (id, description, customer_id) VALUES (5233, 'Refined Frozen Cheese', 32);
-INSERT INTO "order" (id, description, customer_id) VALUES (5234, 'Modern Soft Fish', 22);
-INSERT INTO "order" (id, description, customer_id) VALUES (5235, 'Licensed Bronze Salad', 61);
-INSERT INTO "order" (id, description, customer_id) VALUES (5236, 'Rustic Cotton Fish', 3);
-INSERT INTO "order" (id, description, customer_id) VALUES (5237, 'Handmade Bronze Keyboard', 10);
-INSERT INTO "order" (id, description, customer_id) VALUES (5238, 'Ergonomic Frozen Pants', 3);
-INSERT INTO "order" (id, description, customer_id) VALUES (5239, 'Generic Concrete Chair', 78);
-INSERT INTO "order" (id, description, customer_id) VALUES (5240, 'Bespoke Fresh Pizza', 38);
-INSERT INTO "order" (id, description, customer_id) VALUES (5241, 'Intelligent Plastic Mouse', 49);
-INSERT INTO "order" (id, description, customer_id) VALUES (5242, 'Awesome Rubber Gloves', 37);
-INSERT INTO "order" (id, description, customer_id) VALUES (5243, 'Incredible Cotton Chair', 96);
-INSERT INTO "order" (id, description, customer_id) VALUES (5244, 'Gorgeous Plastic Fish', 72);
-INSERT INTO "order" (id, description, customer_id) VALUES (5245, 'Handcrafted Metal Fish', 69);
-INSERT INTO "order" (id, description, customer_id) VALUES (5246, 'Elegant Steel Tuna', 38);
-INSERT INTO "order" (id, description, customer_id) VALUES (5247, 'Fantastic Rubber Fish', 86);
-INSERT INTO "order" (id, description, customer_id) VALUES (5248, 'Fantastic Fresh Computer', 97);
-INSERT INTO "order" (id, description, customer_id) VALUES (5249, 'Tasty Cotton Mouse', 55);
-INSERT INTO "order" (id, description, customer_id) VALUES (5250, 'Handcrafted Soft Computer', 3);
-INSERT INTO "order" (id, description, customer_id) VALUES (5251, 'Gorgeous Concrete Cheese', 29);
-INSERT INTO "order" (id, description, customer_id) VALUES (5252, 'Licensed Fresh Soap', 6);
-INSERT INTO "order" (id, description, customer_id) VALUES (5253, 'Refined Wooden Shoes', 58);
-INSERT INTO "order" (id, description, customer_id) VALUES (5254, 'Bespoke Bronze Gloves', 94);
-INSERT INTO "order" (id, description, customer_id) VALUES (5255, 'Small Plastic Tuna', 88);
-INSERT INTO "order" (id, description, customer_id) VALUES (5256, 'Refined Concrete Table', 35);
-INSERT INTO "order" (id, description, customer_id) VALUES (5257, 'Small Wooden Shoes', 78);
-INSERT INTO "order" (id, description, customer_id) VALUES (5258, 'Refined Bronze Chair', 56);
-INSERT INTO "order" (id, description, customer_id) VALUES (5259, 'Incredible Frozen Bike', 77);
-INSERT INTO "order" (id, description, customer_id) VALUES (5260, 'Bespoke Concrete Car', 40);
-INSERT INTO "order" (id, description, customer_id) VALUES (5261, 'Gorgeous Cotton Mouse', 74);
-INSERT INTO "order" (id, description, customer_id) VALUES (5262, 'Practical Metal Pizza', 51);
-INSERT INTO "order" (id, description, customer_id) VALUES (5263, 'Oriental Plastic Bike', 30);
-INSERT INTO "order" (id, description, customer_id) VALUES (5264, 'Intelligent Cotton Shoes', 100);
-INSERT INTO "order" (id, description, customer_id) VALUES (5265, 'Tasty Concrete Mouse', 97);
-INSERT INTO "order" (id, description, customer_id) VALUES (5266, 'Luxurious Metal Soap', 54);
-INSERT INTO "order" (id, description, customer_id) VALUES (5267, 'Handmade Wooden Soap', 18);
-INSERT INTO "order" (id, description, customer_id) VALUES (5268, 'Unbranded Soft Soap', 92);
-INSERT INTO "order" (id, description, customer_id) VALUES (5269, 'Generic Wooden Gloves', 53);
-INSERT INTO "order" (id, description, customer_id) VALUES (5270, 'Refined Steel Soap', 1);
-INSERT INTO "order" (id, description, customer_id) VALUES (5271, 'Oriental Rubber Pizza', 1);
-INSERT INTO "order" (id, description, customer_id) VALUES (5272, 'Sleek Cotton Pants', 66);
-INSERT INTO "order" (id, description, customer_id) VALUES (5273, 'Incredible Metal Pizza', 86);
-INSERT INTO "order" (id, description, customer_id) VALUES (5274, 'Practical Rubber Keyboard', 54);
-INSERT INTO "order" (id, description, customer_id) VALUES (5275, 'Handmade Wooden Tuna', 60);
-INSERT INTO "order" (id, description, customer_id) VALUES (5276, 'Handmade Fresh Table', 75);
-INSERT INTO "order" (id, description, customer_id) VALUES (5277, 'Small Cotton Cheese', 78);
-INSERT INTO "order" (id, description, customer_id) VALUES (5278, 'Tasty Rubber Car', 97);
-INSERT INTO "order" (id, description, customer_id) VALUES (5279, 'Licensed Steel Bacon', 84);
-INSERT INTO "order" (id, description, customer_id) VALUES (5280, 'Licensed Bronze Cheese', 79);
-INSERT INTO "order" (id, description, customer_id) VALUES (5281, 'Generic Wooden Mouse', 88);
-INSERT INTO "order" (id, description, customer_id) VALUES (5282, 'Small Metal Pants', 23);
-INSERT INTO "order" (id, description, customer_id) VALUES (5283, 'Rustic Concrete Chair', 81);
-INSERT INTO "order" (id, description, customer_id) VALUES (5284, 'Luxurious Metal Tuna', 5);
-INSERT INTO "order" (id, description, customer_id) VALUES (5285, 'Rustic Metal Chips', 9);
-INSERT INTO "order" (id, description, customer_id) VALUES (5286, 'Electronic Bronze Ball', 100);
-INSERT INTO "order" (id, description, customer_id) VALUES (5287, 'Licensed Granite Table', 77);
-INSERT INTO "order" (id, description, customer_id) VALUES (5288, 'Recycled Soft Pizza', 52);
-INSERT INTO "order" (id, description, customer_id) VALUES (5289, 'Rustic Fresh Bike', 7);
-INSERT INTO "order" (id, description, customer_id) VALUES (5290, 'Ergonomic Plastic Fish', 34);
-INSERT INTO "order" (id, description, customer_id) VALUES (5291, 'Bespoke Frozen Shoes', 12);
-INSERT INTO "order" (id, description, customer_id) VALUES (5292, 'Oriental Steel Fish', 6);
-INSERT INTO "order" (id, description, customer_id) VALUES (5293, 'Licensed Cotton Pants', 52);
-INSERT INTO "order" (id, description, customer_id) VALUES (5294, 'Fantastic Cotton Chair', 8);
-INSERT INTO "order" (id, description, customer_id) VALUES (5295, 'Ergonomic Fresh Cheese', 53);
-INSERT INTO "order" (id, description, customer_id) VALUES (5296, 'Recycled Metal Table', 96);
-INSERT INTO "order" (id, description, customer_id) VALUES (5297, 'Modern Steel Pants', 17);
-INSERT INTO "order" (id, description, customer_id) VALUES (5298, 'Tasty Rubber Bacon', 52);
-INSERT INTO "order" (id, description, customer_id) VALUES (5299, 'Unbranded Fresh Cheese', 62);
-INSERT INTO "order" (id, description, customer_id) VALUES (5300, 'Small Bronze Bike', 44);
-INSERT INTO "order" (id, description, customer_id) VALUES (5301, 'Sleek Steel Chair', 54);
-INSERT INTO "order" (id, description, customer_id) VALUES (5302, 'Modern Steel Shirt', 15);
-INSERT INTO "order" (id, description, customer_id) VALUES (5303, 'Tasty Granite Fish', 34);
-INSERT INTO "order" (id, description, customer_id) VALUES (5304, 'Fantastic Soft Car', 25);
-INSERT INTO "order" (id, description, customer_id) VALUES (5305, 'Incredible Bronze Keyboard', 23);
-INSERT INTO "order" (id, description, customer_id) VALUES (5306, 'Handmade Bronze Pants', 41);
-INSERT INTO "order" (id, description, customer_id) VALUES (5307, 'Bespoke Wooden Bike', 92);
-INSERT INTO "order" (id, description, customer_id) VALUES (5308, 'Rustic Granite Pants', 13);
-INSERT INTO "order" (id, description, customer_id) VALUES (5309, 'Unbranded Frozen Cheese', 61);
-INSERT INTO "order" (id, description, customer_id) VALUES (5310, 'Unbranded Rubber Keyboard', 26);
-INSERT INTO "order" (id, description, customer_id) VALUES (5311, 'Rustic Wooden Shoes', 71);
-INSERT INTO "order" (id, description, customer_id) VALUES (5312, 'Electronic Frozen Soap', 52);
-INSERT INTO "order" (id, description, customer_id) VALUES (5313, 'Generic Wooden Towels', 59);
-INSERT INTO "order" (id, description, customer_id) VALUES (5314, 'Sleek Concrete Pizza', 81);
-INSERT INTO "order" (id, description, customer_id) VALUES (5315, 'Awesome Frozen Tuna', 87);
-INSERT INTO "order" (id, description, customer_id) VALUES (5316, 'Intelligent Wooden Hat', 32);
-INSERT INTO "order" (id, description, customer_id) VALUES (5317, 'Licensed Concrete Bacon', 65);
-INSERT INTO "order" (id, description, customer_id) VALUES (5318, 'Tasty Granite Keyboard', 17);
-INSERT INTO "order" (id, description, customer_id) VALUES (5319, 'Small Cotton Bacon', 2);
-INSERT INTO "order" (id, description, customer_id) VALUES (5320, 'Gorgeous Bronze Pants', 61);
-INSERT INTO "order" (id, description, customer_id) VALUES (5321, 'Practical Rubber Chicken', 50);
-INSERT INTO "order" (id, description, customer_id) VALUES (5322, 'Fantastic Fresh Chips', 67);
-INSERT INTO "order" (id, description, customer_id) VALUES (5323, 'Refined Granite Shoes', 19);
-INSERT INTO "order" (id, description, customer_id) VALUES (5324, 'Electronic Bronze Chair', 81);
-INSERT INTO "order" (id, description, customer_id) VALUES (5325, 'Luxurious Granite Table', 85);
-INSERT INTO "order" (id, description, customer_id) VALUES (5326, 'Incredible Steel Table', 81);
-INSERT INTO "order" (id, description, customer_id) VALUES (5327, 'Rustic Frozen Shoes', 26);
-INSERT INTO "order" (id, description, customer_id) VALUES (5328, 'Intelligent Bronze Chair', 39);
-INSERT INTO "order" (id, description, customer_id) VALUES (5329, 'Ergonomic Metal Keyboard', 48);
-INSERT INTO "order" (id, description, customer_id) VALUES (5330, 'Sleek Fresh Pizza', 26);
-INSERT INTO "order" (id, description, customer_id) VALUES (5331, 'Incredible Cotton Mouse', 86);
-INSERT INTO "order" (id, description, customer_id) VALUES (5332, 'Handmade Concrete Pizza', 9);
-INSERT INTO "order" (id, description, customer_id) VALUES (5333, 'Incredible Granite Gloves', 33);
-INSERT INTO "order" (id, description, customer_id) VALUES (5334, 'Handmade Cotton Ball', 32);
-INSERT INTO "order" (id, description, customer_id) VALUES (5335, 'Ergonomic Granite Pants', 89);
-INSERT INTO "order" (id, description, customer_id) VALUES (5336, 'Handmade Rubber Cheese', 46);
-INSERT INTO "order" (id, description, customer_id) VALUES (5337, 'Sleek Concrete Chicken', 84);
-INSERT INTO "order" (id, description, customer_id) VALUES (5338, 'Incredible Cotton Pizza', 47);
-INSERT INTO "order" (id, description, customer_id) VALUES (5339, 'Refined Cotton Chair', 28);
-INSERT INTO "order" (id, description, customer_id) VALUES (5340, 'Refined Steel Ball', 28);
-INSERT INTO "order" (id, description, customer_id) VALUES (5341, 'Practical Fresh Towels', 76);
-INSERT INTO "order" (id, description, customer_id) VALUES (5342, 'Electronic Bronze Sausages', 5);
-INSERT INTO "order" (id, description, customer_id) VALUES (5343, 'Oriental Frozen Ball', 38);
-INSERT INTO "order" (id, description, customer_id) VALUES (5344, 'Fantastic Rubber Cheese', 71);
-INSERT INTO "order" (id, description, customer_id) VALUES (5345, 'Fantastic Bronze Shoes', 15);
-INSERT INTO "order" (id, description, customer_id) VALUES (5346, 'Bespoke Fresh Shirt', 39);
-INSERT INTO "order" (id, description, customer_id) VALUES (5347, 'Oriental Soft Car', 41);
-INSERT INTO "order" (id, description, customer_id) VALUES (5348, 'Ergonomic Metal Computer', 34);
-INSERT INTO "order" (id, description, customer_id) VALUES (5349, 'Tasty Steel Salad', 18);
-INSERT INTO "order" (id, description, customer_id) VALUES (5350, 'Small Frozen Ball', 27);
-INSERT INTO "order" (id, description, customer_id) VALUES (5351, 'Bespoke Frozen Computer', 2);
-INSERT INTO "order" (id, description, customer_id) VALUES (5352, 'Ergonomic Bronze Mouse', 46);
-INSERT INTO "order" (id, description, customer_id) VALUES (5353, 'Bespoke Rubber Shirt', 49);
-INSERT INTO "order" (id, description, customer_id) VALUES (5354, 'Handmade Cotton Mouse', 74);
-INSERT INTO "order" (id, description, customer_id) VALUES (5355, 'Intelligent Metal Hat', 6);
-INSERT INTO "order" (id, description, customer_id) VALUES (5356, 'Bespoke Wooden Cheese', 29);
-INSERT INTO "order" (id, description, customer_id) VALUES (5357, 'Tasty Fresh Cheese', 82);
-INSERT INTO "order" (id, description, customer_id) VALUES (5358, 'Electronic Concrete Sausages', 47);
-INSERT INTO "order" (id, description, customer_id) VALUES (5359, 'Bespoke Steel Chips', 54);
-INSERT INTO "order" (id, description, customer_id) VALUES (5360, 'Sleek Concrete Hat', 82);
-INSERT INTO "order" (id, description, customer_id) VALUES (5361, 'Modern Fresh Chicken', 40);
-INSERT INTO "order" (id, description, customer_id) VALUES (5362, 'Modern Metal Bike', 33);
-INSERT INTO "order" (id, description, customer_id) VALUES (5363, 'Bespoke Cotton Shoes', 94);
-INSERT INTO "order" (id, description, customer_id) VALUES (5364, 'Licensed Wooden Gloves', 10);
-INSERT INTO "order" (id, description, customer_id) VALUES (5365, 'Rustic Rubber Pants', 47);
-INSERT INTO "order" (id, description, customer_id) VALUES (5366, 'Recycled Steel Chair', 30);
-INSERT INTO "order" (id, description, customer_id) VALUES (5367, 'Handcrafted Concrete Shirt', 71);
-INSERT INTO "order" (id, description, customer_id) VALUES (5368, 'Luxurious Bronze Chicken', 17);
-INSERT INTO "order" (id, description, customer_id) VALUES (5369, 'Tasty Plastic Chips', 37);
-INSERT INTO "order" (id, description, customer_id) VALUES (5370, 'Recycled Concrete Mouse', 56);
-INSERT INTO "order" (id, description, customer_id) VALUES (5371, 'Sleek Granite Table', 3);
-INSERT INTO "order" (id, description, customer_id) VALUES (5372, 'Awesome Cotton Pizza', 54);
-INSERT INTO "order" (id, description, customer_id) VALUES (5373, 'Tasty Rubber Soap', 21);
-INSERT INTO "order" (id, description, customer_id) VALUES (5374, 'Practical Wooden Computer', 91);
-INSERT INTO "order" (id, description, customer_id) VALUES (5375, 'Electronic Soft Sausages', 100);
-INSERT INTO "order" (id, description, customer_id) VALUES (5376, 'Bespoke Granite Tuna', 54);
-INSERT INTO "order" (id, description, customer_id) VALUES (5377, 'Oriental Steel Shoes', 72);
-INSERT INTO "order" (id, description, customer_id) VALUES (5378, 'Handmade Cotton Cheese', 46);
-INSERT INTO "order" (id, description, customer_id) VALUES (5379, 'Oriental Soft Pants', 17);
-INSERT INTO "order" (id, description, customer_id) VALUES (5380, 'Luxurious Metal Salad', 19);
-INSERT INTO "order" (id, description, customer_id) VALUES (5381, 'Awesome Metal Fish', 47);
-INSERT INTO "order" (id, description, customer_id) VALUES (5382, 'Elegant Fresh Shoes', 89);
-INSERT INTO "order" (id, description, customer_id) VALUES (5383, 'Ergonomic Metal Car', 8);
-INSERT INTO "order" (id, description, customer_id) VALUES (5384, 'Gorgeous Plastic Mouse', 66);
-INSERT INTO "order" (id, description, customer_id) VALUES (5385, 'Elegant Rubber Keyboard', 31);
-INSERT INTO "order" (id, description, customer_id) VALUES (5386, 'Bespoke Rubber Soap', 87);
-INSERT INTO "order" (id, description, customer_id) VALUES (5387, 'Practical Frozen Cheese', 22);
-INSERT INTO "order" (id, description, customer_id) VALUES (5388, 'Ergonomic Wooden Car', 55);
-INSERT INTO "order" (id, description, customer_id) VALUES (5389, 'Sleek Concrete Hat', 14);
-INSERT INTO "order" (id, description, customer_id) VALUES (5390, 'Generic Metal Chair', 30);
-INSERT INTO "order" (id, description, customer_id) VALUES (5391, 'Small Metal Pizza', 73);
-INSERT INTO "order" (id, description, customer_id) VALUES (5392, 'Unbranded Fresh Mouse', 74);
-INSERT INTO "order" (id, description, customer_id) VALUES (5393, 'Handmade Bronze Pants', 96);
-INSERT INTO "order" (id, description, customer_id) VALUES (5394, 'Intelligent Soft Salad', 65);
-INSERT INTO "order" (id, description, customer_id) VALUES (5395, 'Awesome Cotton Gloves', 94);
-INSERT INTO "order" (id, description, customer_id) VALUES (5396, 'Sleek Plastic Gloves', 30);
-INSERT INTO "order" (id, description, customer_id) VALUES (5397, 'Generic Wooden Hat', 62);
-INSERT INTO "order" (id, description, customer_id) VALUES (5398, 'Rustic Frozen Table', 38);
-INSERT INTO "order" (id, description, customer_id) VALUES (5399, 'Handcrafted Wooden Ball', 34);
-INSERT INTO "order" (id, description, customer_id) VALUES (5400, 'Bespoke Rubber Hat', 11);
-INSERT INTO "order" (id, description, customer_id) VALUES (5401, 'Sleek Soft Towels', 34);
-INSERT INTO "order" (id, description, customer_id) VALUES (5402, 'Modern Frozen Cheese', 62);
-INSERT INTO "order" (id, description, customer_id) VALUES (5403, 'Elegant Metal Fish', 85);
-INSERT INTO "order" (id, description, customer_id) VALUES (5404, 'Generic Frozen Chicken', 95);
-INSERT INTO "order" (id, description, customer_id) VALUES (5405, 'Small Rubber Tuna', 67);
-INSERT INTO "order" (id, description, customer_id) VALUES (5406, 'Elegant Steel Salad', 77);
-INSERT INTO "order" (id, description, customer_id) VALUES (5407, 'Generic Bronze Hat', 84);
-INSERT INTO "order" (id, description, customer_id) VALUES (5408, 'Intelligent Cotton Chair', 68);
-INSERT INTO "order" (id, description, customer_id) VALUES (5409, 'Electronic Bronze Chicken', 60);
-INSERT INTO "order" (id, description, customer_id) VALUES (5410, 'Rustic Plastic Chicken', 37);
-INSERT INTO "order" (id, description, customer_id) VALUES (5411, 'Luxurious Rubber Car', 50);
-INSERT INTO "order" (id, description, customer_id) VALUES (5412, 'Generic Granite Cheese', 61);
-INSERT INTO "order" (id, description, customer_id) VALUES (5413, 'Sleek Metal Shirt', 8);
-INSERT INTO "order" (id, description, customer_id) VALUES (5414, 'Electronic Concrete Shoes', 28);
-INSERT INTO "order" (id, description, customer_id) VALUES (5415, 'Luxurious Rubber Bacon', 32);
-INSERT INTO "order" (id, description, customer_id) VALUES (5416, 'Awesome Cotton Shoes', 27);
-INSERT INTO "order" (id, description, customer_id) VALUES (5417, 'Handcrafted Wooden Ball', 75);
-INSERT INTO "order" (id, description, customer_id) VALUES (5418, 'Unbranded Plastic Sausages', 23);
-INSERT INTO "order" (id, description, customer_id) VALUES (5419, 'Rustic Rubber Shoes', 64);
-INSERT INTO "order" (id, description, customer_id) VALUES (5420, 'Handmade Plastic Pants', 90);
-INSERT INTO "order" (id, description, customer_id) VALUES (5421, 'Oriental Steel Car', 36);
-INSERT INTO "order" (id, description, customer_id) VALUES (5422, 'Ergonomic Concrete Soap', 66);
-INSERT INTO "order" (id, description, customer_id) VALUES (5423, 'Modern Wooden Tuna', 91);
-INSERT INTO "order" (id, description, customer_id) VALUES (5424, 'Luxurious Fresh Sausages', 84);
-INSERT INTO "order" (id, description, customer_id) VALUES (5425, 'Electronic Cotton Chair', 38);
-INSERT INTO "order" (id, description, customer_id) VALUES (5426, 'Bespoke Bronze Gloves', 7);
-INSERT INTO "order" (id, description, customer_id) VALUES (5427, 'Sleek Steel Mouse', 76);
-INSERT INTO "order" (id, description, customer_id) VALUES (5428, 'Handmade Metal Mouse', 67);
-INSERT INTO "order" (id, description, customer_id) VALUES (5429, 'Ergonomic Bronze Chair', 32);
-INSERT INTO "order" (id, description, customer_id) VALUES (5430, 'Luxurious Steel Pizza', 45);
-INSERT INTO "order" (id, description, customer_id) VALUES (5431, 'Electronic Plastic Cheese', 67);
-INSERT INTO "order" (id, description, customer_id) VALUES (5432, 'Ergonomic Steel Soap', 94);
-INSERT INTO "order" (id, description, customer_id) VALUES (5433, 'Rustic Plastic Computer', 8);
-INSERT INTO "order" (id, description, customer_id) VALUES (5434, 'Oriental Rubber Computer', 27);
-INSERT INTO "order" (id, description, customer_id) VALUES (5435, 'Modern Bronze Table', 26);
-INSERT INTO "order" (id, description, customer_id) VALUES (5436, 'Unbranded Steel Chicken', 3);
-INSERT INTO "order" (id, description, customer_id) VALUES (5437, 'Bespoke Soft Salad', 41);
-INSERT INTO "order" (id, description, customer_id) VALUES (5438, 'Fantastic Cotton Chicken', 4);
-INSERT INTO "order" (id, description, customer_id) VALUES (5439, 'Small Frozen Chips', 77);
-INSERT INTO "order" (id, description, customer_id) VALUES (5440, 'Generic Wooden Computer', 17);
-INSERT INTO "order" (id, description, customer_id) VALUES (5441, 'Handmade Steel Towels', 23);
-INSERT INTO "order" (id, description, customer_id) VALUES (5442, 'Sleek Rubber Pants', 91);
-INSERT INTO "order" (id, description, customer_id) VALUES (5443, 'Elegant Wooden Chair', 61);
-INSERT INTO "order" (id, description, customer_id) VALUES (5444, 'Ergonomic Soft Mouse', 66);
-INSERT INTO "order" (id, description, customer_id) VALUES (5445, 'Unbranded Plastic Chips', 80);
-INSERT INTO "order" (id, description, customer_id) VALUES (5446, 'Intelligent Granite Sausages', 94);
-INSERT INTO "order" (id, description, customer_id) VALUES (5447, 'Recycled Frozen Bike', 30);
-INSERT INTO "order" (id, description, customer_id) VALUES (5448, 'Oriental Rubber Gloves', 92);
-INSERT INTO "order" (id, description, customer_id) VALUES (5449, 'Elegant Concrete Chair', 8);
-INSERT INTO "order" (id, description, customer_id) VALUES (5450, 'Licensed Soft Shoes', 69);
-INSERT INTO "order" (id, description, customer_id) VALUES (5451, 'Electronic Frozen Table', 88);
-INSERT INTO "order" (id, description, customer_id) VALUES (5452, 'Incredible Wooden Shirt', 91);
-INSERT INTO "order" (id, description, customer_id) VALUES (5453, 'Ergonomic Frozen Pizza', 73);
-INSERT INTO "order" (id, description, customer_id) VALUES (5454, 'Tasty Soft Tuna', 44);
-INSERT INTO "order" (id, description, customer_id) VALUES (5455, 'Recycled Metal Keyboard', 25);
-INSERT INTO "order" (id, description, customer_id) VALUES (5456, 'Small Concrete Chips', 16);
-INSERT INTO "order" (id, description, customer_id) VALUES (5457, 'Oriental Fresh Gloves', 86);
-INSERT INTO "order" (id, description, customer_id) VALUES (5458, 'Tasty Bronze Cheese', 73);
-INSERT INTO "order" (id, description, customer_id) VALUES (5459, 'Licensed Soft Cheese', 12);
-INSERT INTO "order" (id, description, customer_id) VALUES (5460, 'Sleek Concrete Keyboard', 91);
-INSERT INTO "order" (id, description, customer_id) VALUES (5461, 'Electronic Frozen Shirt', 54);
-INSERT INTO "order" (id, description, customer_id) VALUES (5462, 'Intelligent Granite Hat', 55);
-INSERT INTO "order" (id, description, customer_id) VALUES (5463, 'Oriental Granite Shoes', 34);
-INSERT INTO "order" (id, description, customer_id) VALUES (5464, 'Fantastic Metal Chips', 9);
-INSERT INTO "order" (id, description, customer_id) VALUES (5465, 'Bespoke Bronze Soap', 92);
-INSERT INTO "order" (id, description, customer_id) VALUES (5466, 'Refined Plastic Computer', 69);
-INSERT INTO "order" (id, description, customer_id) VALUES (5467, 'Gorgeous Metal Sausages', 55);
-INSERT INTO "order" (id, description, customer_id) VALUES (5468, 'Luxurious Steel Chips', 79);
-INSERT INTO "order" (id, description, customer_id) VALUES (5469, 'Oriental Metal Pants', 13);
-INSERT INTO "order" (id, description, customer_id) VALUES (5470, 'Gorgeous Rubber Bacon', 4);
-INSERT INTO "order" (id, description, customer_id) VALUES (5471, 'Handmade Concrete Pizza', 42);
-INSERT INTO "order" (id, description, customer_id) VALUES (5472, 'Generic Metal Keyboard', 78);
-INSERT INTO "order" (id, description, customer_id) VALUES (5473, 'Practical Soft Chair', 83);
-INSERT INTO "order" (id, description, customer_id) VALUES (5474, 'Practical Plastic Salad', 79);
-INSERT INTO "order" (id, description, customer_id) VALUES (5475, 'Rustic Plastic Towels', 59);
-INSERT INTO "order" (id, description, customer_id) VALUES (5476, 'Incredible Wooden Fish', 15);
-INSERT INTO "order" (id, description, customer_id) VALUES (5477, 'Luxurious Plastic Mouse', 25);
-INSERT INTO "order" (id, description, customer_id) VALUES (5478, 'Refined Plastic Table', 16);
-INSERT INTO "order" (id, description, customer_id) VALUES (5479, 'Oriental Granite Pizza', 50);
-INSERT INTO "order" (id, description, customer_id) VALUES (5480, 'Incredible Steel Bacon', 85);
-INSERT INTO "order" (id, description, customer_id) VALUES (5481, 'Awesome Granite Bike', 42);
-INSERT INTO "order" (id, description, customer_id) VALUES (5482, 'Recycled Rubber Fish', 38);
-INSERT INTO "order" (id, description, customer_id) VALUES (5483, 'Rustic Fresh Bike', 56);
-INSERT INTO "order" (id, description, customer_id) VALUES (5484, 'Modern Granite Gloves', 64);
-INSERT INTO "order" (id, description, customer_id) VALUES (5485, 'Tasty Metal Salad', 6);
-INSERT INTO "order" (id, description, customer_id) VALUES (5486, 'Modern Fresh Hat', 55);
-INSERT INTO "order" (id, description, customer_id) VALUES (5487, 'Licensed Steel Car', 80);
-INSERT INTO "order" (id, description, customer_id) VALUES (5488, 'Gorgeous Plastic Chips', 25);
-INSERT INTO "order" (id, description, customer_id) VALUES (5489, 'Modern Bronze Car', 76);
-INSERT INTO "order" (id, description, customer_id) VALUES (5490, 'Licensed Frozen Chair', 70);
-INSERT INTO "order" (id, description, customer_id) VALUES (5491, 'Ergonomic Steel Shoes', 49);
-INSERT INTO "order" (id, description, customer_id) VALUES (5492, 'Tasty Metal Towels', 56);
-INSERT INTO "order" (id, description, customer_id) VALUES (5493, 'Electronic Plastic Keyboard', 85);
-INSERT INTO "order" (id, description, customer_id) VALUES (5494, 'Modern Wooden Computer', 73);
-INSERT INTO "order" (id, description, customer_id) VALUES (5495, 'Gorgeous Granite Car', 68);
-INSERT INTO "order" (id, description, customer_id) VALUES (5496, 'Refined Fresh Salad', 67);
-INSERT INTO "order" (id, description, customer_id) VALUES (5497, 'Refined Steel Soap', 54);
-INSERT INTO "order" (id, description, customer_id) VALUES (5498, 'Incredible Granite Pants', 81);
-INSERT INTO "order" (id, description, customer_id) VALUES (5499, 'Small Fresh Keyboard', 46);
-INSERT INTO "order" (id, description, customer_id) VALUES (5500, 'Rustic Fresh Chair', 99);
-INSERT INTO "order" (id, description, customer_id) VALUES (5501, 'Awesome Concrete Salad', 63);
-INSERT INTO "order" (id, description, customer_id) VALUES (5502, 'Sleek Concrete Chicken', 8);
-INSERT INTO "order" (id, description, customer_id) VALUES (5503, 'Licensed Granite Salad', 35);
-INSERT INTO "order" (id, description, customer_id) VALUES (5504, 'Practical Cotton Computer', 5);
-INSERT INTO "order" (id, description, customer_id) VALUES (5505, 'Unbranded Concrete Shoes', 23);
-INSERT INTO "order" (id, description, customer_id) VALUES (5506, 'Licensed Soft Sausages', 27);
-INSERT INTO "order" (id, description, customer_id) VALUES (5507, 'Awesome Cotton Bacon', 27);
-INSERT INTO "order" (id, description, customer_id) VALUES (5508, 'Modern Fresh Tuna', 18);
-INSERT INTO "order" (id, description, customer_id) VALUES (5509, 'Fantastic Wooden Soap', 70);
-INSERT INTO "order" (id, description, customer_id) VALUES (5510, 'Intelligent Soft Bacon', 27);
-INSERT INTO "order" (id, description, customer_id) VALUES (5511, 'Gorgeous Frozen Pizza', 94);
-INSERT INTO "order" (id, description, customer_id) VALUES (5512, 'Handmade Fresh Chair', 31);
-INSERT INTO "order" (id, description, customer_id) VALUES (5513, 'Generic Granite Gloves', 9);
-INSERT INTO "order" (id, description, customer_id) VALUES (5514, 'Modern Wooden Keyboard', 40);
-INSERT INTO "order" (id, description, customer_id) VALUES (5515, 'Bespoke Fresh Cheese', 34);
-INSERT INTO "order" (id, description, customer_id) VALUES (5516, 'Elegant Metal Chips', 77);
-INSERT INTO "order" (id, description, customer_id) VALUES (5517, 'Sleek Granite Gloves', 11);
-INSERT INTO "order" (id, description, customer_id) VALUES (5518, 'Sleek Steel Chair', 8);
-INSERT INTO "order" (id, description, customer_id) VALUES (5519, 'Modern Wooden Tuna', 23);
-INSERT INTO "order" (id, description, customer_id) VALUES (5520, 'Recycled Rubber Fish', 31);
-INSERT INTO "order" (id, description, customer_id) VALUES (5521, 'Recycled Plastic Soap', 57);
-INSERT INTO "order" (id, description, customer_id) VALUES (5522, 'Fantastic Metal Chair', 20);
-INSERT INTO "order" (id, description, customer_id) VALUES (5523, 'Recycled Rubber Pizza', 99);
-INSERT INTO "order" (id, description, customer_id) VALUES (5524, 'Tasty Frozen Bacon', 84);
-INSERT INTO "order" (id, description, customer_id) VALUES (5525, 'Ergonomic Granite Towels', 13);
-INSERT INTO "order" (id, description, customer_id) VALUES (5526, 'Incredible Rubber Towels', 25);
-INSERT INTO "order" (id, description, customer_id) VALUES (5527, 'Awesome Steel Table', 60);
-INSERT INTO "order" (id, description, customer_id) VALUES (5528, 'Modern Frozen Computer', 10);
-INSERT INTO "order" (id, description, customer_id) VALUES (5529, 'Sleek Soft Cheese', 28);
-INSERT INTO "order" (id, description, customer_id) VALUES (5530, 'Elegant Wooden Keyboard', 39);
-INSERT INTO "order" (id, description, customer_id) VALUES (5531, 'Refined Rubber Chips', 39);
-INSERT INTO "order" (id, description, customer_id) VALUES (5532, 'Recycled Rubber Bacon', 59);
-INSERT INTO "order" (id, description, customer_id) VALUES (5533, 'Tasty Fresh Gloves', 18);
-INSERT INTO "order" (id, description, customer_id) VALUES (5534, 'Luxurious Wooden Mouse', 7);
-INSERT INTO "order" (id, description, customer_id) VALUES (5535, 'Generic Rubber Cheese', 26);
-INSERT INTO "order" (id, description, customer_id) VALUES (5536, 'Awesome Soft Ball', 97);
-INSERT INTO "order" (id, description, customer_id) VALUES (5537, 'Elegant Granite Pants', 53);
-INSERT INTO "order" (id, description, customer_id) VALUES (5538, 'Small Concrete Soap', 19);
-INSERT INTO "order" (id, description, customer_id) VALUES (5539, 'Licensed Fresh Computer', 99);
-INSERT INTO "order" (id, description, customer_id) VALUES (5540, 'Tasty Bronze Towels', 44);
-INSERT INTO "order" (id, description, customer_id) VALUES (5541, 'Electronic Rubber Keyboard', 71);
-INSERT INTO "order" (id, description, customer_id) VALUES (5542, 'Fantastic Bronze Mouse', 27);
-INSERT INTO "order" (id, description, customer_id) VALUES (5543, 'Recycled Frozen Shoes', 77);
-INSERT INTO "order" (id, description, customer_id) VALUES (5544, 'Recycled Plastic Salad', 58);
-INSERT INTO "order" (id, description, customer_id) VALUES (5545, 'Luxurious Fresh Gloves', 88);
-INSERT INTO "order" (id, description, customer_id) VALUES (5546, 'Gorgeous Fresh Ball', 37);
-INSERT INTO "order" (id, description, customer_id) VALUES (5547, 'Oriental Steel Table', 11);
-INSERT INTO "order" (id, description, customer_id) VALUES (5548, 'Gorgeous Concrete Keyboard', 82);
-INSERT INTO "order" (id, description, customer_id) VALUES (5549, 'Ergonomic Steel Shirt', 82);
-INSERT INTO "order" (id, description, customer_id) VALUES (5550, 'Generic Bronze Chair', 43);
-INSERT INTO "order" (id, description, customer_id) VALUES (5551, 'Awesome Steel Fish', 39);
-INSERT INTO "order" (id, description, customer_id) VALUES (5552, 'Electronic Wooden Table', 36);
-INSERT INTO "order" (id, description, customer_id) VALUES (5553, 'Handmade Steel Computer', 98);
-INSERT INTO "order" (id, description, customer_id) VALUES (5554, 'Recycled Steel Chair', 1);
-INSERT INTO "order" (id, description, customer_id) VALUES (5555, 'Generic Wooden Salad', 37);
-INSERT INTO "order" (id, description, customer_id) VALUES (5556, 'Luxurious Wooden Gloves', 1);
-INSERT INTO "order" (id, description, customer_id) VALUES (5557, 'Fantastic Metal Chair', 83);
-INSERT INTO "order" (id, description, customer_id) VALUES (5558, 'Sleek Wooden Tuna', 50);
-INSERT INTO "order" (id, description, customer_id) VALUES (5559, 'Electronic Frozen Hat', 46);
-INSERT INTO "order" (id, description, customer_id) VALUES (5560, 'Handcrafted Concrete Chair', 55);
-INSERT INTO "order" (id, description, customer_id) VALUES (5561, 'Luxurious Rubber Chicken', 41);
-INSERT INTO "order" (id, description, customer_id) VALUES (5562, 'Generic Soft Car', 36);
-INSERT INTO "order" (id, description, customer_id) VALUES (5563, 'Tasty Granite Sausages', 61);
-INSERT INTO "order" (id, description, customer_id) VALUES (5564, 'Gorgeous Wooden Hat', 2);
-INSERT INTO "order" (id, description, customer_id) VALUES (5565, 'Refined Cotton Keyboard', 43);
-INSERT INTO "order" (id, description, customer_id) VALUES (5566, 'Modern Granite Soap', 66);
-INSERT INTO "order" (id, description, customer_id) VALUES (5567, 'Gorgeous Steel Hat', 25);
-INSERT INTO "order" (id, description, customer_id) VALUES (5568, 'Generic Soft Mouse', 79);
-INSERT INTO "order" (id, description, customer_id) VALUES (5569, 'Fantastic Granite Computer', 94);
-INSERT INTO "order" (id, description, customer_id) VALUES (5570, 'Generic Rubber Chicken', 84);
-INSERT INTO "order" (id, description, customer_id) VALUES (5571, 'Recycled Cotton Towels', 39);
-INSERT INTO "order" (id, description, customer_id) VALUES (5572, 'Oriental Rubber Bike', 85);
-INSERT INTO "order" (id, description, customer_id) VALUES (5573, 'Ergonomic Soft Shoes', 34);
-INSERT INTO "order" (id, description, customer_id) VALUES (5574, 'Generic Bronze Fish', 40);
-INSERT INTO "order" (id, description, customer_id) VALUES (5575, 'Incredible Steel Soap', 2);
-INSERT INTO "order" (id, description, customer_id) VALUES (5576, 'Gorgeous Cotton Hat', 1);
-INSERT INTO "order" (id, description, customer_id) VALUES (5577, 'Electronic Concrete Ball', 98);
-INSERT INTO "order" (id, description, customer_id) VALUES (5578, 'Handcrafted Concrete Cheese', 48);
-INSERT INTO "order" (id, description, customer_id) VALUES (5579, 'Tasty Steel Chair', 81);
-INSERT INTO "order" (id, description, customer_id) VALUES (5580, 'Ergonomic Bronze Ball', 5);
-INSERT INTO "order" (id, description, customer_id) VALUES (5581, 'Licensed Wooden Shoes', 94);
-INSERT INTO "order" (id, description, customer_id) VALUES (5582, 'Unbranded Plastic Pants', 82);
-INSERT INTO "order" (id, description, customer_id) VALUES (5583, 'Rustic Granite Pizza', 50);
-INSERT INTO "order" (id, description, customer_id) VALUES (5584, 'Luxurious Fresh Sausages', 47);
-INSERT INTO "order" (id, description, customer_id) VALUES (5585, 'Tasty Wooden Hat', 62);
-INSERT INTO "order" (id, description, customer_id) VALUES (5586, 'Fantastic Rubber Hat', 33);
-INSERT INTO "order" (id, description, customer_id) VALUES (5587, 'Recycled Steel Car', 41);
-INSERT INTO "order" (id, description, customer_id) VALUES (5588, 'Fantastic Cotton Hat', 32);
-INSERT INTO "order" (id, description, customer_id) VALUES (5589, 'Rustic Concrete Hat', 64);
-INSERT INTO "order" (id, description, customer_id) VALUES (5590, 'Modern Frozen Towels', 57);
-INSERT INTO "order" (id, description, customer_id) VALUES (5591, 'Unbranded Steel Bacon', 43);
-INSERT INTO "order" (id, description, customer_id) VALUES (5592, 'Refined Bronze Computer', 33);
-INSERT INTO "order" (id, description, customer_id) VALUES (5593, 'Tasty Bronze Table', 11);
-INSERT INTO "order" (id, description, customer_id) VALUES (5594, 'Recycled Bronze Mouse', 47);
-INSERT INTO "order" (id, description, customer_id) VALUES (5595, 'Licensed Bronze Car', 22);
-INSERT INTO "order" (id, description, customer_id) VALUES (5596, 'Fantastic Bronze Shoes', 59);
-INSERT INTO "order" (id, description, customer_id) VALUES (5597, 'Handmade Cotton Computer', 21);
-INSERT INTO "order" (id, description, customer_id) VALUES (5598, 'Gorgeous Fresh Gloves', 65);
-INSERT INTO "order" (id, description, customer_id) VALUES (5599, 'Licensed Metal Shoes', 71);
-INSERT INTO "order" (id, description, customer_id) VALUES (5600, 'Elegant Plastic Sausages', 73);
-INSERT INTO "order" (id, description, customer_id) VALUES (5601, 'Oriental Concrete Shoes', 68);
-INSERT INTO "order" (id, description, customer_id) VALUES (5602, 'Gorgeous Frozen Chicken', 34);
-INSERT INTO "order" (id, description, customer_id) VALUES (5603, 'Ergonomic Steel Chair', 24);
-INSERT INTO "order" (id, description, customer_id) VALUES (5604, 'Awesome Frozen Chicken', 49);
-INSERT INTO "order" (id, description, customer_id) VALUES (5605, 'Fantastic Steel Ball', 15);
-INSERT INTO "order" (id, description, customer_id) VALUES (5606, 'Recycled Granite Sausages', 26);
-INSERT INTO "order" (id, description, customer_id) VALUES (5607, 'Handcrafted Fresh Cheese', 24);
-INSERT INTO "order" (id, description, customer_id) VALUES (5608, 'Fantastic Soft Cheese', 91);
-INSERT INTO "order" (id, description, customer_id) VALUES (5609, 'Generic Plastic Hat', 24);
-INSERT INTO "order" (id, description, customer_id) VALUES (5610, 'Modern Cotton Car', 4);
-INSERT INTO "order" (id, description, customer_id) VALUES (5611, 'Sleek Cotton Computer', 91);
-INSERT INTO "order" (id, description, customer_id) VALUES (5612, 'Intelligent Fresh Chips', 17);
-INSERT INTO "order" (id, description, customer_id) VALUES (5613, 'Bespoke Steel Shoes', 30);
-INSERT INTO "order" (id, description, customer_id) VALUES (5614, 'Rustic Rubber Computer', 18);
-INSERT INTO "order" (id, description, customer_id) VALUES (5615, 'Handcrafted Plastic Bacon', 37);
-INSERT INTO "order" (id, description, customer_id) VALUES (5616, 'Fantastic Soft Pizza', 11);
-INSERT INTO "order" (id, description, customer_id) VALUES (5617, 'Gorgeous Concrete Gloves', 61);
-INSERT INTO "order" (id, description, customer_id) VALUES (5618, 'Awesome Frozen Towels', 93);
-INSERT INTO "order" (id, description, customer_id) VALUES (5619, 'Bespoke Rubber Sausages', 84);
-INSERT INTO "order" (id, description, customer_id) VALUES (5620, 'Awesome Concrete Computer', 27);
-INSERT INTO "order" (id, description, customer_id) VALUES (5621, 'Incredible Wooden Shoes', 18);
-INSERT INTO "order" (id, description, customer_id) VALUES (5622, 'Unbranded Frozen Fish', 91);
-INSERT INTO "order" (id, description, customer_id) VALUES (5623, 'Handmade Fresh Soap', 76);
-INSERT INTO "order" (id, description, customer_id) VALUES (5624, 'Luxurious Bronze Shirt', 79);
-INSERT INTO "order" (id, description, customer_id) VALUES (5625, 'Rustic Fresh Sausages', 75);
-INSERT INTO "order" (id, description, customer_id) VALUES (5626, 'Handmade Wooden Sausages', 31);
-INSERT INTO "order" (id, description, customer_id) VALUES (5627, 'Incredible Frozen Shoes', 71);
-INSERT INTO "order" (id, description, customer_id) VALUES (5628, 'Recycled Rubber Pizza', 56);
-INSERT INTO "order" (id, description, customer_id) VALUES (5629, 'Generic Steel Bike', 93);
-INSERT INTO "order" (id, description, customer_id) VALUES (5630, 'Incredible Plastic Mouse', 35);
-INSERT INTO "order" (id, description, customer_id) VALUES (5631, 'Oriental Soft Shirt', 30);
-INSERT INTO "order" (id, description, customer_id) VALUES (5632, 'Rustic Rubber Table', 81);
-INSERT INTO "order" (id, description, customer_id) VALUES (5633, 'Recycled Frozen Chips', 42);
-INSERT INTO "order" (id, description, customer_id) VALUES (5634, 'Generic Concrete Keyboard', 72);
-INSERT INTO "order" (id, description, customer_id) VALUES (5635, 'Gorgeous Fresh Bacon', 37);
-INSERT INTO "order" (id, description, customer_id) VALUES (5636, 'Unbranded Rubber Bike', 7);
-INSERT INTO "order" (id, description, customer_id) VALUES (5637, 'Refined Soft Cheese', 42);
-INSERT INTO "order" (id, description, customer_id) VALUES (5638, 'Bespoke Wooden Bike', 25);
-INSERT INTO "order" (id, description, customer_id) VALUES (5639, 'Rustic Steel Tuna', 6);
-INSERT INTO "order" (id, description, customer_id) VALUES (5640, 'Luxurious Bronze Keyboard', 21);
-INSERT INTO "order" (id, description, customer_id) VALUES (5641, 'Small Granite Bacon', 57);
-INSERT INTO "order" (id, description, customer_id) VALUES (5642, 'Refined Steel Towels', 36);
-INSERT INTO "order" (id, description, customer_id) VALUES (5643, 'Luxurious Concrete Shoes', 61);
-INSERT INTO "order" (id, description, customer_id) VALUES (5644, 'Small Fresh Ball', 73);
-INSERT INTO "order" (id, description, customer_id) VALUES (5645, 'Generic Metal Shoes', 83);
-INSERT INTO "order" (id, description, customer_id) VALUES (5646, 'Unbranded Granite Table', 11);
-INSERT INTO "order" (id, description, customer_id) VALUES (5647, 'Practical Bronze Hat', 70);
-INSERT INTO "order" (id, description, customer_id) VALUES (5648, 'Modern Steel Hat', 19);
-INSERT INTO "order" (id, description, customer_id) VALUES (5649, 'Gorgeous Fresh Soap', 24);
-INSERT INTO "order" (id, description, customer_id) VALUES (5650, 'Handmade Fresh Cheese', 73);
-INSERT INTO "order" (id, description, customer_id) VALUES (5651, 'Incredible Plastic Ball', 97);
-INSERT INTO "order" (id, description, customer_id) VALUES (5652, 'Recycled Granite Sausages', 100);
-INSERT INTO "order" (id, description, customer_id) VALUES (5653, 'Unbranded Cotton Soap', 30);
-INSERT INTO "order" (id, description, customer_id) VALUES (5654, 'Practical Soft Hat', 87);
-INSERT INTO "order" (id, description, customer_id) VALUES (5655, 'Luxurious Granite Mouse', 40);
-INSERT INTO "order" (id, description, customer_id) VALUES (5656, 'Tasty Cotton Sausages', 16);
-INSERT INTO "order" (id, description, customer_id) VALUES (5657, 'Modern Soft Chips', 51);
-INSERT INTO "order" (id, description, customer_id) VALUES (5658, 'Bespoke Steel Shirt', 45);
-INSERT INTO "order" (id, description, customer_id) VALUES (5659, 'Refined Concrete Shoes', 49);
-INSERT INTO "order" (id, description, customer_id) VALUES (5660, 'Fantastic Cotton Shoes', 23);
-INSERT INTO "order" (id, description, customer_id) VALUES (5661, 'Modern Metal Gloves', 67);
-INSERT INTO "order" (id, description, customer_id) VALUES (5662, 'Oriental Soft Hat', 53);
-INSERT INTO "order" (id, description, customer_id) VALUES (5663, 'Elegant Bronze Chicken', 46);
-INSERT INTO "order" (id, description, customer_id) VALUES (5664, 'Handcrafted Cotton Shirt', 26);
-INSERT INTO "order" (id, description, customer_id) VALUES (5665, 'Ergonomic Soft Shirt', 98);
-INSERT INTO "order" (id, description, customer_id) VALUES (5666, 'Recycled Concrete Towels', 12);
-INSERT INTO "order" (id, description, customer_id) VALUES (5667, 'Licensed Cotton Pants', 15);
-INSERT INTO "order" (id, description, customer_id) VALUES (5668, 'Practical Wooden Towels', 65);
-INSERT INTO "order" (id, description, customer_id) VALUES (5669, 'Unbranded Cotton Towels', 11);
-INSERT INTO "order" (id, description, customer_id) VALUES (5670, 'Tasty Wooden Salad', 100);
-INSERT INTO "order" (id, description, customer_id) VALUES (5671, 'Tasty Frozen Salad', 40);
-INSERT INTO "order" (id, description, customer_id) VALUES (5672, 'Unbranded Wooden Shirt', 73);
-INSERT INTO "order" (id, description, customer_id) VALUES (5673, 'Fantastic Concrete Chicken', 75);
-INSERT INTO "order" (id, description, customer_id) VALUES (5674, 'Licensed Steel Salad', 89);
-INSERT INTO "order" (id, description, customer_id) VALUES (5675, 'Elegant Wooden Computer', 28);
-INSERT INTO "order" (id, description, customer_id) VALUES (5676, 'Fantastic Rubber Tuna', 47);
-INSERT INTO "order" (id, description, customer_id) VALUES (5677, 'Incredible Bronze Cheese', 97);
-INSERT INTO "order" (id, description, customer_id) VALUES (5678, 'Small Cotton Salad', 19);
-INSERT INTO "order" (id, description, customer_id) VALUES (5679, 'Electronic Rubber Chicken', 39);
-INSERT INTO "order" (id, description, customer_id) VALUES (5680, 'Oriental Concrete Mouse', 26);
-INSERT INTO "order" (id, description, customer_id) VALUES (5681, 'Recycled Plastic Computer', 58);
-INSERT INTO "order" (id, description, customer_id) VALUES (5682, 'Rustic Wooden Computer', 84);
-INSERT INTO "order" (id, description, customer_id) VALUES (5683, 'Practical Metal Ball', 41);
-INSERT INTO "order" (id, description, customer_id) VALUES (5684, 'Intelligent Frozen Soap', 84);
-INSERT INTO "order" (id, description, customer_id) VALUES (5685, 'Small Wooden Pizza', 37);
-INSERT INTO "order" (id, description, customer_id) VALUES (5686, 'Generic Wooden Mouse', 71);
-INSERT INTO "order" (id, description, customer_id) VALUES (5687, 'Recycled Plastic Chips', 13);
-INSERT INTO "order" (id, description, customer_id) VALUES (5688, 'Handmade Plastic Sausages', 59);
-INSERT INTO "order" (id, description, customer_id) VALUES (5689, 'Electronic Bronze Car', 99);
-INSERT INTO "order" (id, description, customer_id) VALUES (5690, 'Electronic Steel Shirt', 34);
-INSERT INTO "order" (id, description, customer_id) VALUES (5691, 'Small Soft Keyboard', 2);
-INSERT INTO "order" (id, description, customer_id) VALUES (5692, 'Small Granite Towels', 47);
-INSERT INTO "order" (id, description, customer_id) VALUES (5693, 'Fantastic Frozen Computer', 84);
-INSERT INTO "order" (id, description, customer_id) VALUES (5694, 'Recycled Soft Car', 37);
-INSERT INTO "order" (id, description, customer_id) VALUES (5695, 'Luxurious Rubber Bike', 9);
-INSERT INTO "order" (id, description, customer_id) VALUES (5696, 'Tasty Plastic Chicken', 55);
-INSERT INTO "order" (id, description, customer_id) VALUES (5697, 'Elegant Bronze Chair', 49);
-INSERT INTO "order" (id, description, customer_id) VALUES (5698, 'Intelligent Concrete Pizza', 90);
-INSERT INTO "order" (id, description, customer_id) VALUES (5699, 'Modern Concrete Cheese', 18);
-INSERT INTO "order" (id, description, customer_id) VALUES (5700, 'Intelligent Fresh Pizza', 54);
-INSERT INTO "order" (id, description, customer_id) VALUES (5701, 'Incredible Frozen Hat', 11);
-INSERT INTO "order" (id, description, customer_id) VALUES (5702, 'Refined Frozen Tuna', 76);
-INSERT INTO "order" (id, description, customer_id) VALUES (5703, 'Gorgeous Cotton Ball', 78);
-INSERT INTO "order" (id, description, customer_id) VALUES (5704, 'Handcrafted Cotton Computer', 19);
-INSERT INTO "order" (id, description, customer_id) VALUES (5705, 'Sleek Metal Towels', 40);
-INSERT INTO "order" (id, description, customer_id) VALUES (5706, 'Small Granite Chair', 47);
-INSERT INTO "order" (id, description, customer_id) VALUES (5707, 'Electronic Bronze Hat', 47);
-INSERT INTO "order" (id, description, customer_id) VALUES (5708, 'Bespoke Steel Chicken', 89);
-INSERT INTO "order" (id, description, customer_id) VALUES (5709, 'Refined Wooden Table', 63);
-INSERT INTO "order" (id, description, customer_id) VALUES (5710, 'Unbranded Fresh Sausages', 87);
-INSERT INTO "order" (id, description, customer_id) VALUES (5711, 'Modern Metal Pants', 9);
-INSERT INTO "order" (id, description, customer_id) VALUES (5712, 'Bespoke Wooden Shoes', 52);
-INSERT INTO "order" (id, description, customer_id) VALUES (5713, 'Recycled Metal Shoes', 37);
-INSERT INTO "order" (id, description, customer_id) VALUES (5714, 'Fantastic Fresh Table', 15);
-INSERT INTO "order" (id, description, customer_id) VALUES (5715, 'Refined Wooden Chair', 23);
-INSERT INTO "order" (id, description, customer_id) VALUES (5716, 'Awesome Fresh Ball', 46);
-INSERT INTO "order" (id, description, customer_id) VALUES (5717, 'Oriental Cotton Computer', 95);
-INSERT INTO "order" (id, description, customer_id) VALUES (5718, 'Recycled Wooden Ball', 23);
-INSERT INTO "order" (id, description, customer_id) VALUES (5719, 'Unbranded Plastic Computer', 89);
-INSERT INTO "order" (id, description, customer_id) VALUES (5720, 'Handmade Plastic Salad', 34);
-INSERT INTO "order" (id, description, customer_id) VALUES (5721, 'Intelligent Rubber Tuna', 44);
-INSERT INTO "order" (id, description, customer_id) VALUES (5722, 'Awesome Rubber Salad', 15);
-INSERT INTO "order" (id, description, customer_id) VALUES (5723, 'Bespoke Bronze Chips', 47);
-INSERT INTO "order" (id, description, customer_id) VALUES (5724, 'Tasty Bronze Bike', 58);
-INSERT INTO "order" (id, description, customer_id) VALUES (5725, 'Intelligent Wooden Chicken', 29);
-INSERT INTO "order" (id, description, customer_id) VALUES (5726, 'Ergonomic Wooden Table', 43);
-INSERT INTO "order" (id, description, customer_id) VALUES (5727, 'Licensed Frozen Car', 48);
-INSERT INTO "order" (id, description, customer_id) VALUES (5728, 'Incredible Wooden Computer', 33);
-INSERT INTO "order" (id, description, customer_id) VALUES (5729, 'Handcrafted Metal Soap', 54);
-INSERT INTO "order" (id, description, customer_id) VALUES (5730, 'Awesome Bronze Fish', 45);
-INSERT INTO "order" (id, description, customer_id) VALUES (5731, 'Bespoke Wooden Towels', 56);
-INSERT INTO "order" (id, description, customer_id) VALUES (5732, 'Elegant Wooden Mouse', 59);
-INSERT INTO "order" (id, description, customer_id) VALUES (5733, 'Sleek Soft Chicken', 14);
-INSERT INTO "order" (id, description, customer_id) VALUES (5734, 'Sleek Plastic Keyboard', 74);
-INSERT INTO "order" (id, description, customer_id) VALUES (5735, 'Modern Soft Ball', 86);
-INSERT INTO "order" (id, description, customer_id) VALUES (5736, 'Unbranded Concrete Sausages', 5);
-INSERT INTO "order" (id, description, customer_id) VALUES (5737, 'Luxurious Concrete Chair', 9);
-INSERT INTO "order" (id, description, customer_id) VALUES (5738, 'Handmade Granite Ball', 78);
-INSERT INTO "order" (id, description, customer_id) VALUES (5739, 'Electronic Plastic Tuna', 76);
-INSERT INTO "order" (id, description, customer_id) VALUES (5740, 'Bespoke Wooden Gloves', 11);
-INSERT INTO "order" (id, description, customer_id) VALUES (5741, 'Licensed Plastic Ball', 82);
-INSERT INTO "order" (id, description, customer_id) VALUES (5742, 'Licensed Granite Ball', 92);
-INSERT INTO "order" (id, description, customer_id) VALUES (5743, 'Oriental Bronze Shirt', 63);
-INSERT INTO "order" (id, description, customer_id) VALUES (5744, 'Luxurious Cotton Mouse', 30);
-INSERT INTO "order" (id, description, customer_id) VALUES (5745, 'Elegant Bronze Shoes', 29);
-INSERT INTO "order" (id, description, customer_id) VALUES (5746, 'Luxurious Fresh Pizza', 75);
-INSERT INTO "order" (id, description, customer_id) VALUES (5747, 'Awesome Metal Mouse', 14);
-INSERT INTO "order" (id, description, customer_id) VALUES (5748, 'Practical Frozen Pizza', 82);
-INSERT INTO "order" (id, description, customer_id) VALUES (5749, 'Rustic Steel Chips', 46);
-INSERT INTO "order" (id, description, customer_id) VALUES (5750, 'Rustic Fresh Keyboard', 20);
-INSERT INTO "order" (id, description, customer_id) VALUES (5751, 'Rustic Granite Soap', 16);
-INSERT INTO "order" (id, description, customer_id) VALUES (5752, 'Elegant Plastic Gloves', 46);
-INSERT INTO "order" (id, description, customer_id) VALUES (5753, 'Ergonomic Wooden Sausages', 69);
-INSERT INTO "order" (id, description, customer_id) VALUES (5754, 'Luxurious Metal Bike', 83);
-INSERT INTO "order" (id, description, customer_id) VALUES (5755, 'Modern Bronze Mouse', 56);
-INSERT INTO "order" (id, description, customer_id) VALUES (5756, 'Small Granite Car', 90);
-INSERT INTO "order" (id, description, customer_id) VALUES (5757, 'Ergonomic Bronze Chair', 99);
-INSERT INTO "order" (id, description, customer_id) VALUES (5758, 'Bespoke Frozen Soap', 15);
-INSERT INTO "order" (id, description, customer_id) VALUES (5759, 'Intelligent Cotton Pizza', 94);
-INSERT INTO "order" (id, description, customer_id) VALUES (5760, 'Electronic Bronze Towels', 87);
-INSERT INTO "order" (id, description, customer_id) VALUES (5761, 'Recycled Metal Fish', 73);
-INSERT INTO "order" (id, description, customer_id) VALUES (5762, 'Generic Bronze Soap', 18);
-INSERT INTO "order" (id, description, customer_id) VALUES (5763, 'Recycled Metal Chicken', 77);
-INSERT INTO "order" (id, description, customer_id) VALUES (5764, 'Oriental Wooden Mouse', 9);
-INSERT INTO "order" (id, description, customer_id) VALUES (5765, 'Bespoke Concrete Mouse', 9);
-INSERT INTO "order" (id, description, customer_id) VALUES (5766, 'Fantastic Plastic Ball', 33);
-INSERT INTO "order" (id, description, customer_id) VALUES (5767, 'Elegant Granite Soap', 84);
-INSERT INTO "order" (id, description, customer_id) VALUES (5768, 'Intelligent Cotton Chicken', 42);
-INSERT INTO "order" (id, description, customer_id) VALUES (5769, 'Handcrafted Bronze Towels', 100);
-INSERT INTO "order" (id, description, customer_id) VALUES (5770, 'Luxurious Concrete Ball', 70);
-INSERT INTO "order" (id, description, customer_id) VALUES (5771, 'Bespoke Metal Shirt', 88);
-INSERT INTO "order" (id, description, customer_id) VALUES (5772, 'Sleek Steel Pizza', 59);
-INSERT INTO "order" (id, description, customer_id) VALUES (5773, 'Unbranded Rubber Shoes', 56);
-INSERT INTO "order" (id, description, customer_id) VALUES (5774, 'Elegant Bronze Salad', 44);
-INSERT INTO "order" (id, description, customer_id) VALUES (5775, 'Tasty Rubber Keyboard', 77);
-INSERT INTO "order" (id, description, customer_id) VALUES (5776, 'Practical Plastic Car', 80);
-INSERT INTO "order" (id, description, customer_id) VALUES (5777, 'Oriental Frozen Pizza', 80);
-INSERT INTO "order" (id, description, customer_id) VALUES (5778, 'Licensed Steel Salad', 62);
-INSERT INTO "order" (id, description, customer_id) VALUES (5779, 'Fantastic Soft Bacon', 88);
-INSERT INTO "order" (id, description, customer_id) VALUES (5780, 'Handcrafted Fresh Chips', 33);
-INSERT INTO "order" (id, description, customer_id) VALUES (5781, 'Sleek Granite Pants', 7);
-INSERT INTO "order" (id, description, customer_id) VALUES (5782, 'Rustic Soft Chips', 49);
-INSERT INTO "order" (id, description, customer_id) VALUES (5783, 'Elegant Bronze Mouse', 86);
-INSERT INTO "order" (id, description, customer_id) VALUES (5784, 'Tasty Cotton Mouse', 97);
-INSERT INTO "order" (id, description, customer_id) VALUES (5785, 'Gorgeous Plastic Fish', 94);
-INSERT INTO "order" (id, description, customer_id) VALUES (5786, 'Rustic Frozen Hat', 14);
-INSERT INTO "order" (id, description, customer_id) VALUES (5787, 'Unbranded Concrete Chair', 95);
-INSERT INTO "order" (id, description, customer_id) VALUES (5788, 'Luxurious Rubber Bacon', 16);
-INSERT INTO "order" (id, description, customer_id) VALUES (5789, 'Small Soft Table', 90);
-INSERT INTO "order" (id, description, customer_id) VALUES (5790, 'Practical Rubber Chair', 91);
-INSERT INTO "order" (id, description, customer_id) VALUES (5791, 'Rustic Granite Shirt', 47);
-INSERT INTO "order" (id, description, customer_id) VALUES (5792, 'Rustic Granite Towels', 68);
-INSERT INTO "order" (id, description, customer_id) VALUES (5793, 'Elegant Concrete Pizza', 9);
-INSERT INTO "order" (id, description, customer_id) VALUES (5794, 'Luxurious Concrete Pizza', 15);
-INSERT INTO "order" (id, description, customer_id) VALUES (5795, 'Handcrafted Metal Cheese', 23);
-INSERT INTO "order" (id, description, customer_id) VALUES (5796, 'Gorgeous Granite Pizza', 68);
-INSERT INTO "order" (id, description, customer_id) VALUES (5797, 'Tasty Concrete Soap', 67);
-INSERT INTO "order" (id, description, customer_id) VALUES (5798, 'Ergonomic Wooden Chicken', 31);
-INSERT INTO "order" (id, description, customer_id) VALUES (5799, 'Electronic Bronze Car', 60);
-INSERT INTO "order" (id, description, customer_id) VALUES (5800, 'Licensed Bronze Pants', 90);
-INSERT INTO "order" (id, description, customer_id) VALUES (5801, 'Refined Cotton Shirt', 73);
-INSERT INTO "order" (id, description, customer_id) VALUES (5802, 'Oriental Concrete Bacon', 38);
-INSERT INTO "order" (id, description, customer_id) VALUES (5803, 'Recycled Soft Mouse', 99);
-INSERT INTO "order" (id, description, customer_id) VALUES (5804, 'Rustic Cotton Mouse', 75);
-INSERT INTO "order" (id, description, customer_id) VALUES (5805, 'Oriental Wooden Computer', 44);
-INSERT INTO "order" (id, description, customer_id) VALUES (5806, 'Oriental Rubber Towels', 64);
-INSERT INTO "order" (id, description, customer_id) VALUES (5807, 'Recycled Frozen Chicken', 6);
-INSERT INTO "order" (id, description, customer_id) VALUES (5808, 'Ergonomic Cotton Sausages', 72);
-INSERT INTO "order" (id, description, customer_id) VALUES (5809, 'Gorgeous Steel Towels', 1);
-INSERT INTO "order" (id, description, customer_id) VALUES (5810, 'Ergonomic Steel Chicken', 30);
-INSERT INTO "order" (id, description, customer_id) VALUES (5811, 'Incredible Soft Cheese', 43);
-INSERT INTO "order" (id, description, customer_id) VALUES (5812, 'Generic Cotton Chips', 18);
-INSERT INTO "order" (id, description, customer_id) VALUES (5813, 'Handmade Rubber Sausages', 77);
-INSERT INTO "order" (id, description, customer_id) VALUES (5814, 'Recycled Soft Sausages', 31);
-INSERT INTO "order" (id, description, customer_id) VALUES (5815, 'Intelligent Cotton Ball', 80);
-INSERT INTO "order" (id, description, customer_id) VALUES (5816, 'Bespoke Rubber Hat', 92);
-INSERT INTO "order" (id, description, customer_id) VALUES (5817, 'Tasty Soft Chair', 70);
-INSERT INTO "order" (id, description, customer_id) VALUES (5818, 'Generic Fresh Chicken', 50);
-INSERT INTO "order" (id, description, customer_id) VALUES (5819, 'Awesome Fresh Tuna', 50);
-INSERT INTO "order" (id, description, customer_id) VALUES (5820, 'Luxurious Concrete Pants', 10);
-INSERT INTO "order" (id, description, customer_id) VALUES (5821, 'Tasty Concrete Soap', 94);
-INSERT INTO "order" (id, description, customer_id) VALUES (5822, 'Luxurious Fresh Gloves', 79);
-INSERT INTO "order" (id, description, customer_id) VALUES (5823, 'Bespoke Soft Table', 59);
-INSERT INTO "order" (id, description, customer_id) VALUES (5824, 'Fantastic Wooden Tuna', 6);
-INSERT INTO "order" (id, description, customer_id) VALUES (5825, 'Bespoke Concrete Salad', 22);
-INSERT INTO "order" (id, description, customer_id) VALUES (5826, 'Rustic Plastic Computer', 17);
-INSERT INTO "order" (id, description, customer_id) VALUES (5827, 'Intelligent Concrete Pants', 27);
-INSERT INTO "order" (id, description, customer_id) VALUES (5828, 'Bespoke Metal Soap', 88);
-INSERT INTO "order" (id, description, customer_id) VALUES (5829, 'Tasty Wooden Car', 2);
-INSERT INTO "order" (id, description, customer_id) VALUES (5830, 'Recycled Concrete Chips', 94);
-INSERT INTO "order" (id, description, customer_id) VALUES (5831, 'Electronic Bronze Bike', 84);
-INSERT INTO "order" (id, description, customer_id) VALUES (5832, 'Ergonomic Granite Cheese', 80);
-INSERT INTO "order" (id, description, customer_id) VALUES (5833, 'Intelligent Frozen Cheese', 37);
-INSERT INTO "order" (id, description, customer_id) VALUES (5834, 'Tasty Wooden Towels', 16);
-INSERT INTO "order" (id, description, customer_id) VALUES (5835, 'Electronic Bronze Hat', 63);
-INSERT INTO "order" (id, description, customer_id) VALUES (5836, 'Practical Soft Pants', 51);
-INSERT INTO "order" (id, description, customer_id) VALUES (5837, 'Generic Frozen Pizza', 29);
-INSERT INTO "order" (id, description, customer_id) VALUES (5838, 'Ergonomic Bronze Hat', 26);
-INSERT INTO "order" (id, description, customer_id) VALUES (5839, 'Fantastic Frozen Tuna', 26);
-INSERT INTO "order" (id, description, customer_id) VALUES (5840, 'Intelligent Metal Soap', 85);
-INSERT INTO "order" (id, description, customer_id) VALUES (5841, 'Elegant Soft Bacon', 76);
-INSERT INTO "order" (id, description, customer_id) VALUES (5842, 'Bespoke Steel Mouse', 59);
-INSERT INTO "order" (id, description, customer_id) VALUES (5843, 'Incredible Plastic Pants', 82);
-INSERT INTO "order" (id, description, customer_id) VALUES (5844, 'Refined Plastic Pizza', 17);
-INSERT INTO "order" (id, description, customer_id) VALUES (5845, 'Ergonomic Concrete Towels', 2);
-INSERT INTO "order" (id, description, customer_id) VALUES (5846, 'Gorgeous Concrete Hat', 51);
-INSERT INTO "order" (id, description, customer_id) VALUES (5847, 'Modern Bronze Table', 53);
-INSERT INTO "order" (id, description, customer_id) VALUES (5848, 'Awesome Cotton Chair', 87);
-INSERT INTO "order" (id, description, customer_id) VALUES (5849, 'Small Plastic Salad', 66);
-INSERT INTO "order" (id, description, customer_id) VALUES (5850, 'Practical Fresh Towels', 11);
-INSERT INTO "order" (id, description, customer_id) VALUES (5851, 'Licensed Concrete Keyboard', 98);
-INSERT INTO "order" (id, description, customer_id) VALUES (5852, 'Bespoke Soft Towels', 86);
-INSERT INTO "order" (id, description, customer_id) VALUES (5853, 'Oriental Fresh Computer', 88);
-INSERT INTO "order" (id, description, customer_id) VALUES (5854, 'Awesome Granite Towels', 5);
-INSERT INTO "order" (id, description, customer_id) VALUES (5855, 'Intelligent Plastic Hat', 75);
-INSERT INTO "order" (id, description, customer_id) VALUES (5856, 'Practical Wooden Hat', 75);
-INSERT INTO "order" (id, description, customer_id) VALUES (5857, 'Oriental Granite Bike', 50);
-INSERT INTO "order" (id, description, customer_id) VALUES (5858, 'Oriental Metal Pants', 38);
-INSERT INTO "order" (id, description, customer_id) VALUES (5859, 'Intelligent Soft Fish', 68);
-INSERT INTO "order" (id, description, customer_id) VALUES (5860, 'Intelligent Soft Gloves', 84);
-INSERT INTO "order" (id, description, customer_id) VALUES (5861, 'Electronic Granite Gloves', 74);
-INSERT INTO "order" (id, description, customer_id) VALUES (5862, 'Fantastic Granite Bacon', 31);
-INSERT INTO "order" (id, description, customer_id) VALUES (5863, 'Rustic Fresh Bike', 88);
-INSERT INTO "order" (id, description, customer_id) VALUES (5864, 'Rustic Granite Mouse', 10);
-INSERT INTO "order" (id, description, customer_id) VALUES (5865, 'Electronic Soft Chair', 70);
-INSERT INTO "order" (id, description, customer_id) VALUES (5866, 'Fantastic Wooden Pants', 65);
-INSERT INTO "order" (id, description, customer_id) VALUES (5867, 'Unbranded Granite Pizza', 93);
-INSERT INTO "order" (id, description, customer_id) VALUES (5868, 'Modern Wooden Bacon', 68);
-INSERT INTO "order" (id, description, customer_id) VALUES (5869, 'Generic Granite Computer', 27);
-INSERT INTO "order" (id, description, customer_id) VALUES (5870, 'Handcrafted Metal Keyboard', 63);
-INSERT INTO "order" (id, description, customer_id) VALUES (5871, 'Bespoke Cotton Keyboard', 35);
-INSERT INTO "order" (id, description, customer_id) VALUES (5872, 'Awesome Cotton Salad', 63);
-INSERT INTO "order" (id, description, customer_id) VALUES (5873, 'Luxurious Concrete Shirt', 38);
-INSERT INTO "order" (id, description, customer_id) VALUES (5874, 'Unbranded Cotton Cheese', 51);
-INSERT INTO "order" (id, description, customer_id) VALUES (5875, 'Elegant Steel Car', 84);
-INSERT INTO "order" (id, description, customer_id) VALUES (5876, 'Luxurious Bronze Chips', 88);
-INSERT INTO "order" (id, description, customer_id) VALUES (5877, 'Sleek Plastic Salad', 20);
-INSERT INTO "order" (id, description, customer_id) VALUES (5878, 'Bespoke Frozen Hat', 11);
-INSERT INTO "order" (id, description, customer_id) VALUES (5879, 'Refined Wooden Table', 78);
-INSERT INTO "order" (id, description, customer_id) VALUES (5880, 'Bespoke Fresh Soap', 92);
-INSERT INTO "order" (id, description, customer_id) VALUES (5881, 'Sleek Rubber Cheese', 54);
-INSERT INTO "order" (id, description, customer_id) VALUES (5882, 'Bespoke Concrete Table', 17);
-INSERT INTO "order" (id, description, customer_id) VALUES (5883, 'Awesome Bronze Salad', 90);
-INSERT INTO "order" (id, description, customer_id) VALUES (5884, 'Generic Plastic Shirt', 61);
-INSERT INTO "order" (id, description, customer_id) VALUES (5885, 'Unbranded Steel Mouse', 79);
-INSERT INTO "order" (id, description, customer_id) VALUES (5886, 'Luxurious Granite Tuna', 85);
-INSERT INTO "order" (id, description, customer_id) VALUES (5887, 'Recycled Granite Computer', 20);
-INSERT INTO "order" (id, description, customer_id) VALUES (5888, 'Unbranded Cotton Salad', 19);
-INSERT INTO "order" (id, description, customer_id) VALUES (5889, 'Recycled Fresh Table', 55);
-INSERT INTO "order" (id, description, customer_id) VALUES (5890, 'Generic Metal Sausages', 38);
-INSERT INTO "order" (id, description, customer_id) VALUES (5891, 'Intelligent Bronze Towels', 92);
-INSERT INTO "order" (id, description, customer_id) VALUES (5892, 'Ergonomic Frozen Table', 34);
-INSERT INTO "order" (id, description, customer_id) VALUES (5893, 'Licensed Concrete Pants', 87);
-INSERT INTO "order" (id, description, customer_id) VALUES (5894, 'Tasty Steel Towels', 78);
-INSERT INTO "order" (id, description, customer_id) VALUES (5895, 'Awesome Soft Towels', 69);
-INSERT INTO "order" (id, description, customer_id) VALUES (5896, 'Tasty Granite Salad', 35);
-INSERT INTO "order" (id, description, customer_id) VALUES (5897, 'Handmade Rubber Towels', 69);
-INSERT INTO "order" (id, description, customer_id) VALUES (5898, 'Fantastic Concrete Towels', 19);
-INSERT INTO "order" (id, description, customer_id) VALUES (5899, 'Bespoke Wooden Bike', 29);
-INSERT INTO "order" (id, description, customer_id) VALUES (5900, 'Oriental Plastic Tuna', 10);
-INSERT INTO "order" (id, description, customer_id) VALUES (5901, 'Gorgeous Fresh Shoes', 7);
-INSERT INTO "order" (id, description, customer_id) VALUES (5902, 'Recycled Plastic Chips', 10);
-INSERT INTO "order" (id, description, customer_id) VALUES (5903, 'Sleek Wooden Hat', 55);
-INSERT INTO "order" (id, description, customer_id) VALUES (5904, 'Handmade Steel Soap', 33);
-INSERT INTO "order" (id, description, customer_id) VALUES (5905, 'Handcrafted Cotton Bike', 14);
-INSERT INTO "order" (id, description, customer_id) VALUES (5906, 'Gorgeous Steel Fish', 58);
-INSERT INTO "order" (id, description, customer_id) VALUES (5907, 'Licensed Rubber Sausages', 2);
-INSERT INTO "order" (id, description, customer_id) VALUES (5908, 'Recycled Cotton Gloves', 14);
-INSERT INTO "order" (id, description, customer_id) VALUES (5909, 'Bespoke Rubber Ball', 32);
-INSERT INTO "order" (id, description, customer_id) VALUES (5910, 'Oriental Concrete Cheese', 66);
-INSERT INTO "order" (id, description, customer_id) VALUES (5911, 'Generic Soft Chicken', 50);
-INSERT INTO "order" (id, description, customer_id) VALUES (5912, 'Ergonomic Concrete Sausages', 25);
-INSERT INTO "order" (id, description, customer_id) VALUES (5913, 'Handmade Cotton Fish', 69);
-INSERT INTO "order" (id, description, customer_id) VALUES (5914, 'Practical Steel Mouse', 13);
-INSERT INTO "order" (id, description, customer_id) VALUES (5915, 'Handmade Frozen Table', 85);
-INSERT INTO "order" (id, description, customer_id) VALUES (5916, 'Refined Granite Tuna', 60);
-INSERT INTO "order" (id, description, customer_id) VALUES (5917, 'Handcrafted Frozen Fish', 30);
-INSERT INTO "order" (id, description, customer_id) VALUES (5918, 'Intelligent Frozen Computer', 37);
-INSERT INTO "order" (id, description, customer_id) VALUES (5919, 'Intelligent Cotton Chicken', 72);
-INSERT INTO "order" (id, description, customer_id) VALUES (5920, 'Ergonomic Concrete Salad', 33);
-INSERT INTO "order" (id, description, customer_id) VALUES (5921, 'Fantastic Bronze Mouse', 49);
-INSERT INTO "order" (id, description, customer_id) VALUES (5922, 'Luxurious Granite Keyboard', 53);
-INSERT INTO "order" (id, description, customer_id) VALUES (5923, 'Incredible Granite Car', 51);
-INSERT INTO "order" (id, description, customer_id) VALUES (5924, 'Rustic Cotton Shirt', 61);
-INSERT INTO "order" (id, description, customer_id) VALUES (5925, 'Sleek Frozen Pants', 32);
-INSERT INTO "order" (id, description, customer_id) VALUES (5926, 'Electronic Frozen Fish', 9);
-INSERT INTO "order" (id, description, customer_id) VALUES (5927, 'Licensed Frozen Sausages', 30);
-INSERT INTO "order" (id, description, customer_id) VALUES (5928, 'Awesome Plastic Fish', 62);
-INSERT INTO "order" (id, description, customer_id) VALUES (5929, 'Generic Cotton Towels', 28);
-INSERT INTO "order" (id, description, customer_id) VALUES (5930, 'Awesome Rubber Mouse', 48);
-INSERT INTO "order" (id, description, customer_id) VALUES (5931, 'Elegant Fresh Hat', 38);
-INSERT INTO "order" (id, description, customer_id) VALUES (5932, 'Awesome Fresh Fish', 22);
-INSERT INTO "order" (id, description, customer_id) VALUES (5933, 'Fantastic Concrete Sausages', 21);
-INSERT INTO "order" (id, description, customer_id) VALUES (5934, 'Intelligent Bronze Shirt', 51);
-INSERT INTO "order" (id, description, customer_id) VALUES (5935, 'Electronic Metal Pants', 7);
-INSERT INTO "order" (id, description, customer_id) VALUES (5936, 'Bespoke Frozen Bike', 92);
-INSERT INTO "order" (id, description, customer_id) VALUES (5937, 'Refined Steel Hat', 84);
-INSERT INTO "order" (id, description, customer_id) VALUES (5938, 'Modern Fresh Chair', 40);
-INSERT INTO "order" (id, description, customer_id) VALUES (5939, 'Gorgeous Concrete Bike', 86);
-INSERT INTO "order" (id, description, customer_id) VALUES (5940, 'Luxurious Concrete Hat', 19);
-INSERT INTO "order" (id, description, customer_id) VALUES (5941, 'Intelligent Bronze Table', 96);
-INSERT INTO "order" (id, description, customer_id) VALUES (5942, 'Small Cotton Bacon', 96);
-INSERT INTO "order" (id, description, customer_id) VALUES (5943, 'Electronic Rubber Chair', 90);
-INSERT INTO "order" (id, description, customer_id) VALUES (5944, 'Unbranded Granite Pants', 66);
-INSERT INTO "order" (id, description, customer_id) VALUES (5945, 'Tasty Fresh Shoes', 55);
-INSERT INTO "order" (id, description, customer_id) VALUES (5946, 'Rustic Granite Ball', 68);
-INSERT INTO "order" (id, description, customer_id) VALUES (5947, 'Tasty Cotton Shirt', 3);
-INSERT INTO "order" (id, description, customer_id) VALUES (5948, 'Recycled Rubber Pants', 29);
-INSERT INTO "order" (id, description, customer_id) VALUES (5949, 'Sleek Wooden Mouse', 80);
-INSERT INTO "order" (id, description, customer_id) VALUES (5950, 'Luxurious Wooden Tuna', 88);
-INSERT INTO "order" (id, description, customer_id) VALUES (5951, 'Handcrafted Soft Shoes', 32);
-INSERT INTO "order" (id, description, customer_id) VALUES (5952, 'Sleek Soft Gloves', 24);
-INSERT INTO "order" (id, description, customer_id) VALUES (5953, 'Gorgeous Cotton Bacon', 85);
-INSERT INTO "order" (id, description, customer_id) VALUES (5954, 'Awesome Concrete Towels', 13);
-INSERT INTO "order" (id, description, customer_id) VALUES (5955, 'Gorgeous Soft Cheese', 39);
-INSERT INTO "order" (id, description, customer_id) VALUES (5956, 'Intelligent Plastic Towels', 50);
-INSERT INTO "order" (id, description, customer_id) VALUES (5957, 'Modern Wooden Soap', 81);
-INSERT INTO "order" (id, description, customer_id) VALUES (5958, 'Sleek Steel Pants', 38);
-INSERT INTO "order" (id, description, customer_id) VALUES (5959, 'Oriental Cotton Shirt', 33);
-INSERT INTO "order" (id, description, customer_id) VALUES (5960, 'Tasty Frozen Chair', 7);
-INSERT INTO "order" (id, description, customer_id) VALUES (5961, 'Luxurious Granite Bike', 51);
-INSERT INTO "order" (id, description, customer_id) VALUES (5962, 'Fantastic Fresh Salad', 53);
-INSERT INTO "order" (id, description, customer_id) VALUES (5963, 'Generic Plastic Bike', 83);
-INSERT INTO "order" (id, description, customer_id) VALUES (5964, 'Rustic Wooden Ball', 100);
-INSERT INTO "order" (id, description, customer_id) VALUES (5965, 'Sleek Plastic Chicken', 24);
-INSERT INTO "order" (id, description, customer_id) VALUES (5966, 'Gorgeous Soft Ball', 25);
-INSERT INTO "order" (id, description, customer_id) VALUES (5967, 'Modern Granite Cheese', 14);
-INSERT INTO "order" (id, description, customer_id) VALUES (5968, 'Ergonomic Metal Ball', 10);
-INSERT INTO "order" (id, description, customer_id) VALUES (5969, 'Sleek Concrete Fish', 6);
-INSERT INTO "order" (id, description, customer_id) VALUES (5970, 'Bespoke Wooden Mouse', 37);
-INSERT INTO "order" (id, description, customer_id) VALUES (5971, 'Handmade Cotton Gloves', 65);
-INSERT INTO "order" (id, description, customer_id) VALUES (5972, 'Handcrafted Plastic Keyboard', 12);
-INSERT INTO "order" (id, description, customer_id) VALUES (5973, 'Fantastic Concrete Mouse', 82);
-INSERT INTO "order" (id, description, customer_id) VALUES (5974, 'Generic Wooden Chicken', 94);
-INSERT INTO "order" (id, description, customer_id) VALUES (5975, 'Handcrafted Metal Computer', 26);
-INSERT INTO "order" (id, description, customer_id) VALUES (5976, 'Oriental Plastic Hat', 3);
-INSERT INTO "order" (id, description, customer_id) VALUES (5977, 'Oriental Frozen Soap', 20);
-INSERT INTO "order" (id, description, customer_id) VALUES (5978, 'Generic Soft Shirt', 65);
-INSERT INTO "order" (id, description, customer_id) VALUES (5979, 'Small Bronze Car', 51);
-INSERT INTO "order" (id, description, customer_id) VALUES (5980, 'Bespoke Frozen Salad', 49);
-INSERT INTO "order" (id, description, customer_id) VALUES (5981, 'Sleek Bronze Mouse', 22);
-INSERT INTO "order" (id, description, customer_id) VALUES (5982, 'Rustic Rubber Salad', 89);
-INSERT INTO "order" (id, description, customer_id) VALUES (5983, 'Unbranded Plastic Salad', 60);
-INSERT INTO "order" (id, description, customer_id) VALUES (5984, 'Handcrafted Fresh Shoes', 21);
-INSERT INTO "order" (id, description, customer_id) VALUES (5985, 'Rustic Bronze Computer', 36);
-INSERT INTO "order" (id, description, customer_id) VALUES (5986, 'Electronic Wooden Cheese', 75);
-INSERT INTO "order" (id, description, customer_id) VALUES (5987, 'Handmade Bronze Soap', 4);
-INSERT INTO "order" (id, description, customer_id) VALUES (5988, 'Rustic Cotton Chips', 98);
-INSERT INTO "order" (id, description, customer_id) VALUES (5989, 'Gorgeous Soft Mouse', 18);
-INSERT INTO "order" (id, description, customer_id) VALUES (5990, 'Recycled Rubber Cheese', 60);
-INSERT INTO "order" (id, description, customer_id) VALUES (5991, 'Bespoke Plastic Tuna', 29);
-INSERT INTO "order" (id, description, customer_id) VALUES (5992, 'Handcrafted Granite Shirt', 62);
-INSERT INTO "order" (id, description, customer_id) VALUES (5993, 'Handmade Concrete Bike', 3);
-INSERT INTO "order" (id, description, customer_id) VALUES (5994, 'Handcrafted Bronze Tuna', 48);
-INSERT INTO "order" (id, description, customer_id) VALUES (5995, 'Practical Fresh Ball', 100);
-INSERT INTO "order" (id, description, customer_id) VALUES (5996, 'Small Wooden Sausages', 25);
-INSERT INTO "order" (id, description, customer_id) VALUES (5997, 'Fantastic Frozen Keyboard', 14);
-INSERT INTO "order" (id, description, customer_id) VALUES (5998, 'Handcrafted Frozen Table', 39);
-INSERT INTO "order" (id, description, customer_id) VALUES (5999, 'Bespoke Fresh Towels', 34);
-INSERT INTO "order" (id, description, customer_id) VALUES (6000, 'Intelligent Steel Chips', 95);
-INSERT INTO "order" (id, description, customer_id) VALUES (6001, 'Rustic Metal Gloves', 41);
-INSERT INTO "order" (id, description, customer_id) VALUES (6002, 'Handmade Rubber Chair', 27);
-INSERT INTO "order" (id, description, customer_id) VALUES (6003, 'Elegant Soft Salad', 52);
-INSERT INTO "order" (id, description, customer_id) VALUES (6004, 'Small Steel Table', 54);
-INSERT INTO "order" (id, description, customer_id) VALUES (6005, 'Unbranded Bronze Fish', 63);
-INSERT INTO "order" (id, description, customer_id) VALUES (6006, 'Refined Rubber Bacon', 66);
-INSERT INTO "order" (id, description, customer_id) VALUES (6007, 'Handmade Rubber Table', 2);
-INSERT INTO "order" (id, description, customer_id) VALUES (6008, 'Unbranded Frozen Shirt', 41);
-INSERT INTO "order" (id, description, customer_id) VALUES (6009, 'Unbranded Concrete Soap', 40);
-INSERT INTO "order" (id, description, customer_id) VALUES (6010, 'Awesome Plastic Pants', 18);
-INSERT INTO "order" (id, description, customer_id) VALUES (6011, 'Awesome Rubber Hat', 14);
-INSERT INTO "order" (id, description, customer_id) VALUES (6012, 'Modern Bronze Soap', 4);
-INSERT INTO "order" (id, description, customer_id) VALUES (6013, 'Sleek Soft Cheese', 97);
-INSERT INTO "order" (id, description, customer_id) VALUES (6014, 'Rustic Bronze Tuna', 30);
-INSERT INTO "order" (id, description, customer_id) VALUES (6015, 'Handcrafted Cotton Pizza', 60);
-INSERT INTO "order" (id, description, customer_id) VALUES (6016, 'Luxurious Fresh Fish', 88);
-INSERT INTO "order" (id, description, customer_id) VALUES (6017, 'Unbranded Metal Soap', 77);
-INSERT INTO "order" (id, description, customer_id) VALUES (6018, 'Electronic Soft Table', 85);
-INSERT INTO "order" (id, description, customer_id) VALUES (6019, 'Electronic Frozen Pants', 83);
-INSERT INTO "order" (id, description, customer_id) VALUES (6020, 'Rustic Fresh Bike', 73);
-INSERT INTO "order" (id, description, customer_id) VALUES (6021, 'Electronic Metal Hat', 84);
-INSERT INTO "order" (id, description, customer_id) VALUES (6022, 'Ergonomic Granite Chicken', 7);
-INSERT INTO "order" (id, description, customer_id) VALUES (6023, 'Bespoke Steel Table', 2);
-INSERT INTO "order" (id, description, customer_id) VALUES (6024, 'Luxurious Wooden Tuna', 89);
-INSERT INTO "order" (id, description, customer_id) VALUES (6025, 'Fantastic Cotton Car', 21);
-INSERT INTO "order" (id, description, customer_id) VALUES (6026, 'Handmade Steel Hat', 43);
-INSERT INTO "order" (id, description, customer_id) VALUES (6027, 'Electronic Plastic Sausages', 6);
-INSERT INTO "order" (id, description, customer_id) VALUES (6028, 'Ergonomic Plastic Gloves', 62);
-INSERT INTO "order" (id, description, customer_id) VALUES (6029, 'Practical Bronze Hat', 46);
-INSERT INTO "order" (id, description, customer_id) VALUES (6030, 'Generic Metal Chips', 6);
-INSERT INTO "order" (id, description, customer_id) VALUES (6031, 'Refined Bronze Shoes', 12);
-INSERT INTO "order" (id, description, customer_id) VALUES (6032, 'Handmade Granite Sausages', 34);
-INSERT INTO "order" (id, description, customer_id) VALUES (6033, 'Bespoke Soft Bike', 47);
-INSERT INTO "order" (id, description, customer_id) VALUES (6034, 'Licensed Steel Bike', 39);
-INSERT INTO "order" (id, description, customer_id) VALUES (6035, 'Practical Frozen Cheese', 74);
-INSERT INTO "order" (id, description, customer_id) VALUES (6036, 'Oriental Granite Gloves', 38);
-INSERT INTO "order" (id, description, customer_id) VALUES (6037, 'Recycled Granite Gloves', 8);
-INSERT INTO "order" (id, description, customer_id) VALUES (6038, 'Electronic Rubber Mouse', 79);
-INSERT INTO "order" (id, description, customer_id) VALUES (6039, 'Intelligent Concrete Car', 49);
-INSERT INTO "order" (id, description, customer_id) VALUES (6040, 'Awesome Granite Sausages', 55);
-INSERT INTO "order" (id, description, customer_id) VALUES (6041, 'Luxurious Bronze Bike', 37);
-INSERT INTO "order" (id, description, customer_id) VALUES (6042, 'Electronic Frozen Shoes', 63);
-INSERT INTO "order" (id, description, customer_id) VALUES (6043, 'Generic Cotton Chips', 26);
-INSERT INTO "order" (id, description, customer_id) VALUES (6044, 'Refined Concrete Tuna', 49);
-INSERT INTO "order" (id, description, customer_id) VALUES (6045, 'Oriental Soft Chips', 87);
-INSERT INTO "order" (id, description, customer_id) VALUES (6046, 'Refined Wooden Pants', 3);
-INSERT INTO "order" (id, description, customer_id) VALUES (6047, 'Handcrafted Fresh Bike', 72);
-INSERT INTO "order" (id, description, customer_id) VALUES (6048, 'Handmade Plastic Chair', 67);
-INSERT INTO "order" (id, description, customer_id) VALUES (6049, 'Incredible Wooden Pizza', 92);
-INSERT INTO "order" (id, description, customer_id) VALUES (6050, 'Small Fresh Soap', 35);
-INSERT INTO "order" (id, description, customer_id) VALUES (6051, 'Sleek Granite Keyboard', 51);
-INSERT INTO "order" (id, description, customer_id) VALUES (6052, 'Unbranded Metal Car', 66);
-INSERT INTO "order" (id, description, customer_id) VALUES (6053, 'Ergonomic Fresh Hat', 13);
-INSERT INTO "order" (id, description, customer_id) VALUES (6054, 'Modern Granite Chips', 99);
-INSERT INTO "order" (id, description, customer_id) VALUES (6055, 'Ergonomic Frozen Cheese', 43);
-INSERT INTO "order" (id, description, customer_id) VALUES (6056, 'Tasty Rubber Chips', 52);
-INSERT INTO "order" (id, description, customer_id) VALUES (6057, 'Sleek Soft Shirt', 26);
-INSERT INTO "order" (id, description, customer_id) VALUES (6058, 'Incredible Metal Table', 11);
-INSERT INTO "order" (id, description, customer_id) VALUES (6059, 'Elegant Granite Gloves', 71);
-INSERT INTO "order" (id, description, customer_id) VALUES (6060, 'Modern Granite Shoes', 17);
-INSERT INTO "order" (id, description, customer_id) VALUES (6061, 'Tasty Metal Cheese', 96);
-INSERT INTO "order" (id, description, customer_id) VALUES (6062, 'Luxurious Granite Pizza', 53);
-INSERT INTO "order" (id, description, customer_id) VALUES (6063, 'Bespoke Rubber Shoes', 99);
-INSERT INTO "order" (id, description, customer_id) VALUES (6064, 'Oriental Metal Pizza', 8);
-INSERT INTO "order" (id, description, customer_id) VALUES (6065, 'Sleek Cotton Hat', 23);
-INSERT INTO "order" (id, description, customer_id) VALUES (6066, 'Elegant Frozen Cheese', 6);
-INSERT INTO "order" (id, description, customer_id) VALUES (6067, 'Modern Fresh Car', 98);
-INSERT INTO "order" (id, description, customer_id) VALUES (6068, 'Fantastic Frozen Tuna', 86);
-INSERT INTO "order" (id, description, customer_id) VALUES (6069, 'Oriental Fresh Chair', 15);
-INSERT INTO "order" (id, description, customer_id) VALUES (6070, 'Bespoke Rubber Towels', 73);
-INSERT INTO "order" (id, description, customer_id) VALUES (6071, 'Unbranded Metal Cheese', 64);
-INSERT INTO "order" (id, description, customer_id) VALUES (6072, 'Incredible Granite Keyboard', 92);
-INSERT INTO "order" (id, description, customer_id) VALUES (6073, 'Fantastic Concrete Table', 75);
-INSERT INTO "order" (id, description, customer_id) VALUES (6074, 'Licensed Frozen Bacon', 89);
-INSERT INTO "order" (id, description, customer_id) VALUES (6075, 'Electronic Granite Tuna', 21);
-INSERT INTO "order" (id, description, customer_id) VALUES (6076, 'Modern Metal Towels', 5);
-INSERT INTO "order" (id, description, customer_id) VALUES (6077, 'Licensed Wooden Bike', 63);
-INSERT INTO "order" (id, description, customer_id) VALUES (6078, 'Tasty Rubber Ball', 28);
-INSERT INTO "order" (id, description, customer_id) VALUES (6079, 'Handmade Wooden Car', 58);
-INSERT INTO "order" (id, description, customer_id) VALUES (6080, 'Fantastic Cotton Chair', 9);
-INSERT INTO "order" (id, description, customer_id) VALUES (6081, 'Luxurious Fresh Car', 4);
-INSERT INTO "order" (id, description, customer_id) VALUES (6082, 'Unbranded Fresh Cheese', 26);
-INSERT INTO "order" (id, description, customer_id) VALUES (6083, 'Oriental Granite Hat', 80);
-INSERT INTO "order" (id, description, customer_id) VALUES (6084, 'Sleek Soft Towels', 18);
-INSERT INTO "order" (id, description, customer_id) VALUES (6085, 'Licensed Metal Cheese', 39);
-INSERT INTO "order" (id, description, customer_id) VALUES (6086, 'Handcrafted Soft Bacon', 6);
-INSERT INTO "order" (id, description, customer_id) VALUES (6087, 'Electronic Metal Salad', 33);
-INSERT INTO "order" (id, description, customer_id) VALUES (6088, 'Generic Fresh Ball', 74);
-INSERT INTO "order" (id, description, customer_id) VALUES (6089, 'Elegant Cotton Pants', 35);
-INSERT INTO "order" (id, description, customer_id) VALUES (6090, 'Licensed Fresh Chicken', 54);
-INSERT INTO "order" (id, description, customer_id) VALUES (6091, 'Handcrafted Cotton Shoes', 5);
-INSERT INTO "order" (id, description, customer_id) VALUES (6092, 'Gorgeous Frozen Sausages', 51);
-INSERT INTO "order" (id, description, customer_id) VALUES (6093, 'Intelligent Fresh Car', 52);
-INSERT INTO "order" (id, description, customer_id) VALUES (6094, 'Ergonomic Fresh Sausages', 72);
-INSERT INTO "order" (id, description, customer_id) VALUES (6095, 'Generic Frozen Soap', 52);
-INSERT INTO "order" (id, description, customer_id) VALUES (6096, 'Awesome Granite Salad', 34);
-INSERT INTO "order" (id, description, customer_id) VALUES (6097, 'Incredible Bronze Pants', 1);
-INSERT INTO "order" (id, description, customer_id) VALUES (6098, 'Bespoke Concrete Chips', 67);
-INSERT INTO "order" (id, description, customer_id) VALUES (6099, 'Refined Granite Chicken', 54);
-INSERT INTO "order" (id, description, customer_id) VALUES (6100, 'Handmade Wooden Shirt', 7);
-INSERT INTO "order" (id, description, customer_id) VALUES (6101, 'Incredible Plastic Car', 97);
-INSERT INTO "order" (id, description, customer_id) VALUES (6102, 'Tasty Metal Keyboard', 37);
-INSERT INTO "order" (id, description, customer_id) VALUES (6103, 'Recycled Granite Computer', 97);
-INSERT INTO "order" (id, description, customer_id) VALUES (6104, 'Unbranded Rubber Chair', 34);
-INSERT INTO "order" (id, description, customer_id) VALUES (6105, 'Incredible Rubber Car', 1);
-INSERT INTO "order" (id, description, customer_id) VALUES (6106, 'Licensed Wooden Chicken', 32);
-INSERT INTO "order" (id, description, customer_id) VALUES (6107, 'Sleek Plastic Salad', 26);
-INSERT INTO "order" (id, description, customer_id) VALUES (6108, 'Luxurious Soft Shoes', 11);
-INSERT INTO "order" (id, description, customer_id) VALUES (6109, 'Tasty Fresh Pizza', 10);
-INSERT INTO "order" (id, description, customer_id) VALUES (6110, 'Bespoke Plastic Chair', 46);
-INSERT INTO "order" (id, description, customer_id) VALUES (6111, 'Rustic Cotton Bacon', 94);
-INSERT INTO "order" (id, description, customer_id) VALUES (6112, 'Rustic Bronze Tuna', 6);
-INSERT INTO "order" (id, description, customer_id) VALUES (6113, 'Elegant Steel Chair', 9);
-INSERT INTO "order" (id, description, customer_id) VALUES (6114, 'Generic Granite Car', 77);
-INSERT INTO "order" (id, description, customer_id) VALUES (6115, 'Handmade Concrete Cheese', 80);
-INSERT INTO "order" (id, description, customer_id) VALUES (6116, 'Rustic Cotton Hat', 13);
-INSERT INTO "order" (id, description, customer_id) VALUES (6117, 'Generic Steel Chair', 42);
-INSERT INTO "order" (id, description, customer_id) VALUES (6118, 'Modern Fresh Pizza', 60);
-INSERT INTO "order" (id, description, customer_id) VALUES (6119, 'Practical Soft Chips', 11);
-INSERT INTO "order" (id, description, customer_id) VALUES (6120, 'Awesome Rubber Cheese', 56);
-INSERT INTO "order" (id, description, customer_id) VALUES (6121, 'Handmade Soft Pants', 95);
-INSERT INTO "order" (id, description, customer_id) VALUES (6122, 'Sleek Bronze Keyboard', 13);
-INSERT INTO "order" (id, description, customer_id) VALUES (6123, 'Generic Rubber Chips', 39);
-INSERT INTO "order" (id, description, customer_id) VALUES (6124, 'Practical Concrete Tuna', 24);
-INSERT INTO "order" (id, description, customer_id) VALUES (6125, 'Bespoke Steel Shirt', 98);
-INSERT INTO "order" (id, description, customer_id) VALUES (6126, 'Handcrafted Frozen Ball', 4);
-INSERT INTO "order" (id, description, customer_id) VALUES (6127, 'Ergonomic Fresh Pants', 67);
-INSERT INTO "order" (id, description, customer_id) VALUES (6128, 'Modern Wooden Pizza', 5);
-INSERT INTO "order" (id, description, customer_id) VALUES (6129, 'Sleek Granite Pizza', 55);
-INSERT INTO "order" (id, description, customer_id) VALUES (6130, 'Oriental Frozen Chair', 84);
-INSERT INTO "order" (id, description, customer_id) VALUES (6131, 'Rustic Concrete Fish', 20);
-INSERT INTO "order" (id, description, customer_id) VALUES (6132, 'Oriental Wooden Keyboard', 87);
-INSERT INTO "order" (id, description, customer_id) VALUES (6133, 'Recycled Rubber Fish', 84);
-INSERT INTO "order" (id, description, customer_id) VALUES (6134, 'Oriental Steel Pizza', 35);
-INSERT INTO "order" (id, description, customer_id) VALUES (6135, 'Sleek Granite Keyboard', 38);
-INSERT INTO "order" (id, description, customer_id) VALUES (6136, 'Awesome Plastic Pants', 88);
-INSERT INTO "order" (id, description, customer_id) VALUES (6137, 'Practical Plastic Cheese', 95);
-INSERT INTO "order" (id, description, customer_id) VALUES (6138, 'Luxurious Frozen Chips', 12);
-INSERT INTO "order" (id, description, customer_id) VALUES (6139, 'Intelligent Plastic Mouse', 39);
-INSERT INTO "order" (id, description, customer_id) VALUES (6140, 'Gorgeous Granite Salad', 87);
-INSERT INTO "order" (id, description, customer_id) VALUES (6141, 'Small Wooden Sausages', 23);
-INSERT INTO "order" (id, description, customer_id) VALUES (6142, 'Incredible Bronze Towels', 37);
-INSERT INTO "order" (id, description, customer_id) VALUES (6143, 'Electronic Steel Bike', 46);
-INSERT INTO "order" (id, description, customer_id) VALUES (6144, 'Refined Metal Chair', 50);
-INSERT INTO "order" (id, description, customer_id) VALUES (6145, 'Generic Steel Towels', 15);
-INSERT INTO "order" (id, description, customer_id) VALUES (6146, 'Generic Plastic Soap', 17);
-INSERT INTO "order" (id, description, customer_id) VALUES (6147, 'Electronic Plastic Keyboard', 94);
-INSERT INTO "order" (id, description, customer_id) VALUES (6148, 'Refined Fresh Hat', 39);
-INSERT INTO "order" (id, description, customer_id) VALUES (6149, 'Modern Plastic Chicken', 1);
-INSERT INTO "order" (id, description, customer_id) VALUES (6150, 'Modern Granite Car', 75);
-INSERT INTO "order" (id, description, customer_id) VALUES (6151, 'Tasty Plastic Car', 19);
-INSERT INTO "order" (id, description, customer_id) VALUES (6152, 'Awesome Rubber Bacon', 7);
-INSERT INTO "order" (id, description, customer_id) VALUES (6153, 'Luxurious Bronze Chicken', 49);
-INSERT INTO "order" (id, description, customer_id) VALUES (6154, 'Practical Soft Cheese', 69);
-INSERT INTO "order" (id, description, customer_id) VALUES (6155, 'Handmade Rubber Salad', 94);
-INSERT INTO "order" (id, description, customer_id) VALUES (6156, 'Generic Steel Gloves', 25);
-INSERT INTO "order" (id, description, customer_id) VALUES (6157, 'Refined Soft Computer', 87);
-INSERT INTO "order" (id, description, customer_id) VALUES (6158, 'Electronic Concrete Table', 27);
-INSERT INTO "order" (id, description, customer_id) VALUES (6159, 'Ergonomic Bronze Chips', 91);
-INSERT INTO "order" (id, description, customer_id) VALUES (6160, 'Ergonomic Bronze Towels', 48);
-INSERT INTO "order" (id, description, customer_id) VALUES (6161, 'Refined Cotton Chips', 52);
-INSERT INTO "order" (id, description, customer_id) VALUES (6162, 'Handmade Plastic Towels', 21);
-INSERT INTO "order" (id, description, customer_id) VALUES (6163, 'Rustic Concrete Bike', 81);
-INSERT INTO "order" (id, description, customer_id) VALUES (6164, 'Fantastic Steel Tuna', 73);
-INSERT INTO "order" (id, description, customer_id) VALUES (6165, 'Luxurious Soft Fish', 18);
-INSERT INTO "order" (id, description, customer_id) VALUES (6166, 'Elegant Fresh Bike', 49);
-INSERT INTO "order" (id, description, customer_id) VALUES (6167, 'Elegant Steel Sausages', 44);
-INSERT INTO "order" (id, description, customer_id) VALUES (6168, 'Incredible Granite Fish', 69);
-INSERT INTO "order" (id, description, customer_id) VALUES (6169, 'Ergonomic Soft Chips', 52);
-INSERT INTO "order" (id, description, customer_id) VALUES (6170, 'Electronic Cotton Chips', 51);
-INSERT INTO "order" (id, description, customer_id) VALUES (6171, 'Ergonomic Bronze Chips', 52);
-INSERT INTO "order" (id, description, customer_id) VALUES (6172, 'Refined Rubber Salad', 14);
-INSERT INTO "order" (id, description, customer_id) VALUES (6173, 'Electronic Cotton Chips', 6);
-INSERT INTO "order" (id, description, customer_id) VALUES (6174, 'Awesome Fresh Soap', 39);
-INSERT INTO "order" (id, description, customer_id) VALUES (6175, 'Refined Soft Chicken', 44);
-INSERT INTO "order" (id, description, customer_id) VALUES (6176, 'Intelligent Plastic Mouse', 99);
-INSERT INTO "order" (id, description, customer_id) VALUES (6177, 'Sleek Fresh Hat', 8);
-INSERT INTO "order" (id, description, customer_id) VALUES (6178, 'Ergonomic Metal Fish', 53);
-INSERT INTO "order" (id, description, customer_id) VALUES (6179, 'Intelligent Bronze Table', 97);
-INSERT INTO "order" (id, description, customer_id) VALUES (6180, 'Electronic Fresh Towels', 77);
-INSERT INTO "order" (id, description, customer_id) VALUES (6181, 'Sleek Granite Bike', 49);
-INSERT INTO "order" (id, description, customer_id) VALUES (6182, 'Tasty Metal Fish', 5);
-INSERT INTO "order" (id, description, customer_id) VALUES (6183, 'Intelligent Metal Ball', 44);
-INSERT INTO "order" (id, description, customer_id) VALUES (6184, 'Ergonomic Granite Keyboard', 31);
-INSERT INTO "order" (id, description, customer_id) VALUES (6185, 'Modern Metal Chicken', 70);
-INSERT INTO "order" (id, description, customer_id) VALUES (6186, 'Fantastic Metal Car', 6);
-INSERT INTO "order" (id, description, customer_id) VALUES (6187, 'Luxurious Frozen Chips', 1);
-INSERT INTO "order" (id, description, customer_id) VALUES (6188, 'Small Steel Shirt', 48);
-INSERT INTO "order" (id, description, customer_id) VALUES (6189, 'Generic Rubber Keyboard', 61);
-INSERT INTO "order" (id, description, customer_id) VALUES (6190, 'Practical Fresh Shoes', 40);
-INSERT INTO "order" (id, description, customer_id) VALUES (6191, 'Small Granite Gloves', 78);
-INSERT INTO "order" (id, description, customer_id) VALUES (6192, 'Intelligent Wooden Soap', 78);
-INSERT INTO "order" (id, description, customer_id) VALUES (6193, 'Refined Cotton Salad', 6);
-INSERT INTO "order" (id, description, customer_id) VALUES (6194, 'Tasty Soft Bike', 96);
-INSERT INTO "order" (id, description, customer_id) VALUES (6195, 'Handmade Fresh Chair', 48);
-INSERT INTO "order" (id, description, customer_id) VALUES (6196, 'Fantastic Rubber Shirt', 77);
-INSERT INTO "order" (id, description, customer_id) VALUES (6197, 'Small Frozen Shoes', 93);
-INSERT INTO "order" (id, description, customer_id) VALUES (6198, 'Electronic Rubber Sausages', 61);
-INSERT INTO "order" (id, description, customer_id) VALUES (6199, 'Sleek Bronze Soap', 57);
-INSERT INTO "order" (id, description, customer_id) VALUES (6200, 'Practical Metal Pizza', 30);
-INSERT INTO "order" (id, description, customer_id) VALUES (6201, 'Gorgeous Cotton Pants', 71);
-INSERT INTO "order" (id, description, customer_id) VALUES (6202, 'Gorgeous Plastic Salad', 55);
-INSERT INTO "order" (id, description, customer_id) VALUES (6203, 'Incredible Granite Computer', 48);
-INSERT INTO "order" (id, description, customer_id) VALUES (6204, 'Tasty Fresh Ball', 79);
-INSERT INTO "order" (id, description, customer_id) VALUES (6205, 'Unbranded Metal Pants', 24);
-INSERT INTO "order" (id, description, customer_id) VALUES (6206, 'Rustic Frozen Shirt', 14);
-INSERT INTO "order" (id, description, customer_id) VALUES (6207, 'Refined Rubber Cheese', 50);
-INSERT INTO "order" (id, description, customer_id) VALUES (6208, 'Practical Plastic Bacon', 54);
-INSERT INTO "order" (id, description, customer_id) VALUES (6209, 'Rustic Plastic Shoes', 81);
-INSERT INTO "order" (id, description, customer_id) VALUES (6210, 'Handmade Concrete Tuna', 89);
-INSERT INTO "order" (id, description, customer_id) VALUES (6211, 'Elegant Granite Bike', 9);
-INSERT INTO "order" (id, description, customer_id) VALUES (6212, 'Incredible Metal Towels', 50);
-INSERT INTO "order" (id, description, customer_id) VALUES (6213, 'Tasty Steel Bike', 53);
-INSERT INTO "order" (id, description, customer_id) VALUES (6214, 'Modern Metal Table', 77);
-INSERT INTO "order" (id, description, customer_id) VALUES (6215, 'Gorgeous Fresh Tuna', 93);
-INSERT INTO "order" (id, description, customer_id) VALUES (6216, 'Intelligent Frozen Fish', 54);
-INSERT INTO "order" (id, description, customer_id) VALUES (6217, 'Unbranded Granite Chips', 27);
-INSERT INTO "order" (id, description, customer_id) VALUES (6218, 'Ergonomic Wooden Cheese', 47);
-INSERT INTO "order" (id, description, customer_id) VALUES (6219, 'Intelligent Soft Tuna', 92);
-INSERT INTO "order" (id, description, customer_id) VALUES (6220, 'Ergonomic Metal Chair', 31);
-INSERT INTO "order" (id, description, customer_id) VALUES (6221, 'Luxurious Soft Mouse', 45);
-INSERT INTO "order" (id, description, customer_id) VALUES (6222, 'Licensed Cotton Hat', 66);
-INSERT INTO "order" (id, description, customer_id) VALUES (6223, 'Recycled Soft Sausages', 32);
-INSERT INTO "order" (id, description, customer_id) VALUES (6224, 'Elegant Plastic Shoes', 49);
-INSERT INTO "order" (id, description, customer_id) VALUES (6225, 'Oriental Concrete Tuna', 70);
-INSERT INTO "order" (id, description, customer_id) VALUES (6226, 'Recycled Granite Keyboard', 96);
-INSERT INTO "order" (id, description, customer_id) VALUES (6227, 'Sleek Bronze Chips', 64);
-INSERT INTO "order" (id, description, customer_id) VALUES (6228, 'Recycled Metal Soap', 31);
-INSERT INTO "order" (id, description, customer_id) VALUES (6229, 'Incredible Granite Towels', 86);
-INSERT INTO "order" (id, description, customer_id) VALUES (6230, 'Practical Fresh Chair', 23);
-INSERT INTO "order" (id, description, customer_id) VALUES (6231, 'Fantastic Cotton Chicken', 59);
-INSERT INTO "order" (id, description, customer_id) VALUES (6232, 'Elegant Cotton Pants', 6);
-INSERT INTO "order" (id, description, customer_id) VALUES (6233, 'Incredible Granite Ball', 50);
-INSERT INTO "order" (id, description, customer_id) VALUES (6234, 'Fantastic Plastic Mouse', 40);
-INSERT INTO "order" (id, description, customer_id) VALUES (6235, 'Oriental Concrete Soap', 49);
-INSERT INTO "order" (id, description, customer_id) VALUES (6236, 'Modern Plastic Chair', 9);
-INSERT INTO "order" (id, description, customer_id) VALUES (6237, 'Practical Frozen Salad', 58);
-INSERT INTO "order" (id, description, customer_id) VALUES (6238, 'Oriental Metal Shirt', 4);
-INSERT INTO "order" (id, description, customer_id) VALUES (6239, 'Handcrafted Rubber Table', 68);
-INSERT INTO "order" (id, description, customer_id) VALUES (6240, 'Refined Cotton Keyboard', 36);
-INSERT INTO "order" (id, description, customer_id) VALUES (6241, 'Practical Concrete Salad', 65);
-INSERT INTO "order" (id, description, customer_id) VALUES (6242, 'Practical Rubber Computer', 36);
-INSERT INTO "order" (id, description, customer_id) VALUES (6243, 'Incredible Granite Mouse', 46);
-INSERT INTO "order" (id, description, customer_id) VALUES (6244, 'Elegant Wooden Salad', 100);
-INSERT INTO "order" (id, description, customer_id) VALUES (6245, 'Practical Steel Fish', 66);
-INSERT INTO "order" (id, description, customer_id) VALUES (6246, 'Tasty Plastic Bacon', 58);
-INSERT INTO "order" (id, description, customer_id) VALUES (6247, 'Gorgeous Steel Table', 70);
-INSERT INTO "order" (id, description, customer_id) VALUES (6248, 'Small Plastic Tuna', 2);
-INSERT INTO "order" (id, description, customer_id) VALUES (6249, 'Generic Rubber Salad', 32);
-INSERT INTO "order" (id, description, customer_id) VALUES (6250, 'Oriental Fresh Pants', 79);
-INSERT INTO "order" (id, description, customer_id) VALUES (6251, 'Awesome Cotton Chips', 90);
-INSERT INTO "order" (id, description, customer_id) VALUES (6252, 'Electronic Rubber Towels', 77);
-INSERT INTO "order" (id, description, customer_id) VALUES (6253, 'Fantastic Concrete Table', 6);
-INSERT INTO "order" (id, description, customer_id) VALUES (6254, 'Recycled Soft Soap', 21);
-INSERT INTO "order" (id, description, customer_id) VALUES (6255, 'Generic Wooden Pizza', 16);
-INSERT INTO "order" (id, description, customer_id) VALUES (6256, 'Sleek Rubber Gloves', 10);
-INSERT INTO "order" (id, description, customer_id) VALUES (6257, 'Fantastic Concrete Soap', 55);
-INSERT INTO "order" (id, description, customer_id) VALUES (6258, 'Handcrafted Concrete Salad', 54);
-INSERT INTO "order" (id, description, customer_id) VALUES (6259, 'Awesome Metal Salad', 79);
-INSERT INTO "order" (id, description, customer_id) VALUES (6260, 'Fantastic Bronze Computer', 97);
-INSERT INTO "order" (id, description, customer_id) VALUES (6261, 'Awesome Concrete Chips', 56);
-INSERT INTO "order" (id, description, customer_id) VALUES (6262, 'Fantastic Soft Mouse', 46);
-INSERT INTO "order" (id, description, customer_id) VALUES (6263, 'Refined Plastic Chair', 44);
-INSERT INTO "order" (id, description, customer_id) VALUES (6264, 'Incredible Bronze Shoes', 70);
-INSERT INTO "order" (id, description, customer_id) VALUES (6265, 'Small Rubber Sausages', 45);
-INSERT INTO "order" (id, description, customer_id) VALUES (6266, 'Fantastic Plastic Table', 81);
-INSERT INTO "order" (id, description, customer_id) VALUES (6267, 'Unbranded Fresh Car', 87);
-INSERT INTO "order" (id, description, customer_id) VALUES (6268, 'Oriental Bronze Shoes', 59);
-INSERT INTO "order" (id, description, customer_id) VALUES (6269, 'Bespoke Wooden Sausages', 84);
-INSERT INTO "order" (id, description, customer_id) VALUES (6270, 'Oriental Granite Tuna', 98);
-INSERT INTO "order" (id, description, customer_id) VALUES (6271, 'Modern Soft Mouse', 98);
-INSERT INTO "order" (id, description, customer_id) VALUES (6272, 'Small Plastic Shoes', 76);
-INSERT INTO "order" (id, description, customer_id) VALUES (6273, 'Rustic Bronze Bike', 76);
-INSERT INTO "order" (id, description, customer_id) VALUES (6274, 'Luxurious Concrete Tuna', 24);
-INSERT INTO "order" (id, description, customer_id) VALUES (6275, 'Incredible Fresh Mouse', 98);
-INSERT INTO "order" (id, description, customer_id) VALUES (6276, 'Bespoke Frozen Tuna', 80);
-INSERT INTO "order" (id, description, customer_id) VALUES (6277, 'Handcrafted Bronze Salad', 25);
-INSERT INTO "order" (id, description, customer_id) VALUES (6278, 'Generic Frozen Salad', 78);
-INSERT INTO "order" (id, description, customer_id) VALUES (6279, 'Incredible Metal Chips', 24);
-INSERT INTO "order" (id, description, customer_id) VALUES (6280, 'Practical Soft Shoes', 36);
-INSERT INTO "order" (id, description, customer_id) VALUES (6281, 'Small Metal Chips', 91);
-INSERT INTO "order" (id, description, customer_id) VALUES (6282, 'Incredible Concrete Salad', 84);
-INSERT INTO "order" (id, description, customer_id) VALUES (6283, 'Unbranded Soft Shirt', 100);
-INSERT INTO "order" (id, description, customer_id) VALUES (6284, 'Sleek Cotton Cheese', 45);
-INSERT INTO "order" (id, description, customer_id) VALUES (6285, 'Oriental Wooden Towels', 5);
-INSERT INTO "order" (id, description, customer_id) VALUES (6286, 'Small Cotton Computer', 55);
-INSERT INTO "order" (id, description, customer_id) VALUES (6287, 'Fantastic Soft Fish', 33);
-INSERT INTO "order" (id, description, customer_id) VALUES (6288, 'Oriental Bronze Cheese', 68);
-INSERT INTO "order" (id, description, customer_id) VALUES (6289, 'Ergonomic Wooden Chicken', 73);
-INSERT INTO "order" (id, description, customer_id) VALUES (6290, 'Unbranded Soft Ball', 23);
-INSERT INTO "order" (id, description, customer_id) VALUES (6291, 'Refined Frozen Table', 66);
-INSERT INTO "order" (id, description, customer_id) VALUES (6292, 'Ergonomic Concrete Keyboard', 98);
-INSERT INTO "order" (id, description, customer_id) VALUES (6293, 'Recycled Bronze Cheese', 91);
-INSERT INTO "order" (id, description, customer_id) VALUES (6294, 'Practical Bronze Mouse', 62);
-INSERT INTO "order" (id, description, customer_id) VALUES (6295, 'Recycled Steel Keyboard', 79);
-INSERT INTO "order" (id, description, customer_id) VALUES (6296, 'Small Granite Keyboard', 29);
-INSERT INTO "order" (id, description, customer_id) VALUES (6297, 'Modern Rubber Bacon', 26);
-INSERT INTO "order" (id, description, customer_id) VALUES (6298, 'Recycled Plastic Tuna', 57);
-INSERT INTO "order" (id, description, customer_id) VALUES (6299, 'Awesome Metal Chicken', 78);
-INSERT INTO "order" (id, description, customer_id) VALUES (6300, 'Awesome Bronze Pizza', 48);
-INSERT INTO "order" (id, description, customer_id) VALUES (6301, 'Small Wooden Computer', 73);
-INSERT INTO "order" (id, description, customer_id) VALUES (6302, 'Licensed Cotton Keyboard', 56);
-INSERT INTO "order" (id, description, customer_id) VALUES (6303, 'Incredible Cotton Tuna', 82);
-INSERT INTO "order" (id, description, customer_id) VALUES (6304, 'Bespoke Frozen Sausages', 29);
-INSERT INTO "order" (id, description, customer_id) VALUES (6305, 'Refined Metal Bike', 93);
-INSERT INTO "order" (id, description, customer_id) VALUES (6306, 'Intelligent Plastic Tuna', 35);
-INSERT INTO "order" (id, description, customer_id) VALUES (6307, 'Handcrafted Granite Chips', 83);
-INSERT INTO "order" (id, description, customer_id) VALUES (6308, 'Ergonomic Soft Shirt', 40);
-INSERT INTO "order" (id, description, customer_id) VALUES (6309, 'Ergonomic Plastic Salad', 48);
-INSERT INTO "order" (id, description, customer_id) VALUES (6310, 'Recycled Granite Keyboard', 10);
-INSERT INTO "order" (id, description, customer_id) VALUES (6311, 'Modern Fresh Pants', 40);
-INSERT INTO "order" (id, description, customer_id) VALUES (6312, 'Small Metal Computer', 72);
-INSERT INTO "order" (id, description, customer_id) VALUES (6313, 'Luxurious Soft Chicken', 39);
-INSERT INTO "order" (id, description, customer_id) VALUES (6314, 'Luxurious Soft Ball', 66);
-INSERT INTO "order" (id, description, customer_id) VALUES (6315, 'Awesome Bronze Mouse', 100);
-INSERT INTO "order" (id, description, customer_id) VALUES (6316, 'Handmade Granite Sausages', 79);
-INSERT INTO "order" (id, description, customer_id) VALUES (6317, 'Oriental Plastic Keyboard', 74);
-INSERT INTO "order" (id, description, customer_id) VALUES (6318, 'Luxurious Frozen Chips', 42);
-INSERT INTO "order" (id, description, customer_id) VALUES (6319, 'Fantastic Fresh Sausages', 79);
-INSERT INTO "order" (id, description, customer_id) VALUES (6320, 'Luxurious Bronze Pants', 27);
-INSERT INTO "order" (id, description, customer_id) VALUES (6321, 'Elegant Steel Ball', 75);
-INSERT INTO "order" (id, description, customer_id) VALUES (6322, 'Refined Wooden Mouse', 21);
-INSERT INTO "order" (id, description, customer_id) VALUES (6323, 'Modern Fresh Chips', 53);
-INSERT INTO "order" (id, description, customer_id) VALUES (6324, 'Intelligent Steel Bike', 36);
-INSERT INTO "order" (id, description, customer_id) VALUES (6325, 'Refined Granite Pizza', 46);
-INSERT INTO "order" (id, description, customer_id) VALUES (6326, 'Unbranded Cotton Gloves', 85);
-INSERT INTO "order" (id, description, customer_id) VALUES (6327, 'Practical Cotton Tuna', 55);
-INSERT INTO "order" (id, description, customer_id) VALUES (6328, 'Fantastic Cotton Car', 5);
-INSERT INTO "order" (id, description, customer_id) VALUES (6329, 'Refined Rubber Bike', 32);
-INSERT INTO "order" (id, description, customer_id) VALUES (6330, 'Recycled Frozen Shoes', 95);
-INSERT INTO "order" (id, description, customer_id) VALUES (6331, 'Incredible Plastic Table', 76);
-INSERT INTO "order" (id, description, customer_id) VALUES (6332, 'Oriental Fresh Bacon', 53);
-INSERT INTO "order" (id, description, customer_id) VALUES (6333, 'Awesome Fresh Mouse', 32);
-INSERT INTO "order" (id, description, customer_id) VALUES (6334, 'Oriental Frozen Shoes', 92);
-INSERT INTO "order" (id, description, customer_id) VALUES (6335, 'Modern Wooden Bike', 97);
-INSERT INTO "order" (id, description, customer_id) VALUES (6336, 'Handmade Fresh Keyboard', 62);
-INSERT INTO "order" (id, description, customer_id) VALUES (6337, 'Unbranded Rubber Shirt', 32);
-INSERT INTO "order" (id, description, customer_id) VALUES (6338, 'Oriental Steel Pizza', 7);
-INSERT INTO "order" (id, description, customer_id) VALUES (6339, 'Unbranded Concrete Bike', 99);
-INSERT INTO "order" (id, description, customer_id) VALUES (6340, 'Oriental Plastic Table', 31);
-INSERT INTO "order" (id, description, customer_id) VALUES (6341, 'Bespoke Metal Mouse', 24);
-INSERT INTO "order" (id, description, customer_id) VALUES (6342, 'Rustic Steel Pants', 79);
-INSERT INTO "order" (id, description, customer_id) VALUES (6343, 'Refined Cotton Sausages', 18);
-INSERT INTO "order" (id, description, customer_id) VALUES (6344, 'Gorgeous Fresh Chair', 43);
-INSERT INTO "order" (id, description, customer_id) VALUES (6345, 'Elegant Concrete Mouse', 3);
-INSERT INTO "order" (id, description, customer_id) VALUES (6346, 'Handcrafted Steel Chair', 78);
-INSERT INTO "order" (id, description, customer_id) VALUES (6347, 'Practical Metal Keyboard', 71);
-INSERT INTO "order" (id, description, customer_id) VALUES (6348, 'Handmade Granite Car', 6);
-INSERT INTO "order" (id, description, customer_id) VALUES (6349, 'Electronic Granite Pants', 42);
-INSERT INTO "order" (id, description, customer_id) VALUES (6350, 'Luxurious Cotton Chips', 4);
-INSERT INTO "order" (id, description, customer_id) VALUES (6351, 'Modern Steel Car', 25);
-INSERT INTO "order" (id, description, customer_id) VALUES (6352, 'Sleek Rubber Tuna', 27);
-INSERT INTO "order" (id, description, customer_id) VALUES (6353, 'Fantastic Bronze Chips', 45);
-INSERT INTO "order" (id, description, customer_id) VALUES (6354, 'Refined Wooden Pizza', 98);
-INSERT INTO "order" (id, description, customer_id) VALUES (6355, 'Handcrafted Rubber Hat', 47);
-INSERT INTO "order" (id, description, customer_id) VALUES (6356, 'Luxurious Wooden Cheese', 10);
-INSERT INTO "order" (id, description, customer_id) VALUES (6357, 'Fantastic Frozen Keyboard', 84);
-INSERT INTO "order" (id, description, customer_id) VALUES (6358, 'Incredible Frozen Tuna', 5);
-INSERT INTO "order" (id, description, customer_id) VALUES (6359, 'Handmade Frozen Pizza', 69);
-INSERT INTO "order" (id, description, customer_id) VALUES (6360, 'Ergonomic Cotton Bike', 29);
-INSERT INTO "order" (id, description, customer_id) VALUES (6361, 'Bespoke Steel Shirt', 24);
-INSERT INTO "order" (id, description, customer_id) VALUES (6362, 'Handmade Metal Keyboard', 33);
-INSERT INTO "order" (id, description, customer_id) VALUES (6363, 'Sleek Cotton Shirt', 94);
-INSERT INTO "order" (id, description, customer_id) VALUES (6364, 'Incredible Concrete Car', 94);
-INSERT INTO "order" (id, description, customer_id) VALUES (6365, 'Luxurious Granite Chair', 17);
-INSERT INTO "order" (id, description, customer_id) VALUES (6366, 'Awesome Bronze Chips', 66);
-INSERT INTO "order" (id, description, customer_id) VALUES (6367, 'Small Rubber Tuna', 10);
-INSERT INTO "order" (id, description, customer_id) VALUES (6368, 'Intelligent Bronze Bacon', 3);
-INSERT INTO "order" (id, description, customer_id) VALUES (6369, 'Intelligent Plastic Sausages', 89);
-INSERT INTO "order" (id, description, customer_id) VALUES (6370, 'Electronic Frozen Mouse', 52);
-INSERT INTO "order" (id, description, customer_id) VALUES (6371, 'Oriental Fresh Tuna', 67);
-INSERT INTO "order" (id, description, customer_id) VALUES (6372, 'Small Steel Cheese', 32);
-INSERT INTO "order" (id, description, customer_id) VALUES (6373, 'Incredible Cotton Bike', 3);
-INSERT INTO "order" (id, description, customer_id) VALUES (6374, 'Generic Bronze Tuna', 43);
-INSERT INTO "order" (id, description, customer_id) VALUES (6375, 'Handmade Concrete Chips', 1);
-INSERT INTO "order" (id, description, customer_id) VALUES (6376, 'Sleek Concrete Computer', 4);
-INSERT INTO "order" (id, description, customer_id) VALUES (6377, 'Fantastic Rubber Tuna', 27);
-INSERT INTO "order" (id, description, customer_id) VALUES (6378, 'Fantastic Steel Tuna', 70);
-INSERT INTO "order" (id, description, customer_id) VALUES (6379, 'Fantastic Fresh Keyboard', 32);
-INSERT INTO "order" (id, description, customer_id) VALUES (6380, 'Electronic Fresh Shoes', 62);
-INSERT INTO "order" (id, description, customer_id) VALUES (6381, 'Intelligent Frozen Cheese', 3);
-INSERT INTO "order" (id, description, customer_id) VALUES (6382, 'Electronic Plastic Chicken', 76);
-INSERT INTO "order" (id, description, customer_id) VALUES (6383, 'Luxurious Concrete Chips', 8);
-INSERT INTO "order" (id, description, customer_id) VALUES (6384, 'Modern Rubber Pants', 63);
-INSERT INTO "order" (id, description, customer_id) VALUES (6385, 'Electronic Frozen Car', 47);
-INSERT INTO "order" (id, description, customer_id) VALUES (6386, 'Oriental Rubber Table', 32);
-INSERT INTO "order" (id, description, customer_id) VALUES (6387, 'Modern Frozen Gloves', 94);
-INSERT INTO "order" (id, description, customer_id) VALUES (6388, 'Oriental Wooden Shoes', 52);
-INSERT INTO "order" (id, description, customer_id) VALUES (6389, 'Bespoke Wooden Soap', 52);
-INSERT INTO "order" (id, description, customer_id) VALUES (6390, 'Intelligent Fresh Towels', 91);
-INSERT INTO "order" (id, description, customer_id) VALUES (6391, 'Awesome Wooden Chicken', 97);
-INSERT INTO "order" (id, description, customer_id) VALUES (6392, 'Refined Granite Ball', 68);
-INSERT INTO "order" (id, description, customer_id) VALUES (6393, 'Elegant Bronze Gloves', 19);
-INSERT INTO "order" (id, description, customer_id) VALUES (6394, 'Bespoke Frozen Fish', 45);
-INSERT INTO "order" (id, description, customer_id) VALUES (6395, 'Gorgeous Soft Fish', 79);
-INSERT INTO "order" (id, description, customer_id) VALUES (6396, 'Generic Soft Towels', 14);
-INSERT INTO "order" (id, description, customer_id) VALUES (6397, 'Rustic Granite Mouse', 18);
-INSERT INTO "order" (id, description, customer_id) VALUES (6398, 'Recycled Wooden Computer', 3);
-INSERT INTO "order" (id, description, customer_id) VALUES (6399, 'Small Fresh Fish', 7);
-INSERT INTO "order" (id, description, customer_id) VALUES (6400, 'Bespoke Bronze Sausages', 87);
-INSERT INTO "order" (id, description, customer_id) VALUES (6401, 'Elegant Metal Sausages', 2);
-INSERT INTO "order" (id, description, customer_id) VALUES (6402, 'Licensed Frozen Car', 56);
-INSERT INTO "order" (id, description, customer_id) VALUES (6403, 'Intelligent Steel Cheese', 34);
-INSERT INTO "order" (id, description, customer_id) VALUES (6404, 'Modern Soft Fish', 66);
-INSERT INTO "order" (id, description, customer_id) VALUES (6405, 'Fantastic Metal Chair', 91);
-INSERT INTO "order" (id, description, customer_id) VALUES (6406, 'Refined Soft Mouse', 78);
-INSERT INTO "order" (id, description, customer_id) VALUES (6407, 'Fantastic Fresh Bacon', 69);
-INSERT INTO "order" (id, description, customer_id) VALUES (6408, 'Awesome Plastic Salad', 59);
-INSERT INTO "order" (id, description, customer_id) VALUES (6409, 'Recycled Concrete Keyboard', 89);
-INSERT INTO "order" (id, description, customer_id) VALUES (6410, 'Refined Granite Chicken', 66);
-INSERT INTO "order" (id, description, customer_id) VALUES (6411, 'Gorgeous Plastic Keyboard', 65);
-INSERT INTO "order" (id, description, customer_id) VALUES (6412, 'Awesome Fresh Soap', 19);
-INSERT INTO "order" (id, description, customer_id) VALUES (6413, 'Refined Metal Computer', 31);
-INSERT INTO "order" (id, description, customer_id) VALUES (6414, 'Incredible Granite Tuna', 98);
-INSERT INTO "order" (id, description, customer_id) VALUES (6415, 'Generic Bronze Shoes', 87);
-INSERT INTO "order" (id, description, customer_id) VALUES (6416, 'Elegant Steel Shoes', 32);
-INSERT INTO "order" (id, description, customer_id) VALUES (6417, 'Modern Fresh Bacon', 70);
-INSERT INTO "order" (id, description, customer_id) VALUES (6418, 'Elegant Rubber Ball', 69);
-INSERT INTO "order" (id, description, customer_id) VALUES (6419, 'Tasty Rubber Mouse', 83);
-INSERT INTO "order" (id, description, customer_id) VALUES (6420, 'Gorgeous Fresh Soap', 5);
-INSERT INTO "order" (id, description, customer_id) VALUES (6421, 'Awesome Granite Fish', 3);
-INSERT INTO "order" (id, description, customer_id) VALUES (6422, 'Modern Cotton Gloves', 39);
-INSERT INTO "order" (id, description, customer_id) VALUES (6423, 'Practical Frozen Sausages', 70);
-INSERT INTO "order" (id, description, customer_id) VALUES (6424, 'Handmade Rubber Chips', 19);
-INSERT INTO "order" (id, description, customer_id) VALUES (6425, 'Elegant Frozen Sausages', 64);
-INSERT INTO "order" (id, description, customer_id) VALUES (6426, 'Electronic Cotton Hat', 20);
-INSERT INTO "order" (id, description, customer_id) VALUES (6427, 'Bespoke Cotton Chicken', 45);
-INSERT INTO "order" (id, description, customer_id) VALUES (6428, 'Handcrafted Rubber Shoes', 82);
-INSERT INTO "order" (id, description, customer_id) VALUES (6429, 'Bespoke Plastic Gloves', 95);
-INSERT INTO "order" (id, description, customer_id) VALUES (6430, 'Unbranded Fresh Car', 31);
-INSERT INTO "order" (id, description, customer_id) VALUES (6431, 'Licensed Concrete Shirt', 28);
-INSERT INTO "order" (id, description, customer_id) VALUES (6432, 'Electronic Cotton Shirt', 15);
-INSERT INTO "order" (id, description, customer_id) VALUES (6433, 'Unbranded Fresh Shoes', 58);
-INSERT INTO "order" (id, description, customer_id) VALUES (6434, 'Tasty Wooden Hat', 78);
-INSERT INTO "order" (id, description, customer_id) VALUES (6435, 'Rustic Fresh Chicken', 9);
-INSERT INTO "order" (id, description, customer_id) VALUES (6436, 'Elegant Fresh Salad', 62);
-INSERT INTO "order" (id, description, customer_id) VALUES (6437, 'Unbranded Plastic Shoes', 43);
-INSERT INTO "order" (id, description, customer_id) VALUES (6438, 'Fantastic Steel Gloves', 94);
-INSERT INTO "order" (id, description, customer_id) VALUES (6439, 'Tasty Granite Fish', 13);
-INSERT INTO "order" (id, description, customer_id) VALUES (6440, 'Licensed Wooden Keyboard', 5);
-INSERT INTO "order" (id, description, customer_id) VALUES (6441, 'Incredible Soft Sausages', 5);
-INSERT INTO "order" (id, description, customer_id) VALUES (6442, 'Oriental Rubber Gloves', 30);
-INSERT INTO "order" (id, description, customer_id) VALUES (6443, 'Gorgeous Wooden Tuna', 81);
-INSERT INTO "order" (id, description, customer_id) VALUES (6444, 'Ergonomic Soft Sausages', 76);
-INSERT INTO "order" (id, description, customer_id) VALUES (6445, 'Generic Concrete Hat', 6);
-INSERT INTO "order" (id, description, customer_id) VALUES (6446, 'Ergonomic Concrete Hat', 100);
-INSERT INTO "order" (id, description, customer_id) VALUES (6447, 'Awesome Metal Mouse', 44);
-INSERT INTO "order" (id, description, customer_id) VALUES (6448, 'Incredible Concrete Tuna', 8);
-INSERT INTO "order" (id, description, customer_id) VALUES (6449, 'Awesome Frozen Pizza', 16);
-INSERT INTO "order" (id, description, customer_id) VALUES (6450, 'Generic Bronze Computer', 11);
-INSERT INTO "order" (id, description, customer_id) VALUES (6451, 'Unbranded Wooden Mouse', 88);
-INSERT INTO "order" (id, description, customer_id) VALUES (6452, 'Handcrafted Cotton Cheese', 79);
-INSERT INTO "order" (id, description, customer_id) VALUES (6453, 'Refined Frozen Chicken', 28);
-INSERT INTO "order" (id, description, customer_id) VALUES (6454, 'Intelligent Fresh Tuna', 28);
-INSERT INTO "order" (id, description, customer_id) VALUES (6455, 'Recycled Plastic Computer', 59);
-INSERT INTO "order" (id, description, customer_id) VALUES (6456, 'Oriental Plastic Chicken', 89);
-INSERT INTO "order" (id, description, customer_id) VALUES (6457, 'Gorgeous Frozen Shirt', 97);
-INSERT INTO "order" (id, description, customer_id) VALUES (6458, 'Incredible Cotton Keyboard', 20);
-INSERT INTO "order" (id, description, customer_id) VALUES (6459, 'Fantastic Cotton Pants', 57);
-INSERT INTO "order" (id, description, customer_id) VALUES (6460, 'Recycled Steel Tuna', 89);
-INSERT INTO "order" (id, description, customer_id) VALUES (6461, 'Awesome Bronze Shirt', 57);
-INSERT INTO "order" (id, description, customer_id) VALUES (6462, 'Intelligent Granite Car', 86);
-INSERT INTO "order" (id, description, customer_id) VALUES (6463, 'Electronic Fresh Ball', 83);
-INSERT INTO "order" (id, description, customer_id) VALUES (6464, 'Handmade Bronze Towels', 32);
-INSERT INTO "order" (id, description, customer_id) VALUES (6465, 'Recycled Metal Pizza', 43);
-INSERT INTO "order" (id, description, customer_id) VALUES (6466, 'Recycled Steel Shoes', 99);
-INSERT INTO "order" (id, description, customer_id) VALUES (6467, 'Luxurious Granite Bacon', 1);
-INSERT INTO "order" (id, description, customer_id) VALUES (6468, 'Luxurious Soft Salad', 60);
-INSERT INTO "order" (id, description, customer_id) VALUES (6469, 'Fantastic Frozen Tuna', 34);
-INSERT INTO "order" (id, description, customer_id) VALUES (6470, 'Awesome Metal Pants', 2);
-INSERT INTO "order" (id, description, customer_id) VALUES (6471, 'Intelligent Metal Bacon', 35);
-INSERT INTO "order" (id, description, customer_id) VALUES (6472, 'Rustic Granite Pizza', 24);
-INSERT INTO "order" (id, description, customer_id) VALUES (6473, 'Gorgeous Fresh Car', 8);
-INSERT INTO "order" (id, description, customer_id) VALUES (6474, 'Intelligent Frozen Soap', 12);
-INSERT INTO "order" (id, description, customer_id) VALUES (6475, 'Unbranded Fresh Chips', 43);
-INSERT INTO "order" (id, description, customer_id) VALUES (6476, 'Generic Steel Computer', 14);
-INSERT INTO "order" (id, description, customer_id) VALUES (6477, 'Recycled Metal Bacon', 68);
-INSERT INTO "order" (id, description, customer_id) VALUES (6478, 'Incredible Fresh Bike', 49);
-INSERT INTO "order" (id, description, customer_id) VALUES (6479, 'Licensed Cotton Hat', 27);
-INSERT INTO "order" (id, description, customer_id) VALUES (6480, 'Handcrafted Bronze Computer', 90);
-INSERT INTO "order" (id, description, customer_id) VALUES (6481, 'Fantastic Bronze Car', 87);
-INSERT INTO "order" (id, description, customer_id) VALUES (6482, 'Bespoke Steel Table', 36);
-INSERT INTO "order" (id, description, customer_id) VALUES (6483, 'Modern Concrete Pizza', 48);
-INSERT INTO "order" (id, description, customer_id) VALUES (6484, 'Elegant Plastic Salad', 70);
-INSERT INTO "order" (id, description, customer_id) VALUES (6485, 'Oriental Granite Chips', 8);
-INSERT INTO "order" (id, description, customer_id) VALUES (6486, 'Small Concrete Keyboard', 15);
-INSERT INTO "order" (id, description, customer_id) VALUES (6487, 'Bespoke Concrete Computer', 86);
-INSERT INTO "order" (id, description, customer_id) VALUES (6488, 'Small Frozen Bike', 15);
-INSERT INTO "order" (id, description, customer_id) VALUES (6489, 'Handcrafted Fresh Sausages', 80);
-INSERT INTO "order" (id, description, customer_id) VALUES (6490, 'Awesome Soft Mouse', 85);
-INSERT INTO "order" (id, description, customer_id) VALUES (6491, 'Intelligent Bronze Bike', 81);
-INSERT INTO "order" (id, description, customer_id) VALUES (6492, 'Small Soft Ball', 40);
-INSERT INTO "order" (id, description, customer_id) VALUES (6493, 'Tasty Granite Shoes', 67);
-INSERT INTO "order" (id, description, customer_id) VALUES (6494, 'Awesome Concrete Soap', 64);
-INSERT INTO "order" (id, description, customer_id) VALUES (6495, 'Elegant Wooden Soap', 27);
-INSERT INTO "order" (id, description, customer_id) VALUES (6496, 'Sleek Soft Table', 36);
-INSERT INTO "order" (id, description, customer_id) VALUES (6497, 'Modern Steel Fish', 53);
-INSERT INTO "order" (id, description, customer_id) VALUES (6498, 'Small Wooden Bike', 13);
-INSERT INTO "order" (id, description, customer_id) VALUES (6499, 'Small Metal Pants', 9);
-INSERT INTO "order" (id, description, customer_id) VALUES (6500, 'Intelligent Steel Towels', 76);
-INSERT INTO "order" (id, description, customer_id) VALUES (6501, 'Electronic Concrete Tuna', 79);
-INSERT INTO "order" (id, description, customer_id) VALUES (6502, 'Ergonomic Soft Keyboard', 69);
-INSERT INTO "order" (id, description, customer_id) VALUES (6503, 'Oriental Rubber Towels', 32);
-INSERT INTO "order" (id, description, customer_id) VALUES (6504, 'Oriental Frozen Sausages', 83);
-INSERT INTO "order" (id, description, customer_id) VALUES (6505, 'Fantastic Wooden Ball', 77);
-INSERT INTO "order" (id, description, customer_id) VALUES (6506, 'Handmade Wooden Soap', 70);
-INSERT INTO "order" (id, description, customer_id) VALUES (6507, 'Sleek Steel Bacon', 69);
-INSERT INTO "order" (id, description, customer_id) VALUES (6508, 'Awesome Frozen Bike', 77);
-INSERT INTO "order" (id, description, customer_id) VALUES (6509, 'Awesome Steel Pizza', 65);
-INSERT INTO "order" (id, description, customer_id) VALUES (6510, 'Luxurious Plastic Keyboard', 68);
-INSERT INTO "order" (id, description, customer_id) VALUES (6511, 'Bespoke Plastic Gloves', 89);
-INSERT INTO "order" (id, description, customer_id) VALUES (6512, 'Bespoke Metal Shirt', 6);
-INSERT INTO "order" (id, description, customer_id) VALUES (6513, 'Generic Fresh Tuna', 60);
-INSERT INTO "order" (id, description, customer_id) VALUES (6514, 'Modern Concrete Salad', 23);
-INSERT INTO "order" (id, description, customer_id) VALUES (6515, 'Unbranded Rubber Cheese', 38);
-INSERT INTO "order" (id, description, customer_id) VALUES (6516, 'Unbranded Wooden Fish', 70);
-INSERT INTO "order" (id, description, customer_id) VALUES (6517, 'Handcrafted Fresh Soap', 97);
-INSERT INTO "order" (id, description, customer_id) VALUES (6518, 'Modern Bronze Table', 52);
-INSERT INTO "order" (id, description, customer_id) VALUES (6519, 'Practical Soft Hat', 98);
-INSERT INTO "order" (id, description, customer_id) VALUES (6520, 'Gorgeous Frozen Hat', 23);
-INSERT INTO "order" (id, description, customer_id) VALUES (6521, 'Sleek Concrete Keyboard', 85);
-INSERT INTO "order" (id, description, customer_id) VALUES (6522, 'Fantastic Rubber Car', 70);
-INSERT INTO "order" (id, description, customer_id) VALUES (6523, 'Fantastic Cotton Car', 92);
-INSERT INTO "order" (id, description, customer_id) VALUES (6524, 'Tasty Cotton Table', 80);
-INSERT INTO "order" (id, description, customer_id) VALUES (6525, 'Elegant Plastic Cheese', 52);
-INSERT INTO "order" (id, description, customer_id) VALUES (6526, 'Recycled Steel Soap', 12);
-INSERT INTO "order" (id, description, customer_id) VALUES (6527, 'Sleek Rubber Bacon', 37);
-INSERT INTO "order" (id, description, customer_id) VALUES (6528, 'Handcrafted Frozen Bike', 57);
-INSERT INTO "order" (id, description, customer_id) VALUES (6529, 'Licensed Frozen Chicken', 45);
-INSERT INTO "order" (id, description, customer_id) VALUES (6530, 'Intelligent Metal Towels', 59);
-INSERT INTO "order" (id, description, customer_id) VALUES (6531, 'Small Granite Gloves', 78);
-INSERT INTO "order" (id, description, customer_id) VALUES (6532, 'Handmade Wooden Mouse', 32);
-INSERT INTO "order" (id, description, customer_id) VALUES (6533, 'Licensed Bronze Ball', 41);
-INSERT INTO "order" (id, description, customer_id) VALUES (6534, 'Ergonomic Soft Fish', 57);
-INSERT INTO "order" (id, description, customer_id) VALUES (6535, 'Elegant Steel Pants', 59);
-INSERT INTO "order" (id, description, customer_id) VALUES (6536, 'Recycled Plastic Gloves', 74);
-INSERT INTO "order" (id, description, customer_id) VALUES (6537, 'Incredible Cotton Shirt', 73);
-INSERT INTO "order" (id, description, customer_id) VALUES (6538, 'Generic Cotton Computer', 19);
-INSERT INTO "order" (id, description, customer_id) VALUES (6539, 'Intelligent Soft Gloves', 72);
-INSERT INTO "order" (id, description, customer_id) VALUES (6540, 'Electronic Concrete Bacon', 53);
-INSERT INTO "order" (id, description, customer_id) VALUES (6541, 'Incredible Concrete Shirt', 67);
-INSERT INTO "order" (id, description, customer_id) VALUES (6542, 'Unbranded Rubber Pizza', 46);
-INSERT INTO "order" (id, description, customer_id) VALUES (6543, 'Oriental Granite Car', 2);
-INSERT INTO "order" (id, description, customer_id) VALUES (6544, 'Unbranded Rubber Shirt', 87);
-INSERT INTO "order" (id, description, customer_id) VALUES (6545, 'Recycled Concrete Mouse', 96);
-INSERT INTO "order" (id, description, customer_id) VALUES (6546, 'Rustic Bronze Mouse', 2);
-INSERT INTO "order" (id, description, customer_id) VALUES (6547, 'Modern Steel Gloves', 92);
-INSERT INTO "order" (id, description, customer_id) VALUES (6548, 'Licensed Rubber Tuna', 92);
-INSERT INTO "order" (id, description, customer_id) VALUES (6549, 'Handcrafted Metal Car', 98);
-INSERT INTO "order" (id, description, customer_id) VALUES (6550, 'Modern Cotton Car', 5);
-INSERT INTO "order" (id, description, customer_id) VALUES (6551, 'Handmade Wooden Pizza', 98);
-INSERT INTO "order" (id, description, customer_id) VALUES (6552, 'Recycled Frozen Tuna', 32);
-INSERT INTO "order" (id, description, customer_id) VALUES (6553, 'Handcrafted Fresh Mouse', 63);
-INSERT INTO "order" (id, description, customer_id) VALUES (6554, 'Elegant Fresh Salad', 20);
-INSERT INTO "order" (id, description, customer_id) VALUES (6555, 'Generic Steel Pizza', 45);
-INSERT INTO "order" (id, description, customer_id) VALUES (6556, 'Ergonomic Concrete Sausages', 70);
-INSERT INTO "order" (id, description, customer_id) VALUES (6557, 'Recycled Plastic Bike', 62);
-INSERT INTO "order" (id, description, customer_id) VALUES (6558, 'Sleek Concrete Ball', 33);
-INSERT INTO "order" (id, description, customer_id) VALUES (6559, 'Rustic Rubber Towels', 80);
-INSERT INTO "order" (id, description, customer_id) VALUES (6560, 'Electronic Steel Soap', 58);
-INSERT INTO "order" (id, description, customer_id) VALUES (6561, 'Handcrafted Concrete Hat', 54);
-INSERT INTO "order" (id, description, customer_id) VALUES (6562, 'Refined Frozen Shirt', 19);
-INSERT INTO "order" (id, description, customer_id) VALUES (6563, 'Electronic Bronze Mouse', 71);
-INSERT INTO "order" (id, description, customer_id) VALUES (6564, 'Incredible Wooden Chips', 98);
-INSERT INTO "order" (id, description, customer_id) VALUES (6565, 'Rustic Wooden Chair', 84);
-INSERT INTO "order" (id, description, customer_id) VALUES (6566, 'Generic Fresh Fish', 31);
-INSERT INTO "order" (id, description, customer_id) VALUES (6567, 'Intelligent Bronze Fish', 1);
-INSERT INTO "order" (id, description, customer_id) VALUES (6568, 'Rustic Plastic Towels', 19);
-INSERT INTO "order" (id, description, customer_id) VALUES (6569, 'Bespoke Rubber Pants', 79);
-INSERT INTO "order" (id, description, customer_id) VALUES (6570, 'Electronic Soft Hat', 79);
-INSERT INTO "order" (id, description, customer_id) VALUES (6571, 'Electronic Granite Computer', 1);
-INSERT INTO "order" (id, description, customer_id) VALUES (6572, 'Practical Plastic Pants', 43);
-INSERT INTO "order" (id, description, customer_id) VALUES (6573, 'Intelligent Concrete Chair', 54);
-INSERT INTO "order" (id, description, customer_id) VALUES (6574, 'Handcrafted Steel Car', 65);
-INSERT INTO "order" (id, description, customer_id) VALUES (6575, 'Incredible Metal Pants', 43);
-INSERT INTO "order" (id, description, customer_id) VALUES (6576, 'Intelligent Wooden Computer', 23);
-INSERT INTO "order" (id, description, customer_id) VALUES (6577, 'Bespoke Fresh Chips', 3);
-INSERT INTO "order" (id, description, customer_id) VALUES (6578, 'Bespoke Rubber Pants', 53);
-INSERT INTO "order" (id, description, customer_id) VALUES (6579, 'Ergonomic Plastic Chair', 2);
-INSERT INTO "order" (id, description, customer_id) VALUES (6580, 'Recycled Wooden Gloves', 35);
-INSERT INTO "order" (id, description, customer_id) VALUES (6581, 'Practical Frozen Chicken', 22);
-INSERT INTO "order" (id, description, customer_id) VALUES (6582, 'Generic Soft Towels', 73);
-INSERT INTO "order" (id, description, customer_id) VALUES (6583, 'Fantastic Plastic Towels', 90);
-INSERT INTO "order" (id, description, customer_id) VALUES (6584, 'Bespoke Metal Cheese', 2);
-INSERT INTO "order" (id, description, customer_id) VALUES (6585, 'Recycled Fresh Chips', 91);
-INSERT INTO "order" (id, description, customer_id) VALUES (6586, 'Sleek Steel Soap', 77);
-INSERT INTO "order" (id, description, customer_id) VALUES (6587, 'Oriental Wooden Chair', 82);
-INSERT INTO "order" (id, description, customer_id) VALUES (6588, 'Small Concrete Mouse', 53);
-INSERT INTO "order" (id, description, customer_id) VALUES (6589, 'Recycled Fresh Salad', 29);
-INSERT INTO "order" (id, description, customer_id) VALUES (6590, 'Electronic Rubber Cheese', 82);
-INSERT INTO "order" (id, description, customer_id) VALUES (6591, 'Generic Wooden Ball', 99);
-INSERT INTO "order" (id, description, customer_id) VALUES (6592, 'Luxurious Rubber Mouse', 100);
-INSERT INTO "order" (id, description, customer_id) VALUES (6593, 'Handcrafted Soft Bacon', 72);
-INSERT INTO "order" (id, description, customer_id) VALUES (6594, 'Handcrafted Wooden Tuna', 25);
-INSERT INTO "order" (id, description, customer_id) VALUES (6595, 'Intelligent Steel Tuna', 46);
-INSERT INTO "order" (id, description, customer_id) VALUES (6596, 'Electronic Granite Keyboard', 9);
-INSERT INTO "order" (id, description, customer_id) VALUES (6597, 'Handmade Bronze Pizza', 34);
-INSERT INTO "order" (id, description, customer_id) VALUES (6598, 'Unbranded Soft Table', 16);
-INSERT INTO "order" (id, description, customer_id) VALUES (6599, 'Fantastic Plastic Keyboard', 2);
-INSERT INTO "order" (id, description, customer_id) VALUES (6600, 'Refined Wooden Keyboard', 95);
-INSERT INTO "order" (id, description, customer_id) VALUES (6601, 'Licensed Fresh Pizza', 100);
-INSERT INTO "order" (id, description, customer_id) VALUES (6602, 'Intelligent Metal Shoes', 96);
-INSERT INTO "order" (id, description, customer_id) VALUES (6603, 'Practical Soft Pants', 23);
-INSERT INTO "order" (id, description, customer_id) VALUES (6604, 'Licensed Soft Chips', 52);
-INSERT INTO "order" (id, description, customer_id) VALUES (6605, 'Incredible Steel Keyboard', 86);
-INSERT INTO "order" (id, description, customer_id) VALUES (6606, 'Generic Frozen Car', 65);
-INSERT INTO "order" (id, description, customer_id) VALUES (6607, 'Licensed Cotton Sausages', 68);
-INSERT INTO "order" (id, description, customer_id) VALUES (6608, 'Handmade Granite Pants', 66);
-INSERT INTO "order" (id, description, customer_id) VALUES (6609, 'Intelligent Frozen Pizza', 20);
-INSERT INTO "order" (id, description, customer_id) VALUES (6610, 'Electronic Soft Shirt', 6);
-INSERT INTO "order" (id, description, customer_id) VALUES (6611, 'Bespoke Rubber Shirt', 7);
-INSERT INTO "order" (id, description, customer_id) VALUES (6612, 'Gorgeous Fresh Chips', 41);
-INSERT INTO "order" (id, description, customer_id) VALUES (6613, 'Electronic Soft Salad', 75);
-INSERT INTO "order" (id, description, customer_id) VALUES (6614, 'Elegant Concrete Pants', 85);
-INSERT INTO "order" (id, description, customer_id) VALUES (6615, 'Fantastic Granite Chicken', 38);
-INSERT INTO "order" (id, description, customer_id) VALUES (6616, 'Electronic Frozen Sausages', 85);
-INSERT INTO "order" (id, description, customer_id) VALUES (6617, 'Handcrafted Granite Pants', 83);
-INSERT INTO "order" (id, description, customer_id) VALUES (6618, 'Handmade Concrete Gloves', 40);
-INSERT INTO "order" (id, description, customer_id) VALUES (6619, 'Unbranded Bronze Tuna', 25);
-INSERT INTO "order" (id, description, customer_id) VALUES (6620, 'Oriental Wooden Ball', 42);
-INSERT INTO "order" (id, description, customer_id) VALUES (6621, 'Elegant Concrete Tuna', 2);
-INSERT INTO "order" (id, description, customer_id) VALUES (6622, 'Intelligent Steel Computer', 22);
-INSERT INTO "order" (id, description, customer_id) VALUES (6623, 'Bespoke Steel Bacon', 29);
-INSERT INTO "order" (id, description, customer_id) VALUES (6624, 'Gorgeous Granite Hat', 47);
-INSERT INTO "order" (id, description, customer_id) VALUES (6625, 'Recycled Cotton Cheese', 59);
-INSERT INTO "order" (id, description, customer_id) VALUES (6626, 'Elegant Granite Tuna', 16);
-INSERT INTO "order" (id, description, customer_id) VALUES (6627, 'Handmade Rubber Tuna', 97);
-INSERT INTO "order" (id, description, customer_id) VALUES (6628, 'Practical Soft Sausages', 100);
-INSERT INTO "order" (id, description, customer_id) VALUES (6629, 'Sleek Cotton Gloves', 30);
-INSERT INTO "order" (id, description, customer_id) VALUES (6630, 'Handmade Concrete Salad', 81);
-INSERT INTO "order" (id, description, customer_id) VALUES (6631, 'Handcrafted Steel Mouse', 54);
-INSERT INTO "order" (id, description, customer_id) VALUES (6632, 'Licensed Rubber Bacon', 93);
-INSERT INTO "order" (id, description, customer_id) VALUES (6633, 'Modern Rubber Computer', 52);
-INSERT INTO "order" (id, description, customer_id) VALUES (6634, 'Bespoke Bronze Cheese', 39);
-INSERT INTO "order" (id, description, customer_id) VALUES (6635, 'Licensed Bronze Bike', 1);
-INSERT INTO "order" (id, description, customer_id) VALUES (6636, 'Gorgeous Frozen Gloves', 91);
-INSERT INTO "order" (id, description, customer_id) VALUES (6637, 'Recycled Fresh Pants', 54);
-INSERT INTO "order" (id, description, customer_id) VALUES (6638, 'Fantastic Frozen Shoes', 17);
-INSERT INTO "order" (id, description, customer_id) VALUES (6639, 'Licensed Cotton Cheese', 30);
-INSERT INTO "order" (id, description, customer_id) VALUES (6640, 'Generic Bronze Computer', 44);
-INSERT INTO "order" (id, description, customer_id) VALUES (6641, 'Tasty Metal Sausages', 16);
-INSERT INTO "order" (id, description, customer_id) VALUES (6642, 'Incredible Concrete Fish', 34);
-INSERT INTO "order" (id, description, customer_id) VALUES (6643, 'Awesome Fresh Keyboard', 13);
-INSERT INTO "order" (id, description, customer_id) VALUES (6644, 'Modern Granite Soap', 5);
-INSERT INTO "order" (id, description, customer_id) VALUES (6645, 'Intelligent Frozen Table', 47);
-INSERT INTO "order" (id, description, customer_id) VALUES (6646, 'Ergonomic Wooden Shoes', 76);
-INSERT INTO "order" (id, description, customer_id) VALUES (6647, 'Gorgeous Cotton Mouse', 25);
-INSERT INTO "order" (id, description, customer_id) VALUES (6648, 'Refined Metal Table', 8);
-INSERT INTO "order" (id, description, customer_id) VALUES (6649, 'Tasty Steel Tuna', 43);
-INSERT INTO "order" (id, description, customer_id) VALUES (6650, 'Practical Bronze Bacon', 87);
-INSERT INTO "order" (id, description, customer_id) VALUES (6651, 'Small Metal Pizza', 58);
-INSERT INTO "order" (id, description, customer_id) VALUES (6652, 'Unbranded Steel Computer', 26);
-INSERT INTO "order" (id, description, customer_id) VALUES (6653, 'Handcrafted Bronze Sausages', 59);
-INSERT INTO "order" (id, description, customer_id) VALUES (6654, 'Modern Concrete Fish', 29);
-INSERT INTO "order" (id, description, customer_id) VALUES (6655, 'Rustic Fresh Fish', 65);
-INSERT INTO "order" (id, description, customer_id) VALUES (6656, 'Tasty Fresh Chicken', 46);
-INSERT INTO "order" (id, description, customer_id) VALUES (6657, 'Tasty Bronze Gloves', 86);
-INSERT INTO "order" (id, description, customer_id) VALUES (6658, 'Rustic Frozen Ball', 14);
-INSERT INTO "order" (id, description, customer_id) VALUES (6659, 'Ergonomic Bronze Table', 81);
-INSERT INTO "order" (id, description, customer_id) VALUES (6660, 'Handcrafted Bronze Pizza', 80);
-INSERT INTO "order" (id, description, customer_id) VALUES (6661, 'Fantastic Rubber Chips', 87);
-INSERT INTO "order" (id, description, customer_id) VALUES (6662, 'Elegant Metal Chair', 49);
-INSERT INTO "order" (id, description, customer_id) VALUES (6663, 'Generic Soft Chips', 73);
-INSERT INTO "order" (id, description, customer_id) VALUES (6664, 'Sleek Granite Table', 86);
-INSERT INTO "order" (id, description, customer_id) VALUES (6665, 'Refined Granite Bike', 54);
-INSERT INTO "order" (id, description, customer_id) VALUES (6666, 'Fantastic Wooden Computer', 80);
-INSERT INTO "order" (id, description, customer_id) VALUES (6667, 'Gorgeous Soft Tuna', 92);
-INSERT INTO "order" (id, description, customer_id) VALUES (6668, 'Awesome Frozen Chicken', 26);
-INSERT INTO "order" (id, description, customer_id) VALUES (6669, 'Handcrafted Granite Pants', 40);
-INSERT INTO "order" (id, description, customer_id) VALUES (6670, 'Fantastic Cotton Keyboard', 34);
-INSERT INTO "order" (id, description, customer_id) VALUES (6671, 'Handcrafted Plastic Gloves', 3);
-INSERT INTO "order" (id, description, customer_id) VALUES (6672, 'Modern Wooden Salad', 13);
-INSERT INTO "order" (id, description, customer_id) VALUES (6673, 'Handcrafted Frozen Salad', 21);
-INSERT INTO "order" (id, description, customer_id) VALUES (6674, 'Intelligent Concrete Pants', 37);
-INSERT INTO "order" (id, description, customer_id) VALUES (6675, 'Generic Plastic Pants', 34);
-INSERT INTO "order" (id, description, customer_id) VALUES (6676, 'Awesome Granite Chips', 75);
-INSERT INTO "order" (id, description, customer_id) VALUES (6677, 'Practical Granite Bike', 73);
-INSERT INTO "order" (id, description, customer_id) VALUES (6678, 'Ergonomic Steel Gloves', 49);
-INSERT INTO "order" (id, description, customer_id) VALUES (6679, 'Sleek Rubber Salad', 96);
-INSERT INTO "order" (id, description, customer_id) VALUES (6680, 'Generic Frozen Table', 42);
-INSERT INTO "order" (id, description, customer_id) VALUES (6681, 'Awesome Concrete Tuna', 19);
-INSERT INTO "order" (id, description, customer_id) VALUES (6682, 'Intelligent Steel Pants', 60);
-INSERT INTO "order" (id, description, customer_id) VALUES (6683, 'Licensed Frozen Bacon', 9);
-INSERT INTO "order" (id, description, customer_id) VALUES (6684, 'Generic Steel Keyboard', 84);
-INSERT INTO "order" (id, description, customer_id) VALUES (6685, 'Practical Metal Salad', 5);
-INSERT INTO "order" (id, description, customer_id) VALUES (6686, 'Rustic Wooden Chair', 97);
-INSERT INTO "order" (id, description, customer_id) VALUES (6687, 'Refined Plastic Pizza', 4);
-INSERT INTO "order" (id, description, customer_id) VALUES (6688, 'Tasty Soft Towels', 26);
-INSERT INTO "order" (id, description, customer_id) VALUES (6689, 'Awesome Steel Table', 61);
-INSERT INTO "order" (id, description, customer_id) VALUES (6690, 'Small Rubber Bike', 93);
-INSERT INTO "order" (id, description, customer_id) VALUES (6691, 'Sleek Fresh Hat', 73);
-INSERT INTO "order" (id, description, customer_id) VALUES (6692, 'Small Rubber Hat', 50);
-INSERT INTO "order" (id, description, customer_id) VALUES (6693, 'Fantastic Fresh Hat', 83);
-INSERT INTO "order" (id, description, customer_id) VALUES (6694, 'Refined Rubber Sausages', 38);
-INSERT INTO "order" (id, description, customer_id) VALUES (6695, 'Licensed Fresh Chicken', 31);
-INSERT INTO "order" (id, description, customer_id) VALUES (6696, 'Handmade Wooden Fish', 19);
-INSERT INTO "order" (id, description, customer_id) VALUES (6697, 'Tasty Bronze Hat', 64);
-INSERT INTO "order" (id, description, customer_id) VALUES (6698, 'Generic Steel Towels', 14);
-INSERT INTO "order" (id, description, customer_id) VALUES (6699, 'Oriental Metal Tuna', 98);
-INSERT INTO "order" (id, description, customer_id) VALUES (6700, 'Handcrafted Rubber Computer', 33);
-INSERT INTO "order" (id, description, customer_id) VALUES (6701, 'Refined Plastic Table', 93);
-INSERT INTO "order" (id, description, customer_id) VALUES (6702, 'Tasty Steel Cheese', 37);
-INSERT INTO "order" (id, description, customer_id) VALUES (6703, 'Intelligent Steel Chair', 87);
-INSERT INTO "order" (id, description, customer_id) VALUES (6704, 'Recycled Steel Towels', 20);
-INSERT INTO "order" (id, description, customer_id) VALUES (6705, 'Modern Concrete Keyboard', 67);
-INSERT INTO "order" (id, description, customer_id) VALUES (6706, 'Gorgeous Cotton Cheese', 53);
-INSERT INTO "order" (id, description, customer_id) VALUES (6707, 'Incredible Soft Computer', 60);
-INSERT INTO "order" (id, description, customer_id) VALUES (6708, 'Small Frozen Cheese', 85);
-INSERT INTO "order" (id, description, customer_id) VALUES (6709, 'Generic Cotton Sausages', 40);
-INSERT INTO "order" (id, description, customer_id) VALUES (6710, 'Bespoke Metal Cheese', 92);
-INSERT INTO "order" (id, description, customer_id) VALUES (6711, 'Awesome Granite Chicken', 11);
-INSERT INTO "order" (id, description, customer_id) VALUES (6712, 'Electronic Rubber Cheese', 31);
-INSERT INTO "order" (id, description, customer_id) VALUES (6713, 'Small Cotton Mouse', 22);
-INSERT INTO "order" (id, description, customer_id) VALUES (6714, 'Practical Concrete Gloves', 54);
-INSERT INTO "order" (id, description, customer_id) VALUES (6715, 'Sleek Metal Mouse', 86);
-INSERT INTO "order" (id, description, customer_id) VALUES (6716, 'Handmade Plastic Shirt', 92);
-INSERT INTO "order" (id, description, customer_id) VALUES (6717, 'Small Fresh Tuna', 94);
-INSERT INTO "order" (id, description, customer_id) VALUES (6718, 'Rustic Rubber Computer', 33);
-INSERT INTO "order" (id, description, customer_id) VALUES (6719, 'Gorgeous Plastic Chips', 35);
-INSERT INTO "order" (id, description, customer_id) VALUES (6720, 'Licensed Steel Mouse', 96);
-INSERT INTO "order" (id, description, customer_id) VALUES (6721, 'Gorgeous Concrete Towels', 35);
-INSERT INTO "order" (id, description, customer_id) VALUES (6722, 'Sleek Frozen Ball', 32);
-INSERT INTO "order" (id, description, customer_id) VALUES (6723, 'Electronic Granite Tuna', 87);
-INSERT INTO "order" (id, description, customer_id) VALUES (6724, 'Fantastic Wooden Keyboard', 9);
-INSERT INTO "order" (id, description, customer_id) VALUES (6725, 'Sleek Bronze Sausages', 85);
-INSERT INTO "order" (id, description, customer_id) VALUES (6726, 'Tasty Granite Chicken', 4);
-INSERT INTO "order" (id, description, customer_id) VALUES (6727, 'Gorgeous Wooden Hat', 89);
-INSERT INTO "order" (id, description, customer_id) VALUES (6728, 'Elegant Soft Ball', 79);
-INSERT INTO "order" (id, description, customer_id) VALUES (6729, 'Elegant Cotton Keyboard', 79);
-INSERT INTO "order" (id, description, customer_id) VALUES (6730, 'Rustic Metal Ball', 90);
-INSERT INTO "order" (id, description, customer_id) VALUES (6731, 'Elegant Concrete Gloves', 51);
-INSERT INTO "order" (id, description, customer_id) VALUES (6732, 'Handmade Steel Shirt', 23);
-INSERT INTO "order" (id, description, customer_id) VALUES (6733, 'Modern Plastic Pizza', 15);
-INSERT INTO "order" (id, description, customer_id) VALUES (6734, 'Handmade Wooden Computer', 16);
-INSERT INTO "order" (id, description, customer_id) VALUES (6735, 'Gorgeous Fresh Table', 63);
-INSERT INTO "order" (id, description, customer_id) VALUES (6736, 'Recycled Plastic Gloves', 84);
-INSERT INTO "order" (id, description, customer_id) VALUES (6737, 'Sleek Rubber Mouse', 27);
-INSERT INTO "order" (id, description, customer_id) VALUES (6738, 'Elegant Rubber Pants', 17);
-INSERT INTO "order" (id, description, customer_id) VALUES (6739, 'Tasty Cotton Tuna', 62);
-INSERT INTO "order" (id, description, customer_id) VALUES (6740, 'Awesome Concrete Chips', 95);
-INSERT INTO "order" (id, description, customer_id) VALUES (6741, 'Intelligent Metal Hat', 89);
-INSERT INTO "order" (id, description, customer_id) VALUES (6742, 'Bespoke Plastic Tuna', 71);
-INSERT INTO "order" (id, description, customer_id) VALUES (6743, 'Luxurious Bronze Sausages', 94);
-INSERT INTO "order" (id, description, customer_id) VALUES (6744, 'Small Rubber Table', 66);
-INSERT INTO "order" (id, description, customer_id) VALUES (6745, 'Elegant Plastic Car', 57);
-INSERT INTO "order" (id, description, customer_id) VALUES (6746, 'Luxurious Steel Sausages', 46);
-INSERT INTO "order" (id, description, customer_id) VALUES (6747, 'Handcrafted Steel Fish', 48);
-INSERT INTO "order" (id, description, customer_id) VALUES (6748, 'Electronic Frozen Bike', 63);
-INSERT INTO "order" (id, description, customer_id) VALUES (6749, 'Handmade Bronze Soap', 81);
-INSERT INTO "order" (id, description, customer_id) VALUES (6750, 'Rustic Fresh Bike', 32);
-INSERT INTO "order" (id, description, customer_id) VALUES (6751, 'Fantastic Concrete Fish', 32);
-INSERT INTO "order" (id, description, customer_id) VALUES (6752, 'Handmade Metal Shirt', 6);
-INSERT INTO "order" (id, description, customer_id) VALUES (6753, 'Fantastic Bronze Ball', 61);
-INSERT INTO "order" (id, description, customer_id) VALUES (6754, 'Rustic Wooden Pants', 86);
-INSERT INTO "order" (id, description, customer_id) VALUES (6755, 'Incredible Rubber Pants', 34);
-INSERT INTO "order" (id, description, customer_id) VALUES (6756, 'Handcrafted Metal Chips', 55);
-INSERT INTO "order" (id, description, customer_id) VALUES (6757, 'Generic Cotton Shirt', 73);
-INSERT INTO "order" (id, description, customer_id) VALUES (6758, 'Sleek Cotton Ball', 45);
-INSERT INTO "order" (id, description, customer_id) VALUES (6759, 'Sleek Steel Ball', 39);
-INSERT INTO "order" (id, description, customer_id) VALUES (6760, 'Awesome Granite Chair', 6);
-INSERT INTO "order" (id, description, customer_id) VALUES (6761, 'Ergonomic Granite Mouse', 9);
-INSERT INTO "order" (id, description, customer_id) VALUES (6762, 'Electronic Fresh Towels', 87);
-INSERT INTO "order" (id, description, customer_id) VALUES (6763, 'Intelligent Wooden Shoes', 38);
-INSERT INTO "order" (id, description, customer_id) VALUES (6764, 'Incredible Metal Chair', 91);
-INSERT INTO "order" (id, description, customer_id) VALUES (6765, 'Licensed Concrete Towels', 12);
-INSERT INTO "order" (id, description, customer_id) VALUES (6766, 'Practical Fresh Soap', 9);
-INSERT INTO "order" (id, description, customer_id) VALUES (6767, 'Gorgeous Soft Sausages', 78);
-INSERT INTO "order" (id, description, customer_id) VALUES (6768, 'Incredible Bronze Salad', 51);
-INSERT INTO "order" (id, description, customer_id) VALUES (6769, 'Bespoke Steel Salad', 15);
-INSERT INTO "order" (id, description, customer_id) VALUES (6770, 'Bespoke Plastic Sausages', 22);
-INSERT INTO "order" (id, description, customer_id) VALUES (6771, 'Bespoke Soft Car', 4);
-INSERT INTO "order" (id, description, customer_id) VALUES (6772, 'Small Metal Table', 81);
-INSERT INTO "order" (id, description, customer_id) VALUES (6773, 'Rustic Cotton Sausages', 88);
-INSERT INTO "order" (id, description, customer_id) VALUES (6774, 'Handmade Steel Tuna', 21);
-INSERT INTO "order" (id, description, customer_id) VALUES (6775, 'Practical Wooden Table', 21);
-INSERT INTO "order" (id, description, customer_id) VALUES (6776, 'Refined Metal Keyboard', 30);
-INSERT INTO "order" (id, description, customer_id) VALUES (6777, 'Practical Frozen Gloves', 86);
-INSERT INTO "order" (id, description, customer_id) VALUES (6778, 'Intelligent Rubber Salad', 84);
-INSERT INTO "order" (id, description, customer_id) VALUES (6779, 'Rustic Plastic Pizza', 49);
-INSERT INTO "order" (id, description, customer_id) VALUES (6780, 'Recycled Rubber Shoes', 15);
-INSERT INTO "order" (id, description, customer_id) VALUES (6781, 'Small Frozen Tuna', 37);
-INSERT INTO "order" (id, description, customer_id) VALUES (6782, 'Small Rubber Pizza', 48);
-INSERT INTO "order" (id, description, customer_id) VALUES (6783, 'Unbranded Granite Mouse', 66);
-INSERT INTO "order" (id, description, customer_id) VALUES (6784, 'Oriental Plastic Chair', 51);
-INSERT INTO "order" (id, description, customer_id) VALUES (6785, 'Intelligent Fresh Keyboard', 84);
-INSERT INTO "order" (id, description, customer_id) VALUES (6786, 'Sleek Soft Pizza', 25);
-INSERT INTO "order" (id, description, customer_id) VALUES (6787, 'Rustic Fresh Keyboard', 17);
-INSERT INTO "order" (id, description, customer_id) VALUES (6788, 'Bespoke Soft Gloves', 33);
-INSERT INTO "order" (id, description, customer_id) VALUES (6789, 'Recycled Metal Salad', 49);
-INSERT INTO "order" (id, description, customer_id) VALUES (6790, 'Gorgeous Concrete Shirt', 24);
-INSERT INTO "order" (id, description, customer_id) VALUES (6791, 'Electronic Steel Chips', 96);
-INSERT INTO "order" (id, description, customer_id) VALUES (6792, 'Generic Fresh Shirt', 80);
-INSERT INTO "order" (id, description, customer_id) VALUES (6793, 'Tasty Rubber Hat', 99);
-INSERT INTO "order" (id, description, customer_id) VALUES (6794, 'Practical Cotton Chips', 10);
-INSERT INTO "order" (id, description, customer_id) VALUES (6795, 'Ergonomic Fresh Pizza', 67);
-INSERT INTO "order" (id, description, customer_id) VALUES (6796, 'Modern Fresh Pants', 18);
-INSERT INTO "order" (id, description, customer_id) VALUES (6797, 'Electronic Plastic Hat', 88);
-INSERT INTO "order" (id, description, customer_id) VALUES (6798, 'Awesome Steel Bacon', 94);
-INSERT INTO "order" (id, description, customer_id) VALUES (6799, 'Fantastic Fresh Soap', 27);
-INSERT INTO "order" (id, description, customer_id) VALUES (6800, 'Ergonomic Cotton Tuna', 53);
-INSERT INTO "order" (id, description, customer_id) VALUES (6801, 'Sleek Steel Chicken', 11);
-INSERT INTO "order" (id, description, customer_id) VALUES (6802, 'Elegant Cotton Gloves', 38);
-INSERT INTO "order" (id, description, customer_id) VALUES (6803, 'Gorgeous Metal Hat', 16);
-INSERT INTO "order" (id, description, customer_id) VALUES (6804, 'Intelligent Frozen Pants', 9);
-INSERT INTO "order" (id, description, customer_id) VALUES (6805, 'Gorgeous Rubber Chicken', 91);
-INSERT INTO "order" (id, description, customer_id) VALUES (6806, 'Tasty Cotton Mouse', 98);
-INSERT INTO "order" (id, description, customer_id) VALUES (6807, 'Tasty Bronze Bacon', 93);
-INSERT INTO "order" (id, description, customer_id) VALUES (6808, 'Ergonomic Steel Gloves', 71);
-INSERT INTO "order" (id, description, customer_id) VALUES (6809, 'Rustic Plastic Bike', 6);
-INSERT INTO "order" (id, description, customer_id) VALUES (6810, 'Incredible Steel Salad', 87);
-INSERT INTO "order" (id, description, customer_id) VALUES (6811, 'Handcrafted Concrete Fish', 83);
-INSERT INTO "order" (id, description, customer_id) VALUES (6812, 'Recycled Plastic Sausages', 59);
-INSERT INTO "order" (id, description, customer_id) VALUES (6813, 'Bespoke Soft Gloves', 79);
-INSERT INTO "order" (id, description, customer_id) VALUES (6814, 'Awesome Metal Sausages', 95);
-INSERT INTO "order" (id, description, customer_id) VALUES (6815, 'Handmade Steel Mouse', 64);
-INSERT INTO "order" (id, description, customer_id) VALUES (6816, 'Luxurious Frozen Keyboard', 68);
-INSERT INTO "order" (id, description, customer_id) VALUES (6817, 'Refined Soft Bike', 61);
-INSERT INTO "order" (id, description, customer_id) VALUES (6818, 'Incredible Cotton Mouse', 50);
-INSERT INTO "order" (id, description, customer_id) VALUES (6819, 'Fantastic Plastic Shirt', 20);
-INSERT INTO "order" (id, description, customer_id) VALUES (6820, 'Modern Rubber Mouse', 76);
-INSERT INTO "order" (id, description, customer_id) VALUES (6821, 'Handmade Bronze Tuna', 34);
-INSERT INTO "order" (id, description, customer_id) VALUES (6822, 'Small Fresh Towels', 60);
-INSERT INTO "order" (id, description, customer_id) VALUES (6823, 'Licensed Granite Salad', 31);
-INSERT INTO "order" (id, description, customer_id) VALUES (6824, 'Gorgeous Concrete Cheese', 24);
-INSERT INTO "order" (id, description, customer_id) VALUES (6825, 'Handcrafted Metal Shirt', 27);
-INSERT INTO "order" (id, description, customer_id) VALUES (6826, 'Elegant Soft Chips', 26);
-INSERT INTO "order" (id, description, customer_id) VALUES (6827, 'Bespoke Cotton Soap', 25);
-INSERT INTO "order" (id, description, customer_id) VALUES (6828, 'Bespoke Cotton Chair', 53);
-INSERT INTO "order" (id, description, customer_id) VALUES (6829, 'Modern Fresh Chicken', 83);
-INSERT INTO "order" (id, description, customer_id) VALUES (6830, 'Handcrafted Wooden Gloves', 80);
-INSERT INTO "order" (id, description, customer_id) VALUES (6831, 'Modern Plastic Pizza', 34);
-INSERT INTO "order" (id, description, customer_id) VALUES (6832, 'Practical Concrete Table', 41);
-INSERT INTO "order" (id, description, customer_id) VALUES (6833, 'Practical Concrete Soap', 2);
-INSERT INTO "order" (id, description, customer_id) VALUES (6834, 'Awesome Steel Keyboard', 76);
-INSERT INTO "order" (id, description, customer_id) VALUES (6835, 'Ergonomic Fresh Chicken', 8);
-INSERT INTO "order" (id, description, customer_id) VALUES (6836, 'Handcrafted Steel Fish', 62);
-INSERT INTO "order" (id, description, customer_id) VALUES (6837, 'Modern Wooden Sausages', 58);
-INSERT INTO "order" (id, description, customer_id) VALUES (6838, 'Unbranded Granite Car', 85);
-INSERT INTO "order" (id, description, customer_id) VALUES (6839, 'Handmade Soft Car', 23);
-INSERT INTO "order" (id, description, customer_id) VALUES (6840, 'Handcrafted Frozen Soap', 46);
-INSERT INTO "order" (id, description, customer_id) VALUES (6841, 'Sleek Metal Table', 66);
-INSERT INTO "order" (id, description, customer_id) VALUES (6842, 'Generic Frozen Fish', 20);
-INSERT INTO "order" (id, description, customer_id) VALUES (6843, 'Gorgeous Wooden Pizza', 14);
-INSERT INTO "order" (id, description, customer_id) VALUES (6844, 'Elegant Concrete Chips', 71);
-INSERT INTO "order" (id, description, customer_id) VALUES (6845, 'Unbranded Bronze Soap', 16);
-INSERT INTO "order" (id, description, customer_id) VALUES (6846, 'Rustic Metal Keyboard', 93);
-INSERT INTO "order" (id, description, customer_id) VALUES (6847, 'Sleek Steel Keyboard', 62);
-INSERT INTO "order" (id, description, customer_id) VALUES (6848, 'Practical Soft Table', 2);
-INSERT INTO "order" (id, description, customer_id) VALUES (6849, 'Electronic Concrete Car', 61);
-INSERT INTO "order" (id, description, customer_id) VALUES (6850, 'Rustic Bronze Car', 32);
-INSERT INTO "order" (id, description, customer_id) VALUES (6851, 'Practical Metal Keyboard', 67);
-INSERT INTO "order" (id, description, customer_id) VALUES (6852, 'Licensed Steel Gloves', 7);
-INSERT INTO "order" (id, description, customer_id) VALUES (6853, 'Modern Wooden Pizza', 88);
-INSERT INTO "order" (id, description, customer_id) VALUES (6854, 'Tasty Fresh Shirt', 39);
-INSERT INTO "order" (id, description, customer_id) VALUES (6855, 'Intelligent Steel Shoes', 28);
-INSERT INTO "order" (id, description, customer_id) VALUES (6856, 'Handmade Frozen Fish', 53);
-INSERT INTO "order" (id, description, customer_id) VALUES (6857, 'Sleek Wooden Car', 2);
-INSERT INTO "order" (id, description, customer_id) VALUES (6858, 'Refined Fresh Tuna', 9);
-INSERT INTO "order" (id, description, customer_id) VALUES (6859, 'Oriental Steel Keyboard', 75);
-INSERT INTO "order" (id, description, customer_id) VALUES (6860, 'Fantastic Granite Salad', 36);
-INSERT INTO "order" (id, description, customer_id) VALUES (6861, 'Intelligent Metal Shoes', 81);
-INSERT INTO "order" (id, description, customer_id) VALUES (6862, 'Fantastic Soft Shoes', 47);
-INSERT INTO "order" (id, description, customer_id) VALUES (6863, 'Luxurious Granite Sausages', 25);
-INSERT INTO "order" (id, description, customer_id) VALUES (6864, 'Small Steel Towels', 17);
-INSERT INTO "order" (id, description, customer_id) VALUES (6865, 'Tasty Bronze Car', 45);
-INSERT INTO "order" (id, description, customer_id) VALUES (6866, 'Elegant Bronze Gloves', 93);
-INSERT INTO "order" (id, description, customer_id) VALUES (6867, 'Practical Rubber Sausages', 4);
-INSERT INTO "order" (id, description, customer_id) VALUES (6868, 'Luxurious Plastic Computer', 100);
-INSERT INTO "order" (id, description, customer_id) VALUES (6869, 'Practical Wooden Sausages', 75);
-INSERT INTO "order" (id, description, customer_id) VALUES (6870, 'Tasty Cotton Chair', 84);
-INSERT INTO "order" (id, description, customer_id) VALUES (6871, 'Unbranded Frozen Pizza', 47);
-INSERT INTO "order" (id, description, customer_id) VALUES (6872, 'Elegant Steel Towels', 5);
-INSERT INTO "order" (id, description, customer_id) VALUES (6873, 'Handmade Granite Tuna', 57);
-INSERT INTO "order" (id, description, customer_id) VALUES (6874, 'Sleek Frozen Cheese', 34);
-INSERT INTO "order" (id, description, customer_id) VALUES (6875, 'Tasty Plastic Bike', 6);
-INSERT INTO "order" (id, description, customer_id) VALUES (6876, 'Handcrafted Fresh Keyboard', 52);
-INSERT INTO "order" (id, description, customer_id) VALUES (6877, 'Handcrafted Soft Soap', 21);
-INSERT INTO "order" (id, description, customer_id) VALUES (6878, 'Fantastic Cotton Mouse', 75);
-INSERT INTO "order" (id, description, customer_id) VALUES (6879, 'Tasty Fresh Chips', 28);
-INSERT INTO "order" (id, description, customer_id) VALUES (6880, 'Intelligent Metal Towels', 48);
-INSERT INTO "order" (id, description, customer_id) VALUES (6881, 'Sleek Frozen Gloves', 31);
-INSERT INTO "order" (id, description, customer_id) VALUES (6882, 'Luxurious Plastic Ball', 28);
-INSERT INTO "order" (id, description, customer_id) VALUES (6883, 'Elegant Wooden Hat', 80);
-INSERT INTO "order" (id, description, customer_id) VALUES (6884, 'Electronic Wooden Chips', 74);
-INSERT INTO "order" (id, description, customer_id) VALUES (6885, 'Sleek Fresh Towels', 62);
-INSERT INTO "order" (id, description, customer_id) VALUES (6886, 'Elegant Concrete Pizza', 23);
-INSERT INTO "order" (id, description, customer_id) VALUES (6887, 'Luxurious Wooden Hat', 82);
-INSERT INTO "order" (id, description, customer_id) VALUES (6888, 'Licensed Frozen Cheese', 45);
-INSERT INTO "order" (id, description, customer_id) VALUES (6889, 'Refined Bronze Gloves', 76);
-INSERT INTO "order" (id, description, customer_id) VALUES (6890, 'Oriental Bronze Computer', 22);
-INSERT INTO "order" (id, description, customer_id) VALUES (6891, 'Bespoke Bronze Tuna', 7);
-INSERT INTO "order" (id, description, customer_id) VALUES (6892, 'Gorgeous Bronze Computer', 10);
-INSERT INTO "order" (id, description, customer_id) VALUES (6893, 'Intelligent Metal Keyboard', 8);
-INSERT INTO "order" (id, description, customer_id) VALUES (6894, 'Generic Cotton Pants', 57);
-INSERT INTO "order" (id, description, customer_id) VALUES (6895, 'Elegant Rubber Ball', 39);
-INSERT INTO "order" (id, description, customer_id) VALUES (6896, 'Luxurious Soft Shirt', 23);
-INSERT INTO "order" (id, description, customer_id) VALUES (6897, 'Electronic Rubber Computer', 29);
-INSERT INTO "order" (id, description, customer_id) VALUES (6898, 'Sleek Cotton Soap', 88);
-INSERT INTO "order" (id, description, customer_id) VALUES (6899, 'Unbranded Concrete Keyboard', 57);
-INSERT INTO "order" (id, description, customer_id) VALUES (6900, 'Sleek Fresh Pants', 47);
-INSERT INTO "order" (id, description, customer_id) VALUES (6901, 'Ergonomic Cotton Gloves', 22);
-INSERT INTO "order" (id, description, customer_id) VALUES (6902, 'Ergonomic Frozen Chair', 28);
-INSERT INTO "order" (id, description, customer_id) VALUES (6903, 'Oriental Frozen Shirt', 52);
-INSERT INTO "order" (id, description, customer_id) VALUES (6904, 'Elegant Concrete Ball', 58);
-INSERT INTO "order" (id, description, customer_id) VALUES (6905, 'Elegant Plastic Cheese', 38);
-INSERT INTO "order" (id, description, customer_id) VALUES (6906, 'Elegant Wooden Tuna', 93);
-INSERT INTO "order" (id, description, customer_id) VALUES (6907, 'Ergonomic Steel Soap', 75);
-INSERT INTO "order" (id, description, customer_id) VALUES (6908, 'Tasty Wooden Pants', 27);
-INSERT INTO "order" (id, description, customer_id) VALUES (6909, 'Tasty Wooden Chair', 69);
-INSERT INTO "order" (id, description, customer_id) VALUES (6910, 'Elegant Plastic Sausages', 87);
-INSERT INTO "order" (id, description, customer_id) VALUES (6911, 'Luxurious Wooden Bacon', 54);
-INSERT INTO "order" (id, description, customer_id) VALUES (6912, 'Bespoke Metal Pizza', 70);
-INSERT INTO "order" (id, description, customer_id) VALUES (6913, 'Incredible Plastic Chicken', 61);
-INSERT INTO "order" (id, description, customer_id) VALUES (6914, 'Licensed Rubber Ball', 67);
-INSERT INTO "order" (id, description, customer_id) VALUES (6915, 'Sleek Fresh Soap', 98);
-INSERT INTO "order" (id, description, customer_id) VALUES (6916, 'Refined Cotton Ball', 71);
-INSERT INTO "order" (id, description, customer_id) VALUES (6917, 'Small Frozen Fish', 25);
-INSERT INTO "order" (id, description, customer_id) VALUES (6918, 'Unbranded Frozen Pizza', 30);
-INSERT INTO "order" (id, description, customer_id) VALUES (6919, 'Practical Soft Car', 37);
-INSERT INTO "order" (id, description, customer_id) VALUES (6920, 'Fantastic Frozen Cheese', 16);
-INSERT INTO "order" (id, description, customer_id) VALUES (6921, 'Awesome Wooden Bike', 68);
-INSERT INTO "order" (id, description, customer_id) VALUES (6922, 'Unbranded Fresh Table', 35);
-INSERT INTO "order" (id, description, customer_id) VALUES (6923, 'Bespoke Frozen Salad', 20);
-INSERT INTO "order" (id, description, customer_id) VALUES (6924, 'Elegant Plastic Tuna', 30);
-INSERT INTO "order" (id, description, customer_id) VALUES (6925, 'Bespoke Fresh Soap', 94);
-INSERT INTO "order" (id, description, customer_id) VALUES (6926, 'Refined Granite Ball', 40);
-INSERT INTO "order" (id, description, customer_id) VALUES (6927, 'Sleek Metal Hat', 96);
-INSERT INTO "order" (id, description, customer_id) VALUES (6928, 'Ergonomic Granite Sausages', 51);
-INSERT INTO "order" (id, description, customer_id) VALUES (6929, 'Licensed Plastic Bacon', 17);
-INSERT INTO "order" (id, description, customer_id) VALUES (6930, 'Sleek Metal Hat', 80);
-INSERT INTO "order" (id, description, customer_id) VALUES (6931, 'Electronic Steel Computer', 31);
-INSERT INTO "order" (id, description, customer_id) VALUES (6932, 'Handcrafted Fresh Tuna', 39);
-INSERT INTO "order" (id, description, customer_id) VALUES (6933, 'Ergonomic Plastic Cheese', 58);
-INSERT INTO "order" (id, description, customer_id) VALUES (6934, 'Intelligent Concrete Bike', 74);
-INSERT INTO "order" (id, description, customer_id) VALUES (6935, 'Bespoke Rubber Gloves', 64);
-INSERT INTO "order" (id, description, customer_id) VALUES (6936, 'Elegant Plastic Bike', 98);
-INSERT INTO "order" (id, description, customer_id) VALUES (6937, 'Handcrafted Soft Sausages', 76);
-INSERT INTO "order" (id, description, customer_id) VALUES (6938, 'Handmade Concrete Fish', 75);
-INSERT INTO "order" (id, description, customer_id) VALUES (6939, 'Incredible Bronze Tuna', 47);
-INSERT INTO "order" (id, description, customer_id) VALUES (6940, 'Oriental Wooden Pizza', 38);
-INSERT INTO "order" (id, description, customer_id) VALUES (6941, 'Sleek Cotton Chair', 16);
-INSERT INTO "order" (id, description, customer_id) VALUES (6942, 'Elegant Steel Soap', 33);
-INSERT INTO "order" (id, description, customer_id) VALUES (6943, 'Sleek Rubber Ball', 6);
-INSERT INTO "order" (id, description, customer_id) VALUES (6944, 'Elegant Frozen Shoes', 92);
-INSERT INTO "order" (id, description, customer_id) VALUES (6945, 'Awesome Plastic Mouse', 49);
-INSERT INTO "order" (id, description, customer_id) VALUES (6946, 'Refined Steel Shoes', 39);
-INSERT INTO "order" (id, description, customer_id) VALUES (6947, 'Elegant Bronze Cheese', 21);
-INSERT INTO "order" (id, description, customer_id) VALUES (6948, 'Ergonomic Fresh Fish', 48);
-INSERT INTO "order" (id, description, customer_id) VALUES (6949, 'Incredible Rubber Table', 39);
-INSERT INTO "order" (id, description, customer_id) VALUES (6950, 'Small Concrete Fish', 80);
-INSERT INTO "order" (id, description, customer_id) VALUES (6951, 'Fantastic Plastic Pizza', 31);
-INSERT INTO "order" (id, description, customer_id) VALUES (6952, 'Generic Fresh Cheese', 43);
-INSERT INTO "order" (id, description, customer_id) VALUES (6953, 'Fantastic Concrete Hat', 14);
-INSERT INTO "order" (id, description, customer_id) VALUES (6954, 'Generic Soft Chicken', 97);
-INSERT INTO "order" (id, description, customer_id) VALUES (6955, 'Luxurious Frozen Pants', 46);
-INSERT INTO "order" (id, description, customer_id) VALUES (6956, 'Rustic Granite Shoes', 57);
-INSERT INTO "order" (id, description, customer_id) VALUES (6957, 'Refined Metal Keyboard', 99);
-INSERT INTO "order" (id, description, customer_id) VALUES (6958, 'Fantastic Cotton Shirt', 29);
-INSERT INTO "order" (id, description, customer_id) VALUES (6959, 'Luxurious Steel Bacon', 84);
-INSERT INTO "order" (id, description, customer_id) VALUES (6960, 'Unbranded Soft Pizza', 77);
-INSERT INTO "order" (id, description, customer_id) VALUES (6961, 'Intelligent Plastic Chips', 43);
-INSERT INTO "order" (id, description, customer_id) VALUES (6962, 'Practical Concrete Bacon', 75);
-INSERT INTO "order" (id, description, customer_id) VALUES (6963, 'Fantastic Concrete Chair', 100);
-INSERT INTO "order" (id, description, customer_id) VALUES (6964, 'Gorgeous Steel Tuna', 99);
-INSERT INTO "order" (id, description, customer_id) VALUES (6965, 'Electronic Steel Tuna', 26);
-INSERT INTO "order" (id, description, customer_id) VALUES (6966, 'Generic Rubber Chips', 18);
-INSERT INTO "order" (id, description, customer_id) VALUES (6967, 'Generic Frozen Sausages', 35);
-INSERT INTO "order" (id, description, customer_id) VALUES (6968, 'Refined Rubber Fish', 86);
-INSERT INTO "order" (id, description, customer_id) VALUES (6969, 'Rustic Soft Chair', 32);
-INSERT INTO "order" (id, description, customer_id) VALUES (6970, 'Ergonomic Steel Shoes', 94);
-INSERT INTO "order" (id, description, customer_id) VALUES (6971, 'Modern Steel Gloves', 23);
-INSERT INTO "order" (id, description, customer_id) VALUES (6972, 'Awesome Soft Car', 73);
-INSERT INTO "order" (id, description, customer_id) VALUES (6973, 'Rustic Soft Bike', 49);
-INSERT INTO "order" (id, description, customer_id) VALUES (6974, 'Small Metal Hat', 9);
-INSERT INTO "order" (id, description, customer_id) VALUES (6975, 'Generic Granite Shirt', 23);
-INSERT INTO "order" (id, description, customer_id) VALUES (6976, 'Small Plastic Keyboard', 20);
-INSERT INTO "order" (id, description, customer_id) VALUES (6977, 'Small Rubber Soap', 70);
-INSERT INTO "order" (id, description, customer_id) VALUES (6978, 'Rustic Granite Soap', 51);
-INSERT INTO "order" (id, description, customer_id) VALUES (6979, 'Modern Steel Computer', 73);
-INSERT INTO "order" (id, description, customer_id) VALUES (6980, 'Generic Soft Car', 98);
-INSERT INTO "order" (id, description, customer_id) VALUES (6981, 'Handmade Bronze Sausages', 33);
-INSERT INTO "order" (id, description, customer_id) VALUES (6982, 'Refined Fresh Computer', 80);
-INSERT INTO "order" (id, description, customer_id) VALUES (6983, 'Gorgeous Soft Car', 38);
-INSERT INTO "order" (id, description, customer_id) VALUES (6984, 'Gorgeous Steel Salad', 71);
-INSERT INTO "order" (id, description, customer_id) VALUES (6985, 'Practical Concrete Chicken', 55);
-INSERT INTO "order" (id, description, customer_id) VALUES (6986, 'Incredible Rubber Mouse', 3);
-INSERT INTO "order" (id, description, customer_id) VALUES (6987, 'Awesome Wooden Bacon', 88);
-INSERT INTO "order" (id, description, customer_id) VALUES (6988, 'Modern Fresh Shoes', 34);
-INSERT INTO "order" (id, description, customer_id) VALUES (6989, 'Handmade Plastic Chair', 35);
-INSERT INTO "order" (id, description, customer_id) VALUES (6990, 'Tasty Rubber Shirt', 4);
-INSERT INTO "order" (id, description, customer_id) VALUES (6991, 'Refined Bronze Car', 2);
-INSERT INTO "order" (id, description, customer_id) VALUES (6992, 'Intelligent Frozen Fish', 63);
-INSERT INTO "order" (id, description, customer_id) VALUES (6993, 'Sleek Rubber Chair', 33);
-INSERT INTO "order" (id, description, customer_id) VALUES (6994, 'Ergonomic Wooden Gloves', 25);
-INSERT INTO "order" (id, description, customer_id) VALUES (6995, 'Handcrafted Steel Gloves', 86);
-INSERT INTO "order" (id, description, customer_id) VALUES (6996, 'Unbranded Granite Tuna', 17);
-INSERT INTO "order" (id, description, customer_id) VALUES (6997, 'Ergonomic Steel Chips', 32);
-INSERT INTO "order" (id, description, customer_id) VALUES (6998, 'Awesome Bronze Ball', 21);
-INSERT INTO "order" (id, description, customer_id) VALUES (6999, 'Incredible Rubber Chair', 10);
-INSERT INTO "order" (id, description, customer_id) VALUES (7000, 'Tasty Plastic Towels', 36);
-INSERT INTO "order" (id, description, customer_id) VALUES (7001, 'Licensed Soft Pants', 17);
-INSERT INTO "order" (id, description, customer_id) VALUES (7002, 'Bespoke Granite Computer', 5);
-INSERT INTO "order" (id, description, customer_id) VALUES (7003, 'Luxurious Plastic Pizza', 13);
-INSERT INTO "order" (id, description, customer_id) VALUES (7004, 'Small Cotton Table', 74);
-INSERT INTO "order" (id, description, customer_id) VALUES (7005, 'Awesome Steel Keyboard', 4);
-INSERT INTO "order" (id, description, customer_id) VALUES (7006, 'Fantastic Concrete Shirt', 93);
-INSERT INTO "order" (id, description, customer_id) VALUES (7007, 'Refined Concrete Pizza', 11);
-INSERT INTO "order" (id, description, customer_id) VALUES (7008, 'Awesome Rubber Table', 75);
-INSERT INTO "order" (id, description, customer_id) VALUES (7009, 'Generic Frozen Soap', 95);
-INSERT INTO "order" (id, description, customer_id) VALUES (7010, 'Luxurious Rubber Cheese', 63);
-INSERT INTO "order" (id, description, customer_id) VALUES (7011, 'Practical Granite Shoes', 95);
-INSERT INTO "order" (id, description, customer_id) VALUES (7012, 'Oriental Granite Shoes', 70);
-INSERT INTO "order" (id, description, customer_id) VALUES (7013, 'Handcrafted Cotton Soap', 42);
-INSERT INTO "order" (id, description, customer_id) VALUES (7014, 'Handcrafted Frozen Tuna', 62);
-INSERT INTO "order" (id, description, customer_id) VALUES (7015, 'Recycled Granite Chicken', 62);
-INSERT INTO "order" (id, description, customer_id) VALUES (7016, 'Bespoke Fresh Bacon', 54);
-INSERT INTO "order" (id, description, customer_id) VALUES (7017, 'Gorgeous Steel Shoes', 24);
-INSERT INTO "order" (id, description, customer_id) VALUES (7018, 'Ergonomic Metal Computer', 20);
-INSERT INTO "order" (id, description, customer_id) VALUES (7019, 'Refined Frozen Hat', 51);
-INSERT INTO "order" (id, description, customer_id) VALUES (7020, 'Tasty Concrete Table', 23);
-INSERT INTO "order" (id, description, customer_id) VALUES (7021, 'Handmade Rubber Chair', 35);
-INSERT INTO "order" (id, description, customer_id) VALUES (7022, 'Refined Steel Chair', 38);
-INSERT INTO "order" (id, description, customer_id) VALUES (7023, 'Electronic Frozen Hat', 99);
-INSERT INTO "order" (id, description, customer_id) VALUES (7024, 'Unbranded Soft Cheese', 48);
-INSERT INTO "order" (id, description, customer_id) VALUES (7025, 'Handcrafted Bronze Cheese', 97);
-INSERT INTO "order" (id, description, customer_id) VALUES (7026, 'Generic Fresh Gloves', 97);
-INSERT INTO "order" (id, description, customer_id) VALUES (7027, 'Gorgeous Plastic Shoes', 54);
-INSERT INTO "order" (id, description, customer_id) VALUES (7028, 'Refined Granite Chair', 49);
-INSERT INTO "order" (id, description, customer_id) VALUES (7029, 'Recycled Steel Shirt', 64);
-INSERT INTO "order" (id, description, customer_id) VALUES (7030, 'Elegant Soft Chair', 51);
-INSERT INTO "order" (id, description, customer_id) VALUES (7031, 'Intelligent Frozen Computer', 62);
-INSERT INTO "order" (id, description, customer_id) VALUES (7032, 'Incredible Cotton Chips', 86);
-INSERT INTO "order" (id, description, customer_id) VALUES (7033, 'Rustic Steel Bike', 83);
-INSERT INTO "order" (id, description, customer_id) VALUES (7034, 'Ergonomic Cotton Pizza', 87);
-INSERT INTO "order" (id, description, customer_id) VALUES (7035, 'Rustic Frozen Car', 62);
-INSERT INTO "order" (id, description, customer_id) VALUES (7036, 'Refined Granite Bacon', 31);
-INSERT INTO "order" (id, description, customer_id) VALUES (7037, 'Rustic Fresh Ball', 58);
-INSERT INTO "order" (id, description, customer_id) VALUES (7038, 'Practical Granite Chicken', 52);
-INSERT INTO "order" (id, description, customer_id) VALUES (7039, 'Unbranded Frozen Chicken', 11);
-INSERT INTO "order" (id, description, customer_id) VALUES (7040, 'Bespoke Wooden Salad', 35);
-INSERT INTO "order" (id, description, customer_id) VALUES (7041, 'Luxurious Fresh Pants', 63);
-INSERT INTO "order" (id, description, customer_id) VALUES (7042, 'Incredible Granite Keyboard', 41);
-INSERT INTO "order" (id, description, customer_id) VALUES (7043, 'Tasty Metal Tuna', 82);
-INSERT INTO "order" (id, description, customer_id) VALUES (7044, 'Oriental Rubber Ball', 42);
-INSERT INTO "order" (id, description, customer_id) VALUES (7045, 'Incredible Wooden Soap', 80);
-INSERT INTO "order" (id, description, customer_id) VALUES (7046, 'Intelligent Wooden Towels', 34);
-INSERT INTO "order" (id, description, customer_id) VALUES (7047, 'Gorgeous Wooden Cheese', 89);
-INSERT INTO "order" (id, description, customer_id) VALUES (7048, 'Modern Soft Cheese', 93);
-INSERT INTO "order" (id, description, customer_id) VALUES (7049, 'Generic Steel Salad', 68);
-INSERT INTO "order" (id, description, customer_id) VALUES (7050, 'Generic Plastic Sausages', 28);
-INSERT INTO "order" (id, description, customer_id) VALUES (7051, 'Unbranded Bronze Chair', 9);
-INSERT INTO "order" (id, description, customer_id) VALUES (7052, 'Fantastic Concrete Chicken', 81);
-INSERT INTO "order" (id, description, customer_id) VALUES (7053, 'Handmade Rubber Chicken', 6);
-INSERT INTO "order" (id, description, customer_id) VALUES (7054, 'Oriental Metal Tuna', 98);
-INSERT INTO "order" (id, description, customer_id) VALUES (7055, 'Ergonomic Concrete Cheese', 76);
-INSERT INTO "order" (id, description, customer_id) VALUES (7056, 'Refined Steel Shoes', 93);
-INSERT INTO "order" (id, description, customer_id) VALUES (7057, 'Elegant Fresh Mouse', 18);
-INSERT INTO "order" (id, description, customer_id) VALUES (7058, 'Bespoke Bronze Table', 86);
-INSERT INTO "order" (id, description, customer_id) VALUES (7059, 'Handmade Cotton Chicken', 30);
-INSERT INTO "order" (id, description, customer_id) VALUES (7060, 'Awesome Bronze Cheese', 37);
-INSERT INTO "order" (id, description, customer_id) VALUES (7061, 'Awesome Cotton Salad', 68);
-INSERT INTO "order" (id, description, customer_id) VALUES (7062, 'Oriental Cotton Shirt', 47);
-INSERT INTO "order" (id, description, customer_id) VALUES (7063, 'Sleek Cotton Towels', 97);
-INSERT INTO "order" (id, description, customer_id) VALUES (7064, 'Luxurious Rubber Salad', 16);
-INSERT INTO "order" (id, description, customer_id) VALUES (7065, 'Tasty Metal Sausages', 8);
-INSERT INTO "order" (id, description, customer_id) VALUES (7066, 'Electronic Granite Keyboard', 41);
-INSERT INTO "order" (id, description, customer_id) VALUES (7067, 'Recycled Rubber Sausages', 23);
-INSERT INTO "order" (id, description, customer_id) VALUES (7068, 'Handmade Fresh Chicken', 12);
-INSERT INTO "order" (id, description, customer_id) VALUES (7069, 'Tasty Fresh Computer', 73);
-INSERT INTO "order" (id, description, customer_id) VALUES (7070, 'Licensed Bronze Pizza', 25);
-INSERT INTO "order" (id, description, customer_id) VALUES (7071, 'Refined Metal Salad', 24);
-INSERT INTO "order" (id, description, customer_id) VALUES (7072, 'Tasty Concrete Table', 9);
-INSERT INTO "order" (id, description, customer_id) VALUES (7073, 'Tasty Bronze Keyboard', 2);
-INSERT INTO "order" (id, description, customer_id) VALUES (7074, 'Bespoke Cotton Salad', 55);
-INSERT INTO "order" (id, description, customer_id) VALUES (7075, 'Incredible Granite Hat', 34);
-INSERT INTO "order" (id, description, customer_id) VALUES (7076, 'Tasty Soft Chicken', 95);
-INSERT INTO "order" (id, description, customer_id) VALUES (7077, 'Modern Wooden Chicken', 95);
-INSERT INTO "order" (id, description, customer_id) VALUES (7078, 'Sleek Concrete Table', 21);
-INSERT INTO "order" (id, description, customer_id) VALUES (7079, 'Generic Plastic Gloves', 43);
-INSERT INTO "order" (id, description, customer_id) VALUES (7080, 'Small Plastic Fish', 92);
-INSERT INTO "order" (id, description, customer_id) VALUES (7081, 'Fantastic Metal Shoes', 41);
-INSERT INTO "order" (id, description, customer_id) VALUES (7082, 'Sleek Soft Computer', 44);
-INSERT INTO "order" (id, description, customer_id) VALUES (7083, 'Sleek Steel Chicken', 77);
-INSERT INTO "order" (id, description, customer_id) VALUES (7084, 'Rustic Steel Shirt', 26);
-INSERT INTO "order" (id, description, customer_id) VALUES (7085, 'Rustic Steel Mouse', 14);
-INSERT INTO "order" (id, description, customer_id) VALUES (7086, 'Generic Plastic Mouse', 49);
-INSERT INTO "order" (id, description, customer_id) VALUES (7087, 'Bespoke Rubber Keyboard', 91);
-INSERT INTO "order" (id, description, customer_id) VALUES (7088, 'Rustic Steel Keyboard', 46);
-INSERT INTO "order" (id, description, customer_id) VALUES (7089, 'Generic Bronze Tuna', 93);
-INSERT INTO "order" (id, description, customer_id) VALUES (7090, 'Practical Fresh Shoes', 34);
-INSERT INTO "order" (id, description, customer_id) VALUES (7091, 'Generic Bronze Towels', 12);
-INSERT INTO "order" (id, description, customer_id) VALUES (7092, 'Gorgeous Soft Bike', 99);
-INSERT INTO "order" (id, description, customer_id) VALUES (7093, 'Incredible Soft Sausages', 20);
-INSERT INTO "order" (id, description, customer_id) VALUES (7094, 'Refined Frozen Car', 90);
-INSERT INTO "order" (id, description, customer_id) VALUES (7095, 'Small Plastic Chicken', 49);
-INSERT INTO "order" (id, description, customer_id) VALUES (7096, 'Elegant Bronze Shoes', 67);
-INSERT INTO "order" (id, description, customer_id) VALUES (7097, 'Incredible Frozen Soap', 26);
-INSERT INTO "order" (id, description, customer_id) VALUES (7098, 'Incredible Soft Mouse', 5);
-INSERT INTO "order" (id, description, customer_id) VALUES (7099, 'Generic Soft Pants', 28);
-INSERT INTO "order" (id, description, customer_id) VALUES (7100, 'Tasty Frozen Towels', 35);
-INSERT INTO "order" (id, description, customer_id) VALUES (7101, 'Handcrafted Concrete Fish', 35);
-INSERT INTO "order" (id, description, customer_id) VALUES (7102, 'Generic Plastic Cheese', 31);
-INSERT INTO "order" (id, description, customer_id) VALUES (7103, 'Tasty Wooden Chips', 24);
-INSERT INTO "order" (id, description, customer_id) VALUES (7104, 'Sleek Wooden Tuna', 8);
-INSERT INTO "order" (id, description, customer_id) VALUES (7105, 'Unbranded Soft Ball', 85);
-INSERT INTO "order" (id, description, customer_id) VALUES (7106, 'Rustic Fresh Hat', 80);
-INSERT INTO "order" (id, description, customer_id) VALUES (7107, 'Fantastic Bronze Keyboard', 93);
-INSERT INTO "order" (id, description, customer_id) VALUES (7108, 'Electronic Concrete Cheese', 95);
-INSERT INTO "order" (id, description, customer_id) VALUES (7109, 'Luxurious Metal Computer', 19);
-INSERT INTO "order" (id, description, customer_id) VALUES (7110, 'Unbranded Frozen Tuna', 25);
-INSERT INTO "order" (id, description, customer_id) VALUES (7111, 'Tasty Soft Soap', 14);
-INSERT INTO "order" (id, description, customer_id) VALUES (7112, 'Generic Bronze Pants', 23);
-INSERT INTO "order" (id, description, customer_id) VALUES (7113, 'Gorgeous Soft Table', 73);
-INSERT INTO "order" (id, description, customer_id) VALUES (7114, 'Practical Rubber Pizza', 40);
-INSERT INTO "order" (id, description, customer_id) VALUES (7115, 'Handmade Steel Chair', 47);
-INSERT INTO "order" (id, description, customer_id) VALUES (7116, 'Handcrafted Wooden Computer', 56);
-INSERT INTO "order" (id, description, customer_id) VALUES (7117, 'Sleek Wooden Pants', 4);
-INSERT INTO "order" (id, description, customer_id) VALUES (7118, 'Sleek Frozen Towels', 91);
-INSERT INTO "order" (id, description, customer_id) VALUES (7119, 'Small Metal Towels', 24);
-INSERT INTO "order" (id, description, customer_id) VALUES (7120, 'Handcrafted Metal Towels', 7);
-INSERT INTO "order" (id, description, customer_id) VALUES (7121, 'Tasty Rubber Bike', 18);
-INSERT INTO "order" (id, description, customer_id) VALUES (7122, 'Refined Cotton Bike', 97);
-INSERT INTO "order" (id, description, customer_id) VALUES (7123, 'Unbranded Steel Chicken', 87);
-INSERT INTO "order" (id, description, customer_id) VALUES (7124, 'Gorgeous Frozen Chicken', 14);
-INSERT INTO "order" (id, description, customer_id) VALUES (7125, 'Oriental Wooden Keyboard', 96);
-INSERT INTO "order" (id, description, customer_id) VALUES (7126, 'Intelligent Granite Chips', 89);
-INSERT INTO "order" (id, description, customer_id) VALUES (7127, 'Ergonomic Cotton Pants', 16);
-INSERT INTO "order" (id, description, customer_id) VALUES (7128, 'Incredible Metal Table', 21);
-INSERT INTO "order" (id, description, customer_id) VALUES (7129, 'Rustic Rubber Chips', 93);
-INSERT INTO "order" (id, description, customer_id) VALUES (7130, 'Ergonomic Soft Hat', 75);
-INSERT INTO "order" (id, description, customer_id) VALUES (7131, 'Luxurious Concrete Tuna', 98);
-INSERT INTO "order" (id, description, customer_id) VALUES (7132, 'Ergonomic Plastic Pants', 38);
-INSERT INTO "order" (id, description, customer_id) VALUES (7133, 'Rustic Wooden Gloves', 62);
-INSERT INTO "order" (id, description, customer_id) VALUES (7134, 'Luxurious Plastic Pizza', 34);
-INSERT INTO "order" (id, description, customer_id) VALUES (7135, 'Small Plastic Shirt', 18);
-INSERT INTO "order" (id, description, customer_id) VALUES (7136, 'Practical Cotton Shoes', 16);
-INSERT INTO "order" (id, description, customer_id) VALUES (7137, 'Unbranded Soft Table', 72);
-INSERT INTO "order" (id, description, customer_id) VALUES (7138, 'Small Fresh Table', 89);
-INSERT INTO "order" (id, description, customer_id) VALUES (7139, 'Ergonomic Metal Cheese', 31);
-INSERT INTO "order" (id, description, customer_id) VALUES (7140, 'Refined Frozen Towels', 48);
-INSERT INTO "order" (id, description, customer_id) VALUES (7141, 'Licensed Steel Gloves', 84);
-INSERT INTO "order" (id, description, customer_id) VALUES (7142, 'Bespoke Plastic Keyboard', 94);
-INSERT INTO "order" (id, description, customer_id) VALUES (7143, 'Oriental Fresh Tuna', 71);
-INSERT INTO "order" (id, description, customer_id) VALUES (7144, 'Generic Concrete Chair', 40);
-INSERT INTO "order" (id, description, customer_id) VALUES (7145, 'Incredible Concrete Keyboard', 91);
-INSERT INTO "order" (id, description, customer_id) VALUES (7146, 'Refined Cotton Soap', 47);
-INSERT INTO "order" (id, description, customer_id) VALUES (7147, 'Small Frozen Table', 73);
-INSERT INTO "order" (id, description, customer_id) VALUES (7148, 'Oriental Rubber Shirt', 96);
-INSERT INTO "order" (id, description, customer_id) VALUES (7149, 'Fantastic Concrete Chips', 81);
-INSERT INTO "order" (id, description, customer_id) VALUES (7150, 'Elegant Granite Mouse', 88);
-INSERT INTO "order" (id, description, customer_id) VALUES (7151, 'Tasty Metal Pizza', 3);
-INSERT INTO "order" (id, description, customer_id) VALUES (7152, 'Practical Steel Shoes', 79);
-INSERT INTO "order" (id, description, customer_id) VALUES (7153, 'Tasty Rubber Towels', 81);
-INSERT INTO "order" (id, description, customer_id) VALUES (7154, 'Oriental Concrete Chicken', 71);
-INSERT INTO "order" (id, description, customer_id) VALUES (7155, 'Licensed Plastic Salad', 12);
-INSERT INTO "order" (id, description, customer_id) VALUES (7156, 'Rustic Soft Car', 83);
-INSERT INTO "order" (id, description, customer_id) VALUES (7157, 'Fantastic Metal Cheese', 74);
-INSERT INTO "order" (id, description, customer_id) VALUES (7158, 'Unbranded Metal Chicken', 67);
-INSERT INTO "order" (id, description, customer_id) VALUES (7159, 'Small Rubber Pizza', 78);
-INSERT INTO "order" (id, description, customer_id) VALUES (7160, 'Ergonomic Cotton Table', 5);
-INSERT INTO "order" (id, description, customer_id) VALUES (7161, 'Awesome Metal Soap', 32);
-INSERT INTO "order" (id, description, customer_id) VALUES (7162, 'Unbranded Soft Fish', 47);
-INSERT INTO "order" (id, description, customer_id) VALUES (7163, 'Tasty Rubber Hat', 84);
-INSERT INTO "order" (id, description, customer_id) VALUES (7164, 'Small Metal Towels', 80);
-INSERT INTO "order" (id, description, customer_id) VALUES (7165, 'Small Fresh Computer', 67);
-INSERT INTO "order" (id, description, customer_id) VALUES (7166, 'Small Fresh Cheese', 79);
-INSERT INTO "order" (id, description, customer_id) VALUES (7167, 'Licensed Steel Shoes', 18);
-INSERT INTO "order" (id, description, customer_id) VALUES (7168, 'Ergonomic Plastic Fish', 22);
-INSERT INTO "order" (id, description, customer_id) VALUES (7169, 'Licensed Cotton Bike', 85);
-INSERT INTO "order" (id, description, customer_id) VALUES (7170, 'Gorgeous Soft Tuna', 72);
-INSERT INTO "order" (id, description, customer_id) VALUES (7171, 'Rustic Frozen Bike', 5);
-INSERT INTO "order" (id, description, customer_id) VALUES (7172, 'Bespoke Cotton Shirt', 82);
-INSERT INTO "order" (id, description, customer_id) VALUES (7173, 'Awesome Plastic Gloves', 81);
-INSERT INTO "order" (id, description, customer_id) VALUES (7174, 'Gorgeous Steel Towels', 4);
-INSERT INTO "order" (id, description, customer_id) VALUES (7175, 'Handmade Cotton Tuna', 15);
-INSERT INTO "order" (id, description, customer_id) VALUES (7176, 'Recycled Steel Mouse', 40);
-INSERT INTO "order" (id, description, customer_id) VALUES (7177, 'Generic Wooden Car', 28);
-INSERT INTO "order" (id, description, customer_id) VALUES (7178, 'Generic Rubber Bacon', 32);
-INSERT INTO "order" (id, description, customer_id) VALUES (7179, 'Recycled Steel Table', 53);
-INSERT INTO "order" (id, description, customer_id) VALUES (7180, 'Sleek Concrete Bacon', 29);
-INSERT INTO "order" (id, description, customer_id) VALUES (7181, 'Handmade Rubber Fish', 54);
-INSERT INTO "order" (id, description, customer_id) VALUES (7182, 'Luxurious Cotton Cheese', 20);
-INSERT INTO "order" (id, description, customer_id) VALUES (7183, 'Licensed Granite Ball', 93);
-INSERT INTO "order" (id, description, customer_id) VALUES (7184, 'Gorgeous Soft Chips', 85);
-INSERT INTO "order" (id, description, customer_id) VALUES (7185, 'Small Wooden Chips', 19);
-INSERT INTO "order" (id, description, customer_id) VALUES (7186, 'Handmade Plastic Salad', 19);
-INSERT INTO "order" (id, description, customer_id) VALUES (7187, 'Handmade Rubber Bacon', 37);
-INSERT INTO "order" (id, description, customer_id) VALUES (7188, 'Gorgeous Rubber Car', 91);
-INSERT INTO "order" (id, description, customer_id) VALUES (7189, 'Licensed Granite Fish', 9);
-INSERT INTO "order" (id, description, customer_id) VALUES (7190, 'Luxurious Rubber Computer', 16);
-INSERT INTO "order" (id, description, customer_id) VALUES (7191, 'Intelligent Steel Tuna', 32);
-INSERT INTO "order" (id, description, customer_id) VALUES (7192, 'Electronic Soft Computer', 42);
-INSERT INTO "order" (id, description, customer_id) VALUES (7193, 'Awesome Bronze Sausages', 78);
-INSERT INTO "order" (id, description, customer_id) VALUES (7194, 'Luxurious Bronze Pizza', 58);
-INSERT INTO "order" (id, description, customer_id) VALUES (7195, 'Sleek Rubber Computer', 39);
-INSERT INTO "order" (id, description, customer_id) VALUES (7196, 'Intelligent Metal Pants', 48);
-INSERT INTO "order" (id, description, customer_id) VALUES (7197, 'Licensed Steel Bacon', 51);
-INSERT INTO "order" (id, description, customer_id) VALUES (7198, 'Sleek Plastic Mouse', 7);
-INSERT INTO "order" (id, description, customer_id) VALUES (7199, 'Licensed Fresh Shirt', 61);
-INSERT INTO "order" (id, description, customer_id) VALUES (7200, 'Practical Concrete Chair', 80);
-INSERT INTO "order" (id, description, customer_id) VALUES (7201, 'Elegant Plastic Shoes', 52);
-INSERT INTO "order" (id, description, customer_id) VALUES (7202, 'Oriental Rubber Shirt', 40);
-INSERT INTO "order" (id, description, customer_id) VALUES (7203, 'Awesome Frozen Keyboard', 93);
-INSERT INTO "order" (id, description, customer_id) VALUES (7204, 'Handmade Rubber Keyboard', 58);
-INSERT INTO "order" (id, description, customer_id) VALUES (7205, 'Small Metal Computer', 14);
-INSERT INTO "order" (id, description, customer_id) VALUES (7206, 'Practical Steel Table', 48);
-INSERT INTO "order" (id, description, customer_id) VALUES (7207, 'Awesome Concrete Sausages', 30);
-INSERT INTO "order" (id, description, customer_id) VALUES (7208, 'Awesome Concrete Mouse', 53);
-INSERT INTO "order" (id, description, customer_id) VALUES (7209, 'Rustic Rubber Chips', 39);
-INSERT INTO "order" (id, description, customer_id) VALUES (7210, 'Awesome Wooden Bacon', 72);
-INSERT INTO "order" (id, description, customer_id) VALUES (7211, 'Electronic Steel Gloves', 92);
-INSERT INTO "order" (id, description, customer_id) VALUES (7212, 'Sleek Concrete Pants', 37);
-INSERT INTO "order" (id, description, customer_id) VALUES (7213, 'Generic Bronze Sausages', 23);
-INSERT INTO "order" (id, description, customer_id) VALUES (7214, 'Refined Bronze Cheese', 3);
-INSERT INTO "order" (id, description, customer_id) VALUES (7215, 'Incredible Plastic Computer', 19);
-INSERT INTO "order" (id, description, customer_id) VALUES (7216, 'Luxurious Soft Fish', 34);
-INSERT INTO "order" (id, description, customer_id) VALUES (7217, 'Sleek Cotton Towels', 30);
-INSERT INTO "order" (id, description, customer_id) VALUES (7218, 'Incredible Plastic Chips', 5);
-INSERT INTO "order" (id, description, customer_id) VALUES (7219, 'Sleek Metal Bike', 63);
-INSERT INTO "order" (id, description, customer_id) VALUES (7220, 'Incredible Wooden Shoes', 13);
-INSERT INTO "order" (id, description, customer_id) VALUES (7221, 'Rustic Cotton Chips', 30);
-INSERT INTO "order" (id, description, customer_id) VALUES (7222, 'Tasty Wooden Cheese', 76);
-INSERT INTO "order" (id, description, customer_id) VALUES (7223, 'Sleek Rubber Soap', 13);
-INSERT INTO "order" (id, description, customer_id) VALUES (7224, 'Unbranded Steel Towels', 55);
-INSERT INTO "order" (id, description, customer_id) VALUES (7225, 'Intelligent Metal Salad', 63);
-INSERT INTO "order" (id, description, customer_id) VALUES (7226, 'Refined Fresh Table', 2);
-INSERT INTO "order" (id, description, customer_id) VALUES (7227, 'Small Wooden Car', 12);
-INSERT INTO "order" (id, description, customer_id) VALUES (7228, 'Tasty Steel Soap', 95);
-INSERT INTO "order" (id, description, customer_id) VALUES (7229, 'Bespoke Soft Mouse', 49);
-INSERT INTO "order" (id, description, customer_id) VALUES (7230, 'Practical Soft Shirt', 45);
-INSERT INTO "order" (id, description, customer_id) VALUES (7231, 'Incredible Fresh Fish', 94);
-INSERT INTO "order" (id, description, customer_id) VALUES (7232, 'Intelligent Granite Cheese', 93);
-INSERT INTO "order" (id, description, customer_id) VALUES (7233, 'Small Frozen Car', 62);
-INSERT INTO "order" (id, description, customer_id) VALUES (7234, 'Ergonomic Granite Tuna', 74);
-INSERT INTO "order" (id, description, customer_id) VALUES (7235, 'Oriental Plastic Pants', 26);
-INSERT INTO "order" (id, description, customer_id) VALUES (7236, 'Elegant Rubber Towels', 21);
-INSERT INTO "order" (id, description, customer_id) VALUES (7237, 'Awesome Fresh Gloves', 73);
-INSERT INTO "order" (id, description, customer_id) VALUES (7238, 'Ergonomic Metal Pants', 28);
-INSERT INTO "order" (id, description, customer_id) VALUES (7239, 'Practical Metal Gloves', 23);
-INSERT INTO "order" (id, description, customer_id) VALUES (7240, 'Modern Wooden Pants', 88);
-INSERT INTO "order" (id, description, customer_id) VALUES (7241, 'Ergonomic Plastic Chicken', 80);
-INSERT INTO "order" (id, description, customer_id) VALUES (7242, 'Gorgeous Metal Chips', 40);
-INSERT INTO "order" (id, description, customer_id) VALUES (7243, 'Refined Frozen Table', 49);
-INSERT INTO "order" (id, description, customer_id) VALUES (7244, 'Licensed Fresh Fish', 59);
-INSERT INTO "order" (id, description, customer_id) VALUES (7245, 'Oriental Rubber Pizza', 53);
-INSERT INTO "order" (id, description, customer_id) VALUES (7246, 'Small Steel Pants', 14);
-INSERT INTO "order" (id, description, customer_id) VALUES (7247, 'Small Wooden Towels', 47);
-INSERT INTO "order" (id, description, customer_id) VALUES (7248, 'Incredible Granite Computer', 20);
-INSERT INTO "order" (id, description, customer_id) VALUES (7249, 'Awesome Fresh Chips', 51);
-INSERT INTO "order" (id, description, customer_id) VALUES (7250, 'Small Frozen Chips', 52);
-INSERT INTO "order" (id, description, customer_id) VALUES (7251, 'Intelligent Bronze Pants', 76);
-INSERT INTO "order" (id, description, customer_id) VALUES (7252, 'Intelligent Bronze Car', 14);
-INSERT INTO "order" (id, description, customer_id) VALUES (7253, 'Incredible Fresh Sausages', 76);
-INSERT INTO "order" (id, description, customer_id) VALUES (7254, 'Sleek Concrete Chips', 12);
-INSERT INTO "order" (id, description, customer_id) VALUES (7255, 'Modern Bronze Computer', 69);
-INSERT INTO "order" (id, description, customer_id) VALUES (7256, 'Practical Steel Car', 7);
-INSERT INTO "order" (id, description, customer_id) VALUES (7257, 'Handcrafted Concrete Chicken', 30);
-INSERT INTO "order" (id, description, customer_id) VALUES (7258, 'Gorgeous Wooden Ball', 58);
-INSERT INTO "order" (id, description, customer_id) VALUES (7259, 'Sleek Wooden Towels', 76);
-INSERT INTO "order" (id, description, customer_id) VALUES (7260, 'Bespoke Steel Keyboard', 38);
-INSERT INTO "order" (id, description, customer_id) VALUES (7261, 'Sleek Fresh Tuna', 27);
-INSERT INTO "order" (id, description, customer_id) VALUES (7262, 'Elegant Plastic Bacon', 66);
-INSERT INTO "order" (id, description, customer_id) VALUES (7263, 'Handcrafted Plastic Fish', 67);
-INSERT INTO "order" (id, description, customer_id) VALUES (7264, 'Tasty Granite Cheese', 49);
-INSERT INTO "order" (id, description, customer_id) VALUES (7265, 'Bespoke Frozen Salad', 41);
-INSERT INTO "order" (id, description, customer_id) VALUES (7266, 'Tasty Cotton Computer', 83);
-INSERT INTO "order" (id, description, customer_id) VALUES (7267, 'Intelligent Steel Bike', 18);
-INSERT INTO "order" (id, description, customer_id) VALUES (7268, 'Elegant Metal Bacon', 79);
-INSERT INTO "order" (id, description, customer_id) VALUES (7269, 'Incredible Fresh Hat', 75);
-INSERT INTO "order" (id, description, customer_id) VALUES (7270, 'Oriental Wooden Ball', 13);
-INSERT INTO "order" (id, description, customer_id) VALUES (7271, 'Handcrafted Concrete Computer', 34);
-INSERT INTO "order" (id, description, customer_id) VALUES (7272, 'Ergonomic Plastic Towels', 9);
-INSERT INTO "order" (id, description, customer_id) VALUES (7273, 'Oriental Rubber Ball', 34);
-INSERT INTO "order" (id, description, customer_id) VALUES (7274, 'Licensed Bronze Table', 70);
-INSERT INTO "order" (id, description, customer_id) VALUES (7275, 'Practical Cotton Pizza', 80);
-INSERT INTO "order" (id, description, customer_id) VALUES (7276, 'Elegant Soft Shirt', 36);
-INSERT INTO "order" (id, description, customer_id) VALUES (7277, 'Gorgeous Fresh Table', 9);
-INSERT INTO "order" (id, description, customer_id) VALUES (7278, 'Unbranded Rubber Towels', 47);
-INSERT INTO "order" (id, description, customer_id) VALUES (7279, 'Handmade Soft Ball', 94);
-INSERT INTO "order" (id, description, customer_id) VALUES (7280, 'Tasty Wooden Tuna', 1);
-INSERT INTO "order" (id, description, customer_id) VALUES (7281, 'Bespoke Cotton Fish', 44);
-INSERT INTO "order" (id, description, customer_id) VALUES (7282, 'Modern Plastic Table', 13);
-INSERT INTO "order" (id, description, customer_id) VALUES (7283, 'Awesome Frozen Sausages', 78);
-INSERT INTO "order" (id, description, customer_id) VALUES (7284, 'Bespoke Frozen Gloves', 3);
-INSERT INTO "order" (id, description, customer_id) VALUES (7285, 'Small Fresh Fish', 7);
-INSERT INTO "order" (id, description, customer_id) VALUES (7286, 'Electronic Steel Cheese', 55);
-INSERT INTO "order" (id, description, customer_id) VALUES (7287, 'Rustic Granite Shoes', 73);
-INSERT INTO "order" (id, description, customer_id) VALUES (7288, 'Intelligent Soft Pants', 54);
-INSERT INTO "order" (id, description, customer_id) VALUES (7289, 'Incredible Steel Pants', 17);
-INSERT INTO "order" (id, description, customer_id) VALUES (7290, 'Recycled Metal Chips', 94);
-INSERT INTO "order" (id, description, customer_id) VALUES (7291, 'Luxurious Soft Soap', 46);
-INSERT INTO "order" (id, description, customer_id) VALUES (7292, 'Handcrafted Granite Table', 45);
-INSERT INTO "order" (id, description, customer_id) VALUES (7293, 'Electronic Wooden Fish', 18);
-INSERT INTO "order" (id, description, customer_id) VALUES (7294, 'Incredible Metal Pants', 73);
-INSERT INTO "order" (id, description, customer_id) VALUES (7295, 'Electronic Frozen Sausages', 89);
-INSERT INTO "order" (id, description, customer_id) VALUES (7296, 'Fantastic Granite Gloves', 4);
-INSERT INTO "order" (id, description, customer_id) VALUES (7297, 'Refined Frozen Chicken', 58);
-INSERT INTO "order" (id, description, customer_id) VALUES (7298, 'Electronic Steel Pizza', 27);
-INSERT INTO "order" (id, description, customer_id) VALUES (7299, 'Small Soft Pizza', 42);
-INSERT INTO "order" (id, description, customer_id) VALUES (7300, 'Handmade Soft Chair', 99);
-INSERT INTO "order" (id, description, customer_id) VALUES (7301, 'Recycled Concrete Sausages', 6);
-INSERT INTO "order" (id, description, customer_id) VALUES (7302, 'Incredible Steel Towels', 1);
-INSERT INTO "order" (id, description, customer_id) VALUES (7303, 'Fantastic Bronze Bacon', 88);
-INSERT INTO "order" (id, description, customer_id) VALUES (7304, 'Tasty Frozen Ball', 39);
-INSERT INTO "order" (id, description, customer_id) VALUES (7305, 'Elegant Rubber Gloves', 93);
-INSERT INTO "order" (id, description, customer_id) VALUES (7306, 'Recycled Frozen Computer', 3);
-INSERT INTO "order" (id, description, customer_id) VALUES (7307, 'Ergonomic Steel Bike', 84);
-INSERT INTO "order" (id, description, customer_id) VALUES (7308, 'Licensed Plastic Salad', 46);
-INSERT INTO "order" (id, description, customer_id) VALUES (7309, 'Fantastic Plastic Pizza', 20);
-INSERT INTO "order" (id, description, customer_id) VALUES (7310, 'Awesome Bronze Salad', 89);
-INSERT INTO "order" (id, description, customer_id) VALUES (7311, 'Bespoke Steel Car', 59);
-INSERT INTO "order" (id, description, customer_id) VALUES (7312, 'Luxurious Concrete Table', 78);
-INSERT INTO "order" (id, description, customer_id) VALUES (7313, 'Generic Wooden Chips', 17);
-INSERT INTO "order" (id, description, customer_id) VALUES (7314, 'Ergonomic Metal Mouse', 48);
-INSERT INTO "order" (id, description, customer_id) VALUES (7315, 'Fantastic Granite Soap', 8);
-INSERT INTO "order" (id, description, customer_id) VALUES (7316, 'Intelligent Concrete Soap', 99);
-INSERT INTO "order" (id, description, customer_id) VALUES (7317, 'Intelligent Plastic Soap', 81);
-INSERT INTO "order" (id, description, customer_id) VALUES (7318, 'Gorgeous Rubber Hat', 74);
-INSERT INTO "order" (id, description, customer_id) VALUES (7319, 'Bespoke Steel Pants', 94);
-INSERT INTO "order" (id, description, customer_id) VALUES (7320, 'Awesome Rubber Car', 69);
-INSERT INTO "order" (id, description, customer_id) VALUES (7321, 'Electronic Concrete Towels', 78);
-INSERT INTO "order" (id, description, customer_id) VALUES (7322, 'Awesome Frozen Salad', 25);
-INSERT INTO "order" (id, description, customer_id) VALUES (7323, 'Handmade Wooden Sausages', 29);
-INSERT INTO "order" (id, description, customer_id) VALUES (7324, 'Generic Concrete Towels', 46);
-INSERT INTO "order" (id, description, customer_id) VALUES (7325, 'Unbranded Soft Chicken', 90);
-INSERT INTO "order" (id, description, customer_id) VALUES (7326, 'Handcrafted Metal Bike', 50);
-INSERT INTO "order" (id, description, customer_id) VALUES (7327, 'Electronic Cotton Table', 85);
-INSERT INTO "order" (id, description, customer_id) VALUES (7328, 'Modern Cotton Chicken', 6);
-INSERT INTO "order" (id, description, customer_id) VALUES (7329, 'Bespoke Metal Car', 63);
-INSERT INTO "order" (id, description, customer_id) VALUES (7330, 'Electronic Steel Bike', 87);
-INSERT INTO "order" (id, description, customer_id) VALUES (7331, 'Fantastic Frozen Chicken', 99);
-INSERT INTO "order" (id, description, customer_id) VALUES (7332, 'Practical Bronze Towels', 87);
-INSERT INTO "order" (id, description, customer_id) VALUES (7333, 'Sleek Cotton Soap', 46);
-INSERT INTO "order" (id, description, customer_id) VALUES (7334, 'Elegant Bronze Car', 92);
-INSERT INTO "order" (id, description, customer_id) VALUES (7335, 'Practical Wooden Mouse', 86);
-INSERT INTO "order" (id, description, customer_id) VALUES (7336, 'Fantastic Granite Salad', 78);
-INSERT INTO "order" (id, description, customer_id) VALUES (7337, 'Gorgeous Fresh Gloves', 66);
-INSERT INTO "order" (id, description, customer_id) VALUES (7338, 'Handmade Frozen Shoes', 60);
-INSERT INTO "order" (id, description, customer_id) VALUES (7339, 'Refined Frozen Cheese', 22);
-INSERT INTO "order" (id, description, customer_id) VALUES (7340, 'Gorgeous Fresh Table', 79);
-INSERT INTO "order" (id, description, customer_id) VALUES (7341, 'Luxurious Plastic Salad', 62);
-INSERT INTO "order" (id, description, customer_id) VALUES (7342, 'Bespoke Plastic Table', 99);
-INSERT INTO "order" (id, description, customer_id) VALUES (7343, 'Licensed Plastic Hat', 75);
-INSERT INTO "order" (id, description, customer_id) VALUES (7344, 'Awesome Rubber Computer', 77);
-INSERT INTO "order" (id, description, customer_id) VALUES (7345, 'Electronic Plastic Shirt', 66);
-INSERT INTO "order" (id, description, customer_id) VALUES (7346, 'Rustic Soft Bacon', 65);
-INSERT INTO "order" (id, description, customer_id) VALUES (7347, 'Electronic Plastic Tuna', 81);
-INSERT INTO "order" (id, description, customer_id) VALUES (7348, 'Generic Soft Bike', 25);
-INSERT INTO "order" (id, description, customer_id) VALUES (7349, 'Handcrafted Rubber Mouse', 62);
-INSERT INTO "order" (id, description, customer_id) VALUES (7350, 'Handcrafted Cotton Chicken', 93);
-INSERT INTO "order" (id, description, customer_id) VALUES (7351, 'Handmade Frozen Fish', 55);
-INSERT INTO "order" (id, description, customer_id) VALUES (7352, 'Awesome Rubber Chair', 53);
-INSERT INTO "order" (id, description, customer_id) VALUES (7353, 'Generic Soft Chips', 7);
-INSERT INTO "order" (id, description, customer_id) VALUES (7354, 'Licensed Bronze Tuna', 2);
-INSERT INTO "order" (id, description, customer_id) VALUES (7355, 'Recycled Concrete Shoes', 76);
-INSERT INTO "order" (id, description, customer_id) VALUES (7356, 'Awesome Granite Bacon', 66);
-INSERT INTO "order" (id, description, customer_id) VALUES (7357, 'Ergonomic Frozen Ball', 68);
-INSERT INTO "order" (id, description, customer_id) VALUES (7358, 'Awesome Fresh Cheese', 9);
-INSERT INTO "order" (id, description, customer_id) VALUES (7359, 'Tasty Cotton Shoes', 72);
-INSERT INTO "order" (id, description, customer_id) VALUES (7360, 'Modern Granite Shirt', 99);
-INSERT INTO "order" (id, description, customer_id) VALUES (7361, 'Luxurious Soft Hat', 7);
-INSERT INTO "order" (id, description, customer_id) VALUES (7362, 'Awesome Steel Shirt', 50);
-INSERT INTO "order" (id, description, customer_id) VALUES (7363, 'Ergonomic Wooden Chair', 76);
-INSERT INTO "order" (id, description, customer_id) VALUES (7364, 'Recycled Wooden Table', 71);
-INSERT INTO "order" (id, description, customer_id) VALUES (7365, 'Recycled Wooden Chair', 37);
-INSERT INTO "order" (id, description, customer_id) VALUES (7366, 'Oriental Rubber Keyboard', 71);
-INSERT INTO "order" (id, description, customer_id) VALUES (7367, 'Small Concrete Pants', 30);
-INSERT INTO "order" (id, description, customer_id) VALUES (7368, 'Bespoke Cotton Fish', 11);
-INSERT INTO "order" (id, description, customer_id) VALUES (7369, 'Refined Granite Keyboard', 52);
-INSERT INTO "order" (id, description, customer_id) VALUES (7370, 'Intelligent Metal Salad', 17);
-INSERT INTO "order" (id, description, customer_id) VALUES (7371, 'Recycled Fresh Computer', 85);
-INSERT INTO "order" (id, description, customer_id) VALUES (7372, 'Ergonomic Plastic Pizza', 58);
-INSERT INTO "order" (id, description, customer_id) VALUES (7373, 'Ergonomic Granite Bike', 12);
-INSERT INTO "order" (id, description, customer_id) VALUES (7374, 'Recycled Soft Bike', 90);
-INSERT INTO "order" (id, description, customer_id) VALUES (7375, 'Elegant Soft Hat', 98);
-INSERT INTO "order" (id, description, customer_id) VALUES (7376, 'Intelligent Concrete Cheese', 13);
-INSERT INTO "order" (id, description, customer_id) VALUES (7377, 'Ergonomic Cotton Salad', 16);
-INSERT INTO "order" (id, description, customer_id) VALUES (7378, 'Luxurious Cotton Mouse', 19);
-INSERT INTO "order" (id, description, customer_id) VALUES (7379, 'Awesome Steel Cheese', 11);
-INSERT INTO "order" (id, description, customer_id) VALUES (7380, 'Handcrafted Concrete Chair', 46);
-INSERT INTO "order" (id, description, customer_id) VALUES (7381, 'Incredible Bronze Shirt', 63);
-INSERT INTO "order" (id, description, customer_id) VALUES (7382, 'Unbranded Plastic Shoes', 30);
-INSERT INTO "order" (id, description, customer_id) VALUES (7383, 'Intelligent Plastic Chair', 10);
-INSERT INTO "order" (id, description, customer_id) VALUES (7384, 'Oriental Soft Pizza', 15);
-INSERT INTO "order" (id, description, customer_id) VALUES (7385, 'Refined Granite Cheese', 38);
-INSERT INTO "order" (id, description, customer_id) VALUES (7386, 'Incredible Frozen Cheese', 3);
-INSERT INTO "order" (id, description, customer_id) VALUES (7387, 'Refined Metal Ball', 60);
-INSERT INTO "order" (id, description, customer_id) VALUES (7388, 'Ergonomic Granite Bike', 6);
-INSERT INTO "order" (id, description, customer_id) VALUES (7389, 'Bespoke Metal Fish', 31);
-INSERT INTO "order" (id, description, customer_id) VALUES (7390, 'Awesome Steel Towels', 64);
-INSERT INTO "order" (id, description, customer_id) VALUES (7391, 'Electronic Fresh Tuna', 44);
-INSERT INTO "order" (id, description, customer_id) VALUES (7392, 'Generic Bronze Bacon', 84);
-INSERT INTO "order" (id, description, customer_id) VALUES (7393, 'Handcrafted Cotton Fish', 28);
-INSERT INTO "order" (id, description, customer_id) VALUES (7394, 'Intelligent Steel Gloves', 85);
-INSERT INTO "order" (id, description, customer_id) VALUES (7395, 'Incredible Steel Soap', 99);
-INSERT INTO "order" (id, description, customer_id) VALUES (7396, 'Sleek Concrete Car', 17);
-INSERT INTO "order" (id, description, customer_id) VALUES (7397, 'Luxurious Wooden Chicken', 37);
-INSERT INTO "order" (id, description, customer_id) VALUES (7398, 'Awesome Fresh Salad', 6);
-INSERT INTO "order" (id, description, customer_id) VALUES (7399, 'Licensed Wooden Bike', 59);
-INSERT INTO "order" (id, description, customer_id) VALUES (7400, 'Fantastic Frozen Gloves', 87);
-INSERT INTO "order" (id, description, customer_id) VALUES (7401, 'Fantastic Rubber Car', 61);
-INSERT INTO "order" (id, description, customer_id) VALUES (7402, 'Electronic Wooden Shirt', 57);
-INSERT INTO "order" (id, description, customer_id) VALUES (7403, 'Electronic Soft Hat', 64);
-INSERT INTO "order" (id, description, customer_id) VALUES (7404, 'Oriental Frozen Car', 33);
-INSERT INTO "order" (id, description, customer_id) VALUES (7405, 'Sleek Steel Sausages', 86);
-INSERT INTO "order" (id, description, customer_id) VALUES (7406, 'Recycled Wooden Keyboard', 24);
-INSERT INTO "order" (id, description, customer_id) VALUES (7407, 'Unbranded Concrete Shirt', 4);
-INSERT INTO "order" (id, description, customer_id) VALUES (7408, 'Handcrafted Bronze Car', 30);
-INSERT INTO "order" (id, description, customer_id) VALUES (7409, 'Electronic Steel Gloves', 71);
-INSERT INTO "order" (id, description, customer_id) VALUES (7410, 'Rustic Granite Computer', 60);
-INSERT INTO "order" (id, description, customer_id) VALUES (7411, 'Handmade Steel Table', 12);
-INSERT INTO "order" (id, description, customer_id) VALUES (7412, 'Elegant Granite Soap', 89);
-INSERT INTO "order" (id, description, customer_id) VALUES (7413, 'Refined Bronze Soap', 85);
-INSERT INTO "order" (id, description, customer_id) VALUES (7414, 'Refined Frozen Cheese', 87);
-INSERT INTO "order" (id, description, customer_id) VALUES (7415, 'Modern Plastic Computer', 51);
-INSERT INTO "order" (id, description, customer_id) VALUES (7416, 'Recycled Concrete Shoes', 34);
-INSERT INTO "order" (id, description, customer_id) VALUES (7417, 'Rustic Bronze Ball', 17);
-INSERT INTO "order" (id, description, customer_id) VALUES (7418, 'Recycled Concrete Car', 59);
-INSERT INTO "order" (id, description, customer_id) VALUES (7419, 'Handcrafted Metal Towels', 86);
-INSERT INTO "order" (id, description, customer_id) VALUES (7420, 'Refined Soft Cheese', 74);
-INSERT INTO "order" (id, description, customer_id) VALUES (7421, 'Sleek Concrete Fish', 28);
-INSERT INTO "order" (id, description, customer_id) VALUES (7422, 'Rustic Fresh Fish', 70);
-INSERT INTO "order" (id, description, customer_id) VALUES (7423, 'Gorgeous Granite Bacon', 42);
-INSERT INTO "order" (id, description, customer_id) VALUES (7424, 'Generic Fresh Cheese', 34);
-INSERT INTO "order" (id, description, customer_id) VALUES (7425, 'Refined Steel Mouse', 28);
-INSERT INTO "order" (id, description, customer_id) VALUES (7426, 'Recycled Wooden Shirt', 43);
-INSERT INTO "order" (id, description, customer_id) VALUES (7427, 'Oriental Bronze Shirt', 46);
-INSERT INTO "order" (id, description, customer_id) VALUES (7428, 'Handmade Metal Towels', 24);
-INSERT INTO "order" (id, description, customer_id) VALUES (7429, 'Tasty Soft Keyboard', 78);
-INSERT INTO "order" (id, description, customer_id) VALUES (7430, 'Recycled Frozen Ball', 59);
-INSERT INTO "order" (id, description, customer_id) VALUES (7431, 'Elegant Plastic Salad', 62);
-INSERT INTO "order" (id, description, customer_id) VALUES (7432, 'Refined Concrete Shoes', 17);
-INSERT INTO "order" (id, description, customer_id) VALUES (7433, 'Handcrafted Cotton Bike', 7);
-INSERT INTO "order" (id, description, customer_id) VALUES (7434, 'Rustic Cotton Tuna', 50);
-INSERT INTO "order" (id, description, customer_id) VALUES (7435, 'Ergonomic Granite Tuna', 1);
-INSERT INTO "order" (id, description, customer_id) VALUES (7436, 'Small Cotton Soap', 3);
-INSERT INTO "order" (id, description, customer_id) VALUES (7437, 'Practical Concrete Gloves', 16);
-INSERT INTO "order" (id, description, customer_id) VALUES (7438, 'Handmade Fresh Pizza', 25);
-INSERT INTO "order" (id, description, customer_id) VALUES (7439, 'Rustic Granite Tuna', 84);
-INSERT INTO "order" (id, description, customer_id) VALUES (7440, 'Fantastic Plastic Sausages', 74);
-INSERT INTO "order" (id, description, customer_id) VALUES (7441, 'Modern Frozen Tuna', 94);
-INSERT INTO "order" (id, description, customer_id) VALUES (7442, 'Ergonomic Plastic Car', 54);
-INSERT INTO "order" (id, description, customer_id) VALUES (7443, 'Elegant Soft Cheese', 16);
-INSERT INTO "order" (id, description, customer_id) VALUES (7444, 'Recycled Steel Table', 52);
-INSERT INTO "order" (id, description, customer_id) VALUES (7445, 'Incredible Steel Bike', 37);
-INSERT INTO "order" (id, description, customer_id) VALUES (7446, 'Oriental Granite Keyboard', 9);
-INSERT INTO "order" (id, description, customer_id) VALUES (7447, 'Gorgeous Granite Table', 49);
-INSERT INTO "order" (id, description, customer_id) VALUES (7448, 'Tasty Wooden Mouse', 48);
-INSERT INTO "order" (id, description, customer_id) VALUES (7449, 'Tasty Wooden Mouse', 50);
-INSERT INTO "order" (id, description, customer_id) VALUES (7450, 'Incredible Metal Car', 98);
-INSERT INTO "order" (id, description, customer_id) VALUES (7451, 'Small Bronze Table', 32);
-INSERT INTO "order" (id, description, customer_id) VALUES (7452, 'Oriental Steel Chair', 47);
-INSERT INTO "order" (id, description, customer_id) VALUES (7453, 'Licensed Bronze Bacon', 41);
-INSERT INTO "order" (id, description, customer_id) VALUES (7454, 'Rustic Bronze Chair', 3);
-INSERT INTO "order" (id, description, customer_id) VALUES (7455, 'Generic Frozen Gloves', 34);
-INSERT INTO "order" (id, description, customer_id) VALUES (7456, 'Recycled Metal Shirt', 33);
-INSERT INTO "order" (id, description, customer_id) VALUES (7457, 'Fantastic Wooden Fish', 87);
-INSERT INTO "order" (id, description, customer_id) VALUES (7458, 'Recycled Bronze Shirt', 100);
-INSERT INTO "order" (id, description, customer_id) VALUES (7459, 'Intelligent Concrete Soap', 96);
-INSERT INTO "order" (id, description, customer_id) VALUES (7460, 'Awesome Bronze Sausages', 75);
-INSERT INTO "order" (id, description, customer_id) VALUES (7461, 'Refined Granite Gloves', 70);
-INSERT INTO "order" (id, description, customer_id) VALUES (7462, 'Practical Concrete Salad', 90);
-INSERT INTO "order" (id, description, customer_id) VALUES (7463, 'Handmade Frozen Shoes', 96);
-INSERT INTO "order" (id, description, customer_id) VALUES (7464, 'Intelligent Bronze Car', 18);
-INSERT INTO "order" (id, description, customer_id) VALUES (7465, 'Refined Steel Hat', 62);
-INSERT INTO "order" (id, description, customer_id) VALUES (7466, 'Tasty Wooden Pants', 26);
-INSERT INTO "order" (id, description, customer_id) VALUES (7467, 'Awesome Rubber Keyboard', 74);
-INSERT INTO "order" (id, description, customer_id) VALUES (7468, 'Oriental Concrete Shoes', 49);
-INSERT INTO "order" (id, description, customer_id) VALUES (7469, 'Incredible Fresh Table', 51);
-INSERT INTO "order" (id, description, customer_id) VALUES (7470, 'Bespoke Soft Fish', 54);
-INSERT INTO "order" (id, description, customer_id) VALUES (7471, 'Refined Concrete Soap', 15);
-INSERT INTO "order" (id, description, customer_id) VALUES (7472, 'Oriental Granite Keyboard', 99);
-INSERT INTO "order" (id, description, customer_id) VALUES (7473, 'Licensed Fresh Salad', 50);
-INSERT INTO "order" (id, description, customer_id) VALUES (7474, 'Generic Concrete Soap', 7);
-INSERT INTO "order" (id, description, customer_id) VALUES (7475, 'Ergonomic Steel Pizza', 47);
-INSERT INTO "order" (id, description, customer_id) VALUES (7476, 'Incredible Fresh Soap', 1);
-INSERT INTO "order" (id, description, customer_id) VALUES (7477, 'Small Rubber Ball', 23);
-INSERT INTO "order" (id, description, customer_id) VALUES (7478, 'Practical Steel Towels', 73);
-INSERT INTO "order" (id, description, customer_id) VALUES (7479, 'Intelligent Concrete Salad', 55);
-INSERT INTO "order" (id, description, customer_id) VALUES (7480, 'Rustic Concrete Hat', 50);
-INSERT INTO "order" (id, description, customer_id) VALUES (7481, 'Recycled Steel Pizza', 27);
-INSERT INTO "order" (id, description, customer_id) VALUES (7482, 'Small Metal Table', 71);
-INSERT INTO "order" (id, description, customer_id) VALUES (7483, 'Ergonomic Granite Bacon', 52);
-INSERT INTO "order" (id, description, customer_id) VALUES (7484, 'Unbranded Rubber Chips', 57);
-INSERT INTO "order" (id, description, customer_id) VALUES (7485, 'Incredible Frozen Pizza', 33);
-INSERT INTO "order" (id, description, customer_id) VALUES (7486, 'Fantastic Frozen Bacon', 53);
-INSERT INTO "order" (id, description, customer_id) VALUES (7487, 'Licensed Cotton Pants', 82);
-INSERT INTO "order" (id, description, customer_id) VALUES (7488, 'Small Frozen Chips', 32);
-INSERT INTO "order" (id, description, customer_id) VALUES (7489, 'Rustic Frozen Chair', 3);
-INSERT INTO "order" (id, description, customer_id) VALUES (7490, 'Recycled Fresh Sausages', 32);
-INSERT INTO "order" (id, description, customer_id) VALUES (7491, 'Unbranded Cotton Table', 87);
-INSERT INTO "order" (id, description, customer_id) VALUES (7492, 'Tasty Plastic Tuna', 37);
-INSERT INTO "order" (id, description, customer_id) VALUES (7493, 'Intelligent Soft Mouse', 90);
-INSERT INTO "order" (id, description, customer_id) VALUES (7494, 'Awesome Metal Mouse', 12);
-INSERT INTO "order" (id, description, customer_id) VALUES (7495, 'Electronic Cotton Cheese', 17);
-INSERT INTO "order" (id, description, customer_id) VALUES (7496, 'Small Wooden Fish', 74);
-INSERT INTO "order" (id, description, customer_id) VALUES (7497, 'Unbranded Plastic Computer', 58);
-INSERT INTO "order" (id, description, customer_id) VALUES (7498, 'Luxurious Granite Pants', 49);
-INSERT INTO "order" (id, description, customer_id) VALUES (7499, 'Luxurious Rubber Pants', 42);
-INSERT INTO "order" (id, description, customer_id) VALUES (7500, 'Intelligent Bronze Chips', 92);
-INSERT INTO "order" (id, description, customer_id) VALUES (7501, 'Bespoke Frozen Towels', 89);
-INSERT INTO "order" (id, description, customer_id) VALUES (7502, 'Intelligent Plastic Towels', 16);
-INSERT INTO "order" (id, description, customer_id) VALUES (7503, 'Generic Plastic Pants', 49);
-INSERT INTO "order" (id, description, customer_id) VALUES (7504, 'Refined Plastic Salad', 59);
-INSERT INTO "order" (id, description, customer_id) VALUES (7505, 'Ergonomic Wooden Soap', 80);
-INSERT INTO "order" (id, description, customer_id) VALUES (7506, 'Elegant Bronze Chair', 93);
-INSERT INTO "order" (id, description, customer_id) VALUES (7507, 'Fantastic Plastic Towels', 21);
-INSERT INTO "order" (id, description, customer_id) VALUES (7508, 'Elegant Granite Ball', 25);
-INSERT INTO "order" (id, description, customer_id) VALUES (7509, 'Sleek Soft Chicken', 80);
-INSERT INTO "order" (id, description, customer_id) VALUES (7510, 'Bespoke Granite Sausages', 23);
-INSERT INTO "order" (id, description, customer_id) VALUES (7511, 'Handcrafted Plastic Salad', 10);
-INSERT INTO "order" (id, description, customer_id) VALUES (7512, 'Practical Concrete Fish', 3);
-INSERT INTO "order" (id, description, customer_id) VALUES (7513, 'Recycled Frozen Table', 61);
-INSERT INTO "order" (id, description, customer_id) VALUES (7514, 'Refined Soft Towels', 73);
-INSERT INTO "order" (id, description, customer_id) VALUES (7515, 'Unbranded Soft Bike', 37);
-INSERT INTO "order" (id, description, customer_id) VALUES (7516, 'Luxurious Concrete Ball', 35);
-INSERT INTO "order" (id, description, customer_id) VALUES (7517, 'Ergonomic Metal Salad', 15);
-INSERT INTO "order" (id, description, customer_id) VALUES (7518, 'Gorgeous Wooden Bacon', 85);
-INSERT INTO "order" (id, description, customer_id) VALUES (7519, 'Luxurious Bronze Shirt', 90);
-INSERT INTO "order" (id, description, customer_id) VALUES (7520, 'Recycled Wooden Pizza', 64);
-INSERT INTO "order" (id, description, customer_id) VALUES (7521, 'Intelligent Frozen Soap', 7);
-INSERT INTO "order" (id, description, customer_id) VALUES (7522, 'Gorgeous Fresh Fish', 63);
-INSERT INTO "order" (id, description, customer_id) VALUES (7523, 'Licensed Wooden Tuna', 5);
-INSERT INTO "order" (id, description, customer_id) VALUES (7524, 'Rustic Granite Mouse', 51);
-INSERT INTO "order" (id, description, customer_id) VALUES (7525, 'Handcrafted Granite Sausages', 82);
-INSERT INTO "order" (id, description, customer_id) VALUES (7526, 'Modern Wooden Chicken', 62);
-INSERT INTO "order" (id, description, customer_id) VALUES (7527, 'Generic Wooden Gloves', 26);
-INSERT INTO "order" (id, description, customer_id) VALUES (7528, 'Handcrafted Wooden Shoes', 13);
-INSERT INTO "order" (id, description, customer_id) VALUES (7529, 'Small Steel Hat', 66);
-INSERT INTO "order" (id, description, customer_id) VALUES (7530, 'Practical Steel Computer', 86);
-INSERT INTO "order" (id, description, customer_id) VALUES (7531, 'Ergonomic Cotton Gloves', 50);
-INSERT INTO "order" (id, description, customer_id) VALUES (7532, 'Modern Steel Salad', 64);
-INSERT INTO "order" (id, description, customer_id) VALUES (7533, 'Luxurious Concrete Chair', 31);
-INSERT INTO "order" (id, description, customer_id) VALUES (7534, 'Licensed Concrete Fish', 17);
-INSERT INTO "order" (id, description, customer_id) VALUES (7535, 'Electronic Cotton Mouse', 86);
-INSERT INTO "order" (id, description, customer_id) VALUES (7536, 'Awesome Plastic Sausages', 62);
-INSERT INTO "order" (id, description, customer_id) VALUES (7537, 'Luxurious Wooden Keyboard', 88);
-INSERT INTO "order" (id, description, customer_id) VALUES (7538, 'Unbranded Plastic Mouse', 46);
-INSERT INTO "order" (id, description, customer_id) VALUES (7539, 'Small Frozen Car', 52);
-INSERT INTO "order" (id, description, customer_id) VALUES (7540, 'Unbranded Metal Shoes', 76);
-INSERT INTO "order" (id, description, customer_id) VALUES (7541, 'Rustic Concrete Bacon', 67);
-INSERT INTO "order" (id, description, customer_id) VALUES (7542, 'Licensed Metal Cheese', 3);
-INSERT INTO "order" (id, description, customer_id) VALUES (7543, 'Refined Concrete Car', 12);
-INSERT INTO "order" (id, description, customer_id) VALUES (7544, 'Bespoke Steel Hat', 32);
-INSERT INTO "order" (id, description, customer_id) VALUES (7545, 'Sleek Cotton Gloves', 34);
-INSERT INTO "order" (id, description, customer_id) VALUES (7546, 'Licensed Bronze Chicken', 85);
-INSERT INTO "order" (id, description, customer_id) VALUES (7547, 'Generic Frozen Chicken', 47);
-INSERT INTO "order" (id, description, customer_id) VALUES (7548, 'Handmade Bronze Soap', 42);
-INSERT INTO "order" (id, description, customer_id) VALUES (7549, 'Practical Wooden Keyboard', 32);
-INSERT INTO "order" (id, description, customer_id) VALUES (7550, 'Gorgeous Frozen Chair', 55);
-INSERT INTO "order" (id, description, customer_id) VALUES (7551, 'Gorgeous Steel Fish', 80);
-INSERT INTO "order" (id, description, customer_id) VALUES (7552, 'Handmade Steel Soap', 49);
-INSERT INTO "order" (id, description, customer_id) VALUES (7553, 'Licensed Granite Gloves', 81);
-INSERT INTO "order" (id, description, customer_id) VALUES (7554, 'Recycled Fresh Pizza', 18);
-INSERT INTO "order" (id, description, customer_id) VALUES (7555, 'Oriental Bronze Fish', 40);
-INSERT INTO "order" (id, description, customer_id) VALUES (7556, 'Unbranded Granite Fish', 68);
-INSERT INTO "order" (id, description, customer_id) VALUES (7557, 'Luxurious Plastic Chips', 55);
-INSERT INTO "order" (id, description, customer_id) VALUES (7558, 'Refined Bronze Sausages', 69);
-INSERT INTO "order" (id, description, customer_id) VALUES (7559, 'Awesome Wooden Hat', 87);
-INSERT INTO "order" (id, description, customer_id) VALUES (7560, 'Rustic Wooden Mouse', 77);
-INSERT INTO "order" (id, description, customer_id) VALUES (7561, 'Bespoke Cotton Pizza', 61);
-INSERT INTO "order" (id, description, customer_id) VALUES (7562, 'Licensed Concrete Gloves', 38);
-INSERT INTO "order" (id, description, customer_id) VALUES (7563, 'Unbranded Cotton Salad', 40);
-INSERT INTO "order" (id, description, customer_id) VALUES (7564, 'Gorgeous Wooden Bike', 66);
-INSERT INTO "order" (id, description, customer_id) VALUES (7565, 'Practical Cotton Keyboard', 10);
-INSERT INTO "order" (id, description, customer_id) VALUES (7566, 'Tasty Cotton Fish', 70);
-INSERT INTO "order" (id, description, customer_id) VALUES (7567, 'Small Bronze Soap', 88);
-INSERT INTO "order" (id, description, customer_id) VALUES (7568, 'Incredible Steel Shirt', 44);
-INSERT INTO "order" (id, description, customer_id) VALUES (7569, 'Electronic Bronze Pants', 45);
-INSERT INTO "order" (id, description, customer_id) VALUES (7570, 'Tasty Rubber Cheese', 10);
-INSERT INTO "order" (id, description, customer_id) VALUES (7571, 'Tasty Steel Sausages', 68);
-INSERT INTO "order" (id, description, customer_id) VALUES (7572, 'Intelligent Rubber Cheese', 61);
-INSERT INTO "order" (id, description, customer_id) VALUES (7573, 'Ergonomic Frozen Fish', 73);
-INSERT INTO "order" (id, description, customer_id) VALUES (7574, 'Licensed Metal Chips', 95);
-INSERT INTO "order" (id, description, customer_id) VALUES (7575, 'Gorgeous Granite Shoes', 53);
-INSERT INTO "order" (id, description, customer_id) VALUES (7576, 'Practical Wooden Salad', 16);
-INSERT INTO "order" (id, description, customer_id) VALUES (7577, 'Handmade Steel Chair', 85);
-INSERT INTO "order" (id, description, customer_id) VALUES (7578, 'Generic Fresh Bike', 10);
-INSERT INTO "order" (id, description, customer_id) VALUES (7579, 'Incredible Wooden Pants', 49);
-INSERT INTO "order" (id, description, customer_id) VALUES (7580, 'Gorgeous Steel Computer', 27);
-INSERT INTO "order" (id, description, customer_id) VALUES (7581, 'Practical Plastic Sausages', 48);
-INSERT INTO "order" (id, description, customer_id) VALUES (7582, 'Unbranded Fresh Shoes', 13);
-INSERT INTO "order" (id, description, customer_id) VALUES (7583, 'Generic Cotton Keyboard', 86);
-INSERT INTO "order" (id, description, customer_id) VALUES (7584, 'Fantastic Plastic Mouse', 63);
-INSERT INTO "order" (id, description, customer_id) VALUES (7585, 'Oriental Plastic Chips', 61);
-INSERT INTO "order" (id, description, customer_id) VALUES (7586, 'Sleek Frozen Fish', 42);
-INSERT INTO "order" (id, description, customer_id) VALUES (7587, 'Electronic Frozen Bacon', 76);
-INSERT INTO "order" (id, description, customer_id) VALUES (7588, 'Refined Fresh Keyboard', 32);
-INSERT INTO "order" (id, description, customer_id) VALUES (7589, 'Handmade Soft Ball', 92);
-INSERT INTO "order" (id, description, customer_id) VALUES (7590, 'Electronic Granite Fish', 43);
-INSERT INTO "order" (id, description, customer_id) VALUES (7591, 'Ergonomic Concrete Shoes', 79);
-INSERT INTO "order" (id, description, customer_id) VALUES (7592, 'Ergonomic Bronze Tuna', 38);
-INSERT INTO "order" (id, description, customer_id) VALUES (7593, 'Luxurious Frozen Mouse', 70);
-INSERT INTO "order" (id, description, customer_id) VALUES (7594, 'Tasty Wooden Soap', 92);
-INSERT INTO "order" (id, description, customer_id) VALUES (7595, 'Electronic Soft Pizza', 13);
-INSERT INTO "order" (id, description, customer_id) VALUES (7596, 'Licensed Frozen Chips', 86);
-INSERT INTO "order" (id, description, customer_id) VALUES (7597, 'Fantastic Steel Towels', 73);
-INSERT INTO "order" (id, description, customer_id) VALUES (7598, 'Recycled Wooden Cheese', 35);
-INSERT INTO "order" (id, description, customer_id) VALUES (7599, 'Unbranded Plastic Ball', 34);
-INSERT INTO "order" (id, description, customer_id) VALUES (7600, 'Practical Fresh Towels', 80);
-INSERT INTO "order" (id, description, customer_id) VALUES (7601, 'Incredible Steel Chips', 9);
-INSERT INTO "order" (id, description, customer_id) VALUES (7602, 'Tasty Wooden Chicken', 89);
-INSERT INTO "order" (id, description, customer_id) VALUES (7603, 'Modern Concrete Car', 61);
-INSERT INTO "order" (id, description, customer_id) VALUES (7604, 'Handcrafted Bronze Computer', 28);
-INSERT INTO "order" (id, description, customer_id) VALUES (7605, 'Gorgeous Frozen Chips', 16);
-INSERT INTO "order" (id, description, customer_id) VALUES (7606, 'Tasty Plastic Pants', 77);
-INSERT INTO "order" (id, description, customer_id) VALUES (7607, 'Luxurious Wooden Tuna', 69);
-INSERT INTO "order" (id, description, customer_id) VALUES (7608, 'Unbranded Bronze Soap', 2);
-INSERT INTO "order" (id, description, customer_id) VALUES (7609, 'Practical Cotton Chicken', 13);
-INSERT INTO "order" (id, description, customer_id) VALUES (7610, 'Ergonomic Concrete Chicken', 74);
-INSERT INTO "order" (id, description, customer_id) VALUES (7611, 'Handcrafted Granite Computer', 3);
-INSERT INTO "order" (id, description, customer_id) VALUES (7612, 'Modern Concrete Salad', 89);
-INSERT INTO "order" (id, description, customer_id) VALUES (7613, 'Incredible Plastic Hat', 94);
-INSERT INTO "order" (id, description, customer_id) VALUES (7614, 'Ergonomic Metal Cheese', 11);
-INSERT INTO "order" (id, description, customer_id) VALUES (7615, 'Recycled Frozen Soap', 15);
-INSERT INTO "order" (id, description, customer_id) VALUES (7616, 'Refined Plastic Bacon', 82);
-INSERT INTO "order" (id, description, customer_id) VALUES (7617, 'Ergonomic Wooden Gloves', 49);
-INSERT INTO "order" (id, description, customer_id) VALUES (7618, 'Unbranded Cotton Salad', 3);
-INSERT INTO "order" (id, description, customer_id) VALUES (7619, 'Modern Wooden Keyboard', 8);
-INSERT INTO "order" (id, description, customer_id) VALUES (7620, 'Unbranded Steel Sausages', 58);
-INSERT INTO "order" (id, description, customer_id) VALUES (7621, 'Licensed Steel Cheese', 37);
-INSERT INTO "order" (id, description, customer_id) VALUES (7622, 'Tasty Soft Fish', 45);
-INSERT INTO "order" (id, description, customer_id) VALUES (7623, 'Incredible Metal Tuna', 71);
-INSERT INTO "order" (id, description, customer_id) VALUES (7624, 'Unbranded Metal Hat', 22);
-INSERT INTO "order" (id, description, customer_id) VALUES (7625, 'Unbranded Fresh Table', 63);
-INSERT INTO "order" (id, description, customer_id) VALUES (7626, 'Electronic Soft Sausages', 28);
-INSERT INTO "order" (id, description, customer_id) VALUES (7627, 'Handcrafted Fresh Table', 71);
-INSERT INTO "order" (id, description, customer_id) VALUES (7628, 'Oriental Wooden Shoes', 48);
-INSERT INTO "order" (id, description, customer_id) VALUES (7629, 'Awesome Wooden Sausages', 53);
-INSERT INTO "order" (id, description, customer_id) VALUES (7630, 'Tasty Bronze Keyboard', 51);
-INSERT INTO "order" (id, description, customer_id) VALUES (7631, 'Oriental Concrete Chicken', 44);
-INSERT INTO "order" (id, description, customer_id) VALUES (7632, 'Licensed Concrete Gloves', 70);
-INSERT INTO "order" (id, description, customer_id) VALUES (7633, 'Handmade Rubber Shirt', 24);
-INSERT INTO "order" (id, description, customer_id) VALUES (7634, 'Luxurious Plastic Hat', 20);
-INSERT INTO "order" (id, description, customer_id) VALUES (7635, 'Intelligent Plastic Hat', 51);
-INSERT INTO "order" (id, description, customer_id) VALUES (7636, 'Oriental Steel Table', 53);
-INSERT INTO "order" (id, description, customer_id) VALUES (7637, 'Tasty Rubber Hat', 37);
-INSERT INTO "order" (id, description, customer_id) VALUES (7638, 'Handmade Frozen Car', 27);
-INSERT INTO "order" (id, description, customer_id) VALUES (7639, 'Bespoke Fresh Sausages', 4);
-INSERT INTO "order" (id, description, customer_id) VALUES (7640, 'Intelligent Cotton Car', 44);
-INSERT INTO "order" (id, description, customer_id) VALUES (7641, 'Oriental Plastic Hat', 69);
-INSERT INTO "order" (id, description, customer_id) VALUES (7642, 'Licensed Bronze Hat', 11);
-INSERT INTO "order" (id, description, customer_id) VALUES (7643, 'Fantastic Soft Chair', 81);
-INSERT INTO "order" (id, description, customer_id) VALUES (7644, 'Elegant Wooden Chips', 56);
-INSERT INTO "order" (id, description, customer_id) VALUES (7645, 'Handmade Concrete Bike', 15);
-INSERT INTO "order" (id, description, customer_id) VALUES (7646, 'Rustic Concrete Salad', 97);
-INSERT INTO "order" (id, description, customer_id) VALUES (7647, 'Electronic Wooden Salad', 68);
-INSERT INTO "order" (id, description, customer_id) VALUES (7648, 'Unbranded Metal Tuna', 20);
-INSERT INTO "order" (id, description, customer_id) VALUES (7649, 'Practical Metal Sausages', 67);
-INSERT INTO "order" (id, description, customer_id) VALUES (7650, 'Sleek Steel Pizza', 94);
-INSERT INTO "order" (id, description, customer_id) VALUES (7651, 'Recycled Fresh Soap', 43);
-INSERT INTO "order" (id, description, customer_id) VALUES (7652, 'Generic Frozen Shirt', 63);
-INSERT INTO "order" (id, description, customer_id) VALUES (7653, 'Unbranded Steel Car', 98);
-INSERT INTO "order" (id, description, customer_id) VALUES (7654, 'Incredible Plastic Pants', 12);
-INSERT INTO "order" (id, description, customer_id) VALUES (7655, 'Incredible Soft Chicken', 10);
-INSERT INTO "order" (id, description, customer_id) VALUES (7656, 'Handmade Metal Computer', 37);
-INSERT INTO "order" (id, description, customer_id) VALUES (7657, 'Luxurious Granite Fish', 95);
-INSERT INTO "order" (id, description, customer_id) VALUES (7658, 'Luxurious Rubber Gloves', 2);
-INSERT INTO "order" (id, description, customer_id) VALUES (7659, 'Handmade Frozen Salad', 59);
-INSERT INTO "order" (id, description, customer_id) VALUES (7660, 'Tasty Wooden Computer', 23);
-INSERT INTO "order" (id, description, customer_id) VALUES (7661, 'Licensed Cotton Shoes', 61);
-INSERT INTO "order" (id, description, customer_id) VALUES (7662, 'Incredible Metal Salad', 64);
-INSERT INTO "order" (id, description, customer_id) VALUES (7663, 'Intelligent Fresh Tuna', 19);
-INSERT INTO "order" (id, description, customer_id) VALUES (7664, 'Unbranded Granite Fish', 60);
-INSERT INTO "order" (id, description, customer_id) VALUES (7665, 'Recycled Bronze Gloves', 87);
-INSERT INTO "order" (id, description, customer_id) VALUES (7666, 'Fantastic Granite Chair', 44);
-INSERT INTO "order" (id, description, customer_id) VALUES (7667, 'Modern Concrete Tuna', 71);
-INSERT INTO "order" (id, description, customer_id) VALUES (7668, 'Fantastic Metal Chair', 82);
-INSERT INTO "order" (id, description, customer_id) VALUES (7669, 'Modern Frozen Shirt', 72);
-INSERT INTO "order" (id, description, customer_id) VALUES (7670, 'Bespoke Bronze Pants', 86);
-INSERT INTO "order" (id, description, customer_id) VALUES (7671, 'Licensed Steel Salad', 73);
-INSERT INTO "order" (id, description, customer_id) VALUES (7672, 'Licensed Rubber Chicken', 72);
-INSERT INTO "order" (id, description, customer_id) VALUES (7673, 'Gorgeous Rubber Chips', 6);
-INSERT INTO "order" (id, description, customer_id) VALUES (7674, 'Luxurious Rubber Tuna', 40);
-INSERT INTO "order" (id, description, customer_id) VALUES (7675, 'Ergonomic Plastic Computer', 67);
-INSERT INTO "order" (id, description, customer_id) VALUES (7676, 'Oriental Wooden Shoes', 18);
-INSERT INTO "order" (id, description, customer_id) VALUES (7677, 'Elegant Frozen Chicken', 42);
-INSERT INTO "order" (id, description, customer_id) VALUES (7678, 'Small Rubber Hat', 73);
-INSERT INTO "order" (id, description, customer_id) VALUES (7679, 'Handmade Metal Pants', 96);
-INSERT INTO "order" (id, description, customer_id) VALUES (7680, 'Tasty Rubber Shirt', 18);
-INSERT INTO "order" (id, description, customer_id) VALUES (7681, 'Bespoke Wooden Table', 93);
-INSERT INTO "order" (id, description, customer_id) VALUES (7682, 'Tasty Steel Hat', 55);
-INSERT INTO "order" (id, description, customer_id) VALUES (7683, 'Rustic Cotton Keyboard', 78);
-INSERT INTO "order" (id, description, customer_id) VALUES (7684, 'Sleek Plastic Soap', 4);
-INSERT INTO "order" (id, description, customer_id) VALUES (7685, 'Licensed Fresh Chips', 62);
-INSERT INTO "order" (id, description, customer_id) VALUES (7686, 'Handmade Frozen Gloves', 17);
-INSERT INTO "order" (id, description, customer_id) VALUES (7687, 'Sleek Frozen Sausages', 76);
-INSERT INTO "order" (id, description, customer_id) VALUES (7688, 'Ergonomic Granite Chicken', 49);
-INSERT INTO "order" (id, description, customer_id) VALUES (7689, 'Modern Rubber Tuna', 21);
-INSERT INTO "order" (id, description, customer_id) VALUES (7690, 'Oriental Concrete Cheese', 67);
-INSERT INTO "order" (id, description, customer_id) VALUES (7691, 'Electronic Granite Tuna', 98);
-INSERT INTO "order" (id, description, customer_id) VALUES (7692, 'Awesome Plastic Sausages', 76);
-INSERT INTO "order" (id, description, customer_id) VALUES (7693, 'Oriental Concrete Fish', 17);
-INSERT INTO "order" (id, description, customer_id) VALUES (7694, 'Unbranded Frozen Keyboard', 82);
-INSERT INTO "order" (id, description, customer_id) VALUES (7695, 'Small Wooden Fish', 73);
-INSERT INTO "order" (id, description, customer_id) VALUES (7696, 'Recycled Soft Table', 43);
-INSERT INTO "order" (id, description, customer_id) VALUES (7697, 'Luxurious Fresh Salad', 32);
-INSERT INTO "order" (id, description, customer_id) VALUES (7698, 'Gorgeous Wooden Pants', 36);
-INSERT INTO "order" (id, description, customer_id) VALUES (7699, 'Incredible Steel Shoes', 68);
-INSERT INTO "order" (id, description, customer_id) VALUES (7700, 'Tasty Bronze Chips', 29);
-INSERT INTO "order" (id, description, customer_id) VALUES (7701, 'Awesome Plastic Shoes', 27);
-INSERT INTO "order" (id, description, customer_id) VALUES (7702, 'Awesome Granite Chicken', 88);
-INSERT INTO "order" (id, description, customer_id) VALUES (7703, 'Generic Frozen Fish', 65);
-INSERT INTO "order" (id, description, customer_id) VALUES (7704, 'Gorgeous Rubber Chair', 82);
-INSERT INTO "order" (id, description, customer_id) VALUES (7705, 'Refined Steel Table', 76);
-INSERT INTO "order" (id, description, customer_id) VALUES (7706, 'Refined Wooden Keyboard', 57);
-INSERT INTO "order" (id, description, customer_id) VALUES (7707, 'Incredible Concrete Mouse', 46);
-INSERT INTO "order" (id, description, customer_id) VALUES (7708, 'Rustic Concrete Hat', 5);
-INSERT INTO "order" (id, description, customer_id) VALUES (7709, 'Small Plastic Bacon', 88);
-INSERT INTO "order" (id, description, customer_id) VALUES (7710, 'Bespoke Frozen Chicken', 75);
-INSERT INTO "order" (id, description, customer_id) VALUES (7711, 'Refined Rubber Towels', 48);
-INSERT INTO "order" (id, description, customer_id) VALUES (7712, 'Luxurious Granite Pants', 34);
-INSERT INTO "order" (id, description, customer_id) VALUES (7713, 'Practical Wooden Gloves', 69);
-INSERT INTO "order" (id, description, customer_id) VALUES (7714, 'Bespoke Concrete Shirt', 80);
-INSERT INTO "order" (id, description, customer_id) VALUES (7715, 'Bespoke Bronze Shirt', 59);
-INSERT INTO "order" (id, description, customer_id) VALUES (7716, 'Modern Fresh Table', 35);
-INSERT INTO "order" (id, description, customer_id) VALUES (7717, 'Electronic Plastic Shoes', 92);
-INSERT INTO "order" (id, description, customer_id) VALUES (7718, 'Intelligent Fresh Gloves', 80);
-INSERT INTO "order" (id, description, customer_id) VALUES (7719, 'Recycled Plastic Tuna', 9);
-INSERT INTO "order" (id, description, customer_id) VALUES (7720, 'Handcrafted Metal Towels', 2);
-INSERT INTO "order" (id, description, customer_id) VALUES (7721, 'Generic Metal Fish', 51);
-INSERT INTO "order" (id, description, customer_id) VALUES (7722, 'Licensed Wooden Shoes', 13);
-INSERT INTO "order" (id, description, customer_id) VALUES (7723, 'Tasty Granite Chicken', 65);
-INSERT INTO "order" (id, description, customer_id) VALUES (7724, 'Electronic Metal Mouse', 26);
-INSERT INTO "order" (id, description, customer_id) VALUES (7725, 'Small Frozen Chips', 40);
-INSERT INTO "order" (id, description, customer_id) VALUES (7726, 'Awesome Plastic Computer', 15);
-INSERT INTO "order" (id, description, customer_id) VALUES (7727, 'Gorgeous Metal Chair', 64);
-INSERT INTO "order" (id, description, customer_id) VALUES (7728, 'Fantastic Wooden Fish', 22);
-INSERT INTO "order" (id, description, customer_id) VALUES (7729, 'Fantastic Concrete Hat', 35);
-INSERT INTO "order" (id, description, customer_id) VALUES (7730, 'Generic Soft Shoes', 86);
-INSERT INTO "order" (id, description, customer_id) VALUES (7731, 'Recycled Concrete Ball', 69);
-INSERT INTO "order" (id, description, customer_id) VALUES (7732, 'Fantastic Concrete Cheese', 67);
-INSERT INTO "order" (id, description, customer_id) VALUES (7733, 'Modern Rubber Pants', 82);
-INSERT INTO "order" (id, description, customer_id) VALUES (7734, 'Handmade Steel Ball', 58);
-INSERT INTO "order" (id, description, customer_id) VALUES (7735, 'Small Concrete Pants', 32);
-INSERT INTO "order" (id, description, customer_id) VALUES (7736, 'Intelligent Soft Shirt', 73);
-INSERT INTO "order" (id, description, customer_id) VALUES (7737, 'Ergonomic Metal Car', 56);
-INSERT INTO "order" (id, description, customer_id) VALUES (7738, 'Refined Concrete Mouse', 95);
-INSERT INTO "order" (id, description, customer_id) VALUES (7739, 'Gorgeous Cotton Keyboard', 90);
-INSERT INTO "order" (id, description, customer_id) VALUES (7740, 'Small Cotton Shoes', 69);
-INSERT INTO "order" (id, description, customer_id) VALUES (7741, 'Gorgeous Granite Salad', 77);
-INSERT INTO "order" (id, description, customer_id) VALUES (7742, 'Incredible Soft Soap', 58);
-INSERT INTO "order" (id, description, customer_id) VALUES (7743, 'Handmade Concrete Hat', 12);
-INSERT INTO "order" (id, description, customer_id) VALUES (7744, 'Modern Concrete Sausages', 76);
-INSERT INTO "order" (id, description, customer_id) VALUES (7745, 'Sleek Metal Towels', 40);
-INSERT INTO "order" (id, description, customer_id) VALUES (7746, 'Oriental Frozen Bike', 1);
-INSERT INTO "order" (id, description, customer_id) VALUES (7747, 'Handcrafted Frozen Towels', 42);
-INSERT INTO "order" (id, description, customer_id) VALUES (7748, 'Recycled Granite Bike', 30);
-INSERT INTO "order" (id, description, customer_id) VALUES (7749, 'Generic Steel Cheese', 31);
-INSERT INTO "order" (id, description, customer_id) VALUES (7750, 'Gorgeous Rubber Computer', 49);
-INSERT INTO "order" (id, description, customer_id) VALUES (7751, 'Refined Granite Pants', 86);
-INSERT INTO "order" (id, description, customer_id) VALUES (7752, 'Unbranded Fresh Mouse', 54);
-INSERT INTO "order" (id, description, customer_id) VALUES (7753, 'Intelligent Cotton Mouse', 40);
-INSERT INTO "order" (id, description, customer_id) VALUES (7754, 'Handmade Rubber Ball', 93);
-INSERT INTO "order" (id, description, customer_id) VALUES (7755, 'Oriental Soft Bike', 82);
-INSERT INTO "order" (id, description, customer_id) VALUES (7756, 'Tasty Fresh Computer', 82);
-INSERT INTO "order" (id, description, customer_id) VALUES (7757, 'Gorgeous Metal Shirt', 49);
-INSERT INTO "order" (id, description, customer_id) VALUES (7758, 'Modern Steel Bike', 58);
-INSERT INTO "order" (id, description, customer_id) VALUES (7759, 'Licensed Plastic Car', 17);
-INSERT INTO "order" (id, description, customer_id) VALUES (7760, 'Incredible Granite Shoes', 3);
-INSERT INTO "order" (id, description, customer_id) VALUES (7761, 'Bespoke Frozen Table', 77);
-INSERT INTO "order" (id, description, customer_id) VALUES (7762, 'Handcrafted Granite Car', 58);
-INSERT INTO "order" (id, description, customer_id) VALUES (7763, 'Modern Bronze Ball', 6);
-INSERT INTO "order" (id, description, customer_id) VALUES (7764, 'Rustic Steel Pants', 7);
-INSERT INTO "order" (id, description, customer_id) VALUES (7765, 'Incredible Steel Keyboard', 3);
-INSERT INTO "order" (id, description, customer_id) VALUES (7766, 'Incredible Metal Salad', 10);
-INSERT INTO "order" (id, description, customer_id) VALUES (7767, 'Handmade Plastic Pants', 33);
-INSERT INTO "order" (id, description, customer_id) VALUES (7768, 'Luxurious Rubber Mouse', 62);
-INSERT INTO "order" (id, description, customer_id) VALUES (7769, 'Modern Granite Chair', 18);
-INSERT INTO "order" (id, description, customer_id) VALUES (7770, 'Handcrafted Fresh Chair', 48);
-INSERT INTO "order" (id, description, customer_id) VALUES (7771, 'Bespoke Steel Keyboard', 45);
-INSERT INTO "order" (id, description, customer_id) VALUES (7772, 'Luxurious Granite Hat', 56);
-INSERT INTO "order" (id, description, customer_id) VALUES (7773, 'Incredible Wooden Sausages', 93);
-INSERT INTO "order" (id, description, customer_id) VALUES (7774, 'Elegant Steel Shoes', 72);
-INSERT INTO "order" (id, description, customer_id) VALUES (7775, 'Ergonomic Soft Shirt', 38);
-INSERT INTO "order" (id, description, customer_id) VALUES (7776, 'Intelligent Granite Computer', 76);
-INSERT INTO "order" (id, description, customer_id) VALUES (7777, 'Refined Frozen Chicken', 55);
-INSERT INTO "order" (id, description, customer_id) VALUES (7778, 'Ergonomic Frozen Pizza', 1);
-INSERT INTO "order" (id, description, customer_id) VALUES (7779, 'Handcrafted Fresh Mouse', 33);
-INSERT INTO "order" (id, description, customer_id) VALUES (7780, 'Recycled Fresh Pants', 12);
-INSERT INTO "order" (id, description, customer_id) VALUES (7781, 'Handmade Steel Towels', 81);
-INSERT INTO "order" (id, description, customer_id) VALUES (7782, 'Tasty Metal Towels', 23);
-INSERT INTO "order" (id, description, customer_id) VALUES (7783, 'Generic Soft Shirt', 55);
-INSERT INTO "order" (id, description, customer_id) VALUES (7784, 'Practical Soft Salad', 55);
-INSERT INTO "order" (id, description, customer_id) VALUES (7785, 'Handmade Rubber Pants', 13);
-INSERT INTO "order" (id, description, customer_id) VALUES (7786, 'Incredible Concrete Shoes', 32);
-INSERT INTO "order" (id, description, customer_id) VALUES (7787, 'Practical Wooden Chair', 3);
-INSERT INTO "order" (id, description, customer_id) VALUES (7788, 'Unbranded Soft Ball', 99);
-INSERT INTO "order" (id, description, customer_id) VALUES (7789, 'Licensed Metal Soap', 33);
-INSERT INTO "order" (id, description, customer_id) VALUES (7790, 'Sleek Plastic Car', 47);
-INSERT INTO "order" (id, description, customer_id) VALUES (7791, 'Bespoke Rubber Cheese', 47);
-INSERT INTO "order" (id, description, customer_id) VALUES (7792, 'Intelligent Wooden Chair', 3);
-INSERT INTO "order" (id, description, customer_id) VALUES (7793, 'Fantastic Steel Sausages', 17);
-INSERT INTO "order" (id, description, customer_id) VALUES (7794, 'Gorgeous Bronze Keyboard', 26);
-INSERT INTO "order" (id, description, customer_id) VALUES (7795, 'Practical Cotton Table', 16);
-INSERT INTO "order" (id, description, customer_id) VALUES (7796, 'Sleek Frozen Table', 51);
-INSERT INTO "order" (id, description, customer_id) VALUES (7797, 'Rustic Granite Mouse', 26);
-INSERT INTO "order" (id, description, customer_id) VALUES (7798, 'Fantastic Soft Chair', 79);
-INSERT INTO "order" (id, description, customer_id) VALUES (7799, 'Licensed Wooden Pants', 49);
-INSERT INTO "order" (id, description, customer_id) VALUES (7800, 'Electronic Concrete Ball', 51);
-INSERT INTO "order" (id, description, customer_id) VALUES (7801, 'Elegant Cotton Ball', 29);
-INSERT INTO "order" (id, description, customer_id) VALUES (7802, 'Refined Wooden Car', 42);
-INSERT INTO "order" (id, description, customer_id) VALUES (7803, 'Recycled Cotton Tuna', 36);
-INSERT INTO "order" (id, description, customer_id) VALUES (7804, 'Incredible Granite Cheese', 99);
-INSERT INTO "order" (id, description, customer_id) VALUES (7805, 'Oriental Concrete Car', 21);
-INSERT INTO "order" (id, description, customer_id) VALUES (7806, 'Bespoke Granite Cheese', 60);
-INSERT INTO "order" (id, description, customer_id) VALUES (7807, 'Handmade Frozen Computer', 50);
-INSERT INTO "order" (id, description, customer_id) VALUES (7808, 'Licensed Steel Sausages', 92);
-INSERT INTO "order" (id, description, customer_id) VALUES (7809, 'Sleek Plastic Car', 25);
-INSERT INTO "order" (id, description, customer_id) VALUES (7810, 'Licensed Soft Tuna', 13);
-INSERT INTO "order" (id, description, customer_id) VALUES (7811, 'Practical Cotton Sausages', 49);
-INSERT INTO "order" (id, description, customer_id) VALUES (7812, 'Awesome Metal Soap', 58);
-INSERT INTO "order" (id, description, customer_id) VALUES (7813, 'Modern Soft Shoes', 50);
-INSERT INTO "order" (id, description, customer_id) VALUES (7814, 'Recycled Plastic Ball', 51);
-INSERT INTO "order" (id, description, customer_id) VALUES (7815, 'Awesome Metal Car', 98);
-INSERT INTO "order" (id, description, customer_id) VALUES (7816, 'Elegant Granite Cheese', 32);
-INSERT INTO "order" (id, description, customer_id) VALUES (7817, 'Handcrafted Soft Shoes', 39);
-INSERT INTO "order" (id, description, customer_id) VALUES (7818, 'Rustic Steel Shoes', 26);
-INSERT INTO "order" (id, description, customer_id) VALUES (7819, 'Handcrafted Soft Salad', 55);
-INSERT INTO "order" (id, description, customer_id) VALUES (7820, 'Electronic Frozen Pizza', 37);
-INSERT INTO "order" (id, description, customer_id) VALUES (7821, 'Recycled Cotton Cheese', 10);
-INSERT INTO "order" (id, description, customer_id) VALUES (7822, 'Small Steel Pants', 17);
-INSERT INTO "order" (id, description, customer_id) VALUES (7823, 'Electronic Plastic Computer', 100);
-INSERT INTO "order" (id, description, customer_id) VALUES (7824, 'Small Granite Pants', 28);
-INSERT INTO "order" (id, description, customer_id) VALUES (7825, 'Oriental Rubber Gloves', 4);
-INSERT INTO "order" (id, description, customer_id) VALUES (7826, 'Generic Soft Ball', 43);
-INSERT INTO "order" (id, description, customer_id) VALUES (7827, 'Luxurious Granite Fish', 77);
-INSERT INTO "order" (id, description, customer_id) VALUES (7828, 'Practical Plastic Gloves', 2);
-INSERT INTO "order" (id, description, customer_id) VALUES (7829, 'Ergonomic Rubber Table', 22);
-INSERT INTO "order" (id, description, customer_id) VALUES (7830, 'Electronic Granite Ball', 64);
-INSERT INTO "order" (id, description, customer_id) VALUES (7831, 'Luxurious Steel Mouse', 58);
-INSERT INTO "order" (id, description, customer_id) VALUES (7832, 'Handmade Wooden Pizza', 84);
-INSERT INTO "order" (id, description, customer_id) VALUES (7833, 'Electronic Rubber Ball', 27);
-INSERT INTO "order" (id, description, customer_id) VALUES (7834, 'Tasty Cotton Ball', 33);
-INSERT INTO "order" (id, description, customer_id) VALUES (7835, 'Small Cotton Table', 92);
-INSERT INTO "order" (id, description, customer_id) VALUES (7836, 'Incredible Concrete Chair', 74);
-INSERT INTO "order" (id, description, customer_id) VALUES (7837, 'Practical Granite Pants', 91);
-INSERT INTO "order" (id, description, customer_id) VALUES (7838, 'Elegant Frozen Towels', 47);
-INSERT INTO "order" (id, description, customer_id) VALUES (7839, 'Gorgeous Fresh Chips', 6);
-INSERT INTO "order" (id, description, customer_id) VALUES (7840, 'Fantastic Fresh Gloves', 63);
-INSERT INTO "order" (id, description, customer_id) VALUES (7841, 'Bespoke Fresh Tuna', 53);
-INSERT INTO "order" (id, description, customer_id) VALUES (7842, 'Intelligent Cotton Pants', 3);
-INSERT INTO "order" (id, description, customer_id) VALUES (7843, 'Electronic Concrete Towels', 61);
-INSERT INTO "order" (id, description, customer_id) VALUES (7844, 'Oriental Fresh Car', 2);
-INSERT INTO "order" (id, description, customer_id) VALUES (7845, 'Incredible Metal Chips', 84);
-INSERT INTO "order" (id, description, customer_id) VALUES (7846, 'Modern Rubber Towels', 50);
-INSERT INTO "order" (id, description, customer_id) VALUES (7847, 'Handmade Concrete Salad', 47);
-INSERT INTO "order" (id, description, customer_id) VALUES (7848, 'Refined Frozen Hat', 44);
-INSERT INTO "order" (id, description, customer_id) VALUES (7849, 'Licensed Frozen Shoes', 96);
-INSERT INTO "order" (id, description, customer_id) VALUES (7850, 'Awesome Metal Pizza', 8);
-INSERT INTO "order" (id, description, customer_id) VALUES (7851, 'Recycled Plastic Chair', 81);
-INSERT INTO "order" (id, description, customer_id) VALUES (7852, 'Licensed Concrete Sausages', 66);
-INSERT INTO "order" (id, description, customer_id) VALUES (7853, 'Elegant Plastic Hat', 38);
-INSERT INTO "order" (id, description, customer_id) VALUES (7854, 'Elegant Frozen Chicken', 73);
-INSERT INTO "order" (id, description, customer_id) VALUES (7855, 'Gorgeous Bronze Car', 90);
-INSERT INTO "order" (id, description, customer_id) VALUES (7856, 'Handmade Steel Chips', 40);
-INSERT INTO "order" (id, description, customer_id) VALUES (7857, 'Elegant Frozen Shirt', 43);
-INSERT INTO "order" (id, description, customer_id) VALUES (7858, 'Intelligent Metal Salad', 77);
-INSERT INTO "order" (id, description, customer_id) VALUES (7859, 'Sleek Metal Table', 36);
-INSERT INTO "order" (id, description, customer_id) VALUES (7860, 'Intelligent Metal Bike', 55);
-INSERT INTO "order" (id, description, customer_id) VALUES (7861, 'Luxurious Plastic Pizza', 42);
-INSERT INTO "order" (id, description, customer_id) VALUES (7862, 'Intelligent Frozen Hat', 54);
-INSERT INTO "order" (id, description, customer_id) VALUES (7863, 'Intelligent Plastic Towels', 99);
-INSERT INTO "order" (id, description, customer_id) VALUES (7864, 'Fantastic Plastic Salad', 58);
-INSERT INTO "order" (id, description, customer_id) VALUES (7865, 'Sleek Wooden Chicken', 80);
-INSERT INTO "order" (id, description, customer_id) VALUES (7866, 'Handmade Cotton Table', 53);
-INSERT INTO "order" (id, description, customer_id) VALUES (7867, 'Incredible Soft Sausages', 62);
-INSERT INTO "order" (id, description, customer_id) VALUES (7868, 'Bespoke Rubber Car', 43);
-INSERT INTO "order" (id, description, customer_id) VALUES (7869, 'Electronic Soft Sausages', 62);
-INSERT INTO "order" (id, description, customer_id) VALUES (7870, 'Rustic Wooden Pants', 56);
-INSERT INTO "order" (id, description, customer_id) VALUES (7871, 'Handmade Wooden Mouse', 64);
-INSERT INTO "order" (id, description, customer_id) VALUES (7872, 'Incredible Bronze Keyboard', 88);
-INSERT INTO "order" (id, description, customer_id) VALUES (7873, 'Practical Frozen Soap', 21);
-INSERT INTO "order" (id, description, customer_id) VALUES (7874, 'Elegant Rubber Chair', 1);
-INSERT INTO "order" (id, description, customer_id) VALUES (7875, 'Handcrafted Steel Shoes', 49);
-INSERT INTO "order" (id, description, customer_id) VALUES (7876, 'Gorgeous Granite Gloves', 6);
-INSERT INTO "order" (id, description, customer_id) VALUES (7877, 'Elegant Plastic Towels', 55);
-INSERT INTO "order" (id, description, customer_id) VALUES (7878, 'Generic Metal Tuna', 50);
-INSERT INTO "order" (id, description, customer_id) VALUES (7879, 'Modern Frozen Pizza', 59);
-INSERT INTO "order" (id, description, customer_id) VALUES (7880, 'Practical Bronze Computer', 25);
-INSERT INTO "order" (id, description, customer_id) VALUES (7881, 'Luxurious Bronze Hat', 84);
-INSERT INTO "order" (id, description, customer_id) VALUES (7882, 'Tasty Wooden Car', 37);
-INSERT INTO "order" (id, description, customer_id) VALUES (7883, 'Rustic Soft Bike', 89);
-INSERT INTO "order" (id, description, customer_id) VALUES (7884, 'Handcrafted Soft Chips', 42);
-INSERT INTO "order" (id, description, customer_id) VALUES (7885, 'Incredible Plastic Chips', 100);
-INSERT INTO "order" (id, description, customer_id) VALUES (7886, 'Electronic Metal Soap', 6);
-INSERT INTO "order" (id, description, customer_id) VALUES (7887, 'Gorgeous Bronze Keyboard', 23);
-INSERT INTO "order" (id, description, customer_id) VALUES (7888, 'Refined Soft Cheese', 36);
-INSERT INTO "order" (id, description, customer_id) VALUES (7889, 'Licensed Plastic Computer', 22);
-INSERT INTO "order" (id, description, customer_id) VALUES (7890, 'Modern Bronze Mouse', 69);
-INSERT INTO "order" (id, description, customer_id) VALUES (7891, 'Refined Fresh Salad', 39);
-INSERT INTO "order" (id, description, customer_id) VALUES (7892, 'Elegant Cotton Bike', 35);
-INSERT INTO "order" (id, description, customer_id) VALUES (7893, 'Handmade Concrete Soap', 85);
-INSERT INTO "order" (id, description, customer_id) VALUES (7894, 'Incredible Plastic Bike', 70);
-INSERT INTO "order" (id, description, customer_id) VALUES (7895, 'Recycled Wooden Towels', 32);
-INSERT INTO "order" (id, description, customer_id) VALUES (7896, 'Elegant Wooden Car', 83);
-INSERT INTO "order" (id, description, customer_id) VALUES (7897, 'Handmade Concrete Tuna', 88);
-INSERT INTO "order" (id, description, customer_id) VALUES (7898, 'Handcrafted Metal Keyboard', 20);
-INSERT INTO "order" (id, description, customer_id) VALUES (7899, 'Sleek Granite Ball', 40);
-INSERT INTO "order" (id, description, customer_id) VALUES (7900, 'Small Frozen Tuna', 80);
-INSERT INTO "order" (id, description, customer_id) VALUES (7901, 'Sleek Granite Salad', 15);
-INSERT INTO "order" (id, description, customer_id) VALUES (7902, 'Rustic Concrete Bike', 93);
-INSERT INTO "order" (id, description, customer_id) VALUES (7903, 'Luxurious Concrete Soap', 21);
-INSERT INTO "order" (id, description, customer_id) VALUES (7904, 'Licensed Fresh Mouse', 36);
-INSERT INTO "order" (id, description, customer_id) VALUES (7905, 'Licensed Granite Car', 87);
-INSERT INTO "order" (id, description, customer_id) VALUES (7906, 'Rustic Fresh Table', 69);
-INSERT INTO "order" (id, description, customer_id) VALUES (7907, 'Tasty Concrete Towels', 24);
-INSERT INTO "order" (id, description, customer_id) VALUES (7908, 'Bespoke Cotton Bacon', 38);
-INSERT INTO "order" (id, description, customer_id) VALUES (7909, 'Modern Concrete Chair', 86);
-INSERT INTO "order" (id, description, customer_id) VALUES (7910, 'Licensed Bronze Bacon', 69);
-INSERT INTO "order" (id, description, customer_id) VALUES (7911, 'Recycled Plastic Bike', 1);
-INSERT INTO "order" (id, description, customer_id) VALUES (7912, 'Elegant Rubber Ball', 72);
-INSERT INTO "order" (id, description, customer_id) VALUES (7913, 'Bespoke Bronze Hat', 15);
-INSERT INTO "order" (id, description, customer_id) VALUES (7914, 'Luxurious Granite Bike', 52);
-INSERT INTO "order" (id, description, customer_id) VALUES (7915, 'Gorgeous Steel Sausages', 64);
-INSERT INTO "order" (id, description, customer_id) VALUES (7916, 'Oriental Metal Cheese', 16);
-INSERT INTO "order" (id, description, customer_id) VALUES (7917, 'Modern Rubber Soap', 91);
-INSERT INTO "order" (id, description, customer_id) VALUES (7918, 'Small Plastic Ball', 12);
-INSERT INTO "order" (id, description, customer_id) VALUES (7919, 'Luxurious Plastic Bacon', 57);
-INSERT INTO "order" (id, description, customer_id) VALUES (7920, 'Fantastic Plastic Table', 13);
-INSERT INTO "order" (id, description, customer_id) VALUES (7921, 'Unbranded Granite Chips', 30);
-INSERT INTO "order" (id, description, customer_id) VALUES (7922, 'Handcrafted Cotton Computer', 53);
-INSERT INTO "order" (id, description, customer_id) VALUES (7923, 'Luxurious Cotton Table', 41);
-INSERT INTO "order" (id, description, customer_id) VALUES (7924, 'Bespoke Bronze Chips', 43);
-INSERT INTO "order" (id, description, customer_id) VALUES (7925, 'Fantastic Metal Cheese', 59);
-INSERT INTO "order" (id, description, customer_id) VALUES (7926, 'Practical Concrete Sausages', 5);
-INSERT INTO "order" (id, description, customer_id) VALUES (7927, 'Refined Metal Pizza', 24);
-INSERT INTO "order" (id, description, customer_id) VALUES (7928, 'Unbranded Wooden Shoes', 21);
-INSERT INTO "order" (id, description, customer_id) VALUES (7929, 'Incredible Frozen Pants', 91);
-INSERT INTO "order" (id, description, customer_id) VALUES (7930, 'Handmade Bronze Gloves', 32);
-INSERT INTO "order" (id, description, customer_id) VALUES (7931, 'Bespoke Bronze Gloves', 61);
-INSERT INTO "order" (id, description, customer_id) VALUES (7932, 'Bespoke Rubber Chicken', 92);
-INSERT INTO "order" (id, description, customer_id) VALUES (7933, 'Ergonomic Steel Bacon', 82);
-INSERT INTO "order" (id, description, customer_id) VALUES (7934, 'Sleek Metal Chips', 80);
-INSERT INTO "order" (id, description, customer_id) VALUES (7935, 'Generic Steel Bike', 14);
-INSERT INTO "order" (id, description, customer_id) VALUES (7936, 'Rustic Plastic Salad', 19);
-INSERT INTO "order" (id, description, customer_id) VALUES (7937, 'Awesome Granite Ball', 7);
-INSERT INTO "order" (id, description, customer_id) VALUES (7938, 'Intelligent Plastic Bacon', 32);
-INSERT INTO "order" (id, description, customer_id) VALUES (7939, 'Ergonomic Bronze Tuna', 88);
-INSERT INTO "order" (id, description, customer_id) VALUES (7940, 'Ergonomic Frozen Hat', 85);
-INSERT INTO "order" (id, description, customer_id) VALUES (7941, 'Handmade Concrete Pizza', 59);
-INSERT INTO "order" (id, description, customer_id) VALUES (7942, 'Refined Plastic Salad', 25);
-INSERT INTO "order" (id, description, customer_id) VALUES (7943, 'Recycled Cotton Soap', 91);
-INSERT INTO "order" (id, description, customer_id) VALUES (7944, 'Unbranded Fresh Chicken', 11);
-INSERT INTO "order" (id, description, customer_id) VALUES (7945, 'Sleek Metal Pants', 79);
-INSERT INTO "order" (id, description, customer_id) VALUES (7946, 'Incredible Concrete Ball', 96);
-INSERT INTO "order" (id, description, customer_id) VALUES (7947, 'Ergonomic Cotton Hat', 64);
-INSERT INTO "order" (id, description, customer_id) VALUES (7948, 'Awesome Frozen Computer', 22);
-INSERT INTO "order" (id, description, customer_id) VALUES (7949, 'Bespoke Steel Gloves', 62);
-INSERT INTO "order" (id, description, customer_id) VALUES (7950, 'Ergonomic Concrete Chicken', 11);
-INSERT INTO "order" (id, description, customer_id) VALUES (7951, 'Fantastic Cotton Shirt', 19);
-INSERT INTO "order" (id, description, customer_id) VALUES (7952, 'Tasty Cotton Bacon', 62);
-INSERT INTO "order" (id, description, customer_id) VALUES (7953, 'Gorgeous Rubber Soap', 44);
-INSERT INTO "order" (id, description, customer_id) VALUES (7954, 'Intelligent Frozen Cheese', 36);
-INSERT INTO "order" (id, description, customer_id) VALUES (7955, 'Sleek Rubber Towels', 85);
-INSERT INTO "order" (id, description, customer_id) VALUES (7956, 'Fantastic Concrete Towels', 80);
-INSERT INTO "order" (id, description, customer_id) VALUES (7957, 'Sleek Granite Gloves', 27);
-INSERT INTO "order" (id, description, customer_id) VALUES (7958, 'Fantastic Cotton Bacon', 4);
-INSERT INTO "order" (id, description, customer_id) VALUES (7959, 'Awesome Fresh Shirt', 2);
-INSERT INTO "order" (id, description, customer_id) VALUES (7960, 'Practical Frozen Towels', 61);
-INSERT INTO "order" (id, description, customer_id) VALUES (7961, 'Bespoke Granite Pizza', 1);
-INSERT INTO "order" (id, description, customer_id) VALUES (7962, 'Practical Soft Salad', 37);
-INSERT INTO "order" (id, description, customer_id) VALUES (7963, 'Licensed Fresh Pants', 85);
-INSERT INTO "order" (id, description, customer_id) VALUES (7964, 'Sleek Steel Cheese', 73);
-INSERT INTO "order" (id, description, customer_id) VALUES (7965, 'Incredible Soft Gloves', 13);
-INSERT INTO "order" (id, description, customer_id) VALUES (7966, 'Electronic Plastic Ball', 49);
-INSERT INTO "order" (id, description, customer_id) VALUES (7967, 'Ergonomic Soft Pizza', 85);
-INSERT INTO "order" (id, description, customer_id) VALUES (7968, 'Rustic Granite Gloves', 50);
-INSERT INTO "order" (id, description, customer_id) VALUES (7969, 'Unbranded Plastic Pizza', 53);
-INSERT INTO "order" (id, description, customer_id) VALUES (7970, 'Electronic Granite Table', 62);
-INSERT INTO "order" (id, description, customer_id) VALUES (7971, 'Licensed Steel Pizza', 43);
-INSERT INTO "order" (id, description, customer_id) VALUES (7972, 'Rustic Cotton Chair', 1);
-INSERT INTO "order" (id, description, customer_id) VALUES (7973, 'Oriental Soft Fish', 59);
-INSERT INTO "order" (id, description, customer_id) VALUES (7974, 'Rustic Granite Computer', 12);
-INSERT INTO "order" (id, description, customer_id) VALUES (7975, 'Incredible Wooden Car', 12);
-INSERT INTO "order" (id, description, customer_id) VALUES (7976, 'Awesome Wooden Salad', 100);
-INSERT INTO "order" (id, description, customer_id) VALUES (7977, 'Gorgeous Fresh Sausages', 89);
-INSERT INTO "order" (id, description, customer_id) VALUES (7978, 'Licensed Bronze Shirt', 20);
-INSERT INTO "order" (id, description, customer_id) VALUES (7979, 'Modern Wooden Table', 12);
-INSERT INTO "order" (id, description, customer_id) VALUES (7980, 'Elegant Concrete Chicken', 3);
-INSERT INTO "order" (id, description, customer_id) VALUES (7981, 'Practical Cotton Computer', 29);
-INSERT INTO "order" (id, description, customer_id) VALUES (7982, 'Modern Steel Tuna', 69);
-INSERT INTO "order" (id, description, customer_id) VALUES (7983, 'Ergonomic Wooden Car', 68);
-INSERT INTO "order" (id, description, customer_id) VALUES (7984, 'Gorgeous Rubber Hat', 69);
-INSERT INTO "order" (id, description, customer_id) VALUES (7985, 'Luxurious Cotton Cheese', 43);
-INSERT INTO "order" (id, description, customer_id) VALUES (7986, 'Awesome Concrete Shoes', 14);
-INSERT INTO "order" (id, description, customer_id) VALUES (7987, 'Intelligent Concrete Pants', 65);
-INSERT INTO "order" (id, description, customer_id) VALUES (7988, 'Refined Wooden Bike', 51);
-INSERT INTO "order" (id, description, customer_id) VALUES (7989, 'Awesome Plastic Shirt', 63);
-INSERT INTO "order" (id, description, customer_id) VALUES (7990, 'Ergonomic Steel Bacon', 92);
-INSERT INTO "order" (id, description, customer_id) VALUES (7991, 'Elegant Wooden Bike', 72);
-INSERT INTO "order" (id, description, customer_id) VALUES (7992, 'Licensed Granite Salad', 97);
-INSERT INTO "order" (id, description, customer_id) VALUES (7993, 'Fantastic Plastic Cheese', 37);
-INSERT INTO "order" (id, description, customer_id) VALUES (7994, 'Modern Soft Salad', 9);
-INSERT INTO "order" (id, description, customer_id) VALUES (7995, 'Intelligent Fresh Car', 71);
-INSERT INTO "order" (id, description, customer_id) VALUES (7996, 'Oriental Frozen Chicken', 70);
-INSERT INTO "order" (id, description, customer_id) VALUES (7997, 'Licensed Plastic Ball', 89);
-INSERT INTO "order" (id, description, customer_id) VALUES (7998, 'Electronic Concrete Chair', 17);
-INSERT INTO "order" (id, description, customer_id) VALUES (7999, 'Sleek Cotton Sausages', 65);
-INSERT INTO "order" (id, description, customer_id) VALUES (8000, 'Handcrafted Rubber Salad', 80);
-INSERT INTO "order" (id, description, customer_id) VALUES (8001, 'Gorgeous Metal Hat', 81);
-INSERT INTO "order" (id, description, customer_id) VALUES (8002, 'Refined Frozen Table', 87);
-INSERT INTO "order" (id, description, customer_id) VALUES (8003, 'Incredible Soft Salad', 55);
-INSERT INTO "order" (id, description, customer_id) VALUES (8004, 'Recycled Wooden Bike', 85);
-INSERT INTO "order" (id, description, customer_id) VALUES (8005, 'Awesome Wooden Shoes', 47);
-INSERT INTO "order" (id, description, customer_id) VALUES (8006, 'Elegant Cotton Chicken', 58);
-INSERT INTO "order" (id, description, customer_id) VALUES (8007, 'Intelligent Metal Chair', 40);
-INSERT INTO "order" (id, description, customer_id) VALUES (8008, 'Rustic Plastic Towels', 54);
-INSERT INTO "order" (id, description, customer_id) VALUES (8009, 'Intelligent Soft Keyboard', 82);
-INSERT INTO "order" (id, description, customer_id) VALUES (8010, 'Recycled Soft Car', 26);
-INSERT INTO "order" (id, description, customer_id) VALUES (8011, 'Oriental Soft Bike', 36);
-INSERT INTO "order" (id, description, customer_id) VALUES (8012, 'Rustic Bronze Keyboard', 12);
-INSERT INTO "order" (id, description, customer_id) VALUES (8013, 'Recycled Fresh Shirt', 26);
-INSERT INTO "order" (id, description, customer_id) VALUES (8014, 'Handcrafted Concrete Computer', 24);
-INSERT INTO "order" (id, description, customer_id) VALUES (8015, 'Awesome Granite Mouse', 59);
-INSERT INTO "order" (id, description, customer_id) VALUES (8016, 'Handcrafted Steel Cheese', 14);
-INSERT INTO "order" (id, description, customer_id) VALUES (8017, 'Gorgeous Steel Bacon', 66);
-INSERT INTO "order" (id, description, customer_id) VALUES (8018, 'Licensed Cotton Pants', 82);
-INSERT INTO "order" (id, description, customer_id) VALUES (8019, 'Rustic Frozen Computer', 69);
-INSERT INTO "order" (id, description, customer_id) VALUES (8020, 'Gorgeous Rubber Salad', 57);
-INSERT INTO "order" (id, description, customer_id) VALUES (8021, 'Recycled Wooden Chips', 80);
-INSERT INTO "order" (id, description, customer_id) VALUES (8022, 'Rustic Soft Keyboard', 28);
-INSERT INTO "order" (id, description, customer_id) VALUES (8023, 'Licensed Rubber Chair', 26);
-INSERT INTO "order" (id, description, customer_id) VALUES (8024, 'Handmade Bronze Car', 80);
-INSERT INTO "order" (id, description, customer_id) VALUES (8025, 'Fantastic Frozen Tuna', 12);
-INSERT INTO "order" (id, description, customer_id) VALUES (8026, 'Ergonomic Cotton Shirt', 77);
-INSERT INTO "order" (id, description, customer_id) VALUES (8027, 'Small Plastic Hat', 2);
-INSERT INTO "order" (id, description, customer_id) VALUES (8028, 'Sleek Plastic Chair', 28);
-INSERT INTO "order" (id, description, customer_id) VALUES (8029, 'Licensed Rubber Shirt', 30);
-INSERT INTO "order" (id, description, customer_id) VALUES (8030, 'Refined Frozen Salad', 23);
-INSERT INTO "order" (id, description, customer_id) VALUES (8031, 'Small Wooden Chair', 91);
-INSERT INTO "order" (id, description, customer_id) VALUES (8032, 'Gorgeous Rubber Hat', 89);
-INSERT INTO "order" (id, description, customer_id) VALUES (8033, 'Bespoke Metal Chips', 43);
-INSERT INTO "order" (id, description, customer_id) VALUES (8034, 'Unbranded Bronze Sausages', 85);
-INSERT INTO "order" (id, description, customer_id) VALUES (8035, 'Handmade Concrete Hat', 97);
-INSERT INTO "order" (id, description, customer_id) VALUES (8036, 'Generic Bronze Shirt', 99);
-INSERT INTO "order" (id, description, customer_id) VALUES (8037, 'Gorgeous Concrete Mouse', 98);
-INSERT INTO "order" (id, description, customer_id) VALUES (8038, 'Refined Granite Soap', 67);
-INSERT INTO "order" (id, description, customer_id) VALUES (8039, 'Bespoke Rubber Soap', 29);
-INSERT INTO "order" (id, description, customer_id) VALUES (8040, 'Awesome Plastic Ball', 78);
-INSERT INTO "order" (id, description, customer_id) VALUES (8041, 'Handmade Metal Shoes', 28);
-INSERT INTO "order" (id, description, customer_id) VALUES (8042, 'Small Rubber Keyboard', 36);
-INSERT INTO "order" (id, description, customer_id) VALUES (8043, 'Fantastic Rubber Fish', 90);
-INSERT INTO "order" (id, description, customer_id) VALUES (8044, 'Fantastic Soft Sausages', 16);
-INSERT INTO "order" (id, description, customer_id) VALUES (8045, 'Modern Steel Sausages', 2);
-INSERT INTO "order" (id, description, customer_id) VALUES (8046, 'Gorgeous Plastic Salad', 88);
-INSERT INTO "order" (id, description, customer_id) VALUES (8047, 'Generic Frozen Shoes', 20);
-INSERT INTO "order" (id, description, customer_id) VALUES (8048, 'Handmade Steel Pants', 47);
-INSERT INTO "order" (id, description, customer_id) VALUES (8049, 'Fantastic Rubber Shoes', 40);
-INSERT INTO "order" (id, description, customer_id) VALUES (8050, 'Elegant Cotton Table', 42);
-INSERT INTO "order" (id, description, customer_id) VALUES (8051, 'Licensed Metal Shoes', 93);
-INSERT INTO "order" (id, description, customer_id) VALUES (8052, 'Handcrafted Bronze Cheese', 94);
-INSERT INTO "order" (id, description, customer_id) VALUES (8053, 'Fantastic Fresh Cheese', 49);
-INSERT INTO "order" (id, description, customer_id) VALUES (8054, 'Electronic Metal Bike', 24);
-INSERT INTO "order" (id, description, customer_id) VALUES (8055, 'Small Bronze Car', 47);
-INSERT INTO "order" (id, description, customer_id) VALUES (8056, 'Handmade Frozen Bacon', 37);
-INSERT INTO "order" (id, description, customer_id) VALUES (8057, 'Unbranded Rubber Tuna', 95);
-INSERT INTO "order" (id, description, customer_id) VALUES (8058, 'Unbranded Fresh Computer', 78);
-INSERT INTO "order" (id, description, customer_id) VALUES (8059, 'Gorgeous Granite Sausages', 4);
-INSERT INTO "order" (id, description, customer_id) VALUES (8060, 'Rustic Plastic Gloves', 39);
-INSERT INTO "order" (id, description, customer_id) VALUES (8061, 'Ergonomic Wooden Fish', 37);
-INSERT INTO "order" (id, description, customer_id) VALUES (8062, 'Rustic Rubber Hat', 37);
-INSERT INTO "order" (id, description, customer_id) VALUES (8063, 'Luxurious Soft Car', 36);
-INSERT INTO "order" (id, description, customer_id) VALUES (8064, 'Elegant Plastic Towels', 79);
-INSERT INTO "order" (id, description, customer_id) VALUES (8065, 'Ergonomic Wooden Table', 27);
-INSERT INTO "order" (id, description, customer_id) VALUES (8066, 'Practical Plastic Tuna', 77);
-INSERT INTO "order" (id, description, customer_id) VALUES (8067, 'Ergonomic Wooden Gloves', 41);
-INSERT INTO "order" (id, description, customer_id) VALUES (8068, 'Gorgeous Fresh Pizza', 28);
-INSERT INTO "order" (id, description, customer_id) VALUES (8069, 'Gorgeous Metal Ball', 72);
-INSERT INTO "order" (id, description, customer_id) VALUES (8070, 'Intelligent Cotton Soap', 26);
-INSERT INTO "order" (id, description, customer_id) VALUES (8071, 'Gorgeous Steel Chicken', 41);
-INSERT INTO "order" (id, description, customer_id) VALUES (8072, 'Ergonomic Fresh Soap', 57);
-INSERT INTO "order" (id, description, customer_id) VALUES (8073, 'Rustic Wooden Shirt', 51);
-INSERT INTO "order" (id, description, customer_id) VALUES (8074, 'Oriental Fresh Fish', 92);
-INSERT INTO "order" (id, description, customer_id) VALUES (8075, 'Elegant Cotton Salad', 47);
-INSERT INTO "order" (id, description, customer_id) VALUES (8076, 'Bespoke Cotton Pants', 40);
-INSERT INTO "order" (id, description, customer_id) VALUES (8077, 'Sleek Soft Hat', 7);
-INSERT INTO "order" (id, description, customer_id) VALUES (8078, 'Ergonomic Concrete Bacon', 26);
-INSERT INTO "order" (id, description, customer_id) VALUES (8079, 'Small Plastic Keyboard', 8);
-INSERT INTO "order" (id, description, customer_id) VALUES (8080, 'Bespoke Wooden Towels', 60);
-INSERT INTO "order" (id, description, customer_id) VALUES (8081, 'Handmade Concrete Shoes', 24);
-INSERT INTO "order" (id, description, customer_id) VALUES (8082, 'Unbranded Cotton Shoes', 78);
-INSERT INTO "order" (id, description, customer_id) VALUES (8083, 'Recycled Metal Chips', 69);
-INSERT INTO "order" (id, description, customer_id) VALUES (8084, 'Generic Concrete Salad', 99);
-INSERT INTO "order" (id, description, customer_id) VALUES (8085, 'Gorgeous Fresh Chicken', 7);
-INSERT INTO "order" (id, description, customer_id) VALUES (8086, 'Bespoke Bronze Car', 34);
-INSERT INTO "order" (id, description, customer_id) VALUES (8087, 'Small Fresh Computer', 71);
-INSERT INTO "order" (id, description, customer_id) VALUES (8088, 'Licensed Wooden Keyboard', 62);
-INSERT INTO "order" (id, description, customer_id) VALUES (8089, 'Refined Soft Pants', 68);
-INSERT INTO "order" (id, description, customer_id) VALUES (8090, 'Awesome Bronze Ball', 58);
-INSERT INTO "order" (id, description, customer_id) VALUES (8091, 'Elegant Plastic Shirt', 16);
-INSERT INTO "order" (id, description, customer_id) VALUES (8092, 'Refined Cotton Pants', 57);
-INSERT INTO "order" (id, description, customer_id) VALUES (8093, 'Handcrafted Steel Soap', 50);
-INSERT INTO "order" (id, description, customer_id) VALUES (8094, 'Elegant Wooden Chair', 60);
-INSERT INTO "order" (id, description, customer_id) VALUES (8095, 'Electronic Steel Table', 3);
-INSERT INTO "order" (id, description, customer_id) VALUES (8096, 'Gorgeous Rubber Computer', 69);
-INSERT INTO "order" (id, description, customer_id) VALUES (8097, 'Recycled Cotton Chicken', 5);
-INSERT INTO "order" (id, description, customer_id) VALUES (8098, 'Ergonomic Metal Chair', 11);
-INSERT INTO "order" (id, description, customer_id) VALUES (8099, 'Licensed Bronze Soap', 77);
-INSERT INTO "order" (id, description, customer_id) VALUES (8100, 'Recycled Metal Tuna', 66);
-INSERT INTO "order" (id, description, customer_id) VALUES (8101, 'Small Steel Soap', 29);
-INSERT INTO "order" (id, description, customer_id) VALUES (8102, 'Rustic Metal Pizza', 78);
-INSERT INTO "order" (id, description, customer_id) VALUES (8103, 'Sleek Rubber Chicken', 39);
-INSERT INTO "order" (id, description, customer_id) VALUES (8104, 'Rustic Bronze Chips', 55);
-INSERT INTO "order" (id, description, customer_id) VALUES (8105, 'Incredible Cotton Keyboard', 95);
-INSERT INTO "order" (id, description, customer_id) VALUES (8106, 'Luxurious Cotton Shoes', 1);
-INSERT INTO "order" (id, description, customer_id) VALUES (8107, 'Ergonomic Rubber Shirt', 34);
-INSERT INTO "order" (id, description, customer_id) VALUES (8108, 'Tasty Plastic Tuna', 42);
-INSERT INTO "order" (id, description, customer_id) VALUES (8109, 'Licensed Bronze Car', 37);
-INSERT INTO "order" (id, description, customer_id) VALUES (8110, 'Luxurious Wooden Fish', 56);
-INSERT INTO "order" (id, description, customer_id) VALUES (8111, 'Fantastic Metal Computer', 91);
-INSERT INTO "order" (id, description, customer_id) VALUES (8112, 'Modern Bronze Computer', 2);
-INSERT INTO "order" (id, description, customer_id) VALUES (8113, 'Rustic Soft Shoes', 44);
-INSERT INTO "order" (id, description, customer_id) VALUES (8114, 'Luxurious Concrete Cheese', 47);
-INSERT INTO "order" (id, description, customer_id) VALUES (8115, 'Incredible Metal Bike', 83);
-INSERT INTO "order" (id, description, customer_id) VALUES (8116, 'Elegant Cotton Chair', 56);
-INSERT INTO "order" (id, description, customer_id) VALUES (8117, 'Sleek Rubber Shirt', 23);
-INSERT INTO "order" (id, description, customer_id) VALUES (8118, 'Awesome Metal Chicken', 84);
-INSERT INTO "order" (id, description, customer_id) VALUES (8119, 'Practical Frozen Mouse', 29);
-INSERT INTO "order" (id, description, customer_id) VALUES (8120, 'Unbranded Granite Computer', 26);
-INSERT INTO "order" (id, description, customer_id) VALUES (8121, 'Fantastic Rubber Pizza', 27);
-INSERT INTO "order" (id, description, customer_id) VALUES (8122, 'Sleek Metal Bike', 97);
-INSERT INTO "order" (id, description, customer_id) VALUES (8123, 'Tasty Fresh Chair', 67);
-INSERT INTO "order" (id, description, customer_id) VALUES (8124, 'Handmade Wooden Keyboard', 52);
-INSERT INTO "order" (id, description, customer_id) VALUES (8125, 'Small Bronze Fish', 3);
-INSERT INTO "order" (id, description, customer_id) VALUES (8126, 'Small Rubber Bacon', 3);
-INSERT INTO "order" (id, description, customer_id) VALUES (8127, 'Handmade Steel Towels', 71);
-INSERT INTO "order" (id, description, customer_id) VALUES (8128, 'Electronic Bronze Car', 100);
-INSERT INTO "order" (id, description, customer_id) VALUES (8129, 'Recycled Metal Cheese', 7);
-INSERT INTO "order" (id, description, customer_id) VALUES (8130, 'Licensed Soft Car', 57);
-INSERT INTO "order" (id, description, customer_id) VALUES (8131, 'Luxurious Fresh Computer', 94);
-INSERT INTO "order" (id, description, customer_id) VALUES (8132, 'Unbranded Metal Soap', 47);
-INSERT INTO "order" (id, description, customer_id) VALUES (8133, 'Bespoke Plastic Table', 16);
-INSERT INTO "order" (id, description, customer_id) VALUES (8134, 'Licensed Soft Soap', 82);
-INSERT INTO "order" (id, description, customer_id) VALUES (8135, 'Tasty Steel Shirt', 4);
-INSERT INTO "order" (id, description, customer_id) VALUES (8136, 'Practical Steel Towels', 60);
-INSERT INTO "order" (id, description, customer_id) VALUES (8137, 'Elegant Cotton Fish', 62);
-INSERT INTO "order" (id, description, customer_id) VALUES (8138, 'Ergonomic Plastic Car', 84);
-INSERT INTO "order" (id, description, customer_id) VALUES (8139, 'Gorgeous Rubber Gloves', 75);
-INSERT INTO "order" (id, description, customer_id) VALUES (8140, 'Recycled Concrete Keyboard', 3);
-INSERT INTO "order" (id, description, customer_id) VALUES (8141, 'Unbranded Metal Bacon', 10);
-INSERT INTO "order" (id, description, customer_id) VALUES (8142, 'Oriental Wooden Gloves', 19);
-INSERT INTO "order" (id, description, customer_id) VALUES (8143, 'Ergonomic Fresh Pants', 91);
-INSERT INTO "order" (id, description, customer_id) VALUES (8144, 'Modern Cotton Computer', 33);
-INSERT INTO "order" (id, description, customer_id) VALUES (8145, 'Electronic Frozen Pants', 98);
-INSERT INTO "order" (id, description, customer_id) VALUES (8146, 'Oriental Granite Bacon', 24);
-INSERT INTO "order" (id, description, customer_id) VALUES (8147, 'Refined Metal Computer', 19);
-INSERT INTO "order" (id, description, customer_id) VALUES (8148, 'Generic Plastic Chicken', 18);
-INSERT INTO "order" (id, description, customer_id) VALUES (8149, 'Gorgeous Frozen Table', 45);
-INSERT INTO "order" (id, description, customer_id) VALUES (8150, 'Electronic Steel Pizza', 2);
-INSERT INTO "order" (id, description, customer_id) VALUES (8151, 'Recycled Plastic Bike', 89);
-INSERT INTO "order" (id, description, customer_id) VALUES (8152, 'Recycled Concrete Bike', 100);
-INSERT INTO "order" (id, description, customer_id) VALUES (8153, 'Handcrafted Plastic Cheese', 26);
-INSERT INTO "order" (id, description, customer_id) VALUES (8154, 'Modern Frozen Chips', 83);
-INSERT INTO "order" (id, description, customer_id) VALUES (8155, 'Rustic Soft Gloves', 11);
-INSERT INTO "order" (id, description, customer_id) VALUES (8156, 'Tasty Steel Soap', 88);
-INSERT INTO "order" (id, description, customer_id) VALUES (8157, 'Tasty Plastic Bacon', 45);
-INSERT INTO "order" (id, description, customer_id) VALUES (8158, 'Tasty Bronze Cheese', 99);
-INSERT INTO "order" (id, description, customer_id) VALUES (8159, 'Oriental Granite Shoes', 47);
-INSERT INTO "order" (id, description, customer_id) VALUES (8160, 'Gorgeous Plastic Bike', 64);
-INSERT INTO "order" (id, description, customer_id) VALUES (8161, 'Refined Bronze Salad', 18);
-INSERT INTO "order" (id, description, customer_id) VALUES (8162, 'Rustic Wooden Pizza', 26);
-INSERT INTO "order" (id, description, customer_id) VALUES (8163, 'Modern Cotton Bacon', 82);
-INSERT INTO "order" (id, description, customer_id) VALUES (8164, 'Tasty Rubber Chips', 76);
-INSERT INTO "order" (id, description, customer_id) VALUES (8165, 'Modern Steel Hat', 18);
-INSERT INTO "order" (id, description, customer_id) VALUES (8166, 'Tasty Wooden Computer', 34);
-INSERT INTO "order" (id, description, customer_id) VALUES (8167, 'Elegant Concrete Pizza', 45);
-INSERT INTO "order" (id, description, customer_id) VALUES (8168, 'Incredible Fresh Car', 59);
-INSERT INTO "order" (id, description, customer_id) VALUES (8169, 'Incredible Granite Chicken', 84);
-INSERT INTO "order" (id, description, customer_id) VALUES (8170, 'Elegant Cotton Tuna', 53);
-INSERT INTO "order" (id, description, customer_id) VALUES (8171, 'Bespoke Fresh Shirt', 73);
-INSERT INTO "order" (id, description, customer_id) VALUES (8172, 'Sleek Concrete Computer', 67);
-INSERT INTO "order" (id, description, customer_id) VALUES (8173, 'Practical Granite Gloves', 67);
-INSERT INTO "order" (id, description, customer_id) VALUES (8174, 'Handcrafted Bronze Chair', 79);
-INSERT INTO "order" (id, description, customer_id) VALUES (8175, 'Oriental Soft Hat', 11);
-INSERT INTO "order" (id, description, customer_id) VALUES (8176, 'Fantastic Bronze Hat', 30);
-INSERT INTO "order" (id, description, customer_id) VALUES (8177, 'Incredible Wooden Hat', 59);
-INSERT INTO "order" (id, description, customer_id) VALUES (8178, 'Gorgeous Granite Fish', 1);
-INSERT INTO "order" (id, description, customer_id) VALUES (8179, 'Handcrafted Frozen Car', 37);
-INSERT INTO "order" (id, description, customer_id) VALUES (8180, 'Elegant Cotton Towels', 22);
-INSERT INTO "order" (id, description, customer_id) VALUES (8181, 'Handcrafted Rubber Gloves', 65);
-INSERT INTO "order" (id, description, customer_id) VALUES (8182, 'Ergonomic Fresh Ball', 51);
-INSERT INTO "order" (id, description, customer_id) VALUES (8183, 'Oriental Rubber Tuna', 76);
-INSERT INTO "order" (id, description, customer_id) VALUES (8184, 'Refined Soft Soap', 72);
-INSERT INTO "order" (id, description, customer_id) VALUES (8185, 'Awesome Fresh Shirt', 21);
-INSERT INTO "order" (id, description, customer_id) VALUES (8186, 'Tasty Bronze Mouse', 14);
-INSERT INTO "order" (id, description, customer_id) VALUES (8187, 'Fantastic Wooden Bike', 53);
-INSERT INTO "order" (id, description, customer_id) VALUES (8188, 'Sleek Cotton Mouse', 1);
-INSERT INTO "order" (id, description, customer_id) VALUES (8189, 'Refined Soft Bike', 44);
-INSERT INTO "order" (id, description, customer_id) VALUES (8190, 'Recycled Rubber Keyboard', 90);
-INSERT INTO "order" (id, description, customer_id) VALUES (8191, 'Licensed Granite Tuna', 31);
-INSERT INTO "order" (id, description, customer_id) VALUES (8192, 'Sleek Fresh Pizza', 9);
-INSERT INTO "order" (id, description, customer_id) VALUES (8193, 'Small Plastic Shirt', 98);
-INSERT INTO "order" (id, description, customer_id) VALUES (8194, 'Awesome Fresh Towels', 55);
-INSERT INTO "order" (id, description, customer_id) VALUES (8195, 'Oriental Concrete Car', 85);
-INSERT INTO "order" (id, description, customer_id) VALUES (8196, 'Intelligent Wooden Pants', 65);
-INSERT INTO "order" (id, description, customer_id) VALUES (8197, 'Gorgeous Rubber Pizza', 34);
-INSERT INTO "order" (id, description, customer_id) VALUES (8198, 'Tasty Cotton Fish', 78);
-INSERT INTO "order" (id, description, customer_id) VALUES (8199, 'Unbranded Plastic Computer', 72);
-INSERT INTO "order" (id, description, customer_id) VALUES (8200, 'Small Wooden Chicken', 98);
-INSERT INTO "order" (id, description, customer_id) VALUES (8201, 'Sleek Frozen Gloves', 36);
-INSERT INTO "order" (id, description, customer_id) VALUES (8202, 'Refined Bronze Towels', 56);
-INSERT INTO "order" (id, description, customer_id) VALUES (8203, 'Luxurious Rubber Chair', 78);
-INSERT INTO "order" (id, description, customer_id) VALUES (8204, 'Recycled Steel Fish', 73);
-INSERT INTO "order" (id, description, customer_id) VALUES (8205, 'Unbranded Soft Shirt', 95);
-INSERT INTO "order" (id, description, customer_id) VALUES (8206, 'Oriental Metal Hat', 56);
-INSERT INTO "order" (id, description, customer_id) VALUES (8207, 'Oriental Metal Shoes', 92);
-INSERT INTO "order" (id, description, customer_id) VALUES (8208, 'Handmade Wooden Keyboard', 40);
-INSERT INTO "order" (id, description, customer_id) VALUES (8209, 'Handmade Bronze Ball', 76);
-INSERT INTO "order" (id, description, customer_id) VALUES (8210, 'Intelligent Fresh Pants', 18);
-INSERT INTO "order" (id, description, customer_id) VALUES (8211, 'Intelligent Cotton Sausages', 93);
-INSERT INTO "order" (id, description, customer_id) VALUES (8212, 'Intelligent Frozen Bike', 51);
-INSERT INTO "order" (id, description, customer_id) VALUES (8213, 'Unbranded Concrete Car', 87);
-INSERT INTO "order" (id, description, customer_id) VALUES (8214, 'Handmade Steel Chair', 83);
-INSERT INTO "order" (id, description, customer_id) VALUES (8215, 'Sleek Metal Table', 7);
-INSERT INTO "order" (id, description, customer_id) VALUES (8216, 'Bespoke Metal Shirt', 83);
-INSERT INTO "order" (id, description, customer_id) VALUES (8217, 'Awesome Frozen Shoes', 65);
-INSERT INTO "order" (id, description, customer_id) VALUES (8218, 'Modern Concrete Keyboard', 74);
-INSERT INTO "order" (id, description, customer_id) VALUES (8219, 'Unbranded Granite Chicken', 93);
-INSERT INTO "order" (id, description, customer_id) VALUES (8220, 'Gorgeous Frozen Pants', 60);
-INSERT INTO "order" (id, description, customer_id) VALUES (8221, 'Handcrafted Steel Chair', 55);
-INSERT INTO "order" (id, description, customer_id) VALUES (8222, 'Luxurious Rubber Chicken', 67);
-INSERT INTO "order" (id, description, customer_id) VALUES (8223, 'Handcrafted Cotton Bike', 49);
-INSERT INTO "order" (id, description, customer_id) VALUES (8224, 'Bespoke Concrete Chicken', 88);
-INSERT INTO "order" (id, description, customer_id) VALUES (8225, 'Licensed Metal Pizza', 83);
-INSERT INTO "order" (id, description, customer_id) VALUES (8226, 'Practical Metal Keyboard', 43);
-INSERT INTO "order" (id, description, customer_id) VALUES (8227, 'Fantastic Cotton Towels', 23);
-INSERT INTO "order" (id, description, customer_id) VALUES (8228, 'Incredible Metal Ball', 61);
-INSERT INTO "order" (id, description, customer_id) VALUES (8229, 'Practical Cotton Shirt', 79);
-INSERT INTO "order" (id, description, customer_id) VALUES (8230, 'Licensed Bronze Hat', 84);
-INSERT INTO "order" (id, description, customer_id) VALUES (8231, 'Unbranded Granite Tuna', 66);
-INSERT INTO "order" (id, description, customer_id) VALUES (8232, 'Recycled Fresh Pants', 99);
-INSERT INTO "order" (id, description, customer_id) VALUES (8233, 'Rustic Metal Towels', 71);
-INSERT INTO "order" (id, description, customer_id) VALUES (8234, 'Licensed Rubber Pants', 24);
-INSERT INTO "order" (id, description, customer_id) VALUES (8235, 'Tasty Bronze Chips', 97);
-INSERT INTO "order" (id, description, customer_id) VALUES (8236, 'Handmade Wooden Mouse', 28);
-INSERT INTO "order" (id, description, customer_id) VALUES (8237, 'Tasty Steel Salad', 56);
-INSERT INTO "order" (id, description, customer_id) VALUES (8238, 'Elegant Metal Computer', 77);
-INSERT INTO "order" (id, description, customer_id) VALUES (8239, 'Unbranded Bronze Sausages', 11);
-INSERT INTO "order" (id, description, customer_id) VALUES (8240, 'Elegant Frozen Bacon', 9);
-INSERT INTO "order" (id, description, customer_id) VALUES (8241, 'Handcrafted Granite Fish', 60);
-INSERT INTO "order" (id, description, customer_id) VALUES (8242, 'Bespoke Concrete Pizza', 5);
-INSERT INTO "order" (id, description, customer_id) VALUES (8243, 'Small Bronze Ball', 2);
-INSERT INTO "order" (id, description, customer_id) VALUES (8244, 'Practical Wooden Chicken', 1);
-INSERT INTO "order" (id, description, customer_id) VALUES (8245, 'Small Wooden Soap', 29);
-INSERT INTO "order" (id, description, customer_id) VALUES (8246, 'Electronic Plastic Salad', 4);
-INSERT INTO "order" (id, description, customer_id) VALUES (8247, 'Tasty Bronze Chips', 78);
-INSERT INTO "order" (id, description, customer_id) VALUES (8248, 'Gorgeous Metal Shoes', 22);
-INSERT INTO "order" (id, description, customer_id) VALUES (8249, 'Handmade Bronze Sausages', 41);
-INSERT INTO "order" (id, description, customer_id) VALUES (8250, 'Electronic Rubber Computer', 70);
-INSERT INTO "order" (id, description, customer_id) VALUES (8251, 'Refined Plastic Chair', 25);
-INSERT INTO "order" (id, description, customer_id) VALUES (8252, 'Handcrafted Fresh Cheese', 38);
-INSERT INTO "order" (id, description, customer_id) VALUES (8253, 'Bespoke Soft Cheese', 73);
-INSERT INTO "order" (id, description, customer_id) VALUES (8254, 'Intelligent Frozen Sausages', 33);
-INSERT INTO "order" (id, description, customer_id) VALUES (8255, 'Gorgeous Bronze Bacon', 28);
-INSERT INTO "order" (id, description, customer_id) VALUES (8256, 'Handmade Metal Gloves', 97);
-INSERT INTO "order" (id, description, customer_id) VALUES (8257, 'Licensed Fresh Pants', 71);
-INSERT INTO "order" (id, description, customer_id) VALUES (8258, 'Licensed Bronze Chips', 55);
-INSERT INTO "order" (id, description, customer_id) VALUES (8259, 'Awesome Rubber Shirt', 68);
-INSERT INTO "order" (id, description, customer_id) VALUES (8260, 'Small Granite Pants', 81);
-INSERT INTO "order" (id, description, customer_id) VALUES (8261, 'Unbranded Rubber Gloves', 2);
-INSERT INTO "order" (id, description, customer_id) VALUES (8262, 'Practical Bronze Table', 65);
-INSERT INTO "order" (id, description, customer_id) VALUES (8263, 'Sleek Rubber Ball', 50);
-INSERT INTO "order" (id, description, customer_id) VALUES (8264, 'Modern Frozen Pants', 81);
-INSERT INTO "order" (id, description, customer_id) VALUES (8265, 'Refined Plastic Hat', 48);
-INSERT INTO "order" (id, description, customer_id) VALUES (8266, 'Licensed Steel Fish', 79);
-INSERT INTO "order" (id, description, customer_id) VALUES (8267, 'Awesome Rubber Salad', 56);
-INSERT INTO "order" (id, description, customer_id) VALUES (8268, 'Bespoke Bronze Pizza', 1);
-INSERT INTO "order" (id, description, customer_id) VALUES (8269, 'Practical Wooden Hat', 88);
-INSERT INTO "order" (id, description, customer_id) VALUES (8270, 'Licensed Frozen Chicken', 46);
-INSERT INTO "order" (id, description, customer_id) VALUES (8271, 'Rustic Bronze Pizza', 25);
-INSERT INTO "order" (id, description, customer_id) VALUES (8272, 'Gorgeous Bronze Chair', 7);
-INSERT INTO "order" (id, description, customer_id) VALUES (8273, 'Elegant Steel Chips', 8);
-INSERT INTO "order" (id, description, customer_id) VALUES (8274, 'Refined Frozen Computer', 12);
-INSERT INTO "order" (id, description, customer_id) VALUES (8275, 'Unbranded Metal Bacon', 76);
-INSERT INTO "order" (id, description, customer_id) VALUES (8276, 'Refined Soft Pizza', 32);
-INSERT INTO "order" (id, description, customer_id) VALUES (8277, 'Gorgeous Wooden Pants', 94);
-INSERT INTO "order" (id, description, customer_id) VALUES (8278, 'Elegant Fresh Pizza', 38);
-INSERT INTO "order" (id, description, customer_id) VALUES (8279, 'Recycled Steel Keyboard', 41);
-INSERT INTO "order" (id, description, customer_id) VALUES (8280, 'Unbranded Concrete Pants', 2);
-INSERT INTO "order" (id, description, customer_id) VALUES (8281, 'Electronic Concrete Mouse', 86);
-INSERT INTO "order" (id, description, customer_id) VALUES (8282, 'Handmade Plastic Bike', 41);
-INSERT INTO "order" (id, description, customer_id) VALUES (8283, 'Fantastic Fresh Shoes', 4);
-INSERT INTO "order" (id, description, customer_id) VALUES (8284, 'Incredible Wooden Tuna', 26);
-INSERT INTO "order" (id, description, customer_id) VALUES (8285, 'Handmade Steel Pizza', 68);
-INSERT INTO "order" (id, description, customer_id) VALUES (8286, 'Tasty Concrete Sausages', 27);
-INSERT INTO "order" (id, description, customer_id) VALUES (8287, 'Elegant Rubber Ball', 71);
-INSERT INTO "order" (id, description, customer_id) VALUES (8288, 'Ergonomic Frozen Mouse', 19);
-INSERT INTO "order" (id, description, customer_id) VALUES (8289, 'Sleek Wooden Cheese', 10);
-INSERT INTO "order" (id, description, customer_id) VALUES (8290, 'Sleek Steel Sausages', 97);
-INSERT INTO "order" (id, description, customer_id) VALUES (8291, 'Fantastic Plastic Mouse', 33);
-INSERT INTO "order" (id, description, customer_id) VALUES (8292, 'Tasty Concrete Tuna', 98);
-INSERT INTO "order" (id, description, customer_id) VALUES (8293, 'Handcrafted Soft Fish', 79);
-INSERT INTO "order" (id, description, customer_id) VALUES (8294, 'Bespoke Soft Pizza', 8);
-INSERT INTO "order" (id, description, customer_id) VALUES (8295, 'Luxurious Concrete Chicken', 73);
-INSERT INTO "order" (id, description, customer_id) VALUES (8296, 'Gorgeous Fresh Pizza', 92);
-INSERT INTO "order" (id, description, customer_id) VALUES (8297, 'Unbranded Steel Computer', 86);
-INSERT INTO "order" (id, description, customer_id) VALUES (8298, 'Bespoke Fresh Cheese', 88);
-INSERT INTO "order" (id, description, customer_id) VALUES (8299, 'Awesome Granite Bike', 35);
-INSERT INTO "order" (id, description, customer_id) VALUES (8300, 'Elegant Wooden Sausages', 73);
-INSERT INTO "order" (id, description, customer_id) VALUES (8301, 'Rustic Fresh Soap', 66);
-INSERT INTO "order" (id, description, customer_id) VALUES (8302, 'Elegant Frozen Fish', 94);
-INSERT INTO "order" (id, description, customer_id) VALUES (8303, 'Luxurious Wooden Mouse', 39);
-INSERT INTO "order" (id, description, customer_id) VALUES (8304, 'Intelligent Wooden Computer', 33);
-INSERT INTO "order" (id, description, customer_id) VALUES (8305, 'Fantastic Bronze Soap', 81);
-INSERT INTO "order" (id, description, customer_id) VALUES (8306, 'Handcrafted Cotton Salad', 71);
-INSERT INTO "order" (id, description, customer_id) VALUES (8307, 'Handcrafted Frozen Chicken', 93);
-INSERT INTO "order" (id, description, customer_id) VALUES (8308, 'Tasty Rubber Chips', 26);
-INSERT INTO "order" (id, description, customer_id) VALUES (8309, 'Fantastic Granite Bike', 45);
-INSERT INTO "order" (id, description, customer_id) VALUES (8310, 'Rustic Soft Gloves', 58);
-INSERT INTO "order" (id, description, customer_id) VALUES (8311, 'Handcrafted Cotton Salad', 23);
-INSERT INTO "order" (id, description, customer_id) VALUES (8312, 'Rustic Rubber Towels', 6);
-INSERT INTO "order" (id, description, customer_id) VALUES (8313, 'Intelligent Frozen Shirt', 82);
-INSERT INTO "order" (id, description, customer_id) VALUES (8314, 'Practical Fresh Towels', 6);
-INSERT INTO "order" (id, description, customer_id) VALUES (8315, 'Practical Steel Chips', 99);
-INSERT INTO "order" (id, description, customer_id) VALUES (8316, 'Sleek Granite Fish', 68);
-INSERT INTO "order" (id, description, customer_id) VALUES (8317, 'Bespoke Frozen Shirt', 63);
-INSERT INTO "order" (id, description, customer_id) VALUES (8318, 'Recycled Wooden Chair', 68);
-INSERT INTO "order" (id, description, customer_id) VALUES (8319, 'Ergonomic Frozen Shoes', 81);
-INSERT INTO "order" (id, description, customer_id) VALUES (8320, 'Tasty Concrete Sausages', 43);
-INSERT INTO "order" (id, description, customer_id) VALUES (8321, 'Oriental Plastic Pants', 21);
-INSERT INTO "order" (id, description, customer_id) VALUES (8322, 'Bespoke Steel Soap', 73);
-INSERT INTO "order" (id, description, customer_id) VALUES (8323, 'Small Fresh Towels', 80);
-INSERT INTO "order" (id, description, customer_id) VALUES (8324, 'Unbranded Plastic Cheese', 89);
-INSERT INTO "order" (id, description, customer_id) VALUES (8325, 'Oriental Concrete Keyboard', 52);
-INSERT INTO "order" (id, description, customer_id) VALUES (8326, 'Sleek Soft Chips', 93);
-INSERT INTO "order" (id, description, customer_id) VALUES (8327, 'Intelligent Soft Pants', 16);
-INSERT INTO "order" (id, description, customer_id) VALUES (8328, 'Generic Frozen Shirt', 33);
-INSERT INTO "order" (id, description, customer_id) VALUES (8329, 'Elegant Concrete Chips', 36);
-INSERT INTO "order" (id, description, customer_id) VALUES (8330, 'Luxurious Metal Hat', 15);
-INSERT INTO "order" (id, description, customer_id) VALUES (8331, 'Incredible Plastic Table', 5);
-INSERT INTO "order" (id, description, customer_id) VALUES (8332, 'Rustic Frozen Chicken', 29);
-INSERT INTO "order" (id, description, customer_id) VALUES (8333, 'Incredible Bronze Pants', 19);
-INSERT INTO "order" (id, description, customer_id) VALUES (8334, 'Bespoke Concrete Cheese', 48);
-INSERT INTO "order" (id, description, customer_id) VALUES (8335, 'Licensed Frozen Computer', 78);
-INSERT INTO "order" (id, description, customer_id) VALUES (8336, 'Awesome Cotton Sausages', 37);
-INSERT INTO "order" (id, description, customer_id) VALUES (8337, 'Unbranded Soft Pizza', 39);
-INSERT INTO "order" (id, description, customer_id) VALUES (8338, 'Licensed Cotton Cheese', 93);
-INSERT INTO "order" (id, description, customer_id) VALUES (8339, 'Licensed Bronze Hat', 14);
-INSERT INTO "order" (id, description, customer_id) VALUES (8340, 'Generic Metal Bike', 76);
-INSERT INTO "order" (id, description, customer_id) VALUES (8341, 'Sleek Plastic Salad', 4);
-INSERT INTO "order" (id, description, customer_id) VALUES (8342, 'Oriental Rubber Mouse', 40);
-INSERT INTO "order" (id, description, customer_id) VALUES (8343, 'Awesome Cotton Salad', 64);
-INSERT INTO "order" (id, description, customer_id) VALUES (8344, 'Handmade Soft Ball', 34);
-INSERT INTO "order" (id, description, customer_id) VALUES (8345, 'Luxurious Wooden Cheese', 100);
-INSERT INTO "order" (id, description, customer_id) VALUES (8346, 'Small Plastic Table', 1);
-INSERT INTO "order" (id, description, customer_id) VALUES (8347, 'Bespoke Concrete Ball', 36);
-INSERT INTO "order" (id, description, customer_id) VALUES (8348, 'Refined Steel Table', 38);
-INSERT INTO "order" (id, description, customer_id) VALUES (8349, 'Licensed Bronze Chicken', 14);
-INSERT INTO "order" (id, description, customer_id) VALUES (8350, 'Small Steel Chips', 33);
-INSERT INTO "order" (id, description, customer_id) VALUES (8351, 'Elegant Bronze Towels', 48);
-INSERT INTO "order" (id, description, customer_id) VALUES (8352, 'Elegant Plastic Car', 32);
-INSERT INTO "order" (id, description, customer_id) VALUES (8353, 'Electronic Soft Ball', 13);
-INSERT INTO "order" (id, description, customer_id) VALUES (8354, 'Refined Plastic Pizza', 29);
-INSERT INTO "order" (id, description, customer_id) VALUES (8355, 'Sleek Rubber Bacon', 2);
-INSERT INTO "order" (id, description, customer_id) VALUES (8356, 'Fantastic Soft Ball', 39);
-INSERT INTO "order" (id, description, customer_id) VALUES (8357, 'Intelligent Frozen Ball', 23);
-INSERT INTO "order" (id, description, customer_id) VALUES (8358, 'Tasty Granite Chair', 55);
-INSERT INTO "order" (id, description, customer_id) VALUES (8359, 'Handmade Bronze Tuna', 100);
-INSERT INTO "order" (id, description, customer_id) VALUES (8360, 'Intelligent Cotton Soap', 67);
-INSERT INTO "order" (id, description, customer_id) VALUES (8361, 'Elegant Plastic Chair', 45);
-INSERT INTO "order" (id, description, customer_id) VALUES (8362, 'Bespoke Steel Tuna', 82);
-INSERT INTO "order" (id, description, customer_id) VALUES (8363, 'Intelligent Soft Gloves', 21);
-INSERT INTO "order" (id, description, customer_id) VALUES (8364, 'Tasty Frozen Shirt', 45);
-INSERT INTO "order" (id, description, customer_id) VALUES (8365, 'Unbranded Rubber Car', 52);
-INSERT INTO "order" (id, description, customer_id) VALUES (8366, 'Elegant Granite Bike', 70);
-INSERT INTO "order" (id, description, customer_id) VALUES (8367, 'Rustic Steel Gloves', 56);
-INSERT INTO "order" (id, description, customer_id) VALUES (8368, 'Electronic Frozen Gloves', 3);
-INSERT INTO "order" (id, description, customer_id) VALUES (8369, 'Generic Granite Tuna', 3);
-INSERT INTO "order" (id, description, customer_id) VALUES (8370, 'Handmade Wooden Towels', 97);
-INSERT INTO "order" (id, description, customer_id) VALUES (8371, 'Gorgeous Cotton Shirt', 100);
-INSERT INTO "order" (id, description, customer_id) VALUES (8372, 'Gorgeous Cotton Computer', 48);
-INSERT INTO "order" (id, description, customer_id) VALUES (8373, 'Unbranded Concrete Chips', 38);
-INSERT INTO "order" (id, description, customer_id) VALUES (8374, 'Incredible Cotton Towels', 54);
-INSERT INTO "order" (id, description, customer_id) VALUES (8375, 'Ergonomic Concrete Keyboard', 77);
-INSERT INTO "order" (id, description, customer_id) VALUES (8376, 'Modern Metal Salad', 99);
-INSERT INTO "order" (id, description, customer_id) VALUES (8377, 'Recycled Fresh Sausages', 74);
-INSERT INTO "order" (id, description, customer_id) VALUES (8378, 'Oriental Wooden Towels', 51);
-INSERT INTO "order" (id, description, customer_id) VALUES (8379, 'Unbranded Frozen Cheese', 40);
-INSERT INTO "order" (id, description, customer_id) VALUES (8380, 'Ergonomic Bronze Bacon', 90);
-INSERT INTO "order" (id, description, customer_id) VALUES (8381, 'Handcrafted Cotton Cheese', 27);
-INSERT INTO "order" (id, description, customer_id) VALUES (8382, 'Elegant Concrete Salad', 92);
-INSERT INTO "order" (id, description, customer_id) VALUES (8383, 'Fantastic Metal Gloves', 66);
-INSERT INTO "order" (id, description, customer_id) VALUES (8384, 'Sleek Concrete Mouse', 40);
-INSERT INTO "order" (id, description, customer_id) VALUES (8385, 'Practical Bronze Hat', 43);
-INSERT INTO "order" (id, description, customer_id) VALUES (8386, 'Sleek Bronze Car', 27);
-INSERT INTO "order" (id, description, customer_id) VALUES (8387, 'Handmade Concrete Gloves', 56);
-INSERT INTO "order" (id, description, customer_id) VALUES (8388, 'Luxurious Cotton Car', 56);
-INSERT INTO "order" (id, description, customer_id) VALUES (8389, 'Electronic Soft Bacon', 93);
-INSERT INTO "order" (id, description, customer_id) VALUES (8390, 'Tasty Soft Shirt', 51);
-INSERT INTO "order" (id, description, customer_id) VALUES (8391, 'Elegant Fresh Sausages', 55);
-INSERT INTO "order" (id, description, customer_id) VALUES (8392, 'Incredible Cotton Gloves', 52);
-INSERT INTO "order" (id, description, customer_id) VALUES (8393, 'Handmade Bronze Bike', 99);
-INSERT INTO "order" (id, description, customer_id) VALUES (8394, 'Unbranded Rubber Salad', 67);
-INSERT INTO "order" (id, description, customer_id) VALUES (8395, 'Generic Rubber Bike', 87);
-INSERT INTO "order" (id, description, customer_id) VALUES (8396, 'Sleek Concrete Ball', 31);
-INSERT INTO "order" (id, description, customer_id) VALUES (8397, 'Recycled Fresh Pants', 77);
-INSERT INTO "order" (id, description, customer_id) VALUES (8398, 'Electronic Rubber Pants', 52);
-INSERT INTO "order" (id, description, customer_id) VALUES (8399, 'Intelligent Granite Salad', 22);
-INSERT INTO "order" (id, description, customer_id) VALUES (8400, 'Handcrafted Soft Chair', 55);
-INSERT INTO "order" (id, description, customer_id) VALUES (8401, 'Gorgeous Concrete Pants', 24);
-INSERT INTO "order" (id, description, customer_id) VALUES (8402, 'Tasty Concrete Gloves', 74);
-INSERT INTO "order" (id, description, customer_id) VALUES (8403, 'Oriental Bronze Chicken', 2);
-INSERT INTO "order" (id, description, customer_id) VALUES (8404, 'Oriental Fresh Salad', 98);
-INSERT INTO "order" (id, description, customer_id) VALUES (8405, 'Electronic Concrete Pizza', 90);
-INSERT INTO "order" (id, description, customer_id) VALUES (8406, 'Ergonomic Concrete Chair', 80);
-INSERT INTO "order" (id, description, customer_id) VALUES (8407, 'Gorgeous Bronze Salad', 51);
-INSERT INTO "order" (id, description, customer_id) VALUES (8408, 'Unbranded Granite Bacon', 32);
-INSERT INTO "order" (id, description, customer_id) VALUES (8409, 'Sleek Metal Bacon', 28);
-INSERT INTO "order" (id, description, customer_id) VALUES (8410, 'Luxurious Concrete Gloves', 64);
-INSERT INTO "order" (id, description, customer_id) VALUES (8411, 'Gorgeous Steel Chips', 67);
-INSERT INTO "order" (id, description, customer_id) VALUES (8412, 'Unbranded Metal Car', 49);
-INSERT INTO "order" (id, description, customer_id) VALUES (8413, 'Electronic Steel Soap', 92);
-INSERT INTO "order" (id, description, customer_id) VALUES (8414, 'Small Steel Tuna', 40);
-INSERT INTO "order" (id, description, customer_id) VALUES (8415, 'Sleek Fresh Chips', 46);
-INSERT INTO "order" (id, description, customer_id) VALUES (8416, 'Handcrafted Frozen Bike', 93);
-INSERT INTO "order" (id, description, customer_id) VALUES (8417, 'Modern Wooden Pants', 14);
-INSERT INTO "order" (id, description, customer_id) VALUES (8418, 'Tasty Rubber Bike', 93);
-INSERT INTO "order" (id, description, customer_id) VALUES (8419, 'Handcrafted Granite Shirt', 56);
-INSERT INTO "order" (id, description, customer_id) VALUES (8420, 'Ergonomic Concrete Cheese', 17);
-INSERT INTO "order" (id, description, customer_id) VALUES (8421, 'Licensed Bronze Table', 56);
-INSERT INTO "order" (id, description, customer_id) VALUES (8422, 'Licensed Concrete Keyboard', 14);
-INSERT INTO "order" (id, description, customer_id) VALUES (8423, 'Oriental Rubber Bacon', 19);
-INSERT INTO "order" (id, description, customer_id) VALUES (8424, 'Fantastic Metal Tuna', 6);
-INSERT INTO "order" (id, description, customer_id) VALUES (8425, 'Electronic Granite Chair', 44);
-INSERT INTO "order" (id, description, customer_id) VALUES (8426, 'Tasty Fresh Fish', 93);
-INSERT INTO "order" (id, description, customer_id) VALUES (8427, 'Luxurious Cotton Shoes', 8);
-INSERT INTO "order" (id, description, customer_id) VALUES (8428, 'Bespoke Granite Pants', 96);
-INSERT INTO "order" (id, description, customer_id) VALUES (8429, 'Tasty Fresh Bacon', 97);
-INSERT INTO "order" (id, description, customer_id) VALUES (8430, 'Fantastic Soft Keyboard', 46);
-INSERT INTO "order" (id, description, customer_id) VALUES (8431, 'Generic Steel Sausages', 86);
-INSERT INTO "order" (id, description, customer_id) VALUES (8432, 'Practical Steel Ball', 89);
-INSERT INTO "order" (id, description, customer_id) VALUES (8433, 'Tasty Cotton Chips', 93);
-INSERT INTO "order" (id, description, customer_id) VALUES (8434, 'Licensed Fresh Ball', 12);
-INSERT INTO "order" (id, description, customer_id) VALUES (8435, 'Fantastic Fresh Fish', 34);
-INSERT INTO "order" (id, description, customer_id) VALUES (8436, 'Tasty Steel Table', 46);
-INSERT INTO "order" (id, description, customer_id) VALUES (8437, 'Recycled Granite Ball', 72);
-INSERT INTO "order" (id, description, customer_id) VALUES (8438, 'Elegant Wooden Cheese', 15);
-INSERT INTO "order" (id, description, customer_id) VALUES (8439, 'Rustic Fresh Towels', 74);
-INSERT INTO "order" (id, description, customer_id) VALUES (8440, 'Ergonomic Frozen Cheese', 88);
-INSERT INTO "order" (id, description, customer_id) VALUES (8441, 'Tasty Cotton Soap', 72);
-INSERT INTO "order" (id, description, customer_id) VALUES (8442, 'Modern Wooden Shoes', 35);
-INSERT INTO "order" (id, description, customer_id) VALUES (8443, 'Handmade Plastic Table', 23);
-INSERT INTO "order" (id, description, customer_id) VALUES (8444, 'Fantastic Concrete Hat', 81);
-INSERT INTO "order" (id, description, customer_id) VALUES (8445, 'Generic Plastic Hat', 38);
-INSERT INTO "order" (id, description, customer_id) VALUES (8446, 'Incredible Granite Bike', 64);
-INSERT INTO "order" (id, description, customer_id) VALUES (8447, 'Incredible Concrete Fish', 96);
-INSERT INTO "order" (id, description, customer_id) VALUES (8448, 'Awesome Soft Car', 61);
-INSERT INTO "order" (id, description, customer_id) VALUES (8449, 'Ergonomic Metal Shirt', 5);
-INSERT INTO "order" (id, description, customer_id) VALUES (8450, 'Tasty Wooden Chicken', 35);
-INSERT INTO "order" (id, description, customer_id) VALUES (8451, 'Oriental Frozen Hat', 55);
-INSERT INTO "order" (id, description, customer_id) VALUES (8452, 'Handmade Bronze Keyboard', 54);
-INSERT INTO "order" (id, description, customer_id) VALUES (8453, 'Unbranded Concrete Hat', 38);
-INSERT INTO "order" (id, description, customer_id) VALUES (8454, 'Intelligent Wooden Computer', 60);
-INSERT INTO "order" (id, description, customer_id) VALUES (8455, 'Modern Bronze Fish', 18);
-INSERT INTO "order" (id, description, customer_id) VALUES (8456, 'Incredible Rubber Pants', 59);
-INSERT INTO "order" (id, description, customer_id) VALUES (8457, 'Small Steel Computer', 90);
-INSERT INTO "order" (id, description, customer_id) VALUES (8458, 'Oriental Soft Mouse', 14);
-INSERT INTO "order" (id, description, customer_id) VALUES (8459, 'Awesome Fresh Cheese', 98);
-INSERT INTO "order" (id, description, customer_id) VALUES (8460, 'Practical Fresh Computer', 86);
-INSERT INTO "order" (id, description, customer_id) VALUES (8461, 'Small Soft Chicken', 43);
-INSERT INTO "order" (id, description, customer_id) VALUES (8462, 'Small Soft Soap', 52);
-INSERT INTO "order" (id, description, customer_id) VALUES (8463, 'Gorgeous Bronze Bike', 9);
-INSERT INTO "order" (id, description, customer_id) VALUES (8464, 'Small Cotton Sausages', 7);
-INSERT INTO "order" (id, description, customer_id) VALUES (8465, 'Practical Concrete Tuna', 87);
-INSERT INTO "order" (id, description, customer_id) VALUES (8466, 'Modern Cotton Keyboard', 1);
-INSERT INTO "order" (id, description, customer_id) VALUES (8467, 'Generic Cotton Chair', 77);
-INSERT INTO "order" (id, description, customer_id) VALUES (8468, 'Awesome Steel Chips', 94);
-INSERT INTO "order" (id, description, customer_id) VALUES (8469, 'Gorgeous Bronze Tuna', 59);
-INSERT INTO "order" (id, description, customer_id) VALUES (8470, 'Bespoke Wooden Soap', 15);
-INSERT INTO "order" (id, description, customer_id) VALUES (8471, 'Refined Rubber Tuna', 67);
-INSERT INTO "order" (id, description, customer_id) VALUES (8472, 'Sleek Steel Fish', 35);
-INSERT INTO "order" (id, description, customer_id) VALUES (8473, 'Handmade Fresh Bacon', 93);
-INSERT INTO "order" (id, description, customer_id) VALUES (8474, 'Intelligent Cotton Computer', 9);
-INSERT INTO "order" (id, description, customer_id) VALUES (8475, 'Modern Soft Car', 35);
-INSERT INTO "order" (id, description, customer_id) VALUES (8476, 'Oriental Fresh Tuna', 59);
-INSERT INTO "order" (id, description, customer_id) VALUES (8477, 'Licensed Plastic Chair', 95);
-INSERT INTO "order" (id, description, customer_id) VALUES (8478, 'Oriental Steel Towels', 76);
-INSERT INTO "order" (id, description, customer_id) VALUES (8479, 'Oriental Metal Hat', 27);
-INSERT INTO "order" (id, description, customer_id) VALUES (8480, 'Luxurious Steel Gloves', 40);
-INSERT INTO "order" (id, description, customer_id) VALUES (8481, 'Licensed Rubber Shoes', 56);
-INSERT INTO "order" (id, description, customer_id) VALUES (8482, 'Small Concrete Tuna', 64);
-INSERT INTO "order" (id, description, customer_id) VALUES (8483, 'Oriental Steel Bacon', 52);
-INSERT INTO "order" (id, description, customer_id) VALUES (8484, 'Oriental Fresh Car', 78);
-INSERT INTO "order" (id, description, customer_id) VALUES (8485, 'Tasty Bronze Car', 53);
-INSERT INTO "order" (id, description, customer_id) VALUES (8486, 'Electronic Rubber Tuna', 71);
-INSERT INTO "order" (id, description, customer_id) VALUES (8487, 'Fantastic Plastic Fish', 90);
-INSERT INTO "order" (id, description, customer_id) VALUES (8488, 'Fantastic Rubber Pizza', 33);
-INSERT INTO "order" (id, description, customer_id) VALUES (8489, 'Small Wooden Car', 9);
-INSERT INTO "order" (id, description, customer_id) VALUES (8490, 'Fantastic Granite Towels', 88);
-INSERT INTO "order" (id, description, customer_id) VALUES (8491, 'Generic Granite Table', 6);
-INSERT INTO "order" (id, description, customer_id) VALUES (8492, 'Fantastic Concrete Bike', 76);
-INSERT INTO "order" (id, description, customer_id) VALUES (8493, 'Generic Plastic Cheese', 51);
-INSERT INTO "order" (id, description, customer_id) VALUES (8494, 'Practical Metal Chips', 99);
-INSERT INTO "order" (id, description, customer_id) VALUES (8495, 'Oriental Steel Shirt', 41);
-INSERT INTO "order" (id, description, customer_id) VALUES (8496, 'Awesome Granite Shirt', 2);
-INSERT INTO "order" (id, description, customer_id) VALUES (8497, 'Handcrafted Plastic Tuna', 84);
-INSERT INTO "order" (id, description, customer_id) VALUES (8498, 'Fantastic Cotton Shoes', 62);
-INSERT INTO "order" (id, description, customer_id) VALUES (8499, 'Gorgeous Soft Gloves', 83);
-INSERT INTO "order" (id, description, customer_id) VALUES (8500, 'Unbranded Soft Tuna', 40);
-INSERT INTO "order" (id, description, customer_id) VALUES (8501, 'Unbranded Wooden Shirt', 1);
-INSERT INTO "order" (id, description, customer_id) VALUES (8502, 'Recycled Plastic Keyboard', 99);
-INSERT INTO "order" (id, description, customer_id) VALUES (8503, 'Elegant Fresh Soap', 15);
-INSERT INTO "order" (id, description, customer_id) VALUES (8504, 'Electronic Frozen Computer', 5);
-INSERT INTO "order" (id, description, customer_id) VALUES (8505, 'Practical Metal Pizza', 67);
-INSERT INTO "order" (id, description, customer_id) VALUES (8506, 'Handmade Soft Pizza', 52);
-INSERT INTO "order" (id, description, customer_id) VALUES (8507, 'Rustic Plastic Gloves', 67);
-INSERT INTO "order" (id, description, customer_id) VALUES (8508, 'Handcrafted Metal Pizza', 50);
-INSERT INTO "order" (id, description, customer_id) VALUES (8509, 'Bespoke Concrete Gloves', 15);
-INSERT INTO "order" (id, description, customer_id) VALUES (8510, 'Incredible Concrete Salad', 41);
-INSERT INTO "order" (id, description, customer_id) VALUES (8511, 'Elegant Metal Computer', 38);
-INSERT INTO "order" (id, description, customer_id) VALUES (8512, 'Refined Granite Car', 53);
-INSERT INTO "order" (id, description, customer_id) VALUES (8513, 'Oriental Granite Chair', 31);
-INSERT INTO "order" (id, description, customer_id) VALUES (8514, 'Ergonomic Frozen Sausages', 80);
-INSERT INTO "order" (id, description, customer_id) VALUES (8515, 'Elegant Fresh Car', 17);
-INSERT INTO "order" (id, description, customer_id) VALUES (8516, 'Refined Rubber Salad', 73);
-INSERT INTO "order" (id, description, customer_id) VALUES (8517, 'Fantastic Frozen Fish', 17);
-INSERT INTO "order" (id, description, customer_id) VALUES (8518, 'Sleek Steel Car', 10);
-INSERT INTO "order" (id, description, customer_id) VALUES (8519, 'Awesome Frozen Salad', 55);
-INSERT INTO "order" (id, description, customer_id) VALUES (8520, 'Licensed Bronze Ball', 72);
-INSERT INTO "order" (id, description, customer_id) VALUES (8521, 'Elegant Cotton Shirt', 80);
-INSERT INTO "order" (id, description, customer_id) VALUES (8522, 'Sleek Rubber Keyboard', 80);
-INSERT INTO "order" (id, description, customer_id) VALUES (8523, 'Incredible Wooden Hat', 7);
-INSERT INTO "order" (id, description, customer_id) VALUES (8524, 'Licensed Metal Table', 5);
-INSERT INTO "order" (id, description, customer_id) VALUES (8525, 'Unbranded Bronze Mouse', 81);
-INSERT INTO "order" (id, description, customer_id) VALUES (8526, 'Handmade Bronze Cheese', 50);
-INSERT INTO "order" (id, description, customer_id) VALUES (8527, 'Recycled Fresh Chicken', 44);
-INSERT INTO "order" (id, description, customer_id) VALUES (8528, 'Small Steel Chips', 45);
-INSERT INTO "order" (id, description, customer_id) VALUES (8529, 'Oriental Granite Shoes', 94);
-INSERT INTO "order" (id, description, customer_id) VALUES (8530, 'Sleek Frozen Salad', 27);
-INSERT INTO "order" (id, description, customer_id) VALUES (8531, 'Gorgeous Fresh Pizza', 13);
-INSERT INTO "order" (id, description, customer_id) VALUES (8532, 'Incredible Frozen Fish', 93);
-INSERT INTO "order" (id, description, customer_id) VALUES (8533, 'Unbranded Granite Shirt', 54);
-INSERT INTO "order" (id, description, customer_id) VALUES (8534, 'Rustic Metal Chair', 42);
-INSERT INTO "order" (id, description, customer_id) VALUES (8535, 'Refined Steel Mouse', 47);
-INSERT INTO "order" (id, description, customer_id) VALUES (8536, 'Gorgeous Concrete Ball', 74);
-INSERT INTO "order" (id, description, customer_id) VALUES (8537, 'Licensed Fresh Pants', 8);
-INSERT INTO "order" (id, description, customer_id) VALUES (8538, 'Awesome Plastic Chips', 69);
-INSERT INTO "order" (id, description, customer_id) VALUES (8539, 'Ergonomic Plastic Computer', 29);
-INSERT INTO "order" (id, description, customer_id) VALUES (8540, 'Incredible Wooden Mouse', 90);
-INSERT INTO "order" (id, description, customer_id) VALUES (8541, 'Bespoke Metal Car', 26);
-INSERT INTO "order" (id, description, customer_id) VALUES (8542, 'Elegant Concrete Towels', 30);
-INSERT INTO "order" (id, description, customer_id) VALUES (8543, 'Handcrafted Fresh Pizza', 17);
-INSERT INTO "order" (id, description, customer_id) VALUES (8544, 'Modern Frozen Pizza', 30);
-INSERT INTO "order" (id, description, customer_id) VALUES (8545, 'Small Plastic Chicken', 100);
-INSERT INTO "order" (id, description, customer_id) VALUES (8546, 'Gorgeous Fresh Bacon', 33);
-INSERT INTO "order" (id, description, customer_id) VALUES (8547, 'Sleek Soft Ball', 83);
-INSERT INTO "order" (id, description, customer_id) VALUES (8548, 'Handmade Bronze Car', 12);
-INSERT INTO "order" (id, description, customer_id) VALUES (8549, 'Intelligent Fresh Chicken', 100);
-INSERT INTO "order" (id, description, customer_id) VALUES (8550, 'Generic Concrete Chicken', 94);
-INSERT INTO "order" (id, description, customer_id) VALUES (8551, 'Ergonomic Metal Table', 16);
-INSERT INTO "order" (id, description, customer_id) VALUES (8552, 'Elegant Granite Table', 82);
-INSERT INTO "order" (id, description, customer_id) VALUES (8553, 'Tasty Cotton Salad', 62);
-INSERT INTO "order" (id, description, customer_id) VALUES (8554, 'Oriental Plastic Soap', 87);
-INSERT INTO "order" (id, description, customer_id) VALUES (8555, 'Recycled Frozen Hat', 94);
-INSERT INTO "order" (id, description, customer_id) VALUES (8556, 'Fantastic Wooden Hat', 81);
-INSERT INTO "order" (id, description, customer_id) VALUES (8557, 'Generic Bronze Table', 43);
-INSERT INTO "order" (id, description, customer_id) VALUES (8558, 'Electronic Soft Table', 20);
-INSERT INTO "order" (id, description, customer_id) VALUES (8559, 'Elegant Fresh Pizza', 25);
-INSERT INTO "order" (id, description, customer_id) VALUES (8560, 'Recycled Fresh Keyboard', 44);
-INSERT INTO "order" (id, description, customer_id) VALUES (8561, 'Sleek Metal Ball', 43);
-INSERT INTO "order" (id, description, customer_id) VALUES (8562, 'Oriental Concrete Chips', 46);
-INSERT INTO "order" (id, description, customer_id) VALUES (8563, 'Modern Metal Tuna', 7);
-INSERT INTO "order" (id, description, customer_id) VALUES (8564, 'Licensed Fresh Chips', 45);
-INSERT INTO "order" (id, description, customer_id) VALUES (8565, 'Generic Concrete Keyboard', 15);
-INSERT INTO "order" (id, description, customer_id) VALUES (8566, 'Electronic Concrete Sausages', 35);
-INSERT INTO "order" (id, description, customer_id) VALUES (8567, 'Intelligent Steel Cheese', 50);
-INSERT INTO "order" (id, description, customer_id) VALUES (8568, 'Ergonomic Granite Towels', 99);
-INSERT INTO "order" (id, description, customer_id) VALUES (8569, 'Intelligent Rubber Bike', 53);
-INSERT INTO "order" (id, description, customer_id) VALUES (8570, 'Fantastic Fresh Sausages', 91);
-INSERT INTO "order" (id, description, customer_id) VALUES (8571, 'Electronic Soft Salad', 97);
-INSERT INTO "order" (id, description, customer_id) VALUES (8572, 'Gorgeous Frozen Shirt', 98);
-INSERT INTO "order" (id, description, customer_id) VALUES (8573, 'Tasty Wooden Computer', 87);
-INSERT INTO "order" (id, description, customer_id) VALUES (8574, 'Gorgeous Wooden Salad', 33);
-INSERT INTO "order" (id, description, customer_id) VALUES (8575, 'Handmade Rubber Chicken', 76);
-INSERT INTO "order" (id, description, customer_id) VALUES (8576, 'Gorgeous Concrete Towels', 12);
-INSERT INTO "order" (id, description, customer_id) VALUES (8577, 'Incredible Rubber Car', 1);
-INSERT INTO "order" (id, description, customer_id) VALUES (8578, 'Fantastic Frozen Ball', 16);
-INSERT INTO "order" (id, description, customer_id) VALUES (8579, 'Modern Steel Fish', 91);
-INSERT INTO "order" (id, description, customer_id) VALUES (8580, 'Incredible Steel Keyboard', 45);
-INSERT INTO "order" (id, description, customer_id) VALUES (8581, 'Licensed Concrete Table', 21);
-INSERT INTO "order" (id, description, customer_id) VALUES (8582, 'Luxurious Bronze Hat', 70);
-INSERT INTO "order" (id, description, customer_id) VALUES (8583, 'Bespoke Granite Bacon', 28);
-INSERT INTO "order" (id, description, customer_id) VALUES (8584, 'Licensed Fresh Computer', 57);
-INSERT INTO "order" (id, description, customer_id) VALUES (8585, 'Small Bronze Chicken', 58);
-INSERT INTO "order" (id, description, customer_id) VALUES (8586, 'Oriental Concrete Table', 85);
-INSERT INTO "order" (id, description, customer_id) VALUES (8587, 'Oriental Plastic Bike', 5);
-INSERT INTO "order" (id, description, customer_id) VALUES (8588, 'Oriental Fresh Mouse', 12);
-INSERT INTO "order" (id, description, customer_id) VALUES (8589, 'Incredible Frozen Computer', 83);
-INSERT INTO "order" (id, description, customer_id) VALUES (8590, 'Ergonomic Concrete Gloves', 46);
-INSERT INTO "order" (id, description, customer_id) VALUES (8591, 'Fantastic Concrete Towels', 98);
-INSERT INTO "order" (id, description, customer_id) VALUES (8592, 'Incredible Bronze Salad', 23);
-INSERT INTO "order" (id, description, customer_id) VALUES (8593, 'Practical Granite Bike', 13);
-INSERT INTO "order" (id, description, customer_id) VALUES (8594, 'Bespoke Fresh Cheese', 50);
-INSERT INTO "order" (id, description, customer_id) VALUES (8595, 'Incredible Rubber Soap', 16);
-INSERT INTO "order" (id, description, customer_id) VALUES (8596, 'Modern Cotton Chair', 97);
-INSERT INTO "order" (id, description, customer_id) VALUES (8597, 'Elegant Fresh Keyboard', 80);
-INSERT INTO "order" (id, description, customer_id) VALUES (8598, 'Intelligent Granite Computer', 86);
-INSERT INTO "order" (id, description, customer_id) VALUES (8599, 'Unbranded Soft Shoes', 84);
-INSERT INTO "order" (id, description, customer_id) VALUES (8600, 'Handmade Concrete Computer', 93);
-INSERT INTO "order" (id, description, customer_id) VALUES (8601, 'Handcrafted Plastic Shirt', 82);
-INSERT INTO "order" (id, description, customer_id) VALUES (8602, 'Handcrafted Wooden Shoes', 46);
-INSERT INTO "order" (id, description, customer_id) VALUES (8603, 'Handmade Metal Shirt', 97);
-INSERT INTO "order" (id, description, customer_id) VALUES (8604, 'Bespoke Rubber Salad', 26);
-INSERT INTO "order" (id, description, customer_id) VALUES (8605, 'Modern Cotton Ball', 12);
-INSERT INTO "order" (id, description, customer_id) VALUES (8606, 'Licensed Bronze Bacon', 56);
-INSERT INTO "order" (id, description, customer_id) VALUES (8607, 'Bespoke Wooden Computer', 83);
-INSERT INTO "order" (id, description, customer_id) VALUES (8608, 'Generic Wooden Bacon', 15);
-INSERT INTO "order" (id, description, customer_id) VALUES (8609, 'Rustic Concrete Bacon', 88);
-INSERT INTO "order" (id, description, customer_id) VALUES (8610, 'Ergonomic Soft Bacon', 93);
-INSERT INTO "order" (id, description, customer_id) VALUES (8611, 'Generic Rubber Mouse', 20);
-INSERT INTO "order" (id, description, customer_id) VALUES (8612, 'Fantastic Fresh Tuna', 40);
-INSERT INTO "order" (id, description, customer_id) VALUES (8613, 'Incredible Granite Chair', 19);
-INSERT INTO "order" (id, description, customer_id) VALUES (8614, 'Gorgeous Concrete Tuna', 55);
-INSERT INTO "order" (id, description, customer_id) VALUES (8615, 'Small Concrete Car', 76);
-INSERT INTO "order" (id, description, customer_id) VALUES (8616, 'Tasty Frozen Computer', 90);
-INSERT INTO "order" (id, description, customer_id) VALUES (8617, 'Small Metal Tuna', 12);
-INSERT INTO "order" (id, description, customer_id) VALUES (8618, 'Luxurious Metal Ball', 80);
-INSERT INTO "order" (id, description, customer_id) VALUES (8619, 'Elegant Fresh Bacon', 33);
-INSERT INTO "order" (id, description, customer_id) VALUES (8620, 'Rustic Fresh Tuna', 89);
-INSERT INTO "order" (id, description, customer_id) VALUES (8621, 'Intelligent Steel Bike', 73);
-INSERT INTO "order" (id, description, customer_id) VALUES (8622, 'Bespoke Fresh Keyboard', 75);
-INSERT INTO "order" (id, description, customer_id) VALUES (8623, 'Practical Metal Chips', 56);
-INSERT INTO "order" (id, description, customer_id) VALUES (8624, 'Handcrafted Bronze Shoes', 14);
-INSERT INTO "order" (id, description, customer_id) VALUES (8625, 'Small Bronze Hat', 73);
-INSERT INTO "order" (id, description, customer_id) VALUES (8626, 'Ergonomic Metal Shirt', 25);
-INSERT INTO "order" (id, description, customer_id) VALUES (8627, 'Generic Cotton Ball', 68);
-INSERT INTO "order" (id, description, customer_id) VALUES (8628, 'Tasty Wooden Pizza', 29);
-INSERT INTO "order" (id, description, customer_id) VALUES (8629, 'Rustic Cotton Shirt', 45);
-INSERT INTO "order" (id, description, customer_id) VALUES (8630, 'Generic Cotton Ball', 13);
-INSERT INTO "order" (id, description, customer_id) VALUES (8631, 'Licensed Fresh Gloves', 4);
-INSERT INTO "order" (id, description, customer_id) VALUES (8632, 'Electronic Fresh Pizza', 45);
-INSERT INTO "order" (id, description, customer_id) VALUES (8633, 'Intelligent Metal Bike', 24);
-INSERT INTO "order" (id, description, customer_id) VALUES (8634, 'Awesome Frozen Sausages', 18);
-INSERT INTO "order" (id, description, customer_id) VALUES (8635, 'Recycled Steel Salad', 12);
-INSERT INTO "order" (id, description, customer_id) VALUES (8636, 'Small Soft Chicken', 41);
-INSERT INTO "order" (id, description, customer_id) VALUES (8637, 'Electronic Metal Shoes', 62);
-INSERT INTO "order" (id, description, customer_id) VALUES (8638, 'Gorgeous Cotton Tuna', 97);
-INSERT INTO "order" (id, description, customer_id) VALUES (8639, 'Modern Bronze Bike', 38);
-INSERT INTO "order" (id, description, customer_id) VALUES (8640, 'Incredible Cotton Keyboard', 20);
-INSERT INTO "order" (id, description, customer_id) VALUES (8641, 'Small Bronze Computer', 49);
-INSERT INTO "order" (id, description, customer_id) VALUES (8642, 'Refined Bronze Cheese', 80);
-INSERT INTO "order" (id, description, customer_id) VALUES (8643, 'Elegant Plastic Gloves', 86);
-INSERT INTO "order" (id, description, customer_id) VALUES (8644, 'Intelligent Cotton Tuna', 76);
-INSERT INTO "order" (id, description, customer_id) VALUES (8645, 'Small Rubber Chair', 34);
-INSERT INTO "order" (id, description, customer_id) VALUES (8646, 'Modern Metal Sausages', 76);
-INSERT INTO "order" (id, description, customer_id) VALUES (8647, 'Fantastic Metal Table', 91);
-INSERT INTO "order" (id, description, customer_id) VALUES (8648, 'Recycled Bronze Table', 63);
-INSERT INTO "order" (id, description, customer_id) VALUES (8649, 'Gorgeous Fresh Gloves', 41);
-INSERT INTO "order" (id, description, customer_id) VALUES (8650, 'Unbranded Soft Table', 53);
-INSERT INTO "order" (id, description, customer_id) VALUES (8651, 'Ergonomic Fresh Bike', 59);
-INSERT INTO "order" (id, description, customer_id) VALUES (8652, 'Fantastic Concrete Cheese', 92);
-INSERT INTO "order" (id, description, customer_id) VALUES (8653, 'Intelligent Concrete Shirt', 95);
-INSERT INTO "order" (id, description, customer_id) VALUES (8654, 'Sleek Concrete Mouse', 30);
-INSERT INTO "order" (id, description, customer_id) VALUES (8655, 'Elegant Concrete Keyboard', 62);
-INSERT INTO "order" (id, description, customer_id) VALUES (8656, 'Modern Steel Sausages', 84);
-INSERT INTO "order" (id, description, customer_id) VALUES (8657, 'Unbranded Bronze Chicken', 35);
-INSERT INTO "order" (id, description, customer_id) VALUES (8658, 'Modern Soft Mouse', 19);
-INSERT INTO "order" (id, description, customer_id) VALUES (8659, 'Oriental Wooden Fish', 60);
-INSERT INTO "order" (id, description, customer_id) VALUES (8660, 'Luxurious Bronze Bike', 49);
-INSERT INTO "order" (id, description, customer_id) VALUES (8661, 'Licensed Granite Hat', 27);
-INSERT INTO "order" (id, description, customer_id) VALUES (8662, 'Rustic Granite Table', 27);
-INSERT INTO "order" (id, description, customer_id) VALUES (8663, 'Refined Granite Pants', 74);
-INSERT INTO "order" (id, description, customer_id) VALUES (8664, 'Recycled Granite Chair', 75);
-INSERT INTO "order" (id, description, customer_id) VALUES (8665, 'Sleek Rubber Soap', 10);
-INSERT INTO "order" (id, description, customer_id) VALUES (8666, 'Fantastic Granite Car', 96);
-INSERT INTO "order" (id, description, customer_id) VALUES (8667, 'Modern Plastic Bacon', 23);
-INSERT INTO "order" (id, description, customer_id) VALUES (8668, 'Handmade Plastic Cheese', 35);
-INSERT INTO "order" (id, description, customer_id) VALUES (8669, 'Intelligent Bronze Mouse', 82);
-INSERT INTO "order" (id, description, customer_id) VALUES (8670, 'Small Metal Table', 53);
-INSERT INTO "order" (id, description, customer_id) VALUES (8671, 'Ergonomic Soft Bacon', 93);
-INSERT INTO "order" (id, description, customer_id) VALUES (8672, 'Rustic Steel Sausages', 69);
-INSERT INTO "order" (id, description, customer_id) VALUES (8673, 'Rustic Granite Fish', 30);
-INSERT INTO "order" (id, description, customer_id) VALUES (8674, 'Tasty Soft Sausages', 96);
-INSERT INTO "order" (id, description, customer_id) VALUES (8675, 'Sleek Fresh Tuna', 33);
-INSERT INTO "order" (id, description, customer_id) VALUES (8676, 'Oriental Wooden Sausages', 96);
-INSERT INTO "order" (id, description, customer_id) VALUES (8677, 'Generic Frozen Car', 29);
-INSERT INTO "order" (id, description, customer_id) VALUES (8678, 'Handcrafted Metal Soap', 19);
-INSERT INTO "order" (id, description, customer_id) VALUES (8679, 'Incredible Bronze Table', 27);
-INSERT INTO "order" (id, description, customer_id) VALUES (8680, 'Fantastic Cotton Pants', 50);
-INSERT INTO "order" (id, description, customer_id) VALUES (8681, 'Handmade Concrete Shoes', 28);
-INSERT INTO "order" (id, description, customer_id) VALUES (8682, 'Luxurious Steel Shoes', 4);
-INSERT INTO "order" (id, description, customer_id) VALUES (8683, 'Refined Rubber Car', 3);
-INSERT INTO "order" (id, description, customer_id) VALUES (8684, 'Gorgeous Soft Bike', 66);
-INSERT INTO "order" (id, description, customer_id) VALUES (8685, 'Electronic Concrete Car', 16);
-INSERT INTO "order" (id, description, customer_id) VALUES (8686, 'Recycled Fresh Shirt', 26);
-INSERT INTO "order" (id, description, customer_id) VALUES (8687, 'Practical Fresh Shirt', 74);
-INSERT INTO "order" (id, description, customer_id) VALUES (8688, 'Oriental Concrete Shirt', 34);
-INSERT INTO "order" (id, description, customer_id) VALUES (8689, 'Incredible Wooden Hat', 3);
-INSERT INTO "order" (id, description, customer_id) VALUES (8690, 'Bespoke Plastic Mouse', 14);
-INSERT INTO "order" (id, description, customer_id) VALUES (8691, 'Recycled Rubber Chips', 28);
-INSERT INTO "order" (id, description, customer_id) VALUES (8692, 'Electronic Plastic Mouse', 40);
-INSERT INTO "order" (id, description, customer_id) VALUES (8693, 'Tasty Fresh Soap', 50);
-INSERT INTO "order" (id, description, customer_id) VALUES (8694, 'Oriental Concrete Bacon', 98);
-INSERT INTO "order" (id, description, customer_id) VALUES (8695, 'Bespoke Frozen Shirt', 58);
-INSERT INTO "order" (id, description, customer_id) VALUES (8696, 'Ergonomic Plastic Table', 23);
-INSERT INTO "order" (id, description, customer_id) VALUES (8697, 'Ergonomic Fresh Tuna', 98);
-INSERT INTO "order" (id, description, customer_id) VALUES (8698, 'Licensed Steel Pizza', 3);
-INSERT INTO "order" (id, description, customer_id) VALUES (8699, 'Awesome Steel Salad', 44);
-INSERT INTO "order" (id, description, customer_id) VALUES (8700, 'Sleek Granite Mouse', 74);
-INSERT INTO "order" (id, description, customer_id) VALUES (8701, 'Incredible Granite Mouse', 22);
-INSERT INTO "order" (id, description, customer_id) VALUES (8702, 'Recycled Concrete Cheese', 9);
-INSERT INTO "order" (id, description, customer_id) VALUES (8703, 'Incredible Wooden Keyboard', 25);
-INSERT INTO "order" (id, description, customer_id) VALUES (8704, 'Luxurious Plastic Cheese', 72);
-INSERT INTO "order" (id, description, customer_id) VALUES (8705, 'Refined Wooden Keyboard', 90);
-INSERT INTO "order" (id, description, customer_id) VALUES (8706, 'Modern Plastic Shoes', 41);
-INSERT INTO "order" (id, description, customer_id) VALUES (8707, 'Handmade Cotton Chicken', 90);
-INSERT INTO "order" (id, description, customer_id) VALUES (8708, 'Modern Wooden Bacon', 57);
-INSERT INTO "order" (id, description, customer_id) VALUES (8709, 'Oriental Fresh Pizza', 50);
-INSERT INTO "order" (id, description, customer_id) VALUES (8710, 'Elegant Frozen Cheese', 34);
-INSERT INTO "order" (id, description, customer_id) VALUES (8711, 'Small Fresh Computer', 45);
-INSERT INTO "order" (id, description, customer_id) VALUES (8712, 'Gorgeous Fresh Ball', 97);
-INSERT INTO "order" (id, description, customer_id) VALUES (8713, 'Licensed Granite Table', 3);
-INSERT INTO "order" (id, description, customer_id) VALUES (8714, 'Ergonomic Plastic Gloves', 7);
-INSERT INTO "order" (id, description, customer_id) VALUES (8715, 'Fantastic Wooden Soap', 4);
-INSERT INTO "order" (id, description, customer_id) VALUES (8716, 'Oriental Fresh Hat', 64);
-INSERT INTO "order" (id, description, customer_id) VALUES (8717, 'Incredible Steel Fish', 20);
-INSERT INTO "order" (id, description, customer_id) VALUES (8718, 'Licensed Bronze Mouse', 39);
-INSERT INTO "order" (id, description, customer_id) VALUES (8719, 'Ergonomic Fresh Bike', 6);
-INSERT INTO "order" (id, description, customer_id) VALUES (8720, 'Generic Rubber Pants', 8);
-INSERT INTO "order" (id, description, customer_id) VALUES (8721, 'Fantastic Cotton Computer', 88);
-INSERT INTO "order" (id, description, customer_id) VALUES (8722, 'Oriental Steel Fish', 84);
-INSERT INTO "order" (id, description, customer_id) VALUES (8723, 'Practical Fresh Tuna', 90);
-INSERT INTO "order" (id, description, customer_id) VALUES (8724, 'Intelligent Fresh Fish', 8);
-INSERT INTO "order" (id, description, customer_id) VALUES (8725, 'Refined Wooden Keyboard', 27);
-INSERT INTO "order" (id, description, customer_id) VALUES (8726, 'Elegant Concrete Pizza', 37);
-INSERT INTO "order" (id, description, customer_id) VALUES (8727, 'Tasty Soft Shirt', 44);
-INSERT INTO "order" (id, description, customer_id) VALUES (8728, 'Elegant Bronze Chicken', 36);
-INSERT INTO "order" (id, description, customer_id) VALUES (8729, 'Ergonomic Granite Car', 69);
-INSERT INTO "order" (id, description, customer_id) VALUES (8730, 'Handcrafted Cotton Hat', 61);
-INSERT INTO "order" (id, description, customer_id) VALUES (8731, 'Recycled Cotton Shoes', 62);
-INSERT INTO "order" (id, description, customer_id) VALUES (8732, 'Awesome Metal Pants', 32);
-INSERT INTO "order" (id, description, customer_id) VALUES (8733, 'Gorgeous Wooden Chair', 36);
-INSERT INTO "order" (id, description, customer_id) VALUES (8734, 'Luxurious Steel Bike', 41);
-INSERT INTO "order" (id, description, customer_id) VALUES (8735, 'Ergonomic Rubber Chicken', 24);
-INSERT INTO "order" (id, description, customer_id) VALUES (8736, 'Tasty Metal Pants', 35);
-INSERT INTO "order" (id, description, customer_id) VALUES (8737, 'Licensed Fresh Sausages', 15);
-INSERT INTO "order" (id, description, customer_id) VALUES (8738, 'Rustic Frozen Salad', 68);
-INSERT INTO "order" (id, description, customer_id) VALUES (8739, 'Generic Fresh Chair', 15);
-INSERT INTO "order" (id, description, customer_id) VALUES (8740, 'Unbranded Plastic Cheese', 72);
-INSERT INTO "order" (id, description, customer_id) VALUES (8741, 'Handmade Steel Car', 50);
-INSERT INTO "order" (id, description, customer_id) VALUES (8742, 'Intelligent Steel Keyboard', 81);
-INSERT INTO "order" (id, description, customer_id) VALUES (8743, 'Sleek Soft Computer', 93);
-INSERT INTO "order" (id, description, customer_id) VALUES (8744, 'Gorgeous Plastic Ball', 94);
-INSERT INTO "order" (id, description, customer_id) VALUES (8745, 'Luxurious Fresh Sausages', 14);
-INSERT INTO "order" (id, description, customer_id) VALUES (8746, 'Refined Rubber Hat', 66);
-INSERT INTO "order" (id, description, customer_id) VALUES (8747, 'Awesome Metal Towels', 23);
-INSERT INTO "order" (id, description, customer_id) VALUES (8748, 'Incredible Bronze Shoes', 21);
-INSERT INTO "order" (id, description, customer_id) VALUES (8749, 'Bespoke Frozen Towels', 75);
-INSERT INTO "order" (id, description, customer_id) VALUES (8750, 'Practical Plastic Towels', 19);
-INSERT INTO "order" (id, description, customer_id) VALUES (8751, 'Elegant Granite Pizza', 28);
-INSERT INTO "order" (id, description, customer_id) VALUES (8752, 'Gorgeous Metal Gloves', 52);
-INSERT INTO "order" (id, description, customer_id) VALUES (8753, 'Intelligent Cotton Shoes', 69);
-INSERT INTO "order" (id, description, customer_id) VALUES (8754, 'Gorgeous Fresh Tuna', 85);
-INSERT INTO "order" (id, description, customer_id) VALUES (8755, 'Refined Frozen Fish', 19);
-INSERT INTO "order" (id, description, customer_id) VALUES (8756, 'Refined Metal Bacon', 59);
-INSERT INTO "order" (id, description, customer_id) VALUES (8757, 'Rustic Granite Pants', 14);
-INSERT INTO "order" (id, description, customer_id) VALUES (8758, 'Rustic Metal Fish', 84);
-INSERT INTO "order" (id, description, customer_id) VALUES (8759, 'Rustic Frozen Shirt', 11);
-INSERT INTO "order" (id, description, customer_id) VALUES (8760, 'Fantastic Metal Shirt', 95);
-INSERT INTO "order" (id, description, customer_id) VALUES (8761, 'Practical Fresh Sausages', 24);
-INSERT INTO "order" (id, description, customer_id) VALUES (8762, 'Gorgeous Steel Towels', 95);
-INSERT INTO "order" (id, description, customer_id) VALUES (8763, 'Small Granite Chips', 73);
-INSERT INTO "order" (id, description, customer_id) VALUES (8764, 'Unbranded Rubber Soap', 67);
-INSERT INTO "order" (id, description, customer_id) VALUES (8765, 'Handmade Cotton Tuna', 52);
-INSERT INTO "order" (id, description, customer_id) VALUES (8766, 'Awesome Bronze Mouse', 47);
-INSERT INTO "order" (id, description, customer_id) VALUES (8767, 'Luxurious Rubber Fish', 44);
-INSERT INTO "order" (id, description, customer_id) VALUES (8768, 'Oriental Steel Bacon', 86);
-INSERT INTO "order" (id, description, customer_id) VALUES (8769, 'Handcrafted Wooden Fish', 94);
-INSERT INTO "order" (id, description, customer_id) VALUES (8770, 'Licensed Bronze Gloves', 19);
-INSERT INTO "order" (id, description, customer_id) VALUES (8771, 'Elegant Bronze Tuna', 83);
-INSERT INTO "order" (id, description, customer_id) VALUES (8772, 'Handcrafted Granite Computer', 80);
-INSERT INTO "order" (id, description, customer_id) VALUES (8773, 'Bespoke Steel Chips', 5);
-INSERT INTO "order" (id, description, customer_id) VALUES (8774, 'Unbranded Steel Chips', 8);
-INSERT INTO "order" (id, description, customer_id) VALUES (8775, 'Refined Fresh Mouse', 87);
-INSERT INTO "order" (id, description, customer_id) VALUES (8776, 'Licensed Soft Table', 49);
-INSERT INTO "order" (id, description, customer_id) VALUES (8777, 'Intelligent Plastic Chair', 92);
-INSERT INTO "order" (id, description, customer_id) VALUES (8778, 'Small Metal Tuna', 30);
-INSERT INTO "order" (id, description, customer_id) VALUES (8779, 'Refined Frozen Fish', 82);
-INSERT INTO "order" (id, description, customer_id) VALUES (8780, 'Generic Soft Ball', 33);
-INSERT INTO "order" (id, description, customer_id) VALUES (8781, 'Incredible Wooden Fish', 48);
-INSERT INTO "order" (id, description, customer_id) VALUES (8782, 'Generic Plastic Chicken', 53);
-INSERT INTO "order" (id, description, customer_id) VALUES (8783, 'Generic Rubber Computer', 60);
-INSERT INTO "order" (id, description, customer_id) VALUES (8784, 'Refined Concrete Salad', 54);
-INSERT INTO "order" (id, description, customer_id) VALUES (8785, 'Bespoke Concrete Tuna', 64);
-INSERT INTO "order" (id, description, customer_id) VALUES (8786, 'Bespoke Plastic Shoes', 4);
-INSERT INTO "order" (id, description, customer_id) VALUES (8787, 'Sleek Steel Table', 60);
-INSERT INTO "order" (id, description, customer_id) VALUES (8788, 'Generic Rubber Shirt', 7);
-INSERT INTO "order" (id, description, customer_id) VALUES (8789, 'Ergonomic Soft Tuna', 4);
-INSERT INTO "order" (id, description, customer_id) VALUES (8790, 'Tasty Bronze Towels', 89);
-INSERT INTO "order" (id, description, customer_id) VALUES (8791, 'Electronic Metal Pizza', 98);
-INSERT INTO "order" (id, description, customer_id) VALUES (8792, 'Sleek Frozen Salad', 26);
-INSERT INTO "order" (id, description, customer_id) VALUES (8793, 'Tasty Bronze Chicken', 88);
-INSERT INTO "order" (id, description, customer_id) VALUES (8794, 'Handcrafted Steel Salad', 66);
-INSERT INTO "order" (id, description, customer_id) VALUES (8795, 'Oriental Concrete Table', 73);
-INSERT INTO "order" (id, description, customer_id) VALUES (8796, 'Fantastic Concrete Cheese', 20);
-INSERT INTO "order" (id, description, customer_id) VALUES (8797, 'Practical Granite Chair', 28);
-INSERT INTO "order" (id, description, customer_id) VALUES (8798, 'Modern Steel Chips', 5);
-INSERT INTO "order" (id, description, customer_id) VALUES (8799, 'Handcrafted Frozen Bike', 9);
-INSERT INTO "order" (id, description, customer_id) VALUES (8800, 'Licensed Fresh Mouse', 32);
-INSERT INTO "order" (id, description, customer_id) VALUES (8801, 'Sleek Metal Tuna', 26);
-INSERT INTO "order" (id, description, customer_id) VALUES (8802, 'Unbranded Wooden Chips', 63);
-INSERT INTO "order" (id, description, customer_id) VALUES (8803, 'Generic Granite Sausages', 24);
-INSERT INTO "order" (id, description, customer_id) VALUES (8804, 'Small Plastic Computer', 67);
-INSERT INTO "order" (id, description, customer_id) VALUES (8805, 'Awesome Concrete Bacon', 44);
-INSERT INTO "order" (id, description, customer_id) VALUES (8806, 'Handcrafted Bronze Tuna', 9);
-INSERT INTO "order" (id, description, customer_id) VALUES (8807, 'Bespoke Rubber Hat', 36);
-INSERT INTO "order" (id, description, customer_id) VALUES (8808, 'Sleek Frozen Towels', 32);
-INSERT INTO "order" (id, description, customer_id) VALUES (8809, 'Tasty Frozen Soap', 52);
-INSERT INTO "order" (id, description, customer_id) VALUES (8810, 'Awesome Bronze Pants', 69);
-INSERT INTO "order" (id, description, customer_id) VALUES (8811, 'Awesome Soft Chair', 98);
-INSERT INTO "order" (id, description, customer_id) VALUES (8812, 'Awesome Concrete Table', 86);
-INSERT INTO "order" (id, description, customer_id) VALUES (8813, 'Incredible Steel Chips', 48);
-INSERT INTO "order" (id, description, customer_id) VALUES (8814, 'Incredible Bronze Table', 46);
-INSERT INTO "order" (id, description, customer_id) VALUES (8815, 'Tasty Soft Pants', 53);
-INSERT INTO "order" (id, description, customer_id) VALUES (8816, 'Small Fresh Hat', 84);
-INSERT INTO "order" (id, description, customer_id) VALUES (8817, 'Luxurious Soft Gloves', 81);
-INSERT INTO "order" (id, description, customer_id) VALUES (8818, 'Handmade Soft Car', 65);
-INSERT INTO "order" (id, description, customer_id) VALUES (8819, 'Sleek Soft Gloves', 40);
-INSERT INTO "order" (id, description, customer_id) VALUES (8820, 'Modern Soft Salad', 10);
-INSERT INTO "order" (id, description, customer_id) VALUES (8821, 'Oriental Metal Table', 70);
-INSERT INTO "order" (id, description, customer_id) VALUES (8822, 'Tasty Plastic Mouse', 52);
-INSERT INTO "order" (id, description, customer_id) VALUES (8823, 'Licensed Steel Bacon', 68);
-INSERT INTO "order" (id, description, customer_id) VALUES (8824, 'Sleek Fresh Cheese', 51);
-INSERT INTO "order" (id, description, customer_id) VALUES (8825, 'Handmade Cotton Shirt', 10);
-INSERT INTO "order" (id, description, customer_id) VALUES (8826, 'Unbranded Steel Fish', 60);
-INSERT INTO "order" (id, description, customer_id) VALUES (8827, 'Gorgeous Wooden Chair', 14);
-INSERT INTO "order" (id, description, customer_id) VALUES (8828, 'Intelligent Fresh Ball', 42);
-INSERT INTO "order" (id, description, customer_id) VALUES (8829, 'Refined Wooden Shirt', 49);
-INSERT INTO "order" (id, description, customer_id) VALUES (8830, 'Elegant Frozen Bike', 14);
-INSERT INTO "order" (id, description, customer_id) VALUES (8831, 'Electronic Plastic Keyboard', 42);
-INSERT INTO "order" (id, description, customer_id) VALUES (8832, 'Refined Rubber Tuna', 67);
-INSERT INTO "order" (id, description, customer_id) VALUES (8833, 'Gorgeous Fresh Hat', 82);
-INSERT INTO "order" (id, description, customer_id) VALUES (8834, 'Rustic Steel Shoes', 75);
-INSERT INTO "order" (id, description, customer_id) VALUES (8835, 'Electronic Metal Ball', 44);
-INSERT INTO "order" (id, description, customer_id) VALUES (8836, 'Modern Soft Chips', 18);
-INSERT INTO "order" (id, description, customer_id) VALUES (8837, 'Handcrafted Frozen Soap', 66);
-INSERT INTO "order" (id, description, customer_id) VALUES (8838, 'Elegant Metal Pants', 24);
-INSERT INTO "order" (id, description, customer_id) VALUES (8839, 'Oriental Granite Chicken', 23);
-INSERT INTO "order" (id, description, customer_id) VALUES (8840, 'Practical Fresh Salad', 40);
-INSERT INTO "order" (id, description, customer_id) VALUES (8841, 'Unbranded Metal Towels', 18);
-INSERT INTO "order" (id, description, customer_id) VALUES (8842, 'Handcrafted Granite Mouse', 76);
-INSERT INTO "order" (id, description, customer_id) VALUES (8843, 'Licensed Steel Salad', 21);
-INSERT INTO "order" (id, description, customer_id) VALUES (8844, 'Recycled Soft Shirt', 51);
-INSERT INTO "order" (id, description, customer_id) VALUES (8845, 'Ergonomic Fresh Salad', 61);
-INSERT INTO "order" (id, description, customer_id) VALUES (8846, 'Incredible Wooden Towels', 6);
-INSERT INTO "order" (id, description, customer_id) VALUES (8847, 'Intelligent Fresh Gloves', 89);
-INSERT INTO "order" (id, description, customer_id) VALUES (8848, 'Rustic Plastic Pants', 99);
-INSERT INTO "order" (id, description, customer_id) VALUES (8849, 'Intelligent Soft Shoes', 61);
-INSERT INTO "order" (id, description, customer_id) VALUES (8850, 'Fantastic Metal Chips', 14);
-INSERT INTO "order" (id, description, customer_id) VALUES (8851, 'Oriental Bronze Chair', 59);
-INSERT INTO "order" (id, description, customer_id) VALUES (8852, 'Handmade Fresh Fish', 42);
-INSERT INTO "order" (id, description, customer_id) VALUES (8853, 'Sleek Plastic Chips', 26);
-INSERT INTO "order" (id, description, customer_id) VALUES (8854, 'Refined Granite Mouse', 96);
-INSERT INTO "order" (id, description, customer_id) VALUES (8855, 'Incredible Metal Gloves', 88);
-INSERT INTO "order" (id, description, customer_id) VALUES (8856, 'Small Frozen Fish', 74);
-INSERT INTO "order" (id, description, customer_id) VALUES (8857, 'Gorgeous Wooden Cheese', 87);
-INSERT INTO "order" (id, description, customer_id) VALUES (8858, 'Refined Fresh Salad', 94);
-INSERT INTO "order" (id, description, customer_id) VALUES (8859, 'Fantastic Rubber Mouse', 61);
-INSERT INTO "order" (id, description, customer_id) VALUES (8860, 'Recycled Frozen Ball', 23);
-INSERT INTO "order" (id, description, customer_id) VALUES (8861, 'Gorgeous Steel Chips', 43);
-INSERT INTO "order" (id, description, customer_id) VALUES (8862, 'Fantastic Rubber Bacon', 52);
-INSERT INTO "order" (id, description, customer_id) VALUES (8863, 'Licensed Fresh Bike', 91);
-INSERT INTO "order" (id, description, customer_id) VALUES (8864, 'Fantastic Cotton Ball', 90);
-INSERT INTO "order" (id, description, customer_id) VALUES (8865, 'Intelligent Bronze Table', 56);
-INSERT INTO "order" (id, description, customer_id) VALUES (8866, 'Tasty Steel Fish', 52);
-INSERT INTO "order" (id, description, customer_id) VALUES (8867, 'Handcrafted Metal Chips', 95);
-INSERT INTO "order" (id, description, customer_id) VALUES (8868, 'Elegant Bronze Soap', 74);
-INSERT INTO "order" (id, description, customer_id) VALUES (8869, 'Gorgeous Metal Bike', 88);
-INSERT INTO "order" (id, description, customer_id) VALUES (8870, 'Generic Granite Table', 93);
-INSERT INTO "order" (id, description, customer_id) VALUES (8871, 'Tasty Frozen Mouse', 70);
-INSERT INTO "order" (id, description, customer_id) VALUES (8872, 'Unbranded Rubber Ball', 83);
-INSERT INTO "order" (id, description, customer_id) VALUES (8873, 'Sleek Plastic Chicken', 92);
-INSERT INTO "order" (id, description, customer_id) VALUES (8874, 'Awesome Frozen Chair', 69);
-INSERT INTO "order" (id, description, customer_id) VALUES (8875, 'Rustic Fresh Chicken', 45);
-INSERT INTO "order" (id, description, customer_id) VALUES (8876, 'Handmade Rubber Keyboard', 74);
-INSERT INTO "order" (id, description, customer_id) VALUES (8877, 'Handmade Fresh Bacon', 22);
-INSERT INTO "order" (id, description, customer_id) VALUES (8878, 'Licensed Concrete Pants', 28);
-INSERT INTO "order" (id, description, customer_id) VALUES (8879, 'Handmade Steel Ball', 35);
-INSERT INTO "order" (id, description, customer_id) VALUES (8880, 'Generic Bronze Mouse', 72);
-INSERT INTO "order" (id, description, customer_id) VALUES (8881, 'Generic Soft Salad', 33);
-INSERT INTO "order" (id, description, customer_id) VALUES (8882, 'Unbranded Plastic Cheese', 25);
-INSERT INTO "order" (id, description, customer_id) VALUES (8883, 'Handmade Bronze Shirt', 91);
-INSERT INTO "order" (id, description, customer_id) VALUES (8884, 'Practical Concrete Fish', 48);
-INSERT INTO "order" (id, description, customer_id) VALUES (8885, 'Licensed Wooden Car', 68);
-INSERT INTO "order" (id, description, customer_id) VALUES (8886, 'Tasty Cotton Tuna', 82);
-INSERT INTO "order" (id, description, customer_id) VALUES (8887, 'Elegant Fresh Tuna', 6);
-INSERT INTO "order" (id, description, customer_id) VALUES (8888, 'Practical Rubber Ball', 33);
-INSERT INTO "order" (id, description, customer_id) VALUES (8889, 'Small Bronze Pants', 66);
-INSERT INTO "order" (id, description, customer_id) VALUES (8890, 'Ergonomic Frozen Computer', 17);
-INSERT INTO "order" (id, description, customer_id) VALUES (8891, 'Licensed Fresh Shoes', 69);
-INSERT INTO "order" (id, description, customer_id) VALUES (8892, 'Fantastic Cotton Gloves', 47);
-INSERT INTO "order" (id, description, customer_id) VALUES (8893, 'Unbranded Concrete Towels', 10);
-INSERT INTO "order" (id, description, customer_id) VALUES (8894, 'Oriental Cotton Keyboard', 96);
-INSERT INTO "order" (id, description, customer_id) VALUES (8895, 'Sleek Wooden Bike', 87);
-INSERT INTO "order" (id, description, customer_id) VALUES (8896, 'Generic Frozen Car', 11);
-INSERT INTO "order" (id, description, customer_id) VALUES (8897, 'Electronic Granite Soap', 52);
-INSERT INTO "order" (id, description, customer_id) VALUES (8898, 'Rustic Steel Keyboard', 99);
-INSERT INTO "order" (id, description, customer_id) VALUES (8899, 'Fantastic Granite Soap', 58);
-INSERT INTO "order" (id, description, customer_id) VALUES (8900, 'Handcrafted Cotton Car', 58);
-INSERT INTO "order" (id, description, customer_id) VALUES (8901, 'Small Fresh Sausages', 31);
-INSERT INTO "order" (id, description, customer_id) VALUES (8902, 'Fantastic Metal Salad', 25);
-INSERT INTO "order" (id, description, customer_id) VALUES (8903, 'Awesome Metal Gloves', 17);
-INSERT INTO "order" (id, description, customer_id) VALUES (8904, 'Handcrafted Rubber Car', 85);
-INSERT INTO "order" (id, description, customer_id) VALUES (8905, 'Intelligent Frozen Hat', 75);
-INSERT INTO "order" (id, description, customer_id) VALUES (8906, 'Luxurious Bronze Towels', 62);
-INSERT INTO "order" (id, description, customer_id) VALUES (8907, 'Licensed Granite Hat', 58);
-INSERT INTO "order" (id, description, customer_id) VALUES (8908, 'Luxurious Fresh Ball', 71);
-INSERT INTO "order" (id, description, customer_id) VALUES (8909, 'Sleek Rubber Mouse', 68);
-INSERT INTO "order" (id, description, customer_id) VALUES (8910, 'Oriental Bronze Table', 54);
-INSERT INTO "order" (id, description, customer_id) VALUES (8911, 'Incredible Wooden Car', 37);
-INSERT INTO "order" (id, description, customer_id) VALUES (8912, 'Luxurious Concrete Bike', 42);
-INSERT INTO "order" (id, description, customer_id) VALUES (8913, 'Recycled Bronze Tuna', 63);
-INSERT INTO "order" (id, description, customer_id) VALUES (8914, 'Electronic Rubber Sausages', 55);
-INSERT INTO "order" (id, description, customer_id) VALUES (8915, 'Unbranded Frozen Chips', 78);
-INSERT INTO "order" (id, description, customer_id) VALUES (8916, 'Electronic Granite Bike', 48);
-INSERT INTO "order" (id, description, customer_id) VALUES (8917, 'Elegant Fresh Salad', 44);
-INSERT INTO "order" (id, description, customer_id) VALUES (8918, 'Handcrafted Granite Mouse', 33);
-INSERT INTO "order" (id, description, customer_id) VALUES (8919, 'Unbranded Metal Chair', 47);
-INSERT INTO "order" (id, description, customer_id) VALUES (8920, 'Small Rubber Shirt', 75);
-INSERT INTO "order" (id, description, customer_id) VALUES (8921, 'Practical Concrete Hat', 66);
-INSERT INTO "order" (id, description, customer_id) VALUES (8922, 'Small Metal Ball', 46);
-INSERT INTO "order" (id, description, customer_id) VALUES (8923, 'Electronic Steel Chair', 46);
-INSERT INTO "order" (id, description, customer_id) VALUES (8924, 'Recycled Fresh Hat', 82);
-INSERT INTO "order" (id, description, customer_id) VALUES (8925, 'Rustic Rubber Ball', 49);
-INSERT INTO "order" (id, description, customer_id) VALUES (8926, 'Elegant Steel Salad', 10);
-INSERT INTO "order" (id, description, customer_id) VALUES (8927, 'Gorgeous Concrete Bike', 39);
-INSERT INTO "order" (id, description, customer_id) VALUES (8928, 'Recycled Wooden Pizza', 49);
-INSERT INTO "order" (id, description, customer_id) VALUES (8929, 'Handcrafted Steel Shoes', 24);
-INSERT INTO "order" (id, description, customer_id) VALUES (8930, 'Handmade Wooden Bacon', 83);
-INSERT INTO "order" (id, description, customer_id) VALUES (8931, 'Incredible Concrete Fish', 3);
-INSERT INTO "order" (id, description, customer_id) VALUES (8932, 'Incredible Wooden Chips', 77);
-INSERT INTO "order" (id, description, customer_id) VALUES (8933, 'Refined Cotton Car', 56);
-INSERT INTO "order" (id, description, customer_id) VALUES (8934, 'Small Rubber Pizza', 23);
-INSERT INTO "order" (id, description, customer_id) VALUES (8935, 'Refined Plastic Soap', 7);
-INSERT INTO "order" (id, description, customer_id) VALUES (8936, 'Recycled Steel Sausages', 94);
-INSERT INTO "order" (id, description, customer_id) VALUES (8937, 'Handcrafted Concrete Sausages', 90);
-INSERT INTO "order" (id, description, customer_id) VALUES (8938, 'Rustic Steel Shirt', 1);
-INSERT INTO "order" (id, description, customer_id) VALUES (8939, 'Oriental Concrete Sausages', 26);
-INSERT INTO "order" (id, description, customer_id) VALUES (8940, 'Rustic Plastic Tuna', 30);
-INSERT INTO "order" (id, description, customer_id) VALUES (8941, 'Unbranded Frozen Towels', 97);
-INSERT INTO "order" (id, description, customer_id) VALUES (8942, 'Oriental Bronze Computer', 65);
-INSERT INTO "order" (id, description, customer_id) VALUES (8943, 'Handcrafted Frozen Chair', 15);
-INSERT INTO "order" (id, description, customer_id) VALUES (8944, 'Recycled Frozen Mouse', 70);
-INSERT INTO "order" (id, description, customer_id) VALUES (8945, 'Unbranded Cotton Pizza', 52);
-INSERT INTO "order" (id, description, customer_id) VALUES (8946, 'Licensed Cotton Bike', 93);
-INSERT INTO "order" (id, description, customer_id) VALUES (8947, 'Recycled Rubber Sausages', 95);
-INSERT INTO "order" (id, description, customer_id) VALUES (8948, 'Sleek Wooden Shoes', 30);
-INSERT INTO "order" (id, description, customer_id) VALUES (8949, 'Electronic Fresh Car', 25);
-INSERT INTO "order" (id, description, customer_id) VALUES (8950, 'Bespoke Cotton Soap', 45);
-INSERT INTO "order" (id, description, customer_id) VALUES (8951, 'Modern Metal Table', 54);
-INSERT INTO "order" (id, description, customer_id) VALUES (8952, 'Handmade Wooden Shoes', 62);
-INSERT INTO "order" (id, description, customer_id) VALUES (8953, 'Sleek Rubber Car', 70);
-INSERT INTO "order" (id, description, customer_id) VALUES (8954, 'Handcrafted Rubber Mouse', 98);
-INSERT INTO "order" (id, description, customer_id) VALUES (8955, 'Electronic Cotton Ball', 83);
-INSERT INTO "order" (id, description, customer_id) VALUES (8956, 'Elegant Bronze Fish', 79);
-INSERT INTO "order" (id, description, customer_id) VALUES (8957, 'Luxurious Cotton Fish', 6);
-INSERT INTO "order" (id, description, customer_id) VALUES (8958, 'Ergonomic Steel Bacon', 77);
-INSERT INTO "order" (id, description, customer_id) VALUES (8959, 'Licensed Wooden Pizza', 39);
-INSERT INTO "order" (id, description, customer_id) VALUES (8960, 'Bespoke Bronze Hat', 38);
-INSERT INTO "order" (id, description, customer_id) VALUES (8961, 'Incredible Plastic Car', 80);
-INSERT INTO "order" (id, description, customer_id) VALUES (8962, 'Rustic Concrete Keyboard', 46);
-INSERT INTO "order" (id, description, customer_id) VALUES (8963, 'Modern Bronze Shoes', 89);
-INSERT INTO "order" (id, description, customer_id) VALUES (8964, 'Tasty Metal Computer', 60);
-INSERT INTO "order" (id, description, customer_id) VALUES (8965, 'Refined Cotton Car', 37);
-INSERT INTO "order" (id, description, customer_id) VALUES (8966, 'Gorgeous Plastic Pizza', 38);
-INSERT INTO "order" (id, description, customer_id) VALUES (8967, 'Modern Steel Shoes', 62);
-INSERT INTO "order" (id, description, customer_id) VALUES (8968, 'Luxurious Granite Keyboard', 88);
-INSERT INTO "order" (id, description, customer_id) VALUES (8969, 'Gorgeous Steel Tuna', 99);
-INSERT INTO "order" (id, description, customer_id) VALUES (8970, 'Handmade Soft Ball', 4);
-INSERT INTO "order" (id, description, customer_id) VALUES (8971, 'Elegant Wooden Shirt', 86);
-INSERT INTO "order" (id, description, customer_id) VALUES (8972, 'Ergonomic Metal Keyboard', 26);
-INSERT INTO "order" (id, description, customer_id) VALUES (8973, 'Oriental Fresh Hat', 23);
-INSERT INTO "order" (id, description, customer_id) VALUES (8974, 'Fantastic Wooden Computer', 97);
-INSERT INTO "order" (id, description, customer_id) VALUES (8975, 'Incredible Granite Chicken', 18);
-INSERT INTO "order" (id, description, customer_id) VALUES (8976, 'Awesome Frozen Gloves', 81);
-INSERT INTO "order" (id, description, customer_id) VALUES (8977, 'Electronic Plastic Chair', 47);
-INSERT INTO "order" (id, description, customer_id) VALUES (8978, 'Fantastic Metal Chicken', 74);
-INSERT INTO "order" (id, description, customer_id) VALUES (8979, 'Awesome Granite Towels', 53);
-INSERT INTO "order" (id, description, customer_id) VALUES (8980, 'Rustic Frozen Chips', 64);
-INSERT INTO "order" (id, description, customer_id) VALUES (8981, 'Handmade Concrete Pants', 51);
-INSERT INTO "order" (id, description, customer_id) VALUES (8982, 'Incredible Bronze Fish', 22);
-INSERT INTO "order" (id, description, customer_id) VALUES (8983, 'Modern Frozen Car', 17);
-INSERT INTO "order" (id, description, customer_id) VALUES (8984, 'Rustic Frozen Shirt', 33);
-INSERT INTO "order" (id, description, customer_id) VALUES (8985, 'Intelligent Metal Pants', 86);
-INSERT INTO "order" (id, description, customer_id) VALUES (8986, 'Electronic Soft Salad', 84);
-INSERT INTO "order" (id, description, customer_id) VALUES (8987, 'Sleek Steel Pizza', 28);
-INSERT INTO "order" (id, description, customer_id) VALUES (8988, 'Intelligent Concrete Chips', 40);
-INSERT INTO "order" (id, description, customer_id) VALUES (8989, 'Incredible Cotton Bacon', 45);
-INSERT INTO "order" (id, description, customer_id) VALUES (8990, 'Modern Fresh Shoes', 9);
-INSERT INTO "order" (id, description, customer_id) VALUES (8991, 'Refined Granite Computer', 99);
-INSERT INTO "order" (id, description, customer_id) VALUES (8992, 'Licensed Steel Keyboard', 84);
-INSERT INTO "order" (id, description, customer_id) VALUES (8993, 'Generic Frozen Cheese', 47);
-INSERT INTO "order" (id, description, customer_id) VALUES (8994, 'Intelligent Fresh Shirt', 43);
-INSERT INTO "order" (id, description, customer_id) VALUES (8995, 'Small Concrete Car', 49);
-INSERT INTO "order" (id, description, customer_id) VALUES (8996, 'Intelligent Wooden Hat', 3);
-INSERT INTO "order" (id, description, customer_id) VALUES (8997, 'Modern Concrete Ball', 77);
-INSERT INTO "order" (id, description, customer_id) VALUES (8998, 'Awesome Steel Cheese', 7);
-INSERT INTO "order" (id, description, customer_id) VALUES (8999, 'Fantastic Bronze Soap', 32);
-INSERT INTO "order" (id, description, customer_id) VALUES (9000, 'Intelligent Metal Hat', 73);
-INSERT INTO "order" (id, description, customer_id) VALUES (9001, 'Bespoke Plastic Chair', 100);
-INSERT INTO "order" (id, description, customer_id) VALUES (9002, 'Small Rubber Towels', 99);
-INSERT INTO "order" (id, description, customer_id) VALUES (9003, 'Elegant Bronze Chips', 100);
-INSERT INTO "order" (id, description, customer_id) VALUES (9004, 'Modern Bronze Sausages', 94);
-INSERT INTO "order" (id, description, customer_id) VALUES (9005, 'Bespoke Soft Ball', 8);
-INSERT INTO "order" (id, description, customer_id) VALUES (9006, 'Generic Metal Soap', 40);
-INSERT INTO "order" (id, description, customer_id) VALUES (9007, 'Tasty Cotton Chicken', 47);
-INSERT INTO "order" (id, description, customer_id) VALUES (9008, 'Modern Metal Shoes', 19);
-INSERT INTO "order" (id, description, customer_id) VALUES (9009, 'Recycled Soft Bike', 11);
-INSERT INTO "order" (id, description, customer_id) VALUES (9010, 'Elegant Soft Bike', 68);
-INSERT INTO "order" (id, description, customer_id) VALUES (9011, 'Sleek Steel Chips', 84);
-INSERT INTO "order" (id, description, customer_id) VALUES (9012, 'Elegant Steel Bacon', 24);
-INSERT INTO "order" (id, description, customer_id) VALUES (9013, 'Oriental Frozen Car', 86);
-INSERT INTO "order" (id, description, customer_id) VALUES (9014, 'Awesome Plastic Mouse', 85);
-INSERT INTO "order" (id, description, customer_id) VALUES (9015, 'Modern Metal Chair', 99);
-INSERT INTO "order" (id, description, customer_id) VALUES (9016, 'Oriental Concrete Chips', 6);
-INSERT INTO "order" (id, description, customer_id) VALUES (9017, 'Ergonomic Fresh Chips', 69);
-INSERT INTO "order" (id, description, customer_id) VALUES (9018, 'Fantastic Cotton Keyboard', 36);
-INSERT INTO "order" (id, description, customer_id) VALUES (9019, 'Modern Frozen Pants', 95);
-INSERT INTO "order" (id, description, customer_id) VALUES (9020, 'Refined Cotton Mouse', 18);
-INSERT INTO "order" (id, description, customer_id) VALUES (9021, 'Unbranded Rubber Bacon', 13);
-INSERT INTO "order" (id, description, customer_id) VALUES (9022, 'Incredible Frozen Pants', 37);
-INSERT INTO "order" (id, description, customer_id) VALUES (9023, 'Small Frozen Pizza', 63);
-INSERT INTO "order" (id, description, customer_id) VALUES (9024, 'Oriental Fresh Fish', 9);
-INSERT INTO "order" (id, description, customer_id) VALUES (9025, 'Gorgeous Bronze Chair', 96);
-INSERT INTO "order" (id, description, customer_id) VALUES (9026, 'Recycled Soft Bike', 74);
-INSERT INTO "order" (id, description, customer_id) VALUES (9027, 'Ergonomic Wooden Mouse', 31);
-INSERT INTO "order" (id, description, customer_id) VALUES (9028, 'Unbranded Cotton Computer', 64);
-INSERT INTO "order" (id, description, customer_id) VALUES (9029, 'Fantastic Cotton Salad', 100);
-INSERT INTO "order" (id, description, customer_id) VALUES (9030, 'Modern Wooden Towels', 29);
-INSERT INTO "order" (id, description, customer_id) VALUES (9031, 'Bespoke Concrete Ball', 35);
-INSERT INTO "order" (id, description, customer_id) VALUES (9032, 'Fantastic Cotton Pizza', 83);
-INSERT INTO "order" (id, description, customer_id) VALUES (9033, 'Recycled Concrete Sausages', 89);
-INSERT INTO "order" (id, description, customer_id) VALUES (9034, 'Modern Metal Ball', 85);
-INSERT INTO "order" (id, description, customer_id) VALUES (9035, 'Generic Frozen Chicken', 21);
-INSERT INTO "order" (id, description, customer_id) VALUES (9036, 'Practical Rubber Car', 18);
-INSERT INTO "order" (id, description, customer_id) VALUES (9037, 'Sleek Concrete Cheese', 87);
-INSERT INTO "order" (id, description, customer_id) VALUES (9038, 'Modern Wooden Shoes', 15);
-INSERT INTO "order" (id, description, customer_id) VALUES (9039, 'Electronic Concrete Car', 43);
-INSERT INTO "order" (id, description, customer_id) VALUES (9040, 'Refined Rubber Hat', 75);
-INSERT INTO "order" (id, description, customer_id) VALUES (9041, 'Luxurious Bronze Soap', 27);
-INSERT INTO "order" (id, description, customer_id) VALUES (9042, 'Modern Bronze Towels', 88);
-INSERT INTO "order" (id, description, customer_id) VALUES (9043, 'Fantastic Bronze Pizza', 7);
-INSERT INTO "order" (id, description, customer_id) VALUES (9044, 'Awesome Granite Chair', 63);
-INSERT INTO "order" (id, description, customer_id) VALUES (9045, 'Luxurious Wooden Chips', 35);
-INSERT INTO "order" (id, description, customer_id) VALUES (9046, 'Fantastic Cotton Table', 19);
-INSERT INTO "order" (id, description, customer_id) VALUES (9047, 'Handcrafted Granite Sausages', 15);
-INSERT INTO "order" (id, description, customer_id) VALUES (9048, 'Awesome Bronze Keyboard', 18);
-INSERT INTO "order" (id, description, customer_id) VALUES (9049, 'Elegant Metal Chips', 35);
-INSERT INTO "order" (id, description, customer_id) VALUES (9050, 'Handmade Cotton Bike', 54);
-INSERT INTO "order" (id, description, customer_id) VALUES (9051, 'Elegant Wooden Hat', 2);
-INSERT INTO "order" (id, description, customer_id) VALUES (9052, 'Modern Soft Ball', 46);
-INSERT INTO "order" (id, description, customer_id) VALUES (9053, 'Small Soft Keyboard', 68);
-INSERT INTO "order" (id, description, customer_id) VALUES (9054, 'Handcrafted Steel Keyboard', 32);
-INSERT INTO "order" (id, description, customer_id) VALUES (9055, 'Luxurious Cotton Salad', 69);
-INSERT INTO "order" (id, description, customer_id) VALUES (9056, 'Incredible Fresh Hat', 80);
-INSERT INTO "order" (id, description, customer_id) VALUES (9057, 'Incredible Metal Table', 80);
-INSERT INTO "order" (id, description, customer_id) VALUES (9058, 'Intelligent Steel Tuna', 93);
-INSERT INTO "order" (id, description, customer_id) VALUES (9059, 'Intelligent Soft Pizza', 59);
-INSERT INTO "order" (id, description, customer_id) VALUES (9060, 'Licensed Metal Ball', 53);
-INSERT INTO "order" (id, description, customer_id) VALUES (9061, 'Electronic Wooden Salad', 97);
-INSERT INTO "order" (id, description, customer_id) VALUES (9062, 'Elegant Bronze Cheese', 44);
-INSERT INTO "order" (id, description, customer_id) VALUES (9063, 'Rustic Plastic Tuna', 29);
-INSERT INTO "order" (id, description, customer_id) VALUES (9064, 'Unbranded Concrete Shirt', 80);
-INSERT INTO "order" (id, description, customer_id) VALUES (9065, 'Tasty Rubber Gloves', 68);
-INSERT INTO "order" (id, description, customer_id) VALUES (9066, 'Unbranded Concrete Soap', 94);
-INSERT INTO "order" (id, description, customer_id) VALUES (9067, 'Recycled Wooden Sausages', 39);
-INSERT INTO "order" (id, description, customer_id) VALUES (9068, 'Fantastic Bronze Chicken', 64);
-INSERT INTO "order" (id, description, customer_id) VALUES (9069, 'Oriental Plastic Salad', 39);
-INSERT INTO "order" (id, description, customer_id) VALUES (9070, 'Handcrafted Steel Fish', 59);
-INSERT INTO "order" (id, description, customer_id) VALUES (9071, 'Incredible Frozen Ball', 79);
-INSERT INTO "order" (id, description, customer_id) VALUES (9072, 'Electronic Granite Shirt', 9);
-INSERT INTO "order" (id, description, customer_id) VALUES (9073, 'Unbranded Granite Shoes', 77);
-INSERT INTO "order" (id, description, customer_id) VALUES (9074, 'Gorgeous Plastic Computer', 41);
-INSERT INTO "order" (id, description, customer_id) VALUES (9075, 'Luxurious Wooden Soap', 21);
-INSERT INTO "order" (id, description, customer_id) VALUES (9076, 'Unbranded Granite Tuna', 22);
-INSERT INTO "order" (id, description, customer_id) VALUES (9077, 'Modern Bronze Pants', 27);
-INSERT INTO "order" (id, description, customer_id) VALUES (9078, 'Tasty Bronze Ball', 27);
-INSERT INTO "order" (id, description, customer_id) VALUES (9079, 'Refined Concrete Bike', 78);
-INSERT INTO "order" (id, description, customer_id) VALUES (9080, 'Elegant Concrete Computer', 55);
-INSERT INTO "order" (id, description, customer_id) VALUES (9081, 'Generic Plastic Computer', 19);
-INSERT INTO "order" (id, description, customer_id) VALUES (9082, 'Refined Fresh Bike', 63);
-INSERT INTO "order" (id, description, customer_id) VALUES (9083, 'Gorgeous Soft Keyboard', 93);
-INSERT INTO "order" (id, description, customer_id) VALUES (9084, 'Small Steel Bike', 32);
-INSERT INTO "order" (id, description, customer_id) VALUES (9085, 'Modern Concrete Cheese', 20);
-INSERT INTO "order" (id, description, customer_id) VALUES (9086, 'Practical Concrete Mouse', 43);
-INSERT INTO "order" (id, description, customer_id) VALUES (9087, 'Handcrafted Steel Table', 24);
-INSERT INTO "order" (id, description, customer_id) VALUES (9088, 'Refined Metal Ball', 71);
-INSERT INTO "order" (id, description, customer_id) VALUES (9089, 'Recycled Steel Mouse', 54);
-INSERT INTO "order" (id, description, customer_id) VALUES (9090, 'Handcrafted Steel Computer', 47);
-INSERT INTO "order" (id, description, customer_id) VALUES (9091, 'Generic Concrete Chicken', 53);
-INSERT INTO "order" (id, description, customer_id) VALUES (9092, 'Generic Wooden Salad', 14);
-INSERT INTO "order" (id, description, customer_id) VALUES (9093, 'Practical Plastic Pizza', 13);
-INSERT INTO "order" (id, description, customer_id) VALUES (9094, 'Fantastic Frozen Car', 98);
-INSERT INTO "order" (id, description, customer_id) VALUES (9095, 'Elegant Soft Chair', 58);
-INSERT INTO "order" (id, description, customer_id) VALUES (9096, 'Handmade Metal Salad', 21);
-INSERT INTO "order" (id, description, customer_id) VALUES (9097, 'Ergonomic Soft Cheese', 67);
-INSERT INTO "order" (id, description, customer_id) VALUES (9098, 'Modern Soft Table', 24);
-INSERT INTO "order" (id, description, customer_id) VALUES (9099, 'Electronic Cotton Towels', 21);
-INSERT INTO "order" (id, description, customer_id) VALUES (9100, 'Sleek Granite Pants', 48);
-INSERT INTO "order" (id, description, customer_id) VALUES (9101, 'Rustic Granite Ball', 84);
-INSERT INTO "order" (id, description, customer_id) VALUES (9102, 'Small Bronze Bacon', 26);
-INSERT INTO "order" (id, description, customer_id) VALUES (9103, 'Bespoke Granite Hat', 10);
-INSERT INTO "order" (id, description, customer_id) VALUES (9104, 'Rustic Soft Shirt', 6);
-INSERT INTO "order" (id, description, customer_id) VALUES (9105, 'Rustic Steel Salad', 17);
-INSERT INTO "order" (id, description, customer_id) VALUES (9106, 'Incredible Rubber Pizza', 78);
-INSERT INTO "order" (id, description, customer_id) VALUES (9107, 'Recycled Granite Table', 52);
-INSERT INTO "order" (id, description, customer_id) VALUES (9108, 'Ergonomic Cotton Chips', 68);
-INSERT INTO "order" (id, description, customer_id) VALUES (9109, 'Sleek Wooden Bacon', 11);
-INSERT INTO "order" (id, description, customer_id) VALUES (9110, 'Gorgeous Metal Car', 63);
-INSERT INTO "order" (id, description, customer_id) VALUES (9111, 'Gorgeous Bronze Fish', 32);
-INSERT INTO "order" (id, description, customer_id) VALUES (9112, 'Luxurious Bronze Car', 61);
-INSERT INTO "order" (id, description, customer_id) VALUES (9113, 'Gorgeous Plastic Fish', 77);
-INSERT INTO "order" (id, description, customer_id) VALUES (9114, 'Electronic Frozen Chips', 46);
-INSERT INTO "order" (id, description, customer_id) VALUES (9115, 'Generic Cotton Gloves', 34);
-INSERT INTO "order" (id, description, customer_id) VALUES (9116, 'Fantastic Rubber Chicken', 52);
-INSERT INTO "order" (id, description, customer_id) VALUES (9117, 'Luxurious Concrete Chair', 44);
-INSERT INTO "order" (id, description, customer_id) VALUES (9118, 'Gorgeous Granite Fish', 51);
-INSERT INTO "order" (id, description, customer_id) VALUES (9119, 'Recycled Metal Cheese', 86);
-INSERT INTO "order" (id, description, customer_id) VALUES (9120, 'Bespoke Frozen Mouse', 97);
-INSERT INTO "order" (id, description, customer_id) VALUES (9121, 'Unbranded Plastic Computer', 71);
-INSERT INTO "order" (id, description, customer_id) VALUES (9122, 'Electronic Steel Hat', 40);
-INSERT INTO "order" (id, description, customer_id) VALUES (9123, 'Handmade Metal Bike', 4);
-INSERT INTO "order" (id, description, customer_id) VALUES (9124, 'Practical Bronze Chair', 51);
-INSERT INTO "order" (id, description, customer_id) VALUES (9125, 'Oriental Bronze Chips', 42);
-INSERT INTO "order" (id, description, customer_id) VALUES (9126, 'Fantastic Granite Sausages', 22);
-INSERT INTO "order" (id, description, customer_id) VALUES (9127, 'Awesome Frozen Bike', 73);
-INSERT INTO "order" (id, description, customer_id) VALUES (9128, 'Unbranded Plastic Gloves', 97);
-INSERT INTO "order" (id, description, customer_id) VALUES (9129, 'Electronic Plastic Towels', 91);
-INSERT INTO "order" (id, description, customer_id) VALUES (9130, 'Awesome Fresh Towels', 32);
-INSERT INTO "order" (id, description, customer_id) VALUES (9131, 'Luxurious Granite Computer', 67);
-INSERT INTO "order" (id, description, customer_id) VALUES (9132, 'Unbranded Concrete Chair', 72);
-INSERT INTO "order" (id, description, customer_id) VALUES (9133, 'Modern Cotton Towels', 20);
-INSERT INTO "order" (id, description, customer_id) VALUES (9134, 'Small Concrete Keyboard', 100);
-INSERT INTO "order" (id, description, customer_id) VALUES (9135, 'Sleek Metal Cheese', 36);
-INSERT INTO "order" (id, description, customer_id) VALUES (9136, 'Intelligent Rubber Keyboard', 67);
-INSERT INTO "order" (id, description, customer_id) VALUES (9137, 'Tasty Wooden Bacon', 90);
-INSERT INTO "order" (id, description, customer_id) VALUES (9138, 'Small Cotton Chicken', 50);
-INSERT INTO "order" (id, description, customer_id) VALUES (9139, 'Generic Bronze Table', 62);
-INSERT INTO "order" (id, description, customer_id) VALUES (9140, 'Elegant Cotton Car', 6);
-INSERT INTO "order" (id, description, customer_id) VALUES (9141, 'Unbranded Fresh Bacon', 56);
-INSERT INTO "order" (id, description, customer_id) VALUES (9142, 'Practical Metal Sausages', 4);
-INSERT INTO "order" (id, description, customer_id) VALUES (9143, 'Elegant Wooden Chair', 81);
-INSERT INTO "order" (id, description, customer_id) VALUES (9144, 'Practical Cotton Hat', 100);
-INSERT INTO "order" (id, description, customer_id) VALUES (9145, 'Fantastic Concrete Keyboard', 16);
-INSERT INTO "order" (id, description, customer_id) VALUES (9146, 'Electronic Bronze Shoes', 49);
-INSERT INTO "order" (id, description, customer_id) VALUES (9147, 'Recycled Rubber Pants', 63);
-INSERT INTO "order" (id, description, customer_id) VALUES (9148, 'Oriental Frozen Car', 79);
-INSERT INTO "order" (id, description, customer_id) VALUES (9149, 'Intelligent Concrete Computer', 43);
-INSERT INTO "order" (id, description, customer_id) VALUES (9150, 'Gorgeous Granite Computer', 68);
-INSERT INTO "order" (id, description, customer_id) VALUES (9151, 'Small Frozen Soap', 78);
-INSERT INTO "order" (id, description, customer_id) VALUES (9152, 'Elegant Concrete Chips', 89);
-INSERT INTO "order" (id, description, customer_id) VALUES (9153, 'Luxurious Bronze Salad', 36);
-INSERT INTO "order" (id, description, customer_id) VALUES (9154, 'Awesome Plastic Mouse', 6);
-INSERT INTO "order" (id, description, customer_id) VALUES (9155, 'Practical Concrete Shirt', 90);
-INSERT INTO "order" (id, description, customer_id) VALUES (9156, 'Small Plastic Keyboard', 52);
-INSERT INTO "order" (id, description, customer_id) VALUES (9157, 'Luxurious Fresh Shirt', 69);
-INSERT INTO "order" (id, description, customer_id) VALUES (9158, 'Rustic Concrete Chicken', 27);
-INSERT INTO "order" (id, description, customer_id) VALUES (9159, 'Incredible Rubber Gloves', 10);
-INSERT INTO "order" (id, description, customer_id) VALUES (9160, 'Incredible Plastic Keyboard', 64);
-INSERT INTO "order" (id, description, customer_id) VALUES (9161, 'Practical Soft Tuna', 44);
-INSERT INTO "order" (id, description, customer_id) VALUES (9162, 'Modern Steel Bacon', 39);
-INSERT INTO "order" (id, description, customer_id) VALUES (9163, 'Intelligent Rubber Keyboard', 78);
-INSERT INTO "order" (id, description, customer_id) VALUES (9164, 'Handmade Steel Pizza', 71);
-INSERT INTO "order" (id, description, customer_id) VALUES (9165, 'Oriental Soft Bike', 81);
-INSERT INTO "order" (id, description, customer_id) VALUES (9166, 'Modern Cotton Keyboard', 30);
-INSERT INTO "order" (id, description, customer_id) VALUES (9167, 'Practical Concrete Hat', 84);
-INSERT INTO "order" (id, description, customer_id) VALUES (9168, 'Incredible Metal Chips', 77);
-INSERT INTO "order" (id, description, customer_id) VALUES (9169, 'Rustic Cotton Salad', 6);
-INSERT INTO "order" (id, description, customer_id) VALUES (9170, 'Tasty Soft Sausages', 55);
-INSERT INTO "order" (id, description, customer_id) VALUES (9171, 'Luxurious Frozen Pizza', 88);
-INSERT INTO "order" (id, description, customer_id) VALUES (9172, 'Generic Granite Salad', 35);
-INSERT INTO "order" (id, description, customer_id) VALUES (9173, 'Incredible Rubber Hat', 89);
-INSERT INTO "order" (id, description, customer_id) VALUES (9174, 'Luxurious Wooden Ball', 84);
-INSERT INTO "order" (id, description, customer_id) VALUES (9175, 'Small Concrete Pizza', 97);
-INSERT INTO "order" (id, description, customer_id) VALUES (9176, 'Gorgeous Metal Gloves', 51);
-INSERT INTO "order" (id, description, customer_id) VALUES (9177, 'Elegant Wooden Fish', 34);
-INSERT INTO "order" (id, description, customer_id) VALUES (9178, 'Awesome Cotton Pants', 65);
-INSERT INTO "order" (id, description, customer_id) VALUES (9179, 'Practical Concrete Mouse', 71);
-INSERT INTO "order" (id, description, customer_id) VALUES (9180, 'Handmade Bronze Pants', 47);
-INSERT INTO "order" (id, description, customer_id) VALUES (9181, 'Gorgeous Concrete Towels', 46);
-INSERT INTO "order" (id, description, customer_id) VALUES (9182, 'Generic Bronze Mouse', 77);
-INSERT INTO "order" (id, description, customer_id) VALUES (9183, 'Intelligent Cotton Keyboard', 74);
-INSERT INTO "order" (id, description, customer_id) VALUES (9184, 'Rustic Bronze Pants', 60);
-INSERT INTO "order" (id, description, customer_id) VALUES (9185, 'Awesome Granite Mouse', 77);
-INSERT INTO "order" (id, description, customer_id) VALUES (9186, 'Elegant Granite Shirt', 36);
-INSERT INTO "order" (id, description, customer_id) VALUES (9187, 'Generic Bronze Soap', 37);
-INSERT INTO "order" (id, description, customer_id) VALUES (9188, 'Small Concrete Pizza', 47);
-INSERT INTO "order" (id, description, customer_id) VALUES (9189, 'Sleek Plastic Shoes', 21);
-INSERT INTO "order" (id, description, customer_id) VALUES (9190, 'Handcrafted Steel Salad', 99);
-INSERT INTO "order" (id, description, customer_id) VALUES (9191, 'Elegant Soft Keyboard', 1);
-INSERT INTO "order" (id, description, customer_id) VALUES (9192, 'Small Cotton Soap', 66);
-INSERT INTO "order" (id, description, customer_id) VALUES (9193, 'Practical Frozen Keyboard', 81);
-INSERT INTO "order" (id, description, customer_id) VALUES (9194, 'Rustic Concrete Gloves', 91);
-INSERT INTO "order" (id, description, customer_id) VALUES (9195, 'Awesome Soft Fish', 24);
-INSERT INTO "order" (id, description, customer_id) VALUES (9196, 'Handmade Metal Cheese', 72);
-INSERT INTO "order" (id, description, customer_id) VALUES (9197, 'Elegant Wooden Cheese', 97);
-INSERT INTO "order" (id, description, customer_id) VALUES (9198, 'Intelligent Steel Soap', 43);
-INSERT INTO "order" (id, description, customer_id) VALUES (9199, 'Small Plastic Chicken', 29);
-INSERT INTO "order" (id, description, customer_id) VALUES (9200, 'Rustic Cotton Table', 60);
-INSERT INTO "order" (id, description, customer_id) VALUES (9201, 'Oriental Soft Towels', 14);
-INSERT INTO "order" (id, description, customer_id) VALUES (9202, 'Practical Rubber Bike', 64);
-INSERT INTO "order" (id, description, customer_id) VALUES (9203, 'Generic Granite Sausages', 24);
-INSERT INTO "order" (id, description, customer_id) VALUES (9204, 'Refined Soft Chicken', 96);
-INSERT INTO "order" (id, description, customer_id) VALUES (9205, 'Rustic Fresh Mouse', 93);
-INSERT INTO "order" (id, description, customer_id) VALUES (9206, 'Elegant Bronze Pizza', 82);
-INSERT INTO "order" (id, description, customer_id) VALUES (9207, 'Incredible Plastic Fish', 6);
-INSERT INTO "order" (id, description, customer_id) VALUES (9208, 'Recycled Wooden Pizza', 35);
-INSERT INTO "order" (id, description, customer_id) VALUES (9209, 'Handmade Steel Table', 36);
-INSERT INTO "order" (id, description, customer_id) VALUES (9210, 'Intelligent Cotton Bacon', 65);
-INSERT INTO "order" (id, description, customer_id) VALUES (9211, 'Unbranded Concrete Computer', 70);
-INSERT INTO "order" (id, description, customer_id) VALUES (9212, 'Ergonomic Fresh Cheese', 57);
-INSERT INTO "order" (id, description, customer_id) VALUES (9213, 'Oriental Fresh Cheese', 15);
-INSERT INTO "order" (id, description, customer_id) VALUES (9214, 'Generic Frozen Salad', 84);
-INSERT INTO "order" (id, description, customer_id) VALUES (9215, 'Small Fresh Bike', 29);
-INSERT INTO "order" (id, description, customer_id) VALUES (9216, 'Modern Cotton Bacon', 2);
-INSERT INTO "order" (id, description, customer_id) VALUES (9217, 'Tasty Frozen Shoes', 6);
-INSERT INTO "order" (id, description, customer_id) VALUES (9218, 'Bespoke Metal Ball', 25);
-INSERT INTO "order" (id, description, customer_id) VALUES (9219, 'Gorgeous Fresh Chair', 62);
-INSERT INTO "order" (id, description, customer_id) VALUES (9220, 'Oriental Plastic Chair', 16);
-INSERT INTO "order" (id, description, customer_id) VALUES (9221, 'Awesome Cotton Tuna', 36);
-INSERT INTO "order" (id, description, customer_id) VALUES (9222, 'Electronic Fresh Gloves', 48);
-INSERT INTO "order" (id, description, customer_id) VALUES (9223, 'Awesome Wooden Cheese', 85);
-INSERT INTO "order" (id, description, customer_id) VALUES (9224, 'Practical Metal Sausages', 94);
-INSERT INTO "order" (id, description, customer_id) VALUES (9225, 'Bespoke Wooden Chips', 98);
-INSERT INTO "order" (id, description, customer_id) VALUES (9226, 'Awesome Cotton Fish', 50);
-INSERT INTO "order" (id, description, customer_id) VALUES (9227, 'Bespoke Frozen Pants', 97);
-INSERT INTO "order" (id, description, customer_id) VALUES (9228, 'Modern Bronze Table', 83);
-INSERT INTO "order" (id, description, customer_id) VALUES (9229, 'Electronic Frozen Towels', 23);
-INSERT INTO "order" (id, description, customer_id) VALUES (9230, 'Licensed Fresh Pants', 77);
-INSERT INTO "order" (id, description, customer_id) VALUES (9231, 'Elegant Soft Car', 8);
-INSERT INTO "order" (id, description, customer_id) VALUES (9232, 'Handcrafted Steel Keyboard', 29);
-INSERT INTO "order" (id, description, customer_id) VALUES (9233, 'Recycled Granite Pizza', 6);
-INSERT INTO "order" (id, description, customer_id) VALUES (9234, 'Handmade Rubber Table', 18);
-INSERT INTO "order" (id, description, customer_id) VALUES (9235, 'Recycled Concrete Salad', 59);
-INSERT INTO "order" (id, description, customer_id) VALUES (9236, 'Handmade Plastic Tuna', 36);
-INSERT INTO "order" (id, description, customer_id) VALUES (9237, 'Oriental Metal Shirt', 69);
-INSERT INTO "order" (id, description, customer_id) VALUES (9238, 'Ergonomic Soft Pants', 78);
-INSERT INTO "order" (id, description, customer_id) VALUES (9239, 'Modern Cotton Towels', 31);
-INSERT INTO "order" (id, description, customer_id) VALUES (9240, 'Fantastic Fresh Shirt', 44);
-INSERT INTO "order" (id, description, customer_id) VALUES (9241, 'Fantastic Wooden Car', 9);
-INSERT INTO "order" (id, description, customer_id) VALUES (9242, 'Incredible Plastic Keyboard', 44);
-INSERT INTO "order" (id, description, customer_id) VALUES (9243, 'Ergonomic Metal Tuna', 90);
-INSERT INTO "order" (id, description, customer_id) VALUES (9244, 'Rustic Rubber Shoes', 19);
-INSERT INTO "order" (id, description, customer_id) VALUES (9245, 'Unbranded Granite Hat', 6);
-INSERT INTO "order" (id, description, customer_id) VALUES (9246, 'Handmade Fresh Keyboard', 13);
-INSERT INTO "order" (id, description, customer_id) VALUES (9247, 'Awesome Plastic Chair', 88);
-INSERT INTO "order" (id, description, customer_id) VALUES (9248, 'Practical Granite Chair', 21);
-INSERT INTO "order" (id, description, customer_id) VALUES (9249, 'Awesome Steel Gloves', 71);
-INSERT INTO "order" (id, description, customer_id) VALUES (9250, 'Intelligent Steel Computer', 2);
-INSERT INTO "order" (id, description, customer_id) VALUES (9251, 'Fantastic Granite Sausages', 83);
-INSERT INTO "order" (id, description, customer_id) VALUES (9252, 'Unbranded Cotton Bacon', 19);
-INSERT INTO "order" (id, description, customer_id) VALUES (9253, 'Generic Metal Pants', 49);
-INSERT INTO "order" (id, description, customer_id) VALUES (9254, 'Unbranded Plastic Keyboard', 48);
-INSERT INTO "order" (id, description, customer_id) VALUES (9255, 'Handcrafted Granite Keyboard', 97);
-INSERT INTO "order" (id, description, customer_id) VALUES (9256, 'Incredible Soft Shirt', 55);
-INSERT INTO "order" (id, description, customer_id) VALUES (9257, 'Gorgeous Metal Shoes', 3);
-INSERT INTO "order" (id, description, customer_id) VALUES (9258, 'Sleek Bronze Mouse', 36);
-INSERT INTO "order" (id, description, customer_id) VALUES (9259, 'Sleek Metal Fish', 74);
-INSERT INTO "order" (id, description, customer_id) VALUES (9260, 'Awesome Metal Sausages', 15);
-INSERT INTO "order" (id, description, customer_id) VALUES (9261, 'Rustic Soft Chair', 98);
-INSERT INTO "order" (id, description, customer_id) VALUES (9262, 'Unbranded Plastic Salad', 83);
-INSERT INTO "order" (id, description, customer_id) VALUES (9263, 'Incredible Bronze Chair', 18);
-INSERT INTO "order" (id, description, customer_id) VALUES (9264, 'Intelligent Wooden Pants', 66);
-INSERT INTO "order" (id, description, customer_id) VALUES (9265, 'Refined Steel Chair', 75);
-INSERT INTO "order" (id, description, customer_id) VALUES (9266, 'Handcrafted Fresh Gloves', 71);
-INSERT INTO "order" (id, description, customer_id) VALUES (9267, 'Tasty Metal Bike', 84);
-INSERT INTO "order" (id, description, customer_id) VALUES (9268, 'Licensed Granite Car', 82);
-INSERT INTO "order" (id, description, customer_id) VALUES (9269, 'Modern Rubber Keyboard', 83);
-INSERT INTO "order" (id, description, customer_id) VALUES (9270, 'Handcrafted Wooden Hat', 44);
-INSERT INTO "order" (id, description, customer_id) VALUES (9271, 'Gorgeous Metal Table', 28);
-INSERT INTO "order" (id, description, customer_id) VALUES (9272, 'Small Cotton Table', 56);
-INSERT INTO "order" (id, description, customer_id) VALUES (9273, 'Luxurious Rubber Shoes', 6);
-INSERT INTO "order" (id, description, customer_id) VALUES (9274, 'Handcrafted Rubber Soap', 99);
-INSERT INTO "order" (id, description, customer_id) VALUES (9275, 'Rustic Cotton Shoes', 35);
-INSERT INTO "order" (id, description, customer_id) VALUES (9276, 'Sleek Granite Bacon', 11);
-INSERT INTO "order" (id, description, customer_id) VALUES (9277, 'Intelligent Rubber Shoes', 46);
-INSERT INTO "order" (id, description, customer_id) VALUES (9278, 'Generic Plastic Sausages', 37);
-INSERT INTO "order" (id, description, customer_id) VALUES (9279, 'Generic Metal Bike', 14);
-INSERT INTO "order" (id, description, customer_id) VALUES (9280, 'Ergonomic Plastic Sausages', 74);
-INSERT INTO "order" (id, description, customer_id) VALUES (9281, 'Oriental Steel Bike', 18);
-INSERT INTO "order" (id, description, customer_id) VALUES (9282, 'Refined Granite Sausages', 65);
-INSERT INTO "order" (id, description, customer_id) VALUES (9283, 'Generic Plastic Tuna', 60);
-INSERT INTO "order" (id, description, customer_id) VALUES (9284, 'Gorgeous Fresh Car', 32);
-INSERT INTO "order" (id, description, customer_id) VALUES (9285, 'Refined Metal Fish', 52);
-INSERT INTO "order" (id, description, customer_id) VALUES (9286, 'Awesome Fresh Chair', 82);
-INSERT INTO "order" (id, description, customer_id) VALUES (9287, 'Sleek Bronze Hat', 100);
-INSERT INTO "order" (id, description, customer_id) VALUES (9288, 'Handmade Rubber Ball', 79);
-INSERT INTO "order" (id, description, customer_id) VALUES (9289, 'Handmade Frozen Pizza', 74);
-INSERT INTO "order" (id, description, customer_id) VALUES (9290, 'Refined Soft Shoes', 24);
-INSERT INTO "order" (id, description, customer_id) VALUES (9291, 'Licensed Fresh Cheese', 18);
-INSERT INTO "order" (id, description, customer_id) VALUES (9292, 'Refined Fresh Bacon', 18);
-INSERT INTO "order" (id, description, customer_id) VALUES (9293, 'Intelligent Cotton Fish', 67);
-INSERT INTO "order" (id, description, customer_id) VALUES (9294, 'Modern Cotton Bacon', 76);
-INSERT INTO "order" (id, description, customer_id) VALUES (9295, 'Recycled Cotton Fish', 44);
-INSERT INTO "order" (id, description, customer_id) VALUES (9296, 'Gorgeous Granite Gloves', 84);
-INSERT INTO "order" (id, description, customer_id) VALUES (9297, 'Handcrafted Fresh Soap', 51);
-INSERT INTO "order" (id, description, customer_id) VALUES (9298, 'Awesome Concrete Shoes', 47);
-INSERT INTO "order" (id, description, customer_id) VALUES (9299, 'Licensed Concrete Sausages', 57);
-INSERT INTO "order" (id, description, customer_id) VALUES (9300, 'Intelligent Bronze Pants', 51);
-INSERT INTO "order" (id, description, customer_id) VALUES (9301, 'Awesome Frozen Chips', 63);
-INSERT INTO "order" (id, description, customer_id) VALUES (9302, 'Elegant Soft Cheese', 2);
-INSERT INTO "order" (id, description, customer_id) VALUES (9303, 'Bespoke Granite Tuna', 61);
-INSERT INTO "order" (id, description, customer_id) VALUES (9304, 'Small Frozen Ball', 85);
-INSERT INTO "order" (id, description, customer_id) VALUES (9305, 'Refined Soft Sausages', 5);
-INSERT INTO "order" (id, description, customer_id) VALUES (9306, 'Tasty Concrete Sausages', 84);
-INSERT INTO "order" (id, description, customer_id) VALUES (9307, 'Handcrafted Frozen Ball', 9);
-INSERT INTO "order" (id, description, customer_id) VALUES (9308, 'Unbranded Rubber Mouse', 81);
-INSERT INTO "order" (id, description, customer_id) VALUES (9309, 'Practical Steel Mouse', 7);
-INSERT INTO "order" (id, description, customer_id) VALUES (9310, 'Refined Wooden Chicken', 62);
-INSERT INTO "order" (id, description, customer_id) VALUES (9311, 'Intelligent Soft Fish', 19);
-INSERT INTO "order" (id, description, customer_id) VALUES (9312, 'Tasty Rubber Tuna', 21);
-INSERT INTO "order" (id, description, customer_id) VALUES (9313, 'Electronic Granite Shirt', 72);
-INSERT INTO "order" (id, description, customer_id) VALUES (9314, 'Generic Soft Cheese', 62);
-INSERT INTO "order" (id, description, customer_id) VALUES (9315, 'Intelligent Plastic Keyboard', 89);
-INSERT INTO "order" (id, description, customer_id) VALUES (9316, 'Electronic Plastic Sausages', 37);
-INSERT INTO "order" (id, description, customer_id) VALUES (9317, 'Electronic Plastic Table', 79);
-INSERT INTO "order" (id, description, customer_id) VALUES (9318, 'Practical Cotton Soap', 80);
-INSERT INTO "order" (id, description, customer_id) VALUES (9319, 'Rustic Plastic Mouse', 87);
-INSERT INTO "order" (id, description, customer_id) VALUES (9320, 'Refined Plastic Salad', 59);
-INSERT INTO "order" (id, description, customer_id) VALUES (9321, 'Awesome Bronze Car', 48);
-INSERT INTO "order" (id, description, customer_id) VALUES (9322, 'Gorgeous Fresh Computer', 82);
-INSERT INTO "order" (id, description, customer_id) VALUES (9323, 'Ergonomic Plastic Soap', 18);
-INSERT INTO "order" (id, description, customer_id) VALUES (9324, 'Intelligent Steel Hat', 45);
-INSERT INTO "order" (id, description, customer_id) VALUES (9325, 'Gorgeous Granite Pants', 43);
-INSERT INTO "order" (id, description, customer_id) VALUES (9326, 'Electronic Steel Shirt', 78);
-INSERT INTO "order" (id, description, customer_id) VALUES (9327, 'Gorgeous Wooden Cheese', 43);
-INSERT INTO "order" (id, description, customer_id) VALUES (9328, 'Practical Steel Bike', 50);
-INSERT INTO "order" (id, description, customer_id) VALUES (9329, 'Recycled Bronze Cheese', 16);
-INSERT INTO "order" (id, description, customer_id) VALUES (9330, 'Generic Frozen Cheese', 45);
-INSERT INTO "order" (id, description, customer_id) VALUES (9331, 'Handmade Frozen Fish', 83);
-INSERT INTO "order" (id, description, customer_id) VALUES (9332, 'Sleek Metal Fish', 1);
-INSERT INTO "order" (id, description, customer_id) VALUES (9333, 'Elegant Cotton Mouse', 79);
-INSERT INTO "order" (id, description, customer_id) VALUES (9334, 'Intelligent Soft Towels', 75);
-INSERT INTO "order" (id, description, customer_id) VALUES (9335, 'Modern Plastic Ball', 16);
-INSERT INTO "order" (id, description, customer_id) VALUES (9336, 'Oriental Plastic Pants', 67);
-INSERT INTO "order" (id, description, customer_id) VALUES (9337, 'Elegant Granite Sausages', 43);
-INSERT INTO "order" (id, description, customer_id) VALUES (9338, 'Electronic Bronze Pizza', 79);
-INSERT INTO "order" (id, description, customer_id) VALUES (9339, 'Handmade Cotton Table', 31);
-INSERT INTO "order" (id, description, customer_id) VALUES (9340, 'Electronic Steel Soap', 77);
-INSERT INTO "order" (id, description, customer_id) VALUES (9341, 'Incredible Cotton Towels', 90);
-INSERT INTO "order" (id, description, customer_id) VALUES (9342, 'Awesome Granite Bike', 10);
-INSERT INTO "order" (id, description, customer_id) VALUES (9343, 'Awesome Bronze Chair', 15);
-INSERT INTO "order" (id, description, customer_id) VALUES (9344, 'Electronic Granite Ball', 70);
-INSERT INTO "order" (id, description, customer_id) VALUES (9345, 'Unbranded Cotton Towels', 6);
-INSERT INTO "order" (id, description, customer_id) VALUES (9346, 'Rustic Wooden Table', 6);
-INSERT INTO "order" (id, description, customer_id) VALUES (9347, 'Incredible Bronze Computer', 38);
-INSERT INTO "order" (id, description, customer_id) VALUES (9348, 'Handcrafted Concrete Bike', 71);
-INSERT INTO "order" (id, description, customer_id) VALUES (9349, 'Oriental Concrete Cheese', 27);
-INSERT INTO "order" (id, description, customer_id) VALUES (9350, 'Oriental Cotton Towels', 88);
-INSERT INTO "order" (id, description, customer_id) VALUES (9351, 'Practical Granite Hat', 45);
-INSERT INTO "order" (id, description, customer_id) VALUES (9352, 'Licensed Frozen Mouse', 93);
-INSERT INTO "order" (id, description, customer_id) VALUES (9353, 'Practical Plastic Gloves', 52);
-INSERT INTO "order" (id, description, customer_id) VALUES (9354, 'Awesome Plastic Sausages', 18);
-INSERT INTO "order" (id, description, customer_id) VALUES (9355, 'Incredible Granite Chair', 42);
-INSERT INTO "order" (id, description, customer_id) VALUES (9356, 'Ergonomic Wooden Ball', 55);
-INSERT INTO "order" (id, description, customer_id) VALUES (9357, 'Rustic Wooden Sausages', 57);
-INSERT INTO "order" (id, description, customer_id) VALUES (9358, 'Handcrafted Steel Pizza', 5);
-INSERT INTO "order" (id, description, customer_id) VALUES (9359, 'Awesome Frozen Bacon', 47);
-INSERT INTO "order" (id, description, customer_id) VALUES (9360, 'Luxurious Soft Bacon', 80);
-INSERT INTO "order" (id, description, customer_id) VALUES (9361, 'Ergonomic Cotton Keyboard', 4);
-INSERT INTO "order" (id, description, customer_id) VALUES (9362, 'Bespoke Wooden Pants', 23);
-INSERT INTO "order" (id, description, customer_id) VALUES (9363, 'Bespoke Plastic Table', 7);
-INSERT INTO "order" (id, description, customer_id) VALUES (9364, 'Handcrafted Granite Keyboard', 83);
-INSERT INTO "order" (id, description, customer_id) VALUES (9365, 'Licensed Plastic Chips', 84);
-INSERT INTO "order" (id, description, customer_id) VALUES (9366, 'Modern Metal Tuna', 47);
-INSERT INTO "order" (id, description, customer_id) VALUES (9367, 'Unbranded Metal Computer', 65);
-INSERT INTO "order" (id, description, customer_id) VALUES (9368, 'Generic Wooden Table', 16);
-INSERT INTO "order" (id, description, customer_id) VALUES (9369, 'Handcrafted Granite Shoes', 28);
-INSERT INTO "order" (id, description, customer_id) VALUES (9370, 'Ergonomic Soft Chair', 27);
-INSERT INTO "order" (id, description, customer_id) VALUES (9371, 'Unbranded Rubber Fish', 34);
-INSERT INTO "order" (id, description, customer_id) VALUES (9372, 'Modern Wooden Sausages', 84);
-INSERT INTO "order" (id, description, customer_id) VALUES (9373, 'Luxurious Rubber Shoes', 63);
-INSERT INTO "order" (id, description, customer_id) VALUES (9374, 'Generic Bronze Computer', 12);
-INSERT INTO "order" (id, description, customer_id) VALUES (9375, 'Oriental Steel Chicken', 22);
-INSERT INTO "order" (id, description, customer_id) VALUES (9376, 'Electronic Concrete Tuna', 73);
-INSERT INTO "order" (id, description, customer_id) VALUES (9377, 'Rustic Steel Bike', 81);
-INSERT INTO "order" (id, description, customer_id) VALUES (9378, 'Oriental Wooden Mouse', 15);
-INSERT INTO "order" (id, description, customer_id) VALUES (9379, 'Gorgeous Fresh Cheese', 78);
-INSERT INTO "order" (id, description, customer_id) VALUES (9380, 'Oriental Soft Computer', 22);
-INSERT INTO "order" (id, description, customer_id) VALUES (9381, 'Bespoke Steel Soap', 51);
-INSERT INTO "order" (id, description, customer_id) VALUES (9382, 'Sleek Plastic Cheese', 53);
-INSERT INTO "order" (id, description, customer_id) VALUES (9383, 'Bespoke Cotton Bike', 44);
-INSERT INTO "order" (id, description, customer_id) VALUES (9384, 'Ergonomic Concrete Chair', 55);
-INSERT INTO "order" (id, description, customer_id) VALUES (9385, 'Fantastic Soft Car', 73);
-INSERT INTO "order" (id, description, customer_id) VALUES (9386, 'Handmade Frozen Shoes', 86);
-INSERT INTO "order" (id, description, customer_id) VALUES (9387, 'Oriental Plastic Soap', 40);
-INSERT INTO "order" (id, description, customer_id) VALUES (9388, 'Fantastic Steel Table', 60);
-INSERT INTO "order" (id, description, customer_id) VALUES (9389, 'Awesome Bronze Table', 83);
-INSERT INTO "order" (id, description, customer_id) VALUES (9390, 'Tasty Bronze Ball', 38);
-INSERT INTO "order" (id, description, customer_id) VALUES (9391, 'Fantastic Steel Table', 97);
-INSERT INTO "order" (id, description, customer_id) VALUES (9392, 'Handcrafted Wooden Chair', 99);
-INSERT INTO "order" (id, description, customer_id) VALUES (9393, 'Oriental Fresh Fish', 62);
-INSERT INTO "order" (id, description, customer_id) VALUES (9394, 'Gorgeous Steel Gloves', 24);
-INSERT INTO "order" (id, description, customer_id) VALUES (9395, 'Refined Frozen Bacon', 11);
-INSERT INTO "order" (id, description, customer_id) VALUES (9396, 'Unbranded Plastic Bacon', 40);
-INSERT INTO "order" (id, description, customer_id) VALUES (9397, 'Oriental Wooden Chair', 81);
-INSERT INTO "order" (id, description, customer_id) VALUES (9398, 'Recycled Fresh Chips', 77);
-INSERT INTO "order" (id, description, customer_id) VALUES (9399, 'Recycled Fresh Ball', 4);
-INSERT INTO "order" (id, description, customer_id) VALUES (9400, 'Licensed Bronze Chips', 59);
-INSERT INTO "order" (id, description, customer_id) VALUES (9401, 'Intelligent Steel Bike', 25);
-INSERT INTO "order" (id, description, customer_id) VALUES (9402, 'Luxurious Wooden Shoes', 93);
-INSERT INTO "order" (id, description, customer_id) VALUES (9403, 'Handcrafted Granite Keyboard', 75);
-INSERT INTO "order" (id, description, customer_id) VALUES (9404, 'Generic Soft Hat', 28);
-INSERT INTO "order" (id, description, customer_id) VALUES (9405, 'Rustic Fresh Fish', 11);
-INSERT INTO "order" (id, description, customer_id) VALUES (9406, 'Small Plastic Towels', 72);
-INSERT INTO "order" (id, description, customer_id) VALUES (9407, 'Unbranded Metal Bike', 38);
-INSERT INTO "order" (id, description, customer_id) VALUES (9408, 'Unbranded Metal Keyboard', 90);
-INSERT INTO "order" (id, description, customer_id) VALUES (9409, 'Small Granite Pants', 66);
-INSERT INTO "order" (id, description, customer_id) VALUES (9410, 'Awesome Rubber Hat', 87);
-INSERT INTO "order" (id, description, customer_id) VALUES (9411, 'Licensed Plastic Ball', 100);
-INSERT INTO "order" (id, description, customer_id) VALUES (9412, 'Electronic Metal Chips', 93);
-INSERT INTO "order" (id, description, customer_id) VALUES (9413, 'Unbranded Cotton Chips', 44);
-INSERT INTO "order" (id, description, customer_id) VALUES (9414, 'Bespoke Bronze Soap', 68);
-INSERT INTO "order" (id, description, customer_id) VALUES (9415, 'Intelligent Steel Computer', 9);
-INSERT INTO "order" (id, description, customer_id) VALUES (9416, 'Unbranded Soft Bacon', 1);
-INSERT INTO "order" (id, description, customer_id) VALUES (9417, 'Small Cotton Pants', 65);
-INSERT INTO "order" (id, description, customer_id) VALUES (9418, 'Practical Cotton Shirt', 22);
-INSERT INTO "order" (id, description, customer_id) VALUES (9419, 'Licensed Soft Bike', 41);
-INSERT INTO "order" (id, description, customer_id) VALUES (9420, 'Practical Cotton Gloves', 57);
-INSERT INTO "order" (id, description, customer_id) VALUES (9421, 'Unbranded Wooden Pants', 82);
-INSERT INTO "order" (id, description, customer_id) VALUES (9422, 'Awesome Granite Gloves', 94);
-INSERT INTO "order" (id, description, customer_id) VALUES (9423, 'Generic Bronze Bacon', 43);
-INSERT INTO "order" (id, description, customer_id) VALUES (9424, 'Bespoke Fresh Computer', 91);
-INSERT INTO "order" (id, description, customer_id) VALUES (9425, 'Awesome Granite Tuna', 62);
-INSERT INTO "order" (id, description, customer_id) VALUES (9426, 'Gorgeous Frozen Car', 61);
-INSERT INTO "order" (id, description, customer_id) VALUES (9427, 'Handmade Fresh Keyboard', 100);
-INSERT INTO "order" (id, description, customer_id) VALUES (9428, 'Elegant Cotton Soap', 63);
-INSERT INTO "order" (id, description, customer_id) VALUES (9429, 'Tasty Frozen Tuna', 4);
-INSERT INTO "order" (id, description, customer_id) VALUES (9430, 'Bespoke Steel Towels', 61);
-INSERT INTO "order" (id, description, customer_id) VALUES (9431, 'Small Concrete Table', 10);
-INSERT INTO "order" (id, description, customer_id) VALUES (9432, 'Luxurious Plastic Towels', 75);
-INSERT INTO "order" (id, description, customer_id) VALUES (9433, 'Handcrafted Frozen Bike', 30);
-INSERT INTO "order" (id, description, customer_id) VALUES (9434, 'Handcrafted Fresh Fish', 34);
-INSERT INTO "order" (id, description, customer_id) VALUES (9435, 'Bespoke Frozen Chair', 4);
-INSERT INTO "order" (id, description, customer_id) VALUES (9436, 'Handmade Soft Bacon', 63);
-INSERT INTO "order" (id, description, customer_id) VALUES (9437, 'Generic Wooden Bike', 45);
-INSERT INTO "order" (id, description, customer_id) VALUES (9438, 'Incredible Fresh Shirt', 18);
-INSERT INTO "order" (id, description, customer_id) VALUES (9439, 'Refined Concrete Ball', 9);
-INSERT INTO "order" (id, description, customer_id) VALUES (9440, 'Rustic Soft Hat', 57);
-INSERT INTO "order" (id, description, customer_id) VALUES (9441, 'Modern Wooden Fish', 62);
-INSERT INTO "order" (id, description, customer_id) VALUES (9442, 'Generic Bronze Chicken', 52);
-INSERT INTO "order" (id, description, customer_id) VALUES (9443, 'Awesome Fresh Pizza', 6);
-INSERT INTO "order" (id, description, customer_id) VALUES (9444, 'Unbranded Rubber Chips', 25);
-INSERT INTO "order" (id, description, customer_id) VALUES (9445, 'Practical Soft Shirt', 57);
-INSERT INTO "order" (id, description, customer_id) VALUES (9446, 'Incredible Soft Keyboard', 2);
-INSERT INTO "order" (id, description, customer_id) VALUES (9447, 'Modern Soft Ball', 55);
-INSERT INTO "order" (id, description, customer_id) VALUES (9448, 'Handcrafted Bronze Computer', 66);
-INSERT INTO "order" (id, description, customer_id) VALUES (9449, 'Ergonomic Bronze Chicken', 96);
-INSERT INTO "order" (id, description, customer_id) VALUES (9450, 'Modern Rubber Sausages', 4);
-INSERT INTO "order" (id, description, customer_id) VALUES (9451, 'Elegant Bronze Salad', 94);
-INSERT INTO "order" (id, description, customer_id) VALUES (9452, 'Recycled Granite Pants', 38);
-INSERT INTO "order" (id, description, customer_id) VALUES (9453, 'Practical Bronze Cheese', 53);
-INSERT INTO "order" (id, description, customer_id) VALUES (9454, 'Fantastic Steel Ball', 71);
-INSERT INTO "order" (id, description, customer_id) VALUES (9455, 'Practical Granite Bacon', 55);
-INSERT INTO "order" (id, description, customer_id) VALUES (9456, 'Generic Rubber Computer', 5);
-INSERT INTO "order" (id, description, customer_id) VALUES (9457, 'Modern Cotton Bacon', 81);
-INSERT INTO "order" (id, description, customer_id) VALUES (9458, 'Small Wooden Towels', 43);
-INSERT INTO "order" (id, description, customer_id) VALUES (9459, 'Refined Fresh Shoes', 32);
-INSERT INTO "order" (id, description, customer_id) VALUES (9460, 'Practical Soft Shoes', 12);
-INSERT INTO "order" (id, description, customer_id) VALUES (9461, 'Rustic Plastic Shoes', 84);
-INSERT INTO "order" (id, description, customer_id) VALUES (9462, 'Generic Cotton Mouse', 91);
-INSERT INTO "order" (id, description, customer_id) VALUES (9463, 'Awesome Steel Pizza', 52);
-INSERT INTO "order" (id, description, customer_id) VALUES (9464, 'Oriental Metal Ball', 87);
-INSERT INTO "order" (id, description, customer_id) VALUES (9465, 'Generic Fresh Tuna', 34);
-INSERT INTO "order" (id, description, customer_id) VALUES (9466, 'Oriental Fresh Shirt', 67);
-INSERT INTO "order" (id, description, customer_id) VALUES (9467, 'Bespoke Steel Bacon', 53);
-INSERT INTO "order" (id, description, customer_id) VALUES (9468, 'Refined Plastic Chair', 10);
-INSERT INTO "order" (id, description, customer_id) VALUES (9469, 'Small Plastic Chicken', 71);
-INSERT INTO "order" (id, description, customer_id) VALUES (9470, 'Sleek Wooden Chips', 19);
-INSERT INTO "order" (id, description, customer_id) VALUES (9471, 'Intelligent Metal Salad', 10);
-INSERT INTO "order" (id, description, customer_id) VALUES (9472, 'Tasty Rubber Fish', 37);
-INSERT INTO "order" (id, description, customer_id) VALUES (9473, 'Unbranded Cotton Ball', 35);
-INSERT INTO "order" (id, description, customer_id) VALUES (9474, 'Oriental Cotton Salad', 19);
-INSERT INTO "order" (id, description, customer_id) VALUES (9475, 'Oriental Fresh Fish', 28);
-INSERT INTO "order" (id, description, customer_id) VALUES (9476, 'Elegant Bronze Fish', 94);
-INSERT INTO "order" (id, description, customer_id) VALUES (9477, 'Gorgeous Bronze Table', 70);
-INSERT INTO "order" (id, description, customer_id) VALUES (9478, 'Oriental Concrete Ball', 83);
-INSERT INTO "order" (id, description, customer_id) VALUES (9479, 'Tasty Plastic Hat', 79);
-INSERT INTO "order" (id, description, customer_id) VALUES (9480, 'Rustic Concrete Keyboard', 76);
-INSERT INTO "order" (id, description, customer_id) VALUES (9481, 'Luxurious Bronze Towels', 64);
-INSERT INTO "order" (id, description, customer_id) VALUES (9482, 'Handcrafted Fresh Pants', 63);
-INSERT INTO "order" (id, description, customer_id) VALUES (9483, 'Sleek Soft Soap', 58);
-INSERT INTO "order" (id, description, customer_id) VALUES (9484, 'Incredible Fresh Soap', 65);
-INSERT INTO "order" (id, description, customer_id) VALUES (9485, 'Fantastic Cotton Shirt', 28);
-INSERT INTO "order" (id, description, customer_id) VALUES (9486, 'Tasty Wooden Ball', 78);
-INSERT INTO "order" (id, description, customer_id) VALUES (9487, 'Small Cotton Computer', 69);
-INSERT INTO "order" (id, description, customer_id) VALUES (9488, 'Tasty Concrete Sausages', 50);
-INSERT INTO "order" (id, description, customer_id) VALUES (9489, 'Incredible Soft Mouse', 10);
-INSERT INTO "order" (id, description, customer_id) VALUES (9490, 'Awesome Metal Gloves', 96);
-INSERT INTO "order" (id, description, customer_id) VALUES (9491, 'Rustic Wooden Pizza', 100);
-INSERT INTO "order" (id, description, customer_id) VALUES (9492, 'Handmade Concrete Soap', 67);
-INSERT INTO "order" (id, description, customer_id) VALUES (9493, 'Generic Bronze Hat', 36);
-INSERT INTO "order" (id, description, customer_id) VALUES (9494, 'Recycled Fresh Chips', 49);
-INSERT INTO "order" (id, description, customer_id) VALUES (9495, 'Practical Wooden Car', 49);
-INSERT INTO "order" (id, description, customer_id) VALUES (9496, 'Practical Concrete Fish', 100);
-INSERT INTO "order" (id, description, customer_id) VALUES (9497, 'Oriental Rubber Pants', 16);
-INSERT INTO "order" (id, description, customer_id) VALUES (9498, 'Small Metal Ball', 65);
-INSERT INTO "order" (id, description, customer_id) VALUES (9499, 'Handmade Plastic Table', 15);
-INSERT INTO "order" (id, description, customer_id) VALUES (9500, 'Tasty Granite Soap', 17);
-INSERT INTO "order" (id, description, customer_id) VALUES (9501, 'Licensed Steel Table', 27);
-INSERT INTO "order" (id, description, customer_id) VALUES (9502, 'Recycled Fresh Towels', 78);
-INSERT INTO "order" (id, description, customer_id) VALUES (9503, 'Ergonomic Concrete Mouse', 84);
-INSERT INTO "order" (id, description, customer_id) VALUES (9504, 'Oriental Plastic Tuna', 94);
-INSERT INTO "order" (id, description, customer_id) VALUES (9505, 'Small Wooden Keyboard', 64);
-INSERT INTO "order" (id, description, customer_id) VALUES (9506, 'Recycled Steel Hat', 98);
-INSERT INTO "order" (id, description, customer_id) VALUES (9507, 'Luxurious Wooden Gloves', 62);
-INSERT INTO "order" (id, description, customer_id) VALUES (9508, 'Recycled Steel Cheese', 19);
-INSERT INTO "order" (id, description, customer_id) VALUES (9509, 'Handcrafted Concrete Ball', 43);
-INSERT INTO "order" (id, description, customer_id) VALUES (9510, 'Recycled Frozen Cheese', 32);
-INSERT INTO "order" (id, description, customer_id) VALUES (9511, 'Awesome Frozen Pizza', 100);
-INSERT INTO "order" (id, description, customer_id) VALUES (9512, 'Intelligent Plastic Shoes', 72);
-INSERT INTO "order" (id, description, customer_id) VALUES (9513, 'Recycled Fresh Shirt', 4);
-INSERT INTO "order" (id, description, customer_id) VALUES (9514, 'Unbranded Granite Shirt', 14);
-INSERT INTO "order" (id, description, customer_id) VALUES (9515, 'Rustic Soft Chips', 23);
-INSERT INTO "order" (id, description, customer_id) VALUES (9516, 'Licensed Cotton Chicken', 10);
-INSERT INTO "order" (id, description, customer_id) VALUES (9517, 'Practical Soft Shirt', 63);
-INSERT INTO "order" (id, description, customer_id) VALUES (9518, 'Rustic Plastic Chicken', 85);
-INSERT INTO "order" (id, description, customer_id) VALUES (9519, 'Rustic Metal Pizza', 64);
-INSERT INTO "order" (id, description, customer_id) VALUES (9520, 'Gorgeous Metal Pizza', 67);
-INSERT INTO "order" (id, description, customer_id) VALUES (9521, 'Awesome Soft Hat', 53);
-INSERT INTO "order" (id, description, customer_id) VALUES (9522, 'Gorgeous Cotton Computer', 32);
-INSERT INTO "order" (id, description, customer_id) VALUES (9523, 'Gorgeous Metal Bacon', 4);
-INSERT INTO "order" (id, description, customer_id) VALUES (9524, 'Oriental Bronze Gloves', 49);
-INSERT INTO "order" (id, description, customer_id) VALUES (9525, 'Refined Fresh Hat', 75);
-INSERT INTO "order" (id, description, customer_id) VALUES (9526, 'Unbranded Cotton Fish', 59);
-INSERT INTO "order" (id, description, customer_id) VALUES (9527, 'Luxurious Frozen Sausages', 56);
-INSERT INTO "order" (id, description, customer_id) VALUES (9528, 'Modern Soft Shirt', 63);
-INSERT INTO "order" (id, description, customer_id) VALUES (9529, 'Oriental Frozen Chips', 48);
-INSERT INTO "order" (id, description, customer_id) VALUES (9530, 'Small Rubber Gloves', 60);
-INSERT INTO "order" (id, description, customer_id) VALUES (9531, 'Incredible Rubber Chips', 48);
-INSERT INTO "order" (id, description, customer_id) VALUES (9532, 'Bespoke Cotton Pizza', 50);
-INSERT INTO "order" (id, description, customer_id) VALUES (9533, 'Sleek Metal Shirt', 81);
-INSERT INTO "order" (id, description, customer_id) VALUES (9534, 'Practical Wooden Chair', 8);
-INSERT INTO "order" (id, description, customer_id) VALUES (9535, 'Refined Granite Keyboard', 13);
-INSERT INTO "order" (id, description, customer_id) VALUES (9536, 'Handcrafted Metal Computer', 98);
-INSERT INTO "order" (id, description, customer_id) VALUES (9537, 'Electronic Granite Hat', 55);
-INSERT INTO "order" (id, description, customer_id) VALUES (9538, 'Bespoke Soft Chair', 21);
-INSERT INTO "order" (id, description, customer_id) VALUES (9539, 'Licensed Wooden Sausages', 11);
-INSERT INTO "order" (id, description, customer_id) VALUES (9540, 'Unbranded Steel Pizza', 91);
-INSERT INTO "order" (id, description, customer_id) VALUES (9541, 'Incredible Steel Table', 6);
-INSERT INTO "order" (id, description, customer_id) VALUES (9542, 'Awesome Metal Computer', 5);
-INSERT INTO "order" (id, description, customer_id) VALUES (9543, 'Modern Metal Car', 100);
-INSERT INTO "order" (id, description, customer_id) VALUES (9544, 'Luxurious Rubber Table', 51);
-INSERT INTO "order" (id, description, customer_id) VALUES (9545, 'Handmade Cotton Table', 25);
-INSERT INTO "order" (id, description, customer_id) VALUES (9546, 'Incredible Soft Mouse', 96);
-INSERT INTO "order" (id, description, customer_id) VALUES (9547, 'Luxurious Plastic Cheese', 58);
-INSERT INTO "order" (id, description, customer_id) VALUES (9548, 'Intelligent Bronze Salad', 69);
-INSERT INTO "order" (id, description, customer_id) VALUES (9549, 'Awesome Plastic Shoes', 50);
-INSERT INTO "order" (id, description, customer_id) VALUES (9550, 'Ergonomic Cotton Cheese', 73);
-INSERT INTO "order" (id, description, customer_id) VALUES (9551, 'Fantastic Soft Hat', 5);
-INSERT INTO "order" (id, description, customer_id) VALUES (9552, 'Fantastic Plastic Gloves', 15);
-INSERT INTO "order" (id, description, customer_id) VALUES (9553, 'Oriental Bronze Bacon', 5);
-INSERT INTO "order" (id, description, customer_id) VALUES (9554, 'Electronic Frozen Chicken', 4);
-INSERT INTO "order" (id, description, customer_id) VALUES (9555, 'Handcrafted Fresh Tuna', 56);
-INSERT INTO "order" (id, description, customer_id) VALUES (9556, 'Intelligent Concrete Table', 19);
-INSERT INTO "order" (id, description, customer_id) VALUES (9557, 'Elegant Metal Sausages', 42);
-INSERT INTO "order" (id, description, customer_id) VALUES (9558, 'Sleek Granite Pizza', 6);
-INSERT INTO "order" (id, description, customer_id) VALUES (9559, 'Gorgeous Bronze Keyboard', 57);
-INSERT INTO "order" (id, description, customer_id) VALUES (9560, 'Elegant Wooden Computer', 91);
-INSERT INTO "order" (id, description, customer_id) VALUES (9561, 'Sleek Cotton Sausages', 91);
-INSERT INTO "order" (id, description, customer_id) VALUES (9562, 'Ergonomic Fresh Car', 66);
-INSERT INTO "order" (id, description, customer_id) VALUES (9563, 'Awesome Granite Fish', 5);
-INSERT INTO "order" (id, description, customer_id) VALUES (9564, 'Gorgeous Granite Chips', 31);
-INSERT INTO "order" (id, description, customer_id) VALUES (9565, 'Rustic Frozen Gloves', 22);
-INSERT INTO "order" (id, description, customer_id) VALUES (9566, 'Ergonomic Concrete Bacon', 42);
-INSERT INTO "order" (id, description, customer_id) VALUES (9567, 'Rustic Plastic Computer', 40);
-INSERT INTO "order" (id, description, customer_id) VALUES (9568, 'Oriental Fresh Gloves', 68);
-INSERT INTO "order" (id, description, customer_id) VALUES (9569, 'Luxurious Concrete Ball', 70);
-INSERT INTO "order" (id, description, customer_id) VALUES (9570, 'Unbranded Steel Gloves', 94);
-INSERT INTO "order" (id, description, customer_id) VALUES (9571, 'Generic Plastic Chair', 84);
-INSERT INTO "order" (id, description, customer_id) VALUES (9572, 'Intelligent Metal Car', 15);
-INSERT INTO "order" (id, description, customer_id) VALUES (9573, 'Luxurious Cotton Mouse', 74);
-INSERT INTO "order" (id, description, customer_id) VALUES (9574, 'Fantastic Rubber Mouse', 90);
-INSERT INTO "order" (id, description, customer_id) VALUES (9575, 'Modern Soft Soap', 40);
-INSERT INTO "order" (id, description, customer_id) VALUES (9576, 'Intelligent Cotton Cheese', 27);
-INSERT INTO "order" (id, description, customer_id) VALUES (9577, 'Gorgeous Concrete Soap', 31);
-INSERT INTO "order" (id, description, customer_id) VALUES (9578, 'Electronic Bronze Sausages', 86);
-INSERT INTO "order" (id, description, customer_id) VALUES (9579, 'Tasty Plastic Hat', 19);
-INSERT INTO "order" (id, description, customer_id) VALUES (9580, 'Generic Rubber Chips', 61);
-INSERT INTO "order" (id, description, customer_id) VALUES (9581, 'Bespoke Concrete Soap', 13);
-INSERT INTO "order" (id, description, customer_id) VALUES (9582, 'Electronic Cotton Car', 78);
-INSERT INTO "order" (id, description, customer_id) VALUES (9583, 'Unbranded Fresh Table', 70);
-INSERT INTO "order" (id, description, customer_id) VALUES (9584, 'Sleek Frozen Salad', 48);
-INSERT INTO "order" (id, description, customer_id) VALUES (9585, 'Awesome Plastic Table', 65);
-INSERT INTO "order" (id, description, customer_id) VALUES (9586, 'Sleek Granite Bike', 4);
-INSERT INTO "order" (id, description, customer_id) VALUES (9587, 'Handcrafted Plastic Mouse', 90);
-INSERT INTO "order" (id, description, customer_id) VALUES (9588, 'Handcrafted Frozen Gloves', 45);
-INSERT INTO "order" (id, description, customer_id) VALUES (9589, 'Electronic Plastic Ball', 34);
-INSERT INTO "order" (id, description, customer_id) VALUES (9590, 'Modern Bronze Car', 39);
-INSERT INTO "order" (id, description, customer_id) VALUES (9591, 'Oriental Steel Shirt', 22);
-INSERT INTO "order" (id, description, customer_id) VALUES (9592, 'Elegant Frozen Table', 49);
-INSERT INTO "order" (id, description, customer_id) VALUES (9593, 'Ergonomic Metal Car', 67);
-INSERT INTO "order" (id, description, customer_id) VALUES (9594, 'Rustic Granite Tuna', 32);
-INSERT INTO "order" (id, description, customer_id) VALUES (9595, 'Generic Rubber Ball', 42);
-INSERT INTO "order" (id, description, customer_id) VALUES (9596, 'Small Steel Fish', 89);
-INSERT INTO "order" (id, description, customer_id) VALUES (9597, 'Recycled Soft Towels', 35);
-INSERT INTO "order" (id, description, customer_id) VALUES (9598, 'Bespoke Frozen Mouse', 27);
-INSERT INTO "order" (id, description, customer_id) VALUES (9599, 'Unbranded Concrete Salad', 71);
-INSERT INTO "order" (id, description, customer_id) VALUES (9600, 'Bespoke Metal Bacon', 29);
-INSERT INTO "order" (id, description, customer_id) VALUES (9601, 'Awesome Granite Salad', 39);
-INSERT INTO "order" (id, description, customer_id) VALUES (9602, 'Modern Wooden Tuna', 20);
-INSERT INTO "order" (id, description, customer_id) VALUES (9603, 'Electronic Metal Chips', 73);
-INSERT INTO "order" (id, description, customer_id) VALUES (9604, 'Tasty Cotton Mouse', 44);
-INSERT INTO "order" (id, description, customer_id) VALUES (9605, 'Practical Cotton Bike', 54);
-INSERT INTO "order" (id, description, customer_id) VALUES (9606, 'Intelligent Plastic Sausages', 75);
-INSERT INTO "order" (id, description, customer_id) VALUES (9607, 'Gorgeous Concrete Chips', 85);
-INSERT INTO "order" (id, description, customer_id) VALUES (9608, 'Refined Granite Car', 25);
-INSERT INTO "order" (id, description, customer_id) VALUES (9609, 'Luxurious Wooden Tuna', 74);
-INSERT INTO "order" (id, description, customer_id) VALUES (9610, 'Intelligent Cotton Pizza', 62);
-INSERT INTO "order" (id, description, customer_id) VALUES (9611, 'Sleek Bronze Cheese', 70);
-INSERT INTO "order" (id, description, customer_id) VALUES (9612, 'Practical Frozen Hat', 94);
-INSERT INTO "order" (id, description, customer_id) VALUES (9613, 'Recycled Metal Gloves', 47);
-INSERT INTO "order" (id, description, customer_id) VALUES (9614, 'Rustic Metal Hat', 44);
-INSERT INTO "order" (id, description, customer_id) VALUES (9615, 'Generic Soft Sausages', 14);
-INSERT INTO "order" (id, description, customer_id) VALUES (9616, 'Bespoke Steel Bike', 23);
-INSERT INTO "order" (id, description, customer_id) VALUES (9617, 'Licensed Cotton Soap', 90);
-INSERT INTO "order" (id, description, customer_id) VALUES (9618, 'Modern Soft Gloves', 24);
-INSERT INTO "order" (id, description, customer_id) VALUES (9619, 'Refined Rubber Mouse', 21);
-INSERT INTO "order" (id, description, customer_id) VALUES (9620, 'Refined Bronze Chicken', 78);
-INSERT INTO "order" (id, description, customer_id) VALUES (9621, 'Tasty Fresh Pizza', 62);
-INSERT INTO "order" (id, description, customer_id) VALUES (9622, 'Bespoke Soft Hat', 68);
-INSERT INTO "order" (id, description, customer_id) VALUES (9623, 'Tasty Plastic Computer', 65);
-INSERT INTO "order" (id, description, customer_id) VALUES (9624, 'Elegant Soft Ball', 92);
-INSERT INTO "order" (id, description, customer_id) VALUES (9625, 'Awesome Soft Cheese', 34);
-INSERT INTO "order" (id, description, customer_id) VALUES (9626, 'Handcrafted Fresh Bacon', 18);
-INSERT INTO "order" (id, description, customer_id) VALUES (9627, 'Modern Soft Gloves', 47);
-INSERT INTO "order" (id, description, customer_id) VALUES (9628, 'Gorgeous Plastic Chicken', 76);
-INSERT INTO "order" (id, description, customer_id) VALUES (9629, 'Gorgeous Plastic Chips', 95);
-INSERT INTO "order" (id, description, customer_id) VALUES (9630, 'Small Granite Salad', 42);
-INSERT INTO "order" (id, description, customer_id) VALUES (9631, 'Handcrafted Soft Chips', 83);
-INSERT INTO "order" (id, description, customer_id) VALUES (9632, 'Incredible Granite Towels', 98);
-INSERT INTO "order" (id, description, customer_id) VALUES (9633, 'Tasty Rubber Chips', 92);
-INSERT INTO "order" (id, description, customer_id) VALUES (9634, 'Practical Bronze Towels', 10);
-INSERT INTO "order" (id, description, customer_id) VALUES (9635, 'Sleek Plastic Chicken', 83);
-INSERT INTO "order" (id, description, customer_id) VALUES (9636, 'Intelligent Wooden Chair', 64);
-INSERT INTO "order" (id, description, customer_id) VALUES (9637, 'Intelligent Bronze Pants', 92);
-INSERT INTO "order" (id, description, customer_id) VALUES (9638, 'Recycled Plastic Computer', 21);
-INSERT INTO "order" (id, description, customer_id) VALUES (9639, 'Modern Fresh Chips', 9);
-INSERT INTO "order" (id, description, customer_id) VALUES (9640, 'Small Bronze Shoes', 39);
-INSERT INTO "order" (id, description, customer_id) VALUES (9641, 'Sleek Soft Soap', 8);
-INSERT INTO "order" (id, description, customer_id) VALUES (9642, 'Elegant Fresh Computer', 58);
-INSERT INTO "order" (id, description, customer_id) VALUES (9643, 'Handcrafted Steel Fish', 69);
-INSERT INTO "order" (id, description, customer_id) VALUES (9644, 'Practical Plastic Salad', 91);
-INSERT INTO "order" (id, description, customer_id) VALUES (9645, 'Recycled Metal Towels', 20);
-INSERT INTO "order" (id, description, customer_id) VALUES (9646, 'Ergonomic Rubber Pants', 51);
-INSERT INTO "order" (id, description, customer_id) VALUES (9647, 'Unbranded Steel Mouse', 27);
-INSERT INTO "order" (id, description, customer_id) VALUES (9648, 'Luxurious Granite Chair', 18);
-INSERT INTO "order" (id, description, customer_id) VALUES (9649, 'Recycled Soft Table', 54);
-INSERT INTO "order" (id, description, customer_id) VALUES (9650, 'Oriental Soft Computer', 22);
-INSERT INTO "order" (id, description, customer_id) VALUES (9651, 'Gorgeous Wooden Sausages', 54);
-INSERT INTO "order" (id, description, customer_id) VALUES (9652, 'Tasty Granite Car', 52);
-INSERT INTO "order" (id, description, customer_id) VALUES (9653, 'Practical Plastic Bike', 30);
-INSERT INTO "order" (id, description, customer_id) VALUES (9654, 'Licensed Soft Shoes', 63);
-INSERT INTO "order" (id, description, customer_id) VALUES (9655, 'Intelligent Metal Chicken', 3);
-INSERT INTO "order" (id, description, customer_id) VALUES (9656, 'Awesome Granite Chicken', 71);
-INSERT INTO "order" (id, description, customer_id) VALUES (9657, 'Electronic Concrete Shoes', 28);
-INSERT INTO "order" (id, description, customer_id) VALUES (9658, 'Sleek Concrete Chicken', 52);
-INSERT INTO "order" (id, description, customer_id) VALUES (9659, 'Gorgeous Soft Sausages', 1);
-INSERT INTO "order" (id, description, customer_id) VALUES (9660, 'Elegant Cotton Ball', 45);
-INSERT INTO "order" (id, description, customer_id) VALUES (9661, 'Elegant Steel Chicken', 43);
-INSERT INTO "order" (id, description, customer_id) VALUES (9662, 'Unbranded Metal Shirt', 83);
-INSERT INTO "order" (id, description, customer_id) VALUES (9663, 'Small Soft Hat', 7);
-INSERT INTO "order" (id, description, customer_id) VALUES (9664, 'Rustic Frozen Computer', 39);
-INSERT INTO "order" (id, description, customer_id) VALUES (9665, 'Incredible Bronze Soap', 99);
-INSERT INTO "order" (id, description, customer_id) VALUES (9666, 'Generic Steel Cheese', 74);
-INSERT INTO "order" (id, description, customer_id) VALUES (9667, 'Intelligent Frozen Car', 20);
-INSERT INTO "order" (id, description, customer_id) VALUES (9668, 'Unbranded Bronze Ball', 7);
-INSERT INTO "order" (id, description, customer_id) VALUES (9669, 'Fantastic Frozen Fish', 100);
-INSERT INTO "order" (id, description, customer_id) VALUES (9670, 'Elegant Rubber Pants', 72);
-INSERT INTO "order" (id, description, customer_id) VALUES (9671, 'Awesome Plastic Chips', 90);
-INSERT INTO "order" (id, description, customer_id) VALUES (9672, 'Elegant Rubber Computer', 33);
-INSERT INTO "order" (id, description, customer_id) VALUES (9673, 'Incredible Metal Soap', 73);
-INSERT INTO "order" (id, description, customer_id) VALUES (9674, 'Bespoke Bronze Pizza', 87);
-INSERT INTO "order" (id, description, customer_id) VALUES (9675, 'Sleek Bronze Soap', 13);
-INSERT INTO "order" (id, description, customer_id) VALUES (9676, 'Unbranded Soft Shoes', 67);
-INSERT INTO "order" (id, description, customer_id) VALUES (9677, 'Refined Metal Chair', 63);
-INSERT INTO "order" (id, description, customer_id) VALUES (9678, 'Tasty Steel Car', 75);
-INSERT INTO "order" (id, description, customer_id) VALUES (9679, 'Awesome Rubber Hat', 65);
-INSERT INTO "order" (id, description, customer_id) VALUES (9680, 'Recycled Metal Computer', 12);
-INSERT INTO "order" (id, description, customer_id) VALUES (9681, 'Practical Metal Keyboard', 22);
-INSERT INTO "order" (id, description, customer_id) VALUES (9682, 'Unbranded Rubber Cheese', 52);
-INSERT INTO "order" (id, description, customer_id) VALUES (9683, 'Oriental Cotton Soap', 14);
-INSERT INTO "order" (id, description, customer_id) VALUES (9684, 'Sleek Bronze Table', 52);
-INSERT INTO "order" (id, description, customer_id) VALUES (9685, 'Unbranded Plastic Pants', 32);
-INSERT INTO "order" (id, description, customer_id) VALUES (9686, 'Unbranded Fresh Chicken', 6);
-INSERT INTO "order" (id, description, customer_id) VALUES (9687, 'Ergonomic Steel Bike', 26);
-INSERT INTO "order" (id, description, customer_id) VALUES (9688, 'Awesome Wooden Pizza', 64);
-INSERT INTO "order" (id, description, customer_id) VALUES (9689, 'Elegant Frozen Fish', 42);
-INSERT INTO "order" (id, description, customer_id) VALUES (9690, 'Refined Cotton Hat', 87);
-INSERT INTO "order" (id, description, customer_id) VALUES (9691, 'Awesome Steel Keyboard', 39);
-INSERT INTO "order" (id, description, customer_id) VALUES (9692, 'Tasty Plastic Hat', 47);
-INSERT INTO "order" (id, description, customer_id) VALUES (9693, 'Recycled Wooden Bacon', 59);
-INSERT INTO "order" (id, description, customer_id) VALUES (9694, 'Practical Cotton Shirt', 45);
-INSERT INTO "order" (id, description, customer_id) VALUES (9695, 'Intelligent Cotton Computer', 68);
-INSERT INTO "order" (id, description, customer_id) VALUES (9696, 'Handmade Cotton Salad', 65);
-INSERT INTO "order" (id, description, customer_id) VALUES (9697, 'Tasty Cotton Car', 44);
-INSERT INTO "order" (id, description, customer_id) VALUES (9698, 'Handcrafted Steel Pizza', 91);
-INSERT INTO "order" (id, description, customer_id) VALUES (9699, 'Intelligent Plastic Bacon', 13);
-INSERT INTO "order" (id, description, customer_id) VALUES (9700, 'Rustic Concrete Fish', 79);
-INSERT INTO "order" (id, description, customer_id) VALUES (9701, 'Awesome Cotton Car', 44);
-INSERT INTO "order" (id, description, customer_id) VALUES (9702, 'Small Plastic Chips', 93);
-INSERT INTO "order" (id, description, customer_id) VALUES (9703, 'Luxurious Plastic Mouse', 29);
-INSERT INTO "order" (id, description, customer_id) VALUES (9704, 'Small Steel Computer', 49);
-INSERT INTO "order" (id, description, customer_id) VALUES (9705, 'Ergonomic Soft Chicken', 89);
-INSERT INTO "order" (id, description, customer_id) VALUES (9706, 'Small Fresh Keyboard', 28);
-INSERT INTO "order" (id, description, customer_id) VALUES (9707, 'Generic Metal Pants', 78);
-INSERT INTO "order" (id, description, customer_id) VALUES (9708, 'Rustic Concrete Chair', 15);
-INSERT INTO "order" (id, description, customer_id) VALUES (9709, 'Fantastic Concrete Fish', 5);
-INSERT INTO "order" (id, description, customer_id) VALUES (9710, 'Electronic Plastic Pizza', 6);
-INSERT INTO "order" (id, description, customer_id) VALUES (9711, 'Luxurious Concrete Ball', 47);
-INSERT INTO "order" (id, description, customer_id) VALUES (9712, 'Sleek Wooden Chair', 45);
-INSERT INTO "order" (id, description, customer_id) VALUES (9713, 'Small Soft Computer', 25);
-INSERT INTO "order" (id, description, customer_id) VALUES (9714, 'Elegant Rubber Tuna', 21);
-INSERT INTO "order" (id, description, customer_id) VALUES (9715, 'Intelligent Bronze Bacon', 68);
-INSERT INTO "order" (id, description, customer_id) VALUES (9716, 'Ergonomic Cotton Shirt', 41);
-INSERT INTO "order" (id, description, customer_id) VALUES (9717, 'Ergonomic Concrete Shirt', 19);
-INSERT INTO "order" (id, description, customer_id) VALUES (9718, 'Gorgeous Concrete Gloves', 21);
-INSERT INTO "order" (id, description, customer_id) VALUES (9719, 'Awesome Soft Salad', 97);
-INSERT INTO "order" (id, description, customer_id) VALUES (9720, 'Recycled Frozen Mouse', 51);
-INSERT INTO "order" (id, description, customer_id) VALUES (9721, 'Gorgeous Wooden Chips', 99);
-INSERT INTO "order" (id, description, customer_id) VALUES (9722, 'Intelligent Plastic Pizza', 43);
-INSERT INTO "order" (id, description, customer_id) VALUES (9723, 'Oriental Plastic Chips', 45);
-INSERT INTO "order" (id, description, customer_id) VALUES (9724, 'Intelligent Concrete Shirt', 70);
-INSERT INTO "order" (id, description, customer_id) VALUES (9725, 'Oriental Steel Pizza', 90);
-INSERT INTO "order" (id, description, customer_id) VALUES (9726, 'Generic Soft Chicken', 37);
-INSERT INTO "order" (id, description, customer_id) VALUES (9727, 'Intelligent Cotton Table', 87);
-INSERT INTO "order" (id, description, customer_id) VALUES (9728, 'Tasty Steel Sausages', 98);
-INSERT INTO "order" (id, description, customer_id) VALUES (9729, 'Rustic Soft Keyboard', 74);
-INSERT INTO "order" (id, description, customer_id) VALUES (9730, 'Handmade Steel Chair', 48);
-INSERT INTO "order" (id, description, customer_id) VALUES (9731, 'Awesome Concrete Cheese', 56);
-INSERT INTO "order" (id, description, customer_id) VALUES (9732, 'Electronic Granite Gloves', 76);
-INSERT INTO "order" (id, description, customer_id) VALUES (9733, 'Oriental Metal Fish', 52);
-INSERT INTO "order" (id, description, customer_id) VALUES (9734, 'Licensed Soft Gloves', 11);
-INSERT INTO "order" (id, description, customer_id) VALUES (9735, 'Intelligent Concrete Shoes', 11);
-INSERT INTO "order" (id, description, customer_id) VALUES (9736, 'Handmade Concrete Chair', 20);
-INSERT INTO "order" (id, description, customer_id) VALUES (9737, 'Refined Metal Salad', 83);
-INSERT INTO "order" (id, description, customer_id) VALUES (9738, 'Handcrafted Rubber Table', 89);
-INSERT INTO "order" (id, description, customer_id) VALUES (9739, 'Rustic Wooden Shoes', 38);
-INSERT INTO "order" (id, description, customer_id) VALUES (9740, 'Tasty Metal Shirt', 57);
-INSERT INTO "order" (id, description, customer_id) VALUES (9741, 'Unbranded Fresh Ball', 100);
-INSERT INTO "order" (id, description, customer_id) VALUES (9742, 'Oriental Concrete Shoes', 78);
-INSERT INTO "order" (id, description, customer_id) VALUES (9743, 'Refined Steel Car', 40);
-INSERT INTO "order" (id, description, customer_id) VALUES (9744, 'Practical Cotton Shirt', 77);
-INSERT INTO "order" (id, description, customer_id) VALUES (9745, 'Licensed Steel Table', 31);
-INSERT INTO "order" (id, description, customer_id) VALUES (9746, 'Intelligent Metal Hat', 37);
-INSERT INTO "order" (id, description, customer_id) VALUES (9747, 'Gorgeous Frozen Tuna', 9);
-INSERT INTO "order" (id, description, customer_id) VALUES (9748, 'Practical Soft Mouse', 50);
-INSERT INTO "order" (id, description, customer_id) VALUES (9749, 'Oriental Fresh Car', 21);
-INSERT INTO "order" (id, description, customer_id) VALUES (9750, 'Elegant Cotton Cheese', 18);
-INSERT INTO "order" (id, description, customer_id) VALUES (9751, 'Ergonomic Fresh Bike', 15);
-INSERT INTO "order" (id, description, customer_id) VALUES (9752, 'Elegant Steel Bike', 13);
-INSERT INTO "order" (id, description, customer_id) VALUES (9753, 'Gorgeous Fresh Bike', 2);
-INSERT INTO "order" (id, description, customer_id) VALUES (9754, 'Handmade Soft Salad', 36);
-INSERT INTO "order" (id, description, customer_id) VALUES (9755, 'Gorgeous Frozen Sausages', 76);
-INSERT INTO "order" (id, description, customer_id) VALUES (9756, 'Incredible Wooden Bacon', 27);
-INSERT INTO "order" (id, description, customer_id) VALUES (9757, 'Incredible Frozen Gloves', 74);
-INSERT INTO "order" (id, description, customer_id) VALUES (9758, 'Tasty Steel Ball', 64);
-INSERT INTO "order" (id, description, customer_id) VALUES (9759, 'Handmade Concrete Bike', 23);
-INSERT INTO "order" (id, description, customer_id) VALUES (9760, 'Gorgeous Soft Keyboard', 80);
-INSERT INTO "order" (id, description, customer_id) VALUES (9761, 'Sleek Granite Tuna', 54);
-INSERT INTO "order" (id, description, customer_id) VALUES (9762, 'Elegant Cotton Chips', 69);
-INSERT INTO "order" (id, description, customer_id) VALUES (9763, 'Electronic Concrete Chair', 19);
-INSERT INTO "order" (id, description, customer_id) VALUES (9764, 'Handmade Fresh Fish', 86);
-INSERT INTO "order" (id, description, customer_id) VALUES (9765, 'Bespoke Fresh Pizza', 69);
-INSERT INTO "order" (id, description, customer_id) VALUES (9766, 'Electronic Wooden Computer', 76);
-INSERT INTO "order" (id, description, customer_id) VALUES (9767, 'Ergonomic Cotton Shoes', 82);
-INSERT INTO "order" (id, description, customer_id) VALUES (9768, 'Practical Concrete Chicken', 61);
-INSERT INTO "order" (id, description, customer_id) VALUES (9769, 'Small Rubber Towels', 99);
-INSERT INTO "order" (id, description, customer_id) VALUES (9770, 'Recycled Granite Keyboard', 19);
-INSERT INTO "order" (id, description, customer_id) VALUES (9771, 'Ergonomic Metal Gloves', 6);
-INSERT INTO "order" (id, description, customer_id) VALUES (9772, 'Electronic Concrete Sausages', 53);
-INSERT INTO "order" (id, description, customer_id) VALUES (9773, 'Generic Bronze Tuna', 97);
-INSERT INTO "order" (id, description, customer_id) VALUES (9774, 'Refined Frozen Pizza', 54);
-INSERT INTO "order" (id, description, customer_id) VALUES (9775, 'Ergonomic Metal Pants', 40);
-INSERT INTO "order" (id, description, customer_id) VALUES (9776, 'Incredible Frozen Bike', 30);
-INSERT INTO "order" (id, description, customer_id) VALUES (9777, 'Incredible Wooden Bike', 48);
-INSERT INTO "order" (id, description, customer_id) VALUES (9778, 'Handmade Fresh Bacon', 48);
-INSERT INTO "order" (id, description, customer_id) VALUES (9779, 'Modern Fresh Soap', 22);
-INSERT INTO "order" (id, description, customer_id) VALUES (9780, 'Licensed Frozen Gloves', 63);
-INSERT INTO "order" (id, description, customer_id) VALUES (9781, 'Licensed Rubber Computer', 67);
-INSERT INTO "order" (id, description, customer_id) VALUES (9782, 'Luxurious Granite Chair', 4);
-INSERT INTO "order" (id, description, customer_id) VALUES (9783, 'Awesome Cotton Bike', 10);
-INSERT INTO "order" (id, description, customer_id) VALUES (9784, 'Incredible Frozen Fish', 4);
-INSERT INTO "order" (id, description, customer_id) VALUES (9785, 'Modern Cotton Tuna', 37);
-INSERT INTO "order" (id, description, customer_id) VALUES (9786, 'Bespoke Plastic Ball', 77);
-INSERT INTO "order" (id, description, customer_id) VALUES (9787, 'Awesome Granite Shoes', 91);
-INSERT INTO "order" (id, description, customer_id) VALUES (9788, 'Sleek Metal Pizza', 41);
-INSERT INTO "order" (id, description, customer_id) VALUES (9789, 'Unbranded Bronze Chicken', 31);
-INSERT INTO "order" (id, description, customer_id) VALUES (9790, 'Elegant Granite Chicken', 20);
-INSERT INTO "order" (id, description, customer_id) VALUES (9791, 'Oriental Metal Chair', 89);
-INSERT INTO "order" (id, description, customer_id) VALUES (9792, 'Sleek Plastic Soap', 42);
-INSERT INTO "order" (id, description, customer_id) VALUES (9793, 'Modern Steel Bike', 3);
-INSERT INTO "order" (id, description, customer_id) VALUES (9794, 'Unbranded Soft Towels', 87);
-INSERT INTO "order" (id, description, customer_id) VALUES (9795, 'Tasty Fresh Hat', 23);
-INSERT INTO "order" (id, description, customer_id) VALUES (9796, 'Unbranded Steel Computer', 98);
-INSERT INTO "order" (id, description, customer_id) VALUES (9797, 'Handmade Bronze Table', 6);
-INSERT INTO "order" (id, description, customer_id) VALUES (9798, 'Handmade Fresh Hat', 84);
-INSERT INTO "order" (id, description, customer_id) VALUES (9799, 'Refined Granite Ball', 100);
-INSERT INTO "order" (id, description, customer_id) VALUES (9800, 'Bespoke Cotton Hat', 63);
-INSERT INTO "order" (id, description, customer_id) VALUES (9801, 'Electronic Concrete Hat', 88);
-INSERT INTO "order" (id, description, customer_id) VALUES (9802, 'Bespoke Cotton Car', 74);
-INSERT INTO "order" (id, description, customer_id) VALUES (9803, 'Ergonomic Plastic Tuna', 62);
-INSERT INTO "order" (id, description, customer_id) VALUES (9804, 'Licensed Plastic Fish', 55);
-INSERT INTO "order" (id, description, customer_id) VALUES (9805, 'Oriental Metal Shirt', 100);
-INSERT INTO "order" (id, description, customer_id) VALUES (9806, 'Licensed Plastic Gloves', 98);
-INSERT INTO "order" (id, description, customer_id) VALUES (9807, 'Licensed Bronze Chicken', 74);
-INSERT INTO "order" (id, description, customer_id) VALUES (9808, 'Sleek Granite Fish', 27);
-INSERT INTO "order" (id, description, customer_id) VALUES (9809, 'Luxurious Plastic Chips', 75);
-INSERT INTO "order" (id, description, customer_id) VALUES (9810, 'Elegant Fresh Pizza', 40);
-INSERT INTO "order" (id, description, customer_id) VALUES (9811, 'Elegant Bronze Bike', 31);
-INSERT INTO "order" (id, description, customer_id) VALUES (9812, 'Rustic Concrete Tuna', 50);
-INSERT INTO "order" (id, description, customer_id) VALUES (9813, 'Handcrafted Wooden Chair', 15);
-INSERT INTO "order" (id, description, customer_id) VALUES (9814, 'Luxurious Cotton Soap', 19);
-INSERT INTO "order" (id, description, customer_id) VALUES (9815, 'Sleek Metal Gloves', 90);
-INSERT INTO "order" (id, description, customer_id) VALUES (9816, 'Modern Bronze Pants', 40);
-INSERT INTO "order" (id, description, customer_id) VALUES (9817, 'Generic Concrete Hat', 30);
-INSERT INTO "order" (id, description, customer_id) VALUES (9818, 'Tasty Plastic Mouse', 21);
-INSERT INTO "order" (id, description, customer_id) VALUES (9819, 'Handcrafted Frozen Tuna', 75);
-INSERT INTO "order" (id, description, customer_id) VALUES (9820, 'Tasty Plastic Shoes', 95);
-INSERT INTO "order" (id, description, customer_id) VALUES (9821, 'Oriental Plastic Cheese', 36);
-INSERT INTO "order" (id, description, customer_id) VALUES (9822, 'Recycled Wooden Pants', 31);
-INSERT INTO "order" (id, description, customer_id) VALUES (9823, 'Handmade Metal Chicken', 21);
-INSERT INTO "order" (id, description, customer_id) VALUES (9824, 'Refined Frozen Soap', 54);
-INSERT INTO "order" (id, description, customer_id) VALUES (9825, 'Gorgeous Cotton Cheese', 94);
-INSERT INTO "order" (id, description, customer_id) VALUES (9826, 'Luxurious Cotton Table', 32);
-INSERT INTO "order" (id, description, customer_id) VALUES (9827, 'Refined Cotton Fish', 66);
-INSERT INTO "order" (id, description, customer_id) VALUES (9828, 'Generic Steel Computer', 32);
-INSERT INTO "order" (id, description, customer_id) VALUES (9829, 'Elegant Wooden Chips', 87);
-INSERT INTO "order" (id, description, customer_id) VALUES (9830, 'Luxurious Metal Car', 89);
-INSERT INTO "order" (id, description, customer_id) VALUES (9831, 'Sleek Concrete Tuna', 69);
-INSERT INTO "order" (id, description, customer_id) VALUES (9832, 'Modern Concrete Soap', 70);
-INSERT INTO "order" (id, description, customer_id) VALUES (9833, 'Unbranded Granite Table', 91);
-INSERT INTO "order" (id, description, customer_id) VALUES (9834, 'Refined Concrete Pants', 16);
-INSERT INTO "order" (id, description, customer_id) VALUES (9835, 'Generic Rubber Bike', 73);
-INSERT INTO "order" (id, description, customer_id) VALUES (9836, 'Recycled Frozen Bacon', 80);
-INSERT INTO "order" (id, description, customer_id) VALUES (9837, 'Luxurious Granite Mouse', 52);
-INSERT INTO "order" (id, description, customer_id) VALUES (9838, 'Gorgeous Concrete Keyboard', 10);
-INSERT INTO "order" (id, description, customer_id) VALUES (9839, 'Fantastic Concrete Hat', 96);
-INSERT INTO "order" (id, description, customer_id) VALUES (9840, 'Intelligent Plastic Bacon', 87);
-INSERT INTO "order" (id, description, customer_id) VALUES (9841, 'Intelligent Frozen Chair', 55);
-INSERT INTO "order" (id, description, customer_id) VALUES (9842, 'Modern Soft Chips', 86);
-INSERT INTO "order" (id, description, customer_id) VALUES (9843, 'Oriental Soft Keyboard', 25);
-INSERT INTO "order" (id, description, customer_id) VALUES (9844, 'Electronic Wooden Cheese', 33);
-INSERT INTO "order" (id, description, customer_id) VALUES (9845, 'Incredible Steel Pants', 38);
-INSERT INTO "order" (id, description, customer_id) VALUES (9846, 'Oriental Rubber Table', 46);
-INSERT INTO "order" (id, description, customer_id) VALUES (9847, 'Incredible Cotton Pants', 19);
-INSERT INTO "order" (id, description, customer_id) VALUES (9848, 'Recycled Concrete Car', 7);
-INSERT INTO "order" (id, description, customer_id) VALUES (9849, 'Electronic Frozen Tuna', 16);
-INSERT INTO "order" (id, description, customer_id) VALUES (9850, 'Handmade Metal Soap', 37);
-INSERT INTO "order" (id, description, customer_id) VALUES (9851, 'Bespoke Bronze Shirt', 62);
-INSERT INTO "order" (id, description, customer_id) VALUES (9852, 'Sleek Plastic Shoes', 12);
-INSERT INTO "order" (id, description, customer_id) VALUES (9853, 'Small Fresh Pizza', 94);
-INSERT INTO "order" (id, description, customer_id) VALUES (9854, 'Handmade Frozen Bacon', 2);
-INSERT INTO "order" (id, description, customer_id) VALUES (9855, 'Practical Rubber Car', 18);
-INSERT INTO "order" (id, description, customer_id) VALUES (9856, 'Elegant Soft Pants', 85);
-INSERT INTO "order" (id, description, customer_id) VALUES (9857, 'Incredible Frozen Tuna', 79);
-INSERT INTO "order" (id, description, customer_id) VALUES (9858, 'Licensed Granite Salad', 29);
-INSERT INTO "order" (id, description, customer_id) VALUES (9859, 'Fantastic Metal Bacon', 55);
-INSERT INTO "order" (id, description, customer_id) VALUES (9860, 'Sleek Rubber Tuna', 83);
-INSERT INTO "order" (id, description, customer_id) VALUES (9861, 'Generic Frozen Salad', 80);
-INSERT INTO "order" (id, description, customer_id) VALUES (9862, 'Handmade Bronze Table', 67);
-INSERT INTO "order" (id, description, customer_id) VALUES (9863, 'Licensed Plastic Pants', 97);
-INSERT INTO "order" (id, description, customer_id) VALUES (9864, 'Handmade Soft Pants', 36);
-INSERT INTO "order" (id, description, customer_id) VALUES (9865, 'Modern Metal Pants', 89);
-INSERT INTO "order" (id, description, customer_id) VALUES (9866, 'Fantastic Steel Sausages', 88);
-INSERT INTO "order" (id, description, customer_id) VALUES (9867, 'Incredible Cotton Bike', 47);
-INSERT INTO "order" (id, description, customer_id) VALUES (9868, 'Electronic Frozen Chair', 75);
-INSERT INTO "order" (id, description, customer_id) VALUES (9869, 'Modern Rubber Keyboard', 47);
-INSERT INTO "order" (id, description, customer_id) VALUES (9870, 'Recycled Metal Table', 68);
-INSERT INTO "order" (id, description, customer_id) VALUES (9871, 'Sleek Concrete Computer', 21);
-INSERT INTO "order" (id, description, customer_id) VALUES (9872, 'Unbranded Concrete Car', 20);
-INSERT INTO "order" (id, description, customer_id) VALUES (9873, 'Incredible Cotton Fish', 4);
-INSERT INTO "order" (id, description, customer_id) VALUES (9874, 'Unbranded Metal Chair', 76);
-INSERT INTO "order" (id, description, customer_id) VALUES (9875, 'Handcrafted Cotton Mouse', 69);
-INSERT INTO "order" (id, description, customer_id) VALUES (9876, 'Rustic Steel Soap', 63);
-INSERT INTO "order" (id, description, customer_id) VALUES (9877, 'Practical Steel Car', 57);
-INSERT INTO "order" (id, description, customer_id) VALUES (9878, 'Refined Metal Computer', 90);
-INSERT INTO "order" (id, description, customer_id) VALUES (9879, 'Elegant Rubber Shoes', 97);
-INSERT INTO "order" (id, description, customer_id) VALUES (9880, 'Rustic Granite Salad', 16);
-INSERT INTO "order" (id, description, customer_id) VALUES (9881, 'Ergonomic Steel Ball', 15);
-INSERT INTO "order" (id, description, customer_id) VALUES (9882, 'Gorgeous Plastic Bike', 6);
-INSERT INTO "order" (id, description, customer_id) VALUES (9883, 'Modern Bronze Mouse', 94);
-INSERT INTO "order" (id, description, customer_id) VALUES (9884, 'Tasty Frozen Keyboard', 42);
-INSERT INTO "order" (id, description, customer_id) VALUES (9885, 'Ergonomic Cotton Keyboard', 18);
-INSERT INTO "order" (id, description, customer_id) VALUES (9886, 'Luxurious Cotton Fish', 61);
-INSERT INTO "order" (id, description, customer_id) VALUES (9887, 'Small Metal Chair', 90);
-INSERT INTO "order" (id, description, customer_id) VALUES (9888, 'Tasty Steel Table', 58);
-INSERT INTO "order" (id, description, customer_id) VALUES (9889, 'Awesome Cotton Fish', 40);
-INSERT INTO "order" (id, description, customer_id) VALUES (9890, 'Fantastic Cotton Bacon', 21);
-INSERT INTO "order" (id, description, customer_id) VALUES (9891, 'Unbranded Frozen Towels', 17);
-INSERT INTO "order" (id, description, customer_id) VALUES (9892, 'Intelligent Concrete Cheese', 42);
-INSERT INTO "order" (id, description, customer_id) VALUES (9893, 'Ergonomic Metal Keyboard', 26);
-INSERT INTO "order" (id, description, customer_id) VALUES (9894, 'Generic Fresh Chair', 27);
-INSERT INTO "order" (id, description, customer_id) VALUES (9895, 'Bespoke Plastic Towels', 76);
-INSERT INTO "order" (id, description, customer_id) VALUES (9896, 'Rustic Concrete Soap', 94);
-INSERT INTO "order" (id, description, customer_id) VALUES (9897, 'Unbranded Frozen Soap', 37);
-INSERT INTO "order" (id, description, customer_id) VALUES (9898, 'Licensed Steel Car', 92);
-INSERT INTO "order" (id, description, customer_id) VALUES (9899, 'Electronic Soft Fish', 31);
-INSERT INTO "order" (id, description, customer_id) VALUES (9900, 'Oriental Rubber Keyboard', 38);
-INSERT INTO "order" (id, description, customer_id) VALUES (9901, 'Electronic Fresh Pants', 31);
-INSERT INTO "order" (id, description, customer_id) VALUES (9902, 'Intelligent Soft Cheese', 21);
-INSERT INTO "order" (id, description, customer_id) VALUES (9903, 'Small Concrete Chips', 10);
-INSERT INTO "order" (id, description, customer_id) VALUES (9904, 'Tasty Concrete Chips', 60);
-INSERT INTO "order" (id, description, customer_id) VALUES (9905, 'Electronic Bronze Keyboard', 11);
-INSERT INTO "order" (id, description, customer_id) VALUES (9906, 'Generic Soft Bacon', 95);
-INSERT INTO "order" (id, description, customer_id) VALUES (9907, 'Elegant Bronze Table', 29);
-INSERT INTO "order" (id, description, customer_id) VALUES (9908, 'Rustic Granite Chips', 50);
-INSERT INTO "order" (id, description, customer_id) VALUES (9909, 'Recycled Metal Fish', 77);
-INSERT INTO "order" (id, description, customer_id) VALUES (9910, 'Recycled Steel Chips', 77);
-INSERT INTO "order" (id, description, customer_id) VALUES (9911, 'Gorgeous Steel Pants', 86);
-INSERT INTO "order" (id, description, customer_id) VALUES (9912, 'Licensed Concrete Car', 7);
-INSERT INTO "order" (id, description, customer_id) VALUES (9913, 'Bespoke Wooden Shoes', 63);
-INSERT INTO "order" (id, description, customer_id) VALUES (9914, 'Elegant Bronze Fish', 44);
-INSERT INTO "order" (id, description, customer_id) VALUES (9915, 'Elegant Wooden Computer', 80);
-INSERT INTO "order" (id, description, customer_id) VALUES (9916, 'Ergonomic Bronze Mouse', 8);
-INSERT INTO "order" (id, description, customer_id) VALUES (9917, 'Electronic Fresh Salad', 72);
-INSERT INTO "order" (id, description, customer_id) VALUES (9918, 'Fantastic Wooden Salad', 9);
-INSERT INTO "order" (id, description, customer_id) VALUES (9919, 'Intelligent Soft Car', 19);
-INSERT INTO "order" (id, description, customer_id) VALUES (9920, 'Fantastic Wooden Pants', 33);
-INSERT INTO "order" (id, description, customer_id) VALUES (9921, 'Practical Wooden Bacon', 20);
-INSERT INTO "order" (id, description, customer_id) VALUES (9922, 'Small Concrete Cheese', 13);
-INSERT INTO "order" (id, description, customer_id) VALUES (9923, 'Sleek Metal Chicken', 68);
-INSERT INTO "order" (id, description, customer_id) VALUES (9924, 'Sleek Bronze Computer', 69);
-INSERT INTO "order" (id, description, customer_id) VALUES (9925, 'Ergonomic Fresh Salad', 76);
-INSERT INTO "order" (id, description, customer_id) VALUES (9926, 'Handcrafted Steel Bike', 6);
-INSERT INTO "order" (id, description, customer_id) VALUES (9927, 'Practical Steel Pants', 8);
-INSERT INTO "order" (id, description, customer_id) VALUES (9928, 'Oriental Rubber Salad', 39);
-INSERT INTO "order" (id, description, customer_id) VALUES (9929, 'Handcrafted Bronze Keyboard', 21);
-INSERT INTO "order" (id, description, customer_id) VALUES (9930, 'Ergonomic Wooden Bacon', 62);
-INSERT INTO "order" (id, description, customer_id) VALUES (9931, 'Generic Fresh Table', 51);
-INSERT INTO "order" (id, description, customer_id) VALUES (9932, 'Ergonomic Concrete Bacon', 84);
-INSERT INTO "order" (id, description, customer_id) VALUES (9933, 'Modern Frozen Shirt', 94);
-INSERT INTO "order" (id, description, customer_id) VALUES (9934, 'Generic Bronze Hat', 56);
-INSERT INTO "order" (id, description, customer_id) VALUES (9935, 'Licensed Concrete Table', 49);
-INSERT INTO "order" (id, description, customer_id) VALUES (9936, 'Practical Concrete Chicken', 76);
-INSERT INTO "order" (id, description, customer_id) VALUES (9937, 'Ergonomic Plastic Chicken', 78);
-INSERT INTO "order" (id, description, customer_id) VALUES (9938, 'Generic Granite Gloves', 73);
-INSERT INTO "order" (id, description, customer_id) VALUES (9939, 'Small Bronze Chips', 34);
-INSERT INTO "order" (id, description, customer_id) VALUES (9940, 'Fantastic Granite Ball', 33);
-INSERT INTO "order" (id, description, customer_id) VALUES (9941, 'Refined Metal Ball', 22);
-INSERT INTO "order" (id, description, customer_id) VALUES (9942, 'Incredible Plastic Pants', 20);
-INSERT INTO "order" (id, description, customer_id) VALUES (9943, 'Electronic Soft Fish', 29);
-INSERT INTO "order" (id, description, customer_id) VALUES (9944, 'Electronic Steel Keyboard', 23);
-INSERT INTO "order" (id, description, customer_id) VALUES (9945, 'Sleek Granite Bacon', 48);
-INSERT INTO "order" (id, description, customer_id) VALUES (9946, 'Luxurious Plastic Keyboard', 45);
-INSERT INTO "order" (id, description, customer_id) VALUES (9947, 'Recycled Concrete Mouse', 89);
-INSERT INTO "order" (id, description, customer_id) VALUES (9948, 'Luxurious Rubber Table', 97);
-INSERT INTO "order" (id, description, customer_id) VALUES (9949, 'Handmade Metal Soap', 31);
-INSERT INTO "order" (id, description, customer_id) VALUES (9950, 'Unbranded Plastic Pizza', 77);
-INSERT INTO "order" (id, description, customer_id) VALUES (9951, 'Refined Frozen Towels', 52);
-INSERT INTO "order" (id, description, customer_id) VALUES (9952, 'Gorgeous Soft Table', 36);
-INSERT INTO "order" (id, description, customer_id) VALUES (9953, 'Elegant Wooden Keyboard', 30);
-INSERT INTO "order" (id, description, customer_id) VALUES (9954, 'Incredible Rubber Mouse', 95);
-INSERT INTO "order" (id, description, customer_id) VALUES (9955, 'Electronic Rubber Gloves', 55);
-INSERT INTO "order" (id, description, customer_id) VALUES (9956, 'Luxurious Soft Computer', 19);
-INSERT INTO "order" (id, description, customer_id) VALUES (9957, 'Modern Bronze Computer', 52);
-INSERT INTO "order" (id, description, customer_id) VALUES (9958, 'Practical Frozen Pizza', 12);
-INSERT INTO "order" (id, description, customer_id) VALUES (9959, 'Generic Bronze Chicken', 89);
-INSERT INTO "order" (id, description, customer_id) VALUES (9960, 'Practical Frozen Table', 84);
-INSERT INTO "order" (id, description, customer_id) VALUES (9961, 'Oriental Wooden Bike', 7);
-INSERT INTO "order" (id, description, customer_id) VALUES (9962, 'Fantastic Fresh Tuna', 39);
-INSERT INTO "order" (id, description, customer_id) VALUES (9963, 'Generic Fresh Computer', 82);
-INSERT INTO "order" (id, description, customer_id) VALUES (9964, 'Elegant Cotton Shirt', 73);
-INSERT INTO "order" (id, description, customer_id) VALUES (9965, 'Oriental Concrete Mouse', 93);
-INSERT INTO "order" (id, description, customer_id) VALUES (9966, 'Generic Steel Salad', 35);
-INSERT INTO "order" (id, description, customer_id) VALUES (9967, 'Recycled Plastic Salad', 88);
-INSERT INTO "order" (id, description, customer_id) VALUES (9968, 'Practical Metal Bike', 91);
-INSERT INTO "order" (id, description, customer_id) VALUES (9969, 'Generic Granite Soap', 86);
-INSERT INTO "order" (id, description, customer_id) VALUES (9970, 'Electronic Bronze Tuna', 93);
-INSERT INTO "order" (id, description, customer_id) VALUES (9971, 'Recycled Soft Towels', 21);
-INSERT INTO "order" (id, description, customer_id) VALUES (9972, 'Small Concrete Chips', 53);
-INSERT INTO "order" (id, description, customer_id) VALUES (9973, 'Handcrafted Wooden Shirt', 72);
-INSERT INTO "order" (id, description, customer_id) VALUES (9974, 'Intelligent Cotton Soap', 56);
-INSERT INTO "order" (id, description, customer_id) VALUES (9975, 'Luxurious Soft Bike', 77);
-INSERT INTO "order" (id, description, customer_id) VALUES (9976, 'Incredible Bronze Pants', 77);
-INSERT INTO "order" (id, description, customer_id) VALUES (9977, 'Small Wooden Bacon', 56);
-INSERT INTO "order" (id, description, customer_id) VALUES (9978, 'Sleek Wooden Car', 67);
-INSERT INTO "order" (id, description, customer_id) VALUES (9979, 'Awesome Bronze Table', 38);
-INSERT INTO "order" (id, description, customer_id) VALUES (9980, 'Intelligent Soft Chair', 42);
-INSERT INTO "order" (id, description, customer_id) VALUES (9981, 'Modern Metal Fish', 23);
-INSERT INTO "order" (id, description, customer_id) VALUES (9982, 'Recycled Concrete Chicken', 88);
-INSERT INTO "order" (id, description, customer_id) VALUES (9983, 'Sleek Fresh Fish', 49);
-INSERT INTO "order" (id, description, customer_id) VALUES (9984, 'Licensed Metal Soap', 28);
-INSERT INTO "order" (id, description, customer_id) VALUES (9985, 'Intelligent Soft Table', 17);
-INSERT INTO "order" (id, description, customer_id) VALUES (9986, 'Handcrafted Steel Chips', 29);
-INSERT INTO "order" (id, description, customer_id) VALUES (9987, 'Rustic Metal Computer', 19);
-INSERT INTO "order" (id, description, customer_id) VALUES (9988, 'Electronic Rubber Towels', 84);
-INSERT INTO "order" (id, description, customer_id) VALUES (9989, 'Rustic Bronze Chips', 44);
-INSERT INTO "order" (id, description, customer_id) VALUES (9990, 'Incredible Cotton Table', 12);
-INSERT INTO "order" (id, description, customer_id) VALUES (9991, 'Practical Bronze Pizza', 28);
-INSERT INTO "order" (id, description, customer_id) VALUES (9992, 'Sleek Granite Table', 77);
-INSERT INTO "order" (id, description, customer_id) VALUES (9993, 'Bespoke Plastic Fish', 71);
-INSERT INTO "order" (id, description, customer_id) VALUES (9994, 'Modern Metal Car', 40);
-INSERT INTO "order" (id, description, customer_id) VALUES (9995, 'Handcrafted Frozen Soap', 16);
-INSERT INTO "order" (id, description, customer_id) VALUES (9996, 'Modern Plastic Salad', 94);
-INSERT INTO "order" (id, description, customer_id) VALUES (9997, 'Oriental Bronze Ball', 44);
-INSERT INTO "order" (id, description, customer_id) VALUES (9998, 'Tasty Steel Bacon', 43);
-INSERT INTO "order" (id, description, customer_id) VALUES (9999, 'Refined Frozen Pizza', 16);
-INSERT INTO "order" (id, description, customer_id) VALUES (10000, 'Bespoke Frozen Gloves', 58);
@@ -0,0 +1,36 @@
+package com.example.store.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BloomFilterTest {
+
+    @Test
+    void testMightContain_noFalseNegativesAndSizedFalsePositiveRate() {
+        BloomFilter filter = new BloomFilter(100_000, 0.01);
+        LongStream.rangeClosed(1, 100_000).forEach(filter::add);
+
+        assertThat(LongStream.rangeClosed(1, 100_000).allMatch(filter::mightContain)).isTrue();
+        long falsePositives = LongStream.rangeClosed(1_000_001, 1_100_000).filter(filter::mightContain).count();
+        assertThat(falsePositives).isLessThan(2_000);
+        assertThat(filter.count()).isEqualTo(100_000);
+        assertThat(filter.sizeInBytes()).isBetween(110_000L, 130_000L);
+    }
+
+    @Test
+    void testMightContain_emptyFilter_rejectsEverything() {
+        BloomFilter filter = new BloomFilter(1_000, 0.01);
+
+        assertThat(LongStream.range(-500, 500).noneMatch(filter::mightContain)).isTrue();
+    }
+
+    @Test
+    void testConstructor_invalidSizing_throw() {
+        assertThatThrownBy(() -> new BloomFilter(0, 0.01)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new BloomFilter(10, 1.0)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
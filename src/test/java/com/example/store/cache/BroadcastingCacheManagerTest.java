@@ -0,0 +1,98 @@
+package com.example.store.cache;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.support.NoOpCacheManager;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import javax.sql.DataSource;
+
+import static com.example.store.support.Factory.buildOrderDTO;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class BroadcastingCacheManagerTest {
+
+    private final CaffeineCacheManager caffeine = new CaffeineCacheManager("orderById", "ordersPage");
+    private final List<InvalidationMessage> published = new ArrayList<>();
+    private final BroadcastingCacheManager cacheManager = new BroadcastingCacheManager(caffeine, published::add);
+
+    @Test
+    void testGetCache_shareNativeCacheWithDelegate() {
+        Cache cache = cacheManager.getCache("orderById");
+        cache.put(1L, "order");
+
+        assertThat(cache).isInstanceOf(CaffeineCache.class).isSameAs(cacheManager.getCache("orderById"));
+        assertThat(caffeine.getCache("orderById").get(1L, String.class)).isEqualTo("order");
+        assertThat(published).isEmpty();
+    }
+
+    @Test
+    void testEvictAndClear_publishMessages() {
+        Cache orders = cacheManager.getCache("orderById");
+        orders.put(1L, "order");
+
+        orders.evict(1L);
+        orders.evictIfPresent(2L);
+        cacheManager.getCache("ordersPage").clear();
+        cacheManager.getCache("ordersPage").invalidate();
+
+        assertThat(orders.get(1L)).isNull();
+        assertThat(published).containsExactly(
+                new InvalidationMessage("orderById", 1L),
+                new InvalidationMessage("orderById", 2L),
+                InvalidationMessage.clear("ordersPage"),
+                InvalidationMessage.clear("ordersPage"));
+    }
+
+    @Test
+    void testGetCache_nonCaffeineCache_returnedUnwrapped() {
+        NoOpCacheManager noOp = new NoOpCacheManager();
+        BroadcastingCacheManager manager = new BroadcastingCacheManager(noOp, published::add);
+
+        manager.getCache("ordersPage").clear();
+
+        assertThat(manager.getCache("ordersPage")).isSameAs(noOp.getCache("ordersPage"));
+        assertThat(published).isEmpty();
+    }
+
+    @Test
+    void testApply_evictLocallyWithoutPublishing() {
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        CacheInvalidationBus bus = new CacheInvalidationBus(jdbcTemplate, mock(DataSource.class), cacheManager,
+                "store_cache_invalidation", Duration.ofSeconds(1));
+        cacheManager.getCache("orderById").put(1L, "one");
+        cacheManager.getCache("orderById").put(2L, "two");
+        cacheManager.getCache("ordersPage").put("p=0", "page");
+
+        bus.apply(new InvalidationMessage("orderById", 1L));
+        bus.apply(InvalidationMessage.clear("ordersPage"));
+        bus.apply(InvalidationMessage.clear("unknown"));
+
+        assertThat(cacheManager.getCache("orderById").get(1L)).isNull();
+        assertThat(cacheManager.getCache("orderById").get(2L, String.class)).isEqualTo("two");
+        assertThat(cacheManager.getCache("ordersPage").get("p=0")).isNull();
+        assertThat(published).isEmpty();
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    void testApply_rowIds_evictOnlyPagesHoldingThem() {
+        CacheInvalidationBus bus = new CacheInvalidationBus(mock(JdbcTemplate.class), mock(DataSource.class),
+                cacheManager, "store_cache_invalidation", Duration.ofSeconds(1));
+        cacheManager.getCache("ordersPage").put("p=0", new PageImpl<>(List.of(buildOrderDTO(1L, "Gift"))));
+        cacheManager.getCache("ordersPage").put("p=1", new PageImpl<>(List.of(buildOrderDTO(2L, "Box"))));
+
+        bus.apply(InvalidationMessage.pagesContaining("ordersPage", List.of(2L)));
+
+        assertThat(cacheManager.getCache("ordersPage").get("p=0")).isNotNull();
+        assertThat(cacheManager.getCache("ordersPage").get("p=1")).isNull();
+        assertThat(published).isEmpty();
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.store.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static com.example.store.support.Factory.buildCustomerDTO;
+import static com.example.store.support.Factory.buildOrderDTO;
+import static com.example.store.support.Factory.buildProductDTO;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CacheInvalidatorTest {
+
+    private final CaffeineCacheManager caffeine =
+            new CaffeineCacheManager("orderById", "productById", "customersPage", "ordersPage", "productPage");
+    private final List<InvalidationMessage> published = new ArrayList<>();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CacheInvalidator invalidator =
+            new CacheInvalidator(new BroadcastingCacheManager(caffeine, published::add), meterRegistry);
+
+    @Test
+    void testOrdersCreated_evictsOnlyPagesHoldingTheRows() {
+        Cache customers = caffeine.getCache("customersPage");
+        customers.put("0-10", new PageImpl<>(List.of(buildCustomerDTO(1L, "Ann"), buildCustomerDTO(2L, "Bob")), PageRequest.of(0, 2), 4));
+        customers.put("1-10", new PageImpl<>(List.of(buildCustomerDTO(3L, "Cy"), buildCustomerDTO(4L, "Di")), PageRequest.of(1, 2), 4));
+        Cache products = caffeine.getCache("productPage");
+        products.put("0-10", new PageImpl<>(List.of(buildProductDTO(5L, "Pen")), PageRequest.of(0, 1), 2));
+        products.put("1-10", new PageImpl<>(List.of(buildProductDTO(6L, "Ink")), PageRequest.of(1, 1), 2));
+        caffeine.getCache("productById").put(5L, buildProductDTO(5L, "Pen"));
+        caffeine.getCache("productById").put(6L, buildProductDTO(6L, "Ink"));
+        caffeine.getCache("ordersPage").put("0-10", new PageImpl<>(List.of(buildOrderDTO(9L, "Gift"))));
+
+        invalidator.ordersCreated(List.of(3L), List.of(5L));
+
+        assertThat(customers.get("0-10")).isNotNull();
+        assertThat(customers.get("1-10")).isNull();
+        assertThat(products.get("0-10")).isNull();
+        assertThat(products.get("1-10")).isNotNull();
+        assertThat(caffeine.getCache("productById").get(5L)).isNull();
+        assertThat(caffeine.getCache("productById").get(6L)).isNotNull();
+        assertThat(caffeine.getCache("ordersPage").get("0-10")).isNull();
+        assertThat(published).containsExactlyInAnyOrder(
+                InvalidationMessage.pagesContaining("customersPage", List.of(3L)),
+                InvalidationMessage.pagesContaining("productPage", List.of(5L)),
+                new InvalidationMessage("productById", 5L),
+                InvalidationMessage.clear("ordersPage"));
+        assertThat(meterRegistry.counter("store.cache.invalidations", "cache", "customersPage", "scope", "page").count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void testOrdersCreatedInTransaction_readBeforeCommit_evictedAgainAfterCommit() {
+        Cache customers = caffeine.getCache("customersPage");
+        customers.put("0-10", new PageImpl<>(List.of(buildCustomerDTO(3L, "Cy")), PageRequest.of(0, 1), 1));
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            invalidator.ordersCreated(List.of(3L), List.of(5L));
+            assertThat(customers.get("0-10")).isNull();
+
+            // A concurrent read before commit still sees the old rows and caches them again.
+            customers.put("0-10", new PageImpl<>(List.of(buildCustomerDTO(3L, "Cy")), PageRequest.of(0, 1), 1));
+            caffeine.getCache("ordersPage").put("0-10", new PageImpl<>(List.of(buildOrderDTO(9L, "Gift"))));
+            int publishedBeforeCommit = published.size();
+
+            TransactionSynchronizationUtils.triggerAfterCommit();
+
+            assertThat(customers.get("0-10")).isNull();
+            assertThat(caffeine.getCache("ordersPage").get("0-10")).isNull();
+            assertThat(published).hasSize(publishedBeforeCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        assertThat(meterRegistry.counter("store.cache.invalidations", "cache", "customersPage", "scope", "page").count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void testLocalOnly_doesNotPublish() {
+        caffeine.getCache("orderById").put(1L, buildOrderDTO(1L, "Gift"));
+
+        invalidator.localOnly().ordersChanged(List.of(1L), null);
+
+        assertThat(caffeine.getCache("orderById").get(1L)).isNull();
+        assertThat(published).isEmpty();
+    }
+
+    @Test
+    void testContainsAny_unknownValuesCountAsMatch() {
+        assertThat(CacheInvalidator.containsAny(new PageImpl<>(List.of(buildProductDTO(1L, "Pen"))), Set.of(2L))).isFalse();
+        assertThat(CacheInvalidator.containsAny(new PageImpl<>(List.of("row")), Set.of(2L))).isTrue();
+        assertThat(CacheInvalidator.containsAny("not a page", Set.of(2L))).isTrue();
+    }
+}
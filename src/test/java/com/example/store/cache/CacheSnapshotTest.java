@@ -0,0 +1,140 @@
+package com.example.store.cache;
+
+import com.example.store.dto.ProductDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+class CacheSnapshotTest {
+
+    @TempDir
+    private Path directory;
+
+    private final Map<Long, String> database = new ConcurrentHashMap<>();
+    private CaffeineCacheManager cacheManager;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager = newNode();
+    }
+
+    @Test
+    void testSaveRestore_hottestEntriesReturnThenRevalidated() throws Exception {
+        database.put(1L, "pipe");
+        database.put(2L, "valve");
+        productById(cacheManager).get(1L);
+        productById(cacheManager).get(2L);
+        Path file = directory.resolve("snapshot.bin");
+        assertThat(snapshot(cacheManager, file, Duration.ofMinutes(15)).save()).isEqualTo(2);
+        database.put(1L, "brass pipe");
+        database.remove(2L);
+
+        CaffeineCacheManager restarted = newNode();
+        int restored = snapshot(restarted, file, Duration.ofMinutes(15)).restore();
+
+        assertThat(restored).isEqualTo(2);
+        assertThat(Files.exists(file)).isFalse();
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> {
+            assertThat(productById(restarted).getIfPresent(1L)).extracting("description").isEqualTo("brass pipe");
+            assertThat(productById(restarted).getIfPresent(2L)).isNull();
+        });
+    }
+
+    @Test
+    void testRestore_keepEntriesCachedSinceStartup() throws Exception {
+        database.put(1L, "pipe");
+        productById(cacheManager).get(1L);
+        Path file = directory.resolve("snapshot.bin");
+        snapshot(cacheManager, file, Duration.ofMinutes(15)).save();
+        CaffeineCacheManager restarted = newNode();
+        database.put(1L, "brass pipe");
+        productById(restarted).get(1L);
+
+        assertThat(snapshot(restarted, file, Duration.ofMinutes(15)).restore()).isZero();
+
+        assertThat(productById(restarted).getIfPresent(1L)).extracting("description").isEqualTo("brass pipe");
+    }
+
+    @Test
+    void testRestore_olderThanMaxAge_discard() throws Exception {
+        database.put(1L, "pipe");
+        productById(cacheManager).get(1L);
+        Path file = directory.resolve("snapshot.bin");
+        snapshot(cacheManager, file, Duration.ofMinutes(15)).save();
+        Thread.sleep(5);
+
+        CaffeineCacheManager restarted = newNode();
+
+        assertThat(snapshot(restarted, file, Duration.ZERO).restore()).isZero();
+        assertThat(productById(restarted).estimatedSize()).isZero();
+        assertThat(Files.exists(file)).isFalse();
+    }
+
+    @Test
+    void testRestore_truncatedFile_dropPartialRestoreAndDelete() throws Exception {
+        database.put(1L, "pipe");
+        database.put(2L, "valve");
+        productById(cacheManager).get(1L);
+        productById(cacheManager).get(2L);
+        Path file = directory.resolve("snapshot.bin");
+        snapshot(cacheManager, file, Duration.ofMinutes(15)).save();
+        byte[] bytes = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(bytes, bytes.length - 3));
+
+        CaffeineCacheManager restarted = newNode();
+
+        assertThatThrownBy(() -> snapshot(restarted, file, Duration.ofMinutes(15)).restore())
+                .isInstanceOf(IOException.class);
+        assertThat(productById(restarted).estimatedSize()).isZero();
+        assertThat(Files.exists(file)).isFalse();
+    }
+
+    @Test
+    void testRestore_noFile_nothing() throws Exception {
+        assertThat(snapshot(cacheManager, directory.resolve("missing.bin"), Duration.ofMinutes(15)).restore())
+                .isZero();
+    }
+
+    private CaffeineCacheManager newNode() {
+        CaffeineCacheManager node = new CaffeineCacheManager();
+        node.registerCustomCache("productById", Caffeine.newBuilder().maximumSize(100).build(key -> {
+            String description = database.get((Long) key);
+            if (description == null) {
+                return null;
+            }
+            ProductDTO product = new ProductDTO();
+            product.setId((Long) key);
+            product.setDescription(description);
+            product.setOrders(List.of());
+            return product;
+        }));
+        return node;
+    }
+
+    private CacheSnapshot snapshot(CaffeineCacheManager node, Path file, Duration maxAge) {
+        return new CacheSnapshot(node, new ObjectMapper(), Map.of("productById", ProductDTO.class), file, 100,
+                maxAge, 1);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static LoadingCache<Object, Object> productById(CaffeineCacheManager node) {
+        return (LoadingCache<Object, Object>) node.getCache("productById").getNativeCache();
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.store.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InvalidationMessageTest {
+
+    @Test
+    void testEncodeDecode_supportedKeys_roundTrip() {
+        for (Object key : new Object[] {42L, 7, "p=0|s=50|sort=id: DESC", ""}) {
+            InvalidationMessage message = new InvalidationMessage("orderById", key);
+
+            assertThat(InvalidationMessage.decode(message.encode())).isEqualTo(message);
+        }
+    }
+
+    @Test
+    void testEncodeDecode_rowIds_roundTrip() {
+        InvalidationMessage message = InvalidationMessage.pagesContaining("customersPage", List.of(3L, 17L));
+
+        assertThat(message.encode()).matches("customersPage:R:(3,17|17,3)");
+        assertThat(InvalidationMessage.decode(message.encode())).isEqualTo(message);
+    }
+
+    @Test
+    void testEncodeDecode_clear_roundTrip() {
+        InvalidationMessage message = InvalidationMessage.clear("ordersPage");
+
+        assertThat(message.encode()).isEqualTo("ordersPage");
+        assertThat(InvalidationMessage.decode("ordersPage")).isEqualTo(message);
+    }
+
+    @Test
+    void testEncode_unsupportedOrOversizedKey_clearWholeCache() {
+        assertThat(new InvalidationMessage("productById", UUID.randomUUID()).encode()).isEqualTo("productById");
+        assertThat(new InvalidationMessage("ordersPage", "x".repeat(InvalidationMessage.MAX_PAYLOAD_BYTES)).encode())
+                .isEqualTo("ordersPage");
+    }
+
+    @Test
+    void testDecode_malformedKey_clearWholeCache() {
+        assertThat(InvalidationMessage.decode("orderById:L:abc")).isEqualTo(InvalidationMessage.clear("orderById"));
+        assertThat(InvalidationMessage.decode("orderById:X:1")).isEqualTo(InvalidationMessage.clear("orderById"));
+        assertThat(InvalidationMessage.decode("orderById:")).isEqualTo(InvalidationMessage.clear("orderById"));
+    }
+}
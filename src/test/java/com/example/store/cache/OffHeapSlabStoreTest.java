@@ -0,0 +1,87 @@
+package com.example.store.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OffHeapSlabStoreTest {
+
+    private static final Object VERSION = new Object();
+
+    @Test
+    void testPutGet_valueSpanningBlocksAndSlabs_roundTrip() {
+        OffHeapSlabStore store = new OffHeapSlabStore(1024, 16, 64);
+        byte[] value = new byte[100];
+        Arrays.fill(value, (byte) 7);
+        value[99] = 42;
+
+        assertThat(store.put("a", value, VERSION)).isTrue();
+
+        assertThat(store.get("a", VERSION)).isEqualTo(value);
+        assertThat(store.usedBytes()).isEqualTo(112);
+        assertThat(store.hits()).isEqualTo(1);
+    }
+
+    @Test
+    void testPut_overBudget_evictLeastRecentlyRead() {
+        OffHeapSlabStore store = new OffHeapSlabStore(64, 16, 32);
+        store.put("a", bytes("0123456789abcdef0123"), VERSION);
+        store.put("b", bytes("b"), VERSION);
+        store.put("c", bytes("c"), VERSION);
+        store.get("a", VERSION);
+
+        store.put("d", bytes("0123456789abcdef0"), VERSION);
+
+        assertThat(store.keys()).containsExactly("a", "d");
+        assertThat(store.evictions()).isEqualTo(2);
+        assertThat(store.get("a", VERSION)).isEqualTo(bytes("0123456789abcdef0123"));
+        assertThat(store.usedBytes()).isEqualTo(64);
+    }
+
+    @Test
+    void testPut_replaceKey_releaseOldBlocks() {
+        OffHeapSlabStore store = new OffHeapSlabStore(64, 16, 64);
+        store.put("a", new byte[64], VERSION);
+
+        store.put("a", bytes("small"), VERSION);
+
+        assertThat(store.usedBytes()).isEqualTo(16);
+        assertThat(store.get("a", VERSION)).isEqualTo(bytes("small"));
+    }
+
+    @Test
+    void testGet_otherVersion_missAndDrop() {
+        OffHeapSlabStore store = new OffHeapSlabStore(64, 16, 64);
+        store.put("a", bytes("page"), VERSION);
+
+        assertThat(store.get("a", new Object())).isNull();
+
+        assertThat(store.size()).isZero();
+        assertThat(store.usedBytes()).isZero();
+        assertThat(store.misses()).isEqualTo(1);
+    }
+
+    @Test
+    void testPut_largerThanBudget_notStored() {
+        OffHeapSlabStore store = new OffHeapSlabStore(64, 16, 64);
+        store.put("a", bytes("kept"), VERSION);
+
+        assertThat(store.put("b", new byte[65], VERSION)).isFalse();
+
+        assertThat(store.get("a", VERSION)).isEqualTo(bytes("kept"));
+    }
+
+    @Test
+    void testConstructor_invalidSizing_throw() {
+        assertThatThrownBy(() -> new OffHeapSlabStore(64, 0, 64)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new OffHeapSlabStore(64, 32, 16)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.store.cache;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletResponse;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PageResponseFilterTest {
+
+    private final CaffeineCacheManager cacheManager = new CaffeineCacheManager("ordersPage", "productPage");
+    private final OffHeapSlabStore store = new OffHeapSlabStore(4096, 256, 4096);
+    private final PageResponseFilter filter = new PageResponseFilter(store, cacheManager, 1024);
+
+    private final AtomicInteger handled = new AtomicInteger();
+    private final FilterChain handler = (request, response) -> {
+        handled.incrementAndGet();
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.getWriter().write("{\"content\":[" + handled.get() + "]}");
+    };
+
+    @Test
+    void testFilter_secondRequest_servedFromStore() throws Exception {
+        MockHttpServletResponse first = get("/order", "page=1");
+        MockHttpServletResponse second = get("/order", "page=1");
+
+        assertThat(handled).hasValue(1);
+        assertThat(first.getContentAsString()).isEqualTo("{\"content\":[1]}");
+        assertThat(second.getContentAsString()).isEqualTo("{\"content\":[1]}");
+        assertThat(second.getContentType()).isEqualTo(MediaType.APPLICATION_JSON_VALUE);
+        assertThat(second.getContentLength()).isEqualTo(15);
+    }
+
+    @Test
+    void testFilter_otherQuery_miss() throws Exception {
+        get("/order", "page=1");
+        get("/order", "page=2");
+
+        assertThat(handled).hasValue(2);
+    }
+
+    @Test
+    void testFilter_pageCacheEvicted_renderAgain() throws Exception {
+        get("/order", "page=1");
+        cacheManager.getCache("ordersPage").clear();
+        MockHttpServletResponse afterClear = get("/order", "page=1");
+        get("/products", null);
+        cacheManager.getCache("productPage").evict(PageResponseFilter.VERSION_KEY);
+        get("/products", null);
+
+        assertThat(handled).hasValue(4);
+        assertThat(afterClear.getContentAsString()).isEqualTo("{\"content\":[2]}");
+    }
+
+    @Test
+    void testFilter_cursorOrErrorOrOversized_notStored() throws Exception {
+        get("/order", "cursor=abc");
+        get("/order", "cursor=abc");
+        FilterChain notFound = (request, response) -> {
+            handled.incrementAndGet();
+            ((HttpServletResponse) response).setStatus(404);
+        };
+        filter.doFilter(new MockHttpServletRequest("GET", "/products"), new MockHttpServletResponse(), notFound);
+        filter.doFilter(new MockHttpServletRequest("GET", "/products"), new MockHttpServletResponse(), notFound);
+        FilterChain oversized = (request, response) -> {
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.getOutputStream().write(new byte[2048]);
+        };
+        MockHttpServletResponse large = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("GET", "/order"), large, oversized);
+
+        assertThat(handled).hasValue(4);
+        assertThat(large.getContentAsByteArray()).hasSize(2048);
+        assertThat(store.size()).isZero();
+    }
+
+    @Test
+    void testFilter_noCaffeineCache_passThrough() throws Exception {
+        get("/customer", null);
+        get("/customer", null);
+
+        assertThat(handled).hasValue(2);
+        assertThat(store.size()).isZero();
+    }
+
+    private MockHttpServletResponse get(String path, String query) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+        if (query != null) {
+            request.setQueryString(query);
+            String[] parameter = query.split("=");
+            request.setParameter(parameter[0], parameter[1]);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, handler);
+        return response;
+    }
+}
@@ -0,0 +1,139 @@
+package com.example.store.cdc;
+
+import com.example.store.cache.CacheInvalidator;
+import com.example.store.entity.Customer;
+import com.example.store.repository.OrderViewRepository;
+import com.example.store.service.CustomerNameIndex;
+import com.example.store.service.KnownIds;
+import com.example.store.service.OrderViewRebuilder;
+import org.hibernate.Cache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ChangeApplierTest {
+
+    @Mock
+    private CacheInvalidator cacheInvalidator;
+
+    @Mock
+    private CacheInvalidator localInvalidator;
+
+    @Mock
+    private OrderViewRepository orderViewRepository;
+
+    @Mock
+    private OrderViewRebuilder orderViewRebuilder;
+
+    @Mock
+    private CustomerNameIndex customerNameIndex;
+
+    @Mock
+    private Cache secondLevelCache;
+
+    @Mock
+    private KnownIds knownIds;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private ChangeApplier applier;
+
+    @BeforeEach
+    void setUp() {
+        when(cacheInvalidator.localOnly()).thenReturn(localInvalidator);
+        applier = new ChangeApplier(cacheInvalidator, orderViewRepository, orderViewRebuilder, customerNameIndex,
+                secondLevelCache, knownIds, transactionTemplate);
+    }
+
+    @Test
+    void testApply_externalOrderInsert_refreshesViewAndEvictsLocally() {
+        runTransactionCallbacks();
+        ChangeBatch batch = batch(
+                "table public.\"order\": INSERT: id[bigint]:7 description[character varying]:'Gift' customer_id[bigint]:3",
+                "table public.order_product: INSERT: order_id[bigint]:7 product_id[bigint]:2");
+
+        applier.apply(batch);
+
+        verify(orderViewRepository).refreshIfChanged(List.of(7L));
+        verify(localInvalidator).ordersChanged(Set.of(7L), Set.of(3L));
+        verify(localInvalidator).orderProductsChanged(Set.of(7L), Set.of(2L));
+        verify(secondLevelCache).evictCollectionData("com.example.store.entity.Order.products", 7L);
+        verify(knownIds).discovered(KnownIds.Kind.ORDER, Set.of(7L));
+        verifyNoInteractions(customerNameIndex);
+    }
+
+    @Test
+    void testApply_orderWrittenWithItsView_skipsViewRefresh() {
+        ChangeBatch batch = batch(
+                "table public.\"order\": INSERT: id[bigint]:7 description[character varying]:'Gift' customer_id[bigint]:3",
+                "table public.order_view: INSERT: id[bigint]:7 payload[jsonb]:'{}'");
+
+        applier.apply(batch);
+
+        verifyNoInteractions(orderViewRepository, transactionTemplate);
+        verify(localInvalidator).ordersChanged(Set.of(7L), Set.of(3L));
+    }
+
+    @Test
+    void testApply_customerInsertAndRename_maintainIndex() {
+        applier.apply(batch("table public.customer: INSERT: id[bigint]:5 name[character varying]:'Ann'"));
+        verify(customerNameIndex).add(5L, "Ann");
+        verify(localInvalidator).customersAddedOrRemoved();
+
+        runTransactionCallbacks();
+        applier.apply(batch("table public.customer: UPDATE: id[bigint]:5 name[character varying]:'Anne'"));
+        verify(orderViewRepository).refreshForCustomers(List.of(5L));
+        verify(localInvalidator).customersUpdated(Set.of(5L));
+        verify(customerNameIndex).rebuild();
+        verify(secondLevelCache).evictEntityData(Customer.class, 5L);
+    }
+
+    @Test
+    void testApply_overflow_rebuildsEverything() {
+        ChangeBatch batch = new ChangeBatch(1);
+        batch.add(TestDecodingParser.parse("table public.product: UPDATE: id[bigint]:1 description[character varying]:'a'"));
+        batch.add(TestDecodingParser.parse("table public.product: UPDATE: id[bigint]:2 description[character varying]:'b'"));
+
+        applier.apply(batch);
+
+        verify(orderViewRebuilder).rebuild();
+        verify(localInvalidator).clearAll();
+        verify(secondLevelCache).evictAllRegions();
+        verify(knownIds).rebuild();
+        verify(customerNameIndex).rebuild();
+        verifyNoInteractions(orderViewRepository);
+    }
+
+    @Test
+    void testApply_emptyBatch_doesNothing() {
+        applier.apply(new ChangeBatch(10));
+
+        verifyNoInteractions(localInvalidator, orderViewRepository, orderViewRebuilder, customerNameIndex);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void runTransactionCallbacks() {
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.getArgument(0, TransactionCallback.class).doInTransaction(null));
+    }
+
+    private static ChangeBatch batch(String... lines) {
+        ChangeBatch batch = new ChangeBatch(100);
+        for (String line : lines) {
+            batch.add(TestDecodingParser.parse(line));
+        }
+        return batch;
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.store.cdc;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TestDecodingParserTest {
+
+    @Test
+    void testParse_insertWithQuotedTableAndValues() {
+        RowChange change = TestDecodingParser.parse(
+                "table public.\"order\": INSERT: id[bigint]:7 description[character varying]:'It''s a gift' customer_id[bigint]:3");
+
+        assertThat(change.table()).isEqualTo("order");
+        assertThat(change.operation()).isEqualTo(RowChange.Operation.INSERT);
+        assertThat(change.tuple()).containsExactlyInAnyOrderEntriesOf(
+                Map.of("id", "7", "description", "It's a gift", "customer_id", "3"));
+        assertThat(change.ids("customer_id")).containsExactly(3L);
+    }
+
+    @Test
+    void testParse_updateWithOldKeyNullAndToast() {
+        RowChange change = TestDecodingParser.parse("table public.customer: UPDATE: old-key: id[bigint]:3 "
+                + "new-tuple: id[bigint]:4 name[character varying]:null notes[text]:unchanged-toast-datum");
+
+        Map<String, String> tuple = new HashMap<>();
+        tuple.put("id", "4");
+        tuple.put("name", null);
+        assertThat(change.oldKey()).containsExactlyEntriesOf(Map.of("id", "3"));
+        assertThat(change.tuple()).isEqualTo(tuple);
+        assertThat(change.ids("id")).containsExactly(4L, 3L);
+    }
+
+    @Test
+    void testParse_deleteAndTruncate() {
+        RowChange delete = TestDecodingParser.parse("table public.order_product: DELETE: order_id[bigint]:7 product_id[bigint]:2");
+        RowChange truncate = TestDecodingParser.parse("table public.customer, public.\"order\": TRUNCATE: (no-flags)");
+
+        assertThat(delete.operation()).isEqualTo(RowChange.Operation.DELETE);
+        assertThat(delete.tuple()).containsExactlyInAnyOrderEntriesOf(Map.of("order_id", "7", "product_id", "2"));
+        assertThat(truncate.operation()).isEqualTo(RowChange.Operation.TRUNCATE);
+        assertThat(truncate.tuple()).isEmpty();
+    }
+
+    @Test
+    void testParse_valueContainingMarkers_staysOneValue() {
+        RowChange change = TestDecodingParser.parse(
+                "table public.product: INSERT: id[bigint]:1 description[character varying]:'x new-tuple: y[int]:2'");
+
+        assertThat(change.tuple()).containsExactlyInAnyOrderEntriesOf(Map.of("id", "1", "description", "x new-tuple: y[int]:2"));
+    }
+
+    @Test
+    void testParse_notARowChange() {
+        assertThat(TestDecodingParser.parse("BEGIN")).isNull();
+        assertThat(TestDecodingParser.parse("COMMIT")).isNull();
+        assertThatThrownBy(() -> TestDecodingParser.parse("table public.customer"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,148 @@
+package com.example.store.config;
+
+import com.example.store.dto.ProductDTO;
+import com.example.store.entity.Product;
+import com.example.store.mapper.ProductMapper;
+import com.example.store.repository.ProductRepository;
+import com.example.store.service.KnownIds;
+import com.example.store.service.OrderService;
+import com.example.store.service.ProductService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.example.store.support.Factory.buildProduct;
+import static com.example.store.support.Factory.buildProductDTO;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@SpringJUnitConfig(CacheLoadingConfigTest.Config.class)
+class CacheLoadingConfigTest {
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ProductMapper productMapper;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    private final AtomicInteger queries = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        reset(productRepository, productMapper);
+        cacheManager.getCache("productById").clear();
+        queries.set(0);
+        when(productRepository.findById(any())).thenAnswer(invocation -> {
+            queries.incrementAndGet();
+            Thread.sleep(50);
+            Product product = buildProduct(invocation.getArgument(0), "Pen v" + queries.get());
+            return Optional.of(product);
+        });
+        when(productMapper.productToProductDTO(any())).thenAnswer(invocation -> {
+            Product product = invocation.getArgument(0);
+            return buildProductDTO(product.getId(), product.getDescription());
+        });
+    }
+
+    @Test
+    void testGetProductByID_concurrentColdMisses_singleQuery() throws Exception {
+        int callers = 1_000;
+        ExecutorService executor = Executors.newFixedThreadPool(64);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<ProductDTO>> results = new ArrayList<>();
+            for (int i = 0; i < callers; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return productService.getProductByID(1L);
+                }));
+            }
+            start.countDown();
+            for (Future<ProductDTO> result : results) {
+                assertThat(result.get().getDescription()).isEqualTo("Pen v1");
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(queries.get()).isEqualTo(1);
+    }
+
+    @Test
+    void testGetProductByID_staleEntry_servedWhileReloaded() throws Exception {
+        assertThat(productService.getProductByID(2L).getDescription()).isEqualTo("Pen v1");
+        Thread.sleep(300);
+
+        // Past refreshAfterWrite: the old value comes back at once and a reload starts in the background.
+        assertThat(productService.getProductByID(2L).getDescription()).isEqualTo("Pen v1");
+        await().atMost(Duration.ofSeconds(5))
+                .untilAsserted(() -> assertThat(productService.getProductByID(2L).getDescription()).isEqualTo("Pen v2"));
+        assertThat(queries.get()).isEqualTo(2);
+    }
+
+    @Test
+    void testLoader_notFound_removesEntry() throws Exception {
+        var loader = CacheLoadingConfig.loader(id -> {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "gone");
+        });
+
+        assertThat(loader.load(3L)).isNull();
+    }
+
+    @Configuration
+    @EnableCaching
+    static class Config {
+
+        @Bean
+        ProductRepository productRepository() {
+            return mock(ProductRepository.class);
+        }
+
+        @Bean
+        ProductMapper productMapper() {
+            return mock(ProductMapper.class);
+        }
+
+        @Bean
+        ProductService productService(ProductRepository productRepository, ProductMapper productMapper) {
+            return new ProductService(productRepository, productMapper, mock(KnownIds.class));
+        }
+
+        @Bean
+        CacheManager cacheManager(ProductService productService) {
+            CaffeineCacheManager cacheManager = new CaffeineCacheManager("productById");
+            CacheSpecProperties properties = new CacheSpecProperties(
+                    Map.of("productById", "maximumSize=100,expireAfterWrite=10m,refreshAfterWrite=200ms"));
+            new CacheLoadingConfig().cacheSpecCustomizer(properties, mock(OrderService.class), productService)
+                    .customize(cacheManager);
+            return cacheManager;
+        }
+    }
+}
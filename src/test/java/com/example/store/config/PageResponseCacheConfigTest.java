@@ -0,0 +1,31 @@
+package com.example.store.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PageResponseCacheConfigTest {
+
+    @Test
+    void testPageCacheSpecCustomizer_shrinkPageCachesWithoutOwnSpec() {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.setCacheSpecification("maximumSize=10000");
+        CacheSpecProperties properties = new CacheSpecProperties(Map.of("productPage", "maximumSize=5000"));
+
+        new PageResponseCacheConfig().pageCacheSpecCustomizer(properties, "maximumSize=100")
+                .customize(cacheManager);
+
+        assertThat(maximumSize(cacheManager, "ordersPage")).isEqualTo(100);
+        assertThat(maximumSize(cacheManager, "customersPage")).isEqualTo(100);
+        assertThat(maximumSize(cacheManager, "productPage")).isEqualTo(10000);
+    }
+
+    private static long maximumSize(CaffeineCacheManager cacheManager, String name) {
+        com.github.benmanes.caffeine.cache.Cache<?, ?> cache =
+                (com.github.benmanes.caffeine.cache.Cache<?, ?>) cacheManager.getCache(name).getNativeCache();
+        return cache.policy().eviction().orElseThrow().getMaximum();
+    }
+}
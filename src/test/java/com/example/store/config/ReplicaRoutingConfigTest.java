@@ -0,0 +1,50 @@
+package com.example.store.config;
+
+import com.example.store.datasource.ReplicaDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import javax.sql.DataSource;
+
+import static org.mockito.Mockito.*;
+
+class ReplicaRoutingConfigTest {
+
+    private final HikariDataSource primary = mock(HikariDataSource.class);
+    private final ReplicaDataSource replicas = mock(ReplicaDataSource.class);
+    private final Connection primaryConnection = mock(Connection.class);
+    private final Connection replicaConnection = mock(Connection.class);
+    private DataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        when(replicas.getConnection()).thenReturn(replicaConnection);
+        dataSource = new ReplicaRoutingConfig().dataSource(primary, replicas);
+    }
+
+    @Test
+    void testDataSource_readOnlyConnection_usesReplicas() throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setReadOnly(true);
+            connection.createStatement();
+        }
+
+        verify(replicaConnection).createStatement();
+        verify(primaryConnection, never()).createStatement();
+    }
+
+    @Test
+    void testDataSource_readWriteConnection_usesPrimary() throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            connection.createStatement();
+        }
+
+        verify(primaryConnection).createStatement();
+        verify(replicas, never()).getConnection();
+    }
+}
@@ -1,9 +1,15 @@
 package com.example.store.controller;
 
+import com.example.store.dto.CursorPage;
 import com.example.store.dto.CustomerDTO;
+import com.example.store.dto.CustomerOrderDTO;
+import com.example.store.dto.CustomerSuggestionDTO;
+import com.example.store.dto.CustomerSummaryDTO;
 import com.example.store.dto.request.CreateCustomerRequest;
 import com.example.store.mapper.CustomerMapper;
 import com.example.store.service.CustomerService;
+import com.example.store.service.ExportTable;
+import com.example.store.service.NdjsonExportService;
 import com.example.store.support.Factory;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
@@ -15,15 +21,22 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.web.server.ResponseStatusException;
 
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 import static org.hamcrest.Matchers.hasSize;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -41,6 +54,9 @@ class CustomerControllerTest {
     @MockitoBean
     private CustomerService customerService;
 
+    @MockitoBean
+    private NdjsonExportService exportService;
+
     @Test
     void testCreateCustomer_validRequest_returnCreatedCustomer() throws Exception {
         String customerName = "New Customer";
@@ -111,4 +127,124 @@ class CustomerControllerTest {
                 .andExpect(jsonPath("$.content[1].id").value(2))
                 .andExpect(jsonPath("$.content[1].name").value("Second Customer"));
     }
+
+    @Test
+    void testGetAllCustomers_totalNone_returnSliceWithoutTotals() throws Exception {
+        List<CustomerDTO> customerDTOList = Factory.buildCustomerDtoList();
+        Pageable pageable = PageRequest.of(0, 50);
+        when(customerService.getCustomersSlice(eq("customer"), any(Pageable.class)))
+                .thenReturn(new SliceImpl<>(customerDTOList, pageable, true));
+
+        mockMvc.perform(get("/customer").param("name", "customer").param("total", "none"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(2)))
+                .andExpect(jsonPath("$.hasNext").value(true));
+    }
+
+    @Test
+    void testGetAllCustomers_totalEstimate_returnPageWithEstimatedTotal() throws Exception {
+        List<CustomerDTO> customerDTOList = Factory.buildCustomerDtoList();
+        Pageable pageable = PageRequest.of(0, 50);
+        when(customerService.getCustomersWithEstimatedTotal(any(), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(customerDTOList, pageable, 1234));
+
+        mockMvc.perform(get("/customer").param("total", "estimate"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.page.totalElements").value(1234));
+    }
+
+    @Test
+    void testGetCustomersByCursor_withNameFilter_returnCursorPage() throws Exception {
+        List<CustomerDTO> customerDTOList = Factory.buildCustomerDtoList();
+        when(customerService.getCustomersByCursor("customer", "abc", 50))
+                .thenReturn(new CursorPage<>(customerDTOList, 50, null));
+
+        mockMvc.perform(get("/customer").param("name", "customer").param("cursor", "abc"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(2)))
+                .andExpect(jsonPath("$.content[1].name").value("Second Customer"))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+
+        verify(customerService, never()).getAllCustomers(any(), any(Pageable.class));
+    }
+
+    @Test
+    void testSuggestCustomers_withQuery_returnSuggestions() throws Exception {
+        when(customerService.suggestCustomers("sec", 5))
+                .thenReturn(List.of(new CustomerSuggestionDTO(2L, "Second Customer")));
+
+        mockMvc.perform(get("/customer/suggest").param("q", "sec").param("limit", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].id").value(2))
+                .andExpect(jsonPath("$[0].name").value("Second Customer"));
+    }
+
+    @Test
+    void testSuggestCustomers_withoutQuery_returnBadRequest() throws Exception {
+        mockMvc.perform(get("/customer/suggest"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(customerService);
+    }
+
+    @Test
+    void testGetCustomerSummaries_ordersSummary_returnOrderCounts() throws Exception {
+        CustomerSummaryDTO summary = new CustomerSummaryDTO();
+        summary.setId(1L);
+        summary.setName("First Customer");
+        summary.setOrderCount(42L);
+        summary.setOrders(List.of());
+        Pageable pageable = PageRequest.of(0, 50);
+        when(customerService.getCustomerSummaries(isNull(), eq(3), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(summary), pageable, 1));
+
+        mockMvc.perform(get("/customer").param("orders", "summary").param("latestOrders", "3"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].orderCount").value(42))
+                .andExpect(jsonPath("$.content[0].orders", hasSize(0)))
+                .andExpect(jsonPath("$.page.totalElements").value(1));
+
+        verify(customerService, never()).getAllCustomers(any(), any(Pageable.class));
+    }
+
+    @Test
+    void testGetCustomerOrders_withCursor_returnCursorPage() throws Exception {
+        CustomerOrderDTO order = new CustomerOrderDTO();
+        order.setId(7L);
+        order.setDescription("Order 7");
+        when(customerService.getCustomerOrders(1L, "abc", 20)).thenReturn(new CursorPage<>(List.of(order), 20, "next"));
+
+        mockMvc.perform(get("/customer/1/orders").param("cursor", "abc").param("size", "20"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].id").value(7))
+                .andExpect(jsonPath("$.nextCursor").value("next"));
+    }
+
+    @Test
+    void testGetCustomerOrders_unknownCustomer_returnNotFound() throws Exception {
+        when(customerService.getCustomerOrders(99L, null, 50))
+                .thenThrow(new ResponseStatusException(HttpStatus.NOT_FOUND, "Not Found Customer by ID 99"));
+
+        mockMvc.perform(get("/customer/99/orders"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void testExportCustomers_streamNdjson() throws Exception {
+        String ndjson = "{\"id\":1}\n";
+        when(exportService.export(eq(ExportTable.CUSTOMERS), any(OutputStream.class))).thenAnswer(invocation -> {
+            invocation.<OutputStream>getArgument(1).write(ndjson.getBytes(StandardCharsets.UTF_8));
+            return 1L;
+        });
+
+        MvcResult result = mockMvc.perform(get("/customer/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-ndjson"))
+                .andExpect(content().string(ndjson));
+    }
 }
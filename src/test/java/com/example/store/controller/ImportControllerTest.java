@@ -0,0 +1,70 @@
+package com.example.store.controller;
+
+import com.example.store.dto.ImportResultDTO;
+import com.example.store.mapper.CustomerMapper;
+import com.example.store.service.BulkImportService;
+import com.example.store.service.ImportTable;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.InputStream;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(controllers = ImportController.class, properties = "store.import.enabled=true")
+@ComponentScan(basePackageClasses = CustomerMapper.class)
+class ImportControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private BulkImportService bulkImportService;
+
+    @Test
+    void testImportCsv_customers_returnRowCount() throws Exception {
+        when(bulkImportService.importCsv(eq(ImportTable.CUSTOMERS), any(InputStream.class)))
+                .thenReturn(new ImportResultDTO("customers", 2, 5));
+
+        mockMvc.perform(post("/import/customers").contentType("text/csv").content("id,name\n1,Ada\n2,Grace\n"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.table").value("customers"))
+                .andExpect(jsonPath("$.rows").value(2));
+    }
+
+    @Test
+    void testImportNdjson_orderProducts_delegateToNdjsonImport() throws Exception {
+        when(bulkImportService.importNdjson(eq(ImportTable.ORDER_PRODUCTS), any(InputStream.class)))
+                .thenReturn(new ImportResultDTO("order-products", 1, 1));
+
+        mockMvc.perform(post("/import/order-products").contentType("application/x-ndjson")
+                        .content("{\"order_id\":1,\"product_id\":2}\n"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.rows").value(1));
+
+        verify(bulkImportService, never()).importCsv(any(), any());
+    }
+
+    @Test
+    void testImport_unknownTable_returnBadRequest() throws Exception {
+        mockMvc.perform(post("/import/users").contentType("text/csv").content("id\n1\n"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(bulkImportService);
+    }
+
+    @Test
+    void testImport_unsupportedMediaType_returnUnsupported() throws Exception {
+        mockMvc.perform(post("/import/customers").contentType("application/json").content("[]"))
+                .andExpect(status().isUnsupportedMediaType());
+    }
+}
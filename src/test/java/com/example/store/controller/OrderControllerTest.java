@@ -1,8 +1,17 @@
 package com.example.store.controller;
 
+import com.example.store.dto.ChangeFeedDTO;
+import com.example.store.dto.CursorPage;
+import com.example.store.dto.OrderBatchDTO;
+import com.example.store.dto.OrderBatchResultDTO;
 import com.example.store.dto.OrderDTO;
+import com.example.store.dto.request.CreateOrderBatchRequest;
 import com.example.store.dto.request.CreateOrderRequest;
 import com.example.store.mapper.OrderMapper;
+import com.example.store.service.ChangeFeedService;
+import com.example.store.service.ExportTable;
+import com.example.store.service.NdjsonExportService;
+import com.example.store.service.OrderBatchService;
 import com.example.store.service.OrderService;
 import com.example.store.support.Factory;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -16,17 +25,29 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.io.ByteArrayInputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
 import java.util.List;
+import java.util.zip.GZIPInputStream;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.hasSize;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -44,6 +65,15 @@ class OrderControllerTest {
     @MockitoBean
     private OrderService orderService;
 
+    @MockitoBean
+    private OrderBatchService orderBatchService;
+
+    @MockitoBean
+    private NdjsonExportService exportService;
+
+    @MockitoBean
+    private ChangeFeedService changeFeedService;
+
     private OrderDTO order1;
     private OrderDTO order2;
 
@@ -77,6 +107,154 @@ class OrderControllerTest {
                 .andExpect(jsonPath("$.page.totalPages").value(1));
     }
 
+    @Test
+    void testGetAllOrders_assemblyDb_writeDatabaseJsonUnchanged() throws Exception {
+        String json = "{\"content\":[{\"id\":1}],\"page\":{\"size\":50,\"number\":0,\"totalElements\":1,\"totalPages\":1}}";
+        when(orderService.getOrdersJson(any(Pageable.class))).thenReturn(json.getBytes(StandardCharsets.UTF_8));
+
+        mockMvc.perform(get("/order").param("assembly", "db"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(content().string(json));
+
+        verify(orderService, never()).getAllOrders(any(Pageable.class));
+    }
+
+    @Test
+    void testGetOrderByID_assemblyDb_writeDatabaseJsonUnchanged() throws Exception {
+        String json = "{\"id\":1,\"description\":\"First Order\"}";
+        when(orderService.getOrderJson(1L)).thenReturn(json.getBytes(StandardCharsets.UTF_8));
+
+        mockMvc.perform(get("/order/1").param("assembly", "db"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(content().string(json));
+
+        verify(orderService, never()).getOrderByID(anyLong());
+    }
+
+    @Test
+    void testGetChanges_passSinceAndLimit() throws Exception {
+        when(changeFeedService.getChanges("abc", 100))
+                .thenReturn(new ChangeFeedDTO(List.of(), List.of(), List.of(order1), "def", false));
+
+        mockMvc.perform(get("/order/changes").param("since", "abc").param("limit", "100"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.orders", hasSize(1)))
+                .andExpect(jsonPath("$.orders[0].id").value(1))
+                .andExpect(jsonPath("$.next").value("def"))
+                .andExpect(jsonPath("$.hasMore").value(false));
+    }
+
+    @Test
+    void testExportOrders_streamNdjson() throws Exception {
+        String ndjson = "{\"id\":1}\n{\"id\":2}\n";
+        stubExport(ndjson);
+
+        MvcResult result = mockMvc.perform(get("/order/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-ndjson"))
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andExpect(content().string(ndjson));
+
+        verify(orderService, never()).getOrderByID(anyLong());
+    }
+
+    @Test
+    void testExportOrders_acceptGzip_compressBody() throws Exception {
+        String ndjson = "{\"id\":1}\n{\"id\":2}\n";
+        stubExport(ndjson);
+
+        MvcResult result = mockMvc.perform(get("/order/export").header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        byte[] body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            assertThat(new String(in.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo(ndjson);
+        }
+    }
+
+    @Test
+    void testExportOrders_allSlotsTaken_serviceUnavailable() throws Exception {
+        when(exportService.acquire())
+                .thenThrow(new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Too many exports running"));
+
+        mockMvc.perform(get("/order/export")).andExpect(status().isServiceUnavailable());
+
+        verify(exportService, never()).export(any(), any());
+    }
+
+    private void stubExport(String ndjson) throws Exception {
+        when(exportService.export(eq(ExportTable.ORDERS), any(OutputStream.class))).thenAnswer(invocation -> {
+            invocation.<OutputStream>getArgument(1).write(ndjson.getBytes(StandardCharsets.UTF_8));
+            return 2L;
+        });
+    }
+
+    @Test
+    void testGetAllOrders_totalNone_returnSliceWithoutTotals() throws Exception {
+        Pageable pageable = PageRequest.of(0, 50);
+        when(orderService.getOrdersSlice(any(Pageable.class)))
+                .thenReturn(new SliceImpl<>(List.of(order1, order2), pageable, true));
+
+        mockMvc.perform(get("/order").param("total", "none"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(2)))
+                .andExpect(jsonPath("$.number").value(0))
+                .andExpect(jsonPath("$.size").value(50))
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andExpect(jsonPath("$.page").doesNotExist());
+
+        verify(orderService, never()).getAllOrders(any(Pageable.class));
+    }
+
+    @Test
+    void testGetAllOrders_totalEstimate_returnPageWithEstimatedTotal() throws Exception {
+        Pageable pageable = PageRequest.of(0, 50);
+        when(orderService.getOrdersWithEstimatedTotal(any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(order1, order2), pageable, 10_000));
+
+        mockMvc.perform(get("/order").param("total", "estimate"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(2)))
+                .andExpect(jsonPath("$.page.totalElements").value(10_000));
+
+        verify(orderService, never()).getAllOrders(any(Pageable.class));
+    }
+
+    @Test
+    void testGetOrdersByCursor_returnCursorPage() throws Exception {
+        when(orderService.getOrdersByCursor("", 2)).thenReturn(new CursorPage<>(List.of(order1, order2), 2, "next"));
+
+        mockMvc.perform(get("/order").param("cursor", "").param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(2)))
+                .andExpect(jsonPath("$.content[0].id").value(1))
+                .andExpect(jsonPath("$.size").value(2))
+                .andExpect(jsonPath("$.nextCursor").value("next"));
+
+        verify(orderService, never()).getAllOrders(any(Pageable.class));
+    }
+
+    @Test
+    void testGetOrdersByCursor_invalidCursor_returnBadRequest() throws Exception {
+        when(orderService.getOrdersByCursor(anyString(), anyInt())).thenThrow(
+                new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid cursor")
+        );
+
+        mockMvc.perform(get("/order").param("cursor", "bogus"))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     void testGetOrderByID_existingOrder_returnOrder() throws Exception {
         Long orderId = 1L;
@@ -156,4 +334,47 @@ class OrderControllerTest {
                 .andExpect(status().isBadRequest());
     }
 
-}
\ No newline at end of file
+    @Test
+    void testCreateOrders_batch_returnPerItemResults() throws Exception {
+        List<CreateOrderRequest> orders = List.of(
+                new CreateOrderRequest("Order A", 1L, List.of(1L)),
+                new CreateOrderRequest("Order B", 99L, List.of(1L)));
+        when(orderBatchService.createOrders(orders)).thenReturn(OrderBatchDTO.of(List.of(
+                OrderBatchResultDTO.created(0, 51L),
+                OrderBatchResultDTO.rejected(1, "Not Found Customer by ID 99"))));
+
+        mockMvc.perform(post("/order/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new CreateOrderBatchRequest(orders))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created").value(1))
+                .andExpect(jsonPath("$.rejected").value(1))
+                .andExpect(jsonPath("$.results[0].status").value("CREATED"))
+                .andExpect(jsonPath("$.results[0].orderId").value(51))
+                .andExpect(jsonPath("$.results[1].status").value("REJECTED"))
+                .andExpect(jsonPath("$.results[1].error").value("Not Found Customer by ID 99"));
+    }
+
+    @Test
+    void testCreateOrders_emptyBatch_returnBadRequest() throws Exception {
+        mockMvc.perform(post("/order/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new CreateOrderBatchRequest(List.of()))))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(orderBatchService);
+    }
+
+    @Test
+    void testCreateOrders_oversizedBatch_returnBadRequest() throws Exception {
+        List<CreateOrderRequest> orders = Collections.nCopies(CreateOrderBatchRequest.MAX_ORDERS + 1,
+                new CreateOrderRequest("Order", 1L, List.of(1L)));
+
+        mockMvc.perform(post("/order/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new CreateOrderBatchRequest(orders))))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(orderBatchService);
+    }
+}
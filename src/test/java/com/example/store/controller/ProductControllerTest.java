@@ -1,8 +1,11 @@
 package com.example.store.controller;
 
+import com.example.store.dto.CursorPage;
 import com.example.store.dto.ProductDTO;
 import com.example.store.dto.request.CreateProductRequest;
 import com.example.store.mapper.ProductMapper;
+import com.example.store.service.ExportTable;
+import com.example.store.service.NdjsonExportService;
 import com.example.store.service.ProductService;
 import com.example.store.support.Factory;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -15,17 +18,22 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 import static org.hamcrest.Matchers.hasSize;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -43,6 +51,9 @@ class ProductControllerTest {
     @MockitoBean
     private ProductService productService;
 
+    @MockitoBean
+    private NdjsonExportService exportService;
+
     @Test
     void testCreateProduct_validRequest_returnCreatedProduct() throws Exception {
         CreateProductRequest request = Factory.buildCreateProductRequest("New Product");
@@ -123,6 +134,42 @@ class ProductControllerTest {
                 .andExpect(jsonPath("$.page.totalElements").value(0));
     }
 
+    @Test
+    void testGetAllProducts_totalNone_returnSliceWithoutTotals() throws Exception {
+        List<ProductDTO> productList = Factory.buildProductDTOList();
+        Pageable pageable = PageRequest.of(0, 50);
+        when(productService.getProductsSlice(any(Pageable.class))).thenReturn(new SliceImpl<>(productList, pageable, false));
+
+        mockMvc.perform(get("/products").param("total", "none"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(2)))
+                .andExpect(jsonPath("$.hasNext").value(false));
+    }
+
+    @Test
+    void testGetAllProducts_totalEstimate_returnPageWithEstimatedTotal() throws Exception {
+        List<ProductDTO> productList = Factory.buildProductDTOList();
+        Pageable pageable = PageRequest.of(0, 50);
+        when(productService.getProductsWithEstimatedTotal(any(Pageable.class)))
+                .thenReturn(new PageImpl<>(productList, pageable, 500));
+
+        mockMvc.perform(get("/products").param("total", "estimate"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.page.totalElements").value(500));
+    }
+
+    @Test
+    void testGetProductsByCursor_returnCursorPage() throws Exception {
+        List<ProductDTO> productList = Factory.buildProductDTOList();
+        when(productService.getProductsByCursor("", 50)).thenReturn(new CursorPage<>(productList, 50, "next"));
+
+        mockMvc.perform(get("/products").param("cursor", ""))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(2)))
+                .andExpect(jsonPath("$.content[0].description").value("Product 1"))
+                .andExpect(jsonPath("$.nextCursor").value("next"));
+    }
+
     @Test
     void testGetProductByID_existingProduct_returnProduct() throws Exception {
         Long productId = 1L;
@@ -151,4 +198,22 @@ class ProductControllerTest {
         mockMvc.perform(get("/products/{id}", "invalid"))
                 .andExpect(status().isBadRequest());
     }
-}
\ No newline at end of file
+
+    @Test
+    void testExportProducts_streamNdjson() throws Exception {
+        String ndjson = "{\"id\":1}\n";
+        when(exportService.export(eq(ExportTable.PRODUCTS), any(OutputStream.class))).thenAnswer(invocation -> {
+            invocation.<OutputStream>getArgument(1).write(ndjson.getBytes(StandardCharsets.UTF_8));
+            return 1L;
+        });
+
+        MvcResult result = mockMvc.perform(get("/products/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-ndjson"))
+                .andExpect(content().string(ndjson));
+    }
+}
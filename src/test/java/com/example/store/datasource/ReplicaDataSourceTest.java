@@ -0,0 +1,153 @@
+package com.example.store.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReplicaDataSourceTest {
+
+    @Mock
+    private DataSource primary;
+
+    @Mock
+    private Connection primaryConnection;
+
+    private DataSource first;
+    private DataSource second;
+    private Connection firstConnection;
+    private Connection secondConnection;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        first = mock(DataSource.class);
+        second = mock(DataSource.class);
+        firstConnection = mock(Connection.class);
+        secondConnection = mock(Connection.class);
+        lenient().when(first.getConnection()).thenReturn(firstConnection);
+        lenient().when(second.getConnection()).thenReturn(secondConnection);
+        lenient().when(primary.getConnection()).thenReturn(primaryConnection);
+    }
+
+    @Test
+    void testGetConnection_roundRobin_alternateReplicas() throws SQLException {
+        ReplicaDataSource dataSource = replicas(ReplicaSelection.ROUND_ROBIN, first, second);
+
+        assertThat(dataSource.getConnection()).isSameAs(firstConnection);
+        assertThat(dataSource.getConnection()).isSameAs(secondConnection);
+        assertThat(dataSource.getConnection()).isSameAs(firstConnection);
+        verifyNoInteractions(primary);
+    }
+
+    @Test
+    void testGetConnection_leastConnections_pickIdlestPool() throws SQLException {
+        HikariDataSource busy = hikari(8);
+        HikariDataSource idle = hikari(1);
+        Connection idleConnection = mock(Connection.class);
+        when(idle.getConnection()).thenReturn(idleConnection);
+        ReplicaDataSource dataSource = replicas(ReplicaSelection.LEAST_CONNECTIONS, busy, idle);
+
+        assertThat(dataSource.getConnection()).isSameAs(idleConnection);
+        assertThat(dataSource.getConnection()).isSameAs(idleConnection);
+        verify(busy, never()).getConnection();
+    }
+
+    @Test
+    void testGetConnection_replicaFails_tryNextAndTakeItOut() throws SQLException {
+        when(first.getConnection()).thenThrow(new SQLException("Connection refused"));
+        ReplicaDataSource dataSource = replicas(ReplicaSelection.ROUND_ROBIN, first, second);
+
+        assertThat(dataSource.getConnection()).isSameAs(secondConnection);
+        assertThat(dataSource.getReplicas().get(0).isUp()).isFalse();
+        assertThat(dataSource.getConnection()).isSameAs(secondConnection);
+        verify(first, times(1)).getConnection();
+    }
+
+    @Test
+    void testGetConnection_allReplicasDown_fallBackToPrimary() throws SQLException {
+        when(first.getConnection()).thenThrow(new SQLException("Connection refused"));
+        when(second.getConnection()).thenThrow(new SQLException("Connection refused"));
+        ReplicaDataSource dataSource = replicas(ReplicaSelection.ROUND_ROBIN, first, second);
+
+        assertThat(dataSource.getConnection()).isSameAs(primaryConnection);
+        assertThat(dataSource.getConnection()).isSameAs(primaryConnection);
+        assertThat(dataSource.candidates()).isEmpty();
+    }
+
+    @Test
+    void testUsePrimaryFor_readsGoToPrimaryUntilWindowEnds() throws Exception {
+        ReplicaDataSource dataSource = replicas(ReplicaSelection.ROUND_ROBIN, first, second);
+
+        dataSource.usePrimaryFor(Duration.ofMillis(200));
+        dataSource.usePrimaryFor(Duration.ofMillis(1));
+
+        assertThat(dataSource.getConnection()).isSameAs(primaryConnection);
+        Thread.sleep(250);
+        assertThat(dataSource.getConnection()).isSameAs(firstConnection);
+    }
+
+    @Test
+    void testCheckReplicas_laggingReplicaOut_recoveredReplicaBackIn() throws SQLException {
+        ResultSet lag = stubLagQuery(firstConnection);
+        when(lag.getLong(1)).thenReturn(60_000L, 100L);
+        stubLagQuery(secondConnection);
+        ReplicaDataSource dataSource = replicas(ReplicaSelection.ROUND_ROBIN, first, second);
+
+        dataSource.checkReplicas();
+        assertThat(dataSource.candidates()).extracting(ReplicaDataSource.Replica::name).containsExactly("replica-1");
+
+        dataSource.checkReplicas();
+        assertThat(dataSource.candidates()).hasSize(2);
+    }
+
+    @Test
+    void testCheckReplicas_unreachableReplica_fallBackToPrimary() throws SQLException {
+        when(first.getConnection()).thenThrow(new SQLException("timeout"));
+        ReplicaDataSource dataSource = replicas(ReplicaSelection.ROUND_ROBIN, first);
+
+        dataSource.checkReplicas();
+
+        assertThat(dataSource.getConnection()).isSameAs(primaryConnection);
+    }
+
+    private ReplicaDataSource replicas(ReplicaSelection selection, DataSource... pools) {
+        List<ReplicaDataSource.Replica> replicas = new ArrayList<>();
+        for (int i = 0; i < pools.length; i++) {
+            replicas.add(new ReplicaDataSource.Replica("replica-" + i, pools[i]));
+        }
+        return new ReplicaDataSource(primary, replicas, selection, Duration.ofSeconds(5));
+    }
+
+    private static HikariDataSource hikari(int activeConnections) {
+        HikariDataSource pool = mock(HikariDataSource.class);
+        HikariPoolMXBean mxBean = mock(HikariPoolMXBean.class);
+        when(pool.getHikariPoolMXBean()).thenReturn(mxBean);
+        when(mxBean.getActiveConnections()).thenReturn(activeConnections);
+        return pool;
+    }
+
+    private static ResultSet stubLagQuery(Connection connection) throws SQLException {
+        Statement statement = mock(Statement.class);
+        ResultSet rs = mock(ResultSet.class);
+        when(connection.createStatement()).thenReturn(statement);
+        when(statement.executeQuery(ReplicaDataSource.LAG_SQL)).thenReturn(rs);
+        when(rs.next()).thenReturn(true);
+        return rs;
+    }
+}
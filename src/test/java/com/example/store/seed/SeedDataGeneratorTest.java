@@ -0,0 +1,108 @@
+package com.example.store.seed;
+
+import com.example.store.service.ImportTable;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SeedDataGeneratorTest {
+
+    private final SeedSpec spec = new SeedSpec(10, 20, 100, 3, 7L);
+    private final SeedDataGenerator generator = new SeedDataGenerator(spec);
+
+    @Test
+    void testWrite_customers_headerAndDenseIds() throws IOException {
+        List<String> lines = write(ImportTable.CUSTOMERS);
+
+        assertThat(lines.get(0)).isEqualTo("id,name");
+        assertThat(lines).hasSize(11);
+        assertThat(lines.subList(1, lines.size()))
+                .extracting(line -> line.substring(0, line.indexOf(',')))
+                .containsExactlyElementsOf(IntStream.rangeClosed(1, 10).mapToObj(String::valueOf).toList());
+        assertThat(lines.get(1)).matches("1,\\w+ \\w+");
+    }
+
+    @Test
+    void testWrite_orders_referenceGeneratedCustomers() throws IOException {
+        List<String> lines = write(ImportTable.ORDERS);
+
+        assertThat(lines.get(0)).isEqualTo("id,description,customer_id");
+        assertThat(lines).hasSize(101);
+        lines.subList(1, lines.size()).forEach(line -> {
+            String[] columns = line.split(",");
+            assertThat(columns).hasSize(3);
+            assertThat(Integer.parseInt(columns[2])).isBetween(1, 10);
+        });
+    }
+
+    @Test
+    void testWrite_orderProducts_distinctProductsPerOrder() throws IOException {
+        List<String> lines = write(ImportTable.ORDER_PRODUCTS);
+
+        assertThat(lines.get(0)).isEqualTo("order_id,product_id");
+        assertThat(lines).hasSize(1 + 300);
+        assertThat(generator.rowCount(ImportTable.ORDER_PRODUCTS)).isEqualTo(300);
+        for (int order = 0; order < 100; order++) {
+            List<String[]> rows = lines.subList(1 + order * 3, 4 + order * 3).stream()
+                    .map(line -> line.split(","))
+                    .toList();
+            assertThat(rows).extracting(row -> row[0]).containsOnly(String.valueOf(order + 1));
+            assertThat(rows).extracting(row -> Integer.parseInt(row[1])).isSorted().doesNotHaveDuplicates();
+        }
+    }
+
+    @Test
+    void testWrite_sameSeed_sameRows() throws IOException {
+        List<String> again = lines(new SeedDataGenerator(new SeedSpec(10, 20, 100, 3, 7L)), ImportTable.ORDERS);
+        List<String> otherSeed = lines(new SeedDataGenerator(new SeedSpec(10, 20, 100, 3, 8L)), ImportTable.ORDERS);
+
+        assertThat(write(ImportTable.ORDERS)).isEqualTo(again).isNotEqualTo(otherSeed);
+    }
+
+    @Test
+    void testSampleProducts_allProducts_returnEveryIdOnce() {
+        SeedDataGenerator full = new SeedDataGenerator(new SeedSpec(1, 5, 1, 10, 1L));
+        int[] ids = new int[5];
+
+        full.sampleProducts(new SplittableRandom(3), ids);
+
+        assertThat(Arrays.stream(ids).boxed().toList()).containsExactly(1, 2, 3, 4, 5);
+    }
+
+    @Test
+    void testSeedSpec_invalidSizes_throw() {
+        assertThatThrownBy(() -> new SeedSpec(-1, 0, 0, 0, 1L)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new SeedSpec(0, 0, 10, 0, 1L)).isInstanceOf(IllegalArgumentException.class);
+        assertThat(new SeedSpec(1, 0, 10, 3, 1L).linksPerOrder()).isZero();
+    }
+
+    @Test
+    void testSeedDataChange_validateReportsInvalidSpec() {
+        SeedDataChange change = new SeedDataChange();
+        change.setOrders(10);
+
+        assertThat(change.validate(null).hasErrors()).isTrue();
+
+        change.setCustomers(1);
+        assertThat(change.validate(null).hasErrors()).isFalse();
+        assertThat(change.getConfirmationMessage()).isEqualTo("Seeded 1 customers, 0 products and 10 orders");
+    }
+
+    private List<String> write(ImportTable table) throws IOException {
+        return lines(generator, table);
+    }
+
+    private static List<String> lines(SeedDataGenerator generator, ImportTable table) throws IOException {
+        StringWriter out = new StringWriter();
+        generator.write(table, out);
+        return out.toString().lines().toList();
+    }
+}
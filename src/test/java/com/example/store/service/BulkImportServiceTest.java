@@ -0,0 +1,187 @@
+package com.example.store.service;
+
+import com.example.store.dto.ImportResultDTO;
+import com.example.store.repository.OrderViewRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.postgresql.copy.CopyManager;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BulkImportServiceTest {
+
+    @Mock
+    private DataSource dataSource;
+
+    @Mock
+    private Connection connection;
+
+    @Mock
+    private PGConnection pgConnection;
+
+    @Mock
+    private CopyManager copyManager;
+
+    @Mock
+    private CopyIn copyIn;
+
+    @Mock
+    private Statement statement;
+
+    @Mock
+    private CacheManager cacheManager;
+
+    @Mock
+    private Cache cache;
+
+    @Mock
+    private CustomerNameIndex customerNameIndex;
+
+    @Mock
+    private EntityManagerFactory entityManagerFactory;
+
+    @Mock
+    private jakarta.persistence.Cache secondLevelCache;
+
+    @Mock
+    private KnownIds knownIds;
+
+    private BulkImportService bulkImportService;
+
+    private final ByteArrayOutputStream copied = new ByteArrayOutputStream();
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        bulkImportService = new BulkImportService(dataSource, cacheManager, customerNameIndex, new ObjectMapper(),
+                entityManagerFactory, knownIds);
+        lenient().when(entityManagerFactory.getCache()).thenReturn(secondLevelCache);
+
+        lenient().when(dataSource.getConnection()).thenReturn(connection);
+        lenient().when(connection.unwrap(PGConnection.class)).thenReturn(pgConnection);
+        lenient().when(pgConnection.getCopyAPI()).thenReturn(copyManager);
+        lenient().when(copyManager.copyIn(anyString())).thenReturn(copyIn);
+        lenient().doAnswer(invocation -> {
+            copied.write(invocation.getArgument(0), invocation.getArgument(1), invocation.getArgument(2));
+            return null;
+        }).when(copyIn).writeToCopy(any(byte[].class), anyInt(), anyInt());
+    }
+
+    @Test
+    void testImportCsv_customers_copyFixSequenceEvictAndReindex() throws Exception {
+        String csv = "id,name\n1,Ada\n2,\"Lovelace, Ada\"\n";
+        when(copyIn.getHandledRowCount()).thenReturn(2L);
+        when(connection.createStatement()).thenReturn(statement);
+        when(cacheManager.getCache("customersPage")).thenReturn(cache);
+
+        ImportResultDTO result = bulkImportService.importCsv(ImportTable.CUSTOMERS, input(csv));
+
+        assertThat(result.table()).isEqualTo("customers");
+        assertThat(result.rows()).isEqualTo(2L);
+        verify(copyManager).copyIn("COPY customer (id, name) FROM STDIN WITH (FORMAT csv, HEADER true)");
+        assertThat(copied.toString(StandardCharsets.UTF_8)).isEqualTo(csv);
+        verify(statement).execute("SELECT setval('customer_id_seq', GREATEST((SELECT COALESCE(MAX(id), 1) FROM customer), "
+                + "(SELECT last_value FROM customer_id_seq)))");
+        verify(connection).setAutoCommit(false);
+        verify(statement, never()).execute(ImportTable.CUSTOMERS.createStagingSql());
+        verify(connection).commit();
+        verify(cache).clear();
+        verify(customerNameIndex).rebuild();
+    }
+
+    @Test
+    void testImportNdjson_orderProducts_stageAndRefreshOnlyTheirOrders() throws Exception {
+        String ndjson = "{\"order_id\":1,\"product_id\":2}\n{\"order_id\":1,\"product_id\":3}\n";
+        when(copyIn.getHandledRowCount()).thenReturn(2L);
+        when(connection.createStatement()).thenReturn(statement);
+        when(cacheManager.getCache(anyString())).thenReturn(cache);
+
+        ImportResultDTO result = bulkImportService.importNdjson(ImportTable.ORDER_PRODUCTS, input(ndjson));
+
+        assertThat(result.rows()).isEqualTo(2L);
+        assertThat(copied.toString(StandardCharsets.UTF_8)).isEqualTo("order_id,product_id\n\"1\",\"2\"\n\"1\",\"3\"\n");
+        verify(copyManager).copyIn(
+                "COPY import_staging (order_id, product_id) FROM STDIN WITH (FORMAT csv, HEADER true)");
+        InOrder inOrder = inOrder(statement);
+        inOrder.verify(statement).execute(
+                "CREATE TEMP TABLE import_staging (LIKE order_product INCLUDING DEFAULTS) ON COMMIT DROP");
+        inOrder.verify(statement).execute(
+                "INSERT INTO order_product (order_id, product_id) SELECT order_id, product_id FROM import_staging");
+        inOrder.verify(statement).execute(OrderViewRepository.UPSERT_SQL
+                + "WHERE o.id IN (SELECT order_id FROM import_staging)" + OrderViewRepository.ON_CONFLICT_IF_CHANGED);
+        verify(statement, never()).execute(OrderViewRepository.REFRESH_ALL_SQL);
+        verify(connection).commit();
+        verify(cacheManager).getCache("orderById");
+        verify(cacheManager).getCache("productById");
+        verify(cache, times(4)).clear();
+        verify(secondLevelCache).evictAll();
+        verifyNoInteractions(customerNameIndex, knownIds);
+    }
+
+    @Test
+    void testImportNdjson_quotesAndNulls_escapeForCopy() throws Exception {
+        String ndjson = "{\"id\":5,\"description\":\"12\\\" pipe, \\\"brass\\\"\"}\n{\"id\":6,\"description\":null}\n";
+        when(copyIn.getHandledRowCount()).thenReturn(2L);
+        when(connection.createStatement()).thenReturn(statement);
+
+        bulkImportService.importNdjson(ImportTable.PRODUCTS, input(ndjson));
+
+        assertThat(copied.toString(StandardCharsets.UTF_8))
+                .isEqualTo("id,description\n\"5\",\"12\"\" pipe, \"\"brass\"\"\"\n\"6\",\n");
+        verify(knownIds).rebuild(KnownIds.Kind.PRODUCT);
+    }
+
+    @Test
+    void testImportCsv_copyFails_rollbackAndReturnBadRequest() throws Exception {
+        when(copyIn.endCopy()).thenThrow(new SQLException("duplicate key value violates unique constraint"));
+        when(connection.createStatement()).thenReturn(statement);
+
+        assertThatThrownBy(() -> bulkImportService.importCsv(ImportTable.ORDERS, input("id,description,customer_id\n")))
+                .isInstanceOf(ResponseStatusException.class)
+                .hasMessageContaining("duplicate key")
+                .extracting("status")
+                .isEqualTo(HttpStatus.BAD_REQUEST);
+
+        verify(connection).rollback();
+        verify(connection, never()).commit();
+        verifyNoInteractions(cacheManager, customerNameIndex);
+    }
+
+    @Test
+    void testFromPath_unknownTable_throwBadRequest() {
+        assertThat(ImportTable.fromPath("order-products")).isEqualTo(ImportTable.ORDER_PRODUCTS);
+        assertThatThrownBy(() -> ImportTable.fromPath("users"))
+                .isInstanceOf(ResponseStatusException.class)
+                .hasMessageContaining("Unknown import table users");
+    }
+
+    private static ByteArrayInputStream input(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
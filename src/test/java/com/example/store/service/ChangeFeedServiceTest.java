@@ -0,0 +1,82 @@
+package com.example.store.service;
+
+import com.example.store.dto.ChangeFeedDTO;
+import com.example.store.dto.OrderDTO;
+import com.example.store.pagination.ChangeToken;
+import com.example.store.repository.ChangeFeedRepository;
+import com.example.store.repository.projection.ChangeRow;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+class ChangeFeedServiceTest {
+
+    private final ChangeFeedRepository changeFeedRepository = mock(ChangeFeedRepository.class);
+    private final ChangeFeedService changeFeedService = new ChangeFeedService(changeFeedRepository, new ObjectMapper());
+
+    @Test
+    void testGetChanges_groupRowsByKindAndReturnLastPosition() {
+        when(changeFeedRepository.findChangesAfter(ChangeToken.START, 11)).thenReturn(List.of(
+                new ChangeRow(ChangeRow.CUSTOMER, 700, 5, "Alice", null),
+                new ChangeRow(ChangeRow.PRODUCT, 700, 9, "Widget", null),
+                new ChangeRow(ChangeRow.ORDER, 701, 3, null,
+                        "{\"id\":3,\"description\":\"Gift\",\"customer\":{\"id\":5,\"name\":\"Alice\"},\"products\":[]}"
+                                .getBytes(StandardCharsets.UTF_8))));
+
+        ChangeFeedDTO changes = changeFeedService.getChanges(null, 10);
+
+        assertThat(changes.customers()).singleElement().satisfies(customer -> {
+            assertThat(customer.getId()).isEqualTo(5L);
+            assertThat(customer.getName()).isEqualTo("Alice");
+        });
+        assertThat(changes.products()).singleElement().satisfies(product -> assertThat(product.getDescription()).isEqualTo("Widget"));
+        assertThat(changes.orders()).extracting(OrderDTO::getDescription).containsExactly("Gift");
+        assertThat(ChangeToken.decode(changes.next())).isEqualTo(new ChangeToken(701, ChangeRow.ORDER, 3));
+        assertThat(changes.hasMore()).isFalse();
+    }
+
+    @Test
+    void testGetChanges_extraRow_hasMoreAndTokenAtLastReturnedRow() {
+        ChangeToken since = new ChangeToken(650, ChangeRow.PRODUCT, 2);
+        when(changeFeedRepository.findChangesAfter(since, 3)).thenReturn(List.of(
+                new ChangeRow(ChangeRow.CUSTOMER, 700, 1, "A", null),
+                new ChangeRow(ChangeRow.CUSTOMER, 700, 2, "B", null),
+                new ChangeRow(ChangeRow.CUSTOMER, 700, 3, "C", null)));
+
+        ChangeFeedDTO changes = changeFeedService.getChanges(since.encode(), 2);
+
+        assertThat(changes.customers()).hasSize(2);
+        assertThat(changes.hasMore()).isTrue();
+        assertThat(ChangeToken.decode(changes.next())).isEqualTo(new ChangeToken(700, ChangeRow.CUSTOMER, 2));
+    }
+
+    @Test
+    void testGetChanges_nothingNew_returnSameToken() {
+        ChangeToken since = new ChangeToken(700, ChangeRow.ORDER, 3);
+        when(changeFeedRepository.findChangesAfter(any(ChangeToken.class), anyInt())).thenReturn(List.of());
+
+        ChangeFeedDTO changes = changeFeedService.getChanges(since.encode(), 50);
+
+        assertThat(changes.orders()).isEmpty();
+        assertThat(changes.next()).isEqualTo(since.encode());
+    }
+
+    @Test
+    void testGetChanges_invalidToken_throwBadRequest() {
+        assertThatThrownBy(() -> changeFeedService.getChanges("not-a-token", 50))
+                .isInstanceOf(ResponseStatusException.class)
+                .extracting(e -> ((ResponseStatusException) e).getStatusCode())
+                .isEqualTo(HttpStatus.BAD_REQUEST);
+        verifyNoInteractions(changeFeedRepository);
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.store.service;
+
+import com.example.store.cache.CacheInvalidationBus;
+import com.example.store.dto.CustomerSuggestionDTO;
+import com.example.store.repository.CustomerRepository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.CacheManager;
+
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CustomerNameIndexTest {
+
+    @Mock
+    private CustomerRepository customerRepository;
+
+    @Mock
+    private CacheManager cacheManager;
+
+    @Mock
+    private ObjectProvider<CacheInvalidationBus> bus;
+
+    @InjectMocks
+    private CustomerNameIndex customerNameIndex;
+
+    @BeforeEach
+    void setUp() {
+        when(customerRepository.streamAllNames()).thenReturn(Stream.of(
+                new CustomerSuggestionDTO(1L, "Alice Johnson"),
+                new CustomerSuggestionDTO(2L, "Bob Johnston"),
+                new CustomerSuggestionDTO(3L, "Carol O'Neil"),
+                new CustomerSuggestionDTO(4L, "Alicia Keys")));
+        customerNameIndex.rebuild();
+    }
+
+    @Test
+    void testRebuild_marksIndexReady() {
+        assertThat(customerNameIndex.isReady()).isTrue();
+    }
+
+    @Test
+    void testSearch_substringInsideWord_returnNewestFirst() {
+        assertThat(customerNameIndex.search("ohnst", 10))
+                .extracting(CustomerSuggestionDTO::getId).containsExactly(2L);
+        assertThat(customerNameIndex.search("JOHN", 10))
+                .extracting(CustomerSuggestionDTO::getId).containsExactly(2L, 1L);
+    }
+
+    @Test
+    void testSearch_shortTerm_matchesWordPrefix() {
+        assertThat(customerNameIndex.search("k", 10))
+                .extracting(CustomerSuggestionDTO::getName).containsExactly("Alicia Keys");
+        assertThat(customerNameIndex.search("al", 10))
+                .extracting(CustomerSuggestionDTO::getId).containsExactly(4L, 1L);
+    }
+
+    @Test
+    void testSearch_multipleWords_matchPhrase() {
+        assertThat(customerNameIndex.search("alice john", 10))
+                .extracting(CustomerSuggestionDTO::getId).containsExactly(1L);
+        assertThat(customerNameIndex.search("o'neil", 10))
+                .extracting(CustomerSuggestionDTO::getId).containsExactly(3L);
+        assertThat(customerNameIndex.search("john alice", 10)).isEmpty();
+    }
+
+    @Test
+    void testSearch_respectsLimit() {
+        assertThat(customerNameIndex.search("john", 1))
+                .extracting(CustomerSuggestionDTO::getId).containsExactly(2L);
+    }
+
+    @Test
+    void testSearch_unknownTrigram_returnEmpty() {
+        assertThat(customerNameIndex.search("xyz", 10)).isEmpty();
+        assertThat(customerNameIndex.search("  ", 10)).isEmpty();
+    }
+
+    @Test
+    void testAdd_newCustomerSearchableImmediately() {
+        customerNameIndex.add(5L, "Johnny Cash");
+        customerNameIndex.add(5L, "Johnny Cash");
+
+        assertThat(customerNameIndex.search("john", 10))
+                .extracting(CustomerSuggestionDTO::getId).containsExactly(5L, 2L, 1L);
+    }
+}
@@ -1,9 +1,18 @@
 package com.example.store.service;
 
+import com.example.store.dto.CursorPage;
 import com.example.store.dto.CustomerDTO;
+import com.example.store.dto.CustomerOrderDTO;
+import com.example.store.dto.CustomerSuggestionDTO;
+import com.example.store.dto.CustomerSummaryDTO;
 import com.example.store.entity.Customer;
 import com.example.store.mapper.CustomerMapper;
+import com.example.store.pagination.CursorCodec;
 import com.example.store.repository.CustomerRepository;
+import com.example.store.repository.projection.CustomerOrderRow;
+import com.example.store.repository.projection.CustomerRow;
+import com.example.store.repository.projection.CustomerSummaryRow;
+import com.example.store.repository.projection.LatestOrderView;
 
 import com.example.store.support.Factory;
 import org.junit.jupiter.api.BeforeEach;
@@ -15,10 +24,16 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.http.HttpStatus;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
 
 import java.lang.reflect.Method;
 import java.util.List;
@@ -26,7 +41,10 @@ import java.util.List;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -38,91 +56,94 @@ class CustomerServiceTest {
     @Mock
     private CustomerMapper customerMapper;
 
+    @Mock
+    private CustomerNameIndex customerNameIndex;
+
     @InjectMocks
     private CustomerService customerService;
 
     private Customer customer1;
     private Customer customer2;
-    private CustomerDTO customerDTO1;
-    private CustomerDTO customerDTO2;
     private Pageable pageable;
+    private CustomerRow customerRow1;
+    private CustomerRow customerRow2;
 
     @BeforeEach
     void setUp() {
         customer1 = Factory.buildCustomer(1L, "Customer 1");
         customer2 = Factory.buildCustomer(2L, "Customer 2");
 
-        customerDTO1 = Factory.buildCustomerDTO(1L, "Customer 1");
-        customerDTO2 = Factory.buildCustomerDTO(2L, "Customer 2");
-
         pageable = PageRequest.of(0, 10);
+
+        customerRow1 = new CustomerRow(1L, "Customer 1");
+        customerRow2 = new CustomerRow(2L, "Customer 2");
     }
 
     @Test
     void testGetAllCustomers_withNullName_returnAllCustomers() {
-        List<Customer> customerList = List.of(customer1, customer2);
-        Page<Customer> customerPage = new PageImpl<>(customerList, pageable, customerList.size());
+        List<CustomerRow> customerRows = List.of(customerRow1, customerRow2);
+        Page<CustomerRow> customerPage = new PageImpl<>(customerRows, pageable, customerRows.size());
 
-        when(customerRepository.findAll(pageable)).thenReturn(customerPage);
-        when(customerMapper.customerToCustomerDTO(customer1)).thenReturn(customerDTO1);
-        when(customerMapper.customerToCustomerDTO(customer2)).thenReturn(customerDTO2);
+        when(customerRepository.findCustomerRows(pageable)).thenReturn(customerPage);
+        when(customerRepository.findOrderRowsByCustomerIds(List.of(1L, 2L)))
+                .thenReturn(List.of(new CustomerOrderRow(1L, 10L, "Order 10"), new CustomerOrderRow(1L, 11L, "Order 11")));
 
         Page<CustomerDTO> result = customerService.getAllCustomers(null, pageable);
 
         assertThat(result).isNotNull();
         assertThat(result.getContent()).hasSize(2);
         assertThat(result.getContent().get(0).getName()).isEqualTo("Customer 1");
+        assertThat(result.getContent().get(0).getOrders()).extracting("id").containsExactly(10L, 11L);
+        assertThat(result.getContent().get(0).getOrders()).extracting("description").containsExactly("Order 10", "Order 11");
         assertThat(result.getContent().get(1).getName()).isEqualTo("Customer 2");
+        assertThat(result.getContent().get(1).getOrders()).isEmpty();
 
-        verify(customerRepository).findAll(pageable);
-        verify(customerRepository, never()).findByNameContainingIgnoreCase(anyString(), any(Pageable.class));
-        verify(customerMapper, times(2)).customerToCustomerDTO(any(Customer.class));
+        verify(customerRepository).findCustomerRows(pageable);
+        verify(customerRepository, never()).searchRowsByName(anyString(), any(Pageable.class));
+        verifyNoInteractions(customerMapper);
     }
 
     @Test
     void testGetAllCustomers_withEmptyName_returnAllCustomers() {
-        List<Customer> customerList = List.of(customer1, customer2);
-        Page<Customer> customerPage = new PageImpl<>(customerList, pageable, customerList.size());
+        List<CustomerRow> customerRows = List.of(customerRow1, customerRow2);
+        Page<CustomerRow> customerPage = new PageImpl<>(customerRows, pageable, customerRows.size());
 
-        when(customerRepository.findAll(pageable)).thenReturn(customerPage);
-        when(customerMapper.customerToCustomerDTO(customer1)).thenReturn(customerDTO1);
-        when(customerMapper.customerToCustomerDTO(customer2)).thenReturn(customerDTO2);
+        when(customerRepository.findCustomerRows(pageable)).thenReturn(customerPage);
+        when(customerRepository.findOrderRowsByCustomerIds(List.of(1L, 2L))).thenReturn(List.of());
 
         Page<CustomerDTO> result = customerService.getAllCustomers("", pageable);
 
         assertThat(result).isNotNull();
         assertThat(result.getContent()).hasSize(2);
 
-        verify(customerRepository).findAll(pageable);
-        verify(customerRepository, never()).findByNameContainingIgnoreCase(anyString(), any(Pageable.class));
+        verify(customerRepository).findCustomerRows(pageable);
+        verify(customerRepository, never()).searchRowsByName(anyString(), any(Pageable.class));
     }
 
     @Test
     void testGetAllCustomers_withBlankName_returnAllCustomers() {
-        List<Customer> customerList = List.of(customer1, customer2);
-        Page<Customer> customerPage = new PageImpl<>(customerList, pageable, customerList.size());
+        List<CustomerRow> customerRows = List.of(customerRow1, customerRow2);
+        Page<CustomerRow> customerPage = new PageImpl<>(customerRows, pageable, customerRows.size());
 
-        when(customerRepository.findAll(pageable)).thenReturn(customerPage);
-        when(customerMapper.customerToCustomerDTO(customer1)).thenReturn(customerDTO1);
-        when(customerMapper.customerToCustomerDTO(customer2)).thenReturn(customerDTO2);
+        when(customerRepository.findCustomerRows(pageable)).thenReturn(customerPage);
+        when(customerRepository.findOrderRowsByCustomerIds(List.of(1L, 2L))).thenReturn(List.of());
 
         Page<CustomerDTO> result = customerService.getAllCustomers("   ", pageable);
 
         assertThat(result).isNotNull();
         assertThat(result.getContent()).hasSize(2);
 
-        verify(customerRepository).findAll(pageable);
-        verify(customerRepository, never()).findByNameContainingIgnoreCase(anyString(), any(Pageable.class));
+        verify(customerRepository).findCustomerRows(pageable);
+        verify(customerRepository, never()).searchRowsByName(anyString(), any(Pageable.class));
     }
 
     @Test
     void testGetAllCustomers_withValidName_returnFilteredCustomers() {
         String searchName = "Customer 1";
-        List<Customer> customerList = List.of(customer1);
-        Page<Customer> customerPage = new PageImpl<>(customerList, pageable, 1);
+        Page<CustomerRow> customerPage = new PageImpl<>(List.of(customerRow1), pageable, 1);
 
-        when(customerRepository.findByNameContainingIgnoreCase(searchName, pageable)).thenReturn(customerPage);
-        when(customerMapper.customerToCustomerDTO(customer1)).thenReturn(customerDTO1);
+        when(customerRepository.searchRowsByName("%customer 1%", pageable)).thenReturn(customerPage);
+        when(customerRepository.findOrderRowsByCustomerIds(List.of(1L))).thenReturn(List.of());
 
         Page<CustomerDTO> result = customerService.getAllCustomers(searchName, pageable);
 
@@ -130,43 +151,247 @@ class CustomerServiceTest {
         assertThat(result.getContent()).hasSize(1);
         assertThat(result.getContent().get(0).getName()).isEqualTo("Customer 1");
 
-        verify(customerRepository).findByNameContainingIgnoreCase(searchName, pageable);
-        verify(customerRepository, never()).findAll(any(Pageable.class));
-        verify(customerMapper).customerToCustomerDTO(customer1);
+        verify(customerRepository).searchRowsByName("%customer 1%", pageable);
+        verify(customerRepository, never()).findCustomerRows(any(Pageable.class));
     }
 
     @Test
     void testGetAllCustomers_withNameWithSpaces_trimAndSearch() {
         String searchName = "    Customer 1    ";
-        String trimmedName = "Customer 1";
-        List<Customer> customerList = List.of(customer1);
-        Page<Customer> customerPage = new PageImpl<>(customerList, pageable, 1);
+        Page<CustomerRow> customerPage = new PageImpl<>(List.of(customerRow1), pageable, 1);
 
-        when(customerRepository.findByNameContainingIgnoreCase(trimmedName, pageable)).thenReturn(customerPage);
-        when(customerMapper.customerToCustomerDTO(customer1)).thenReturn(customerDTO1);
+        when(customerRepository.searchRowsByName("%customer 1%", pageable)).thenReturn(customerPage);
+        when(customerRepository.findOrderRowsByCustomerIds(List.of(1L))).thenReturn(List.of());
 
         Page<CustomerDTO> result = customerService.getAllCustomers(searchName, pageable);
 
         assertThat(result).isNotNull();
         assertThat(result.getContent()).hasSize(1);
 
-        verify(customerRepository).findByNameContainingIgnoreCase(trimmedName, pageable);
-        verify(customerRepository, never()).findAll(any(Pageable.class));
+        verify(customerRepository).searchRowsByName("%customer 1%", pageable);
+        verify(customerRepository, never()).findCustomerRows(any(Pageable.class));
     }
 
     @Test
     void testGetAllCustomers_withEmptyResult_returnEmptyPage() {
-        Page<Customer> emptyPage = new PageImpl<>(List.of(), pageable, 0);
+        Page<CustomerRow> emptyPage = new PageImpl<>(List.of(), pageable, 0);
 
-        when(customerRepository.findAll(pageable)).thenReturn(emptyPage);
+        when(customerRepository.findCustomerRows(pageable)).thenReturn(emptyPage);
         Page<CustomerDTO> result = customerService.getAllCustomers(null, pageable);
 
         assertThat(result).isNotNull();
         assertThat(result.getContent()).isEmpty();
         assertThat(result.getTotalElements()).isZero();
 
-        verify(customerRepository).findAll(pageable);
-        verify(customerMapper, never()).customerToCustomerDTO(any(Customer.class));
+        verify(customerRepository).findCustomerRows(pageable);
+        verify(customerRepository, never()).findOrderRowsByCustomerIds(anyCollection());
+    }
+
+    @Test
+    void testGetCustomersSlice_withName_searchWithoutCount() {
+        when(customerRepository.searchRowSliceByName("%customer%", pageable))
+                .thenReturn(new SliceImpl<>(List.of(customerRow1), pageable, false));
+        when(customerRepository.findOrderRowsByCustomerIds(List.of(1L)))
+                .thenReturn(List.of(new CustomerOrderRow(1L, 10L, "Order 10")));
+
+        Slice<CustomerDTO> result = customerService.getCustomersSlice(" Customer ", pageable);
+
+        assertThat(result.getContent()).extracting(CustomerDTO::getName).containsExactly("Customer 1");
+        assertThat(result.getContent().get(0).getOrders()).extracting(CustomerOrderDTO::getId).containsExactly(10L);
+        verify(customerRepository, never()).searchRowsByName(anyString(), any(Pageable.class));
+        verifyNoInteractions(customerMapper);
+    }
+
+    @Test
+    void testGetCustomersSlice_withoutName_returnAllWithoutCount() {
+        when(customerRepository.findCustomerRowSlice(pageable)).thenReturn(new SliceImpl<>(List.of(customerRow1), pageable, true));
+        when(customerRepository.findOrderRowsByCustomerIds(List.of(1L))).thenReturn(List.of());
+
+        Slice<CustomerDTO> result = customerService.getCustomersSlice(null, pageable);
+
+        assertThat(result.getContent()).extracting(CustomerDTO::getId).containsExactly(1L);
+        assertThat(result.getContent().get(0).getOrders()).isEmpty();
+        assertThat(result.hasNext()).isTrue();
+    }
+
+    @Test
+    void testGetCustomersWithEstimatedTotal_withoutName_returnEstimate() {
+        when(customerRepository.findCustomerRowSlice(pageable)).thenReturn(new SliceImpl<>(List.of(customerRow1), pageable, true));
+        when(customerRepository.findOrderRowsByCustomerIds(List.of(1L))).thenReturn(List.of());
+        when(customerRepository.estimateCount()).thenReturn(100L);
+
+        Page<CustomerDTO> result = customerService.getCustomersWithEstimatedTotal("", pageable);
+
+        assertThat(result.getTotalElements()).isEqualTo(100L);
+        assertThat(result.getContent()).extracting(CustomerDTO::getId).containsExactly(1L);
+        verify(customerRepository, never()).findAll(any(Pageable.class));
+        verifyNoInteractions(customerMapper);
+    }
+
+    @Test
+    void testGetCustomersWithEstimatedTotal_withName_returnExactTotal() {
+        when(customerRepository.searchRowsByName("%customer%", pageable))
+                .thenReturn(new PageImpl<>(List.of(customerRow1), pageable, 1));
+        when(customerRepository.findOrderRowsByCustomerIds(List.of(1L))).thenReturn(List.of());
+
+        Page<CustomerDTO> result = customerService.getCustomersWithEstimatedTotal("Customer", pageable);
+
+        assertThat(result.getTotalElements()).isEqualTo(1L);
+        verify(customerRepository, never()).estimateCount();
+    }
+
+    @Test
+    void testGetCustomersByCursor_withoutName_returnNextCursor() {
+        when(customerRepository.findLatestRows(any(Limit.class))).thenReturn(List.of(customerRow2, customerRow1));
+        when(customerRepository.findOrderRowsByCustomerIds(List.of(2L)))
+                .thenReturn(List.of(new CustomerOrderRow(2L, 20L, "Order 20")));
+
+        CursorPage<CustomerDTO> result = customerService.getCustomersByCursor(null, null, 1);
+
+        assertThat(result.content()).extracting(CustomerDTO::getId).containsExactly(2L);
+        assertThat(result.content().get(0).getOrders()).extracting("id").containsExactly(20L);
+        assertThat(result.nextCursor()).isEqualTo(CursorCodec.encode(2L));
+        verifyNoInteractions(customerMapper);
+    }
+
+    @Test
+    void testGetCustomersByCursor_withoutName_seekPastLastId() {
+        when(customerRepository.findRowsByIdLessThan(eq(2L), any(Limit.class))).thenReturn(List.of(customerRow1));
+        when(customerRepository.findOrderRowsByCustomerIds(List.of(1L))).thenReturn(List.of());
+
+        CursorPage<CustomerDTO> result = customerService.getCustomersByCursor("  ", CursorCodec.encode(2L), 1);
+
+        assertThat(result.content()).extracting(CustomerDTO::getName).containsExactly("Customer 1");
+        assertThat(result.content().get(0).getOrders()).isEmpty();
+        assertThat(result.nextCursor()).isNull();
+    }
+
+    @Test
+    void testGetCustomersByCursor_withName_trimAndSearch() {
+        when(customerRepository.searchLatestRowsByName(eq("%customer%"), any(Limit.class)))
+                .thenReturn(List.of(customerRow2, customerRow1));
+        when(customerRepository.findOrderRowsByCustomerIds(List.of(2L, 1L))).thenReturn(List.of());
+
+        CursorPage<CustomerDTO> result = customerService.getCustomersByCursor(" Customer ", "", 5);
+
+        assertThat(result.content()).extracting(CustomerDTO::getId).containsExactly(2L, 1L);
+        assertThat(result.nextCursor()).isNull();
+        verify(customerRepository, never()).findLatestRows(any(Limit.class));
+    }
+
+    @Test
+    void testGetCustomersByCursor_withNameAndCursor_seekPastLastId() {
+        when(customerRepository.searchRowsByNameAndIdLessThan(eq("%customer%"), eq(2L), any(Limit.class)))
+                .thenReturn(List.of(customerRow1));
+        when(customerRepository.findOrderRowsByCustomerIds(List.of(1L))).thenReturn(List.of());
+
+        CursorPage<CustomerDTO> result = customerService.getCustomersByCursor("Customer", CursorCodec.encode(2L), 5);
+
+        assertThat(result.content()).extracting(CustomerDTO::getId).containsExactly(1L);
+        assertThat(result.nextCursor()).isNull();
+    }
+
+    @Test
+    void testGetCustomersByCursor_noMatch_skipOrderQuery() {
+        when(customerRepository.findLatestRows(any(Limit.class))).thenReturn(List.of());
+
+        CursorPage<CustomerDTO> result = customerService.getCustomersByCursor(null, null, 5);
+
+        assertThat(result.content()).isEmpty();
+        verify(customerRepository, never()).findOrderRowsByCustomerIds(any());
+    }
+
+    @Test
+    void testGetCustomerSummaries_withLatestOrders_returnCountAndNewestOrders() {
+        Page<CustomerSummaryRow> customerPage = new PageImpl<>(
+                List.of(new CustomerSummaryRow(1L, "Customer 1", 120L), new CustomerSummaryRow(2L, "Customer 2", 0L)), pageable, 2);
+        when(customerRepository.findCustomerSummaryRows(pageable)).thenReturn(customerPage);
+        when(customerRepository.findLatestOrders(List.of(1L, 2L), 2))
+                .thenReturn(List.of(latestOrder(1L, 120L, "Order 120"), latestOrder(1L, 119L, "Order 119")));
+
+        Page<CustomerSummaryDTO> result = customerService.getCustomerSummaries(null, 2, pageable);
+
+        assertThat(result.getContent()).hasSize(2);
+        CustomerSummaryDTO first = result.getContent().get(0);
+        assertThat(first.getOrderCount()).isEqualTo(120L);
+        assertThat(first.getOrders()).extracting(CustomerOrderDTO::getId).containsExactly(120L, 119L);
+        assertThat(result.getContent().get(1).getOrderCount()).isZero();
+        assertThat(result.getContent().get(1).getOrders()).isEmpty();
+        verify(customerRepository, never()).findOrderRowsByCustomerIds(anyCollection());
+    }
+
+    @Test
+    void testGetCustomerSummaries_withoutLatestOrders_skipOrderQuery() {
+        when(customerRepository.searchSummaryRowsByName("%customer%", pageable))
+                .thenReturn(new PageImpl<>(List.of(new CustomerSummaryRow(1L, "Customer 1", 3L)), pageable, 1));
+
+        Page<CustomerSummaryDTO> result = customerService.getCustomerSummaries(" Customer ", 0, pageable);
+
+        assertThat(result.getContent().get(0).getOrderCount()).isEqualTo(3L);
+        assertThat(result.getContent().get(0).getOrders()).isEmpty();
+        verify(customerRepository, never()).findLatestOrders(anyCollection(), anyInt());
+    }
+
+    @Test
+    void testGetCustomerSummaries_latestOrdersAboveMax_clamp() {
+        when(customerRepository.findCustomerSummaryRows(pageable))
+                .thenReturn(new PageImpl<>(List.of(new CustomerSummaryRow(1L, "Customer 1", 3L)), pageable, 1));
+        when(customerRepository.findLatestOrders(List.of(1L), CustomerService.MAX_LATEST_ORDERS)).thenReturn(List.of());
+
+        customerService.getCustomerSummaries(null, 1000, pageable);
+
+        verify(customerRepository).findLatestOrders(List.of(1L), CustomerService.MAX_LATEST_ORDERS);
+    }
+
+    @Test
+    void testGetCustomerOrders_firstPage_returnNextCursor() {
+        when(customerRepository.existsById(1L)).thenReturn(true);
+        when(customerRepository.findOrderRowsByCustomerId(eq(1L), any(Limit.class))).thenReturn(List.of(
+                new CustomerOrderRow(1L, 30L, "Order 30"),
+                new CustomerOrderRow(1L, 20L, "Order 20"),
+                new CustomerOrderRow(1L, 10L, "Order 10")));
+
+        CursorPage<CustomerOrderDTO> result = customerService.getCustomerOrders(1L, null, 2);
+
+        assertThat(result.content()).extracting(CustomerOrderDTO::getId).containsExactly(30L, 20L);
+        assertThat(result.nextCursor()).isEqualTo(CursorCodec.encode(20L));
+        ArgumentCaptor<Limit> limitCaptor = ArgumentCaptor.forClass(Limit.class);
+        verify(customerRepository).findOrderRowsByCustomerId(eq(1L), limitCaptor.capture());
+        assertThat(limitCaptor.getValue().max()).isEqualTo(3);
+    }
+
+    @Test
+    void testGetCustomerOrders_withCursor_seekPastLastId() {
+        when(customerRepository.existsById(1L)).thenReturn(true);
+        when(customerRepository.findOrderRowsByCustomerIdAndIdLessThan(eq(1L), eq(20L), any(Limit.class)))
+                .thenReturn(List.of(new CustomerOrderRow(1L, 10L, "Order 10")));
+
+        CursorPage<CustomerOrderDTO> result = customerService.getCustomerOrders(1L, CursorCodec.encode(20L), 2);
+
+        assertThat(result.content()).extracting(CustomerOrderDTO::getDescription).containsExactly("Order 10");
+        assertThat(result.nextCursor()).isNull();
+    }
+
+    @Test
+    void testGetCustomerOrders_unknownCustomer_throwNotFound() {
+        when(customerRepository.existsById(99L)).thenReturn(false);
+
+        ResponseStatusException exception =
+                assertThrows(ResponseStatusException.class, () -> customerService.getCustomerOrders(99L, null, 50));
+
+        assertThat(exception.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+        verify(customerRepository, never()).findOrderRowsByCustomerId(any(), any(Limit.class));
+    }
+
+    @Test
+    void testGetAllCustomers_withLikeWildcards_escapeSearchTerm() {
+        Page<CustomerRow> emptyPage = new PageImpl<>(List.of(), pageable, 0);
+        when(customerRepository.searchRowsByName("%50!%!_off!!%", pageable)).thenReturn(emptyPage);
+
+        Page<CustomerDTO> result = customerService.getAllCustomers("50%_OFF!", pageable);
+
+        assertThat(result.getContent()).isEmpty();
+        verify(customerRepository).searchRowsByName("%50!%!_off!!%", pageable);
     }
 
     @Test
@@ -210,6 +435,48 @@ class CustomerServiceTest {
         assertThat(capturedCustomer.getOrders()).isEmpty();
 
         verify(customerMapper).customerToCustomerDTO(savedCustomer);
+        verify(customerNameIndex).created(3L, customerName);
+    }
+
+    @Test
+    void testSuggestCustomers_indexReady_serveFromIndex() {
+        List<CustomerSuggestionDTO> suggestions = List.of(new CustomerSuggestionDTO(2L, "Customer 2"));
+        when(customerNameIndex.isReady()).thenReturn(true);
+        when(customerNameIndex.search("cust", 10)).thenReturn(suggestions);
+
+        List<CustomerSuggestionDTO> result = customerService.suggestCustomers("  cust ", 10);
+
+        assertThat(result).isEqualTo(suggestions);
+        verifyNoInteractions(customerRepository);
+    }
+
+    @Test
+    void testSuggestCustomers_indexLoading_fallBackToDatabase() {
+        when(customerNameIndex.isReady()).thenReturn(false);
+        when(customerRepository.searchLatestByName(eq("%cust%"), any(Limit.class))).thenReturn(List.of(customer2, customer1));
+
+        List<CustomerSuggestionDTO> result = customerService.suggestCustomers("Cust", 500);
+
+        assertThat(result).extracting(CustomerSuggestionDTO::getId).containsExactly(2L, 1L);
+        ArgumentCaptor<Limit> limitCaptor = ArgumentCaptor.forClass(Limit.class);
+        verify(customerRepository).searchLatestByName(eq("%cust%"), limitCaptor.capture());
+        assertThat(limitCaptor.getValue().max()).isEqualTo(CustomerService.MAX_SUGGESTIONS);
+    }
+
+    @Test
+    void testSuggestCustomers_notTransactional_onlyFallbackIs() throws NoSuchMethodException {
+        Method suggest = CustomerService.class.getMethod("suggestCustomers", String.class, int.class);
+        Method fallback = CustomerRepository.class.getMethod("searchLatestByName", String.class, Limit.class);
+
+        assertNull(suggest.getAnnotation(Transactional.class));
+        assertTrue(fallback.getAnnotation(Transactional.class).readOnly());
+    }
+
+    @Test
+    void testSuggestCustomers_blankQuery_returnEmpty() {
+        assertThat(customerService.suggestCustomers("  ", 10)).isEmpty();
+
+        verifyNoInteractions(customerNameIndex, customerRepository);
     }
 
     @Test
@@ -226,11 +493,10 @@ class CustomerServiceTest {
     @Test
     void testGetAllCustomers_multipleCallsWithSameName_shouldUseSameCache() {
         String searchName = "Test";
-        List<Customer> customerList = List.of(customer1);
-        Page<Customer> customerPage = new PageImpl<>(customerList, pageable, 1);
+        Page<CustomerRow> customerPage = new PageImpl<>(List.of(customerRow1), pageable, 1);
 
-        when(customerRepository.findByNameContainingIgnoreCase(searchName, pageable)).thenReturn(customerPage);
-        when(customerMapper.customerToCustomerDTO(customer1)).thenReturn(customerDTO1);
+        when(customerRepository.searchRowsByName("%test%", pageable)).thenReturn(customerPage);
+        when(customerRepository.findOrderRowsByCustomerIds(List.of(1L))).thenReturn(List.of());
 
         Page<CustomerDTO> result1 = customerService.getAllCustomers(searchName, pageable);
         Page<CustomerDTO> result2 = customerService.getAllCustomers(searchName, pageable);
@@ -258,4 +524,23 @@ class CustomerServiceTest {
 
         assertThat(result).isNotNull();
     }
-}
\ No newline at end of file
+
+    private static LatestOrderView latestOrder(Long customerId, Long id, String description) {
+        return new LatestOrderView() {
+            @Override
+            public Long getCustomerId() {
+                return customerId;
+            }
+
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getDescription() {
+                return description;
+            }
+        };
+    }
+}
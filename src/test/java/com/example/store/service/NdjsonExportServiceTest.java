@@ -0,0 +1,86 @@
+package com.example.store.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+class NdjsonExportServiceTest {
+
+    private final DataSource dataSource = mock(DataSource.class);
+    private final Connection connection = mock(Connection.class);
+    private final PreparedStatement statement = mock(PreparedStatement.class);
+    private final ResultSet resultSet = mock(ResultSet.class);
+    private final NdjsonExportService exportService = new NdjsonExportService(dataSource, 500, 1);
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement(ExportTable.ORDERS.sql(), ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY))
+                .thenReturn(statement);
+        when(statement.executeQuery()).thenReturn(resultSet);
+    }
+
+    @Test
+    void testAcquire_allSlotsTaken_serviceUnavailableUntilReleased() {
+        NdjsonExportService.Permit permit = exportService.acquire();
+
+        assertThatThrownBy(exportService::acquire)
+                .isInstanceOf(ResponseStatusException.class)
+                .extracting("status")
+                .isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+
+        permit.close();
+        permit.close();
+        exportService.acquire();
+        assertThatThrownBy(exportService::acquire).isInstanceOf(ResponseStatusException.class);
+    }
+
+    @Test
+    void testExport_writeOneLinePerRowThroughCursor() throws Exception {
+        when(resultSet.next()).thenReturn(true, true, false);
+        when(resultSet.getBytes(1)).thenReturn(bytes("{\"id\":1}"), bytes("{\"id\":2}"));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long rows = exportService.export(ExportTable.ORDERS, out);
+
+        assertThat(rows).isEqualTo(2);
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo("{\"id\":1}\n{\"id\":2}\n");
+        verify(connection).setReadOnly(true);
+        verify(connection).setAutoCommit(false);
+        verify(statement).setFetchSize(500);
+        verify(connection).commit();
+        verify(connection).close();
+    }
+
+    @Test
+    void testExport_queryFails_rollbackAndThrowIOException() throws Exception {
+        when(resultSet.next()).thenReturn(true).thenThrow(new SQLException("connection lost"));
+        when(resultSet.getBytes(1)).thenReturn(bytes("{\"id\":1}"));
+
+        assertThatThrownBy(() -> exportService.export(ExportTable.ORDERS, new ByteArrayOutputStream()))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("after 1 rows")
+                .hasRootCauseMessage("connection lost");
+        verify(connection).rollback();
+        verify(connection, never()).commit();
+        verify(connection).close();
+    }
+
+    private static byte[] bytes(String json) {
+        return json.getBytes(StandardCharsets.UTF_8);
+    }
+}
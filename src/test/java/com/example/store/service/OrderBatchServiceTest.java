@@ -0,0 +1,197 @@
+package com.example.store.service;
+
+import com.example.store.cache.CacheInvalidator;
+import com.example.store.dto.OrderBatchDTO;
+import com.example.store.dto.OrderBatchResultDTO;
+import com.example.store.dto.request.CreateOrderRequest;
+import com.example.store.entity.Order;
+import com.example.store.repository.CustomerRepository;
+import com.example.store.repository.OrderRepository;
+import com.example.store.repository.OrderViewRepository;
+import com.example.store.repository.ProductRepository;
+
+import com.example.store.support.Factory;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OrderBatchServiceTest {
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private CustomerRepository customerRepository;
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private OrderViewRepository orderViewRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private CacheInvalidator cacheInvalidator;
+
+    @Mock
+    private KnownIds knownIds;
+
+    private OrderBatchService orderBatchService;
+
+    private final AtomicLong nextId = new AtomicLong(100);
+
+    @BeforeEach
+    void setUp() {
+        orderBatchService = new OrderBatchService(orderRepository, customerRepository, productRepository, orderViewRepository, entityManager,
+                Validation.buildDefaultValidatorFactory().getValidator(), cacheInvalidator, knownIds);
+    }
+
+    @Test
+    void testCreateOrders_mixedBatch_returnPerItemResults() {
+        List<CreateOrderRequest> requests = List.of(
+                new CreateOrderRequest("Valid", 1L, List.of(1L, 2L, 2L)),
+                new CreateOrderRequest("Unknown customer", 99L, List.of(1L)),
+                new CreateOrderRequest("Unknown product", 1L, List.of(1L, 77L)),
+                new CreateOrderRequest(" ", 1L, List.of(1L)));
+        when(customerRepository.findExistingIds(anyCollection())).thenReturn(List.of(1L));
+        when(productRepository.findExistingIds(anyCollection())).thenReturn(List.of(1L, 2L));
+        stubReferences();
+        stubSaveAll();
+
+        OrderBatchDTO result = orderBatchService.createOrders(requests);
+
+        assertThat(result.created()).isEqualTo(1);
+        assertThat(result.rejected()).isEqualTo(3);
+        assertThat(result.results()).extracting(OrderBatchResultDTO::index).containsExactly(0, 1, 2, 3);
+        assertThat(result.results().get(0).status()).isEqualTo(OrderBatchResultDTO.Status.CREATED);
+        assertThat(result.results().get(0).orderId()).isEqualTo(100L);
+        assertThat(result.results().get(1).error()).isEqualTo("Not Found Customer by ID 99");
+        assertThat(result.results().get(2).error()).isEqualTo("Not Found Product IDs: [77]");
+        assertThat(result.results().get(3).error()).startsWith("description:");
+
+        ArgumentCaptor<Collection<Long>> customerIds = idsCaptor();
+        verify(customerRepository, times(1)).findExistingIds(customerIds.capture());
+        assertThat(customerIds.getValue()).containsExactlyInAnyOrder(1L, 99L);
+        ArgumentCaptor<Collection<Long>> productIds = idsCaptor();
+        verify(productRepository, times(1)).findExistingIds(productIds.capture());
+        assertThat(productIds.getValue()).containsExactlyInAnyOrder(1L, 2L, 77L);
+
+        verify(orderRepository, times(1)).saveAll(anyList());
+        verify(entityManager).flush();
+        verify(orderViewRepository).refresh(List.of(100L));
+        verify(entityManager).clear();
+        verify(cacheInvalidator).ordersCreated(Set.of(1L), Set.of(1L, 2L));
+        verify(knownIds).created(KnownIds.Kind.ORDER, List.of(100L));
+    }
+
+    @Test
+    void testCreateOrders_duplicateProductIds_insertEachProductOnce() {
+        when(customerRepository.findExistingIds(anyCollection())).thenReturn(List.of(1L));
+        when(productRepository.findExistingIds(anyCollection())).thenReturn(List.of(1L, 2L));
+        stubReferences();
+        List<Order> saved = new ArrayList<>();
+        when(orderRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<Order> orders = new ArrayList<>(invocation.getArgument(0));
+            saved.addAll(orders);
+            return orders;
+        });
+
+        orderBatchService.createOrders(List.of(new CreateOrderRequest("Order", 1L, List.of(2L, 1L, 2L))));
+
+        assertThat(saved).hasSize(1);
+        assertThat(saved.get(0).getProducts()).extracting("id").containsExactly(2L, 1L);
+    }
+
+    @Test
+    void testCreateOrders_largeBatch_flushInChunks() {
+        int size = OrderBatchService.FLUSH_CHUNK_SIZE * 2 + 1;
+        List<CreateOrderRequest> requests = IntStream.range(0, size)
+                .mapToObj(i -> new CreateOrderRequest("Order " + i, 1L, List.of(1L)))
+                .toList();
+        when(customerRepository.findExistingIds(anyCollection())).thenReturn(List.of(1L));
+        when(productRepository.findExistingIds(anyCollection())).thenReturn(List.of(1L));
+        stubReferences();
+        stubSaveAll();
+
+        OrderBatchDTO result = orderBatchService.createOrders(requests);
+
+        assertThat(result.created()).isEqualTo(size);
+        assertThat(result.results().get(size - 1).orderId()).isEqualTo(100L + size - 1);
+        verify(orderRepository, times(3)).saveAll(anyList());
+        verify(entityManager, times(3)).flush();
+        verify(orderViewRepository, times(3)).refresh(anyList());
+        verify(customerRepository, times(1)).findExistingIds(anyCollection());
+        verify(productRepository, times(1)).findExistingIds(anyCollection());
+    }
+
+    @Test
+    void testCreateOrders_nothingValid_skipInsert() {
+        List<CreateOrderRequest> requests = new ArrayList<>();
+        requests.add(new CreateOrderRequest("Order", null, List.of(1L)));
+        requests.add(null);
+
+        OrderBatchDTO result = orderBatchService.createOrders(requests);
+
+        assertThat(result.created()).isZero();
+        assertThat(result.results().get(0).error()).isEqualTo("customerId: must not be null");
+        assertThat(result.results().get(1).error()).isEqualTo("Order must not be null");
+        verify(orderRepository, never()).saveAll(anyList());
+        verifyNoInteractions(entityManager, orderViewRepository, cacheInvalidator, knownIds);
+    }
+
+    @Test
+    void testCreateOrders_isTransactionalAndEvictsThroughCacheInvalidator() throws NoSuchMethodException {
+        Method method = OrderBatchService.class.getMethod("createOrders", List.class);
+
+        assertTrue(method.isAnnotationPresent(Transactional.class));
+        assertFalse(method.isAnnotationPresent(CacheEvict.class));
+        assertFalse(method.isAnnotationPresent(Caching.class));
+    }
+
+    private void stubReferences() {
+        when(customerRepository.getReferenceById(anyLong()))
+                .thenAnswer(invocation -> Factory.buildCustomer(invocation.getArgument(0), "Customer"));
+        when(productRepository.getReferenceById(anyLong()))
+                .thenAnswer(invocation -> Factory.buildProduct(invocation.getArgument(0), "Product"));
+    }
+
+    private void stubSaveAll() {
+        when(orderRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<Order> orders = new ArrayList<>(invocation.getArgument(0));
+            orders.forEach(order -> order.setId(nextId.getAndIncrement()));
+            return orders;
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ArgumentCaptor<Collection<Long>> idsCaptor() {
+        return ArgumentCaptor.forClass(Collection.class);
+    }
+}
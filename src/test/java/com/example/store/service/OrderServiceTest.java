@@ -1,14 +1,22 @@
 package com.example.store.service;
 
+import com.example.store.cache.CacheInvalidator;
+import com.example.store.dto.CursorPage;
 import com.example.store.dto.OrderDTO;
 import com.example.store.dto.request.CreateOrderRequest;
 import com.example.store.entity.Customer;
 import com.example.store.entity.Order;
+import com.example.store.entity.OrderView;
 import com.example.store.entity.Product;
 import com.example.store.mapper.OrderMapper;
+import com.example.store.pagination.CursorCodec;
 import com.example.store.repository.CustomerRepository;
+import com.example.store.repository.OrderJsonRepository;
 import com.example.store.repository.OrderRepository;
+import com.example.store.repository.OrderViewRepository;
 import com.example.store.repository.ProductRepository;
+import com.example.store.repository.projection.OrderProductRow;
+import com.example.store.repository.projection.OrderRow;
 
 import com.example.store.support.Factory;
 import org.junit.jupiter.api.BeforeEach;
@@ -18,12 +26,17 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
@@ -33,7 +46,9 @@ import java.util.*;
 import static org.assertj.core.api.Assertions.*;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -51,6 +66,18 @@ class OrderServiceTest {
     @Mock
     private ProductRepository productRepository;
 
+    @Mock
+    private OrderViewRepository orderViewRepository;
+
+    @Mock
+    private OrderJsonRepository orderJsonRepository;
+
+    @Mock
+    private CacheInvalidator cacheInvalidator;
+
+    @Mock
+    private KnownIds knownIds;
+
     @InjectMocks
     private OrderService orderService;
 
@@ -59,6 +86,7 @@ class OrderServiceTest {
     private Product product2;
     private Order order;
     private OrderDTO orderDTO;
+    private OrderView orderView;
     private CreateOrderRequest createOrderRequest;
     private Pageable pageable;
 
@@ -71,6 +99,7 @@ class OrderServiceTest {
         order = Factory.buildOrder(1L, "Order 1");
 
         orderDTO = Factory.buildOrderDTO(1L, "Order 1");
+        orderView = new OrderView(orderDTO);
 
         createOrderRequest = Factory.buildCreateOrderRequest();
 
@@ -78,28 +107,63 @@ class OrderServiceTest {
     }
 
     @Test
-    void testGetAllOrders_returnPageOfOrderDTOs() {
-        List<Order> orderList = List.of(order);
-        Page<Order> orderPage = new PageImpl<>(orderList, pageable, orderList.size());
+    void testGetAllOrders_sortedById_serveFromOrderView() {
+        Pageable byId = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "id"));
+        when(orderViewRepository.findAll(byId)).thenReturn(new PageImpl<>(List.of(orderView), byId, 1));
 
-        when(orderRepository.findAll(pageable)).thenReturn(orderPage);
-        when(orderMapper.orderToOrderDTO(order)).thenReturn(orderDTO);
+        Page<OrderDTO> result = orderService.getAllOrders(byId);
+
+        assertThat(result.getContent()).containsExactly(orderDTO);
+        assertThat(result.getTotalElements()).isEqualTo(1);
+        verifyNoInteractions(orderRepository, orderMapper);
+    }
+
+    @Test
+    void testGetAllOrders_sortedByDescription_readBaseTables() {
+        Pageable pageable = PageRequest.of(0, 10, Sort.by("description"));
+        OrderRow orderRow = new OrderRow(1L, "Order 1", 1L, "Customer 1");
+        Page<OrderRow> orderPage = new PageImpl<>(List.of(orderRow), pageable, 1);
+
+        when(orderRepository.findOrderRows(pageable)).thenReturn(orderPage);
+        when(orderRepository.findProductRowsByOrderIds(List.of(1L))).thenReturn(List.of(
+                new OrderProductRow(1L, 1L, "Product 1"),
+                new OrderProductRow(1L, 2L, "Product 2")));
 
         Page<OrderDTO> result = orderService.getAllOrders(pageable);
 
         assertThat(result).isNotNull();
         assertThat(result.getContent()).hasSize(1);
-        assertThat(result.getContent().get(0).getDescription()).isEqualTo("Order 1");
+        OrderDTO first = result.getContent().get(0);
+        assertThat(first.getDescription()).isEqualTo("Order 1");
+        assertThat(first.getCustomer().getId()).isEqualTo(1L);
+        assertThat(first.getCustomer().getName()).isEqualTo("Customer 1");
+        assertThat(first.getProducts()).extracting("id").containsExactly(1L, 2L);
+        assertThat(first.getProducts()).extracting("description").containsExactly("Product 1", "Product 2");
         assertThat(result.getTotalElements()).isEqualTo(1);
 
-        verify(orderRepository).findAll(pageable);
-        verify(orderMapper, times(1)).orderToOrderDTO(any(Order.class));
+        verify(orderRepository).findOrderRows(pageable);
+        verify(orderRepository, never()).findAll(any(Pageable.class));
+        verifyNoInteractions(orderMapper, orderViewRepository);
+    }
+
+    @Test
+    void testGetAllOrders_orderWithoutProducts_returnEmptyProductList() {
+        Pageable pageable = PageRequest.of(0, 10, Sort.by("description"));
+        Page<OrderRow> orderPage = new PageImpl<>(List.of(new OrderRow(1L, "Order 1", 1L, "Customer 1")), pageable, 1);
+
+        when(orderRepository.findOrderRows(pageable)).thenReturn(orderPage);
+        when(orderRepository.findProductRowsByOrderIds(List.of(1L))).thenReturn(List.of());
+
+        Page<OrderDTO> result = orderService.getAllOrders(pageable);
+
+        assertThat(result.getContent().get(0).getProducts()).isEmpty();
     }
 
     @Test
     void testGetAllOrders_emptyResult_returnEmptyPage() {
-        Page<Order> emptyPage = new PageImpl<>(List.of(), pageable, 0);
-        when(orderRepository.findAll(pageable)).thenReturn(emptyPage);
+        Pageable pageable = PageRequest.of(0, 10, Sort.by("description"));
+        Page<OrderRow> emptyPage = new PageImpl<>(List.of(), pageable, 0);
+        when(orderRepository.findOrderRows(pageable)).thenReturn(emptyPage);
 
         Page<OrderDTO> result = orderService.getAllOrders(pageable);
 
@@ -107,18 +171,17 @@ class OrderServiceTest {
         assertThat(result.getContent()).isEmpty();
         assertThat(result.getTotalElements()).isZero();
 
-        verify(orderRepository).findAll(pageable);
-        verify(orderMapper, never()).orderToOrderDTO(any(Order.class));
+        verify(orderRepository).findOrderRows(pageable);
+        verify(orderRepository, never()).findProductRowsByOrderIds(anyCollection());
     }
 
     @Test
     void testGetAllOrders_withPagination_returnCorrectPage() {
-        Pageable customPageable = PageRequest.of(2, 5);
-        List<Order> orderList = List.of(order);
-        Page<Order> orderPage = new PageImpl<>(orderList, customPageable, 11);
+        Pageable customPageable = PageRequest.of(2, 5, Sort.by("description", "id"));
+        Page<OrderRow> orderPage = new PageImpl<>(List.of(new OrderRow(1L, "Order 1", 1L, "Customer 1")), customPageable, 11);
 
-        when(orderRepository.findAll(customPageable)).thenReturn(orderPage);
-        when(orderMapper.orderToOrderDTO(order)).thenReturn(orderDTO);
+        when(orderRepository.findOrderRows(customPageable)).thenReturn(orderPage);
+        when(orderRepository.findProductRowsByOrderIds(List.of(1L))).thenReturn(List.of());
 
         Page<OrderDTO> result = orderService.getAllOrders(customPageable);
 
@@ -128,7 +191,7 @@ class OrderServiceTest {
         assertThat(result.getTotalElements()).isEqualTo(11);
         assertThat(result.getTotalPages()).isEqualTo(3);
 
-        verify(orderRepository).findAll(customPageable);
+        verify(orderRepository).findOrderRows(customPageable);
     }
 
     @Test
@@ -141,6 +204,121 @@ class OrderServiceTest {
         assertTrue(transactional.readOnly());
     }
 
+    @Test
+    void testGetOrdersSlice_returnSliceWithoutCount() {
+        when(orderViewRepository.findSliceBy(pageable)).thenReturn(new SliceImpl<>(List.of(orderView), pageable, true));
+
+        Slice<OrderDTO> result = orderService.getOrdersSlice(pageable);
+
+        assertThat(result.getContent()).containsExactly(orderDTO);
+        assertThat(result.hasNext()).isTrue();
+        verify(orderRepository, never()).findAll(any(Pageable.class));
+        verify(orderRepository, never()).count();
+        verifyNoInteractions(orderMapper);
+    }
+
+    @Test
+    void testGetOrdersSlice_sortedByDescription_readBaseTableProjections() {
+        Pageable byDescription = PageRequest.of(0, 10, Sort.by("description"));
+        when(orderRepository.findOrderRowSlice(byDescription))
+                .thenReturn(new SliceImpl<>(List.of(new OrderRow(1L, "Order 1", 1L, "Customer 1")), byDescription, false));
+        when(orderRepository.findProductRowsByOrderIds(List.of(1L)))
+                .thenReturn(List.of(new OrderProductRow(1L, 2L, "Product 2")));
+
+        Slice<OrderDTO> result = orderService.getOrdersSlice(byDescription);
+
+        assertThat(result.getContent()).extracting(OrderDTO::getId).containsExactly(1L);
+        assertThat(result.getContent().get(0).getCustomer().getName()).isEqualTo("Customer 1");
+        assertThat(result.getContent().get(0).getProducts()).extracting("id").containsExactly(2L);
+        verifyNoInteractions(orderViewRepository, orderMapper);
+    }
+
+    @Test
+    void testGetOrdersWithEstimatedTotal_hasNext_returnEstimate() {
+        when(orderViewRepository.findSliceBy(pageable)).thenReturn(new SliceImpl<>(List.of(orderView), pageable, true));
+        when(orderRepository.estimateCount()).thenReturn(5_000L);
+
+        Page<OrderDTO> result = orderService.getOrdersWithEstimatedTotal(pageable);
+
+        assertThat(result.getContent()).containsExactly(orderDTO);
+        assertThat(result.getTotalElements()).isEqualTo(5_000L);
+        verify(orderRepository, never()).count();
+    }
+
+    @Test
+    void testGetOrdersWithEstimatedTotal_staleEstimate_neverBelowRowsSeen() {
+        Pageable secondPage = PageRequest.of(1, 1);
+        when(orderViewRepository.findSliceBy(secondPage)).thenReturn(new SliceImpl<>(List.of(orderView), secondPage, true));
+        when(orderRepository.estimateCount()).thenReturn(-1L);
+
+        Page<OrderDTO> result = orderService.getOrdersWithEstimatedTotal(secondPage);
+
+        assertThat(result.getTotalElements()).isEqualTo(3L);
+        assertThat(result.hasNext()).isTrue();
+    }
+
+    @Test
+    void testGetOrdersWithEstimatedTotal_lastPage_returnExactTotal() {
+        when(orderViewRepository.findSliceBy(pageable)).thenReturn(new SliceImpl<>(List.of(orderView), pageable, false));
+        when(orderRepository.estimateCount()).thenReturn(5_000L);
+
+        Page<OrderDTO> result = orderService.getOrdersWithEstimatedTotal(pageable);
+
+        assertThat(result.getTotalElements()).isEqualTo(1L);
+        assertThat(result.getTotalPages()).isEqualTo(1);
+    }
+
+    @Test
+    void testGetOrdersWithEstimatedTotal_pastLastPage_capEstimateAtOffset() {
+        Pageable farPage = PageRequest.of(100, 10);
+        when(orderViewRepository.findSliceBy(farPage)).thenReturn(new SliceImpl<>(List.of(), farPage, false));
+        when(orderRepository.estimateCount()).thenReturn(5_000L);
+
+        Page<OrderDTO> result = orderService.getOrdersWithEstimatedTotal(farPage);
+
+        assertThat(result.getContent()).isEmpty();
+        assertThat(result.getTotalElements()).isEqualTo(1_000L);
+    }
+
+    @Test
+    void testGetOrdersByCursor_firstPage_returnNextCursor() {
+        OrderDTO newerOrderDTO = Factory.buildOrderDTO(2L, "Order 2");
+        when(orderViewRepository.findAllByOrderByIdDesc(any(Limit.class)))
+                .thenReturn(List.of(new OrderView(newerOrderDTO), orderView));
+
+        CursorPage<OrderDTO> result = orderService.getOrdersByCursor(null, 1);
+
+        assertThat(result.content()).containsExactly(newerOrderDTO);
+        assertThat(result.size()).isEqualTo(1);
+        assertThat(result.nextCursor()).isEqualTo(CursorCodec.encode(2L));
+
+        ArgumentCaptor<Limit> limitCaptor = ArgumentCaptor.forClass(Limit.class);
+        verify(orderViewRepository).findAllByOrderByIdDesc(limitCaptor.capture());
+        assertThat(limitCaptor.getValue().max()).isEqualTo(2);
+        verifyNoInteractions(orderRepository, orderMapper);
+    }
+
+    @Test
+    void testGetOrdersByCursor_lastPage_returnNullNextCursor() {
+        when(orderViewRepository.findByIdLessThanOrderByIdDesc(eq(2L), any(Limit.class))).thenReturn(List.of(orderView));
+
+        CursorPage<OrderDTO> result = orderService.getOrdersByCursor(CursorCodec.encode(2L), 10);
+
+        assertThat(result.content()).containsExactly(orderDTO);
+        assertThat(result.nextCursor()).isNull();
+        verify(orderViewRepository, never()).findAllByOrderByIdDesc(any(Limit.class));
+    }
+
+    @Test
+    void testGetOrdersByCursor_invalidCursor_throwBadRequest() {
+        assertThatThrownBy(() -> orderService.getOrdersByCursor("not a cursor", 10))
+                .isInstanceOf(ResponseStatusException.class)
+                .extracting("status.value")
+                .isEqualTo(400);
+
+        verifyNoInteractions(orderRepository, orderViewRepository);
+    }
+
     @Test
     void testCreateOrder_validRequest_returnCreatedOrder() {
         when(customerRepository.findById(100L)).thenReturn(Optional.of(customer));
@@ -177,6 +355,14 @@ class OrderServiceTest {
         verify(customerRepository).findById(100L);
         verify(productRepository).findAllById(List.of(1L, 2L));
         verify(orderMapper).orderToOrderDTO(savedOrder);
+        verify(cacheInvalidator).ordersCreated(List.of(1L), Set.of(1L, 2L));
+        verify(knownIds).created(KnownIds.Kind.ORDER, List.of(1L));
+
+        ArgumentCaptor<OrderView> viewCaptor = ArgumentCaptor.forClass(OrderView.class);
+        verify(orderViewRepository).save(viewCaptor.capture());
+        assertThat(viewCaptor.getValue().getId()).isEqualTo(10L);
+        assertThat(viewCaptor.getValue().getPayload()).isSameAs(expectedDTO);
+        assertThat(viewCaptor.getValue().isNew()).isTrue();
     }
 
     @Test
@@ -192,6 +378,7 @@ class OrderServiceTest {
         verify(customerRepository).findById(100L);
         verify(productRepository, never()).findAllById(anyList());
         verify(orderRepository, never()).save(any());
+        verifyNoInteractions(orderViewRepository);
     }
 
     @Test
@@ -212,6 +399,7 @@ class OrderServiceTest {
         verify(customerRepository).findById(1L);
         verify(productRepository).findAllById(List.of(1L, 2L, 99L));
         verify(orderRepository, never()).save(any());
+        verifyNoInteractions(orderViewRepository);
     }
 
     @Test
@@ -232,13 +420,13 @@ class OrderServiceTest {
         verify(customerRepository).findById(100L);
         verify(productRepository).findAllById(List.of(10L, 20L));
         verify(orderRepository, never()).save(any());
+        verifyNoInteractions(orderViewRepository);
     }
 
     @Test
     void testGetOrderByID_existingOrder_returnOrderDTO() {
         Long orderId = 1L;
-        when(orderRepository.findById(orderId)).thenReturn(Optional.of(order));
-        when(orderMapper.orderToOrderDTO(order)).thenReturn(orderDTO);
+        when(orderViewRepository.findById(orderId)).thenReturn(Optional.of(orderView));
 
         OrderDTO result = orderService.getOrderByID(orderId);
 
@@ -246,14 +434,14 @@ class OrderServiceTest {
         assertThat(result.getId()).isEqualTo(1L);
         assertThat(result.getDescription()).isEqualTo("Order 1");
 
-        verify(orderRepository).findById(orderId);
-        verify(orderMapper).orderToOrderDTO(order);
+        verify(orderViewRepository).findById(orderId);
+        verifyNoInteractions(orderRepository, orderMapper);
     }
 
     @Test
     void testGetOrderByID_nonExistingOrder_throwNotFoundException() {
         Long orderId = 999L;
-        when(orderRepository.findById(orderId)).thenReturn(Optional.empty());
+        when(orderViewRepository.findById(orderId)).thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> orderService.getOrderByID(orderId))
                 .isInstanceOf(ResponseStatusException.class)
@@ -261,13 +449,25 @@ class OrderServiceTest {
                 .extracting("status.value")
                 .isEqualTo(404);
 
-        verify(orderRepository).findById(orderId);
+        verify(orderViewRepository).findById(orderId);
         verify(orderMapper, never()).orderToOrderDTO(any());
+        verify(knownIds).recordMissing(KnownIds.Kind.ORDER, 999L);
+    }
+
+    @Test
+    void testGetOrderByID_knownMissing_throwNotFoundWithoutQuery() {
+        when(knownIds.isKnownMissing(KnownIds.Kind.ORDER, 999L)).thenReturn(true);
+
+        assertThatThrownBy(() -> orderService.getOrderByID(999L))
+                .isInstanceOf(NotFoundException.class)
+                .hasMessageContaining("Not Found Order by ID 999");
+
+        verifyNoInteractions(orderViewRepository);
     }
 
     @Test
     void testGetOrderByID_nullId_handleCorrectly() {
-        when(orderRepository.findById(null)).thenReturn(Optional.empty());
+        when(orderViewRepository.findById(null)).thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> orderService.getOrderByID(null))
                 .isInstanceOf(ResponseStatusException.class)
@@ -275,7 +475,7 @@ class OrderServiceTest {
                 .extracting("status.value")
                 .isEqualTo(404);
 
-        verify(orderRepository).findById(null);
+        verify(orderViewRepository).findById(null);
     }
 
     @Test
@@ -287,6 +487,7 @@ class OrderServiceTest {
         Cacheable cacheable = method.getAnnotation(Cacheable.class);
         assertThat(cacheable.cacheNames()).contains("orderById");
         assertThat(cacheable.key()).isEqualTo("#id");
+        assertThat(cacheable.sync()).isTrue();
     }
 
     @Test
@@ -309,11 +510,68 @@ class OrderServiceTest {
     }
 
     @Test
-    void testCreateOrder_hasCacheEvictAnnotation() throws NoSuchMethodException {
+    void testCreateOrder_evictsThroughCacheInvalidatorNotAnnotations() throws NoSuchMethodException {
         Method method = OrderService.class.getMethod("createOrder", CreateOrderRequest.class);
-        assertTrue(method.isAnnotationPresent(CacheEvict.class));
-        CacheEvict evict = method.getAnnotation(CacheEvict.class);
-        assertThat(evict.cacheNames()).contains("ordersPage");
-        assertTrue(evict.allEntries());
+        assertFalse(method.isAnnotationPresent(CacheEvict.class));
+        assertFalse(method.isAnnotationPresent(Caching.class));
+    }
+
+    @Test
+    void testCreateOrder_writesOrderAndViewInOneTransaction() throws NoSuchMethodException {
+        Method method = OrderService.class.getMethod("createOrder", CreateOrderRequest.class);
+
+        assertTrue(method.isAnnotationPresent(Transactional.class));
+        assertFalse(method.getAnnotation(Transactional.class).readOnly());
+    }
+
+    @Test
+    void testGetOrderJson_existingOrder_returnDatabaseBytes() {
+        byte[] json = "{\"id\":1}".getBytes();
+        when(orderJsonRepository.findOrderJson(1L)).thenReturn(json);
+
+        assertThat(orderService.getOrderJson(1L)).isSameAs(json);
+        verifyNoInteractions(orderRepository, orderViewRepository, orderMapper);
+    }
+
+    @Test
+    void testGetOrderJson_missingOrder_throwNotFound() {
+        assertThatThrownBy(() -> orderService.getOrderJson(999L))
+                .isInstanceOf(ResponseStatusException.class)
+                .hasMessageContaining("Not Found Order by ID 999")
+                .extracting("status.value")
+                .isEqualTo(404);
+    }
+
+    @Test
+    void testGetOrdersJson_passPageAndDirection() {
+        byte[] json = "{\"content\":[]}".getBytes();
+        when(orderJsonRepository.findPageJson(2, 25, Sort.Direction.ASC)).thenReturn(json);
+
+        byte[] result = orderService.getOrdersJson(PageRequest.of(2, 25, Sort.by(Sort.Direction.ASC, "id")));
+
+        assertThat(result).isSameAs(json);
+    }
+
+    @Test
+    void testGetOrdersJson_unsorted_defaultToNewestFirst() {
+        orderService.getOrdersJson(PageRequest.of(0, 10));
+
+        verify(orderJsonRepository).findPageJson(0, 10, Sort.Direction.DESC);
+    }
+
+    @Test
+    void testGetOrdersJson_otherSort_throwBadRequest() {
+        assertThatThrownBy(() -> orderService.getOrdersJson(PageRequest.of(0, 10, Sort.by("description"))))
+                .isInstanceOf(ResponseStatusException.class)
+                .extracting("status.value")
+                .isEqualTo(400);
+        verifyNoInteractions(orderJsonRepository);
+    }
+
+    @Test
+    void testSortsById_onlyIdOrUnsorted() {
+        assertTrue(OrderService.sortsById(Sort.unsorted()));
+        assertTrue(OrderService.sortsById(Sort.by(Sort.Direction.DESC, "id")));
+        assertFalse(OrderService.sortsById(Sort.by("description", "id")));
     }
 }
\ No newline at end of file
@@ -1,34 +1,46 @@
 package com.example.store.service;
 
+import com.example.store.dto.CursorPage;
 import com.example.store.dto.ProductDTO;
 import com.example.store.entity.Product;
 import com.example.store.mapper.ProductMapper;
+import com.example.store.pagination.CursorCodec;
 import com.example.store.repository.ProductRepository;
+import com.example.store.repository.projection.ProductOrderIdsView;
+import com.example.store.repository.projection.ProductRow;
 
 import com.example.store.support.Factory;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.lang.reflect.Method;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.LongStream;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -40,6 +52,9 @@ class ProductServiceTest {
     @Mock
     private ProductMapper productMapper;
 
+    @Mock
+    private KnownIds knownIds;
+
     @InjectMocks
     private ProductService productService;
 
@@ -89,34 +104,37 @@ class ProductServiceTest {
         assertThat(capturedProduct.getId()).isNull(); 
 
         verify(productMapper).productToProductDTO(savedProduct);
+        verify(knownIds).created(KnownIds.Kind.PRODUCT, List.of(3L));
     }
 
     @Test
     void testGetAllProducts_withProducts_returnPageOfProductDTOs() {
-        List<Product> productList = List.of(product1, product2);
-        Page<Product> productPage = new PageImpl<>(productList, pageable, productList.size());
+        List<ProductRow> productRows = List.of(new ProductRow(1L, "Product 1"), new ProductRow(2L, "Product 2"));
+        Page<ProductRow> productPage = new PageImpl<>(productRows, pageable, productRows.size());
 
-        when(productRepository.findAll(pageable)).thenReturn(productPage);
-        when(productMapper.productToProductDTO(product1)).thenReturn(productDTO1);
-        when(productMapper.productToProductDTO(product2)).thenReturn(productDTO2);
+        when(productRepository.findProductRows(pageable)).thenReturn(productPage);
+        when(productRepository.aggregateOrderIds(List.of(1L, 2L))).thenReturn(List.of(orderIds(1L, "10,11")));
 
         Page<ProductDTO> result = productService.getAllProducts(pageable);
 
         assertThat(result).isNotNull();
         assertThat(result.getContent()).hasSize(2);
         assertThat(result.getContent().get(0).getDescription()).isEqualTo("Product 1");
+        assertThat(result.getContent().get(0).getOrders()).containsExactly(10L, 11L);
         assertThat(result.getContent().get(1).getDescription()).isEqualTo("Product 2");
+        assertThat(result.getContent().get(1).getOrders()).isEmpty();
         assertThat(result.getTotalElements()).isEqualTo(2);
         assertThat(result.getTotalPages()).isEqualTo(1);
 
-        verify(productRepository).findAll(pageable);
-        verify(productMapper, times(2)).productToProductDTO(any(Product.class));
+        verify(productRepository).findProductRows(pageable);
+        verify(productRepository, never()).findAll(any(Pageable.class));
+        verifyNoInteractions(productMapper);
     }
 
     @Test
     void testGetAllProducts_emptyResult_returnEmptyPage() {
-        Page<Product> emptyPage = new PageImpl<>(List.of(), pageable, 0);
-        when(productRepository.findAll(pageable)).thenReturn(emptyPage);
+        Page<ProductRow> emptyPage = new PageImpl<>(List.of(), pageable, 0);
+        when(productRepository.findProductRows(pageable)).thenReturn(emptyPage);
 
         Page<ProductDTO> result = productService.getAllProducts(pageable);
 
@@ -125,8 +143,85 @@ class ProductServiceTest {
         assertThat(result.getTotalElements()).isZero();
         assertThat(result.isEmpty()).isTrue();
 
-        verify(productRepository).findAll(pageable);
-        verify(productMapper, never()).productToProductDTO(any(Product.class));
+        verify(productRepository).findProductRows(pageable);
+        verify(productRepository, never()).aggregateOrderIds(anyCollection());
+    }
+
+    @Test
+    void testGetProductsSlice_returnSliceWithoutCount() {
+        when(productRepository.findProductRowSlice(pageable)).thenReturn(new SliceImpl<>(
+                List.of(new ProductRow(1L, "Product 1"), new ProductRow(2L, "Product 2")), pageable, false));
+        when(productRepository.aggregateOrderIds(List.of(1L, 2L))).thenReturn(List.of(orderIds(2L, "7")));
+
+        Slice<ProductDTO> result = productService.getProductsSlice(pageable);
+
+        assertThat(result.getContent()).extracting(ProductDTO::getDescription).containsExactly("Product 1", "Product 2");
+        assertThat(result.getContent().get(0).getOrders()).isEmpty();
+        assertThat(result.getContent().get(1).getOrders()).containsExactly(7L);
+        assertThat(result.hasNext()).isFalse();
+        verify(productRepository, never()).count();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 10, 50})
+    void testGetProductsSlice_anyPageSize_loadOrderIdsInOneQuery(int pageSize) {
+        List<ProductRow> rows = LongStream.rangeClosed(1, pageSize)
+                .mapToObj(id -> new ProductRow(id, "Product " + id))
+                .toList();
+        Pageable page = PageRequest.of(0, pageSize);
+        when(productRepository.findProductRowSlice(page)).thenReturn(new SliceImpl<>(rows, page, true));
+
+        Slice<ProductDTO> result = productService.getProductsSlice(page);
+
+        assertThat(result.getContent()).hasSize(pageSize);
+        verify(productRepository, times(1)).aggregateOrderIds(anyCollection());
+        verifyNoInteractions(productMapper);
+    }
+
+    @Test
+    void testParseIds_commaSeparated_returnLongArray() {
+        assertThat(ProductService.parseIds("3,10,42")).containsExactly(3L, 10L, 42L);
+        assertThat(ProductService.parseIds("")).isEmpty();
+        assertThat(ProductService.parseIds(null)).isEmpty();
+    }
+
+    @Test
+    void testGetProductsWithEstimatedTotal_hasNext_returnEstimate() {
+        when(productRepository.findProductRowSlice(pageable))
+                .thenReturn(new SliceImpl<>(List.of(new ProductRow(1L, "Product 1")), pageable, true));
+        when(productRepository.estimateCount()).thenReturn(42L);
+
+        Page<ProductDTO> result = productService.getProductsWithEstimatedTotal(pageable);
+
+        assertThat(result.getContent()).extracting(ProductDTO::getId).containsExactly(1L);
+        assertThat(result.getTotalElements()).isEqualTo(42L);
+    }
+
+    @Test
+    void testGetProductsByCursor_withCursor_seekPastLastId() {
+        when(productRepository.findByIdLessThanOrderByIdDesc(eq(3L), any(Limit.class)))
+                .thenReturn(List.of(product2, product1));
+        when(productMapper.productToProductDTOWithoutOrders(product2)).thenReturn(productDTO2);
+        when(productMapper.productToProductDTOWithoutOrders(product1)).thenReturn(productDTO1);
+
+        CursorPage<ProductDTO> result = productService.getProductsByCursor(CursorCodec.encode(3L), 2);
+
+        assertThat(result.content()).containsExactly(productDTO2, productDTO1);
+        assertThat(result.nextCursor()).isNull();
+        verify(productRepository, never()).findAllByOrderByIdDesc(any(Limit.class));
+    }
+
+    @Test
+    void testGetProductsByCursor_oversizedPage_clampToMaxSize() {
+        when(productRepository.findAllByOrderByIdDesc(any(Limit.class))).thenReturn(List.of());
+
+        CursorPage<ProductDTO> result = productService.getProductsByCursor("", 1_000_000);
+
+        assertThat(result.content()).isEmpty();
+        assertThat(result.size()).isEqualTo(CursorPage.MAX_SIZE);
+        ArgumentCaptor<Limit> limitCaptor = ArgumentCaptor.forClass(Limit.class);
+        verify(productRepository).findAllByOrderByIdDesc(limitCaptor.capture());
+        assertThat(limitCaptor.getValue().max()).isEqualTo(CursorPage.MAX_SIZE + 1);
     }
 
     @Test
@@ -168,6 +263,18 @@ class ProductServiceTest {
 
         verify(productRepository).findById(productId);
         verify(productMapper, never()).productToProductDTO(any());
+        verify(knownIds).recordMissing(KnownIds.Kind.PRODUCT, 999L);
+    }
+
+    @Test
+    void testGetProductByID_knownMissing_throwNotFoundWithoutQuery() {
+        when(knownIds.isKnownMissing(KnownIds.Kind.PRODUCT, 999L)).thenReturn(true);
+
+        assertThatThrownBy(() -> productService.getProductByID(999L))
+                .isInstanceOf(NotFoundException.class)
+                .hasMessageContaining("Not Found Product by ID 999");
+
+        verifyNoInteractions(productRepository);
     }
 
     @Test
@@ -192,6 +299,7 @@ class ProductServiceTest {
         Cacheable cacheable = method.getAnnotation(Cacheable.class);
         assertThat(cacheable.cacheNames()).contains("productById");
         assertThat(cacheable.key()).isEqualTo("#id");
+        assertThat(cacheable.sync()).isTrue();
     }
 
     @Test
@@ -233,4 +341,18 @@ class ProductServiceTest {
 
         assertThat(result1).isEqualTo(result2);
     }
-}
\ No newline at end of file
+
+    private static ProductOrderIdsView orderIds(Long productId, String orderIds) {
+        return new ProductOrderIdsView() {
+            @Override
+            public Long getProductId() {
+                return productId;
+            }
+
+            @Override
+            public String getOrderIds() {
+                return orderIds;
+            }
+        };
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.store.sqlstats;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+class SqlStatsDataSourceTest {
+
+    private final DataSource target = mock(DataSource.class);
+    private final Connection connection = mock(Connection.class);
+    private final PreparedStatement statement = mock(PreparedStatement.class);
+    private final ResultSet resultSet = mock(ResultSet.class);
+    private final SqlStatsDataSource dataSource = new SqlStatsDataSource(target);
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        when(target.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement(anyString())).thenReturn(statement);
+        when(statement.executeQuery()).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true, true, false);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SqlStats.stop();
+    }
+
+    @Test
+    void testQuery_countsStatementAndRows() throws SQLException {
+        SqlStats stats = SqlStats.start();
+
+        try (Connection con = dataSource.getConnection();
+                PreparedStatement ps = con.prepareStatement("select 1");
+                ResultSet rs = ps.executeQuery()) {
+            while (rs.next()) {
+                rs.getLong(1);
+            }
+        }
+
+        assertThat(stats.statements()).isEqualTo(1);
+        assertThat(stats.rows()).isEqualTo(2);
+        verify(resultSet, times(2)).getLong(1);
+    }
+
+    @Test
+    void testBatch_countsOneStatement() throws SQLException {
+        when(statement.executeBatch()).thenReturn(new int[] {1, 1, 1});
+        SqlStats stats = SqlStats.start();
+
+        try (Connection con = dataSource.getConnection();
+                PreparedStatement ps = con.prepareStatement("insert")) {
+            ps.addBatch();
+            ps.addBatch();
+            ps.addBatch();
+            ps.executeBatch();
+        }
+
+        assertThat(stats.statements()).isEqualTo(1);
+    }
+
+    @Test
+    void testFailedStatement_countedAndRethrown() throws SQLException {
+        Statement plain = mock(Statement.class);
+        when(connection.createStatement()).thenReturn(plain);
+        when(plain.execute("bad")).thenThrow(new SQLException("syntax error"));
+        SqlStats stats = SqlStats.start();
+
+        try (Connection con = dataSource.getConnection()) {
+            Statement st = con.createStatement();
+            assertThatThrownBy(() -> st.execute("bad")).isInstanceOf(SQLException.class).hasMessage("syntax error");
+        }
+
+        assertThat(stats.statements()).isEqualTo(1);
+    }
+
+    @Test
+    void testOutsideScope_recordsNothing() throws SQLException {
+        try (Connection con = dataSource.getConnection();
+                ResultSet rs = con.prepareStatement("select 1").executeQuery()) {
+            assertThat(rs.next()).isTrue();
+        }
+
+        assertThat(SqlStats.current()).isNull();
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.store.sqlstats;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SqlStatsFilterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final SqlStatsFilter filter = new SqlStatsFilter(meterRegistry, 2);
+
+    @Test
+    void testFilter_addHeaderBeforeBodyAndRecordMetersByHandler() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/order");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, (req, res) -> {
+            request.setAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE,
+                    new HandlerMethod(this, SqlStatsFilterTest.class.getDeclaredMethod("handler")));
+            SqlStats.current().recordStatement(2_000_000);
+            SqlStats.current().recordFetch(1_000_000, true);
+            res.getWriter().write("[]");
+            res.flushBuffer();
+            SqlStats.current().recordStatement(1_000_000);
+        });
+
+        assertThat(response.getHeader("Server-Timing")).isEqualTo("db;dur=3.00;desc=\"statements=1 rows=1\"");
+        assertThat(response.getHeaders("Server-Timing")).hasSize(1);
+        assertThat(meterRegistry.get("store.sql.statements").tag("handler", "SqlStatsFilterTest.handler")
+                .summary().totalAmount()).isEqualTo(2);
+        assertThat(meterRegistry.get("store.sql.rows").tag("handler", "SqlStatsFilterTest.handler")
+                .summary().totalAmount()).isEqualTo(1);
+        assertThat(SqlStats.current()).isNull();
+    }
+
+    @Test
+    void testFilter_noBody_addHeaderAfterChain() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("DELETE", "/order/1"), response,
+                (req, res) -> SqlStats.current().recordStatement(500_000));
+
+        assertThat(response.getHeader("Server-Timing")).isEqualTo("db;dur=0.50;desc=\"statements=1 rows=0\"");
+        assertThat(meterRegistry.get("store.sql.statements").tag("handler", "none").summary().count()).isEqualTo(1);
+    }
+
+    void handler() {}
+}
@@ -0,0 +1,101 @@
+-- Customer name search benchmark: sequential scan vs. the pg_trgm GIN index from changeset 7.
+--
+-- Builds a scratch table shaped like customer (so the application schema is untouched), then times the query
+-- CustomerRepository.searchByName issues, first without and then with the trigram index, at several table sizes.
+--
+--   psql -h localhost -p 5433 -U admin -d store -f customer-search.sql
+--   psql ... -v sizes={100000,1000000,5000000} -f customer-search.sql
+--
+-- Expected shape of the result: seq-scan latency grows linearly with the table size, while the indexed latency
+-- stays roughly flat (it depends on the number of matches, not the number of rows).
+
+\set ON_ERROR_STOP on
+\if :{?sizes}
+\else
+\set sizes '{100000,1000000,3000000}'
+\endif
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+SELECT set_config('bench.sizes', :'sizes', false);
+
+DROP TABLE IF EXISTS bench_customer_search_result;
+CREATE TEMP TABLE bench_customer_search_result (
+    table_rows BIGINT,
+    term TEXT,
+    indexed BOOLEAN,
+    matches BIGINT,
+    avg_ms NUMERIC
+);
+
+CREATE OR REPLACE FUNCTION pg_temp.bench_search(term TEXT, runs INT) RETURNS TABLE (matches BIGINT, avg_ms NUMERIC) AS $$
+DECLARE
+    started TIMESTAMPTZ;
+    total INTERVAL := INTERVAL '0';
+    found BIGINT;
+BEGIN
+    FOR i IN 1..runs LOOP
+        started := clock_timestamp();
+        -- Same predicate and page size as GET /customer?name=<term>
+        SELECT count(*) INTO found FROM (
+            SELECT id FROM bench_customer
+            WHERE lower(name) LIKE '%' || lower(term) || '%' ESCAPE '!'
+            ORDER BY id DESC LIMIT 50
+        ) page;
+        total := total + (clock_timestamp() - started);
+    END LOOP;
+    matches := found;
+    avg_ms := round(extract(epoch FROM total) * 1000 / runs, 3);
+    RETURN NEXT;
+END
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION pg_temp.bench_fill(target BIGINT) RETURNS VOID AS $$
+DECLARE
+    first_names TEXT[] := ARRAY['Muriel', 'Lance', 'Denise', 'Dianne', 'Jean', 'Vicki', 'Winifred', 'Robin', 'Leticia',
+        'Marcus', 'Ivy', 'Oscar', 'Priya', 'Tomasz', 'Aroha', 'Keanu', 'Sofia', 'Mateo', 'Hana', 'Yusuf'];
+    last_names TEXT[] := ARRAY['Donnelly', 'Stiedemann', 'Harris', 'Lemke', 'Daniel', 'Kutch', 'Morissette', 'Steuber',
+        'MacGyver', 'Okafor', 'Nakamura', 'Kowalski', 'Ngata', 'Fernandes', 'Lindqvist', 'Oyelaran', 'Quispe', 'Zhou'];
+    existing BIGINT;
+BEGIN
+    SELECT count(*) INTO existing FROM bench_customer;
+    INSERT INTO bench_customer (name)
+    SELECT first_names[1 + floor(random() * array_length(first_names, 1))::INT] || ' '
+               || last_names[1 + floor(random() * array_length(last_names, 1))::INT] || ' '
+               || substr(md5(g::TEXT), 1, 6)
+    FROM generate_series(existing + 1, target) g;
+END
+$$ LANGUAGE plpgsql;
+
+DROP TABLE IF EXISTS bench_customer;
+CREATE UNLOGGED TABLE bench_customer (id BIGSERIAL PRIMARY KEY, name VARCHAR(255) NOT NULL);
+
+DO $$
+DECLARE
+    size BIGINT;
+    term TEXT;
+    r RECORD;
+BEGIN
+    FOREACH size IN ARRAY current_setting('bench.sizes')::BIGINT[] LOOP
+        PERFORM pg_temp.bench_fill(size);
+        DROP INDEX IF EXISTS bench_customer_name_trgm;
+        ANALYZE bench_customer;
+        FOREACH term IN ARRAY ARRAY['kowal', 'ngata d', 'zz9'] LOOP
+            SELECT * INTO r FROM pg_temp.bench_search(term, 5);
+            INSERT INTO bench_customer_search_result VALUES (size, term, FALSE, r.matches, r.avg_ms);
+        END LOOP;
+
+        CREATE INDEX bench_customer_name_trgm ON bench_customer USING gin (lower(name) gin_trgm_ops);
+        ANALYZE bench_customer;
+        FOREACH term IN ARRAY ARRAY['kowal', 'ngata d', 'zz9'] LOOP
+            SELECT * INTO r FROM pg_temp.bench_search(term, 5);
+            INSERT INTO bench_customer_search_result VALUES (size, term, TRUE, r.matches, r.avg_ms);
+        END LOOP;
+    END LOOP;
+END
+$$;
+
+SELECT table_rows, term, indexed, matches, avg_ms
+FROM bench_customer_search_result
+ORDER BY term, indexed, table_rows;
+
+DROP TABLE bench_customer;